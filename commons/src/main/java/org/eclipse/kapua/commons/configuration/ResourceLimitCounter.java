@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.configuration;
+
+import org.eclipse.kapua.commons.model.AbstractKapuaUpdatableEntity;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.config.KapuaConfigurableService;
+
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import java.util.Date;
+
+/**
+ * Resources used by a scope for a resource limited {@link KapuaConfigurableService}, maintained by the {@link ResourceLimitedServiceConfigurationManagerImpl}.
+ * <p>
+ * It keeps the number of entities created in the scope and the sum of the entities allowed to its child accounts,
+ * so that the number of entities that the scope can still create is computed without counting them.
+ * The {@link #getReconciledOn()} is the last time both values have been recomputed from the actual entities and child account configurations.
+ *
+ * @since 2.1.0
+ */
+@Entity(name = "ResourceLimitCounter")
+@Table(name = "sys_resource_limit_counter")
+public class ResourceLimitCounter extends AbstractKapuaUpdatableEntity {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TYPE = "ResourceLimitCounter";
+
+    @Basic
+    @Column(name = "pid", nullable = false, updatable = false)
+    private String pid;
+
+    @Basic
+    @Column(name = "used_entities", nullable = false, updatable = true)
+    private long usedEntities;
+
+    @Basic
+    @Column(name = "allocated_child_entities", nullable = false, updatable = true)
+    private long allocatedChildEntities;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "reconciled_on", nullable = false, updatable = true)
+    private Date reconciledOn;
+
+    /**
+     * Constructor.
+     * <p>
+     * Required by JPA.
+     *
+     * @since 2.1.0
+     */
+    protected ResourceLimitCounter() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param scopeId The scope {@link KapuaId}.
+     * @param pid     The {@link KapuaConfigurableService} pid.
+     * @since 2.1.0
+     */
+    public ResourceLimitCounter(KapuaId scopeId, String pid) {
+        super(scopeId);
+        this.pid = pid;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    public String getPid() {
+        return pid;
+    }
+
+    public long getUsedEntities() {
+        return usedEntities;
+    }
+
+    public void setUsedEntities(long usedEntities) {
+        this.usedEntities = usedEntities;
+    }
+
+    public long getAllocatedChildEntities() {
+        return allocatedChildEntities;
+    }
+
+    public void setAllocatedChildEntities(long allocatedChildEntities) {
+        this.allocatedChildEntities = allocatedChildEntities;
+    }
+
+    public Date getReconciledOn() {
+        return reconciledOn;
+    }
+
+    public void setReconciledOn(Date reconciledOn) {
+        this.reconciledOn = reconciledOn;
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.configuration;
+
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.eclipse.kapua.commons.jpa.KapuaEntityJpaRepository;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.storage.TxContext;
+
+import javax.persistence.EntityExistsException;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ResourceLimitCounterRepository} JPA implementation.
+ * <p>
+ * Lookups are served by the unique ({@code scope_id}, {@code pid}) index, reconciliation scans by the ({@code pid}, {@code reconciled_on}) index.
+ * <p>
+ * New {@link ResourceLimitCounter}s are flushed right away, so that a {@link ResourceLimitCounter} created concurrently for the same scope fails with an {@link EntityExistsException},
+ * which the {@link org.eclipse.kapua.storage.TxManager} retries.
+ *
+ * @since 2.1.0
+ */
+public class ResourceLimitCounterJpaRepository implements ResourceLimitCounterRepository {
+
+    @Override
+    public Optional<ResourceLimitCounter> findForUpdate(TxContext tx, KapuaId scopeId, String pid) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<ResourceLimitCounter> selectQuery = cb.createQuery(ResourceLimitCounter.class);
+        final Root<ResourceLimitCounter> entityRoot = selectQuery.from(ResourceLimitCounter.class);
+
+        selectQuery.select(entityRoot);
+        selectQuery.where(
+                cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID), KapuaEid.parseKapuaId(scopeId)),
+                cb.equal(entityRoot.get(ResourceLimitCounter_.PID), pid)
+        );
+
+        return em.createQuery(selectQuery)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<KapuaId> findScopeIdsReconciledBefore(TxContext tx, String pid, Date reconciledBefore, int maxResults) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<KapuaEid> selectQuery = cb.createQuery(KapuaEid.class);
+        final Root<ResourceLimitCounter> entityRoot = selectQuery.from(ResourceLimitCounter.class);
+
+        selectQuery.select(entityRoot.get(KapuaEntityAttributes.SCOPE_ID));
+        selectQuery.where(
+                cb.equal(entityRoot.get(ResourceLimitCounter_.PID), pid),
+                cb.lessThan(entityRoot.get(ResourceLimitCounter_.RECONCILED_ON), reconciledBefore)
+        );
+        selectQuery.orderBy(cb.asc(entityRoot.get(ResourceLimitCounter_.RECONCILED_ON)));
+
+        return new ArrayList<>(em.createQuery(selectQuery)
+                .setMaxResults(maxResults)
+                .getResultList());
+    }
+
+    @Override
+    public ResourceLimitCounter create(TxContext tx, ResourceLimitCounter counter) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        try {
+            em.persist(counter);
+            em.flush();
+        } catch (PersistenceException e) {
+            if (e instanceof EntityExistsException || KapuaEntityJpaRepository.isInsertConstraintViolation(e)) {
+                throw new EntityExistsException(e);
+            }
+            throw e;
+        }
+        return counter;
+    }
+
+    @Override
+    public void delete(TxContext tx, ResourceLimitCounter counter) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        em.remove(counter);
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.configuration;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ServiceModule} that periodically rebuilds the {@link ResourceLimitCounter}s not rebuilt since the configured max age.
+ * <p>
+ * It repairs the drift of the {@link ResourceLimitCounter}s caused by changes not tracked incrementally, like deleted child accounts.
+ * {@link ResourceLimitCounter}s are rebuilt in batches by each {@link ServiceConfigurationManager#reconcileAllowedEntities(Date, int)}.
+ *
+ * @since 2.1.0
+ */
+public class ResourceLimitCounterReconciler implements ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceLimitCounterReconciler.class);
+
+    private final Collection<ServiceConfigurationManager> serviceConfigurationManagers;
+    private final long reconcileIntervalMillis;
+    private final long maxAgeMillis;
+    private final int reconcileBatchSize;
+
+    private ScheduledExecutorService reconcileExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param serviceConfigurationManagers The {@link ServiceConfigurationManager}s whose {@link ResourceLimitCounter}s are rebuilt.
+     * @param reconcileIntervalMillis      The interval between two reconciliations. If {@code 0} or less the periodic reconciliation is disabled.
+     * @param maxAgeMillis                 The age after which a {@link ResourceLimitCounter} is rebuilt.
+     * @param reconcileBatchSize           The maximum number of {@link ResourceLimitCounter}s rebuilt in a single batch.
+     * @since 2.1.0
+     */
+    public ResourceLimitCounterReconciler(
+            Collection<ServiceConfigurationManager> serviceConfigurationManagers,
+            long reconcileIntervalMillis,
+            long maxAgeMillis,
+            int reconcileBatchSize) {
+        this.serviceConfigurationManagers = serviceConfigurationManagers;
+        this.reconcileIntervalMillis = reconcileIntervalMillis;
+        this.maxAgeMillis = maxAgeMillis;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (reconcileIntervalMillis <= 0 || reconcileExecutor != null) {
+            return;
+        }
+
+        reconcileExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread reconcileThread = new Thread(runnable, "resource-limit-counter-reconciler");
+            reconcileThread.setDaemon(true);
+            return reconcileThread;
+        });
+        reconcileExecutor.scheduleWithFixedDelay(this::reconcileSafely, reconcileIntervalMillis, reconcileIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() throws KapuaException {
+        if (reconcileExecutor != null) {
+            reconcileExecutor.shutdownNow();
+            reconcileExecutor = null;
+        }
+    }
+
+    /**
+     * Rebuilds the {@link ResourceLimitCounter}s of all {@link ServiceConfigurationManager}s which are older than the max age.
+     *
+     * @param now The current time, from which the max age is computed.
+     * @return The number of rebuilt {@link ResourceLimitCounter}s.
+     * @since 2.1.0
+     */
+    public long reconcile(Date now) {
+        Date reconciledBefore = new Date(now.getTime() - maxAgeMillis);
+
+        long reconciled = 0;
+        for (ServiceConfigurationManager serviceConfigurationManager : serviceConfigurationManagers) {
+            try {
+                int batchReconciled;
+                do {
+                    batchReconciled = serviceConfigurationManager.reconcileAllowedEntities(reconciledBefore, reconcileBatchSize);
+                    reconciled += batchReconciled;
+                } while (batchReconciled >= reconcileBatchSize);
+            } catch (Exception e) {
+                LOG.error("Error while reconciling resource limit counters of {}", serviceConfigurationManager, e);
+            }
+        }
+
+        if (reconciled > 0) {
+            LOG.debug("Reconciled {} resource limit counters older than {}", reconciled, reconciledBefore);
+        }
+        return reconciled;
+    }
+
+    private void reconcileSafely() {
+        try {
+            reconcile(new Date());
+        } catch (Exception e) {
+            LOG.error("Error while reconciling resource limit counters", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.configuration;
+
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.config.KapuaConfigurableService;
+import org.eclipse.kapua.storage.TxContext;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository of the {@link ResourceLimitCounter}s.
+ *
+ * @since 2.1.0
+ */
+public interface ResourceLimitCounterRepository {
+
+    /**
+     * Finds the {@link ResourceLimitCounter} of the given scope and {@link KapuaConfigurableService}, locking it until the {@link TxContext} ends.
+     * <p>
+     * Changes to the returned {@link ResourceLimitCounter} are written when the {@link TxContext} commits.
+     *
+     * @param tx      The {@link TxContext}.
+     * @param scopeId The scope {@link KapuaId}.
+     * @param pid     The {@link KapuaConfigurableService} pid.
+     * @return The {@link ResourceLimitCounter}, if stored.
+     * @since 2.1.0
+     */
+    Optional<ResourceLimitCounter> findForUpdate(TxContext tx, KapuaId scopeId, String pid);
+
+    /**
+     * Finds the scope {@link KapuaId}s of the {@link ResourceLimitCounter}s of the given {@link KapuaConfigurableService} last reconciled before the given date, oldest first.
+     *
+     * @param tx               The {@link TxContext}.
+     * @param pid              The {@link KapuaConfigurableService} pid.
+     * @param reconciledBefore The {@link ResourceLimitCounter#getReconciledOn()} upper bound.
+     * @param maxResults       The maximum number of results.
+     * @return The scope {@link KapuaId}s.
+     * @since 2.1.0
+     */
+    List<KapuaId> findScopeIdsReconciledBefore(TxContext tx, String pid, Date reconciledBefore, int maxResults);
+
+    /**
+     * Persists a new {@link ResourceLimitCounter}.
+     *
+     * @param tx      The {@link TxContext}.
+     * @param counter The {@link ResourceLimitCounter} to persist.
+     * @return The persisted {@link ResourceLimitCounter}.
+     * @throws javax.persistence.EntityExistsException if the {@link ResourceLimitCounter} of the scope has been created concurrently. The {@link TxContext} retries it as recoverable.
+     * @since 2.1.0
+     */
+    ResourceLimitCounter create(TxContext tx, ResourceLimitCounter counter);
+
+    /**
+     * Deletes a {@link ResourceLimitCounter}.
+     *
+     * @param tx      The {@link TxContext}.
+     * @param counter The {@link ResourceLimitCounter} to delete.
+     * @since 2.1.0
+     */
+    void delete(TxContext tx, ResourceLimitCounter counter);
+}
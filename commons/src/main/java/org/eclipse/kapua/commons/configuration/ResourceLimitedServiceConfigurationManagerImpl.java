@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.kapua.commons.configuration;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -28,13 +30,35 @@ import org.eclipse.kapua.service.account.AccountListResult;
 import org.eclipse.kapua.service.config.KapuaConfigurableService;
 import org.eclipse.kapua.storage.TxContext;
 import org.eclipse.kapua.storage.TxManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * {@link ServiceConfigurationManager} of the resource limited {@link KapuaConfigurableService}s.
+ * <p>
+ * When a {@link ResourceLimitCounterRepository} is provided, the entities used by each limited scope and the entities allocated to its child accounts are kept in a
+ * {@link ResourceLimitCounter}, so that {@link #checkAllowedEntities(TxContext, KapuaId, String)} does not count the entities nor read the configuration of each child account.
+ * The {@link ResourceLimitCounter} is:
+ * <ul>
+ *     <li>built from the actual entities and child account configurations on the first check of the scope. Concurrent first checks are retried by the {@link TxManager},
+ *     which then finds the {@link ResourceLimitCounter} built by the other one</li>
+ *     <li>updated in the same transaction by {@link #checkAllowedEntities(TxContext, KapuaId, String)}, {@link #releaseAllowedEntity(TxContext, KapuaId)} and by the child account configuration updates</li>
+ *     <li>rebuilt before rejecting a new entity and by {@link #reconcileAllowedEntities(Date, int)}, to repair the drift caused by changes not tracked above (i.e. deleted child accounts)</li>
+ * </ul>
+ * Scopes with infinite child entities have no {@link ResourceLimitCounter}.
+ */
 public class ResourceLimitedServiceConfigurationManagerImpl
         extends ServiceConfigurationManagerImpl
         implements ServiceConfigurationManager {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceLimitedServiceConfigurationManagerImpl.class);
+
+    private static final String INFINITE_CHILD_ENTITIES = "infiniteChildEntities";
+    private static final String MAX_NUMBER_CHILD_ENTITIES = "maxNumberChildEntities";
+
     private final AccountRelativeFinder accountRelativeFinder;
     private final UsedEntitiesCounter usedEntitiesCounter;
+    private final ResourceLimitCounterRepository resourceLimitCounterRepository;
 
     public ResourceLimitedServiceConfigurationManagerImpl(
             String pid,
@@ -45,9 +69,30 @@ public class ResourceLimitedServiceConfigurationManagerImpl
             AccountRelativeFinder accountRelativeFinder,
             UsedEntitiesCounter usedEntitiesCounter,
             ServiceConfigurationMetadataProvider serviceConfigurationMetadataProvider) {
+        this(pid, domain, txManager, serviceConfigRepository, rootUserTester, accountRelativeFinder, usedEntitiesCounter, null, serviceConfigurationMetadataProvider);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param resourceLimitCounterRepository
+     *         The {@link ResourceLimitCounterRepository}, or {@code null} to compute the allowed entities from scratch on each check.
+     * @since 2.1.0
+     */
+    public ResourceLimitedServiceConfigurationManagerImpl(
+            String pid,
+            String domain,
+            TxManager txManager,
+            ServiceConfigRepository serviceConfigRepository,
+            RootUserTester rootUserTester,
+            AccountRelativeFinder accountRelativeFinder,
+            UsedEntitiesCounter usedEntitiesCounter,
+            ResourceLimitCounterRepository resourceLimitCounterRepository,
+            ServiceConfigurationMetadataProvider serviceConfigurationMetadataProvider) {
         super(pid, domain, txManager, serviceConfigRepository, rootUserTester, serviceConfigurationMetadataProvider);
         this.accountRelativeFinder = accountRelativeFinder;
         this.usedEntitiesCounter = usedEntitiesCounter;
+        this.resourceLimitCounterRepository = resourceLimitCounterRepository;
     }
 
     @Override
@@ -80,9 +125,112 @@ public class ResourceLimitedServiceConfigurationManagerImpl
      */
     @Override
     public void checkAllowedEntities(TxContext txContext, KapuaId scopeId, String entityType) throws KapuaException {
-        if (allowedChildEntities(txContext, scopeId) <= 0) {
+        if (resourceLimitCounterRepository == null) {
+            if (allowedChildEntities(txContext, scopeId) <= 0) {
+                throw new KapuaMaxNumberOfItemsReachedException(entityType);
+            }
+            return;
+        }
+
+        Map<String, Object> configValues = doGetConfigValues(txContext, scopeId, false);
+        if (isInfiniteChildEntities(configValues)) {
+            return;
+        }
+
+        final ResourceLimitCounter counter;
+        final boolean reconciled;
+
+        Optional<ResourceLimitCounter> storedCounter = resourceLimitCounterRepository.findForUpdate(txContext, scopeId, pid);
+        if (storedCounter.isPresent()) {
+            counter = storedCounter.get();
+            reconciled = false;
+        } else {
+            counter = new ResourceLimitCounter(scopeId, pid);
+            KapuaSecurityUtils.doPrivileged(() -> reconcile(txContext, counter));
+            // A counter created concurrently fails with an EntityExistsException, which makes the TxManager retry the whole transaction with the stored counter.
+            // Not privileged, since KapuaSecurityUtils.doPrivileged would wrap it into a non recoverable KapuaException.
+            resourceLimitCounterRepository.create(txContext, counter);
+            reconciled = true;
+        }
+
+        // Repair drift before rejecting the new entity
+        if (allowedChildEntities(configValues, counter) <= 0 && !reconciled) {
+            KapuaSecurityUtils.doPrivileged(() -> reconcile(txContext, counter));
+        }
+
+        if (allowedChildEntities(configValues, counter) <= 0) {
             throw new KapuaMaxNumberOfItemsReachedException(entityType);
         }
+
+        counter.setUsedEntities(counter.getUsedEntities() + 1);
+    }
+
+    @Override
+    public void releaseAllowedEntity(TxContext txContext, KapuaId scopeId) throws KapuaException {
+        if (resourceLimitCounterRepository == null) {
+            return;
+        }
+
+        Optional<ResourceLimitCounter> storedCounter = resourceLimitCounterRepository.findForUpdate(txContext, scopeId, pid);
+        if (storedCounter.isPresent()) {
+            ResourceLimitCounter counter = storedCounter.get();
+            counter.setUsedEntities(Math.max(0, counter.getUsedEntities() - 1));
+        }
+    }
+
+    @Override
+    public int reconcileAllowedEntities(Date reconciledBefore, int maxScopes) throws KapuaException {
+        if (resourceLimitCounterRepository == null) {
+            return 0;
+        }
+
+        List<KapuaId> scopeIds = txManager.execute(tx -> resourceLimitCounterRepository.findScopeIdsReconciledBefore(tx, pid, reconciledBefore, maxScopes));
+        for (KapuaId scopeId : scopeIds) {
+            // Each scope in its own transaction, to keep the counter locked only while reconciling it
+            KapuaSecurityUtils.doPrivileged(() -> txManager.<Void>execute(tx -> {
+                Optional<ResourceLimitCounter> storedCounter = resourceLimitCounterRepository.findForUpdate(tx, scopeId, pid);
+                if (storedCounter.isPresent()) {
+                    ResourceLimitCounter counter = storedCounter.get();
+                    long usedEntities = counter.getUsedEntities();
+                    long allocatedChildEntities = counter.getAllocatedChildEntities();
+
+                    reconcile(tx, counter);
+
+                    if (usedEntities != counter.getUsedEntities() || allocatedChildEntities != counter.getAllocatedChildEntities()) {
+                        LOG.info("Reconciled {} resource limit counter of scope {}. Used entities: {} -> {}, allocated child entities: {} -> {}",
+                                pid, scopeId, usedEntities, counter.getUsedEntities(), allocatedChildEntities, counter.getAllocatedChildEntities());
+                    }
+                }
+                return null;
+            }));
+        }
+        return scopeIds.size();
+    }
+
+    @Override
+    protected void onConfigValuesUpdate(TxContext txContext, KapuaTocd ocd, Map<String, Object> originalValues, Map<String, Object> updatedProps, KapuaId scopeId, Optional<KapuaId> parentId) throws KapuaException {
+        if (resourceLimitCounterRepository == null) {
+            return;
+        }
+
+        // Counters are not kept for scopes with infinite child entities: it will be rebuilt when a limit is set again
+        if (isInfiniteChildEntities(updatedProps)) {
+            Optional<ResourceLimitCounter> storedCounter = resourceLimitCounterRepository.findForUpdate(txContext, scopeId, pid);
+            if (storedCounter.isPresent()) {
+                resourceLimitCounterRepository.delete(txContext, storedCounter.get());
+            }
+        }
+
+        // Entities allocated to this scope are accounted by the parent one
+        if (parentId.isPresent()) {
+            long allocatedEntitiesDelta = allocatedEntities(updatedProps) - allocatedEntities(originalValues);
+            if (allocatedEntitiesDelta != 0) {
+                Optional<ResourceLimitCounter> parentCounter = resourceLimitCounterRepository.findForUpdate(txContext, parentId.get(), pid);
+                if (parentCounter.isPresent()) {
+                    parentCounter.get().setAllocatedChildEntities(parentCounter.get().getAllocatedChildEntities() + allocatedEntitiesDelta);
+                }
+            }
+        }
     }
 
     /**
@@ -138,31 +286,79 @@ public class ResourceLimitedServiceConfigurationManagerImpl
         } else {
             finalConfig = doGetConfigValues(txContext, scopeId, false);
         }
-        boolean allowInfiniteChildEntities = (boolean) finalConfig.getOrDefault("infiniteChildEntities", false);
-        if (allowInfiniteChildEntities) {
+        if (isInfiniteChildEntities(finalConfig)) {
             return Integer.MAX_VALUE;
         }
         return KapuaSecurityUtils.doPrivileged(() -> {
             // Current used entities
             long currentUsedEntities = usedEntitiesCounter.countEntitiesInScope(txContext, scopeId);
-
-            final AccountListResult childAccounts = accountRelativeFinder.findChildren(scopeId, targetScopeId);
             // Resources assigned to children
-            long childCount = 0;
-            for (Account childAccount : childAccounts.getItems()) {
-                Map<String, Object> childConfigValues = doGetConfigValues(txContext, childAccount.getId(), true);
-                // maxNumberChildEntities can be null if such property is disabled via the
-                // isPropertyEnabled() method in the service implementation. In such case,
-                // it makes sense to treat the service as it had 0 available entities
-                boolean childAllowInfiniteChildEntities = (boolean) childConfigValues.getOrDefault("infiniteChildEntities", false);
-                Integer childMaxNumberChildEntities = (Integer) childConfigValues.getOrDefault("maxNumberChildEntities", 0);
-                childCount += childAllowInfiniteChildEntities ? Integer.MAX_VALUE : childMaxNumberChildEntities;
-            }
-
+            long childCount = allocatedChildEntities(txContext, scopeId, targetScopeId);
             // Max allowed for this account
-            int maxChildAccounts = (int) finalConfig.getOrDefault("maxNumberChildEntities", 0);
+            int maxChildAccounts = (int) finalConfig.getOrDefault(MAX_NUMBER_CHILD_ENTITIES, 0);
             return maxChildAccounts - currentUsedEntities - childCount;
         });
     }
 
+    /**
+     * Gets the number of remaining allowed entity for the given scope, according to the given configuration and {@link ResourceLimitCounter}.
+     *
+     * @param configValues
+     *         The configuration of the scope.
+     * @param counter
+     *         The {@link ResourceLimitCounter} of the scope.
+     * @return The number of entities remaining for the given scope
+     * @since 2.1.0
+     */
+    private long allowedChildEntities(Map<String, Object> configValues, ResourceLimitCounter counter) {
+        int maxChildAccounts = (int) configValues.getOrDefault(MAX_NUMBER_CHILD_ENTITIES, 0);
+        return maxChildAccounts - counter.getUsedEntities() - counter.getAllocatedChildEntities();
+    }
+
+    /**
+     * Gets the sum of the entities allowed to the child accounts of the given scope, excluding a specific child account if requested.
+     *
+     * @param scopeId
+     *         The scope {@link KapuaId}.
+     * @param targetScopeId
+     *         The excluded child scope {@link KapuaId}.
+     * @return The sum of the entities allowed to the child accounts.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    private long allocatedChildEntities(TxContext txContext, KapuaId scopeId, Optional<KapuaId> targetScopeId) throws KapuaException {
+        final AccountListResult childAccounts = accountRelativeFinder.findChildren(scopeId, targetScopeId);
+
+        long childCount = 0;
+        for (Account childAccount : childAccounts.getItems()) {
+            // maxNumberChildEntities can be null if such property is disabled via the
+            // isPropertyEnabled() method in the service implementation. In such case,
+            // it makes sense to treat the service as it had 0 available entities
+            childCount += allocatedEntities(doGetConfigValues(txContext, childAccount.getId(), true));
+        }
+        return childCount;
+    }
+
+    /**
+     * Recomputes the given {@link ResourceLimitCounter} from the actual entities and child account configurations.
+     *
+     * @param counter
+     *         The {@link ResourceLimitCounter} to recompute.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    private void reconcile(TxContext txContext, ResourceLimitCounter counter) throws KapuaException {
+        counter.setUsedEntities(usedEntitiesCounter.countEntitiesInScope(txContext, counter.getScopeId()));
+        counter.setAllocatedChildEntities(allocatedChildEntities(txContext, counter.getScopeId(), Optional.empty()));
+        counter.setReconciledOn(new Date());
+    }
+
+    private static boolean isInfiniteChildEntities(Map<String, Object> configValues) {
+        return (boolean) configValues.getOrDefault(INFINITE_CHILD_ENTITIES, false);
+    }
+
+    private static long allocatedEntities(Map<String, Object> configValues) {
+        return isInfiniteChildEntities(configValues) ? Integer.MAX_VALUE : (Integer) configValues.getOrDefault(MAX_NUMBER_CHILD_ENTITIES, 0);
+    }
+
 }
\ No newline at end of file
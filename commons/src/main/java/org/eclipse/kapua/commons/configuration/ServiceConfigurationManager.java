@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.kapua.commons.configuration;
 
+import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 
@@ -40,6 +41,38 @@ public interface ServiceConfigurationManager {
 
     void checkAllowedEntities(TxContext txContext, KapuaId scopeId, String entityType) throws KapuaException;
 
+    /**
+     * Releases an entity accounted by {@link #checkAllowedEntities(TxContext, KapuaId, String)}, once it has been deleted from the given scope.
+     * <p>
+     * By default it does nothing. Resource limited {@link KapuaService}s should invoke it in the same {@link TxContext} of the deletion.
+     *
+     * @param txContext
+     *         The {@link TxContext} of the deletion.
+     * @param scopeId
+     *         The scope {@link KapuaId} of the deleted entity.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    default void releaseAllowedEntity(TxContext txContext, KapuaId scopeId) throws KapuaException {
+    }
+
+    /**
+     * Recomputes the resource usage accounted by {@link #checkAllowedEntities(TxContext, KapuaId, String)} for the scopes last reconciled before the given date.
+     * <p>
+     * By default it does nothing.
+     *
+     * @param reconciledBefore
+     *         The last reconciliation date upper bound.
+     * @param maxScopes
+     *         The maximum number of scopes to reconcile.
+     * @return The number of reconciled scopes.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    default int reconcileAllowedEntities(Date reconciledBefore, int maxScopes) throws KapuaException {
+        return 0;
+    }
+
     void setConfigValues(KapuaId scopeId, Optional<KapuaId> parentId, Map<String, Object> values) throws KapuaException;
 
     Map<String, Object> getConfigValues(TxContext txContext, KapuaId scopeId, boolean excludeDisabled) throws KapuaException;
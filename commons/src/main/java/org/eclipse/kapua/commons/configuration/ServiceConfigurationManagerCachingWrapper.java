@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.kapua.commons.configuration;
 
+import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 
@@ -71,6 +72,16 @@ public class ServiceConfigurationManagerCachingWrapper implements ServiceConfigu
         wrapped.checkAllowedEntities(txContext, scopeId, entityType);
     }
 
+    @Override
+    public void releaseAllowedEntity(TxContext txContext, KapuaId scopeId) throws KapuaException {
+        wrapped.releaseAllowedEntity(txContext, scopeId);
+    }
+
+    @Override
+    public int reconcileAllowedEntities(Date reconciledBefore, int maxScopes) throws KapuaException {
+        return wrapped.reconcileAllowedEntities(reconciledBefore, maxScopes);
+    }
+
     @Override
     public void setConfigValues(KapuaId scopeId, Optional<KapuaId> parentId, Map<String, Object> values) throws KapuaException {
         wrapped.setConfigValues(scopeId, parentId, values);
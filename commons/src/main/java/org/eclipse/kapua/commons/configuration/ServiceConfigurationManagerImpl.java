@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -101,6 +101,27 @@ public class ServiceConfigurationManagerImpl implements ServiceConfigurationMana
         return true;
     }
 
+    /**
+     * Invoked in the same {@link TxContext} in which the given validated values are going to be stored.
+     * <p>
+     * By default does nothing, but an extending {@link KapuaConfigurableService}s may keep derived data aligned with the configuration.
+     *
+     * @param ocd
+     *         The reference {@link KapuaTocd}.
+     * @param originalValues
+     *         The values currently stored.
+     * @param updatedProps
+     *         The values going to be stored.
+     * @param scopeId
+     *         The scope {@link KapuaId} which is going to be updated.
+     * @param parentId
+     *         The parent scope {@link KapuaId}.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    protected void onConfigValuesUpdate(TxContext txContext, KapuaTocd ocd, Map<String, Object> originalValues, Map<String, Object> updatedProps, KapuaId scopeId, Optional<KapuaId> parentId) throws KapuaException {
+    }
+
     @Override
     public String getDomain() {
         return domain;
@@ -159,6 +180,7 @@ public class ServiceConfigurationManagerImpl implements ServiceConfigurationMana
             }
 
             validateConfigurations(tx, maybeOcd.get(), values, scopeId, parentId);
+            onConfigValuesUpdate(tx, maybeOcd.get(), originalValues, values, scopeId, parentId);
 
             ServiceConfigQueryImpl query = new ServiceConfigQueryImpl(scopeId);
             query.setPredicate(
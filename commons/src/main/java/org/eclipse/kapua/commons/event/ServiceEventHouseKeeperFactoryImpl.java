@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.kapua.commons.event;
 
+import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreService;
 import org.eclipse.kapua.event.ServiceEventBus;
 import org.eclipse.kapua.storage.TxManager;
@@ -23,15 +24,17 @@ public class ServiceEventHouseKeeperFactoryImpl implements ServiceEventHouseKeep
     private final EventStoreService eventStoreService;
     private final TxManager txManager;
     private final ServiceEventBus serviceEventBus;
+    private final CommonsMetric commonsMetric;
 
-    public ServiceEventHouseKeeperFactoryImpl(EventStoreService eventStoreService, TxManager txManager, ServiceEventBus serviceEventBus) {
+    public ServiceEventHouseKeeperFactoryImpl(EventStoreService eventStoreService, TxManager txManager, ServiceEventBus serviceEventBus, CommonsMetric commonsMetric) {
         this.eventStoreService = eventStoreService;
         this.txManager = txManager;
         this.serviceEventBus = serviceEventBus;
+        this.commonsMetric = commonsMetric;
     }
 
     @Override
     public ServiceEventTransactionalHousekeeper apply(List<ServiceEntry> servicesEntryList) {
-        return new ServiceEventTransactionalHousekeeper(eventStoreService, txManager, serviceEventBus, servicesEntryList);
+        return new ServiceEventTransactionalHousekeeper(eventStoreService, txManager, serviceEventBus, commonsMetric, servicesEntryList);
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@ package org.eclipse.kapua.commons.event;
 
 import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecord;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordAttributes;
@@ -28,7 +29,10 @@ import org.eclipse.kapua.commons.util.KapuaDateUtils;
 import org.eclipse.kapua.event.ServiceEvent.EventStatus;
 import org.eclipse.kapua.event.ServiceEventBus;
 import org.eclipse.kapua.event.ServiceEventBusException;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
 import org.eclipse.kapua.model.KapuaUpdatableEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.SortOrder;
 import org.eclipse.kapua.model.query.predicate.AndPredicate;
 import org.eclipse.kapua.model.query.predicate.AttributePredicate.Operator;
 import org.eclipse.kapua.storage.TxContext;
@@ -39,12 +43,22 @@ import org.slf4j.LoggerFactory;
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Event bus housekeeper. It is responsible to send unsent messages or send again messages gone in error.
+ * <p>
+ * Events are relayed in batches of {@link SystemSettingKey#HOUSEKEEPER_EVENT_SCAN_WINDOW} and each batch is confirmed with a single status update.
+ * Batches are read in {@link EventStoreRecord#getId()} order, each one following the last event of the previous batch,
+ * so that events which could not be published are not read again in the same execution.
+ * SENT events are periodically removed according to {@link SystemSettingKey#HOUSEKEEPER_SENT_EVENTS_RETENTION_TIME} and {@link SystemSettingKey#HOUSEKEEPER_SENT_EVENTS_MAX_COUNT}.
  *
  * @since 1.0
  */
@@ -60,33 +74,43 @@ public class ServiceEventTransactionalHousekeeper implements Runnable {
     private static final long WAIT_TIME = SystemSetting.getInstance().getLong(SystemSettingKey.HOUSEKEEPER_EXECUTION_WAIT_TIME);
     private static final long OLD_MESSAGES_TIME_WINDOW = SystemSetting.getInstance().getLong(SystemSettingKey.HOUSEKEEPER_OLD_MESSAGES_TIME_WINDOW);
     private static final int EVENT_SCAN_WINDOW = SystemSetting.getInstance().getInt(SystemSettingKey.HOUSEKEEPER_EVENT_SCAN_WINDOW);
+    private static final int EVENT_SCAN_WINDOW_MAX_PER_RUN = SystemSetting.getInstance().getInt(SystemSettingKey.HOUSEKEEPER_EVENT_SCAN_WINDOW_MAX_PER_RUN, 10);
+    private static final long SENT_EVENTS_RETENTION_TIME = SystemSetting.getInstance().getLong(SystemSettingKey.HOUSEKEEPER_SENT_EVENTS_RETENTION_TIME, 0L);
+    private static final int SENT_EVENTS_MAX_COUNT = SystemSetting.getInstance().getInt(SystemSettingKey.HOUSEKEEPER_SENT_EVENTS_MAX_COUNT, 0);
+    private static final long SENT_EVENTS_PURGE_INTERVAL = SystemSetting.getInstance().getLong(SystemSettingKey.HOUSEKEEPER_SENT_EVENTS_PURGE_INTERVAL, 3600000L);
+    private static final int SENT_EVENTS_PURGE_BATCH_SIZE = SystemSetting.getInstance().getInt(SystemSettingKey.HOUSEKEEPER_SENT_EVENTS_PURGE_BATCH_SIZE, 1000);
 
     private final Object monitor = new Object();
 
     private final EventStoreService kapuaEventService;
     private final ServiceEventBus serviceEventBus;
+    private final CommonsMetric commonsMetric;
 
     private final TxContext txContext;
 
+    private final Map<String, Instant> lastPurgeOnByServiceName = new ConcurrentHashMap<>();
+
     private final List<ServiceEntry> servicesEntryList;
-    private boolean running;
+    private volatile boolean running;
 
     /**
      * Default constructor
      *
      * @param txManager
+     * @param commonsMetric
      * @param servicesEntryList
      */
-    public ServiceEventTransactionalHousekeeper(EventStoreService eventStoreService, TxManager txManager, ServiceEventBus serviceEventBus, List<ServiceEntry> servicesEntryList) {
+    public ServiceEventTransactionalHousekeeper(EventStoreService eventStoreService, TxManager txManager, ServiceEventBus serviceEventBus, CommonsMetric commonsMetric, List<ServiceEntry> servicesEntryList) {
         this.servicesEntryList = servicesEntryList;
         this.txContext = txManager.getTxContext();
         this.kapuaEventService = eventStoreService;
         this.serviceEventBus = serviceEventBus;
+        this.commonsMetric = commonsMetric;
+        this.running = true;
     }
 
     @Override
     public void run() {
-        //TODO handling events table cleanup
         running = true;
         while (running) {
             waitStep();
@@ -106,7 +130,7 @@ public class ServiceEventTransactionalHousekeeper implements Runnable {
         running = false;
     }
 
-    private void processServiceEvents(String serviceName) throws KapuaException {
+    void processServiceEvents(String serviceName) throws KapuaException {
         try {
             LOGGER.trace("Scan not processed events for service '{}'", serviceName);
             Date startRun = Date.from(KapuaDateUtils.getKapuaSysDate());
@@ -116,6 +140,10 @@ public class ServiceEventTransactionalHousekeeper implements Runnable {
             findAndSendUnsentEvents(serviceName, EventsProcessType.SEND_ERROR);
             //scan unsent OLD events (marked as FIRED but raised before a specific (configurable) time window)
             findAndSendUnsentEvents(serviceName, EventsProcessType.OLD);
+            //remove SENT events out of the retention
+            purgeSentEvents(serviceName);
+            //update outbox metrics
+            updateOutboxMetrics(serviceName);
             //release lock
             updateLock(kapuaEventHousekeeper, serviceName, startRun);
         } catch (LockException | NoExecutionNeededException e) {
@@ -127,35 +155,130 @@ public class ServiceEventTransactionalHousekeeper implements Runnable {
     }
 
     private void findAndSendUnsentEvents(String serviceName, EventsProcessType eventsProcessType) throws KapuaException {
-        EventStoreRecordListResult unsentMessagesList = getUnsentEvents(serviceName, eventsProcessType);
-        //send unprocessed events
-        if (!unsentMessagesList.isEmpty()) {
+        KapuaId lastEventId = null;
+        for (int batch = 0; batch < EVENT_SCAN_WINDOW_MAX_PER_RUN && running; batch++) {
+            EventStoreRecordListResult unsentMessagesList = getUnsentEvents(serviceName, eventsProcessType, lastEventId);
+            if (unsentMessagesList.isEmpty()) {
+                return;
+            }
+            lastEventId = unsentMessagesList.getItem(unsentMessagesList.getSize() - 1).getId();
+            //send unprocessed events
+            List<KapuaId> sentEventIds = new ArrayList<>(unsentMessagesList.getSize());
             for (EventStoreRecord kapuaEvent : unsentMessagesList.getItems()) {
                 try {
                     String address = ServiceMap.getAddress(serviceName);
-                    LOGGER.info("publish event: service '{}' - address '{}' - operation '{}' - id '{}'",
+                    LOGGER.debug("publish event: service '{}' - address '{}' - operation '{}' - id '{}'",
                             kapuaEvent.getService(),
                             address,
                             kapuaEvent.getOperation(),
                             kapuaEvent.getContextId());
 
                     serviceEventBus.publish(address, ServiceEventUtil.toServiceEventBus(kapuaEvent));
-                    //if message was sent successfully then confirm the event in the event table
-                    //if something goes wrong during this update the event message may be raised twice (but this condition should happens rarely and it is compliant to the contract of the service events)
-                    //this is done in a different transaction
-                    kapuaEvent.setStatus(EventStatus.SENT);
-                    kapuaEventService.update(kapuaEvent);
+                    sentEventIds.add(kapuaEvent.getId());
                 } catch (ServiceEventBusException e) {
+                    commonsMetric.getHousekeeperRelayError().inc();
                     LOGGER.warn("Exception publishing event: {}", e.getMessage(), e);
-                } catch (KapuaException e) {
-                    //this may be a valid condition if the HouseKeeper is doing the update concurrently with this task
-                    LOGGER.warn("Exception acknowledging event: {}", e.getMessage(), e);
                 }
             }
+            //if messages were sent successfully then confirm the events in the event table with a single update
+            //if something goes wrong during this update the event messages may be raised twice (but this condition should happens rarely and it is compliant to the contract of the service events)
+            //this is done in a different transaction
+            try {
+                if (!sentEventIds.isEmpty()) {
+                    kapuaEventService.updateStatus(sentEventIds, EventStatus.SENT);
+                }
+                commonsMetric.getHousekeeperRelayedEvent().inc(sentEventIds.size());
+                LOGGER.info("published {} of {} events for service '{}'", sentEventIds.size(), unsentMessagesList.getSize(), serviceName);
+            } catch (KapuaException e) {
+                //this may be a valid condition if the HouseKeeper is doing the update concurrently with this task
+                LOGGER.warn("Exception acknowledging events: {}", e.getMessage(), e);
+                return;
+            }
+            //stop if the last batch was not full or nothing could be sent (the event bus is likely down)
+            if (unsentMessagesList.getSize() < EVENT_SCAN_WINDOW || sentEventIds.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private void purgeSentEvents(String serviceName) throws KapuaException {
+        if (SENT_EVENTS_RETENTION_TIME <= 0 && SENT_EVENTS_MAX_COUNT <= 0) {
+            return;
+        }
+        Instant now = KapuaDateUtils.getKapuaSysDate();
+        Instant lastPurgeOn = lastPurgeOnByServiceName.get(serviceName);
+        if (lastPurgeOn != null && now.isBefore(lastPurgeOn.plusMillis(SENT_EVENTS_PURGE_INTERVAL))) {
+            return;
+        }
+        lastPurgeOnByServiceName.put(serviceName, now);
+
+        int purged = 0;
+        if (SENT_EVENTS_RETENTION_TIME > 0) {
+            Date retentionBound = Date.from(now.minusMillis(SENT_EVENTS_RETENTION_TIME));
+            LOGGER.trace("Purging SENT events for service '{}' before {}", serviceName, retentionBound);
+            purged += purgeSentEvents(serviceName, retentionBound, 0);
+        }
+        if (SENT_EVENTS_MAX_COUNT > 0) {
+            LOGGER.trace("Purging SENT events for service '{}' exceeding {}", serviceName, SENT_EVENTS_MAX_COUNT);
+            purged += purgeSentEvents(serviceName, null, SENT_EVENTS_MAX_COUNT);
+        }
+        if (purged > 0) {
+            commonsMetric.getHousekeeperPurgedEvent().inc(purged);
+            LOGGER.info("purged {} SENT events for service '{}'", purged, serviceName);
+        }
+    }
+
+    private int purgeSentEvents(String serviceName, Date modifiedBefore, int keepCount) throws KapuaException {
+        int purged = 0;
+        while (running) {
+            EventStoreRecordQuery query = new EventStoreFactoryImpl().newQuery(null);
+
+            AndPredicate andPredicate = query.andPredicate(
+                    query.attributePredicate(EventStoreRecordAttributes.SERVICE_NAME, serviceName),
+                    query.attributePredicate(EventStoreRecordAttributes.EVENT_STATUS, EventStatus.SENT)
+            );
+            if (modifiedBefore != null) {
+                andPredicate.and(query.attributePredicate(KapuaUpdatableEntityAttributes.MODIFIED_ON, modifiedBefore, Operator.LESS_THAN));
+            }
+            query.setPredicate(andPredicate);
+            //newest events first, so the ones after the kept ones are the events to remove
+            query.setSortCriteria(query.fieldSortCriteria(KapuaUpdatableEntityAttributes.MODIFIED_ON, SortOrder.DESCENDING));
+            query.setOffset(keepCount);
+            query.setLimit(SENT_EVENTS_PURGE_BATCH_SIZE);
+            query.setAskTotalCount(false);
+
+            List<KapuaId> toPurgeEventIds = kapuaEventService.query(query).getItems()
+                    .stream()
+                    .map(EventStoreRecord::getId)
+                    .collect(Collectors.toList());
+            if (toPurgeEventIds.isEmpty()) {
+                break;
+            }
+            purged += kapuaEventService.deleteAll(toPurgeEventIds);
+            if (toPurgeEventIds.size() < SENT_EVENTS_PURGE_BATCH_SIZE) {
+                break;
+            }
         }
+        return purged;
     }
 
-    private EventStoreRecordListResult getUnsentEvents(String serviceName, EventsProcessType eventsProcessType) throws KapuaException {
+    private void updateOutboxMetrics(String serviceName) throws KapuaException {
+        EventStoreRecordQuery query = new EventStoreFactoryImpl().newQuery(null);
+        query.setPredicate(query.andPredicate(
+                query.attributePredicate(EventStoreRecordAttributes.SERVICE_NAME, serviceName),
+                query.attributePredicate(EventStoreRecordAttributes.EVENT_STATUS, EventStatus.SENT, Operator.NOT_EQUAL)
+        ));
+        commonsMetric.getHousekeeperOutboxSize(serviceName).set(kapuaEventService.count(query));
+
+        query.setSortCriteria(query.fieldSortCriteria(KapuaEntityAttributes.CREATED_ON, SortOrder.ASCENDING));
+        query.setLimit(1);
+        query.setAskTotalCount(false);
+        EventStoreRecord oldestUnsentEvent = kapuaEventService.query(query).getFirstItem();
+        commonsMetric.getHousekeeperRelayLag(serviceName).set(
+                oldestUnsentEvent != null ? Duration.between(oldestUnsentEvent.getCreatedOn().toInstant(), KapuaDateUtils.getKapuaSysDate()).toMillis() : 0);
+    }
+
+    private EventStoreRecordListResult getUnsentEvents(String serviceName, EventsProcessType eventsProcessType, KapuaId lastEventId) throws KapuaException {
         EventStoreRecordQuery query = new EventStoreFactoryImpl().newQuery(null);
 
         AndPredicate andPredicate = query.andPredicate();
@@ -174,7 +297,11 @@ public class ServiceEventTransactionalHousekeeper implements Runnable {
         }
 
         query.setPredicate(andPredicate);
+        //oldest events first, skipping the ones already processed by this execution
+        query.setSortCriteria(query.fieldSortCriteria(KapuaEntityAttributes.ENTITY_ID, SortOrder.ASCENDING));
+        query.setAfterId(lastEventId);
         query.setLimit(EVENT_SCAN_WINDOW);
+        query.setAskTotalCount(false);
 
         return kapuaEventService.query(query);
     }
@@ -216,11 +343,11 @@ public class ServiceEventTransactionalHousekeeper implements Runnable {
     }
 
     private void updateLock(HousekeeperRun kapuaEventHousekeeper, String serviceName, Date startRun) throws KapuaException {
-        kapuaEventHousekeeper.setLastRunBy(serviceName);
-        kapuaEventHousekeeper.setLastRunOn(startRun);
         if (!(txContext instanceof JpaAwareTxContext)) {
             return;
         }
+        kapuaEventHousekeeper.setLastRunBy(serviceName);
+        kapuaEventHousekeeper.setLastRunOn(startRun);
         final EntityManager manager = ((JpaAwareTxContext) txContext).getEntityManager();
         manager.persist(kapuaEventHousekeeper);
         manager.getTransaction().commit();
@@ -45,7 +45,8 @@ public class CommonJpaModule extends AbstractKapuaModule {
         return new KapuaJpaRepositoryConfiguration(
                 systemSetting.getString(SystemSettingKey.DB_CHARACTER_ESCAPE, "\\"),
                 systemSetting.getString(SystemSettingKey.DB_CHARACTER_WILDCARD_ANY, "%"),
-                systemSetting.getString(SystemSettingKey.DB_CHARACTER_WILDCARD_SINGLE, "_")
+                systemSetting.getString(SystemSettingKey.DB_CHARACTER_WILDCARD_SINGLE, "_"),
+                systemSetting.getInt(SystemSettingKey.DB_QUERY_ESTIMATED_COUNT_MAX, KapuaJpaRepositoryConfiguration.DEFAULT_ESTIMATED_COUNT_MAX)
         );
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -43,23 +43,26 @@ public class EventStorerImpl implements EventStorer {
             return;
         }
 
-        //make sense to override the entity id and type without checking for previous empty values?
-        //override only if parameters are not evaluated
-        logger.info("Updating service event entity infos (type, id and scope id) if missing...");
-        if (serviceEvent.getEntityType() == null || serviceEvent.getEntityType().trim().length() <= 0) {
-            logger.info("Kapua event - update entity type to '{}'", kapuaEntity.getClass().getName());
-            serviceEvent.setEntityType(kapuaEntity.getClass().getName());
-        }
-        if (serviceEvent.getEntityId() == null) {
-            logger.info("Kapua event - update entity id to '{}'", kapuaEntity.getId());
-            serviceEvent.setEntityId(kapuaEntity.getId());
-        }
-        if (serviceEvent.getEntityScopeId() == null) {
-            logger.info("Kapua event - update entity scope id to '{}'", kapuaEntity.getScopeId());
-            serviceEvent.setEntityScopeId(kapuaEntity.getScopeId());
+        // Operations which do not return a single entity, like bulk deletes, keep the entity infos filled from their parameters
+        if (kapuaEntity != null) {
+            //make sense to override the entity id and type without checking for previous empty values?
+            //override only if parameters are not evaluated
+            logger.info("Updating service event entity infos (type, id and scope id) if missing...");
+            if (serviceEvent.getEntityType() == null || serviceEvent.getEntityType().trim().length() <= 0) {
+                logger.info("Kapua event - update entity type to '{}'", kapuaEntity.getClass().getName());
+                serviceEvent.setEntityType(kapuaEntity.getClass().getName());
+            }
+            if (serviceEvent.getEntityId() == null) {
+                logger.info("Kapua event - update entity id to '{}'", kapuaEntity.getId());
+                serviceEvent.setEntityId(kapuaEntity.getId());
+            }
+            if (serviceEvent.getEntityScopeId() == null) {
+                logger.info("Kapua event - update entity scope id to '{}'", kapuaEntity.getScopeId());
+                serviceEvent.setEntityScopeId(kapuaEntity.getScopeId());
+            }
+            logger.info("Updating service event entity infos (type, id and scope id) if missing... DONE");
+            logger.info("Entity '{}' with id '{}' and scope id '{}' found!", kapuaEntity.getClass().getName(), kapuaEntity.getId(), kapuaEntity.getScopeId());
         }
-        logger.info("Updating service event entity infos (type, id and scope id) if missing... DONE");
-        logger.info("Entity '{}' with id '{}' and scope id '{}' found!", kapuaEntity.getClass().getName(), kapuaEntity.getId(), kapuaEntity.getScopeId());
 
         //insert the kapua event only if it's a new entity
         EventStoreRecord persistedKapuaEvent;
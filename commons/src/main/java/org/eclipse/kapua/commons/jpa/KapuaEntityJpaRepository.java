@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.kapua.commons.jpa;
 
+import java.math.BigInteger;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.persistence.Embedded;
 import javax.persistence.EntityExistsException;
@@ -79,6 +81,7 @@ public class KapuaEntityJpaRepository<E extends KapuaEntity, C extends E, L exte
     private static final String ATTRIBUTE_SEPARATOR = ".";
     private static final String ATTRIBUTE_SEPARATOR_ESCAPED = "\\.";
     private static final String COMPARE_ERROR_MESSAGE = "Trying to compare a non-comparable value";
+    private static final String EID = "eid";
 
     /**
      * @param concreteClass
@@ -169,66 +172,57 @@ public class KapuaEntityJpaRepository<E extends KapuaEntity, C extends E, L exte
             }
         }
         // WHERE
-        QueryPredicate kapuaPredicates = listQuery.getPredicate();
-        // Add ScopeId to query if has been defined one specific
-        if (listQuery.getScopeId() != null && // Support for old method of querying for all ScopeIds (e.g.: query.setScopeId(null)
-                !listQuery.getScopeId().equals(KapuaId.ANY)) {// Support for new method of querying for all ScopeIds (e.g.: query.setScopeId(KapuaId.ANY)
-
-            QueryPredicate scopeIdPredicate = listQuery.attributePredicate(AbstractKapuaEntity_.SCOPE_ID, listQuery.getScopeId());
-
-            if (listQuery.getNotScopedEntities()) {
-                scopeIdPredicate = listQuery.orPredicate(
-                        scopeIdPredicate,
-                        listQuery.attributePredicate(AbstractKapuaEntity_.SCOPE_ID, null, AttributePredicate.Operator.IS_NULL)
-                );
-            }
-
-            AndPredicate scopedAndPredicate = listQuery.andPredicate(scopeIdPredicate);
-
-            // Add existing query predicates
-            if (listQuery.getPredicate() != null) {
-                scopedAndPredicate.and(listQuery.getPredicate());
-            }
-
-            kapuaPredicates = scopedAndPredicate;
-        }
-
         // Manage kapua query predicates to build the where clause.
         Map<ParameterExpression, Object> binds = new HashMap<>();
-        Expression<Boolean> expr = handleKapuaQueryPredicates(kapuaPredicates,
+        Expression<Boolean> expr = handleKapuaQueryPredicates(scopedQueryPredicate(listQuery),
                 binds,
                 cb,
                 entityRoot,
                 entityRoot.getModel());
 
-        if (expr != null) {
-            criteriaSelectQuery.where(expr);
-        }
         // ORDER BY
         // Default to the KapuaEntity id if no ordering is specified.
-        Order order;
+        String sortAttributeName = AbstractKapuaEntity_.ID;
+        SortOrder sortOrder = SortOrder.ASCENDING;
         if (listQuery.getSortCriteria() != null || listQuery.getDefaultSortCriteria() != null) {
             FieldSortCriteria sortCriteria = (FieldSortCriteria) MoreObjects.firstNonNull(listQuery.getSortCriteria(), listQuery.getDefaultSortCriteria());
 
-            if (SortOrder.DESCENDING.equals(sortCriteria.getSortOrder())) {
-                order = cb.desc(extractAttribute(entityRoot, sortCriteria.getAttributeName()));
-            } else {
-                order = cb.asc(extractAttribute(entityRoot, sortCriteria.getAttributeName()));
-            }
+            sortAttributeName = sortCriteria.getAttributeName();
+            sortOrder = sortCriteria.getSortOrder();
+        }
+        Order order;
+        if (SortOrder.DESCENDING.equals(sortOrder)) {
+            order = cb.desc(extractAttribute(entityRoot, sortAttributeName));
+        } else {
+            order = cb.asc(extractAttribute(entityRoot, sortAttributeName));
+        }
+
+        // Entity id breaks ties of the sort attribute to keep the order stable between pages
+        if (!AbstractKapuaEntity_.ID.equals(sortAttributeName)) {
+            Path<BigInteger> idPath = extractIdAttribute(entityRoot);
+            criteriaSelectQuery.orderBy(order, SortOrder.DESCENDING.equals(sortOrder) ? cb.desc(idPath) : cb.asc(idPath));
         } else {
-            order = cb.asc(entityRoot.get(entityType.getSingularAttribute(AbstractKapuaEntity_.ID)));
+            criteriaSelectQuery.orderBy(order);
+        }
+
+        // Keyset pagination
+        if (listQuery.getAfterId() != null) {
+            Predicate keysetPredicate = handleKeysetPredicate(em, listQuery.getAfterId(), sortAttributeName, sortOrder, cb, entityRoot);
+            expr = expr != null ? cb.and(expr, keysetPredicate) : keysetPredicate;
+        }
+
+        if (expr != null) {
+            criteriaSelectQuery.where(expr);
         }
-        criteriaSelectQuery.orderBy(order);
 
-        //S
         // QUERY!
         TypedQuery<C> query = em.createQuery(criteriaSelectQuery);
 
         // Populate query parameters
         binds.forEach(query::setParameter); // Whoah! This is very magic!
 
-        // Set offset
-        if (listQuery.getOffset() != null) {
+        // Set offset, which is replaced by the keyset predicate when paging after an entity
+        if (listQuery.getOffset() != null && listQuery.getAfterId() == null) {
             query.setFirstResult(listQuery.getOffset());
         }
 
@@ -249,7 +243,20 @@ public class KapuaEntityJpaRepository<E extends KapuaEntity, C extends E, L exte
         }
 
         if (Boolean.TRUE.equals(listQuery.getAskTotalCount())) {
-            resultContainer.setTotalCount(count(txContext, listQuery));
+            int offset = listQuery.getOffset() != null ? listQuery.getOffset() : 0;
+
+            if (listQuery.getAfterId() == null &&
+                    !resultContainer.isLimitExceeded() &&
+                    (!result.isEmpty() || offset == 0)) {
+                // The last page has been reached, no need to count
+                resultContainer.setTotalCount((long) offset + result.size());
+            } else if (Boolean.TRUE.equals(listQuery.getEstimateTotalCount())) {
+                long estimatedCount = estimateCount(txContext, listQuery);
+                resultContainer.setTotalCount(Math.min(estimatedCount, configuration.estimatedCountMax));
+                resultContainer.setTotalCountEstimated(estimatedCount > configuration.estimatedCountMax);
+            } else {
+                resultContainer.setTotalCount(count(txContext, listQuery));
+            }
         }
 
         // Set results
@@ -329,6 +336,158 @@ public class KapuaEntityJpaRepository<E extends KapuaEntity, C extends E, L exte
     }
     // Private Methods
 
+    /**
+     * Adds the {@link KapuaQuery#getScopeId()} to the {@link KapuaQuery#getPredicate()}, if needed.
+     *
+     * @param listQuery
+     *         The {@link KapuaQuery} to process.
+     * @return The {@link QueryPredicate} that includes the scope condition.
+     * @since 2.1.0
+     */
+    private QueryPredicate scopedQueryPredicate(KapuaQuery listQuery) {
+        QueryPredicate kapuaPredicates = listQuery.getPredicate();
+        // Add ScopeId to query if has been defined one specific
+        if (listQuery.getScopeId() != null && // Support for old method of querying for all ScopeIds (e.g.: query.setScopeId(null)
+                !listQuery.getScopeId().equals(KapuaId.ANY)) {// Support for new method of querying for all ScopeIds (e.g.: query.setScopeId(KapuaId.ANY)
+
+            QueryPredicate scopeIdPredicate = listQuery.attributePredicate(AbstractKapuaEntity_.SCOPE_ID, listQuery.getScopeId());
+
+            if (listQuery.getNotScopedEntities()) {
+                scopeIdPredicate = listQuery.orPredicate(
+                        scopeIdPredicate,
+                        listQuery.attributePredicate(AbstractKapuaEntity_.SCOPE_ID, null, AttributePredicate.Operator.IS_NULL)
+                );
+            }
+
+            AndPredicate scopedAndPredicate = listQuery.andPredicate(scopeIdPredicate);
+
+            // Add existing query predicates
+            if (listQuery.getPredicate() != null) {
+                scopedAndPredicate.and(listQuery.getPredicate());
+            }
+
+            kapuaPredicates = scopedAndPredicate;
+        }
+        return kapuaPredicates;
+    }
+
+    /**
+     * Builds the keyset pagination {@link Predicate} which selects the entities that follow the given one according to the sort attribute.
+     * <p>
+     * The value of the sort attribute is read from the given entity, then the entity id is used to break ties.
+     * {@code null} values of the sort attribute are handled as lower than any other value, which is how H2, MySQL and MariaDB order them:
+     * they come first in ascending order and last in descending order.
+     *
+     * @param em
+     *         The {@link EntityManager} to read the sort attribute value with.
+     * @param afterId
+     *         The {@link KapuaEntity#getId()} after which to start.
+     * @param sortAttributeName
+     *         The name of the sort attribute.
+     * @param sortOrder
+     *         The {@link SortOrder} of the sort attribute.
+     * @param cb
+     *         The JPA {@link CriteriaBuilder} of the {@link javax.persistence.Query}.
+     * @param entityRoot
+     *         The JPA {@link Root} of the {@link javax.persistence.Query}.
+     * @return The keyset {@link Predicate}.
+     * @throws KapuaException
+     *         If the given entity does not exist or its sort attribute value cannot be compared.
+     * @since 2.1.0
+     */
+    private Predicate handleKeysetPredicate(EntityManager em, KapuaId afterId, String sortAttributeName, SortOrder sortOrder, CriteriaBuilder cb, Root<C> entityRoot) throws KapuaException {
+        final BigInteger afterEid = KapuaEid.parseKapuaId(afterId).getId();
+        final boolean descending = SortOrder.DESCENDING.equals(sortOrder);
+        final Path<BigInteger> idPath = extractIdAttribute(entityRoot);
+        final Predicate idPredicate = descending ? cb.lessThan(idPath, afterEid) : cb.greaterThan(idPath, afterEid);
+
+        if (AbstractKapuaEntity_.ID.equals(sortAttributeName)) {
+            return idPredicate;
+        }
+
+        // Read the sort attribute value of the entity to start after
+        CriteriaQuery<Object> afterValueQuery = cb.createQuery(Object.class);
+        Root<C> afterRoot = afterValueQuery.from(concreteClass);
+        afterValueQuery.select(extractAttribute(afterRoot, sortAttributeName));
+        afterValueQuery.where(cb.equal(extractIdAttribute(afterRoot), afterEid));
+
+        List<Object> afterValues = em.createQuery(afterValueQuery).setMaxResults(1).getResultList();
+        if (afterValues.isEmpty()) {
+            throw new KapuaEntityNotFoundException(entityName, afterId);
+        }
+        Object afterValue = afterValues.get(0);
+        Expression<? extends Comparable> sortExpression = extractAttribute(entityRoot, sortAttributeName);
+
+        if (afterValue == null) {
+            // Following entities have a null value too and a following id or, in ascending order, any non-null value
+            Predicate nullTiePredicate = cb.and(cb.isNull(sortExpression), idPredicate);
+            return descending ? nullTiePredicate : cb.or(cb.isNotNull(sortExpression), nullTiePredicate);
+        }
+        if (!(afterValue instanceof Comparable)) {
+            throw new KapuaException(KapuaErrorCodes.ILLEGAL_ARGUMENT, COMPARE_ERROR_MESSAGE);
+        }
+        Comparable afterComparable = (Comparable<?>) afterValue;
+
+        Predicate followingPredicate = cb.or(
+                descending ? cb.lessThan(sortExpression, afterComparable) : cb.greaterThan(sortExpression, afterComparable),
+                cb.and(cb.equal(sortExpression, afterComparable), idPredicate)
+        );
+        // In descending order null values come after any non-null value
+        return descending ? cb.or(followingPredicate, cb.isNull(sortExpression)) : followingPredicate;
+    }
+
+    /**
+     * Counts the entities matching the given {@link KapuaQuery}, up to {@link KapuaJpaRepositoryConfiguration#estimatedCountMax} + 1 entities.
+     * <p>
+     * It first looks for the entity right after the threshold, reading a single id. Only when there is none, the matching entities are counted,
+     * knowing that they are at most {@link KapuaJpaRepositoryConfiguration#estimatedCountMax}.
+     * {@link KapuaQuery#getOffset()}, {@link KapuaQuery#getLimit()} and {@link KapuaQuery#getAfterId()} are ignored.
+     *
+     * @param txContext
+     *         The {@link TxContext} to count with.
+     * @param countQuery
+     *         The {@link KapuaQuery} to count.
+     * @return The number of matching entities, capped to {@link KapuaJpaRepositoryConfiguration#estimatedCountMax} + 1.
+     * @throws KapuaException
+     *         If any problem occurs.
+     * @since 2.1.0
+     */
+    private long estimateCount(TxContext txContext, KapuaQuery countQuery) throws KapuaException {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(txContext);
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<BigInteger> criteriaSelectQuery = cb.createQuery(BigInteger.class);
+        // FROM
+        Root<C> entityRoot = criteriaSelectQuery.from(concreteClass);
+        // SELECT
+        criteriaSelectQuery.select(extractIdAttribute(entityRoot)).distinct(true);
+        // WHERE
+        final Map<ParameterExpression, Object> binds = new HashMap<>();
+        Expression<Boolean> expr = handleKapuaQueryPredicates(scopedQueryPredicate(countQuery),
+                binds,
+                cb,
+                entityRoot,
+                entityRoot.getModel());
+
+        if (expr != null) {
+            criteriaSelectQuery.where(expr);
+        }
+
+        TypedQuery<BigInteger> query = em.createQuery(criteriaSelectQuery);
+        binds.forEach(query::setParameter);
+        query.setFirstResult(configuration.estimatedCountMax);
+        query.setMaxResults(1);
+
+        if (!query.getResultList().isEmpty()) {
+            return configuration.estimatedCountMax + 1L;
+        }
+
+        return count(txContext, countQuery);
+    }
+
+    private <E> Path<BigInteger> extractIdAttribute(@NonNull Root<E> entityRoot) {
+        return entityRoot.get(AbstractKapuaEntity_.ID).get(EID);
+    }
+
     /**
      * Handles {@link QueryPredicate} contained of a {@link KapuaQuery}.
      * <p>
@@ -465,21 +624,19 @@ public class KapuaEntityJpaRepository<E extends KapuaEntity, C extends E, L exte
         if (attributeValue instanceof Collection) {
             Collection<?> attributeValues = (Collection<?>) attributeValue;
 
-            Expression<?> orPredicate = extractAttribute(entityRoot, attrName);
-
-            Predicate[] orPredicates = attributeValues.stream()
+            List<Object> inValues = attributeValues.stream()
                     .map(value -> {
-                        Object predicateValue;
                         if (value instanceof KapuaId && !(value instanceof KapuaEid)) {
-                            predicateValue = KapuaEid.parseKapuaId((KapuaId) value);
+                            return KapuaEid.parseKapuaId((KapuaId) value);
                         } else {
-                            predicateValue = value;
+                            return value;
                         }
+                    }).collect(Collectors.toList());
 
-                        return cb.equal(orPredicate, predicateValue);
-                    }).toArray(Predicate[]::new);
-
-            expr = cb.and(cb.or(orPredicates));
+            // A single IN clause, whatever the number of values. No values never matches
+            expr = inValues.isEmpty() ?
+                    cb.disjunction() :
+                    extractAttribute(entityRoot, attrName).in(inValues);
         } else {
             final String escapedAttributeValue = Optional.ofNullable(attributeValue)
                     .map(a -> a.toString()
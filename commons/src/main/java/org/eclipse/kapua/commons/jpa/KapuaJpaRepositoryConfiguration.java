@@ -13,6 +13,9 @@
 package org.eclipse.kapua.commons.jpa;
 
 public class KapuaJpaRepositoryConfiguration {
+
+    public static final int DEFAULT_ESTIMATED_COUNT_MAX = 10000;
+
     /**
      * Customization constructor for this class. Allows to fine-tune RDBMS-specific configurations
      *
@@ -21,9 +24,23 @@ public class KapuaJpaRepositoryConfiguration {
      * @param any    "any character" operator,  {@literal _} in most dialects
      */
     public KapuaJpaRepositoryConfiguration(String escape, String like, String any) {
+        this(escape, like, any, DEFAULT_ESTIMATED_COUNT_MAX);
+    }
+
+    /**
+     * Customization constructor for this class. Allows to fine-tune RDBMS-specific configurations
+     *
+     * @param escape            Escape sequence used by the specific SQL dialect of the used RDBMS
+     * @param like              "like" operator, {@literal %} in most dialects
+     * @param any               "any character" operator,  {@literal _} in most dialects
+     * @param estimatedCountMax max number of matching entries counted when an estimated total count is requested
+     * @since 2.1.0
+     */
+    public KapuaJpaRepositoryConfiguration(String escape, String like, String any, int estimatedCountMax) {
         this.escape = escape;
         this.like = like;
         this.any = any;
+        this.estimatedCountMax = estimatedCountMax;
     }
 
     /**
@@ -34,15 +51,15 @@ public class KapuaJpaRepositoryConfiguration {
      * <li><b>like operator:</b> {@literal %}</li>
      * <li><b>any character operator:</b> {@literal _}</li>
      * <li><b>max number of retries on inserts:</b> 3</li>
+     * <li><b>max number of entries counted for estimated counts:</b> {@value #DEFAULT_ESTIMATED_COUNT_MAX}</li>
      * </ul>
      */
     public KapuaJpaRepositoryConfiguration() {
-        this.escape = "\\";
-        this.like = "%";
-        this.any = "_";
+        this("\\", "%", "_", DEFAULT_ESTIMATED_COUNT_MAX);
     }
 
     public final String escape;
     public final String like;
     public final String any;
+    public final int estimatedCountMax;
 }
@@ -20,6 +20,9 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Helper class to handle commons metrics.
@@ -29,6 +32,7 @@ public class CommonsMetric {
 
     private static final Logger logger = LoggerFactory.getLogger(CommonsMetric.class);
 
+    private final MetricsService metricsService;
     private final String module;
     //cache
     private static final String CACHE_MANAGER = "cache_manager";
@@ -58,9 +62,18 @@ public class CommonsMetric {
     private Counter enqueuedEvent;
     private Counter dequeuedEvent;
 
+    //event housekeeper
+    private static final String EVENT_HOUSEKEEPER = "event_housekeeper";
+    private Counter housekeeperRelayedEvent;
+    private Counter housekeeperRelayError;
+    private Counter housekeeperPurgedEvent;
+    private final Map<String, AtomicLong> housekeeperOutboxSize = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> housekeeperRelayLag = new ConcurrentHashMap<>();
+
     @Inject
     public CommonsMetric(MetricsService metricsService,
                          @Named("metricModuleName") String metricModuleName) throws KapuaException {
+        this.metricsService = metricsService;
         this.module = metricModuleName;
         metricsService.registerGauge(() -> cacheStatus, module, CACHE_MANAGER, "cache_status");
         registeredCache = metricsService.getCounter(module, CACHE_MANAGER, "available_cache");
@@ -79,6 +92,10 @@ public class CommonsMetric {
         processedEvent = metricsService.getCounter(module, EVENT, "processed");
         dequeuedEvent = metricsService.getCounter(module, EVENT, "dequeued");
         enqueuedEvent = metricsService.getCounter(module, EVENT, "enqueued");
+
+        housekeeperRelayedEvent = metricsService.getCounter(module, EVENT_HOUSEKEEPER, "relayed");
+        housekeeperRelayError = metricsService.getCounter(module, EVENT_HOUSEKEEPER, MetricsLabel.ERROR);
+        housekeeperPurgedEvent = metricsService.getCounter(module, EVENT_HOUSEKEEPER, "purged");
     }
 
     public String getModule() {
@@ -138,4 +155,46 @@ public class CommonsMetric {
         return enqueuedEvent;
     }
 
+    public Counter getHousekeeperRelayedEvent() {
+        return housekeeperRelayedEvent;
+    }
+
+    public Counter getHousekeeperRelayError() {
+        return housekeeperRelayError;
+    }
+
+    public Counter getHousekeeperPurgedEvent() {
+        return housekeeperPurgedEvent;
+    }
+
+    /**
+     * Gets the number of events not yet sent for the given service, registering the gauge at the first invocation.
+     *
+     * @param serviceName The service name.
+     * @return The number of events not yet sent.
+     */
+    public AtomicLong getHousekeeperOutboxSize(String serviceName) {
+        return housekeeperOutboxSize.computeIfAbsent(serviceName, s -> registerHousekeeperGauge(s, "outbox_size"));
+    }
+
+    /**
+     * Gets the age (in milliseconds) of the oldest event not yet sent for the given service, registering the gauge at the first invocation.
+     *
+     * @param serviceName The service name.
+     * @return The age of the oldest event not yet sent.
+     */
+    public AtomicLong getHousekeeperRelayLag(String serviceName) {
+        return housekeeperRelayLag.computeIfAbsent(serviceName, s -> registerHousekeeperGauge(s, "relay_lag"));
+    }
+
+    private AtomicLong registerHousekeeperGauge(String serviceName, String name) {
+        AtomicLong value = new AtomicLong();
+        try {
+            metricsService.registerGauge(value::get, module, EVENT_HOUSEKEEPER, serviceName, name);
+        } catch (KapuaException e) {
+            logger.warn("Cannot register {} gauge for service {}: {}", name, serviceName, e.getMessage());
+        }
+        return value;
+    }
+
 }
@@ -47,6 +47,8 @@ public abstract class AbstractKapuaQuery implements KapuaQuery {
     private Integer offset;
     private Integer limit;
     private Boolean askTotalCount;
+    private Boolean estimateTotalCount;
+    private KapuaId afterId;
 
     /**
      * Constructor.
@@ -82,6 +84,8 @@ public abstract class AbstractKapuaQuery implements KapuaQuery {
         setOffset(query.getOffset());
         setSortCriteria(query.getSortCriteria());
         setAskTotalCount(query.getAskTotalCount());
+        setEstimateTotalCount(query.getEstimateTotalCount());
+        setAfterId(query.getAfterId());
     }
 
     @Override
@@ -168,6 +172,26 @@ public abstract class AbstractKapuaQuery implements KapuaQuery {
         this.askTotalCount = askTotalCount;
     }
 
+    @Override
+    public Boolean getEstimateTotalCount() {
+        return estimateTotalCount;
+    }
+
+    @Override
+    public void setEstimateTotalCount(Boolean estimateTotalCount) {
+        this.estimateTotalCount = estimateTotalCount;
+    }
+
+    @Override
+    public KapuaId getAfterId() {
+        return afterId;
+    }
+
+    @Override
+    public void setAfterId(KapuaId afterId) {
+        this.afterId = KapuaEid.parseKapuaId(afterId);
+    }
+
     // Predicate factory
     @Override
     public <T> AttributePredicate<T> attributePredicate(String attributeName, T attributeValue) {
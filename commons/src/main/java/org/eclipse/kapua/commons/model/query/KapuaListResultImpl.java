@@ -37,6 +37,7 @@ public class KapuaListResultImpl<E extends KapuaEntity> implements KapuaListResu
     private ArrayList<E> items;
     private boolean limitExceeded;
     private Long totalCount;
+    private Boolean totalCountEstimated;
 
     /**
      * Constructor.
@@ -131,4 +132,14 @@ public class KapuaListResultImpl<E extends KapuaEntity> implements KapuaListResu
         this.totalCount = totalCount;
     }
 
+    @Override
+    public Boolean getTotalCountEstimated() {
+        return totalCountEstimated;
+    }
+
+    @Override
+    public void setTotalCountEstimated(Boolean totalCountEstimated) {
+        this.totalCountEstimated = totalCountEstimated;
+    }
+
 }
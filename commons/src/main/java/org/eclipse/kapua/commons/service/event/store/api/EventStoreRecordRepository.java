@@ -12,8 +12,34 @@
  *******************************************************************************/
 package org.eclipse.kapua.commons.service.event.store.api;
 
+import org.eclipse.kapua.event.ServiceEvent.EventStatus;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.storage.KapuaUpdatableEntityRepository;
+import org.eclipse.kapua.storage.TxContext;
+
+import java.util.Collection;
 
 public interface EventStoreRecordRepository
         extends KapuaUpdatableEntityRepository<EventStoreRecord, EventStoreRecordListResult> {
+
+    /**
+     * Sets the {@link EventStatus} of all the given {@link EventStoreRecord}s with a single statement.
+     *
+     * @param txContext The {@link TxContext}.
+     * @param eventIds  The {@link EventStoreRecord#getId()}s to update.
+     * @param status    The {@link EventStatus} to set.
+     * @return The number of updated {@link EventStoreRecord}s.
+     * @since 2.1.0
+     */
+    int updateStatus(TxContext txContext, Collection<KapuaId> eventIds, EventStatus status);
+
+    /**
+     * Deletes all the given {@link EventStoreRecord}s with a single statement.
+     *
+     * @param txContext The {@link TxContext}.
+     * @param eventIds  The {@link EventStoreRecord#getId()}s to delete.
+     * @return The number of deleted {@link EventStoreRecord}s.
+     * @since 2.1.0
+     */
+    int deleteAll(TxContext txContext, Collection<KapuaId> eventIds);
 }
@@ -13,11 +13,14 @@
 package org.eclipse.kapua.commons.service.event.store.api;
 
 import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.event.ServiceEvent.EventStatus;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.query.KapuaQuery;
 import org.eclipse.kapua.service.KapuaEntityService;
 import org.eclipse.kapua.service.KapuaUpdatableEntityService;
 
+import java.util.Collection;
+
 /**
  * KapuaEventService exposes APIs to manage KapuaEvent objects.<br>
  * It includes APIs to create, update, find, list and delete KapuaEvents.<br>
@@ -50,4 +53,27 @@ public interface EventStoreService extends KapuaEntityService<EventStoreRecord,
     public EventStoreRecordListResult query(KapuaQuery query)
             throws KapuaException;
 
+    /**
+     * Sets the {@link EventStatus} of all the given {@link EventStoreRecord}s at once.
+     *
+     * @param eventIds The {@link EventStoreRecord#getId()}s to update.
+     * @param status   The {@link EventStatus} to set.
+     * @return The number of updated {@link EventStoreRecord}s.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    int updateStatus(Collection<KapuaId> eventIds, EventStatus status)
+            throws KapuaException;
+
+    /**
+     * Deletes all the given {@link EventStoreRecord}s at once.
+     *
+     * @param eventIds The {@link EventStoreRecord#getId()}s to delete.
+     * @return The number of deleted {@link EventStoreRecord}s.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    int deleteAll(Collection<KapuaId> eventIds)
+            throws KapuaException;
+
 }
@@ -12,18 +12,88 @@
  *******************************************************************************/
 package org.eclipse.kapua.commons.service.event.store.internal;
 
+import com.google.common.collect.Iterables;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaUpdatableEntityJpaRepository;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecord;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordAttributes;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordListResult;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
+import org.eclipse.kapua.event.ServiceEvent.EventStatus;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.storage.TxContext;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Root;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class EventStoreRecordImplJpaRepository
         extends KapuaUpdatableEntityJpaRepository<EventStoreRecord, EventStoreRecordImpl, EventStoreRecordListResult>
         implements EventStoreRecordRepository {
+
+    /**
+     * Maximum number of {@link EventStoreRecord#getId()} put into a single {@code IN} clause.
+     *
+     * @since 2.1.0
+     */
+    private static final int IN_CLAUSE_MAX_SIZE = 1000;
+
+    private static final String OPTLOCK = "optlock";
+
     public EventStoreRecordImplJpaRepository(KapuaJpaRepositoryConfiguration jpaRepoConfig) {
         super(EventStoreRecordImpl.class, EventStoreRecord.TYPE, () -> new EventStoreRecordListResultImpl(), jpaRepoConfig);
     }
 
+    @Override
+    public int updateStatus(TxContext txContext, Collection<KapuaId> eventIds, EventStatus status) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(txContext);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        int updated = 0;
+        for (List<KapuaId> eventIdsChunk : Iterables.partition(eventIds, IN_CLAUSE_MAX_SIZE)) {
+            final CriteriaUpdate<EventStoreRecordImpl> updateQuery = cb.createCriteriaUpdate(EventStoreRecordImpl.class);
+            final Root<EventStoreRecordImpl> entityRoot = updateQuery.from(EventStoreRecordImpl.class);
+            // SET
+            updateQuery.set(entityRoot.<EventStatus>get(EventStoreRecordAttributes.EVENT_STATUS), status);
+            updateQuery.set(entityRoot.<Date>get(EventStoreRecordAttributes.MODIFIED_ON), new Date());
+            updateQuery.set(entityRoot.<Integer>get(OPTLOCK), cb.sum(entityRoot.<Integer>get(OPTLOCK), 1));
+            // WHERE
+            updateQuery.where(entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get("eid").in(toEids(eventIdsChunk)));
+
+            updated += em.createQuery(updateQuery).executeUpdate();
+        }
+        return updated;
+    }
+
+    @Override
+    public int deleteAll(TxContext txContext, Collection<KapuaId> eventIds) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(txContext);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        int deleted = 0;
+        for (List<KapuaId> eventIdsChunk : Iterables.partition(eventIds, IN_CLAUSE_MAX_SIZE)) {
+            final CriteriaDelete<EventStoreRecordImpl> deleteQuery = cb.createCriteriaDelete(EventStoreRecordImpl.class);
+            final Root<EventStoreRecordImpl> entityRoot = deleteQuery.from(EventStoreRecordImpl.class);
+            // WHERE
+            deleteQuery.where(entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get("eid").in(toEids(eventIdsChunk)));
 
+            deleted += em.createQuery(deleteQuery).executeUpdate();
+        }
+        return deleted;
+    }
+
+    private static List<BigInteger> toEids(List<KapuaId> kapuaIds) {
+        return kapuaIds.stream()
+                .map(KapuaId::getId)
+                .collect(Collectors.toList());
+    }
 }
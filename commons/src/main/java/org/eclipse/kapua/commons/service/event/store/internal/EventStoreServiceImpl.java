@@ -22,6 +22,7 @@ import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordReposit
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreService;
 import org.eclipse.kapua.commons.util.ArgumentValidator;
 import org.eclipse.kapua.event.RaiseServiceEvent;
+import org.eclipse.kapua.event.ServiceEvent.EventStatus;
 import org.eclipse.kapua.model.KapuaEntityAttributes;
 import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.id.KapuaId;
@@ -31,6 +32,7 @@ import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
 import org.eclipse.kapua.storage.TxManager;
 
 import javax.inject.Inject;
+import java.util.Collection;
 
 /**
  * {@link EventStoreService} implementation.
@@ -128,6 +130,35 @@ public class EventStoreServiceImpl
         return txManager.execute(tx -> repository.query(tx, query));
     }
 
+    @Override
+    public int updateStatus(Collection<KapuaId> eventIds, EventStatus status)
+            throws KapuaException {
+        // Validation of the fields
+        ArgumentValidator.notNull(eventIds, "eventIds");
+        ArgumentValidator.notNull(status, "status");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.EVENT_STORE, Actions.write, null));
+        // Do update
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return txManager.execute(tx -> repository.updateStatus(tx, eventIds, status));
+    }
+
+    @Override
+    public int deleteAll(Collection<KapuaId> eventIds)
+            throws KapuaException {
+        // Validation of the fields
+        ArgumentValidator.notNull(eventIds, "eventIds");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.EVENT_STORE, Actions.write, null));
+        // Do delete
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return txManager.execute(tx -> repository.deleteAll(tx, eventIds));
+    }
+
     @Override
     public long count(KapuaQuery query)
             throws KapuaException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -166,6 +166,12 @@ public enum SystemSettingKey implements SettingKey {
      * Character used in DB query to use as single character wildcard
      */
     DB_CHARACTER_WILDCARD_SINGLE("commons.db.character.wildcard.single"),
+    /**
+     * Max number of matching entries counted when an estimated total count is requested
+     *
+     * @since 2.1.0
+     */
+    DB_QUERY_ESTIMATED_COUNT_MAX("commons.db.query.estimatedCount.max"),
 
     /**
      * Database pool size strategy.
@@ -350,6 +356,15 @@ public enum SystemSettingKey implements SettingKey {
      */
     EVENT_BUS_TRANSPORT_USE_EPOLL("commons.eventbus.transport.useEpoll"),
 
+    /**
+     * Address of the device connect/disconnect lifecycle events.
+     * <p>
+     * They are raised by the broker authentication and listened by the services which keep track of the connected devices.
+     *
+     * @since 2.1.0
+     */
+    EVENT_BUS_LIFECYCLE_EVENTS_ADDRESS("commons.eventbus.lifecycleEventsAddress"),
+
     /**
      * Wait time between housekeeper executions (in milliseconds)
      */
@@ -358,6 +373,26 @@ public enum SystemSettingKey implements SettingKey {
      * Housekeeper event scan window
      */
     HOUSEKEEPER_EVENT_SCAN_WINDOW("commons.eventbus.houskeeper.eventScanWindow"),
+    /**
+     * Maximum number of event scan windows relayed by a single housekeeper execution
+     */
+    HOUSEKEEPER_EVENT_SCAN_WINDOW_MAX_PER_RUN("commons.eventbus.houskeeper.eventScanWindowMaxPerRun"),
+    /**
+     * Time after which SENT events are removed by the housekeeper (in milliseconds). Zero or negative values disable the time-based removal
+     */
+    HOUSEKEEPER_SENT_EVENTS_RETENTION_TIME("commons.eventbus.houskeeper.sentEvents.retentionTime"),
+    /**
+     * Maximum number of SENT events kept by the housekeeper for each service. Zero or negative values disable the count-based removal
+     */
+    HOUSEKEEPER_SENT_EVENTS_MAX_COUNT("commons.eventbus.houskeeper.sentEvents.maxCount"),
+    /**
+     * Wait time between removals of SENT events by the housekeeper (in milliseconds)
+     */
+    HOUSEKEEPER_SENT_EVENTS_PURGE_INTERVAL("commons.eventbus.houskeeper.sentEvents.purgeInterval"),
+    /**
+     * Maximum number of SENT events removed by the housekeeper with a single statement
+     */
+    HOUSEKEEPER_SENT_EVENTS_PURGE_BATCH_SIZE("commons.eventbus.houskeeper.sentEvents.purgeBatchSize"),
     /**
      * Time window to consider FIRED messages as "old" messages so ready to be processed by the housekeeper (in milliseconds)
      */
@@ -386,7 +421,25 @@ public enum SystemSettingKey implements SettingKey {
     /**
      * Provide the JCache Expiry Policy. Allowed values: MODIFIED, TOUCHED
      */
-    JCACHE_EXPIRY_POLICY("commons.cache.config.expiryPolicy");
+    JCACHE_EXPIRY_POLICY("commons.cache.config.expiryPolicy"),
+    /**
+     * The age (in milliseconds) after which a resource limit counter is rebuilt from the actual entities
+     *
+     * @since 2.1.0
+     */
+    RESOURCE_LIMIT_COUNTER_MAX_AGE("commons.resourceLimit.counter.maxAge"),
+    /**
+     * The interval (in milliseconds) between two reconciliations of the resource limit counters. If {@code 0} or less the reconciliation is disabled
+     *
+     * @since 2.1.0
+     */
+    RESOURCE_LIMIT_COUNTER_RECONCILE_INTERVAL("commons.resourceLimit.counter.reconcileInterval"),
+    /**
+     * The maximum number of resource limit counters rebuilt in a single batch
+     *
+     * @since 2.1.0
+     */
+    RESOURCE_LIMIT_COUNTER_RECONCILE_BATCH_SIZE("commons.resourceLimit.counter.reconcileBatchSize");
 
     private String key;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.io.Writer;
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Properties;
 
@@ -36,6 +37,10 @@ import javax.xml.bind.UnmarshalException;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.ValidationEvent;
 import javax.xml.bind.util.ValidationEventCollector;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
 
 import org.apache.commons.lang.SystemUtils;
@@ -46,6 +51,8 @@ import org.eclipse.persistence.jaxb.JAXBContextFactory;
 import org.eclipse.persistence.jaxb.MarshallerProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
@@ -55,6 +62,9 @@ import com.google.common.base.Strings;
 
 /**
  * Xml/Json serialization utilities.
+ * <p>
+ * Configured {@link Marshaller}s, {@link Unmarshaller}s and {@link XMLReader}s are kept for each thread and reused by the following invocations from the same thread,
+ * since creating and configuring them for each invocation is expensive. A nested invocation from the same thread creates its own ones.
  *
  * @since 1.0.0
  */
@@ -62,6 +72,21 @@ public class XmlUtil {
 
     private static final Logger LOG = LoggerFactory.getLogger(XmlUtil.class);
 
+    private static final Map<String, Object> XML_PROPERTIES = Collections.emptyMap();
+    private static final Map<String, Object> JSON_PROPERTIES;
+
+    static {
+        Map<String, Object> jsonProperties = new HashMap<>();
+        jsonProperties.put(MarshallerProperties.JSON_INCLUDE_ROOT, false);
+        jsonProperties.put(MarshallerProperties.MEDIA_TYPE, "application/json");
+
+        JSON_PROPERTIES = Collections.unmodifiableMap(jsonProperties);
+    }
+
+    private final ThreadLocal<Map<Map<String, Object>, PooledHandler<Marshaller>>> threadMarshallers = ThreadLocal.withInitial(IdentityHashMap::new);
+    private final ThreadLocal<Map<Map<String, Object>, PooledHandler<Unmarshaller>>> threadUnmarshallers = ThreadLocal.withInitial(IdentityHashMap::new);
+    private final ThreadLocal<XMLReader> threadXmlReaders = new ThreadLocal<>();
+
     /**
      * Constructor.
      *
@@ -150,7 +175,7 @@ public class XmlUtil {
      */
     public void marshal(@NotNull Object object, @NotNull Writer writer)
             throws JAXBException {
-        marshal(object, writer, Collections.emptyMap());
+        marshal(object, writer, XML_PROPERTIES);
     }
 
     /**
@@ -189,12 +214,7 @@ public class XmlUtil {
      */
     public void marshalJson(@NotNull Object object, @NotNull Writer writer)
             throws JAXBException {
-
-        Map<String, Object> jsonProperties = new HashMap<>();
-        jsonProperties.put(MarshallerProperties.JSON_INCLUDE_ROOT, false);
-        jsonProperties.put(MarshallerProperties.MEDIA_TYPE, "application/json");
-
-        marshal(object, writer, jsonProperties);
+        marshal(object, writer, JSON_PROPERTIES);
     }
 
     /**
@@ -211,9 +231,93 @@ public class XmlUtil {
      * @since 1.5.0
      */
     private void marshal(@NotNull Object object, @NotNull Writer writer, @NotNull Map<String, Object> additionalProperties) throws JAXBException {
+        marshal(marshaller -> marshaller.marshal(object, writer), additionalProperties);
+    }
+
+    /**
+     * Marshals the given {@link Object} into a new XML {@link Document}.
+     * <p>
+     * The {@link Document} can be unmarshalled with {@link #unmarshal(Node, Class)} many times, without parsing the serialized {@link Object} again.
+     *
+     * @param object
+     *         The {@link Object} to marshal.
+     * @return The XML {@link Document} representation of the object.
+     * @throws JAXBException
+     *         See {@link Marshaller#marshal(Object, Node)}
+     * @since 2.1.0
+     */
+    public Document marshalDocument(@NotNull Object object) throws JAXBException {
+        Document document;
+        try {
+            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            documentBuilderFactory.setNamespaceAware(true);
+            document = documentBuilderFactory.newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new MarshalException(e.getMessage(), e);
+        }
+
+        marshal(marshaller -> marshaller.marshal(object, document), XML_PROPERTIES);
+        return document;
+    }
 
+    /**
+     * Runs the given {@link MarshalOperation} with a {@link Marshaller} configured with the given additional {@link Properties}.
+     *
+     * @param marshalOperation
+     *         The {@link MarshalOperation} to run.
+     * @param additionalProperties
+     *         Additional {@link Properties} to configure the {@link Marshaller}
+     * @throws JAXBException
+     *         See {@link Marshaller#marshal(Object, Writer)}
+     * @since 2.1.0
+     */
+    private void marshal(@NotNull MarshalOperation marshalOperation, @NotNull Map<String, Object> additionalProperties) throws JAXBException {
         JAXBContext context = getContext();
 
+        Map<Map<String, Object>, PooledHandler<Marshaller>> marshallers = threadMarshallers.get();
+        PooledHandler<Marshaller> pooledMarshaller = marshallers.remove(additionalProperties);
+        if (pooledMarshaller == null || pooledMarshaller.getContext() != context) {
+            pooledMarshaller = new PooledHandler<>(context, createMarshaller(context, additionalProperties));
+            pooledMarshaller.getHandler().setEventHandler(pooledMarshaller.getEventCollector());
+        }
+
+        try {
+            ValidationEventCollector eventCollector = pooledMarshaller.getEventCollector();
+            eventCollector.reset();
+
+            try {
+                marshalOperation.marshal(pooledMarshaller.getHandler());
+            } catch (JAXBException je) {
+                throw je;
+            } catch (Exception e) {
+                throw new MarshalException(e.getMessage(), e);
+            }
+
+            if (eventCollector.hasEvents()) {
+                for (ValidationEvent valEvent : eventCollector.getEvents()) {
+                    if (valEvent.getSeverity() != ValidationEvent.WARNING) {
+                        throw new MarshalException(valEvent.getMessage(), valEvent.getLinkedException());
+                    }
+                }
+            }
+        } finally {
+            marshallers.put(additionalProperties, pooledMarshaller);
+        }
+    }
+
+    /**
+     * Creates a {@link Marshaller} configured with the given additional {@link Properties}.
+     *
+     * @param context
+     *         The {@link JAXBContext} to use.
+     * @param additionalProperties
+     *         Additional {@link Properties} to configure the {@link Marshaller}
+     * @return The configured {@link Marshaller}.
+     * @throws JAXBException
+     *         See {@link JAXBContext#createMarshaller()}
+     * @since 2.1.0
+     */
+    private Marshaller createMarshaller(@NotNull JAXBContext context, @NotNull Map<String, Object> additionalProperties) throws JAXBException {
         Marshaller marshaller = context.createMarshaller();
         marshaller.setSchema(null);
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
@@ -226,24 +330,7 @@ public class XmlUtil {
             }
         });
 
-        ValidationEventCollector eventCollector = new ValidationEventCollector();
-        marshaller.setEventHandler(eventCollector);
-
-        try {
-            marshaller.marshal(object, writer);
-        } catch (JAXBException je) {
-            throw je;
-        } catch (Exception e) {
-            throw new MarshalException(e.getMessage(), e);
-        }
-
-        if (eventCollector.hasEvents()) {
-            for (ValidationEvent valEvent : eventCollector.getEvents()) {
-                if (valEvent.getSeverity() != ValidationEvent.WARNING) {
-                    throw new MarshalException(valEvent.getMessage(), valEvent.getLinkedException());
-                }
-            }
-        }
+        return marshaller;
     }
     // Unmarshall
 
@@ -338,7 +425,26 @@ public class XmlUtil {
      */
     public <T> T unmarshal(@NotNull Reader reader, @NotNull Class<T> type, @Nullable String namespaceUri)
             throws JAXBException, SAXException {
-        return unmarshal(reader, type, namespaceUri, Collections.emptyMap());
+        return unmarshal(reader, type, namespaceUri, XML_PROPERTIES);
+    }
+
+    /**
+     * Unmarshals the given XML {@link Node} as the given {@link Class type}.
+     * <p>
+     * The {@link Node} is only read, so a {@link Document} from {@link #marshalDocument(Object)} can be unmarshalled many times, each time into a new {@link Object}.
+     * The DOM is not thread-safe, even when only read, so concurrent invocations must not use the same {@link Node}.
+     *
+     * @param node
+     *         The source {@link Node}.
+     * @param type
+     *         The {@link Class} type to unmarshal to.
+     * @return The unmarshalled {@link Object}.
+     * @throws JAXBException
+     *         See {@link #getContext()}.
+     * @since 2.1.0
+     */
+    public <T> T unmarshal(@NotNull Node node, @NotNull Class<T> type) throws JAXBException {
+        return unmarshal(new DOMSource(node), type, XML_PROPERTIES);
     }
 
     /**
@@ -412,12 +518,7 @@ public class XmlUtil {
      */
     public <T> T unmarshalJson(@NotNull Reader reader, @NotNull Class<T> type)
             throws JAXBException, SAXException {
-
-        Map<String, Object> jsonProperties = new HashMap<>();
-        jsonProperties.put(MarshallerProperties.MEDIA_TYPE, "application/json");
-        jsonProperties.put(MarshallerProperties.JSON_INCLUDE_ROOT, false);
-
-        return unmarshal(reader, type, null, jsonProperties);
+        return unmarshal(reader, type, null, JSON_PROPERTIES);
     }
 
     /**
@@ -438,12 +539,7 @@ public class XmlUtil {
      */
     public <T> T unmarshalJson(@NotNull Reader reader, @NotNull Class<T> type, @Nullable String namespaceUri)
             throws JAXBException, SAXException {
-
-        Map<String, Object> jsonProperties = new HashMap<>();
-        jsonProperties.put(MarshallerProperties.MEDIA_TYPE, "application/json");
-        jsonProperties.put(MarshallerProperties.JSON_INCLUDE_ROOT, false);
-
-        return unmarshal(reader, type, namespaceUri, jsonProperties);
+        return unmarshal(reader, type, namespaceUri, JSON_PROPERTIES);
     }
 
     /**
@@ -468,8 +564,107 @@ public class XmlUtil {
      */
     private <T> T unmarshal(@NotNull Reader reader, @NotNull Class<T> type, @Nullable String namespaceUri, @NotNull Map<String, Object> additionalProperties)
             throws JAXBException, SAXException {
+        XMLReader xmlReader = null;
+        try {
+            SAXSource saxSource;
+            if (Strings.isNullOrEmpty(namespaceUri)) {
+                saxSource = new SAXSource(new InputSource(reader));
+            } else {
+                // The XmlNamespaceFilter keeps state for the parsed document, so only the XMLReader is reused
+                XmlNamespaceFilter filter = new XmlNamespaceFilter(namespaceUri, true);
+
+                xmlReader = threadXmlReaders.get();
+                if (xmlReader != null) {
+                    threadXmlReaders.remove();
+                } else {
+                    xmlReader = XMLReaderFactory.createXMLReader();
+                }
+                filter.setParent(xmlReader);
+
+                saxSource = new SAXSource(filter, new InputSource(reader));
+            }
+
+            return unmarshal(saxSource, type, additionalProperties);
+        } finally {
+            if (xmlReader != null) {
+                threadXmlReaders.set(xmlReader);
+            }
+        }
+    }
+
+    /**
+     * Unmarshals the given {@link Source} as the given {@link Class type}, configuring the {@link Unmarshaller} with the given additional {@link Properties}.
+     *
+     * @param source
+     *         The {@link Source} to unmarshal.
+     * @param type
+     *         The {@link Class} type to unmarshal to.
+     * @param additionalProperties
+     *         Additional {@link Properties} to configure the {@link Unmarshaller}
+     * @param <T>
+     *         The return {@link Class}
+     * @return The unmarshalled {@link Object}.
+     * @throws JAXBException
+     *         See {@link #getContext()}.
+     * @since 2.1.0
+     */
+    private <T> T unmarshal(@NotNull Source source, @NotNull Class<T> type, @NotNull Map<String, Object> additionalProperties) throws JAXBException {
         JAXBContext context = getContext();
 
+        Map<Map<String, Object>, PooledHandler<Unmarshaller>> unmarshallers = threadUnmarshallers.get();
+        PooledHandler<Unmarshaller> pooledUnmarshaller = unmarshallers.remove(additionalProperties);
+        if (pooledUnmarshaller == null || pooledUnmarshaller.getContext() != context) {
+            pooledUnmarshaller = new PooledHandler<>(context, createUnmarshaller(context, additionalProperties));
+            pooledUnmarshaller.getHandler().setEventHandler(pooledUnmarshaller.getEventCollector());
+        }
+
+        try {
+            ValidationEventCollector eventCollector = pooledUnmarshaller.getEventCollector();
+            eventCollector.reset();
+
+            JAXBElement<T> jaxbElement;
+            try {
+                jaxbElement = pooledUnmarshaller.getHandler().unmarshal(source, type);
+            } catch (JAXBException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new UnmarshalException(e.getMessage(), e);
+            }
+
+            if (eventCollector.hasEvents()) {
+                for (ValidationEvent valEvent : eventCollector.getEvents()) {
+                    LOG.warn("Unmarshal Validation Event: {} - {}", valEvent.getSeverity(), valEvent.getMessage(), valEvent.getLinkedException());
+
+                    if (valEvent.getSeverity() != ValidationEvent.WARNING) {
+                        String msg = MessageFormat.format("Line {0}, Col: {1}.{2}\tError message: {3}{2}\tLinked exception message:{4}",
+                                valEvent.getLocator().getLineNumber(),
+                                valEvent.getLocator().getColumnNumber(),
+                                SystemUtils.LINE_SEPARATOR,
+                                valEvent.getMessage() != null ? valEvent.getMessage() : "",
+                                valEvent.getLinkedException() != null ? valEvent.getLinkedException().getMessage() : "");
+                        throw new UnmarshalException(msg, valEvent.getLinkedException());
+                    }
+                }
+            }
+            return jaxbElement.getValue();
+        } finally {
+            unmarshallers.put(additionalProperties, pooledUnmarshaller);
+        }
+    }
+
+    /**
+     * Creates an {@link Unmarshaller} configured with the given additional {@link Properties}.
+     *
+     * @param context
+     *         The {@link JAXBContext} to use.
+     * @param additionalProperties
+     *         Additional {@link Properties} to configure the {@link Unmarshaller}
+     * @return The configured {@link Unmarshaller}.
+     * @throws JAXBException
+     *         See {@link JAXBContext#createUnmarshaller()}
+     * @since 2.1.0
+     */
+    private Unmarshaller createUnmarshaller(@NotNull JAXBContext context, @NotNull Map<String, Object> additionalProperties) throws JAXBException {
         Unmarshaller unmarshaller = context.createUnmarshaller();
         unmarshaller.setSchema(null);
 
@@ -481,45 +676,48 @@ public class XmlUtil {
             }
         });
 
-        ValidationEventCollector eventCollector = new ValidationEventCollector();
-        unmarshaller.setEventHandler(eventCollector);
+        return unmarshaller;
+    }
+
+    /**
+     * An operation run with a configured {@link Marshaller}.
+     *
+     * @since 2.1.0
+     */
+    @FunctionalInterface
+    private interface MarshalOperation {
+
+        void marshal(Marshaller marshaller) throws JAXBException;
+    }
+
+    /**
+     * A {@link Marshaller} or {@link Unmarshaller} kept for reuse, along with the {@link JAXBContext} that created it and its {@link ValidationEventCollector}.
+     *
+     * @param <H>
+     *         The {@link Marshaller} or {@link Unmarshaller} type.
+     * @since 2.1.0
+     */
+    private static class PooledHandler<H> {
 
-        SAXSource saxSource;
-        if (Strings.isNullOrEmpty(namespaceUri)) {
-            saxSource = new SAXSource(new InputSource(reader));
-        } else {
-            XmlNamespaceFilter filter = new XmlNamespaceFilter(namespaceUri, true);
+        private final JAXBContext context;
+        private final H handler;
+        private final ValidationEventCollector eventCollector = new ValidationEventCollector();
 
-            XMLReader xmlReader = XMLReaderFactory.createXMLReader();
-            filter.setParent(xmlReader);
+        PooledHandler(JAXBContext context, H handler) {
+            this.context = context;
+            this.handler = handler;
+        }
 
-            saxSource = new SAXSource(filter, new InputSource(reader));
+        JAXBContext getContext() {
+            return context;
         }
 
-        JAXBElement<T> jaxbElement;
-        try {
-            jaxbElement = unmarshaller.unmarshal(saxSource, type);
-        } catch (JAXBException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new UnmarshalException(e.getMessage(), e);
+        H getHandler() {
+            return handler;
         }
 
-        if (eventCollector.hasEvents()) {
-            for (ValidationEvent valEvent : eventCollector.getEvents()) {
-                LOG.warn("Unmarshal Validation Event: {} - {}", valEvent.getSeverity(), valEvent.getMessage(), valEvent.getLinkedException());
-
-                if (valEvent.getSeverity() != ValidationEvent.WARNING) {
-                    String msg = MessageFormat.format("Line {0}, Col: {1}.{2}\tError message: {3}{2}\tLinked exception message:{4}",
-                            valEvent.getLocator().getLineNumber(),
-                            valEvent.getLocator().getColumnNumber(),
-                            SystemUtils.LINE_SEPARATOR,
-                            valEvent.getMessage() != null ? valEvent.getMessage() : "",
-                            valEvent.getLinkedException() != null ? valEvent.getLinkedException().getMessage() : "");
-                    throw new UnmarshalException(msg, valEvent.getLinkedException());
-                }
-            }
+        ValidationEventCollector getEventCollector() {
+            return eventCollector;
         }
-        return jaxbElement.getValue();
     }
 }
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.configuration;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Category(JUnitTests.class)
+public class ResourceLimitCounterReconcilerTest {
+
+    @Test
+    public void reconcileInBatches() throws KapuaException {
+        ServiceConfigurationManager serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        Mockito.when(serviceConfigurationManager.reconcileAllowedEntities(Mockito.any(Date.class), Mockito.eq(2))).thenReturn(2, 2, 1);
+
+        ResourceLimitCounterReconciler instance = new ResourceLimitCounterReconciler(Arrays.asList(serviceConfigurationManager), 0, TimeUnit.HOURS.toMillis(1), 2);
+
+        Date now = new Date();
+        Assert.assertEquals(5, instance.reconcile(now));
+
+        // Counters rebuilt within the max age are not rebuilt again
+        Mockito.verify(serviceConfigurationManager, Mockito.times(3)).reconcileAllowedEntities(new Date(now.getTime() - TimeUnit.HOURS.toMillis(1)), 2);
+    }
+
+    @Test
+    public void reconcileContinuesAfterFailure() throws KapuaException {
+        ServiceConfigurationManager failingServiceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        Mockito.when(failingServiceConfigurationManager.reconcileAllowedEntities(Mockito.any(Date.class), Mockito.anyInt())).thenThrow(KapuaException.internalError("db down"));
+
+        ServiceConfigurationManager serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        Mockito.when(serviceConfigurationManager.reconcileAllowedEntities(Mockito.any(Date.class), Mockito.anyInt())).thenReturn(1);
+
+        ResourceLimitCounterReconciler instance = new ResourceLimitCounterReconciler(Arrays.asList(failingServiceConfigurationManager, serviceConfigurationManager), 0, TimeUnit.HOURS.toMillis(1), 10);
+
+        Assert.assertEquals(1, instance.reconcile(new Date()));
+    }
+
+    @Test
+    public void startWithoutIntervalDoesNotSchedule() throws KapuaException {
+        ServiceConfigurationManager serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+
+        ResourceLimitCounterReconciler instance = new ResourceLimitCounterReconciler(Arrays.asList(serviceConfigurationManager), 0, TimeUnit.HOURS.toMillis(1), 10);
+        instance.start();
+        instance.stop();
+
+        Mockito.verifyZeroInteractions(serviceConfigurationManager);
+    }
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.configuration;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.KapuaMaxNumberOfItemsReachedException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.account.Account;
+import org.eclipse.kapua.service.account.AccountListResult;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.eclipse.kapua.storage.TxManagerImpl;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import javax.persistence.EntityExistsException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Category(JUnitTests.class)
+public class ResourceLimitedServiceConfigurationManagerImplTest {
+
+    private static final String PID = "org.eclipse.kapua.service.tag.TagService";
+    private static final String ENTITY_TYPE = "Tag";
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId CHILD_SCOPE_ID = new KapuaEid(BigInteger.TEN);
+
+    private final Map<KapuaId, Map<String, Object>> configValuesByScope = new HashMap<>();
+
+    private TxManager txManager;
+    private AccountRelativeFinder accountRelativeFinder;
+    private UsedEntitiesCounter usedEntitiesCounter;
+    private ResourceLimitCounterRepository resourceLimitCounterRepository;
+    private ResourceLimitedServiceConfigurationManagerImpl instance;
+
+    @Before
+    public void setUp() throws KapuaException {
+        TxContext txContext = Mockito.mock(TxContext.class);
+        Mockito.when(txContext.isRecoverableException(Mockito.isA(EntityExistsException.class))).thenReturn(true);
+        Mockito.when(txContext.convertPersistenceException(Mockito.any(Exception.class))).thenAnswer(invocation -> {
+            Exception exception = invocation.getArgumentAt(0, Exception.class);
+            return exception instanceof KapuaException ? exception : KapuaException.internalError(exception);
+        });
+        txManager = new TxManagerImpl(() -> txContext, 3);
+
+        configValuesByScope.put(SCOPE_ID, newLimitedConfigValues(5));
+        configValuesByScope.put(CHILD_SCOPE_ID, newLimitedConfigValues(2));
+
+        Account childAccount = Mockito.mock(Account.class);
+        Mockito.when(childAccount.getId()).thenReturn(CHILD_SCOPE_ID);
+        AccountListResult childAccounts = Mockito.mock(AccountListResult.class);
+        Mockito.when(childAccounts.getItems()).thenReturn(Collections.singletonList(childAccount));
+
+        accountRelativeFinder = Mockito.mock(AccountRelativeFinder.class);
+        Mockito.when(accountRelativeFinder.findChildren(Mockito.eq(SCOPE_ID), Mockito.<Optional<KapuaId>>any())).thenReturn(childAccounts);
+
+        usedEntitiesCounter = Mockito.mock(UsedEntitiesCounter.class);
+        Mockito.when(usedEntitiesCounter.countEntitiesInScope(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID))).thenReturn(1L);
+
+        resourceLimitCounterRepository = Mockito.mock(ResourceLimitCounterRepository.class);
+        Mockito.when(resourceLimitCounterRepository.findForUpdate(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.eq(PID))).thenReturn(Optional.empty());
+
+        instance = new ResourceLimitedServiceConfigurationManagerImpl(
+                PID,
+                "tag",
+                txManager,
+                Mockito.mock(ServiceConfigRepository.class),
+                Mockito.mock(RootUserTester.class),
+                accountRelativeFinder,
+                usedEntitiesCounter,
+                resourceLimitCounterRepository,
+                Mockito.mock(ServiceConfigurationMetadataProvider.class)) {
+
+            @Override
+            protected Map<String, Object> doGetConfigValues(TxContext txContext, KapuaId scopeId, boolean excludeDisabled) {
+                return configValuesByScope.get(scopeId);
+            }
+        };
+    }
+
+    @Test
+    public void checkAllowedEntitiesBuildsCounter() throws KapuaException {
+        checkAllowedEntities();
+
+        ResourceLimitCounter createdCounter = createdCounter();
+        Assert.assertEquals(SCOPE_ID, createdCounter.getScopeId());
+        Assert.assertEquals(PID, createdCounter.getPid());
+        // One existing plus the new entity
+        Assert.assertEquals(2, createdCounter.getUsedEntities());
+        Assert.assertEquals(2, createdCounter.getAllocatedChildEntities());
+        Assert.assertNotNull(createdCounter.getReconciledOn());
+    }
+
+    @Test
+    public void checkAllowedEntitiesUpdatesStoredCounter() throws KapuaException {
+        ResourceLimitCounter storedCounter = newStoredCounter(SCOPE_ID, 1, 2);
+
+        checkAllowedEntities();
+
+        Assert.assertEquals(2, storedCounter.getUsedEntities());
+        // Nor entities counted, nor child account configurations read
+        Mockito.verifyZeroInteractions(usedEntitiesCounter, accountRelativeFinder);
+        Mockito.verify(resourceLimitCounterRepository, Mockito.never()).create(Mockito.<TxContext>any(), Mockito.any(ResourceLimitCounter.class));
+    }
+
+    @Test
+    public void checkAllowedEntitiesRetriesConcurrentFirstCheck() throws KapuaException {
+        ResourceLimitCounter concurrentCounter = new ResourceLimitCounter(SCOPE_ID, PID);
+        concurrentCounter.setUsedEntities(2);
+        concurrentCounter.setAllocatedChildEntities(2);
+
+        // The first check of another transaction creates the counter between the lookup and the insert of this one
+        Mockito.when(resourceLimitCounterRepository.findForUpdate(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(PID)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(concurrentCounter));
+        Mockito.when(resourceLimitCounterRepository.create(Mockito.<TxContext>any(), Mockito.any(ResourceLimitCounter.class))).thenThrow(new EntityExistsException());
+
+        checkAllowedEntities();
+
+        Assert.assertEquals(3, concurrentCounter.getUsedEntities());
+        Mockito.verify(resourceLimitCounterRepository, Mockito.times(1)).create(Mockito.<TxContext>any(), Mockito.any(ResourceLimitCounter.class));
+    }
+
+    @Test
+    public void checkAllowedEntitiesReconcilesBeforeRejecting() throws KapuaException {
+        // Drifted: the limit looks reached, but the actual entities leave room for the new one
+        ResourceLimitCounter storedCounter = newStoredCounter(SCOPE_ID, 3, 2);
+
+        checkAllowedEntities();
+
+        Assert.assertEquals(2, storedCounter.getUsedEntities());
+        Assert.assertNotNull(storedCounter.getReconciledOn());
+    }
+
+    @Test(expected = KapuaMaxNumberOfItemsReachedException.class)
+    public void checkAllowedEntitiesRejects() throws KapuaException {
+        Mockito.when(usedEntitiesCounter.countEntitiesInScope(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID))).thenReturn(3L);
+        ResourceLimitCounter storedCounter = newStoredCounter(SCOPE_ID, 3, 2);
+
+        try {
+            checkAllowedEntities();
+        } finally {
+            Assert.assertEquals(3, storedCounter.getUsedEntities());
+        }
+    }
+
+    @Test
+    public void checkAllowedEntitiesWithInfiniteChildEntities() throws KapuaException {
+        configValuesByScope.get(SCOPE_ID).put("infiniteChildEntities", true);
+
+        checkAllowedEntities();
+
+        Mockito.verifyZeroInteractions(resourceLimitCounterRepository, usedEntitiesCounter);
+    }
+
+    @Test
+    public void releaseAllowedEntity() throws KapuaException {
+        ResourceLimitCounter storedCounter = newStoredCounter(SCOPE_ID, 1, 0);
+
+        txManager.execute(tx -> {
+            instance.releaseAllowedEntity(tx, SCOPE_ID);
+            instance.releaseAllowedEntity(tx, SCOPE_ID);
+            return null;
+        });
+
+        Assert.assertEquals(0, storedCounter.getUsedEntities());
+    }
+
+    @Test
+    public void onConfigValuesUpdateAdjustsParentAllocation() throws KapuaException {
+        ResourceLimitCounter parentCounter = newStoredCounter(SCOPE_ID, 1, 2);
+
+        txManager.execute(tx -> {
+            instance.onConfigValuesUpdate(tx, null, newLimitedConfigValues(2), newLimitedConfigValues(3), CHILD_SCOPE_ID, Optional.of(SCOPE_ID));
+            return null;
+        });
+
+        Assert.assertEquals(3, parentCounter.getAllocatedChildEntities());
+        Assert.assertEquals(1, parentCounter.getUsedEntities());
+    }
+
+    @Test
+    public void onConfigValuesUpdateDeletesInfiniteCounter() throws KapuaException {
+        ResourceLimitCounter storedCounter = newStoredCounter(SCOPE_ID, 1, 2);
+
+        Map<String, Object> updatedValues = newLimitedConfigValues(5);
+        updatedValues.put("infiniteChildEntities", true);
+        txManager.execute(tx -> {
+            instance.onConfigValuesUpdate(tx, null, newLimitedConfigValues(5), updatedValues, SCOPE_ID, Optional.empty());
+            return null;
+        });
+
+        Mockito.verify(resourceLimitCounterRepository).delete(Mockito.<TxContext>any(), Mockito.eq(storedCounter));
+    }
+
+    @Test
+    public void reconcileAllowedEntities() throws KapuaException {
+        ResourceLimitCounter storedCounter = newStoredCounter(SCOPE_ID, 4, 0);
+        Date reconciledBefore = new Date();
+        Mockito.when(resourceLimitCounterRepository.findScopeIdsReconciledBefore(Mockito.<TxContext>any(), Mockito.eq(PID), Mockito.eq(reconciledBefore), Mockito.eq(10)))
+                .thenReturn(Collections.singletonList(SCOPE_ID));
+
+        Assert.assertEquals(1, instance.reconcileAllowedEntities(reconciledBefore, 10));
+
+        Assert.assertEquals(1, storedCounter.getUsedEntities());
+        Assert.assertEquals(2, storedCounter.getAllocatedChildEntities());
+        Assert.assertNotNull(storedCounter.getReconciledOn());
+    }
+
+    private void checkAllowedEntities() throws KapuaException {
+        txManager.execute(tx -> {
+            instance.checkAllowedEntities(tx, SCOPE_ID, ENTITY_TYPE);
+            return null;
+        });
+    }
+
+    private ResourceLimitCounter newStoredCounter(KapuaId scopeId, long usedEntities, long allocatedChildEntities) {
+        ResourceLimitCounter storedCounter = new ResourceLimitCounter(scopeId, PID);
+        storedCounter.setUsedEntities(usedEntities);
+        storedCounter.setAllocatedChildEntities(allocatedChildEntities);
+        Mockito.when(resourceLimitCounterRepository.findForUpdate(Mockito.<TxContext>any(), Mockito.eq(scopeId), Mockito.eq(PID))).thenReturn(Optional.of(storedCounter));
+        return storedCounter;
+    }
+
+    private ResourceLimitCounter createdCounter() {
+        ArgumentCaptor<ResourceLimitCounter> createdCounter = ArgumentCaptor.forClass(ResourceLimitCounter.class);
+        Mockito.verify(resourceLimitCounterRepository).create(Mockito.<TxContext>any(), createdCounter.capture());
+        return createdCounter.getValue();
+    }
+
+    private static Map<String, Object> newLimitedConfigValues(int maxNumberChildEntities) {
+        Map<String, Object> configValues = new HashMap<>();
+        configValues.put("infiniteChildEntities", false);
+        configValues.put("maxNumberChildEntities", maxNumberChildEntities);
+        return configValues;
+    }
+}
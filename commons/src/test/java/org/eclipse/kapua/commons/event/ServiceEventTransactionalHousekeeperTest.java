@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.event;
+
+import com.codahale.metrics.Counter;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecord;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordAttributes;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreService;
+import org.eclipse.kapua.commons.service.event.store.internal.EventStoreRecordImpl;
+import org.eclipse.kapua.commons.service.event.store.internal.EventStoreRecordListResultImpl;
+import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.event.ServiceEvent.EventStatus;
+import org.eclipse.kapua.event.ServiceEventBus;
+import org.eclipse.kapua.event.ServiceEventBusException;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaQuery;
+import org.eclipse.kapua.model.query.predicate.AndPredicate;
+import org.eclipse.kapua.model.query.predicate.AttributePredicate;
+import org.eclipse.kapua.model.query.predicate.QueryPredicate;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Category(JUnitTests.class)
+public class ServiceEventTransactionalHousekeeperTest {
+
+    private static final String SERVICE_NAME = "housekeeperTestService";
+    private static final String ADDRESS = "housekeeperTestAddress";
+    private static final int EVENT_SCAN_WINDOW = 5;
+
+    private final Map<BigInteger, EventStoreRecord> eventStore = new TreeMap<>();
+    private final List<KapuaId> publishedEventIds = new ArrayList<>();
+    private final List<KapuaQuery> sendErrorEventQueries = new ArrayList<>();
+
+    private ServiceEventBus serviceEventBus;
+    private ServiceEventTransactionalHousekeeper instance;
+
+    @Before
+    public void setUp() throws KapuaException {
+        ServiceMap.registerServices(Collections.singletonList(new ServiceEntry(SERVICE_NAME, ADDRESS)));
+
+        EventStoreService eventStoreService = Mockito.mock(EventStoreService.class);
+        Mockito.when(eventStoreService.query(Mockito.<KapuaQuery>any()))
+                .thenAnswer(invocation -> queryEventStore(invocation.getArgumentAt(0, KapuaQuery.class)));
+        Mockito.when(eventStoreService.updateStatus(Mockito.<Collection<KapuaId>>any(), Mockito.<EventStatus>any()))
+                .thenAnswer(invocation -> {
+                    Collection<KapuaId> eventIds = invocation.getArgumentAt(0, Collection.class);
+                    eventIds.forEach(eventId -> eventStore.get(eventId.getId()).setStatus(invocation.getArgumentAt(1, EventStatus.class)));
+                    return eventIds.size();
+                });
+
+        serviceEventBus = Mockito.mock(ServiceEventBus.class);
+        Mockito.doAnswer(invocation -> publishedEventIds.add(KapuaEid.parseCompactId(invocation.getArgumentAt(1, ServiceEvent.class).getId())))
+                .when(serviceEventBus).publish(Mockito.eq(ADDRESS), Mockito.<ServiceEvent>any());
+
+        TxManager txManager = Mockito.mock(TxManager.class);
+        Mockito.when(txManager.getTxContext()).thenReturn(Mockito.mock(TxContext.class));
+
+        CommonsMetric commonsMetric = Mockito.mock(CommonsMetric.class);
+        Mockito.when(commonsMetric.getHousekeeperRelayedEvent()).thenReturn(new Counter());
+        Mockito.when(commonsMetric.getHousekeeperRelayError()).thenReturn(new Counter());
+        Mockito.when(commonsMetric.getHousekeeperPurgedEvent()).thenReturn(new Counter());
+        Mockito.when(commonsMetric.getHousekeeperOutboxSize(SERVICE_NAME)).thenReturn(new AtomicLong());
+        Mockito.when(commonsMetric.getHousekeeperRelayLag(SERVICE_NAME)).thenReturn(new AtomicLong());
+
+        instance = new ServiceEventTransactionalHousekeeper(eventStoreService, txManager, serviceEventBus, commonsMetric, Collections.emptyList());
+    }
+
+    @After
+    public void tearDown() {
+        ServiceMap.unregisterServices(Collections.singletonList(SERVICE_NAME));
+    }
+
+    @Test
+    public void relayEventsInIdOrderTest() throws KapuaException {
+        for (long eventId : Arrays.asList(12L, 3L, 7L, 1L, 9L, 4L, 11L, 2L, 8L, 5L, 10L, 6L)) {
+            storeEvent(eventId, EventStatus.SEND_ERROR);
+        }
+
+        instance.processServiceEvents(SERVICE_NAME);
+
+        Assert.assertEquals(idsFromTo(1, 12), publishedEventIds);
+        Assert.assertTrue(eventStore.values().stream().allMatch(event -> EventStatus.SENT.equals(event.getStatus())));
+    }
+
+    @Test
+    public void failedEventsNotReadAgainTest() throws KapuaException {
+        for (long eventId = 1; eventId <= 12; eventId++) {
+            storeEvent(eventId, EventStatus.SEND_ERROR);
+        }
+        Mockito.doAnswer(invocation -> {
+            KapuaId eventId = KapuaEid.parseCompactId(invocation.getArgumentAt(1, ServiceEvent.class).getId());
+            publishedEventIds.add(eventId);
+            if (BigInteger.valueOf(3).equals(eventId.getId())) {
+                throw new ServiceEventBusException("publish failed");
+            }
+            return null;
+        }).when(serviceEventBus).publish(Mockito.eq(ADDRESS), Mockito.<ServiceEvent>any());
+
+        instance.processServiceEvents(SERVICE_NAME);
+
+        // The failed event is published once and the following events are still relayed
+        Assert.assertEquals(idsFromTo(1, 12), publishedEventIds);
+        Assert.assertEquals(EventStatus.SEND_ERROR, eventStore.get(BigInteger.valueOf(3)).getStatus());
+        Assert.assertEquals(11, eventStore.values().stream().filter(event -> EventStatus.SENT.equals(event.getStatus())).count());
+
+        // Each batch starts after the last event of the previous one
+        List<KapuaId> afterIds = sendErrorEventQueries.stream().map(KapuaQuery::getAfterId).collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(null, new KapuaEid(BigInteger.valueOf(5)), new KapuaEid(BigInteger.valueOf(10))), afterIds);
+    }
+
+    @Test
+    public void stopWhenNothingPublishedTest() throws KapuaException {
+        for (long eventId = 1; eventId <= 12; eventId++) {
+            storeEvent(eventId, EventStatus.SEND_ERROR);
+        }
+        Mockito.doThrow(new ServiceEventBusException("event bus down"))
+                .when(serviceEventBus).publish(Mockito.eq(ADDRESS), Mockito.<ServiceEvent>any());
+
+        instance.processServiceEvents(SERVICE_NAME);
+
+        Mockito.verify(serviceEventBus, Mockito.times(EVENT_SCAN_WINDOW)).publish(Mockito.eq(ADDRESS), Mockito.<ServiceEvent>any());
+        Assert.assertTrue(eventStore.values().stream().allMatch(event -> EventStatus.SEND_ERROR.equals(event.getStatus())));
+    }
+
+    private void storeEvent(long eventId, EventStatus eventStatus) {
+        EventStoreRecord event = new EventStoreRecordImpl(KapuaId.ONE);
+        event.setId(new KapuaEid(BigInteger.valueOf(eventId)));
+        event.setService(SERVICE_NAME);
+        event.setOperation("create");
+        event.setStatus(eventStatus);
+        eventStore.put(event.getId().getId(), event);
+    }
+
+    private List<KapuaId> idsFromTo(long from, long to) {
+        List<KapuaId> ids = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            ids.add(new KapuaEid(BigInteger.valueOf(id)));
+        }
+        return ids;
+    }
+
+    /**
+     * Reads the events with the {@link EventStatus} equal to the one of the query, in id order as the repository does.
+     */
+    private EventStoreRecordListResultImpl queryEventStore(KapuaQuery query) {
+        EventStoreRecordListResultImpl result = new EventStoreRecordListResultImpl();
+
+        EventStatus status = null;
+        for (QueryPredicate predicate : ((AndPredicate) query.getPredicate()).getPredicates()) {
+            AttributePredicate<?> attributePredicate = (AttributePredicate<?>) predicate;
+            if (EventStoreRecordAttributes.EVENT_STATUS.equals(attributePredicate.getAttributeName()) &&
+                    AttributePredicate.Operator.EQUAL.equals(attributePredicate.getOperator())) {
+                status = (EventStatus) attributePredicate.getAttributeValue();
+            }
+        }
+        if (status != EventStatus.SEND_ERROR && status != EventStatus.TRIGGERED) {
+            return result;
+        }
+        if (status == EventStatus.SEND_ERROR) {
+            sendErrorEventQueries.add(query);
+        }
+
+        EventStatus queriedStatus = status;
+        List<EventStoreRecord> events = eventStore.values().stream()
+                .filter(event -> queriedStatus.equals(event.getStatus()))
+                .filter(event -> query.getAfterId() == null || event.getId().getId().compareTo(query.getAfterId().getId()) > 0)
+                .collect(Collectors.toList());
+
+        int limit = query.getLimit() != null ? query.getLimit() : events.size();
+        result.addItems(events.subList(0, Math.min(limit, events.size())));
+        result.setLimitExceeded(events.size() > limit);
+        return result;
+    }
+}
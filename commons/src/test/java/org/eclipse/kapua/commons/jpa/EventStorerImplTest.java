@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.jpa;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.event.ServiceEventScope;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecord;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
+import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.storage.TxContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+
+@Category(JUnitTests.class)
+public class EventStorerImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId ENTITY_ID = new KapuaEid(BigInteger.TEN);
+    private static final KapuaId EVENT_ID = new KapuaEid(BigInteger.valueOf(42));
+
+    private EventStoreRecordRepository repository;
+    private EventStorerImpl eventStorer;
+
+    @Before
+    public void setUp() throws KapuaException {
+        // Other tests running on the same thread may leave their ServiceEvents in the scope
+        while (ServiceEventScope.get() != null) {
+            ServiceEventScope.end();
+        }
+
+        repository = Mockito.mock(EventStoreRecordRepository.class);
+        Mockito.when(repository.create(Mockito.<TxContext>any(), Mockito.<EventStoreRecord>any())).thenAnswer(invocation -> {
+            EventStoreRecord eventStoreRecord = invocation.getArgumentAt(1, EventStoreRecord.class);
+            eventStoreRecord.setId(EVENT_ID);
+            return eventStoreRecord;
+        });
+        eventStorer = new EventStorerImpl(repository);
+    }
+
+    @Test
+    public void acceptWithoutEntityStoresEventTest() throws KapuaException {
+        ServiceEvent serviceEvent = ServiceEventScope.begin();
+        serviceEvent.setEntityType("org.eclipse.kapua.service.scheduler.trigger.Trigger");
+        serviceEvent.setEntityScopeId(SCOPE_ID);
+        serviceEvent.setEntityId(ENTITY_ID);
+
+        try {
+            eventStorer.accept(null, null);
+        } finally {
+            ServiceEventScope.end();
+        }
+
+        ArgumentCaptor<EventStoreRecord> stored = ArgumentCaptor.forClass(EventStoreRecord.class);
+        Mockito.verify(repository).create(Mockito.<TxContext>any(), stored.capture());
+        Assert.assertEquals("org.eclipse.kapua.service.scheduler.trigger.Trigger", stored.getValue().getEntityType());
+        Assert.assertEquals(ENTITY_ID, stored.getValue().getEntityId());
+        Assert.assertEquals(EVENT_ID.toCompactId(), serviceEvent.getId());
+    }
+
+    @Test
+    public void acceptOutsideEventScopeTest() {
+        eventStorer.accept(null, null);
+
+        Mockito.verifyZeroInteractions(repository);
+    }
+}
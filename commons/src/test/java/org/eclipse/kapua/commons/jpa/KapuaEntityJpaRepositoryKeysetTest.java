@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.commons.jpa;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.liquibase.KapuaLiquibaseClient;
+import org.eclipse.kapua.commons.model.AbstractCommonServiceTest;
+import org.eclipse.kapua.commons.model.misc.CollisionEntity;
+import org.eclipse.kapua.commons.model.misc.CollisionEntityJpaRepository;
+import org.eclipse.kapua.commons.model.misc.CollisionEntityQuery;
+import org.eclipse.kapua.commons.model.misc.CollisionIdGenerator;
+import org.eclipse.kapua.model.KapuaEntity;
+import org.eclipse.kapua.model.KapuaNamedEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaListResult;
+import org.eclipse.kapua.model.query.SortOrder;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests keyset paging and estimated counts of {@link KapuaEntityJpaRepository} against H2.
+ *
+ * @since 2.1.0
+ */
+@Category(JUnitTests.class)
+public class KapuaEntityJpaRepositoryKeysetTest extends AbstractCommonServiceTest {
+
+    private static final String DEFAULT_TEST_FILTER = "test_*.sql";
+    private static final int ESTIMATED_COUNT_MAX = 5;
+
+    private static final List<String> DESCRIPTIONS = Arrays.asList(null, "b", null, "a", "c", "b", null, "a", "c");
+
+    private static TxManager txManager;
+    private static CollisionEntityJpaRepository repo;
+
+    private List<CollisionEntity> entities;
+
+    @BeforeClass
+    public static void createTable() throws KapuaException {
+        new KapuaLiquibaseClient("jdbc:h2:mem:kapua;MODE=MySQL;DB_CLOSE_DELAY=-1", "kapua", "kapua").update();
+        txManager = new KapuaJpaTxManagerFactory(3).create("kapua-commons-unit-test");
+        // The table may be left by other tests sharing the in-memory database
+        dropTestTable();
+        scriptSession(DEFAULT_TEST_PATH, DEFAULT_TEST_FILTER);
+        repo = new CollisionEntityJpaRepository(new KapuaJpaRepositoryConfiguration("\\", "%", "_", ESTIMATED_COUNT_MAX));
+    }
+
+    @AfterClass
+    public static void dropTable() throws KapuaException {
+        dropTestTable();
+    }
+
+    private static void dropTestTable() throws KapuaException {
+        txManager.execute(tx -> JpaAwareTxContext.extractEntityManager(tx).createNativeQuery("DROP TABLE IF EXISTS collision_entity_test").executeUpdate());
+    }
+
+    @Before
+    public void createEntities() throws KapuaException {
+        CollisionEntity.initializeCollisionIdGenerator(new CollisionIdGenerator(50000, 1, 1));
+
+        entities = txManager.execute(tx -> {
+            JpaAwareTxContext.extractEntityManager(tx).createQuery("DELETE FROM CollisionEntity").executeUpdate();
+
+            List<CollisionEntity> created = new ArrayList<>();
+            for (int i = 0; i < DESCRIPTIONS.size(); i++) {
+                CollisionEntity entity = new CollisionEntity("keyset-" + i);
+                entity.setDescription(DESCRIPTIONS.get(i));
+                created.add(repo.create(tx, entity));
+            }
+            return created;
+        });
+    }
+
+    @Test
+    public void pageByIdTest() throws KapuaException {
+        List<KapuaId> expected = entities.stream().map(KapuaEntity::getId).collect(Collectors.toList());
+
+        Assert.assertEquals(expected, readAllPages(null, SortOrder.ASCENDING, 2));
+    }
+
+    @Test
+    public void pageAscendingWithNullValuesTest() throws KapuaException {
+        // Null values come first in ascending order
+        Comparator<CollisionEntity> ascending = Comparator
+                .comparing(CollisionEntity::getDescription, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(entity -> entity.getId().getId());
+
+        for (int pageSize = 1; pageSize <= DESCRIPTIONS.size(); pageSize++) {
+            Assert.assertEquals("Page size " + pageSize, sortedIds(ascending), readAllPages(KapuaNamedEntityAttributes.DESCRIPTION, SortOrder.ASCENDING, pageSize));
+        }
+    }
+
+    @Test
+    public void pageDescendingWithNullValuesTest() throws KapuaException {
+        // Null values come last in descending order
+        Comparator<CollisionEntity> descending = Comparator
+                .comparing(CollisionEntity::getDescription, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(entity -> entity.getId().getId())
+                .reversed();
+
+        for (int pageSize = 1; pageSize <= DESCRIPTIONS.size(); pageSize++) {
+            Assert.assertEquals("Page size " + pageSize, sortedIds(descending), readAllPages(KapuaNamedEntityAttributes.DESCRIPTION, SortOrder.DESCENDING, pageSize));
+        }
+    }
+
+    @Test
+    public void offsetIgnoredWithAfterIdTest() throws KapuaException {
+        CollisionEntityQuery query = new CollisionEntityQuery(KapuaId.ONE);
+        query.setAfterId(entities.get(0).getId());
+        query.setOffset(3);
+        query.setLimit(1);
+
+        KapuaListResult<CollisionEntity> result = txManager.execute(tx -> repo.query(tx, query));
+
+        Assert.assertEquals(entities.get(1).getId(), result.getFirstItem().getId());
+    }
+
+    @Test
+    public void estimatedCountOverThresholdTest() throws KapuaException {
+        CollisionEntityQuery query = new CollisionEntityQuery(KapuaId.ONE);
+        query.setLimit(1);
+        query.setAskTotalCount(true);
+        query.setEstimateTotalCount(true);
+
+        KapuaListResult<CollisionEntity> result = txManager.execute(tx -> repo.query(tx, query));
+
+        Assert.assertEquals(Long.valueOf(ESTIMATED_COUNT_MAX), result.getTotalCount());
+        Assert.assertTrue(result.getTotalCountEstimated());
+    }
+
+    @Test
+    public void estimatedCountUnderThresholdTest() throws KapuaException {
+        CollisionEntityQuery query = new CollisionEntityQuery(KapuaId.ONE);
+        query.setPredicate(query.attributePredicate(KapuaNamedEntityAttributes.DESCRIPTION, "b"));
+        query.setLimit(1);
+        query.setAskTotalCount(true);
+        query.setEstimateTotalCount(true);
+
+        KapuaListResult<CollisionEntity> result = txManager.execute(tx -> repo.query(tx, query));
+
+        Assert.assertEquals(Long.valueOf(2), result.getTotalCount());
+        Assert.assertFalse(result.getTotalCountEstimated());
+    }
+
+    private List<KapuaId> sortedIds(Comparator<CollisionEntity> comparator) {
+        return entities.stream().sorted(comparator).map(KapuaEntity::getId).collect(Collectors.toList());
+    }
+
+    private List<KapuaId> readAllPages(String sortAttributeName, SortOrder sortOrder, int pageSize) throws KapuaException {
+        List<KapuaId> ids = new ArrayList<>();
+
+        CollisionEntityQuery query = new CollisionEntityQuery(KapuaId.ONE);
+        if (sortAttributeName != null) {
+            query.setSortCriteria(query.fieldSortCriteria(sortAttributeName, sortOrder));
+        }
+        query.setLimit(pageSize);
+
+        KapuaListResult<CollisionEntity> page;
+        do {
+            page = txManager.execute(tx -> repo.query(tx, query));
+            page.getItems().forEach(entity -> ids.add(entity.getId()));
+            if (!page.isEmpty()) {
+                query.setAfterId(page.getItem(page.getSize() - 1).getId());
+            }
+        } while (page.isLimitExceeded());
+
+        return ids;
+    }
+}
@@ -190,4 +190,15 @@ public class AbstractKapuaQueryTest {
         kapuaQuery.setAskTotalCount(false);
         Assert.assertEquals("Actual and expected values are not the same!", false, kapuaQuery.getAskTotalCount());
     }
+
+    @Test
+    public void abstractKapuaQueryCopiesKeysetTest() {
+        AbstractKapuaQuery kapuaQuery = new ActualKapuaQuery();
+        kapuaQuery.setAfterId(KapuaId.ONE);
+        kapuaQuery.setEstimateTotalCount(true);
+
+        AbstractKapuaQuery copiedQuery = new ActualKapuaQuery(kapuaQuery);
+        Assert.assertEquals("Actual and expected values are not the same!", KapuaId.ONE, copiedQuery.getAfterId());
+        Assert.assertEquals("Actual and expected values are not the same!", true, copiedQuery.getEstimateTotalCount());
+    }
 }
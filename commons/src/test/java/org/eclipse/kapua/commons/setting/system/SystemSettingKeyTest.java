@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -69,6 +69,7 @@ public class SystemSettingKeyTest {
         systemSettings.put(SystemSettingKey.DB_CHARACTER_ESCAPE, "commons.db.character.escape");
         systemSettings.put(SystemSettingKey.DB_CHARACTER_WILDCARD_ANY, "commons.db.character.wildcard.any");
         systemSettings.put(SystemSettingKey.DB_CHARACTER_WILDCARD_SINGLE, "commons.db.character.wildcard.single");
+        systemSettings.put(SystemSettingKey.DB_QUERY_ESTIMATED_COUNT_MAX, "commons.db.query.estimatedCount.max");
         systemSettings.put(SystemSettingKey.BROKER_SCHEME, "broker.scheme");
         systemSettings.put(SystemSettingKey.BROKER_HOST, "broker.host");
         systemSettings.put(SystemSettingKey.METRICS_ENABLE_JMX, "metrics.enable.jmx");
@@ -86,13 +87,21 @@ public class SystemSettingKeyTest {
         systemSettings.put(SystemSettingKey.EVENT_BUS_TRANSPORT_USE_EPOLL, "commons.eventbus.transport.useEpoll");
         systemSettings.put(SystemSettingKey.HOUSEKEEPER_EXECUTION_WAIT_TIME, "commons.eventbus.houskeeper.waitTime");
         systemSettings.put(SystemSettingKey.HOUSEKEEPER_EVENT_SCAN_WINDOW, "commons.eventbus.houskeeper.eventScanWindow");
+        systemSettings.put(SystemSettingKey.HOUSEKEEPER_EVENT_SCAN_WINDOW_MAX_PER_RUN, "commons.eventbus.houskeeper.eventScanWindowMaxPerRun");
         systemSettings.put(SystemSettingKey.HOUSEKEEPER_OLD_MESSAGES_TIME_WINDOW, "commons.eventbus.houskeeper.oldMessagesTimeWindow");
+        systemSettings.put(SystemSettingKey.HOUSEKEEPER_SENT_EVENTS_RETENTION_TIME, "commons.eventbus.houskeeper.sentEvents.retentionTime");
+        systemSettings.put(SystemSettingKey.HOUSEKEEPER_SENT_EVENTS_MAX_COUNT, "commons.eventbus.houskeeper.sentEvents.maxCount");
+        systemSettings.put(SystemSettingKey.HOUSEKEEPER_SENT_EVENTS_PURGE_INTERVAL, "commons.eventbus.houskeeper.sentEvents.purgeInterval");
+        systemSettings.put(SystemSettingKey.HOUSEKEEPER_SENT_EVENTS_PURGE_BATCH_SIZE, "commons.eventbus.houskeeper.sentEvents.purgeBatchSize");
         systemSettings.put(SystemSettingKey.SETTINGS_HOTSWAP, "commons.settings.hotswap");
         systemSettings.put(SystemSettingKey.CACHING_PROVIDER, "commons.cache.provider.classname");
         systemSettings.put(SystemSettingKey.TMETADATA_LOCAL_CACHE_SIZE_MAXIMUM, "commons.cache.local.tmetadata.maxsize");
         systemSettings.put(SystemSettingKey.CACHE_CONFIG_URL, "commons.cache.config.url");
         systemSettings.put(SystemSettingKey.CACHE_TTL, "commons.cache.config.ttl");
         systemSettings.put(SystemSettingKey.JCACHE_EXPIRY_POLICY, "commons.cache.config.expiryPolicy");
+        systemSettings.put(SystemSettingKey.RESOURCE_LIMIT_COUNTER_MAX_AGE, "commons.resourceLimit.counter.maxAge");
+        systemSettings.put(SystemSettingKey.RESOURCE_LIMIT_COUNTER_RECONCILE_INTERVAL, "commons.resourceLimit.counter.reconcileInterval");
+        systemSettings.put(SystemSettingKey.RESOURCE_LIMIT_COUNTER_RECONCILE_BATCH_SIZE, "commons.resourceLimit.counter.reconcileBatchSize");
 
         for (Map.Entry<SystemSettingKey, String> entry : systemSettings.entrySet()) {
             Assert.assertEquals("Expected and actual values should be the same.", entry.getKey().key(), entry.getValue());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,19 +15,38 @@ package org.eclipse.kapua.commons.util.xml;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
 
 import javax.xml.bind.JAXBException;
 
 import org.eclipse.kapua.KapuaIllegalStateException;
 import org.eclipse.kapua.qa.markers.junit.JUnitTests;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
+import com.sun.management.ThreadMXBean;
+
 @Category(JUnitTests.class)
 public class XmlUtilTest {
 
+    private static final String XML_OBJECT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<xmlUtilTestObject>\n" +
+            "   <string>test</string>\n" +
+            "   <integers>\n" +
+            "      <integer>1</integer>\n" +
+            "      <integer>2</integer>\n" +
+            "   </integers>\n" +
+            "</xmlUtilTestObject>\n";
+
+    private static final String JSON_OBJECT = "{\n" +
+            "   \"string\" : \"test\",\n" +
+            "   \"integers\" : [ 1, 2 ]\n" +
+            "}";
+
     @Test
     public void setContextProviderTest() {
         new XmlUtil(new XmlUtilTestJAXBContextProvider());
@@ -189,4 +208,97 @@ public class XmlUtilTest {
             Assert.assertEquals(new Integer(2), object.getIntegers().get(1));
         }
     }
+
+    @Test
+    public void unmarshalDocumentTest() throws JAXBException {
+        final XmlUtil xmlUtil = new XmlUtil(new XmlUtilTestJAXBContextProvider());
+        Document document = xmlUtil.marshalDocument(XmlUtilTestObject.create());
+
+        XmlUtilTestObject firstObject = xmlUtil.unmarshal(document, XmlUtilTestObject.class);
+        assertTestObject(firstObject);
+
+        // Each unmarshal from the Document returns a new instance
+        firstObject.setString("changed");
+        firstObject.getIntegers().add(3);
+
+        XmlUtilTestObject secondObject = xmlUtil.unmarshal(document, XmlUtilTestObject.class);
+        Assert.assertNotSame(firstObject, secondObject);
+        assertTestObject(secondObject);
+    }
+
+    @Test
+    public void unmarshalReusedTest() throws JAXBException, SAXException {
+        final XmlUtil xmlUtil = new XmlUtil(new XmlUtilTestJAXBContextProvider());
+
+        try {
+            xmlUtil.unmarshal("<xmlUtilTestObject><string>", XmlUtilTestObject.class);
+            Assert.fail("Invalid XML should not be unmarshalled");
+        } catch (JAXBException e) {
+            // Expected
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertTestObject(xmlUtil.unmarshal(XML_OBJECT, XmlUtilTestObject.class));
+            Assert.assertNotNull(xmlUtil.unmarshal(XML_OBJECT, XmlUtilTestObject.class, "http://eurotech.com/test"));
+            assertTestObject(xmlUtil.unmarshalJson(JSON_OBJECT, XmlUtilTestObject.class));
+
+            Assert.assertEquals(XML_OBJECT, xmlUtil.marshal(XmlUtilTestObject.create()));
+            Assert.assertEquals(JSON_OBJECT, xmlUtil.marshalJson(XmlUtilTestObject.create()));
+        }
+    }
+
+    /**
+     * Compares the bytes allocated by each decode when the {@link javax.xml.bind.Unmarshaller} is reused
+     * and when it is created for each decode, as it happens with a new {@link XmlUtil}.
+     */
+    @Test
+    public void unmarshalAllocationsTest() throws Exception {
+        ThreadMXBean threadMXBean;
+        try {
+            threadMXBean = ManagementFactory.getPlatformMXBean(ThreadMXBean.class);
+        } catch (IllegalArgumentException e) {
+            threadMXBean = null;
+        }
+        Assume.assumeTrue(threadMXBean != null && threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final XmlUtilTestJAXBContextProvider jaxbContextProvider = new XmlUtilTestJAXBContextProvider();
+        final XmlUtil xmlUtil = new XmlUtil(jaxbContextProvider);
+
+        long reusedBytes = allocatedBytesPerDecode(threadMXBean, () -> xmlUtil.unmarshal(XML_OBJECT, XmlUtilTestObject.class, "http://eurotech.com/test"));
+        long createdBytes = allocatedBytesPerDecode(threadMXBean, () -> new XmlUtil(jaxbContextProvider).unmarshal(XML_OBJECT, XmlUtilTestObject.class, "http://eurotech.com/test"));
+
+        Assert.assertTrue("Bytes allocated per decode. Reused: " + reusedBytes + " - Created: " + createdBytes, reusedBytes < createdBytes);
+    }
+
+    private static long allocatedBytesPerDecode(ThreadMXBean threadMXBean, Decoder decoder) throws Exception {
+        int decodes = 1000;
+
+        // Warm up
+        for (int i = 0; i < decodes; i++) {
+            decoder.decode();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < decodes; i++) {
+            Assert.assertNotNull(decoder.decode());
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / decodes;
+    }
+
+    private static void assertTestObject(XmlUtilTestObject object) {
+        Assert.assertNotNull(object);
+        Assert.assertEquals("test", object.getString());
+        Assert.assertNotNull(object.getIntegers());
+        Assert.assertEquals(2, object.getIntegers().size());
+        Assert.assertEquals(Integer.valueOf(1), object.getIntegers().get(0));
+        Assert.assertEquals(Integer.valueOf(2), object.getIntegers().get(1));
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+
+        XmlUtilTestObject decode() throws Exception;
+    }
 }
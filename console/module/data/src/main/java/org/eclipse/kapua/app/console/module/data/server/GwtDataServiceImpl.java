@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -52,7 +52,6 @@ import org.eclipse.kapua.service.datastore.internal.mediator.ClientInfoField;
 import org.eclipse.kapua.service.datastore.internal.mediator.MessageField;
 import org.eclipse.kapua.service.datastore.internal.mediator.MetricInfoField;
 import org.eclipse.kapua.service.datastore.internal.model.query.ClientInfoQueryImpl;
-import org.eclipse.kapua.service.datastore.internal.model.query.MessageQueryImpl;
 import org.eclipse.kapua.service.datastore.internal.model.query.predicate.ChannelMatchPredicateImpl;
 import org.eclipse.kapua.service.datastore.internal.schema.MessageSchema;
 import org.eclipse.kapua.service.datastore.model.ChannelInfo;
@@ -70,6 +69,7 @@ import org.eclipse.kapua.service.datastore.model.query.MetricInfoQuery;
 import org.eclipse.kapua.service.datastore.model.query.predicate.ChannelMatchPredicate;
 import org.eclipse.kapua.service.datastore.model.query.predicate.DatastorePredicateFactory;
 import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceAttributes;
 import org.eclipse.kapua.service.device.registry.DeviceFactory;
 import org.eclipse.kapua.service.device.registry.DeviceListResult;
 import org.eclipse.kapua.service.device.registry.DeviceQuery;
@@ -110,19 +110,9 @@ public class GwtDataServiceImpl extends KapuaRemoteServiceServlet implements Gwt
         HashMap<String, GwtTopic> topicMap = new HashMap<String, GwtTopic>();
         ChannelInfoRegistryService channelInfoService = LOCATOR.getService(ChannelInfoRegistryService.class);
         ChannelInfoQuery query = CHANNEL_INFO_FACTORY.newQuery(GwtKapuaCommonsModelConverter.convertKapuaId(scopeId));
-        int offset = 0;
-        int limit = 250;
         try {
-            query.setOffset(offset);
-            query.setLimit(limit);
-            ChannelInfoListResult result = channelInfoService.query(query);
-            while (result != null && !result.isEmpty()) {
-                for (ChannelInfo channel : result.getItems()) {
-                    addToMap(topicMap, channel);
-                }
-                offset += limit;
-                query.setOffset(offset);
-                result = channelInfoService.query(query);
+            for (String channelName : channelInfoService.findChannelNames(query)) {
+                addToMap(topicMap, channelName);
             }
 
             for (Map.Entry<String, GwtTopic> entry : topicMap.entrySet()) {
@@ -149,33 +139,25 @@ public class GwtDataServiceImpl extends KapuaRemoteServiceServlet implements Gwt
         List<GwtTopic> updatedTopics = new ArrayList<GwtTopic>();
         MessageStoreService messageStoreService = LOCATOR.getService(MessageStoreService.class);
         try {
+            Map<String, StorablePredicate> topicPredicates = new HashMap<String, StorablePredicate>();
             for (ModelData md : topics) {
-                GwtTopic topic = (GwtTopic) md;
-
-                List<SortField> sort = new ArrayList<SortField>();
-                sort.add(SortField.descending(MessageSchema.MESSAGE_TIMESTAMP));
-
-                MessageQuery messageQuery = new MessageQueryImpl(scopeId);
-                messageQuery.setAskTotalCount(true);
-                messageQuery.setFetchStyle(StorableFetchStyle.FIELDS);
-                messageQuery.setLimit(1);
-                messageQuery.setOffset(0);
-                messageQuery.setSortFields(sort);
-
-                String semanticTopic = topic.getSemanticTopic();
-                StorablePredicate predicate;
+                String semanticTopic = ((GwtTopic) md).getSemanticTopic();
 
                 if (semanticTopic.endsWith("/#")) {
-                    predicate = DATASTORE_PREDICATE_FACTORY.newChannelMatchPredicate(semanticTopic.replaceFirst("/#$", "/"));
+                    topicPredicates.put(semanticTopic, DATASTORE_PREDICATE_FACTORY.newChannelMatchPredicate(semanticTopic.replaceFirst("/#$", "/")));
                 } else {
-                    predicate = DATASTORE_PREDICATE_FACTORY.newTermPredicate(MessageField.CHANNEL, semanticTopic);
+                    topicPredicates.put(semanticTopic, DATASTORE_PREDICATE_FACTORY.newTermPredicate(MessageField.CHANNEL, semanticTopic));
                 }
+            }
 
-                messageQuery.setPredicate(predicate);
+            // Last message timestamps of all topics are aggregated by a single request
+            Map<String, Date> topicsLastMessageOn = messageStoreService.findLastMessageOn(scopeId, topicPredicates);
+            for (ModelData md : topics) {
+                GwtTopic topic = (GwtTopic) md;
 
-                MessageListResult messageList = messageStoreService.query(messageQuery);
-                if (messageList.getFirstItem() != null) {
-                    topic.setTimestamp(messageList.getFirstItem().getTimestamp());
+                Date lastMessageOn = topicsLastMessageOn.get(topic.getSemanticTopic());
+                if (lastMessageOn != null) {
+                    topic.setTimestamp(lastMessageOn);
                 }
                 updatedTopics.add(topic);
             }
@@ -216,8 +198,8 @@ public class GwtDataServiceImpl extends KapuaRemoteServiceServlet implements Gwt
         return updatedDevices;
     }
 
-    private void addToMap(HashMap<String, GwtTopic> topicMap, ChannelInfo channel) {
-        String[] topicParts = channel.getName().split("/");
+    private void addToMap(HashMap<String, GwtTopic> topicMap, String channelName) {
+        String[] topicParts = channelName.split("/");
         GwtTopic parent = null;
         String topicName = topicParts[0];
         String baseTopic = topicParts[0];
@@ -308,6 +290,7 @@ public class GwtDataServiceImpl extends KapuaRemoteServiceServlet implements Gwt
                     clientIds.add(client.getClientId());
                 }
                 DeviceQuery deviceQuery = deviceFactory.newQuery(convertedScopeId);
+                deviceQuery.setPredicate(deviceQuery.attributePredicate(DeviceAttributes.CLIENT_ID, clientIds));
                 DeviceListResult deviceListResult = deviceRegistryService.query(deviceQuery);
                 Map<String, String> clientIdsMap = buildClientIdsMap(clientIds, deviceListResult);
 
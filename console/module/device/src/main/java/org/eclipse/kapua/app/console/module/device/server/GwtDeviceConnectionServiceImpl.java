@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import com.extjs.gxt.ui.client.data.BasePagingLoadResult;
 import com.extjs.gxt.ui.client.data.ListLoadResult;
 import com.extjs.gxt.ui.client.data.PagingLoadConfig;
 import com.extjs.gxt.ui.client.data.PagingLoadResult;
+import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.app.console.module.api.client.GwtKapuaException;
 import org.eclipse.kapua.app.console.module.api.server.KapuaRemoteServiceServlet;
 import org.eclipse.kapua.app.console.module.api.server.util.KapuaExceptionHandler;
@@ -41,15 +42,15 @@ import org.eclipse.kapua.service.device.registry.connection.DeviceConnection;
 import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionQuery;
 import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionService;
 import org.eclipse.kapua.service.user.User;
-import org.eclipse.kapua.service.user.UserFactory;
 import org.eclipse.kapua.service.user.UserListResult;
-import org.eclipse.kapua.service.user.UserQuery;
 import org.eclipse.kapua.service.user.UserService;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
@@ -65,7 +66,6 @@ public class GwtDeviceConnectionServiceImpl extends KapuaRemoteServiceServlet im
 
     private static final PermissionFactory PERMISSION_FACTORY = LOCATOR.getFactory(PermissionFactory.class);
     private static final UserService USER_SERVICE = LOCATOR.getService(UserService.class);
-    private static final UserFactory USER_FACTORY = LOCATOR.getFactory(UserFactory.class);
 
     private static final String CONNECTION_INFO = "connectionInfo";
     private static final String CONNECTION_USER_COUPLING_MODE_INFO = "connectionUserCouplingModeInfo";
@@ -82,21 +82,19 @@ public class GwtDeviceConnectionServiceImpl extends KapuaRemoteServiceServlet im
             totalLength = deviceConnections.getTotalCount().intValue();
 
             if (!deviceConnections.isEmpty()) {
-                Map<String, String> users = new HashMap<String, String>();
-                final UserQuery userQuery = USER_FACTORY.newQuery(GwtKapuaCommonsModelConverter.convertKapuaId(gwtDeviceConnectionQuery.getScopeId()));
-
-//TODO: #LAYER_VIOLATION - user lookup logic should not be done here (fetching all users is incredibly inefficient anyway)
-                UserListResult userList = KapuaSecurityUtils.doPrivileged(new Callable<UserListResult>() {
-
-                    @Override
-                    public UserListResult call() throws Exception {
-                        return USER_SERVICE.query(userQuery);
+                Set<KapuaId> userIds = new HashSet<KapuaId>();
+                for (DeviceConnection dc : deviceConnections.getItems()) {
+                    if (dc.getUserId() != null) {
+                        userIds.add(dc.getUserId());
+                    }
+                    if (dc.getReservedUserId() != null) {
+                        userIds.add(dc.getReservedUserId());
                     }
-                });
-                for (User user : userList.getItems()) {
-                    users.put(user.getId().toCompactId(), user.getName());
                 }
 
+//TODO: #LAYER_VIOLATION - user lookup logic should not be done here
+                Map<String, String> users = findUserNames(GwtKapuaCommonsModelConverter.convertKapuaId(gwtDeviceConnectionQuery.getScopeId()), userIds);
+
                 for (DeviceConnection dc : deviceConnections.getItems()) {
                     GwtDeviceConnection gwtDeviceConnection = KapuaGwtDeviceModelConverter.convertDeviceConnection(dc);
                     if (dc.getUserId() != null) {
@@ -142,47 +140,25 @@ public class GwtDeviceConnectionServiceImpl extends KapuaRemoteServiceServlet im
         try {
             final DeviceConnection deviceConnection = DEVICE_CONNECTION_SERVICE.find(scopeId, deviceConnectionId);
 //TODO: #LAYER_VIOLATION - user lookup logic should not be done here
-            User connectionUser = KapuaSecurityUtils.doPrivileged(new Callable<User>() {
-
-                @Override
-                public User call() throws Exception {
-                    return USER_SERVICE.find(scopeId, deviceConnection.getUserId());
-                }
-            });
-            User createdUser = KapuaSecurityUtils.doPrivileged(new Callable<User>() {
-
-                @Override
-                public User call() throws Exception {
-                    return USER_SERVICE.find(scopeId, deviceConnection.getCreatedBy());
-                }
-            });
-            User modifiedUser = KapuaSecurityUtils.doPrivileged(new Callable<User>() {
-
-                @Override
-                public User call() throws Exception {
-                    return USER_SERVICE.find(scopeId, deviceConnection.getModifiedBy());
+            Set<KapuaId> userIds = new HashSet<KapuaId>();
+            for (KapuaId userId : new KapuaId[] { deviceConnection.getUserId(), deviceConnection.getCreatedBy(), deviceConnection.getModifiedBy(), deviceConnection.getReservedUserId() }) {
+                if (userId != null) {
+                    userIds.add(userId);
                 }
-            });
-
-            User reservedUser;
-            if (deviceConnection.getReservedUserId() != null) {
-                reservedUser = KapuaSecurityUtils.doPrivileged(new Callable<User>() {
-
-                    @Override
-                    public User call() throws Exception {
-                        return USER_SERVICE.find(scopeId, deviceConnection.getReservedUserId());
-                    }
-                });
-            } else {
-                reservedUser = null;
             }
+            Map<String, String> users = findUserNames(scopeId, userIds);
+
+            String connectionUserName = deviceConnection.getUserId() != null ? users.get(deviceConnection.getUserId().toCompactId()) : null;
+            String createdUserName = deviceConnection.getCreatedBy() != null ? users.get(deviceConnection.getCreatedBy().toCompactId()) : null;
+            String modifiedUserName = deviceConnection.getModifiedBy() != null ? users.get(deviceConnection.getModifiedBy().toCompactId()) : null;
+            String reservedUserName = deviceConnection.getReservedUserId() != null ? users.get(deviceConnection.getReservedUserId().toCompactId()) : null;
 
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionStatus", deviceConnection.getStatus().toString()));
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionModifiedOn", deviceConnection.getModifiedOn()));
-            deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionModifiedBy", modifiedUser != null ? modifiedUser.getName() : null));
+            deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionModifiedBy", modifiedUserName));
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionProtocol", deviceConnection.getProtocol()));
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionClientId", deviceConnection.getClientId()));
-            deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionUser", connectionUser != null ? connectionUser.getName() : null));
+            deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionUser", connectionUserName));
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionClientIp", deviceConnection.getClientIp()));
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionServerIp", deviceConnection.getServerIp()));
             GwtConnectionUserCouplingMode gwtConnectionUserCouplingMode = null;
@@ -192,13 +168,13 @@ public class GwtDeviceConnectionServiceImpl extends KapuaRemoteServiceServlet im
             deviceConnectionPropertiesPairs
                     .add(new GwtGroupedNVPair(CONNECTION_USER_COUPLING_MODE_INFO, "connectionUserCouplingMode", gwtConnectionUserCouplingMode != null ? gwtConnectionUserCouplingMode.getLabel() : null));
             if (AUTHORIZATION_SERVICE.isPermitted(PERMISSION_FACTORY.newPermission(Domains.USER, Actions.read, scopeId))) {
-                deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_USER_COUPLING_MODE_INFO, "connectionReservedUser", reservedUser != null ? reservedUser.getName() : null));
+                deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_USER_COUPLING_MODE_INFO, "connectionReservedUser", reservedUserName));
                 deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_USER_COUPLING_MODE_INFO, "allowUserChange", deviceConnection.getAllowUserChange()));
             }
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionAuthenticationType", deviceConnection.getAuthenticationType()));
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionLastAuthenticationType", deviceConnection.getLastAuthenticationType()));
             deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionFirstEstablishedOn", deviceConnection.getCreatedOn()));
-            deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionFirstEstablishedBy", createdUser != null ? createdUser.getName() : null));
+            deviceConnectionPropertiesPairs.add(new GwtGroupedNVPair(CONNECTION_INFO, "connectionFirstEstablishedBy", createdUserName));
 
         } catch (Throwable t) {
             KapuaExceptionHandler.handle(t);
@@ -207,4 +183,31 @@ public class GwtDeviceConnectionServiceImpl extends KapuaRemoteServiceServlet im
         return new BaseListLoadResult<GwtGroupedNVPair>(deviceConnectionPropertiesPairs);
     }
 
+    /**
+     * Finds the names of the given {@link User}s with a single query.
+     *
+     * @param scopeId The scope id of the {@link User}s.
+     * @param userIds The {@link User} ids.
+     * @return The {@link User} names, by {@link User} compact id.
+     * @throws KapuaException
+     */
+    private static Map<String, String> findUserNames(final KapuaId scopeId, final Set<KapuaId> userIds) throws KapuaException {
+        Map<String, String> users = new HashMap<String, String>();
+        if (userIds.isEmpty()) {
+            return users;
+        }
+
+        UserListResult userList = KapuaSecurityUtils.doPrivileged(new Callable<UserListResult>() {
+
+            @Override
+            public UserListResult call() throws Exception {
+                return USER_SERVICE.findByIds(scopeId, userIds);
+            }
+        });
+        for (User user : userList.getItems()) {
+            users.put(user.getId().toCompactId(), user.getName());
+        }
+        return users;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
 package org.eclipse.kapua.app.console.module.device.server;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -66,7 +68,6 @@ import org.eclipse.kapua.service.device.registry.DeviceQuery;
 import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
 import org.eclipse.kapua.service.device.registry.DeviceStatus;
 import org.eclipse.kapua.service.device.registry.connection.DeviceConnection;
-import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionService;
 import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionStatus;
 import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
 import org.eclipse.kapua.service.device.registry.event.DeviceEventAttributes;
@@ -76,6 +77,7 @@ import org.eclipse.kapua.service.device.registry.event.DeviceEventService;
 import org.eclipse.kapua.service.tag.Tag;
 import org.eclipse.kapua.service.tag.TagService;
 import org.eclipse.kapua.service.user.User;
+import org.eclipse.kapua.service.user.UserListResult;
 import org.eclipse.kapua.service.user.UserService;
 
 /**
@@ -129,7 +131,7 @@ public class GwtDeviceServiceImpl extends KapuaRemoteServiceServlet implements G
 
         DeviceRegistryService deviceRegistryService = locator.getService(DeviceRegistryService.class);
         DeviceEventService deviceEventService = locator.getService(DeviceEventService.class);
-        final DeviceConnectionService deviceConnectionService = locator.getService(DeviceConnectionService.class);
+        DeviceFactory deviceFactory = locator.getFactory(DeviceFactory.class);
         GroupService groupService = locator.getService(GroupService.class);
         final UserService userService = locator.getService(UserService.class);
 
@@ -137,44 +139,44 @@ public class GwtDeviceServiceImpl extends KapuaRemoteServiceServlet implements G
 
             final KapuaId scopeId = KapuaEid.parseCompactId(scopeIdString);
             KapuaId deviceId = KapuaEid.parseCompactId(deviceIdString);
-            final Device device = deviceRegistryService.find(scopeId, deviceId);
+            // Connection and last event are fetched with the device, instead of being looked up one by one
+            DeviceQuery deviceQuery = deviceFactory.newQuery(scopeId);
+            deviceQuery.setPredicate(deviceQuery.attributePredicate(DeviceAttributes.ENTITY_ID, deviceId));
+            deviceQuery.addFetchAttributes(DeviceAttributes.CONNECTION);
+            deviceQuery.addFetchAttributes(DeviceAttributes.LAST_EVENT);
+            final Device device = deviceRegistryService.query(deviceQuery).getFirstItem();
 
             if (device != null) {
                 pairs.add(new GwtGroupedNVPair(DEV_INFO, "devStatus", device.getStatus().toString()));
 
-                final DeviceConnection deviceConnection;
-                if (device.getConnectionId() != null) {
-                    if (device.getConnection() != null) {
-                        deviceConnection = device.getConnection();
-                    } else {
-                        deviceConnection = KapuaSecurityUtils.doPrivileged(new Callable<DeviceConnection>() {
-
-                            @Override
-                            public DeviceConnection call() throws Exception {
-                                return deviceConnectionService.find(device.getScopeId(), device.getConnectionId());
-                            }
-                        });
-                    }
-                } else {
-                    deviceConnection = null;
-                }
+                final DeviceConnection deviceConnection = device.getConnection();
                 if (deviceConnection != null) {
-                    User lastConnectedUser = KapuaSecurityUtils.doPrivileged(new Callable<User>() {
+                    final Set<KapuaId> userIds = new HashSet<KapuaId>();
+                    if (deviceConnection.getUserId() != null) {
+                        userIds.add(deviceConnection.getUserId());
+                    }
+                    if (deviceConnection.getReservedUserId() != null) {
+                        userIds.add(deviceConnection.getReservedUserId());
+                    }
 
-                        @Override
-                        public User call() throws Exception {
-                            return userService.find(scopeId, deviceConnection.getUserId());
-                        }
-                    });
+                    User lastConnectedUser = null;
                     User reservedUser = null;
-                    if (deviceConnection.getReservedUserId() != null) {
-                        reservedUser = KapuaSecurityUtils.doPrivileged(new Callable<User>() {
+                    if (!userIds.isEmpty()) {
+                        UserListResult users = KapuaSecurityUtils.doPrivileged(new Callable<UserListResult>() {
 
                             @Override
-                            public User call() throws Exception {
-                                return userService.find(scopeId, deviceConnection.getReservedUserId());
+                            public UserListResult call() throws Exception {
+                                return userService.findByIds(scopeId, userIds);
                             }
                         });
+                        for (User user : users.getItems()) {
+                            if (user.getId().equals(deviceConnection.getUserId())) {
+                                lastConnectedUser = user;
+                            }
+                            if (user.getId().equals(deviceConnection.getReservedUserId())) {
+                                reservedUser = user;
+                            }
+                        }
                     }
 
                     pairs.add(new GwtGroupedNVPair(CONN_INFO, "connConnectionStatus", deviceConnection.getStatus().toString()));
@@ -211,7 +213,7 @@ public class GwtDeviceServiceImpl extends KapuaRemoteServiceServlet implements G
                 if (AUTHORIZATION_SERVICE.isPermitted(PERMISSION_FACTORY.newPermission(Domains.GROUP, Actions.read, device.getScopeId()))) {
                     if (device.getGroupId() != null) {
 
-                        Group group = groupService.find(scopeId, device.getGroupId());
+                        Group group = groupService.findByIds(scopeId, Collections.singleton(device.getGroupId())).getFirstItem();
                         if (group != null) {
                             pairs.add(new GwtGroupedNVPair(DEV_INFO, "devGroupName", group.getName()));
                         }
@@ -222,7 +224,7 @@ public class GwtDeviceServiceImpl extends KapuaRemoteServiceServlet implements G
 
                 if (AUTHORIZATION_SERVICE.isPermitted(PERMISSION_FACTORY.newPermission(Domains.DEVICE_EVENT, Actions.read, device.getScopeId()))) {
                     if (device.getLastEventId() != null) {
-                        DeviceEvent lastEvent = deviceEventService.find(scopeId, device.getLastEventId());
+                        DeviceEvent lastEvent = device.getLastEvent();
 
                         if (lastEvent != null) {
                             pairs.add(new GwtGroupedNVPair(DEV_INFO, DEV_LAST_EVENT_TYPE, lastEvent.getResource()));
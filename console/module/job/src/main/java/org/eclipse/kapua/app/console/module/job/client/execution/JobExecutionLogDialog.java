@@ -13,15 +13,63 @@
 package org.eclipse.kapua.app.console.module.job.client.execution;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.user.client.Element;
+import com.google.gwt.user.client.rpc.AsyncCallback;
 import org.eclipse.kapua.app.console.module.api.client.ui.dialog.entity.EntityLogDialog;
+import org.eclipse.kapua.app.console.module.api.client.util.FailureHandler;
 import org.eclipse.kapua.app.console.module.job.client.messages.ConsoleJobMessages;
 import org.eclipse.kapua.app.console.module.job.shared.model.GwtJobExecution;
+import org.eclipse.kapua.app.console.module.job.shared.service.GwtJobExecutionService;
+import org.eclipse.kapua.app.console.module.job.shared.service.GwtJobExecutionServiceAsync;
 
 public class JobExecutionLogDialog extends EntityLogDialog {
 
     private static final ConsoleJobMessages MSG_JOB = GWT.create(ConsoleJobMessages.class);
 
+    private static final GwtJobExecutionServiceAsync JOB_EXECUTION_SERVICE = GWT.create(GwtJobExecutionService.class);
+
+    private static final int LOG_SEGMENTS_PAGE_SIZE = 10;
+
+    private final GwtJobExecution jobExecution;
+    private final StringBuilder logSb = new StringBuilder();
+
     public JobExecutionLogDialog(GwtJobExecution jobExecution) {
         super(MSG_JOB.jobExecutionLogDialogHeader(), jobExecution.getUnescapedLog());
+
+        this.jobExecution = jobExecution;
+    }
+
+    @Override
+    protected void onRender(Element parent, int pos) {
+        super.onRender(parent, pos);
+
+        loadLogPage(0);
+    }
+
+    /**
+     * Loads the log segments page by page. If the job execution has no log segments the log stored on the job execution is kept.
+     *
+     * @param offset the index of the first log segment to load
+     */
+    private void loadLogPage(final int offset) {
+        JOB_EXECUTION_SERVICE.findLog(jobExecution.getScopeId(), jobExecution.getJobId(), jobExecution.getId(), offset, LOG_SEGMENTS_PAGE_SIZE, new AsyncCallback<String>() {
+
+            @Override
+            public void onFailure(Throwable caught) {
+                FailureHandler.handle(caught);
+            }
+
+            @Override
+            public void onSuccess(String logPage) {
+                if (logPage == null) {
+                    return;
+                }
+
+                logSb.append(logPage);
+                logArea.setValue(logSb.toString());
+
+                loadLogPage(offset + LOG_SEGMENTS_PAGE_SIZE);
+            }
+        });
     }
 }
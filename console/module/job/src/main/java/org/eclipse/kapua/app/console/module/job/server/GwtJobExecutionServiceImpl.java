@@ -23,11 +23,19 @@ import org.eclipse.kapua.app.console.module.job.shared.model.GwtJobExecutionQuer
 import org.eclipse.kapua.app.console.module.job.shared.service.GwtJobExecutionService;
 import org.eclipse.kapua.app.console.module.job.shared.util.GwtKapuaJobModelConverter;
 import org.eclipse.kapua.app.console.module.job.shared.util.KapuaGwtJobModelConverter;
+import org.eclipse.kapua.app.console.module.api.shared.util.GwtKapuaCommonsModelConverter;
 import org.eclipse.kapua.locator.KapuaLocator;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.job.execution.JobExecution;
 import org.eclipse.kapua.service.job.execution.JobExecutionListResult;
 import org.eclipse.kapua.service.job.execution.JobExecutionQuery;
 import org.eclipse.kapua.service.job.execution.JobExecutionService;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentAttributes;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentFactory;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentListResult;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentQuery;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogService;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +44,8 @@ public class GwtJobExecutionServiceImpl extends KapuaRemoteServiceServlet implem
 
     private static final KapuaLocator LOCATOR = KapuaLocator.getInstance();
     private static final JobExecutionService EXECUTION_SERVICE = LOCATOR.getService(JobExecutionService.class);
+    private static final JobExecutionLogService EXECUTION_LOG_SERVICE = LOCATOR.getService(JobExecutionLogService.class);
+    private static final JobExecutionLogSegmentFactory EXECUTION_LOG_SEGMENT_FACTORY = LOCATOR.getFactory(JobExecutionLogSegmentFactory.class);
 
     @Override
     public PagingLoadResult<GwtJobExecution> findByJobId(PagingLoadConfig loadConfig, String scopeId, String jobId) throws GwtKapuaException {
@@ -60,4 +70,32 @@ public class GwtJobExecutionServiceImpl extends KapuaRemoteServiceServlet implem
 
         return new BasePagingLoadResult<GwtJobExecution>(gwtJobExecutionList, loadConfig.getOffset(), totalLength);
     }
+
+    @Override
+    public String findLog(String scopeId, String jobId, String jobExecutionId, int offset, int limit) throws GwtKapuaException {
+        try {
+            KapuaId kapuaScopeId = GwtKapuaCommonsModelConverter.convertKapuaId(scopeId);
+
+            JobExecutionLogSegmentQuery query = EXECUTION_LOG_SEGMENT_FACTORY.newQuery(kapuaScopeId);
+            query.setPredicate(query.andPredicate(
+                    query.attributePredicate(JobExecutionLogSegmentAttributes.JOB_ID, GwtKapuaCommonsModelConverter.convertKapuaId(jobId)),
+                    query.attributePredicate(JobExecutionLogSegmentAttributes.JOB_EXECUTION_ID, GwtKapuaCommonsModelConverter.convertKapuaId(jobExecutionId))
+            ));
+            query.setOffset(offset);
+            query.setLimit(limit);
+
+            JobExecutionLogSegmentListResult logSegments = EXECUTION_LOG_SERVICE.query(query);
+            if (logSegments.isEmpty()) {
+                return null;
+            }
+
+            StringBuilder logSb = new StringBuilder();
+            for (JobExecutionLogSegment logSegment : logSegments.getItems()) {
+                logSb.append(logSegment.getContent());
+            }
+            return logSb.toString();
+        } catch (Throwable t) {
+            throw KapuaExceptionHandler.buildExceptionFromError(t);
+        }
+    }
 }
@@ -38,8 +38,7 @@ import org.eclipse.kapua.service.device.registry.DeviceListResult;
 import org.eclipse.kapua.service.device.registry.DeviceQuery;
 import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
 import org.eclipse.kapua.service.job.targets.JobTarget;
-import org.eclipse.kapua.service.job.targets.JobTargetCreator;
-import org.eclipse.kapua.service.job.targets.JobTargetFactory;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateResult;
 import org.eclipse.kapua.service.job.targets.JobTargetListResult;
 import org.eclipse.kapua.service.job.targets.JobTargetQuery;
 import org.eclipse.kapua.service.job.targets.JobTargetService;
@@ -58,7 +57,6 @@ public class GwtJobTargetServiceImpl extends KapuaRemoteServiceServlet implement
     private static final KapuaLocator LOCATOR = KapuaLocator.getInstance();
 
     private static final JobTargetService JOB_TARGET_SERVICE = LOCATOR.getService(JobTargetService.class);
-    private static final JobTargetFactory JOB_TARGET_FACTORY = LOCATOR.getFactory(JobTargetFactory.class);
 
     private static final DeviceRegistryService DEVICE_REGISTRY_SERVICE = LOCATOR.getService(DeviceRegistryService.class);
     private static final DeviceFactory DEVICE_FACTORY = LOCATOR.getFactory(DeviceFactory.class);
@@ -137,6 +135,7 @@ public class GwtJobTargetServiceImpl extends KapuaRemoteServiceServlet implement
         List<GwtJobTarget> gwtJobTargetList = new ArrayList<GwtJobTarget>();
         List<Device> devices = new ArrayList<Device>();
         try {
+            List<KapuaId> jobTargetIds = new ArrayList<KapuaId>();
             for (GwtJobTargetCreator gwtJobTargetCreator : gwtJobTargetCreatorList) {
                 if (findExtistingTarget(gwtJobTargetCreator.getJobTargetId(), existingTargets)) {
                     continue;
@@ -145,16 +144,20 @@ public class GwtJobTargetServiceImpl extends KapuaRemoteServiceServlet implement
                 if (device != null) {
                     devices.add(device);
                 }
-                KapuaId creatorScopeId = KapuaEid.parseCompactId(gwtJobTargetCreator.getScopeId());
-                JobTargetCreator jobTargetCreator = JOB_TARGET_FACTORY.newCreator(creatorScopeId);
-                jobTargetCreator.setJobId(GwtKapuaCommonsModelConverter.convertKapuaId(gwtJobTargetCreator.getJobId()));
-                jobTargetCreator.setJobTargetId(GwtKapuaCommonsModelConverter.convertKapuaId(gwtJobTargetCreator.getJobTargetId()));
+                jobTargetIds.add(GwtKapuaCommonsModelConverter.convertKapuaId(gwtJobTargetCreator.getJobTargetId()));
+            }
 
-                // Create the Job Target
-                JobTarget jobTarget = JOB_TARGET_SERVICE.create(jobTargetCreator);
+            // Create the Job Targets
+            if (!jobTargetIds.isEmpty()) {
+                JobTargetBulkCreateResult jobTargetBulkCreateResult = JOB_TARGET_SERVICE.createAll(
+                        GwtKapuaCommonsModelConverter.convertKapuaId(scopeId),
+                        GwtKapuaCommonsModelConverter.convertKapuaId(jobId),
+                        jobTargetIds);
 
                 // convert to GwtJobTarget and return
-                gwtJobTargetList.add(KapuaGwtJobModelConverter.convertJobTarget(jobTarget));
+                for (JobTarget jobTarget : jobTargetBulkCreateResult.getCreatedJobTargets()) {
+                    gwtJobTargetList.add(KapuaGwtJobModelConverter.convertJobTarget(jobTarget));
+                }
             }
 
             if (devices.isEmpty()) {
@@ -32,4 +32,18 @@ public interface GwtJobExecutionService extends RemoteService {
      */
     PagingLoadResult<GwtJobExecution> findByJobId(PagingLoadConfig loadConfig, String scopeId, String jobId)
             throws GwtKapuaException;
+
+    /**
+     * Returns a page of the log of the given job execution, as the concatenation of the requested log segments
+     *
+     * @param scopeId
+     * @param jobId
+     * @param jobExecutionId
+     * @param offset         the index of the first log segment to return
+     * @param limit          the number of log segments to return
+     * @return the requested page of the log, or {@code null} if there are no more log segments
+     * @throws GwtKapuaException
+     */
+    String findLog(String scopeId, String jobId, String jobExecutionId, int offset, int limit)
+            throws GwtKapuaException;
 }
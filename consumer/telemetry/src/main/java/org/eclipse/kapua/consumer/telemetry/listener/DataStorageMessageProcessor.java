@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -68,8 +68,13 @@ public class DataStorageMessageProcessor {
         if (message.getMessage().getChannel().toString().startsWith("W1/A1")) {
             KapuaId scopeId = message.getMessage().getScopeId();
             KapuaId deviceId = message.getMessage().getDeviceId();
-            if (deviceAssetStoreService.isServiceEnabled(scopeId) && deviceAssetStoreService.isApplicationEnabled(scopeId, deviceId)) {
-                deviceAssetStoreService.storeAssetValues((KapuaDataMessage) message.getMessage());
+            // The message is already stored: failing to update the last known asset values must not cause its redelivery
+            try {
+                if (deviceId != null && deviceAssetStoreService.isServiceEnabled(scopeId) && deviceAssetStoreService.isApplicationEnabled(scopeId, deviceId)) {
+                    deviceAssetStoreService.storeAssetValues((KapuaDataMessage) message.getMessage());
+                }
+            } catch (Exception e) {
+                LOG.warn("Error while updating asset values of device {} from channel: {}", deviceId, message.getMessage().getChannel(), e);
             }
         } else {
             LOG.debug("This message did not matched W1/A1. Channel was: {}", message.getMessage().getChannel());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -26,4 +26,6 @@ public class QueuedJobExecutionAttributes extends KapuaUpdatableEntityAttributes
     public static final String JOB_EXECUTION_ID = "jobExecutionId";
 
     public static final String WAIT_FOR_JOB_EXECUTION_ID = "waitForJobExecutionId";
+
+    public static final String STATUS = "status";
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,23 @@ import org.eclipse.kapua.job.engine.JobEngineFactory;
 import org.eclipse.kapua.job.engine.JobEngineService;
 import org.eclipse.kapua.job.engine.client.settings.JobEngineClientSetting;
 
+import com.google.inject.multibindings.OptionalBinder;
+
 import javax.inject.Singleton;
 
+/**
+ * Binds the remote {@link JobEngineService} as default implementation.
+ * <p>
+ * The bindings are {@link OptionalBinder} defaults, so that a locator which also loads the Job Engine module gets the in-process {@link JobEngineService} instead of a duplicate binding error.
+ * None of the shipped applications does that: the Job Engine application excludes this package from its locator, and all the other ones only ship this client.
+ *
+ * @since 1.5.0
+ */
 public class JobEngineClientModule extends AbstractKapuaModule {
     @Override
     protected void configureModule() {
-        bind(JobEngineFactory.class).to(JobEngineFactoryClient.class).in(Singleton.class);
-        bind(JobEngineService.class).to(JobEngineServiceClient.class).in(Singleton.class);
+        OptionalBinder.newOptionalBinder(binder(), JobEngineFactory.class).setDefault().to(JobEngineFactoryClient.class).in(Singleton.class);
+        OptionalBinder.newOptionalBinder(binder(), JobEngineService.class).setDefault().to(JobEngineServiceClient.class).in(Singleton.class);
         bind(JobEngineClientSetting.class).in(Singleton.class);
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,24 +12,38 @@
  *******************************************************************************/
 package org.eclipse.kapua.job.engine.client;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import javax.ws.rs.ClientErrorException;
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
-import javax.ws.rs.client.Entity;
-import javax.ws.rs.client.Invocation;
-import javax.ws.rs.client.WebTarget;
-import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.Response;
-import javax.ws.rs.core.Response.Status.Family;
 import javax.xml.bind.JAXBException;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
 import org.eclipse.kapua.KapuaEntityNotFoundException;
 import org.eclipse.kapua.KapuaErrorCodes;
 import org.eclipse.kapua.KapuaException;
@@ -52,7 +66,7 @@ import org.eclipse.kapua.commons.rest.model.errors.JobStoppingExceptionInfo;
 import org.eclipse.kapua.commons.util.xml.XmlUtil;
 import org.eclipse.kapua.job.engine.JobEngineService;
 import org.eclipse.kapua.job.engine.JobStartOptions;
-import org.eclipse.kapua.job.engine.client.filter.SessionInfoFilter;
+import org.eclipse.kapua.job.engine.client.filter.SessionInfoRequestInterceptor;
 import org.eclipse.kapua.job.engine.client.settings.JobEngineClientSetting;
 import org.eclipse.kapua.job.engine.client.settings.JobEngineClientSettingKeys;
 import org.eclipse.kapua.job.engine.exception.CleanJobDataException;
@@ -67,13 +81,15 @@ import org.eclipse.kapua.job.engine.exception.JobRunningException;
 import org.eclipse.kapua.job.engine.exception.JobStartingException;
 import org.eclipse.kapua.job.engine.exception.JobStoppingException;
 import org.eclipse.kapua.model.id.KapuaId;
-import org.glassfish.jersey.moxy.json.MoxyJsonFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
 /**
  * {@link JobEngineService} remote client implementation.
+ * <p>
+ * Requests are sent over a pool of kept-alive connections, whose size also bounds the number of concurrent requests to the Job Engine.
+ * Responses are decoded while they are read from the connection.
  *
  * @since 1.5.0
  */
@@ -82,7 +98,34 @@ public class JobEngineServiceClient implements JobEngineService {
 
     private static final Logger LOG = LoggerFactory.getLogger(JobEngineServiceClient.class);
 
-    private final WebTarget jobEngineTarget;
+    /**
+     * Inactivity after which a pooled connection is checked before being reused, to avoid sending requests on connections closed by the Job Engine.
+     */
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    private static final int DEFAULT_READ_TIMEOUT_MILLIS = 60000;
+
+    private static final Pattern KAPUA_ERROR_CODE_PATTERN = Pattern.compile("\"kapuaErrorCode\"\\s*:\\s*\"([^\"]*)\"");
+
+    private static final Map<String, Class<? extends ExceptionInfo>> EXCEPTION_INFO_TYPES = new HashMap<>();
+
+    static {
+        EXCEPTION_INFO_TYPES.put("ENTITY_NOT_FOUND", EntityNotFoundExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("CANNOT_CLEANUP_JOB_DATA", CleanJobDataExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("CANNOT_CLEANUP_JOB_DATA_WITH_CAUSE", CleanJobDataExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_ALREADY_RUNNING", JobAlreadyRunningExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_TARGET_INVALID", JobInvalidTargetExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_STEP_MISSING", JobMissingStepExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_TARGET_MISSING", JobMissingTargetExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_NOT_RUNNING", JobNotRunningExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_RESUMING", JobResumingExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_RUNNING", JobRunningExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_STARTING", JobStartingExceptionInfo.class);
+        EXCEPTION_INFO_TYPES.put("JOB_STOPPING", JobStoppingExceptionInfo.class);
+    }
+
+    private final String jobEngineBaseUrl;
+    private final CloseableHttpClient jobEngineClient;
     private final XmlUtil xmlUtil;
 
     /**
@@ -93,27 +136,50 @@ public class JobEngineServiceClient implements JobEngineService {
     @Inject
     public JobEngineServiceClient(JobEngineClientSetting jobEngineClientSetting, XmlUtil xmlUtil) {
         this.xmlUtil = xmlUtil;
-        Client jobEngineClient =
-                ClientBuilder
-                        .newClient()
-                        .register(SessionInfoFilter.class)
-                        .register(MoxyJsonFeature.class);
+        this.jobEngineBaseUrl = StringUtils.removeEnd(jobEngineClientSetting.getString(JobEngineClientSettingKeys.JOB_ENGINE_BASE_URL), "/");
+
+        int maxConnections = jobEngineClientSetting.getInt(JobEngineClientSettingKeys.JOB_ENGINE_CLIENT_POOL_MAX_CONNECTIONS, 20);
+        long maxKeepAliveMillis = TimeUnit.SECONDS.toMillis(jobEngineClientSetting.getLong(JobEngineClientSettingKeys.JOB_ENGINE_CLIENT_POOL_KEEP_ALIVE, 30L));
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        // All requests go to the same Job Engine, so the route limit is the pool limit
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAliveMillis > 0 ? Math.min(keepAliveMillis, maxKeepAliveMillis) : maxKeepAliveMillis;
+        };
+
+        int readTimeoutMillis = jobEngineClientSetting.getInt(JobEngineClientSettingKeys.JOB_ENGINE_CLIENT_READ_TIMEOUT, DEFAULT_READ_TIMEOUT_MILLIS);
+        if (readTimeoutMillis <= 0) {
+            LOG.warn("Job Engine client read timeout must be greater than 0, but was: {}. Using default: {}", readTimeoutMillis, DEFAULT_READ_TIMEOUT_MILLIS);
+            readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+        }
 
-        jobEngineTarget = jobEngineClient.target(jobEngineClientSetting.getString(JobEngineClientSettingKeys.JOB_ENGINE_BASE_URL));
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(jobEngineClientSetting.getInt(JobEngineClientSettingKeys.JOB_ENGINE_CLIENT_POOL_ACQUIRE_TIMEOUT, 30000))
+                .setConnectTimeout(jobEngineClientSetting.getInt(JobEngineClientSettingKeys.JOB_ENGINE_CLIENT_CONNECT_TIMEOUT, 10000))
+                .setSocketTimeout(readTimeoutMillis)
+                .build();
+
+        this.jobEngineClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .evictExpiredConnections()
+                .evictIdleConnections(maxKeepAliveMillis, TimeUnit.MILLISECONDS)
+                .setDefaultRequestConfig(requestConfig)
+                .addInterceptorLast(new SessionInfoRequestInterceptor(jobEngineClientSetting.getString(JobEngineClientSettingKeys.JOB_ENGINE_CLIENT_AUTH_MODE, "access_token")))
+                .build();
     }
 
     @Override
     public void startJob(KapuaId scopeId, KapuaId jobId) throws KapuaException {
-        try {
-            String path = String.format("start/%s/%s", scopeId.toCompactId(), jobId.toCompactId());
-            LOG.debug("POST {}", path);
-
-            Response response = getPreparedRequest(path).post(null);
+        String path = String.format("start/%s/%s", scopeId.toCompactId(), jobId.toCompactId());
+        LOG.debug("POST {}", path);
 
-            checkResponse("POST", path, response);
-        } catch (ClientErrorException clientErrorException) {
-            throw KapuaException.internalError(clientErrorException);
-        }
+        execute(preparePost(path, null), path, null);
     }
 
     @Override
@@ -123,29 +189,19 @@ public class JobEngineServiceClient implements JobEngineService {
             String jobStartOptionsJson = xmlUtil.marshalJson(jobStartOptions);
             LOG.debug("POST {} - Content: {}", path, jobStartOptionsJson);
 
-            Response response = getPreparedRequest(path).post(Entity.json(jobStartOptionsJson));
-
-            checkResponse("POST", path, response);
-        } catch (ClientErrorException | JAXBException e) {
+            execute(preparePost(path, jobStartOptionsJson), path, null);
+        } catch (JAXBException e) {
             throw KapuaException.internalError(e);
         }
     }
 
     @Override
     public boolean isRunning(KapuaId scopeId, KapuaId jobId) throws KapuaException {
-        try {
-            String path = String.format("is-running/%s/%s", scopeId.toCompactId(), jobId.toCompactId());
-            LOG.debug("GET {}", path);
+        String path = String.format("is-running/%s/%s", scopeId.toCompactId(), jobId.toCompactId());
+        LOG.debug("GET {}", path);
 
-            Response response = getPreparedRequest(path).get();
-
-            String responseText = checkResponse("GET", path, response);
-
-            IsJobRunningResponse isRunningJobResponse = xmlUtil.unmarshalJson(responseText, IsJobRunningResponse.class);
-            return isRunningJobResponse.isRunning();
-        } catch (ClientErrorException | JAXBException | SAXException e) {
-            throw KapuaException.internalError(e);
-        }
+        IsJobRunningResponse isRunningJobResponse = execute(prepareGet(path), path, IsJobRunningResponse.class);
+        return isRunningJobResponse.isRunning();
     }
 
     @Override
@@ -158,134 +214,146 @@ public class JobEngineServiceClient implements JobEngineService {
             String path = String.format("is-running/%s", scopeId.toCompactId());
             LOG.debug("POST {} - Content {}", path, requestBody);
 
-            Response response = getPreparedRequest(path).post(Entity.json(requestBody));
-
-            String responseText = checkResponse("POST", path, response);
-
-            IsJobRunningMultipleResponse isJobRunningMultipleResponse = xmlUtil.unmarshalJson(responseText, IsJobRunningMultipleResponse.class);
+            IsJobRunningMultipleResponse isJobRunningMultipleResponse = execute(preparePost(path, requestBody), path, IsJobRunningMultipleResponse.class);
 
             return isJobRunningMultipleResponse.getList()
                     .stream()
                     .collect(Collectors.toMap(IsJobRunningResponse::getJobId, IsJobRunningResponse::isRunning));
-        } catch (ClientErrorException | JAXBException | SAXException e) {
+        } catch (JAXBException e) {
             throw KapuaException.internalError(e);
         }
     }
 
     @Override
     public void stopJob(KapuaId scopeId, KapuaId jobId) throws KapuaException {
-        try {
-            String path = String.format("stop/%s/%s", scopeId.toCompactId(), jobId.toCompactId());
-            LOG.debug("POST {}", path);
+        String path = String.format("stop/%s/%s", scopeId.toCompactId(), jobId.toCompactId());
+        LOG.debug("POST {}", path);
 
-            Response response = getPreparedRequest(path).post(null);
-
-            checkResponse("POST", path, response);
-        } catch (ClientErrorException clientErrorException) {
-            throw KapuaException.internalError(clientErrorException);
-        }
+        execute(preparePost(path, null), path, null);
     }
 
     @Override
     public void stopJobExecution(KapuaId scopeId, KapuaId jobId, KapuaId jobExecutionId) throws KapuaException {
-        try {
-            String path = String.format("stop-execution/%s/%s/%s", scopeId.toCompactId(), jobId.toCompactId(), jobExecutionId.toCompactId());
-            LOG.debug("POST {}", path);
+        String path = String.format("stop-execution/%s/%s/%s", scopeId.toCompactId(), jobId.toCompactId(), jobExecutionId.toCompactId());
+        LOG.debug("POST {}", path);
 
-            Response response = getPreparedRequest(path).post(null);
-
-            checkResponse("POST", path, response);
-        } catch (ClientErrorException clientErrorException) {
-            throw KapuaException.internalError(clientErrorException);
-        }
+        execute(preparePost(path, null), path, null);
     }
 
     @Override
     public void resumeJobExecution(KapuaId scopeId, KapuaId jobId, KapuaId jobExecutionId) throws KapuaException {
-        try {
-            String path = String.format("resume-execution/%s/%s/%s", scopeId.toCompactId(), jobId.toCompactId(), jobExecutionId.toCompactId());
-            LOG.debug("POST {}", path);
+        String path = String.format("resume-execution/%s/%s/%s", scopeId.toCompactId(), jobId.toCompactId(), jobExecutionId.toCompactId());
+        LOG.debug("POST {}", path);
 
-            Response response = getPreparedRequest(path).post(null);
-
-            checkResponse("POST", path, response);
-        } catch (ClientErrorException clientErrorException) {
-            throw KapuaException.internalError(clientErrorException);
-        }
+        execute(preparePost(path, null), path, null);
     }
 
     @Override
     public void cleanJobData(KapuaId scopeId, KapuaId jobId) throws KapuaException {
-        try {
-            String path = String.format("clean-data/%s/%s", scopeId.toCompactId(), jobId.toCompactId());
-            LOG.debug("POST {}", path);
+        String path = String.format("clean-data/%s/%s", scopeId.toCompactId(), jobId.toCompactId());
+        LOG.debug("POST {}", path);
 
-            Response response = getPreparedRequest(path).post(null);
-
-            checkResponse("POST", path, response);
-        } catch (ClientErrorException clientErrorException) {
-            throw KapuaException.internalError(clientErrorException);
-        }
+        execute(preparePost(path, null), path, null);
     }
     // Private methods
 
     /**
-     * Prepares the request from the {@link WebTarget} with {@link WebTarget#request(MediaType...)} set to {@link MediaType#APPLICATION_JSON_TYPE} and {@link Invocation.Builder#accept(MediaType...)}
-     * set to {@link MediaType#APPLICATION_JSON_TYPE}.
+     * Prepares a GET request for the given path, accepting {@link ContentType#APPLICATION_JSON}.
      *
      * @param path
      *         The path of the request.
-     * @return The {@link Invocation.Builder}.
-     * @since 2.0.0
+     * @return The {@link HttpGet}.
+     * @since 2.1.0
      */
-    private Invocation.Builder getPreparedRequest(String path) {
-        return jobEngineTarget.path(path)
-                .request(MediaType.APPLICATION_JSON_TYPE)
-                .accept(MediaType.APPLICATION_JSON_TYPE);
+    private HttpGet prepareGet(String path) {
+        HttpGet request = new HttpGet(jobEngineBaseUrl + "/" + path);
+        request.setHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType());
+        return request;
     }
 
     /**
-     * Checks the {@link Response} for errors.
+     * Prepares a POST request for the given path, accepting {@link ContentType#APPLICATION_JSON}.
      *
-     * @param method
-     *         The request method. Used for logging purposes.
+     * @param path
+     *         The path of the request.
+     * @param jsonBody
+     *         The JSON body of the request, if any.
+     * @return The {@link HttpPost}.
+     * @since 2.1.0
+     */
+    private HttpPost preparePost(String path, String jsonBody) {
+        HttpPost request = new HttpPost(jobEngineBaseUrl + "/" + path);
+        request.setHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType());
+        if (jsonBody != null) {
+            request.setEntity(new StringEntity(jsonBody, ContentType.APPLICATION_JSON));
+        }
+        return request;
+    }
+
+    /**
+     * Executes the request, checks the response for errors and decodes its body.
+     * <p>
+     * The response body is always fully consumed, so that the connection goes back to the pool and is reused.
+     *
+     * @param request
+     *         The request to execute.
      * @param path
      *         The request path. Used for logging purposes.
-     * @param response
-     *         The {@link Response} to check.
-     * @return The body of the request in {@link String} format.
+     * @param responseType
+     *         The type of the response body, or {@code null} if it is not needed.
+     * @return The decoded response body, or {@code null} if the response type is {@code null}.
      * @throws KapuaException
      *         The proper {@link KapuaException} if needed.
-     * @since 2.0.0
+     * @since 2.1.0
      */
-    private String checkResponse(String method, String path, Response response) throws KapuaException {
-        String responseText = response.readEntity(String.class);
-        LOG.debug("{} {} - Response Code: {} - Content: {}", method, path, response.getStatus(), responseText);
-        Family family = response.getStatusInfo().getFamily();
-        if (family == Family.CLIENT_ERROR || family == Family.SERVER_ERROR) {
-            LOG.error("{} {} - Response Code: {} - Content: {}", method, path, response.getStatus(), responseText);
-
-            throw buildJobEngineExceptionFromResponse(responseText);
+    private <R> R execute(HttpRequestBase request, String path, Class<R> responseType) throws KapuaException {
+        try (CloseableHttpResponse response = jobEngineClient.execute(request)) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            HttpEntity entity = response.getEntity();
+            try {
+                if (statusCode >= 400) {
+                    String responseText = entity != null ? EntityUtils.toString(entity, StandardCharsets.UTF_8) : null;
+                    LOG.error("{} {} - Response Code: {} - Content: {}", request.getMethod(), path, statusCode, responseText);
+
+                    throw buildJobEngineExceptionFromResponse(responseText);
+                }
+
+                if (LOG.isDebugEnabled() || responseType == null || entity == null) {
+                    String responseText = entity != null ? EntityUtils.toString(entity, StandardCharsets.UTF_8) : null;
+                    LOG.debug("{} {} - Response Code: {} - Content: {}", request.getMethod(), path, statusCode, responseText);
+
+                    return responseType != null && responseText != null ? xmlUtil.unmarshalJson(responseText, responseType) : null;
+                }
+
+                try (Reader responseReader = new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8)) {
+                    return xmlUtil.unmarshalJson(responseReader, responseType);
+                }
+            } finally {
+                EntityUtils.consumeQuietly(entity);
+            }
+        } catch (IOException | JAXBException | SAXException e) {
+            throw KapuaException.internalError(e);
         }
-
-        return responseText;
     }
 
     /**
-     * Parses the {@link Response} content to rebuld the original {@link JobEngineException}
+     * Parses the response content to rebuld the original {@link JobEngineException}
+     * <p>
+     * The {@link ExceptionInfo#getKapuaErrorCode()} is looked up in the content before parsing it, so that the content is parsed only once as the proper {@link ExceptionInfo} type.
      *
      * @param responseText
-     *         The {@link Response} content.
+     *         The response content.
      * @return The correct KapuaException.
      * @since 1.5.0
      */
-    private KapuaException buildJobEngineExceptionFromResponse(String responseText) {
+    KapuaException buildJobEngineExceptionFromResponse(String responseText) {
         try {
             if (StringUtils.isBlank(responseText)) {
                 throw new KapuaRuntimeException(KapuaErrorCodes.INTERNAL_ERROR, "JobEngine returned an error but no message was given");
             }
 
-            ExceptionInfo exceptionInfo = xmlUtil.unmarshalJson(responseText, ExceptionInfo.class);
+            Class<? extends ExceptionInfo> exceptionInfoType = getExceptionInfoType(findKapuaErrorCode(responseText));
+            ExceptionInfo exceptionInfo = xmlUtil.unmarshalJson(responseText, exceptionInfoType);
 
             if (exceptionInfo == null) {
                 throw new KapuaRuntimeException(KapuaErrorCodes.INTERNAL_ERROR,
@@ -296,43 +364,48 @@ public class JobEngineServiceClient implements JobEngineService {
                 throw new KapuaRuntimeException(KapuaErrorCodes.INTERNAL_ERROR, "Job Engine returned an ExceptionInfo without a KapuaErrorCode. Content returned: " + responseText);
             }
 
+            if (!exceptionInfoType.equals(getExceptionInfoType(exceptionInfo.getKapuaErrorCode()))) {
+                // The KapuaErrorCode was not found where expected, so the content was not parsed as the proper type.
+                exceptionInfo = xmlUtil.unmarshalJson(responseText, getExceptionInfoType(exceptionInfo.getKapuaErrorCode()));
+            }
+
             switch (exceptionInfo.getKapuaErrorCode()) {
             case "ENTITY_NOT_FOUND":
-                EntityNotFoundExceptionInfo entityNotFoundExceptionInfo = xmlUtil.unmarshalJson(responseText, EntityNotFoundExceptionInfo.class);
+                EntityNotFoundExceptionInfo entityNotFoundExceptionInfo = (EntityNotFoundExceptionInfo) exceptionInfo;
                 return new KapuaEntityNotFoundException(entityNotFoundExceptionInfo.getEntityType(), entityNotFoundExceptionInfo.getEntityId());
             case "CANNOT_CLEANUP_JOB_DATA":
             case "CANNOT_CLEANUP_JOB_DATA_WITH_CAUSE":
-                CleanJobDataExceptionInfo cleanJobDataExceptionInfo = xmlUtil.unmarshalJson(responseText, CleanJobDataExceptionInfo.class);
+                CleanJobDataExceptionInfo cleanJobDataExceptionInfo = (CleanJobDataExceptionInfo) exceptionInfo;
                 return new CleanJobDataException(cleanJobDataExceptionInfo.getScopeId(), cleanJobDataExceptionInfo.getJobId());
             case "JOB_ALREADY_RUNNING":
-                JobAlreadyRunningExceptionInfo jobAlreadyRunningExceptionInfo = xmlUtil.unmarshalJson(responseText, JobAlreadyRunningExceptionInfo.class);
+                JobAlreadyRunningExceptionInfo jobAlreadyRunningExceptionInfo = (JobAlreadyRunningExceptionInfo) exceptionInfo;
                 return new JobAlreadyRunningException(jobAlreadyRunningExceptionInfo.getScopeId(),
                         jobAlreadyRunningExceptionInfo.getJobId(),
                         jobAlreadyRunningExceptionInfo.getExecutionId(),
                         jobAlreadyRunningExceptionInfo.getJobTargetIdSubset());
             case "JOB_TARGET_INVALID":
-                JobInvalidTargetExceptionInfo jobInvalidTargetExceptionInfo = xmlUtil.unmarshalJson(responseText, JobInvalidTargetExceptionInfo.class);
+                JobInvalidTargetExceptionInfo jobInvalidTargetExceptionInfo = (JobInvalidTargetExceptionInfo) exceptionInfo;
                 return new JobInvalidTargetException(jobInvalidTargetExceptionInfo.getScopeId(), jobInvalidTargetExceptionInfo.getJobId(), jobInvalidTargetExceptionInfo.getJobTargetIdSubset());
             case "JOB_STEP_MISSING":
-                JobMissingStepExceptionInfo jobMissingStepExceptionInfo = xmlUtil.unmarshalJson(responseText, JobMissingStepExceptionInfo.class);
+                JobMissingStepExceptionInfo jobMissingStepExceptionInfo = (JobMissingStepExceptionInfo) exceptionInfo;
                 return new JobMissingStepException(jobMissingStepExceptionInfo.getScopeId(), jobMissingStepExceptionInfo.getJobId());
             case "JOB_TARGET_MISSING":
-                JobMissingTargetExceptionInfo jobMissingTargetExceptionInfo = xmlUtil.unmarshalJson(responseText, JobMissingTargetExceptionInfo.class);
+                JobMissingTargetExceptionInfo jobMissingTargetExceptionInfo = (JobMissingTargetExceptionInfo) exceptionInfo;
                 return new JobMissingTargetException(jobMissingTargetExceptionInfo.getScopeId(), jobMissingTargetExceptionInfo.getJobId());
             case "JOB_NOT_RUNNING":
-                JobNotRunningExceptionInfo jobNotRunningExceptionInfo = xmlUtil.unmarshalJson(responseText, JobNotRunningExceptionInfo.class);
+                JobNotRunningExceptionInfo jobNotRunningExceptionInfo = (JobNotRunningExceptionInfo) exceptionInfo;
                 return new JobNotRunningException(jobNotRunningExceptionInfo.getScopeId(), jobNotRunningExceptionInfo.getJobId());
             case "JOB_RESUMING":
-                JobResumingExceptionInfo jobResumingExceptionInfo = xmlUtil.unmarshalJson(responseText, JobResumingExceptionInfo.class);
+                JobResumingExceptionInfo jobResumingExceptionInfo = (JobResumingExceptionInfo) exceptionInfo;
                 return new JobResumingException(jobResumingExceptionInfo.getScopeId(), jobResumingExceptionInfo.getJobId(), jobResumingExceptionInfo.getExecutionId());
             case "JOB_RUNNING":
-                JobRunningExceptionInfo jobRunningExceptionInfo = xmlUtil.unmarshalJson(responseText, JobRunningExceptionInfo.class);
+                JobRunningExceptionInfo jobRunningExceptionInfo = (JobRunningExceptionInfo) exceptionInfo;
                 return new JobRunningException(jobRunningExceptionInfo.getScopeId(), jobRunningExceptionInfo.getJobId());
             case "JOB_STARTING":
-                JobStartingExceptionInfo jobStartingExceptionInfo = xmlUtil.unmarshalJson(responseText, JobStartingExceptionInfo.class);
+                JobStartingExceptionInfo jobStartingExceptionInfo = (JobStartingExceptionInfo) exceptionInfo;
                 return new JobStartingException(jobStartingExceptionInfo.getScopeId(), jobStartingExceptionInfo.getJobId());
             case "JOB_STOPPING":
-                JobStoppingExceptionInfo jobStoppingExceptionInfo = xmlUtil.unmarshalJson(responseText, JobStoppingExceptionInfo.class);
+                JobStoppingExceptionInfo jobStoppingExceptionInfo = (JobStoppingExceptionInfo) exceptionInfo;
                 return new JobStoppingException(jobStoppingExceptionInfo.getScopeId(), jobStoppingExceptionInfo.getJobId(), jobStoppingExceptionInfo.getExecutionId());
             default:
                 return KapuaException.internalError(exceptionInfo.getMessage());
@@ -342,4 +415,30 @@ public class JobEngineServiceClient implements JobEngineService {
         }
     }
 
+    /**
+     * Looks up the {@link ExceptionInfo#getKapuaErrorCode()} in the response content without parsing it.
+     *
+     * @param responseText
+     *         The response content.
+     * @return The {@link ExceptionInfo#getKapuaErrorCode()}, or {@code null} if not found.
+     * @since 2.1.0
+     */
+    static String findKapuaErrorCode(String responseText) {
+        Matcher matcher = KAPUA_ERROR_CODE_PATTERN.matcher(responseText);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Gets the {@link ExceptionInfo} type which describes the given {@link ExceptionInfo#getKapuaErrorCode()}.
+     *
+     * @param kapuaErrorCode
+     *         The {@link ExceptionInfo#getKapuaErrorCode()}.
+     * @return The {@link ExceptionInfo} type, or {@link ExceptionInfo} itself for the unknown ones.
+     * @since 2.1.0
+     */
+    private static Class<? extends ExceptionInfo> getExceptionInfoType(String kapuaErrorCode) {
+        Class<? extends ExceptionInfo> exceptionInfoType = kapuaErrorCode != null ? EXCEPTION_INFO_TYPES.get(kapuaErrorCode) : null;
+        return exceptionInfoType != null ? exceptionInfoType : ExceptionInfo.class;
+    }
+
 }
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.client.filter;
+
+import com.google.common.net.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.protocol.HttpContext;
+import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
+import org.eclipse.kapua.commons.security.KapuaSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link HttpRequestInterceptor} used to populate HTTP request headers with information about the current {@link KapuaSession}.
+ * <p>
+ * Requests are executed on the calling thread, so the {@link KapuaSession} is the one of the caller.
+ *
+ * @since 2.1.0
+ */
+public class SessionInfoRequestInterceptor implements HttpRequestInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SessionInfoRequestInterceptor.class);
+
+    private final boolean jobEngineClientAuthTrusted;
+
+    /**
+     * Constructor.
+     *
+     * @param jobEngineClientAuthMode The configured authorization mode. Allowed values: {@literal trusted}, {@literal access_token}
+     * @since 2.1.0
+     */
+    public SessionInfoRequestInterceptor(String jobEngineClientAuthMode) {
+        this.jobEngineClientAuthTrusted = "trusted".equals(jobEngineClientAuthMode);
+    }
+
+    @Override
+    public void process(HttpRequest request, HttpContext context) {
+        KapuaSession kapuaSession = KapuaSecurityUtils.getSession();
+        LOG.trace("SessionInfoRequestInterceptor.process, jobEngineClientAuthTrusted: {}, sessionTrusted: {}", jobEngineClientAuthTrusted, kapuaSession.isTrustedMode());
+        if (jobEngineClientAuthTrusted || kapuaSession.isTrustedMode()) {
+            request.setHeader(SessionInfoHttpHeaders.AUTH_MODE, "trusted");
+        } else {
+            request.setHeader(SessionInfoHttpHeaders.AUTH_MODE, "access_token");
+            if (kapuaSession.getAccessToken() != null) {
+                request.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + kapuaSession.getAccessToken().getTokenId());
+            }
+        }
+
+        request.setHeader(SessionInfoHttpHeaders.SCOPE_ID_HTTP_HEADER, kapuaSession.getScopeId().toCompactId());
+        request.setHeader(SessionInfoHttpHeaders.USER_ID_HTTP_HEADER, kapuaSession.getUserId().toCompactId());
+    }
+}
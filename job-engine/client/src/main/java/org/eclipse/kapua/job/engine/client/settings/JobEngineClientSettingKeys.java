@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -29,7 +29,42 @@ public enum JobEngineClientSettingKeys implements SettingKey {
     /**
      * Desired Authorization mode. Allowed values: {@literal trusted}, {@literal access_token}
      */
-    JOB_ENGINE_CLIENT_AUTH_MODE("job.engine.client.auth.mode");
+    JOB_ENGINE_CLIENT_AUTH_MODE("job.engine.client.auth.mode"),
+
+    /**
+     * The maximum number of pooled connections to the Job Engine, which is also the maximum number of concurrent requests.
+     *
+     * @since 2.1.0
+     */
+    JOB_ENGINE_CLIENT_POOL_MAX_CONNECTIONS("job.engine.client.pool.max.connections"),
+
+    /**
+     * The maximum seconds an idle pooled connection is kept alive. The Job Engine {@literal Keep-Alive} response header is honoured when shorter.
+     *
+     * @since 2.1.0
+     */
+    JOB_ENGINE_CLIENT_POOL_KEEP_ALIVE("job.engine.client.pool.keep.alive"),
+
+    /**
+     * The maximum milliseconds to wait for a pooled connection when all of them are in use.
+     *
+     * @since 2.1.0
+     */
+    JOB_ENGINE_CLIENT_POOL_ACQUIRE_TIMEOUT("job.engine.client.pool.acquire.timeout"),
+
+    /**
+     * The connect timeout in milliseconds.
+     *
+     * @since 2.1.0
+     */
+    JOB_ENGINE_CLIENT_CONNECT_TIMEOUT("job.engine.client.connect.timeout"),
+
+    /**
+     * The read timeout in milliseconds. Must be greater than {@literal 0}, so that a Job Engine which stops responding does not hold the pooled connection forever.
+     *
+     * @since 2.1.0
+     */
+    JOB_ENGINE_CLIENT_READ_TIMEOUT("job.engine.client.read.timeout");
 
     private final String key;
 
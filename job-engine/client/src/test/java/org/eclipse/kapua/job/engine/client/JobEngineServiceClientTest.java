@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.client;
+
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaErrorCodes;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.commons.rest.model.errors.EntityNotFoundExceptionInfo;
+import org.eclipse.kapua.commons.rest.model.errors.ExceptionInfo;
+import org.eclipse.kapua.commons.rest.model.errors.JobNotRunningExceptionInfo;
+import org.eclipse.kapua.commons.util.xml.XmlUtil;
+import org.eclipse.kapua.job.engine.client.settings.JobEngineClientSetting;
+import org.eclipse.kapua.job.engine.client.settings.JobEngineClientSettingKeys;
+import org.eclipse.kapua.job.engine.exception.JobNotRunningException;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class JobEngineServiceClientTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId JOB_ID = new KapuaEid(BigInteger.TEN);
+
+    private XmlUtil xmlUtil;
+    private JobEngineServiceClient instance;
+
+    @BeforeEach
+    public void setUp() {
+        JobEngineClientSetting jobEngineClientSetting = Mockito.mock(JobEngineClientSetting.class);
+        Mockito.when(jobEngineClientSetting.getString(JobEngineClientSettingKeys.JOB_ENGINE_BASE_URL)).thenReturn("http://job-engine:8080/v1/");
+        Mockito.when(jobEngineClientSetting.getString(Mockito.eq(JobEngineClientSettingKeys.JOB_ENGINE_CLIENT_AUTH_MODE), Mockito.anyString())).thenReturn("access_token");
+        Mockito.when(jobEngineClientSetting.getInt(Mockito.any(JobEngineClientSettingKeys.class), Mockito.anyInt())).thenAnswer(invocation -> invocation.getArgumentAt(1, Integer.class));
+        Mockito.when(jobEngineClientSetting.getLong(Mockito.any(JobEngineClientSettingKeys.class), Mockito.anyLong())).thenAnswer(invocation -> invocation.getArgumentAt(1, Long.class));
+
+        xmlUtil = Mockito.mock(XmlUtil.class);
+        instance = new JobEngineServiceClient(jobEngineClientSetting, xmlUtil);
+    }
+
+    @Test
+    public void findKapuaErrorCode() {
+        Assertions.assertEquals("JOB_NOT_RUNNING", JobEngineServiceClient.findKapuaErrorCode("{\"type\":\"jobNotRunningExceptionInfo\",\"kapuaErrorCode\":\"JOB_NOT_RUNNING\",\"jobId\":\"Cg\"}"));
+        Assertions.assertEquals("ENTITY_NOT_FOUND", JobEngineServiceClient.findKapuaErrorCode("{\n  \"kapuaErrorCode\" :  \"ENTITY_NOT_FOUND\"\n}"));
+        Assertions.assertNull(JobEngineServiceClient.findKapuaErrorCode("{\"message\":\"kapuaErrorCode is missing\"}"));
+        Assertions.assertNull(JobEngineServiceClient.findKapuaErrorCode("<html>Bad Gateway</html>"));
+    }
+
+    @Test
+    public void buildExceptionParsesOnceAsProperType() throws Exception {
+        String responseText = "{\"kapuaErrorCode\":\"JOB_NOT_RUNNING\",\"scopeId\":\"AQ\",\"jobId\":\"Cg\"}";
+        JobNotRunningExceptionInfo exceptionInfo = newJobNotRunningExceptionInfo();
+        Mockito.doReturn(exceptionInfo).when(xmlUtil).unmarshalJson(responseText, JobNotRunningExceptionInfo.class);
+
+        KapuaException exception = instance.buildJobEngineExceptionFromResponse(responseText);
+
+        Assertions.assertTrue(exception instanceof JobNotRunningException);
+        Assertions.assertEquals(SCOPE_ID, ((JobNotRunningException) exception).getScopeId());
+        Assertions.assertEquals(JOB_ID, ((JobNotRunningException) exception).getJobId());
+        Mockito.verify(xmlUtil, Mockito.times(1)).unmarshalJson(Mockito.anyString(), Mockito.<Class<?>>any());
+    }
+
+    @Test
+    public void buildExceptionWithErrorCodeNotFoundParsesTwice() throws Exception {
+        // Escaped names are not matched by the pattern, so the error code is only known after parsing
+        String responseText = "{\"kapua\\u0045rrorCode\":\"ENTITY_NOT_FOUND\"}";
+        Assertions.assertNull(JobEngineServiceClient.findKapuaErrorCode(responseText));
+
+        ExceptionInfo exceptionInfo = Mockito.mock(ExceptionInfo.class);
+        Mockito.when(exceptionInfo.getKapuaErrorCode()).thenReturn("ENTITY_NOT_FOUND");
+        Mockito.doReturn(exceptionInfo).when(xmlUtil).unmarshalJson(responseText, ExceptionInfo.class);
+
+        EntityNotFoundExceptionInfo entityNotFoundExceptionInfo = Mockito.mock(EntityNotFoundExceptionInfo.class);
+        Mockito.when(entityNotFoundExceptionInfo.getKapuaErrorCode()).thenReturn("ENTITY_NOT_FOUND");
+        Mockito.when(entityNotFoundExceptionInfo.getEntityType()).thenReturn("job");
+        Mockito.when(entityNotFoundExceptionInfo.getEntityId()).thenReturn(JOB_ID);
+        Mockito.doReturn(entityNotFoundExceptionInfo).when(xmlUtil).unmarshalJson(responseText, EntityNotFoundExceptionInfo.class);
+
+        KapuaException exception = instance.buildJobEngineExceptionFromResponse(responseText);
+
+        Assertions.assertTrue(exception instanceof KapuaEntityNotFoundException);
+        Mockito.verify(xmlUtil).unmarshalJson(responseText, ExceptionInfo.class);
+        Mockito.verify(xmlUtil).unmarshalJson(responseText, EntityNotFoundExceptionInfo.class);
+    }
+
+    @Test
+    public void buildExceptionWithUnknownErrorCode() throws Exception {
+        String responseText = "{\"kapuaErrorCode\":\"SOMETHING_ELSE\",\"message\":\"Something else\"}";
+        ExceptionInfo exceptionInfo = Mockito.mock(ExceptionInfo.class);
+        Mockito.when(exceptionInfo.getKapuaErrorCode()).thenReturn("SOMETHING_ELSE");
+        Mockito.when(exceptionInfo.getMessage()).thenReturn("Something else");
+        Mockito.doReturn(exceptionInfo).when(xmlUtil).unmarshalJson(responseText, ExceptionInfo.class);
+
+        KapuaException exception = instance.buildJobEngineExceptionFromResponse(responseText);
+
+        Assertions.assertEquals(KapuaErrorCodes.INTERNAL_ERROR, exception.getCode());
+        Mockito.verify(xmlUtil, Mockito.times(1)).unmarshalJson(Mockito.anyString(), Mockito.<Class<?>>any());
+    }
+
+    private static JobNotRunningExceptionInfo newJobNotRunningExceptionInfo() {
+        JobNotRunningExceptionInfo exceptionInfo = Mockito.mock(JobNotRunningExceptionInfo.class);
+        Mockito.when(exceptionInfo.getKapuaErrorCode()).thenReturn("JOB_NOT_RUNNING");
+        Mockito.when(exceptionInfo.getScopeId()).thenReturn(SCOPE_ID);
+        Mockito.when(exceptionInfo.getJobId()).thenReturn(JOB_ID);
+        return exceptionInfo;
+    }
+}
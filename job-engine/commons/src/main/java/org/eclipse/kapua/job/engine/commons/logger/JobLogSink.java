@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.commons.logger;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.job.execution.JobExecution;
+
+/**
+ * Destination of the {@link JobExecution} log written by the {@link JobLogger}.
+ * <p>
+ * When a {@link JobLogSink} is set into the {@link JobLogger}, the log is handed over in bounded segments while the {@link JobExecution} runs,
+ * so that the {@link JobLogger} does not need to keep the whole log in memory.
+ *
+ * @since 2.1.0
+ */
+public interface JobLogSink {
+
+    /**
+     * Gets the number of characters after which the {@link JobLogger} hands over a segment to this {@link JobLogSink}.
+     *
+     * @return The number of characters after which the {@link JobLogger} hands over a segment.
+     * @since 2.1.0
+     */
+    int getSegmentLengthMax();
+
+    /**
+     * Stores a segment of the {@link JobExecution} log.
+     *
+     * @param scopeId        The {@link JobExecution#getScopeId()}.
+     * @param jobId          The {@link JobExecution#getJobId()}.
+     * @param jobExecutionId The {@link JobExecution#getId()}.
+     * @param segment        The log lines to store.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    void append(KapuaId scopeId, KapuaId jobId, KapuaId jobExecutionId, String segment) throws KapuaException;
+}
@@ -36,6 +36,10 @@ import java.util.TimeZone;
  * This {@link JobLogger} logs to the standard {@link Logger} of the current Java class (after setting it using {@link #setClassLog(Logger)})
  * and keeps a copy of the log inside. Then, by invoking {@link #flush()} method it is possible to retrieve the copy of the log and store it
  * into the {@link org.eclipse.kapua.service.job.execution.JobExecution#setLog(String)}.
+ * <p>
+ * When a {@link JobLogSink} is set (see {@link #setJobLogSink(JobLogSink)}), the copy of the log is handed over to the {@link JobLogSink} in segments
+ * of at most {@link JobLogSink#getSegmentLengthMax()} characters as soon as the {@link JobExecution#getId()} is known.
+ * This keeps the memory used by the {@link JobLogger} bounded regardless of the size of the {@link org.eclipse.kapua.service.job.Job}.
  *
  * @since 1.1.0
  */
@@ -67,6 +71,8 @@ public class JobLogger {
     private KapuaId jobExecutionId;
     private String jobName;
 
+    private JobLogSink jobLogSink;
+
     /**
      * Initialize the mandatory info of the {@link JobExecution} to use when logging.
      *
@@ -91,6 +97,16 @@ public class JobLogger {
         this.jobExecutionId = jobExecutionId;
     }
 
+    /**
+     * Sets the {@link JobLogSink} where to hand over the log of the {@link JobExecution} while it runs.
+     *
+     * @param jobLogSink The {@link JobLogSink} to use.
+     * @since 2.1.0
+     */
+    public void setJobLogSink(JobLogSink jobLogSink) {
+        this.jobLogSink = jobLogSink;
+    }
+
     /**
      * Sets the {@link Logger} of the class that is invoking this {@link JobLogger}.
      * <p>
@@ -146,7 +162,7 @@ public class JobLogger {
 
             tokenizeFormat(formatSb);
 
-            logSb.append(MessageFormat.format(formatSb.toString(), finalArguments.toArray())).append(LF);
+            appendExecutionLog(MessageFormat.format(formatSb.toString(), finalArguments.toArray()));
         } catch (Exception e) {
             LOG.error(CANNOT_LOG_THIS_LINE + format, e);
         }
@@ -228,7 +244,7 @@ public class JobLogger {
 
             tokenizeFormat(formatSb);
 
-            logSb.append(MessageFormat.format(formatSb.toString(), finalArguments.toArray())).append(LF);
+            appendExecutionLog(MessageFormat.format(formatSb.toString(), finalArguments.toArray()));
         } catch (Exception e) {
             LOG.error(CANNOT_LOG_THIS_LINE + format, e);
         }
@@ -310,7 +326,7 @@ public class JobLogger {
 
             tokenizeFormat(formatSb);
 
-            logSb.append(MessageFormat.format(formatSb.toString(), finalArguments.toArray())).append(LF);
+            appendExecutionLog(MessageFormat.format(formatSb.toString(), finalArguments.toArray()));
         } catch (Exception e) {
             LOG.error(CANNOT_LOG_THIS_LINE + format, e);
         }
@@ -318,6 +334,9 @@ public class JobLogger {
 
     /**
      * Returns all the log stored into {@code this} JobLogger and clears the current content.
+     * <p>
+     * If a {@link JobLogSink} is set, the returned log is also handed over to the {@link JobLogSink} as the last segment.
+     * In this case the returned log only contains the lines not yet handed over to the {@link JobLogSink}.
      *
      * @return The current stored log.
      * @since 1.1.0
@@ -327,10 +346,53 @@ public class JobLogger {
 
         logSb = new StringBuilder();
 
+        if (!log.isEmpty()) {
+            writeSegment(log);
+        }
+
         return log;
     }
     // Private methods
 
+    /**
+     * Appends the given line to the {@link JobExecution} log and hands over a segment to the {@link JobLogSink} when the segment length is reached.
+     *
+     * @param line The line to append.
+     * @since 2.1.0
+     */
+    private synchronized void appendExecutionLog(String line) {
+        logSb.append(line).append(LF);
+
+        if (jobLogSink != null && jobExecutionId != null && logSb.length() >= jobLogSink.getSegmentLengthMax()) {
+            String segment = logSb.toString();
+
+            logSb = new StringBuilder();
+
+            writeSegment(segment);
+        }
+    }
+
+    /**
+     * Hands over the given segment to the {@link JobLogSink}, if any.
+     * <p>
+     * If the {@link JobLogSink} fails, the segment is dropped from the {@link JobExecution} log to keep memory bounded
+     * and the error is printed in the {@link JobLogger#LOG}.
+     *
+     * @param segment The segment to hand over.
+     * @since 2.1.0
+     */
+    private void writeSegment(String segment) {
+        if (jobLogSink == null || jobExecutionId == null) {
+            return;
+        }
+
+        try {
+            jobLogSink.append(scopeId, jobId, jobExecutionId, segment);
+        } catch (Exception e) {
+            LOG.error("Cannot store job execution log segment of {} characters for ScopeId: {} - JobId: {} - ExecutionId: {}", segment.length(), scopeId, jobId, jobExecutionId, e);
+        }
+    }
+
     /**
      * Checks that the number of placeholders in the given format matches the number of arguments given.
      * If they do not match, a {@link Logger#warn(String)} is printed in the {@link JobLogger#LOG}.
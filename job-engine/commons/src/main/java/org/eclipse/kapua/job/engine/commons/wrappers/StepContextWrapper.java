@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,19 +22,31 @@ import javax.xml.bind.DatatypeConverter;
 
 import org.eclipse.kapua.KapuaIllegalArgumentException;
 import org.eclipse.kapua.KapuaRuntimeException;
+import org.eclipse.kapua.commons.cache.LocalCache;
 import org.eclipse.kapua.commons.util.xml.XmlUtil;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.id.KapuaIdFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
 
 import com.google.common.base.Strings;
 
 /**
  * {@link StepContextWrapper} wraps the {@link StepContext} and offers utility methods around it.
+ * <p>
+ * The step properties to unmarshal from XML or JSON are parsed once for each {@link StepContext#getStepExecutionId()}, since they do not change while the step runs
+ * and a new {@link StepContextWrapper} is created for each processed target. The parsed value is cached as an XML {@link Document}, from which each following target
+ * unmarshals its own instance, so that changes made while processing a target do not reach the others.
  *
  * @since 1.0.0
  */
 public class StepContextWrapper {
 
+    private static final Logger LOG = LoggerFactory.getLogger(StepContextWrapper.class);
+
+    private static final LocalCache<String, Document> STEP_PROPERTY_DOCUMENTS = new LocalCache<>(1000, 3600, null);
+
     private final KapuaIdFactory kapuaIdFactory;
 
     private StepContext stepContext;
@@ -94,14 +106,36 @@ public class StepContextWrapper {
                     throw new KapuaIllegalArgumentException(stepPropertyName, stepPropertyString);
                 }
             } else {
-                // Try both formats: XML - JSON
-                try {
-                    stepProperty = xmlUtil.unmarshal(stepPropertyString, type);
-                } catch (Exception eXml) {
+                String cacheKey = getStepExecutionId() + "/" + stepPropertyName + "/" + type.getName();
+
+                Document stepPropertyDocument = STEP_PROPERTY_DOCUMENTS.get(cacheKey);
+                if (stepPropertyDocument == null) {
+                    // Try both formats: XML - JSON
                     try {
-                        stepProperty = xmlUtil.unmarshalJson(stepPropertyString, type);
-                    } catch (Exception eJson) {
-                        throw new KapuaIllegalArgumentException(stepPropertyName, stepPropertyString);
+                        stepProperty = xmlUtil.unmarshal(stepPropertyString, type);
+                    } catch (Exception eXml) {
+                        try {
+                            stepProperty = xmlUtil.unmarshalJson(stepPropertyString, type);
+                        } catch (Exception eJson) {
+                            throw new KapuaIllegalArgumentException(stepPropertyName, stepPropertyString);
+                        }
+                    }
+
+                    // The parsed instance is returned, so the cached Document is marshalled before the target can change it.
+                    // If it cannot be marshalled, the following targets parse the step property again
+                    try {
+                        STEP_PROPERTY_DOCUMENTS.put(cacheKey, xmlUtil.marshalDocument(stepProperty));
+                    } catch (Exception e) {
+                        LOG.warn("Error while caching step property {}: {}", stepPropertyName, e.getMessage());
+                    }
+                } else {
+                    // The DOM is not thread-safe, even when only read
+                    synchronized (stepPropertyDocument) {
+                        try {
+                            stepProperty = xmlUtil.unmarshal(stepPropertyDocument, type);
+                        } catch (Exception e) {
+                            throw new KapuaIllegalArgumentException(stepPropertyName, stepPropertyString);
+                        }
                     }
                 }
             }
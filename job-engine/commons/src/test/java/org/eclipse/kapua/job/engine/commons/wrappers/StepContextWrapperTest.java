@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.commons.wrappers;
+
+import org.eclipse.kapua.KapuaIllegalArgumentException;
+import org.eclipse.kapua.commons.util.xml.XmlUtil;
+import org.eclipse.kapua.model.id.KapuaIdFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.w3c.dom.Document;
+
+import javax.batch.runtime.context.StepContext;
+import javax.xml.bind.MarshalException;
+import javax.xml.bind.UnmarshalException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class StepContextWrapperTest {
+
+    private static final String STEP_PROPERTY_NAME = "stepProperty";
+
+    // Step execution ids are unique, so each test gets its own cache entries
+    private static final AtomicLong STEP_EXECUTION_IDS = new AtomicLong();
+
+    private StepContext stepContext;
+    private XmlUtil xmlUtil;
+
+    @BeforeEach
+    public void setUp() {
+        stepContext = Mockito.mock(StepContext.class);
+        Mockito.when(stepContext.getStepExecutionId()).thenReturn(STEP_EXECUTION_IDS.incrementAndGet());
+
+        xmlUtil = Mockito.mock(XmlUtil.class);
+    }
+
+    @Test
+    public void getStepPropertyDoesNotShareInstances() throws Exception {
+        setStepProperty("<list/>");
+        List<String> parsedProperty = new ArrayList<>();
+        Document stepPropertyDocument = Mockito.mock(Document.class);
+        Mockito.when(xmlUtil.unmarshal("<list/>", List.class)).thenReturn(parsedProperty);
+        Mockito.when(xmlUtil.marshalDocument(parsedProperty)).thenReturn(stepPropertyDocument);
+        Mockito.when(xmlUtil.unmarshal(stepPropertyDocument, List.class)).thenAnswer(invocation -> new ArrayList<>());
+
+        List<String> firstTargetProperty = newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class);
+        // Changes made while processing a target do not reach the following targets
+        firstTargetProperty.add("changed");
+        List<String> secondTargetProperty = newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class);
+        List<String> thirdTargetProperty = newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class);
+
+        Assertions.assertSame(parsedProperty, firstTargetProperty);
+        Assertions.assertNotSame(firstTargetProperty, secondTargetProperty);
+        Assertions.assertNotSame(secondTargetProperty, thirdTargetProperty);
+        Assertions.assertTrue(secondTargetProperty.isEmpty());
+
+        // The step property is parsed only for the first target, the others get a copy of the cached Document
+        Mockito.verify(xmlUtil, Mockito.times(1)).unmarshal("<list/>", List.class);
+        Mockito.verify(xmlUtil, Mockito.times(1)).marshalDocument(parsedProperty);
+        Mockito.verify(xmlUtil, Mockito.times(2)).unmarshal(stepPropertyDocument, List.class);
+    }
+
+    @Test
+    public void getStepPropertyParsesJsonOnce() throws Exception {
+        setStepProperty("[]");
+        Document stepPropertyDocument = Mockito.mock(Document.class);
+        Mockito.when(xmlUtil.unmarshal("[]", List.class)).thenThrow(new UnmarshalException("not xml"));
+        Mockito.when(xmlUtil.unmarshalJson("[]", List.class)).thenAnswer(invocation -> new ArrayList<>());
+        Mockito.when(xmlUtil.marshalDocument(Mockito.any())).thenReturn(stepPropertyDocument);
+        Mockito.when(xmlUtil.unmarshal(stepPropertyDocument, List.class)).thenAnswer(invocation -> new ArrayList<>());
+
+        Assertions.assertNotNull(newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class));
+        Assertions.assertNotNull(newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class));
+
+        // Both formats are tried only for the first target
+        Mockito.verify(xmlUtil, Mockito.times(1)).unmarshal("[]", List.class);
+        Mockito.verify(xmlUtil, Mockito.times(1)).unmarshalJson("[]", List.class);
+        Mockito.verify(xmlUtil, Mockito.times(1)).unmarshal(stepPropertyDocument, List.class);
+    }
+
+    @Test
+    public void getStepPropertyNotCached() throws Exception {
+        setStepProperty("<list/>");
+        Mockito.when(xmlUtil.unmarshal("<list/>", List.class)).thenAnswer(invocation -> new ArrayList<>());
+        Mockito.when(xmlUtil.marshalDocument(Mockito.any())).thenThrow(new MarshalException("not marshallable"));
+
+        List<String> firstTargetProperty = newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class);
+        List<String> secondTargetProperty = newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class);
+
+        // The step property is parsed again by each target
+        Assertions.assertNotSame(firstTargetProperty, secondTargetProperty);
+        Mockito.verify(xmlUtil, Mockito.times(2)).unmarshal("<list/>", List.class);
+    }
+
+    @Test
+    public void getStepPropertyWithInvalidValue() throws Exception {
+        setStepProperty("invalid");
+        Mockito.when(xmlUtil.unmarshal("invalid", List.class)).thenThrow(new UnmarshalException("not xml"));
+        Mockito.when(xmlUtil.unmarshalJson("invalid", List.class)).thenThrow(new UnmarshalException("not json"));
+
+        Assertions.assertThrows(KapuaIllegalArgumentException.class, () -> newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class));
+        Assertions.assertThrows(KapuaIllegalArgumentException.class, () -> newStepContextWrapper().getStepProperty(STEP_PROPERTY_NAME, List.class));
+    }
+
+    private void setStepProperty(String stepPropertyValue) {
+        Properties stepProperties = new Properties();
+        stepProperties.setProperty(STEP_PROPERTY_NAME, stepPropertyValue);
+        Mockito.when(stepContext.getProperties()).thenReturn(stepProperties);
+    }
+
+    private StepContextWrapper newStepContextWrapper() {
+        return new StepContextWrapper(Mockito.mock(KapuaIdFactory.class), stepContext, xmlUtil);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -95,6 +95,10 @@ public class JobEngineServiceJbatch implements JobEngineService {
         if (job == null) {
             throw new KapuaEntityNotFoundException(Job.TYPE, jobId);
         }
+        // Check running. A run on all targets always overlaps with a running execution, so it would be rejected when started
+        if (jobStartOptions.getTargetIdSublist().isEmpty() && !jobStartOptions.getEnqueue() && jbatchDriver.isRunningJob(scopeId, jobId)) {
+            throw new JobRunningException(scopeId, jobId);
+        }
         // Check job targets
         JobTargetQuery jobTargetQuery = jobTargetFactory.newQuery(scopeId);
         jobTargetQuery.setPredicate(jobTargetQuery.attributePredicate(JobTargetAttributes.JOB_ID, jobId));
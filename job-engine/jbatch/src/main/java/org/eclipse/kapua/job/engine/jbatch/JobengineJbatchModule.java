@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,10 @@ import javax.inject.Singleton;
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
 import org.eclipse.kapua.job.engine.JobEngineFactory;
 import org.eclipse.kapua.job.engine.JobEngineService;
+import org.eclipse.kapua.job.engine.commons.logger.JobLogSink;
 import org.eclipse.kapua.job.engine.jbatch.driver.JbatchDriver;
 import org.eclipse.kapua.job.engine.jbatch.driver.utils.JobDefinitionBuildUtils;
+import org.eclipse.kapua.job.engine.jbatch.logger.JobExecutionLogServiceSink;
 import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSetting;
 import org.eclipse.kapua.service.job.execution.JobExecutionService;
 import org.eclipse.kapua.service.job.step.JobStepFactory;
@@ -27,14 +29,17 @@ import org.eclipse.kapua.service.job.step.JobStepService;
 import org.eclipse.kapua.service.job.step.definition.JobStepDefinitionService;
 
 import com.google.inject.Provides;
+import com.google.inject.multibindings.OptionalBinder;
 
 public class JobengineJbatchModule extends AbstractKapuaModule {
 
     @Override
     protected void configureModule() {
-        bind(JobEngineFactory.class).to(JobEngineFactoryJbatch.class).in(Singleton.class);
-        bind(JobEngineService.class).to(JobEngineServiceJbatch.class).in(Singleton.class);
+        // Overrides the remote client default bindings when both modules are loaded by the same locator, which none of the shipped applications does
+        OptionalBinder.newOptionalBinder(binder(), JobEngineFactory.class).setBinding().to(JobEngineFactoryJbatch.class).in(Singleton.class);
+        OptionalBinder.newOptionalBinder(binder(), JobEngineService.class).setBinding().to(JobEngineServiceJbatch.class).in(Singleton.class);
         bind(JobEngineSetting.class).in(Singleton.class);
+        bind(JobLogSink.class).to(JobExecutionLogServiceSink.class).in(Singleton.class);
     }
 
     @Provides
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -318,7 +318,26 @@ public class JbatchDriver {
      * @since 1.0.0
      */
     public boolean isRunningJob(@NotNull KapuaId scopeId, @NotNull KapuaId jobId) {
-        return !getRunningJobExecutions(scopeId, jobId).isEmpty();
+        return isRunningJob(scopeId, jobId, null);
+    }
+
+    /**
+     * Checks whether or not the {@link Job} identified by the parameters has a running jBatch {@link JobExecution} other than the given one.
+     * <p>
+     * jBatch {@link Job} running statuses are listed in {@link JbatchJobRunningStatuses}
+     *
+     * @param scopeId
+     *         The scopeId of the {@link Job}
+     * @param jobId
+     *         The id of the {@link Job}
+     * @param excludedJbatchExecutionId
+     *         The {@link JobExecution#getExecutionId()} to ignore, if any.
+     * @return {@code true} if the jBatch {@link Job} has another running {@link JobExecution}, {@code false} otherwise.
+     * @see JPAPersistenceManagerImpl#hasRunningExecutions(String, Long)
+     * @since 2.1.0
+     */
+    public boolean isRunningJob(@NotNull KapuaId scopeId, @NotNull KapuaId jobId, Long excludedJbatchExecutionId) {
+        return getPersistenceManager().hasRunningExecutions(getJbatchJobName(scopeId, jobId), excludedJbatchExecutionId);
     }
 
     /**
@@ -337,13 +356,17 @@ public class JbatchDriver {
     public void cleanJobData(@NotNull KapuaId scopeId, @NotNull KapuaId jobId) throws CleanJobDataDriverException {
         String jobName = getJbatchJobName(scopeId, jobId);
         try {
-            ((JPAPersistenceManagerImpl) ServicesManagerImpl.getInstance().getPersistenceManagerService()).purgeByName(jobName);
+            getPersistenceManager().purgeByName(jobName);
         } catch (Exception ex) {
             throw new CleanJobDataDriverException(ex, jobName);
         }
     }
 
     // Private methods
+    private static JPAPersistenceManagerImpl getPersistenceManager() {
+        return (JPAPersistenceManagerImpl) ServicesManagerImpl.getInstance().getPersistenceManagerService();
+    }
+
     private List<JobExecution> getRunningJobExecutions(@NotNull KapuaId scopeId, @NotNull KapuaId jobId) {
         return getJobExecutions(scopeId, jobId).stream().filter(je -> JbatchJobRunningStatuses.getStatuses().contains(je.getBatchStatus())).collect(Collectors.toList());
     }
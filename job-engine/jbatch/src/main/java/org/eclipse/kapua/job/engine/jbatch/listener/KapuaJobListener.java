@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,12 @@ package org.eclipse.kapua.job.engine.jbatch.listener;
 
 import java.util.Date;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.Timer;
 
 import javax.batch.api.listener.AbstractJobListener;
 import javax.batch.api.listener.JobListener;
-import javax.batch.runtime.BatchRuntime;
 import javax.batch.runtime.context.JobContext;
 import javax.inject.Inject;
 
@@ -29,6 +27,7 @@ import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
 import org.eclipse.kapua.commons.util.xml.XmlUtil;
 import org.eclipse.kapua.job.engine.JobStartOptions;
+import org.eclipse.kapua.job.engine.commons.logger.JobLogSink;
 import org.eclipse.kapua.job.engine.commons.logger.JobLogger;
 import org.eclipse.kapua.job.engine.commons.model.JobTargetSublist;
 import org.eclipse.kapua.job.engine.commons.wrappers.JobContextWrapper;
@@ -96,6 +95,8 @@ public class KapuaJobListener extends AbstractJobListener implements JobListener
     private JbatchDriver jbatchDriver;
     @Inject
     private XmlUtil xmlUtil;
+    @Inject
+    private JobLogSink jobLogSink;
 
     /**
      * Before starting the actual {@link org.eclipse.kapua.service.job.Job} processing, create the {@link JobExecution} to track progress and check if there are other {@link JobExecution}s running
@@ -159,6 +160,7 @@ public class KapuaJobListener extends AbstractJobListener implements JobListener
         }
 
         jobLogger.setJobExecutionId(jobExecution.getId());
+        jobLogger.setJobLogSink(jobLogSink);
 
         jobContextWrapper.setKapuaExecutionId(jobExecution.getId());
 
@@ -166,7 +168,7 @@ public class KapuaJobListener extends AbstractJobListener implements JobListener
                 jobExecution.getScopeId(),
                 jobExecution.getJobId(),
                 jobExecution.getId(),
-                jobContextWrapper.getJobName(),
+                jobContextWrapper.getExecutionId(),
                 jobExecution.getTargetIds());
 
         if (runningJobExecution != null) {
@@ -309,11 +311,11 @@ public class KapuaJobListener extends AbstractJobListener implements JobListener
     /**
      * Checks if there are other {@link JobExecution}s running in this moment.
      * <p>
-     * First it checks for an execution running from the {@link BatchRuntime}. This will return the jBatch execution ids that are currently active.
+     * First it checks for another jBatch execution running with {@link JbatchDriver#isRunningJob(KapuaId, KapuaId, Long)}.
      * <p>
-     * If 0, no {@link JobExecution} is currently running, returns {@code null}.
+     * If none, no other {@link JobExecution} is currently running, returns {@code null}.
      * <p>
-     * If greater than 0, it checks if the running {@link JobExecution} has a subset of {@link org.eclipse.kapua.service.job.targets.JobTarget}s compatible with the current {@link JobTargetSublist}.
+     * Otherwise it checks if the running {@link JobExecution} has a subset of {@link org.eclipse.kapua.service.job.targets.JobTarget}s compatible with the current {@link JobTargetSublist}.
      * If the current {@link JobTargetSublist} doesn't match {@link org.eclipse.kapua.service.job.targets.JobTarget}s of any other running JobExecution, returns the current running
      * {@link JobExecution}.
      * <p>
@@ -325,8 +327,8 @@ public class KapuaJobListener extends AbstractJobListener implements JobListener
      *         The current {@link JobExecution#getJobId()}.
      * @param currentJobExecutionId
      *         The current {@link JobExecution#getId()}.
-     * @param jobName
-     *         The current {@link JobContextWrapper#getJobName()}.
+     * @param currentJbatchExecutionId
+     *         The current {@link JobContext#getExecutionId()}.
      * @param jobTargetIdSubset
      *         The current {@link JobExecution#getTargetIds()} }.
      * @return The other running {@link JobExecution} or {@code null} if there is no other running {@link JobExecution}.
@@ -334,9 +336,8 @@ public class KapuaJobListener extends AbstractJobListener implements JobListener
      *         If any error happens during the processing.
      * @since 1.1.0
      */
-    private JobExecution getAnotherJobExecutionRunning(KapuaId scopeId, KapuaId jobId, KapuaId currentJobExecutionId, String jobName, Set<KapuaId> jobTargetIdSubset) throws KapuaException {
-        List<Long> runningExecutionsIds = BatchRuntime.getJobOperator().getRunningExecutions(jobName);
-        if (runningExecutionsIds.size() > 1) {
+    private JobExecution getAnotherJobExecutionRunning(KapuaId scopeId, KapuaId jobId, KapuaId currentJobExecutionId, Long currentJbatchExecutionId, Set<KapuaId> jobTargetIdSubset) throws KapuaException {
+        if (jbatchDriver.isRunningJob(scopeId, jobId, currentJbatchExecutionId)) {
 
             JobExecutionQuery jobExecutionQuery = jobExecutionFactory.newQuery(scopeId);
 
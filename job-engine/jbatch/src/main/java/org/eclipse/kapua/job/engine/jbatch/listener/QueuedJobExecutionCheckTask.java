@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -69,7 +69,8 @@ public class QueuedJobExecutionCheckTask extends TimerTask {
             query.setPredicate(
                     new AndPredicateImpl(
                             new AttributePredicateImpl<>(QueuedJobExecutionAttributes.JOB_ID, jobId),
-                            new AttributePredicateImpl<>(QueuedJobExecutionAttributes.WAIT_FOR_JOB_EXECUTION_ID, jobExecutionId)
+                            new AttributePredicateImpl<>(QueuedJobExecutionAttributes.WAIT_FOR_JOB_EXECUTION_ID, jobExecutionId),
+                            new AttributePredicateImpl<>(QueuedJobExecutionAttributes.STATUS, QueuedJobExecutionStatus.QUEUED)
                     )
             );
 
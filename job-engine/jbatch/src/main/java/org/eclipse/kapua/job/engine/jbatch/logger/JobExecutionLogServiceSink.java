@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.logger;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
+import org.eclipse.kapua.job.engine.commons.logger.JobLogSink;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSetting;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSettingKeys;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogService;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * {@link JobLogSink} implementation which stores segments with the {@link JobExecutionLogService}.
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class JobExecutionLogServiceSink implements JobLogSink {
+
+    private final JobExecutionLogService jobExecutionLogService;
+    private final int segmentLengthMax;
+
+    @Inject
+    public JobExecutionLogServiceSink(JobExecutionLogService jobExecutionLogService, JobEngineSetting jobEngineSetting) {
+        this.jobExecutionLogService = jobExecutionLogService;
+        this.segmentLengthMax = jobEngineSetting.getInt(JobEngineSettingKeys.JOB_ENGINE_LOG_SEGMENT_LENGTH_MAX);
+    }
+
+    @Override
+    public int getSegmentLengthMax() {
+        return segmentLengthMax;
+    }
+
+    @Override
+    public void append(KapuaId scopeId, KapuaId jobId, KapuaId jobExecutionId, String segment) throws KapuaException {
+        KapuaSecurityUtils.doPrivileged(() -> jobExecutionLogService.append(scopeId, jobId, jobExecutionId, segment));
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -28,9 +28,11 @@ import com.ibm.jbatch.container.status.JobStatus;
 import com.ibm.jbatch.container.status.StepStatus;
 import com.ibm.jbatch.spi.services.IBatchConfig;
 import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.cache.LocalCache;
 import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
 import org.eclipse.kapua.commons.setting.system.SystemSetting;
 import org.eclipse.kapua.commons.setting.system.SystemSettingKey;
+import org.eclipse.kapua.job.engine.jbatch.driver.JbatchJobRunningStatuses;
 import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaCheckpointData;
 import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaCheckpointDataRepository;
 import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaCheckpointDataRepositoryImpl;
@@ -50,6 +52,9 @@ import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaStepExecutionInsta
 import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaStepStatus;
 import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaStepStatusRepository;
 import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaStepStatusRepositoryImpl;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSetting;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSettingKeys;
+import org.eclipse.kapua.locator.KapuaLocator;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.storage.TxManager;
 import org.slf4j.Logger;
@@ -60,7 +65,9 @@ import javax.batch.runtime.BatchStatus;
 import javax.batch.runtime.JobInstance;
 import javax.batch.runtime.StepExecution;
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -88,6 +95,13 @@ import java.util.stream.Collectors;
  *                    |
  *                    |-- has many -- CheckpointData
  * </pre>
+ * <p>
+ * Data that never changes after creation (the {@link JobInstance} of a job execution, its parameters and the {@link JobInstance} itself with its job XML) is cached,
+ * since jBatch reads it many times while running a job execution.
+ * <p>
+ * {@link CheckpointData} and {@link StepStatus} updates do not read back the entity they have just written.
+ * <p>
+ * Job executions started by this node are tracked in a {@link RunningJobExecutionRegistry} until they end, to answer {@link #hasRunningExecutions(String, Long)} without querying the database.
  *
  * @since 1.2.0
  */
@@ -102,15 +116,61 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     private final JpaStepExecutionInstanceDataRepository stepExecutionInstanceDataRepository;
     private final JpaJobStatusRepository jobStatusRepository;
 
+    private final LocalCache<Long, Long> jobInstanceIdCache;
+    private final LocalCache<Long, Properties> jobParametersCache;
+    private final LocalCache<Long, JpaJobInstanceData> jobInstanceDataCache;
+
+    private final RunningJobExecutionRegistry runningJobExecutionRegistry = new RunningJobExecutionRegistry();
+
     //TODO: can these be injected instead?
     public JPAPersistenceManagerImpl() {
-        this.txManager = new KapuaJpaTxManagerFactory(SystemSetting.getInstance().getInt(SystemSettingKey.KAPUA_INSERT_MAX_RETRY)).create("jbatch");
-        this.checkpointDataRepository = new JpaCheckpointDataRepositoryImpl();
-        this.executionInstanceDataRepository = new JpaExecutionInstanceDataRepositoryImpl();
-        this.jobInstanceDataRepository = new JpaJobInstanceDataRepositoryImpl();
-        this.stepStatusRepository = new JpaStepStatusRepositoryImpl();
-        this.stepExecutionInstanceDataRepository = new JpaStepExecutionInstanceDataRepositoryImpl();
-        this.jobStatusRepository = new JpaJobStatusRepositoryImpl();
+        this(
+                new KapuaJpaTxManagerFactory(SystemSetting.getInstance().getInt(SystemSettingKey.KAPUA_INSERT_MAX_RETRY)).create("jbatch"),
+                new JpaCheckpointDataRepositoryImpl(),
+                new JpaExecutionInstanceDataRepositoryImpl(),
+                new JpaJobInstanceDataRepositoryImpl(),
+                new JpaStepStatusRepositoryImpl(),
+                new JpaStepExecutionInstanceDataRepositoryImpl(),
+                new JpaJobStatusRepositoryImpl(),
+                KapuaLocator.getInstance().getComponent(JobEngineSetting.class)
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param txManager                           The jBatch {@link TxManager}.
+     * @param checkpointDataRepository            The {@link JpaCheckpointDataRepository}.
+     * @param executionInstanceDataRepository     The {@link JpaExecutionInstanceDataRepository}.
+     * @param jobInstanceDataRepository           The {@link JpaJobInstanceDataRepository}.
+     * @param stepStatusRepository                The {@link JpaStepStatusRepository}.
+     * @param stepExecutionInstanceDataRepository The {@link JpaStepExecutionInstanceDataRepository}.
+     * @param jobStatusRepository                 The {@link JpaJobStatusRepository}.
+     * @param jobEngineSetting                    The {@link JobEngineSetting} with the cache settings.
+     * @since 2.1.0
+     */
+    JPAPersistenceManagerImpl(
+            TxManager txManager,
+            JpaCheckpointDataRepository checkpointDataRepository,
+            JpaExecutionInstanceDataRepository executionInstanceDataRepository,
+            JpaJobInstanceDataRepository jobInstanceDataRepository,
+            JpaStepStatusRepository stepStatusRepository,
+            JpaStepExecutionInstanceDataRepository stepExecutionInstanceDataRepository,
+            JpaJobStatusRepository jobStatusRepository,
+            JobEngineSetting jobEngineSetting) {
+        this.txManager = txManager;
+        this.checkpointDataRepository = checkpointDataRepository;
+        this.executionInstanceDataRepository = executionInstanceDataRepository;
+        this.jobInstanceDataRepository = jobInstanceDataRepository;
+        this.stepStatusRepository = stepStatusRepository;
+        this.stepExecutionInstanceDataRepository = stepExecutionInstanceDataRepository;
+        this.jobStatusRepository = jobStatusRepository;
+
+        int cacheSizeMax = jobEngineSetting.getInt(JobEngineSettingKeys.JOB_ENGINE_PERSISTENCE_CACHE_SIZE_MAX, 1000);
+        int cacheTtl = jobEngineSetting.getInt(JobEngineSettingKeys.JOB_ENGINE_PERSISTENCE_CACHE_TTL, 3600);
+        this.jobInstanceIdCache = new LocalCache<>(cacheSizeMax, cacheTtl, null);
+        this.jobParametersCache = new LocalCache<>(cacheSizeMax, cacheTtl, null);
+        this.jobInstanceDataCache = new LocalCache<>(cacheSizeMax, cacheTtl, null);
     }
 
     @Override
@@ -135,6 +195,7 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
 
     @Override
     public void updateCheckpointData(CheckpointDataKey checkpointDataKey, CheckpointData checkpointData) {
+        // Written right away: jBatch invokes this within the chunk, before committing the chunk transaction
         try {
             txManager.execute(tx -> checkpointDataRepository.update(tx, checkpointDataKey, checkpointData));
         } catch (Exception e) {
@@ -229,6 +290,7 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     public void deleteJobInstanceData(long jobInstanceId) {
         try {
             txManager.execute(tx -> jobInstanceDataRepository.deleteById(tx, jobInstanceId));
+            evictJobInstances(Collections.singleton(jobInstanceId));
         } catch (Exception e) {
             throw new PersistenceException(e);
         }
@@ -239,6 +301,8 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
      * <p>
      * This relies on the foreign keys with {@code DELETE CASCADE} on jBatch tables to delete all data from all the other tables.
      * Relationship between those table are summarized in the {@link JPAPersistenceManagerImpl} javadoc.
+     * <p>
+     * The cached data of the deleted {@link JobInstance}s and of their job executions is evicted.
      *
      * @param jobName The jBatch job name. See {@link org.eclipse.kapua.job.engine.jbatch.driver.JbatchDriver#getJbatchJobName(KapuaId, KapuaId)}
      * @return The number of records delete on the DB.
@@ -246,7 +310,15 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
      */
     public int purgeByName(String jobName) {
         try {
-            return txManager.execute(tx -> jobInstanceDataRepository.deleteByName(tx, jobName));
+            Set<Long> jobInstanceIds = new HashSet<>();
+            int deleted = txManager.execute(tx -> {
+                // Read in the same transaction of the delete, so that the cached data of all the deleted JobInstances is evicted
+                jobInstanceIds.addAll(jobInstanceDataRepository.getJobInstanceIds(tx, jobName, null, null, null));
+                return jobInstanceDataRepository.deleteByName(tx, jobName);
+            });
+            evictJobInstances(jobInstanceIds);
+            runningJobExecutionRegistry.clear(jobName);
+            return deleted;
         } catch (Exception e) {
             throw new PersistenceException(e);
         }
@@ -276,13 +348,9 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
             }
 
             if (jobStatus.getJobInstance() == null) {
-                JobInstance jobInstance = txManager.execute(tx -> jobInstanceDataRepository.find(tx, jobInstanceId).toJobInstance());
-
-                if (jobInstance == null) {
-                    jobInstance = new JobInstanceImpl(jobInstanceId);
-                }
+                JpaJobInstanceData jpaJobInstanceData = findJobInstanceData(jobInstanceId);
 
-                jobStatus.setJobInstance(jobInstance);
+                jobStatus.setJobInstance(jpaJobInstanceData != null ? jpaJobInstanceData.toJobInstance() : new JobInstanceImpl(jobInstanceId));
             }
             return jobStatus;
         } catch (Exception e) {
@@ -305,6 +373,14 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
         try {
             JpaExecutionInstanceData jpaExecutionInstanceData = txManager.execute(tx -> executionInstanceDataRepository.create(tx, jobInstance.getInstanceId(), jobParameters, batchStatus, new Timestamp(new Date().getTime())));
 
+            jobInstanceIdCache.put(jpaExecutionInstanceData.getId(), jobInstance.getInstanceId());
+            if (JbatchJobRunningStatuses.getStatuses().contains(batchStatus)) {
+                runningJobExecutionRegistry.register(jobInstance.getJobName(), jpaExecutionInstanceData.getId());
+            }
+            if (jobParameters != null) {
+                jobParametersCache.put(jpaExecutionInstanceData.getId(), copyOf(jobParameters));
+            }
+
             RuntimeJobExecution runtimeJobExecution = new RuntimeJobExecution(jobInstance, jpaExecutionInstanceData.getId());
             runtimeJobExecution.setBatchStatus(batchStatus.name());
             runtimeJobExecution.setCreateTime(jpaExecutionInstanceData.getCreateTime());
@@ -392,9 +468,13 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     @Override
     public long jobOperatorQueryJobExecutionJobInstanceId(long key) throws NoSuchJobExecutionException {
         try {
-            Long jobInstanceId = txManager.execute(tx -> executionInstanceDataRepository.getJobExecutionField(tx, key, JpaExecutionInstanceDataFields.JOB_INSTANCE_ID));
+            Long jobInstanceId = jobInstanceIdCache.get(key);
+            if (jobInstanceId == null) {
+                jobInstanceId = txManager.execute(tx -> executionInstanceDataRepository.getJobExecutionField(tx, key, JpaExecutionInstanceDataFields.JOB_INSTANCE_ID));
+            }
 
             if (jobInstanceId != null) {
+                jobInstanceIdCache.put(key, jobInstanceId);
                 return jobInstanceId;
             } else {
                 throw new NoSuchJobExecutionException("Job Instance not found for Job Execution Id: " + key);
@@ -410,10 +490,14 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     @Override
     public Properties getParameters(long jobExecutionId) throws NoSuchJobExecutionException {
         try {
-            Properties jobParameters = txManager.execute(tx -> executionInstanceDataRepository.getJobExecutionField(tx, jobExecutionId, JpaExecutionInstanceDataFields.PARAMETERS));
+            Properties jobParameters = jobParametersCache.get(jobExecutionId);
+            if (jobParameters == null) {
+                jobParameters = txManager.execute(tx -> executionInstanceDataRepository.getJobExecutionField(tx, jobExecutionId, JpaExecutionInstanceDataFields.PARAMETERS));
+            }
 
             if (jobParameters != null) {
-                return jobParameters;
+                jobParametersCache.put(jobExecutionId, jobParameters);
+                return copyOf(jobParameters);
             } else {
                 throw new NoSuchJobExecutionException("Job Instance not found for Job Execution Id: " + jobExecutionId);
             }
@@ -428,6 +512,10 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     public void updateBatchStatusOnly(long executionInstanceDataId, BatchStatus batchStatus, Timestamp updatedOn) {
         try {
             txManager.execute(tx -> executionInstanceDataRepository.updateBatchStatus(tx, executionInstanceDataId, batchStatus, updatedOn));
+
+            if (!JbatchJobRunningStatuses.getStatuses().contains(batchStatus)) {
+                runningJobExecutionRegistry.unregister(executionInstanceDataId);
+            }
         } catch (Exception e) {
             throw new PersistenceException(e);
         }
@@ -437,6 +525,10 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     public void updateWithFinalExecutionStatusesAndTimestamps(long executionInstanceDataId, BatchStatus batchStatus, String exitStatus, Timestamp endedOn) {
         try {
             txManager.execute(tx -> executionInstanceDataRepository.updateBatchStatusEnded(tx, executionInstanceDataId, batchStatus, exitStatus, endedOn));
+
+            if (!JbatchJobRunningStatuses.getStatuses().contains(batchStatus)) {
+                runningJobExecutionRegistry.unregister(executionInstanceDataId);
+            }
         } catch (Exception e) {
             throw new PersistenceException(e);
         }
@@ -454,15 +546,13 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     @Override
     public IJobExecution jobOperatorGetJobExecution(long jobExecutionId) {
         try {
-            return txManager.execute(tx -> {
-                JpaExecutionInstanceData jpaExecutionInstanceData = executionInstanceDataRepository.find(tx, jobExecutionId);
-                JpaJobInstanceData jpaJobInstanceData = jobInstanceDataRepository.find(tx, jpaExecutionInstanceData.getJobInstanceId());
+            JpaExecutionInstanceData jpaExecutionInstanceData = txManager.execute(tx -> executionInstanceDataRepository.find(tx, jobExecutionId));
+            JpaJobInstanceData jpaJobInstanceData = findJobInstanceData(jpaExecutionInstanceData.getJobInstanceId());
 
-                JobOperatorJobExecution jobExecution = jpaExecutionInstanceData.toJobExecution();
-                jobExecution.setJobName(jpaJobInstanceData.getName());
+            JobOperatorJobExecution jobExecution = jpaExecutionInstanceData.toJobExecution();
+            jobExecution.setJobName(jpaJobInstanceData.getName());
 
-                return jobExecution;
-            });
+            return jobExecution;
         } catch (Exception e) {
             throw new PersistenceException(e);
         }
@@ -487,6 +577,30 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
         }
     }
 
+    /**
+     * Checks whether there are job executions of the given jBatch job name in one of the {@link JbatchJobRunningStatuses}.
+     * <p>
+     * Job executions started by this node are looked up in the {@link RunningJobExecutionRegistry}.
+     * Only when none is found a single one is looked up on the database, to find the job executions started by other nodes.
+     * The database is the only state shared by the job engine nodes, so this lookup cannot be answered from memory.
+     *
+     * @param jobName             The jBatch job name. See {@link org.eclipse.kapua.job.engine.jbatch.driver.JbatchDriver#getJbatchJobName(KapuaId, KapuaId)}
+     * @param excludedExecutionId The jBatch job execution id to ignore, if any.
+     * @return {@code true} if there are running job executions other than the excluded one, {@code false} otherwise.
+     * @since 2.1.0
+     */
+    public boolean hasRunningExecutions(String jobName, Long excludedExecutionId) {
+        if (runningJobExecutionRegistry.isRunning(jobName, excludedExecutionId)) {
+            return true;
+        }
+
+        try {
+            return txManager.execute(tx -> executionInstanceDataRepository.hasJobRunningExecutions(tx, jobName, excludedExecutionId));
+        } catch (Exception e) {
+            throw new PersistenceException(e);
+        }
+    }
+
     @Override
     public JobStatus getJobStatusFromExecution(long jobExecutionId) {
         try {
@@ -506,10 +620,7 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     @Override
     public String getTagName(long jobExecutionId) {
         try {
-            JpaJobInstanceData jpaJobInstanceData = txManager.execute(tx -> {
-                JpaExecutionInstanceData jpaExecutionInstanceData = executionInstanceDataRepository.find(tx, jobExecutionId);
-                return jobInstanceDataRepository.find(tx, jpaExecutionInstanceData.getJobInstanceId());
-            });
+            JpaJobInstanceData jpaJobInstanceData = findJobInstanceData(jobOperatorQueryJobExecutionJobInstanceId(jobExecutionId));
             return jpaJobInstanceData.getAppTag();
         } catch (Exception e) {
             throw new PersistenceException(e);
@@ -614,5 +725,59 @@ public class JPAPersistenceManagerImpl implements IPersistenceManagerService {
     public void updateWithFinalPartitionAggregateStepExecution(long rootJobExecutionId, StepContextImpl stepContext) {
         throw new UnsupportedOperationException();
     }
-}
 
+    // Utilities
+
+    /**
+     * Finds the {@link JpaJobInstanceData} by its {@link JpaJobInstanceData#getId()}, which is cached since it does not change after creation.
+     *
+     * @param jobInstanceId The {@link JpaJobInstanceData#getId()}.
+     * @return The {@link JpaJobInstanceData} or {@code null} if not found.
+     * @throws KapuaException if the transaction fails.
+     * @since 2.1.0
+     */
+    private JpaJobInstanceData findJobInstanceData(long jobInstanceId) throws KapuaException {
+        JpaJobInstanceData jpaJobInstanceData = jobInstanceDataCache.get(jobInstanceId);
+        if (jpaJobInstanceData == null) {
+            jpaJobInstanceData = txManager.execute(tx -> jobInstanceDataRepository.find(tx, jobInstanceId));
+
+            if (jpaJobInstanceData != null) {
+                jobInstanceDataCache.put(jobInstanceId, jpaJobInstanceData);
+            }
+        }
+
+        return jpaJobInstanceData;
+    }
+
+    /**
+     * Evicts the cached data of the given {@link JobInstance}s and of their job executions.
+     *
+     * @param jobInstanceIds The {@link JobInstance#getInstanceId()}s to evict.
+     * @since 2.1.0
+     */
+    private void evictJobInstances(Set<Long> jobInstanceIds) {
+        for (Long jobInstanceId : jobInstanceIds) {
+            jobInstanceDataCache.remove(jobInstanceId);
+        }
+
+        for (Long jobExecutionId : jobInstanceIdCache.getAllKeys()) {
+            if (jobInstanceIds.contains(jobInstanceIdCache.get(jobExecutionId))) {
+                jobInstanceIdCache.remove(jobExecutionId);
+                jobParametersCache.remove(jobExecutionId);
+            }
+        }
+    }
+
+    /**
+     * Copies the given {@link Properties}, so that the cached ones are not changed by the caller.
+     *
+     * @param properties The {@link Properties} to copy.
+     * @return The copy of the {@link Properties}.
+     * @since 2.1.0
+     */
+    private static Properties copyOf(Properties properties) {
+        Properties copy = new Properties();
+        copy.putAll(properties);
+        return copy;
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.persistence;
+
+import org.eclipse.kapua.job.engine.jbatch.driver.JbatchJobRunningStatuses;
+
+import javax.batch.runtime.BatchStatus;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of the jBatch job executions in one of the {@link JbatchJobRunningStatuses} started by this node, grouped by jBatch job name.
+ * <p>
+ * It is kept up to date by the {@link JPAPersistenceManagerImpl} along with the {@link BatchStatus} changes written on the database,
+ * so it never reports as running a job execution which has ended on this node.
+ * Job executions started by other nodes are not tracked here, so an empty result must be confirmed by the database.
+ *
+ * @since 2.1.0
+ */
+public class RunningJobExecutionRegistry {
+
+    private final Map<String, Set<Long>> runningExecutionIdsByJobName = new ConcurrentHashMap<>();
+    private final Map<Long, String> jobNamesByExecutionId = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a running job execution.
+     *
+     * @param jobName     The jBatch job name.
+     * @param executionId The jBatch job execution id.
+     * @since 2.1.0
+     */
+    public void register(String jobName, long executionId) {
+        jobNamesByExecutionId.put(executionId, jobName);
+        runningExecutionIdsByJobName.computeIfAbsent(jobName, k -> ConcurrentHashMap.newKeySet()).add(executionId);
+    }
+
+    /**
+     * Unregisters a job execution which is no longer running.
+     *
+     * @param executionId The jBatch job execution id.
+     * @since 2.1.0
+     */
+    public void unregister(long executionId) {
+        String jobName = jobNamesByExecutionId.remove(executionId);
+        if (jobName == null) {
+            return;
+        }
+
+        runningExecutionIdsByJobName.computeIfPresent(jobName, (k, executionIds) -> {
+            executionIds.remove(executionId);
+            return executionIds.isEmpty() ? null : executionIds;
+        });
+    }
+
+    /**
+     * Checks whether this node is running job executions of the given jBatch job name.
+     *
+     * @param jobName             The jBatch job name.
+     * @param excludedExecutionId The jBatch job execution id to ignore, if any.
+     * @return {@code true} if there are running job executions other than the excluded one, {@code false} otherwise.
+     * @since 2.1.0
+     */
+    public boolean isRunning(String jobName, Long excludedExecutionId) {
+        Set<Long> executionIds = runningExecutionIdsByJobName.get(jobName);
+        if (executionIds == null) {
+            return false;
+        }
+
+        return executionIds.stream().anyMatch(executionId -> !executionId.equals(excludedExecutionId));
+    }
+
+    /**
+     * Clears the registered job executions of the given jBatch job name.
+     *
+     * @param jobName The jBatch job name.
+     * @since 2.1.0
+     */
+    public void clear(String jobName) {
+        Set<Long> executionIds = runningExecutionIdsByJobName.remove(jobName);
+        if (executionIds != null) {
+            executionIds.forEach(jobNamesByExecutionId::remove);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -43,7 +43,9 @@ import java.util.Properties;
         @NamedQuery(name = "ExecutionInstanceData.getByJobInstance",
                 query = "SELECT eid FROM ExecutionInstanceData eid WHERE eid.jobInstanceId = :jobInstanceId ORDER BY eid.createTime DESC"),
         @NamedQuery(name = "ExecutionInstanceData.getRunningByJobName",
-                query = "SELECT eid.id FROM ExecutionInstanceData eid INNER JOIN JobInstanceData jid ON eid.jobInstanceId = jid.id WHERE eid.batchStatus IN (:status1, :status2, :status3) AND jid.name = :jobName")
+                query = "SELECT eid.id FROM ExecutionInstanceData eid INNER JOIN JobInstanceData jid ON eid.jobInstanceId = jid.id WHERE eid.batchStatus IN (:status1, :status2, :status3) AND jid.name = :jobName"),
+        @NamedQuery(name = "ExecutionInstanceData.getOtherRunningByJobName",
+                query = "SELECT eid.id FROM ExecutionInstanceData eid INNER JOIN JobInstanceData jid ON eid.jobInstanceId = jid.id WHERE eid.batchStatus IN (:status1, :status2, :status3) AND jid.name = :jobName AND eid.id <> :excludedId")
 })
 public class JpaExecutionInstanceData extends AbstractJpaJbatchEntity {
 
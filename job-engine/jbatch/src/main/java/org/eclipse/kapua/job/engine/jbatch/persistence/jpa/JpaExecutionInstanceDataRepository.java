@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -47,5 +47,7 @@ public interface JpaExecutionInstanceDataRepository {
 
     Set<Long> getJobRunningExecutions(TxContext tx, String jobName);
 
+    boolean hasJobRunningExecutions(TxContext tx, String jobName, Long excludedJobExecutionId);
+
     <T> T getJobExecutionField(TxContext tx, long jobExecutionId, JpaExecutionInstanceDataFields field);
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -151,6 +151,22 @@ public class JpaExecutionInstanceDataRepositoryImpl implements JpaExecutionInsta
         return Sets.newHashSet(selectQuery.getResultList());
     }
 
+    @Override
+    public boolean hasJobRunningExecutions(TxContext tx, String jobName, Long excludedJobExecutionId) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        TypedQuery<Long> selectQuery = em.createNamedQuery("ExecutionInstanceData.getOtherRunningByJobName", Long.class);
+        selectQuery.setParameter("status1", BatchStatus.STARTED);
+        selectQuery.setParameter("status2", BatchStatus.STARTING);
+        selectQuery.setParameter("status3", BatchStatus.STOPPING);
+        selectQuery.setParameter("jobName", jobName);
+        // Job execution ids are generated starting from 1
+        selectQuery.setParameter("excludedId", excludedJobExecutionId != null ? excludedJobExecutionId : -1L);
+        // Only whether one exists is needed
+        selectQuery.setMaxResults(1);
+
+        return !selectQuery.getResultList().isEmpty();
+    }
+
     @Override
     public <T> T getJobExecutionField(TxContext tx, long jobExecutionId, JpaExecutionInstanceDataFields field) {
         final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -57,7 +57,6 @@ public class JpaStepStatusRepositoryImpl implements JpaStepStatusRepository {
 
         em.merge(jpaStepStatus);
         em.flush();
-        em.refresh(jpaStepStatus);
 
         return jpaStepStatus;
     }
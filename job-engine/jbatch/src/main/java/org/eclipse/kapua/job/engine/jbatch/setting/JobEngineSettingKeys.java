@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -28,7 +28,13 @@ public enum JobEngineSettingKeys implements SettingKey {
 
     JOB_ENGINE_QUEUE_CHECK_DELAY("jobEngine.queue.check.delay"),
 
-    JOB_ENGINE_QUEUE_PROCESSING_RUN_DELAY("jobEngine.queue.processing.run.delay");
+    JOB_ENGINE_QUEUE_PROCESSING_RUN_DELAY("jobEngine.queue.processing.run.delay"),
+
+    JOB_ENGINE_LOG_SEGMENT_LENGTH_MAX("jobEngine.log.segment.length.max"),
+
+    JOB_ENGINE_PERSISTENCE_CACHE_SIZE_MAX("jobEngine.persistence.cache.size.max"),
+
+    JOB_ENGINE_PERSISTENCE_CACHE_TTL("jobEngine.persistence.cache.ttl");
 
 
     private String key;
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.listener;
+
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.job.engine.JobEngineService;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSetting;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSettingKeys;
+import org.eclipse.kapua.job.engine.queue.QueuedJobExecutionAttributes;
+import org.eclipse.kapua.job.engine.queue.QueuedJobExecutionFactory;
+import org.eclipse.kapua.job.engine.queue.QueuedJobExecutionQuery;
+import org.eclipse.kapua.job.engine.queue.QueuedJobExecutionService;
+import org.eclipse.kapua.job.engine.queue.QueuedJobExecutionStatus;
+import org.eclipse.kapua.job.engine.queue.jbatch.QueuedJobExecutionImpl;
+import org.eclipse.kapua.job.engine.queue.jbatch.QueuedJobExecutionListResultImpl;
+import org.eclipse.kapua.job.engine.queue.jbatch.QueuedJobExecutionQueryImpl;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.predicate.AndPredicate;
+import org.eclipse.kapua.model.query.predicate.AttributePredicate;
+import org.eclipse.kapua.model.query.predicate.QueryPredicate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class QueuedJobExecutionCheckTaskTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId JOB_ID = new KapuaEid(BigInteger.TEN);
+    private static final KapuaId JOB_EXECUTION_ID = new KapuaEid(BigInteger.valueOf(11));
+    private static final KapuaId QUEUED_JOB_EXECUTION_ID = new KapuaEid(BigInteger.valueOf(12));
+
+    private JobEngineService jobEngineService;
+    private QueuedJobExecutionService queuedJobExecutionService;
+    private QueuedJobExecutionCheckTask instance;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JobEngineSetting jobEngineSetting = Mockito.mock(JobEngineSetting.class);
+        Mockito.when(jobEngineSetting.getInt(JobEngineSettingKeys.JOB_ENGINE_QUEUE_PROCESSING_RUN_DELAY)).thenReturn(0);
+
+        QueuedJobExecutionFactory queuedJobExecutionFactory = Mockito.mock(QueuedJobExecutionFactory.class);
+        Mockito.when(queuedJobExecutionFactory.newQuery(SCOPE_ID)).thenAnswer(invocation -> new QueuedJobExecutionQueryImpl(SCOPE_ID));
+
+        jobEngineService = Mockito.mock(JobEngineService.class);
+        queuedJobExecutionService = Mockito.mock(QueuedJobExecutionService.class);
+
+        instance = new QueuedJobExecutionCheckTask(jobEngineSetting, jobEngineService, queuedJobExecutionService, queuedJobExecutionFactory, SCOPE_ID, JOB_ID, JOB_EXECUTION_ID);
+    }
+
+    @Test
+    public void runResumesOnlyQueued() throws Exception {
+        QueuedJobExecutionImpl queuedJobExecution = new QueuedJobExecutionImpl(SCOPE_ID);
+        queuedJobExecution.setJobId(JOB_ID);
+        queuedJobExecution.setJobExecutionId(QUEUED_JOB_EXECUTION_ID);
+        queuedJobExecution.setWaitForJobExecutionId(JOB_EXECUTION_ID);
+        queuedJobExecution.setStatus(QueuedJobExecutionStatus.QUEUED);
+
+        QueuedJobExecutionListResultImpl queuedJobExecutions = new QueuedJobExecutionListResultImpl();
+        queuedJobExecutions.addItem(queuedJobExecution);
+        Mockito.when(queuedJobExecutionService.query(Mockito.any())).thenReturn(queuedJobExecutions);
+
+        instance.run();
+
+        // The lookup is limited to the executions still queued for the ended execution
+        ArgumentCaptor<QueuedJobExecutionQuery> query = ArgumentCaptor.forClass(QueuedJobExecutionQuery.class);
+        Mockito.verify(queuedJobExecutionService).query(query.capture());
+        Map<String, Object> attributeValues = new HashMap<>();
+        for (QueryPredicate predicate : ((AndPredicate) query.getValue().getPredicate()).getPredicates()) {
+            AttributePredicate<?> attributePredicate = (AttributePredicate<?>) predicate;
+            attributeValues.put(attributePredicate.getAttributeName(), attributePredicate.getAttributeValue());
+        }
+        Assertions.assertEquals(JOB_ID, attributeValues.get(QueuedJobExecutionAttributes.JOB_ID));
+        Assertions.assertEquals(JOB_EXECUTION_ID, attributeValues.get(QueuedJobExecutionAttributes.WAIT_FOR_JOB_EXECUTION_ID));
+        Assertions.assertEquals(QueuedJobExecutionStatus.QUEUED, attributeValues.get(QueuedJobExecutionAttributes.STATUS));
+
+        Mockito.verify(jobEngineService).resumeJobExecution(SCOPE_ID, JOB_ID, QUEUED_JOB_EXECUTION_ID);
+        Mockito.verify(queuedJobExecutionService).update(queuedJobExecution);
+        Assertions.assertEquals(QueuedJobExecutionStatus.PROCESSED, queuedJobExecution.getStatus());
+    }
+
+    @Test
+    public void runMarksFailedToResume() throws Exception {
+        QueuedJobExecutionImpl queuedJobExecution = new QueuedJobExecutionImpl(SCOPE_ID);
+        queuedJobExecution.setJobId(JOB_ID);
+        queuedJobExecution.setJobExecutionId(QUEUED_JOB_EXECUTION_ID);
+        queuedJobExecution.setStatus(QueuedJobExecutionStatus.QUEUED);
+
+        QueuedJobExecutionListResultImpl queuedJobExecutions = new QueuedJobExecutionListResultImpl();
+        queuedJobExecutions.addItem(queuedJobExecution);
+        Mockito.when(queuedJobExecutionService.query(Mockito.any())).thenReturn(queuedJobExecutions);
+        Mockito.doThrow(new IllegalStateException("resume")).when(jobEngineService).resumeJobExecution(SCOPE_ID, JOB_ID, QUEUED_JOB_EXECUTION_ID);
+
+        instance.run();
+
+        Mockito.verify(queuedJobExecutionService).update(queuedJobExecution);
+        Assertions.assertEquals(QueuedJobExecutionStatus.FAILED_TO_RESUME, queuedJobExecution.getStatus());
+    }
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.persistence;
+
+import com.ibm.jbatch.container.services.impl.DelegatingBatchArtifactFactoryImpl;
+import com.ibm.jbatch.spi.BatchSPIManager;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.jpa.JpaTxContext;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaCheckpointDataRepositoryImpl;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaExecutionInstanceDataRepositoryImpl;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaJobInstanceDataRepositoryImpl;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaJobStatusRepositoryImpl;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaStepExecutionInstanceDataRepositoryImpl;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaStepStatusRepositoryImpl;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSetting;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSettingKeys;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.eclipse.kapua.storage.TxManagerImpl;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.batch.api.chunk.AbstractItemReader;
+import javax.batch.api.chunk.AbstractItemWriter;
+import javax.batch.operations.JobOperator;
+import javax.batch.runtime.BatchRuntime;
+import javax.batch.runtime.BatchStatus;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Measures the SQL statements and the transactions that the {@link JPAPersistenceManagerImpl} runs on H2 for a job with 1,000 targets.
+ * <p>
+ * The job runs on the jBatch runtime, with the {@link org.eclipse.kapua.job.engine.jbatch.overrides.callback.KapuaJobEndCallbackManagerImpl} used by the job engine.
+ * Its chunk step reads one item for each target and has the default item count, like the ones built by
+ * {@link org.eclipse.kapua.job.engine.jbatch.driver.utils.JobDefinitionBuildUtils#buildChunkStep(org.eclipse.kapua.service.job.step.definition.JobStepDefinition)}.
+ * The SQL statements are counted from the EclipseLink SQL log.
+ */
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class JPAPersistenceManagerImplStatementCountTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JPAPersistenceManagerImplStatementCountTest.class);
+
+    private static final int ITEM_COUNT = 10;
+
+    private static final AtomicInteger STATEMENTS = new AtomicInteger();
+    private static final AtomicInteger TRANSACTIONS = new AtomicInteger();
+    private static final Semaphore JOB_DATA_DELETED = new Semaphore(0);
+
+    private static volatile int targetCount;
+    private static volatile BatchStatus endedBatchStatus;
+
+    @BeforeAll
+    public static void setUpBatchRuntime() {
+        // Same services of the job engine, except the artifact factory which would inject Kapua services
+        Properties overrides = new Properties();
+        overrides.setProperty("PERSISTENCE_MANAGEMENT_SERVICE", H2PersistenceManager.class.getName());
+        overrides.setProperty("CONTAINER_ARTIFACT_FACTORY_SERVICE", DelegatingBatchArtifactFactoryImpl.class.getName());
+        BatchSPIManager.getInstance().registerBatchContainerOverrideProperties(overrides);
+    }
+
+    @Test
+    public void statementsPerChunk(@TempDir Path jobXmlDirectory) throws Exception {
+        File jobXmlFile = jobXmlDirectory.resolve("statementCount.xml").toFile();
+        Files.write(jobXmlFile.toPath(), jobXml().getBytes(StandardCharsets.UTF_8));
+        String jobXmlName = jobXmlFile.getAbsolutePath().replaceAll("\\.xml$", "");
+
+        // Warms up the persistence unit
+        runJob(jobXmlName, ITEM_COUNT);
+
+        int[] smallJob = runJob(jobXmlName, ITEM_COUNT);
+        int[] largeJob = runJob(jobXmlName, 1000);
+
+        int chunks = (1000 - ITEM_COUNT) / ITEM_COUNT;
+        double statementsPerChunk = (double) (largeJob[0] - smallJob[0]) / chunks;
+        double transactionsPerChunk = (double) (largeJob[1] - smallJob[1]) / chunks;
+        LOG.info("1,000 targets job: {} statements, {} transactions. Per chunk of {} targets: {} statements, {} transactions",
+                largeJob[0], largeJob[1], ITEM_COUNT, statementsPerChunk, transactionsPerChunk);
+
+        // Each chunk updates the reader and writer checkpoints and the step status, each in its own transaction.
+        // Each update reads the entity without reading it back after the write, which is skipped since the values of these chunks do not change
+        Assertions.assertEquals(3.0, statementsPerChunk);
+        Assertions.assertEquals(3.0, transactionsPerChunk);
+    }
+
+    /**
+     * Runs the job and waits for the {@link org.eclipse.kapua.job.engine.jbatch.overrides.callback.JobDataCleanupJobEndCallback}, which is the last one to access the database.
+     *
+     * @param jobXmlName The job XML to run.
+     * @param targets    The number of targets.
+     * @return The SQL statements and the transactions run by the job.
+     */
+    private static int[] runJob(String jobXmlName, int targets) throws Exception {
+        targetCount = targets;
+        endedBatchStatus = null;
+        STATEMENTS.set(0);
+        TRANSACTIONS.set(0);
+
+        JobOperator jobOperator = BatchRuntime.getJobOperator();
+        jobOperator.start(jobXmlName, new Properties());
+        Assertions.assertTrue(JOB_DATA_DELETED.tryAcquire(60, TimeUnit.SECONDS), "Job did not end");
+
+        Assertions.assertEquals(BatchStatus.COMPLETED, endedBatchStatus);
+        return new int[]{STATEMENTS.get(), TRANSACTIONS.get()};
+    }
+
+    private static String jobXml() {
+        return "<job id=\"statementCount\" xmlns=\"http://xmlns.jcp.org/xml/ns/javaee\" version=\"1.0\">" +
+                "<step id=\"step\">" +
+                "<chunk>" +
+                "<reader ref=\"" + TargetReader.class.getName() + "\"/>" +
+                "<writer ref=\"" + TargetWriter.class.getName() + "\"/>" +
+                "</chunk>" +
+                "</step>" +
+                "</job>";
+    }
+
+    /**
+     * The {@link JPAPersistenceManagerImpl} used by jBatch, on H2 and counting the transactions.
+     */
+    public static class H2PersistenceManager extends JPAPersistenceManagerImpl {
+
+        public H2PersistenceManager() {
+            super(
+                    countingTxManager(),
+                    new JpaCheckpointDataRepositoryImpl(),
+                    new JpaExecutionInstanceDataRepositoryImpl(),
+                    new JpaJobInstanceDataRepositoryImpl(),
+                    new JpaStepStatusRepositoryImpl(),
+                    new JpaStepExecutionInstanceDataRepositoryImpl(),
+                    new JpaJobStatusRepositoryImpl(),
+                    jobEngineSetting()
+            );
+        }
+
+        @Override
+        public void updateWithFinalExecutionStatusesAndTimestamps(long executionInstanceDataId, BatchStatus batchStatus, String exitStatus, Timestamp endedOn) {
+            super.updateWithFinalExecutionStatusesAndTimestamps(executionInstanceDataId, batchStatus, exitStatus, endedOn);
+            endedBatchStatus = batchStatus;
+        }
+
+        @Override
+        public void deleteJobInstanceData(long jobInstanceId) {
+            super.deleteJobInstanceData(jobInstanceId);
+            JOB_DATA_DELETED.release();
+        }
+
+        private static JobEngineSetting jobEngineSetting() {
+            JobEngineSetting jobEngineSetting = Mockito.mock(JobEngineSetting.class);
+            Mockito.when(jobEngineSetting.getInt(Mockito.eq(JobEngineSettingKeys.JOB_ENGINE_PERSISTENCE_CACHE_SIZE_MAX), Mockito.anyInt())).thenReturn(1000);
+            Mockito.when(jobEngineSetting.getInt(Mockito.eq(JobEngineSettingKeys.JOB_ENGINE_PERSISTENCE_CACHE_TTL), Mockito.anyInt())).thenReturn(3600);
+            return jobEngineSetting;
+        }
+
+        private static TxManager countingTxManager() {
+            Map<String, Object> configOverrides = new HashMap<>();
+            configOverrides.put(PersistenceUnitProperties.JDBC_DRIVER, "org.h2.Driver");
+            configOverrides.put(PersistenceUnitProperties.JDBC_URL, "jdbc:h2:mem:jbatch;DB_CLOSE_DELAY=-1");
+            configOverrides.put(PersistenceUnitProperties.JDBC_USER, "sa");
+            configOverrides.put(PersistenceUnitProperties.JDBC_PASSWORD, "");
+            // Same as KapuaEntityManagerFactory
+            configOverrides.put(PersistenceUnitProperties.CACHE_SHARED_DEFAULT, "false");
+            configOverrides.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.CREATE_ONLY);
+            configOverrides.put(PersistenceUnitProperties.LOGGING_LOGGER, StatementCountingSessionLog.class.getName());
+            configOverrides.put(PersistenceUnitProperties.LOGGING_LEVEL, SessionLog.WARNING_LABEL);
+            configOverrides.put(PersistenceUnitProperties.CATEGORY_LOGGING_LEVEL_ + SessionLog.SQL, SessionLog.FINE_LABEL);
+
+            EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("jbatch", configOverrides);
+            TxManager txManager = new TxManagerImpl(() -> new JpaTxContext(entityManagerFactory), 3);
+
+            return new TxManager() {
+                @Override
+                public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... justBeforeCommitAdditionalTxConsumers) throws KapuaException {
+                    TRANSACTIONS.incrementAndGet();
+                    return txManager.execute(transactionConsumer, justBeforeCommitAdditionalTxConsumers);
+                }
+
+                @Override
+                public TxContext getTxContext() {
+                    return txManager.getTxContext();
+                }
+            };
+        }
+    }
+
+    /**
+     * Counts the SQL statements logged by EclipseLink.
+     */
+    public static class StatementCountingSessionLog extends AbstractSessionLog {
+
+        @Override
+        public void log(SessionLogEntry sessionLogEntry) {
+            if (SessionLog.SQL.equals(sessionLogEntry.getNameSpace())) {
+                STATEMENTS.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Reads one item for each target.
+     */
+    public static class TargetReader extends AbstractItemReader {
+
+        private int readTargets;
+
+        @Override
+        public Object readItem() {
+            return readTargets < targetCount ? readTargets++ : null;
+        }
+    }
+
+    /**
+     * Writes nothing, so that only the statements of jBatch are counted.
+     */
+    public static class TargetWriter extends AbstractItemWriter {
+
+        @Override
+        public void writeItems(List<Object> items) {
+            // Nothing to write
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.persistence;
+
+import com.ibm.jbatch.container.exception.PersistenceException;
+import com.ibm.jbatch.container.persistence.CheckpointData;
+import com.ibm.jbatch.container.persistence.CheckpointDataKey;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaCheckpointData;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaCheckpointDataRepository;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaExecutionInstanceDataFields;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaExecutionInstanceDataRepository;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaJobInstanceData;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaJobInstanceDataRepository;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaJobStatusRepository;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaStepExecutionInstanceDataRepository;
+import org.eclipse.kapua.job.engine.jbatch.persistence.jpa.JpaStepStatusRepository;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSetting;
+import org.eclipse.kapua.job.engine.jbatch.setting.JobEngineSettingKeys;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class JPAPersistenceManagerImplTest {
+
+    private static final long JOB_INSTANCE_ID = 1L;
+    private static final long JOB_EXECUTION_ID = 10L;
+
+    private final AtomicInteger transactions = new AtomicInteger();
+
+    private JpaCheckpointDataRepository checkpointDataRepository;
+    private JpaExecutionInstanceDataRepository executionInstanceDataRepository;
+    private JpaJobInstanceDataRepository jobInstanceDataRepository;
+    private JPAPersistenceManagerImpl instance;
+
+    @BeforeEach
+    public void setUp() {
+        checkpointDataRepository = Mockito.mock(JpaCheckpointDataRepository.class);
+        executionInstanceDataRepository = Mockito.mock(JpaExecutionInstanceDataRepository.class);
+        jobInstanceDataRepository = Mockito.mock(JpaJobInstanceDataRepository.class);
+
+        JobEngineSetting jobEngineSetting = Mockito.mock(JobEngineSetting.class);
+        Mockito.when(jobEngineSetting.getInt(Mockito.eq(JobEngineSettingKeys.JOB_ENGINE_PERSISTENCE_CACHE_SIZE_MAX), Mockito.anyInt())).thenReturn(1000);
+        Mockito.when(jobEngineSetting.getInt(Mockito.eq(JobEngineSettingKeys.JOB_ENGINE_PERSISTENCE_CACHE_TTL), Mockito.anyInt())).thenReturn(3600);
+
+        TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                transactions.incrementAndGet();
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        instance = new JPAPersistenceManagerImpl(
+                txManager,
+                checkpointDataRepository,
+                executionInstanceDataRepository,
+                jobInstanceDataRepository,
+                Mockito.mock(JpaStepStatusRepository.class),
+                Mockito.mock(JpaStepExecutionInstanceDataRepository.class),
+                Mockito.mock(JpaJobStatusRepository.class),
+                jobEngineSetting
+        );
+    }
+
+    @Test
+    public void getParametersIsCached() throws Exception {
+        Properties jobParameters = new Properties();
+        jobParameters.setProperty("key", "value");
+        Mockito.when(executionInstanceDataRepository.getJobExecutionField(Mockito.<TxContext>any(), Mockito.eq(JOB_EXECUTION_ID), Mockito.eq(JpaExecutionInstanceDataFields.PARAMETERS)))
+                .thenReturn(jobParameters);
+
+        Properties firstRead = instance.getParameters(JOB_EXECUTION_ID);
+        // Changes made by the caller do not reach the cached parameters
+        firstRead.setProperty("key", "changed");
+        Properties secondRead = instance.getParameters(JOB_EXECUTION_ID);
+
+        Assertions.assertEquals("value", secondRead.getProperty("key"));
+        Mockito.verify(executionInstanceDataRepository, Mockito.times(1))
+                .getJobExecutionField(Mockito.<TxContext>any(), Mockito.eq(JOB_EXECUTION_ID), Mockito.eq(JpaExecutionInstanceDataFields.PARAMETERS));
+    }
+
+    @Test
+    public void jobInstanceIdIsCached() throws Exception {
+        Mockito.when(executionInstanceDataRepository.getJobExecutionField(Mockito.<TxContext>any(), Mockito.eq(JOB_EXECUTION_ID), Mockito.eq(JpaExecutionInstanceDataFields.JOB_INSTANCE_ID)))
+                .thenReturn(JOB_INSTANCE_ID);
+
+        Assertions.assertEquals(JOB_INSTANCE_ID, instance.jobOperatorQueryJobExecutionJobInstanceId(JOB_EXECUTION_ID));
+        Assertions.assertEquals(JOB_INSTANCE_ID, instance.jobOperatorQueryJobExecutionJobInstanceId(JOB_EXECUTION_ID));
+
+        Mockito.verify(executionInstanceDataRepository, Mockito.times(1))
+                .getJobExecutionField(Mockito.<TxContext>any(), Mockito.eq(JOB_EXECUTION_ID), Mockito.eq(JpaExecutionInstanceDataFields.JOB_INSTANCE_ID));
+    }
+
+    @Test
+    public void jobInstanceDataIsCached() throws Exception {
+        Mockito.when(executionInstanceDataRepository.getJobExecutionField(Mockito.<TxContext>any(), Mockito.eq(JOB_EXECUTION_ID), Mockito.eq(JpaExecutionInstanceDataFields.JOB_INSTANCE_ID)))
+                .thenReturn(JOB_INSTANCE_ID);
+
+        JpaJobInstanceData jpaJobInstanceData = new JpaJobInstanceData();
+        jpaJobInstanceData.setId(JOB_INSTANCE_ID);
+        jpaJobInstanceData.setAppTag("tag");
+        Mockito.when(jobInstanceDataRepository.find(Mockito.<TxContext>any(), Mockito.eq(JOB_INSTANCE_ID))).thenReturn(jpaJobInstanceData);
+
+        Assertions.assertEquals("tag", instance.getTagName(JOB_EXECUTION_ID));
+        Assertions.assertEquals("tag", instance.getTagName(JOB_EXECUTION_ID));
+
+        Mockito.verify(jobInstanceDataRepository, Mockito.times(1)).find(Mockito.<TxContext>any(), Mockito.eq(JOB_INSTANCE_ID));
+    }
+
+    @Test
+    public void purgeByNameEvictsCaches() throws Exception {
+        Mockito.when(executionInstanceDataRepository.getJobExecutionField(Mockito.<TxContext>any(), Mockito.eq(JOB_EXECUTION_ID), Mockito.eq(JpaExecutionInstanceDataFields.JOB_INSTANCE_ID)))
+                .thenReturn(JOB_INSTANCE_ID);
+
+        JpaJobInstanceData jpaJobInstanceData = new JpaJobInstanceData();
+        jpaJobInstanceData.setId(JOB_INSTANCE_ID);
+        jpaJobInstanceData.setAppTag("tag");
+        Mockito.when(jobInstanceDataRepository.find(Mockito.<TxContext>any(), Mockito.eq(JOB_INSTANCE_ID))).thenReturn(jpaJobInstanceData);
+        Mockito.when(jobInstanceDataRepository.getJobInstanceIds(Mockito.<TxContext>any(), Mockito.eq("job"), (String) Mockito.isNull(), (Integer) Mockito.isNull(), (Integer) Mockito.isNull()))
+                .thenReturn(Collections.singletonList(JOB_INSTANCE_ID));
+        Mockito.when(jobInstanceDataRepository.deleteByName(Mockito.<TxContext>any(), Mockito.eq("job"))).thenReturn(1);
+
+        Assertions.assertEquals("tag", instance.getTagName(JOB_EXECUTION_ID));
+        Assertions.assertEquals(1, instance.purgeByName("job"));
+
+        // The purged JobInstance is read again from the database
+        Mockito.when(jobInstanceDataRepository.find(Mockito.<TxContext>any(), Mockito.eq(JOB_INSTANCE_ID))).thenReturn(null);
+        Assertions.assertThrows(PersistenceException.class, () -> instance.getTagName(JOB_EXECUTION_ID));
+
+        Mockito.verify(executionInstanceDataRepository, Mockito.times(2))
+                .getJobExecutionField(Mockito.<TxContext>any(), Mockito.eq(JOB_EXECUTION_ID), Mockito.eq(JpaExecutionInstanceDataFields.JOB_INSTANCE_ID));
+        Mockito.verify(jobInstanceDataRepository, Mockito.times(2)).find(Mockito.<TxContext>any(), Mockito.eq(JOB_INSTANCE_ID));
+    }
+
+    @Test
+    public void hasRunningExecutionsLooksUpOtherNodes() throws Exception {
+        Mockito.when(executionInstanceDataRepository.hasJobRunningExecutions(Mockito.<TxContext>any(), Mockito.eq("job"), Mockito.eq(JOB_EXECUTION_ID))).thenReturn(true);
+
+        // Nothing is running on this node, so the job executions started by other nodes are looked up
+        Assertions.assertTrue(instance.hasRunningExecutions("job", JOB_EXECUTION_ID));
+        Assertions.assertFalse(instance.hasRunningExecutions("other", null));
+
+        Mockito.verify(executionInstanceDataRepository).hasJobRunningExecutions(Mockito.<TxContext>any(), Mockito.eq("job"), Mockito.eq(JOB_EXECUTION_ID));
+        Mockito.verify(executionInstanceDataRepository).hasJobRunningExecutions(Mockito.<TxContext>any(), Mockito.eq("other"), (Long) Mockito.isNull());
+        Mockito.verify(executionInstanceDataRepository, Mockito.never()).getJobRunningExecutions(Mockito.<TxContext>any(), Mockito.anyString());
+    }
+
+    @Test
+    public void updateCheckpointDataWritesRightAway() throws Exception {
+        CheckpointDataKey checkpointDataKey = new CheckpointDataKey(JOB_INSTANCE_ID, "step", "READER");
+        CheckpointData checkpointData = new CheckpointData(JOB_INSTANCE_ID, "step", "READER");
+
+        instance.updateCheckpointData(checkpointDataKey, checkpointData);
+
+        // Written in its own transaction, without waiting for other updates
+        Mockito.verify(checkpointDataRepository).update(Mockito.<TxContext>any(), Mockito.eq(checkpointDataKey), Mockito.eq(checkpointData));
+        Assertions.assertEquals(1, transactions.get());
+
+        JpaCheckpointData jpaCheckpointData = new JpaCheckpointData();
+        jpaCheckpointData.setObj(checkpointData);
+        Mockito.when(checkpointDataRepository.find(Mockito.<TxContext>any(), Mockito.eq(checkpointDataKey))).thenReturn(jpaCheckpointData);
+
+        Assertions.assertEquals(checkpointData.toString(), instance.getCheckpointData(checkpointDataKey).toString());
+        Mockito.verify(checkpointDataRepository).find(Mockito.<TxContext>any(), Mockito.eq(checkpointDataKey));
+    }
+}
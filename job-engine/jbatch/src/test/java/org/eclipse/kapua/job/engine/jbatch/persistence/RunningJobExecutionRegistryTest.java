@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class RunningJobExecutionRegistryTest {
+
+    private static final String JOB_NAME = "job-AQ-Ag";
+
+    @Test
+    public void isRunningWhileRegistered() {
+        RunningJobExecutionRegistry instance = new RunningJobExecutionRegistry();
+        Assertions.assertFalse(instance.isRunning(JOB_NAME, null));
+
+        instance.register(JOB_NAME, 1L);
+        Assertions.assertTrue(instance.isRunning(JOB_NAME, null));
+        Assertions.assertFalse(instance.isRunning("job-AQ-Aw", null));
+
+        instance.unregister(1L);
+        Assertions.assertFalse(instance.isRunning(JOB_NAME, null));
+    }
+
+    @Test
+    public void isRunningIgnoresExcluded() {
+        RunningJobExecutionRegistry instance = new RunningJobExecutionRegistry();
+        instance.register(JOB_NAME, 1L);
+
+        Assertions.assertFalse(instance.isRunning(JOB_NAME, 1L));
+
+        instance.register(JOB_NAME, 2L);
+        Assertions.assertTrue(instance.isRunning(JOB_NAME, 1L));
+    }
+
+    @Test
+    public void unregisterUnknownExecution() {
+        RunningJobExecutionRegistry instance = new RunningJobExecutionRegistry();
+        instance.register(JOB_NAME, 1L);
+
+        instance.unregister(2L);
+        Assertions.assertTrue(instance.isRunning(JOB_NAME, null));
+    }
+
+    @Test
+    public void clearRemovesJobExecutions() {
+        RunningJobExecutionRegistry instance = new RunningJobExecutionRegistry();
+        instance.register(JOB_NAME, 1L);
+        instance.register(JOB_NAME, 2L);
+
+        instance.clear(JOB_NAME);
+        Assertions.assertFalse(instance.isRunning(JOB_NAME, null));
+
+        // Executions cleared with their job are not unregistered again
+        instance.register(JOB_NAME, 3L);
+        instance.unregister(1L);
+        Assertions.assertTrue(instance.isRunning(JOB_NAME, null));
+    }
+}
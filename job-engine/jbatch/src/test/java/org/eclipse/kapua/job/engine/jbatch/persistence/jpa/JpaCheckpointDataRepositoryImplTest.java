@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.persistence.jpa;
+
+import com.ibm.jbatch.container.persistence.CheckpointData;
+import com.ibm.jbatch.container.persistence.CheckpointDataKey;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.persistence.EntityManager;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class JpaCheckpointDataRepositoryImplTest {
+
+    private static final CheckpointDataKey CHECKPOINT_DATA_KEY = new CheckpointDataKey(1L, "step", "READER");
+
+    private EntityManager entityManager;
+    private JpaAwareTxContext txContext;
+
+    @BeforeEach
+    public void setUp() {
+        entityManager = Mockito.mock(EntityManager.class);
+        txContext = Mockito.mock(JpaAwareTxContext.class);
+        Mockito.when(txContext.getEntityManager()).thenReturn(entityManager);
+    }
+
+    @Test
+    public void updateDoesNotReadBack() {
+        JpaCheckpointData jpaCheckpointData = new JpaCheckpointData();
+        jpaCheckpointData.setId(CHECKPOINT_DATA_KEY.getCommaSeparatedKey());
+        Mockito.when(entityManager.find(JpaCheckpointData.class, CHECKPOINT_DATA_KEY.getCommaSeparatedKey())).thenReturn(jpaCheckpointData);
+
+        CheckpointData checkpointData = new CheckpointData(1L, "step", "READER");
+        JpaCheckpointData updated = new JpaCheckpointDataRepositoryImpl().update(txContext, CHECKPOINT_DATA_KEY, checkpointData);
+
+        Assertions.assertEquals(checkpointData.toString(), updated.toCheckpointData().toString());
+        Mockito.verify(entityManager).merge(jpaCheckpointData);
+        Mockito.verify(entityManager).flush();
+        Mockito.verify(entityManager, Mockito.never()).refresh(Mockito.any());
+    }
+
+    @Test
+    public void updateCreatesMissing() {
+        CheckpointData checkpointData = new CheckpointData(1L, "step", "READER");
+        JpaCheckpointData created = new JpaCheckpointDataRepositoryImpl().update(txContext, CHECKPOINT_DATA_KEY, checkpointData);
+
+        Assertions.assertEquals(CHECKPOINT_DATA_KEY.getCommaSeparatedKey(), created.getId());
+        Mockito.verify(entityManager).persist(created);
+        Mockito.verify(entityManager, Mockito.never()).merge(Mockito.any());
+    }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.persistence.jpa;
+
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.batch.runtime.BatchStatus;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.Collections;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class JpaExecutionInstanceDataRepositoryImplTest {
+
+    private static final String JOB_NAME = "job-AQ-Ag";
+
+    private TypedQuery<Long> selectQuery;
+    private JpaAwareTxContext txContext;
+
+    @BeforeEach
+    public void setUp() {
+        selectQuery = Mockito.mock(TypedQuery.class);
+
+        EntityManager entityManager = Mockito.mock(EntityManager.class);
+        Mockito.when(entityManager.createNamedQuery("ExecutionInstanceData.getOtherRunningByJobName", Long.class)).thenReturn(selectQuery);
+
+        txContext = Mockito.mock(JpaAwareTxContext.class);
+        Mockito.when(txContext.getEntityManager()).thenReturn(entityManager);
+    }
+
+    @Test
+    public void hasJobRunningExecutionsReadsOneRow() {
+        Mockito.when(selectQuery.getResultList()).thenReturn(Collections.singletonList(2L));
+
+        Assertions.assertTrue(new JpaExecutionInstanceDataRepositoryImpl().hasJobRunningExecutions(txContext, JOB_NAME, 1L));
+
+        Mockito.verify(selectQuery).setParameter("jobName", JOB_NAME);
+        Mockito.verify(selectQuery).setParameter("excludedId", 1L);
+        Mockito.verify(selectQuery).setParameter("status1", BatchStatus.STARTED);
+        Mockito.verify(selectQuery).setParameter("status2", BatchStatus.STARTING);
+        Mockito.verify(selectQuery).setParameter("status3", BatchStatus.STOPPING);
+        Mockito.verify(selectQuery).setMaxResults(1);
+    }
+
+    @Test
+    public void hasJobRunningExecutionsWithoutExcluded() {
+        Mockito.when(selectQuery.getResultList()).thenReturn(Collections.<Long>emptyList());
+
+        Assertions.assertFalse(new JpaExecutionInstanceDataRepositoryImpl().hasJobRunningExecutions(txContext, JOB_NAME, null));
+
+        Mockito.verify(selectQuery).setParameter("excludedId", -1L);
+    }
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.job.engine.jbatch.persistence.jpa;
+
+import com.ibm.jbatch.container.status.StepStatus;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.persistence.EntityManager;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class JpaStepStatusRepositoryImplTest {
+
+    private static final long STEP_EXECUTION_ID = 1L;
+
+    @Test
+    public void updateDoesNotReadBack() {
+        EntityManager entityManager = Mockito.mock(EntityManager.class);
+        JpaAwareTxContext txContext = Mockito.mock(JpaAwareTxContext.class);
+        Mockito.when(txContext.getEntityManager()).thenReturn(entityManager);
+
+        JpaStepStatus jpaStepStatus = new JpaStepStatus();
+        jpaStepStatus.setStepExecutionId(STEP_EXECUTION_ID);
+        Mockito.when(entityManager.find(JpaStepStatus.class, STEP_EXECUTION_ID)).thenReturn(jpaStepStatus);
+
+        StepStatus stepStatus = new StepStatus(STEP_EXECUTION_ID);
+        JpaStepStatus updated = new JpaStepStatusRepositoryImpl().update(txContext, STEP_EXECUTION_ID, stepStatus);
+
+        Assertions.assertSame(jpaStepStatus, updated);
+        Mockito.verify(entityManager).merge(jpaStepStatus);
+        Mockito.verify(entityManager).flush();
+        Mockito.verify(entityManager, Mockito.never()).refresh(Mockito.any());
+    }
+}
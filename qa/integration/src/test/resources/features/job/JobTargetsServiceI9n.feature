@@ -97,6 +97,24 @@ Feature: Job Target service CRUD tests
     Then I count 4
     Then I logout
 
+  Scenario: Bulk creation of job targets skips duplicates
+
+    Given I login as user with name "kapua-sys" and password "kapua-password"
+    And I configure the job service
+      | type    | name                   | value |
+      | boolean | infiniteChildEntities  | true  |
+      | integer | maxNumberChildEntities | 5     |
+    Given I create a job with the name "TestJob"
+    And I bulk add 3 new job target items
+    Then No exception was thrown
+    And The bulk creation created 3 job targets and skipped 0
+    When I bulk add the same job target items again with 2 new ones
+    Then No exception was thrown
+    And The bulk creation created 2 job targets and skipped 3
+    When I count the targets in the current scope
+    Then I count 5
+    Then I logout
+
   Scenario: Query for the targets of a specific job
 
     Given I login as user with name "kapua-sys" and password "kapua-password"
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.core;
+
+import javax.ws.rs.core.MediaType;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches configured {@link Marshaller}s per {@link MediaType}.
+ * <p>
+ * {@link Marshaller}s are not thread-safe, so each thread gets its own instances which are reused across responses served by the same thread.
+ * Each thread keeps the {@link Marshaller}s of the last {@link JAXBContext} only: using a different {@link JAXBContext} replaces them.
+ * <p>
+ * The cache is meant to be a field of the {@link javax.ws.rs.ext.MessageBodyWriter} that uses it,
+ * so that the cached {@link Marshaller}s can be released together with it.
+ *
+ * @since 2.1.0
+ */
+public class JaxbMarshallerCache {
+
+    private final ThreadLocal<ContextMarshallers> marshallers = new ThreadLocal<>();
+
+    /**
+     * Gets the {@link Marshaller} of the current thread for the given {@link JAXBContext} and {@link MediaType}.
+     *
+     * @param jaxbContext The {@link JAXBContext} that creates the {@link Marshaller}.
+     * @param mediaType   The {@link MediaType} the {@link Marshaller} produces.
+     * @return The cached {@link Marshaller}, created if not present.
+     * @throws JAXBException If the {@link Marshaller} cannot be created.
+     * @since 2.1.0
+     */
+    public Marshaller getMarshaller(JAXBContext jaxbContext, MediaType mediaType) throws JAXBException {
+        ContextMarshallers contextMarshallers = marshallers.get();
+        if (contextMarshallers == null || contextMarshallers.jaxbContext != jaxbContext) {
+            contextMarshallers = new ContextMarshallers(jaxbContext);
+            marshallers.set(contextMarshallers);
+        }
+
+        String mediaTypeKey = mediaType.getType() + "/" + mediaType.getSubtype();
+        Marshaller marshaller = contextMarshallers.marshallers.get(mediaTypeKey);
+        if (marshaller == null) {
+            marshaller = jaxbContext.createMarshaller();
+            contextMarshallers.marshallers.put(mediaTypeKey, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * The {@link Marshaller}s of a thread, all created by the same {@link JAXBContext}.
+     *
+     * @since 2.1.0
+     */
+    private static class ContextMarshallers {
+
+        private final JAXBContext jaxbContext;
+        private final Map<String, Marshaller> marshallers = new HashMap<>();
+
+        private ContextMarshallers(JAXBContext jaxbContext) {
+            this.jaxbContext = jaxbContext;
+        }
+    }
+}
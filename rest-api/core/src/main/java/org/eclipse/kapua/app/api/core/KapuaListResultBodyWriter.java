@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.core;
+
+import org.eclipse.kapua.model.query.KapuaListResult;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.Providers;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link MessageBodyWriter} that writes {@link KapuaListResult}s as XML one item at a time.
+ * <p>
+ * The {@link KapuaListResult} envelope is written directly and each item is marshalled as a fragment, flushing the output every {@link #FLUSH_ITEMS} items.
+ * This way the client starts receiving the response before the whole list has been serialized and the serialized form is never held in memory as a whole.
+ * <p>
+ * The items themselves are already all in memory: the {@link KapuaListResult} is read by the service before it reaches this writer,
+ * and its size is bounded by the {@link org.eclipse.kapua.model.query.KapuaQuery#getLimit()} of the request.
+ *
+ * @since 2.1.0
+ */
+@Provider
+@Produces(MediaType.APPLICATION_XML)
+public class KapuaListResultBodyWriter implements MessageBodyWriter<KapuaListResult<?>> {
+
+    private static final int FLUSH_ITEMS = 100;
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private static final String LIMIT_EXCEEDED = "limitExceeded";
+    private static final String SIZE = "size";
+    private static final String ITEMS = "items";
+    private static final String ITEM = "item";
+    private static final String TOTAL_COUNT = "totalCount";
+    private static final String TOTAL_COUNT_ESTIMATED = "totalCountEstimated";
+
+    private final JaxbMarshallerCache marshallerCache = new JaxbMarshallerCache();
+
+    @Context
+    Providers providers;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return KapuaListResult.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public long getSize(KapuaListResult<?> t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return 0;
+    }
+
+    @Override
+    public void writeTo(KapuaListResult<?> t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        try {
+            if (providers == null) {
+                throw new WebApplicationException("Unable to find any provider.");
+            }
+
+            ContextResolver<JAXBContext> cr = providers.getContextResolver(JAXBContext.class,
+                    MediaType.APPLICATION_XML_TYPE);
+            JAXBContext jaxbContext = cr.getContext(JAXBContext.class);
+            if (jaxbContext == null) {
+                throw new WebApplicationException("Unable to get a JAXBContext.");
+            }
+
+            write(jaxbContext, marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE), t, entityStream);
+        } catch (JAXBException | XMLStreamException e) {
+            throw new WebApplicationException(e);
+        }
+    }
+
+    /**
+     * Writes the given {@link KapuaListResult} to the given {@link OutputStream}.
+     * <p>
+     * If the {@link KapuaListResult} is not a known root element of the {@link JAXBContext} it is marshalled as a whole.
+     *
+     * @param jaxbContext  The {@link JAXBContext} to use.
+     * @param marshaller   The {@link Marshaller} created by the given {@link JAXBContext}, used by the current thread only.
+     * @param listResult   The {@link KapuaListResult} to write.
+     * @param outputStream The {@link OutputStream} to write to.
+     * @throws JAXBException      If an item cannot be marshalled.
+     * @throws XMLStreamException If the envelope cannot be written.
+     * @throws IOException        If the {@link OutputStream} cannot be flushed.
+     * @since 2.1.0
+     */
+    public static void write(JAXBContext jaxbContext, Marshaller marshaller, KapuaListResult<?> listResult, OutputStream outputStream)
+            throws JAXBException, XMLStreamException, IOException {
+        QName rootElementName = jaxbContext.createJAXBIntrospector().getElementName(listResult);
+        if (rootElementName == null) {
+            marshaller.marshal(listResult, outputStream);
+            return;
+        }
+
+        XMLStreamWriter xmlStreamWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+        try {
+            xmlStreamWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            xmlStreamWriter.writeStartElement(rootElementName.getPrefix(), rootElementName.getLocalPart(), rootElementName.getNamespaceURI());
+
+            writeSimpleElement(xmlStreamWriter, LIMIT_EXCEEDED, Boolean.toString(listResult.isLimitExceeded()));
+            writeSimpleElement(xmlStreamWriter, SIZE, Integer.toString(listResult.getSize()));
+
+            // Items
+            xmlStreamWriter.writeStartElement(ITEMS);
+            boolean fragment = Boolean.TRUE.equals(marshaller.getProperty(Marshaller.JAXB_FRAGMENT));
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            try {
+                QName itemName = new QName(ITEM);
+                int written = 0;
+                for (Object item : listResult.getItems()) {
+                    marshaller.marshal(new JAXBElement<>(itemName, Object.class, item), xmlStreamWriter);
+
+                    if (++written % FLUSH_ITEMS == 0) {
+                        xmlStreamWriter.flush();
+                        outputStream.flush();
+                    }
+                }
+            } finally {
+                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, fragment);
+            }
+            xmlStreamWriter.writeEndElement();
+
+            if (listResult.getTotalCount() != null) {
+                writeSimpleElement(xmlStreamWriter, TOTAL_COUNT, Long.toString(listResult.getTotalCount()));
+            }
+            if (listResult.getTotalCountEstimated() != null) {
+                writeSimpleElement(xmlStreamWriter, TOTAL_COUNT_ESTIMATED, Boolean.toString(listResult.getTotalCountEstimated()));
+            }
+
+            xmlStreamWriter.writeEndElement();
+            xmlStreamWriter.writeEndDocument();
+            xmlStreamWriter.flush();
+        } finally {
+            xmlStreamWriter.close();
+        }
+    }
+
+    private static void writeSimpleElement(XMLStreamWriter xmlStreamWriter, String name, String value) throws XMLStreamException {
+        xmlStreamWriter.writeStartElement(name);
+        xmlStreamWriter.writeCharacters(value);
+        xmlStreamWriter.writeEndElement();
+    }
+}
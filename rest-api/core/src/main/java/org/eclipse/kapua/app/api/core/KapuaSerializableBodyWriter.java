@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,8 @@ import org.eclipse.kapua.KapuaSerializable;
 @Produces(MediaType.APPLICATION_XML)
 public class KapuaSerializableBodyWriter implements MessageBodyWriter<KapuaSerializable> {
 
+    private final JaxbMarshallerCache marshallerCache = new JaxbMarshallerCache();
+
     @Context
     Providers providers;
 
@@ -66,7 +68,7 @@ public class KapuaSerializableBodyWriter implements MessageBodyWriter<KapuaSeria
             }
 
             // serialize the entity myBean to the entity output stream
-            jaxbContext.createMarshaller().marshal(t, entityStream);
+            marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE).marshal(t, entityStream);
         } catch (JAXBException e) {
             throw new WebApplicationException(e);
         }
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.core.csv;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes comma-separated values, one row at a time.
+ * <p>
+ * Values are quoted only when they contain a comma, a quote or a line break, as described by RFC 4180.
+ *
+ * @since 2.1.0
+ */
+public class CsvWriter {
+
+    public static final String TEXT_CSV = "text/csv";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_END = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Constructor.
+     *
+     * @param outputStream The {@link OutputStream} to write, encoded in UTF-8.
+     * @since 2.1.0
+     */
+    public CsvWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the given values on their own row.
+     *
+     * @param values The values to write. {@code null} values are written as empty ones.
+     * @throws IOException If the stream cannot be written.
+     * @since 2.1.0
+     */
+    public void write(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeValue(values.get(i));
+        }
+        writer.write(LINE_END);
+    }
+
+    /**
+     * Flushes the rows written so far to the {@link OutputStream}.
+     *
+     * @throws IOException If the stream cannot be written.
+     * @since 2.1.0
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf(QUOTE) < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write(QUOTE);
+        writer.write(value.replace("\"", "\"\""));
+        writer.write(QUOTE);
+    }
+}
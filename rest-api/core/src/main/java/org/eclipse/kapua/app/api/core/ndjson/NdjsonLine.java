@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.core.ndjson;
+
+/**
+ * A line read by the {@link NdjsonReader}.
+ *
+ * @param <T> The type of the line.
+ * @since 2.1.0
+ */
+public class NdjsonLine<T> {
+
+    private final int index;
+    private final T value;
+    private final String error;
+
+    /**
+     * Constructor.
+     *
+     * @param index The position of the line in the stream, starting from {@code 0}.
+     * @param value The unmarshalled value, or {@code null} if the line is not valid.
+     * @param error The reason why the line is not valid, or {@code null} if valid.
+     * @since 2.1.0
+     */
+    public NdjsonLine(int index, T value, String error) {
+        this.index = index;
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Gets the position of the line in the stream, starting from {@code 0}.
+     *
+     * @return The position of the line in the stream.
+     * @since 2.1.0
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the unmarshalled value.
+     *
+     * @return The unmarshalled value, or {@code null} if the line is not valid.
+     * @since 2.1.0
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the reason why the line is not valid.
+     *
+     * @return The reason why the line is not valid, or {@code null} if valid.
+     * @since 2.1.0
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Whether the line has been unmarshalled.
+     *
+     * @return {@code true} if the line is valid, {@code false} otherwise.
+     * @since 2.1.0
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.core.ndjson;
+
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.UnmarshallerProperties;
+
+import javax.ws.rs.core.MediaType;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.helpers.DefaultValidationEventHandler;
+import javax.xml.transform.stream.StreamSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads newline-delimited JSON, one line at a time.
+ * <p>
+ * Each line is unmarshalled on its own with the same settings of the JSON request bodies, so that only a single line is held in memory at any time.
+ * Blank lines are skipped, but still counted in {@link NdjsonLine#getIndex()}.
+ *
+ * @param <T> The type of each line.
+ * @since 2.1.0
+ */
+public class NdjsonReader<T> {
+
+    /**
+     * The newline-delimited JSON media type.
+     *
+     * @since 2.1.0
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final Class<T> type;
+    private final Reader reader;
+    private final int maxLineLength;
+    private final Unmarshaller unmarshaller;
+
+    private final StringBuilder lineBuilder = new StringBuilder();
+    private int nextIndex;
+    private boolean endOfStream;
+
+    /**
+     * Constructor.
+     *
+     * @param jaxbContext   The {@link JAXBContext} which knows the given type.
+     * @param type          The type of each line.
+     * @param inputStream   The {@link InputStream} to read, encoded in UTF-8.
+     * @param maxLineLength The maximum number of characters of a line. Longer lines are skipped and reported as failed.
+     * @throws JAXBException If the {@link Unmarshaller} cannot be created.
+     * @since 2.1.0
+     */
+    public NdjsonReader(JAXBContext jaxbContext, Class<T> type, InputStream inputStream, int maxLineLength) throws JAXBException {
+        this.type = type;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.maxLineLength = maxLineLength;
+
+        unmarshaller = jaxbContext.createUnmarshaller();
+        unmarshaller.setProperty(UnmarshallerProperties.MEDIA_TYPE, MediaType.APPLICATION_JSON);
+        unmarshaller.setProperty(UnmarshallerProperties.JSON_INCLUDE_ROOT, false);
+        unmarshaller.setProperty(JAXBContextProperties.JSON_WRAPPER_AS_ARRAY_NAME, true);
+        unmarshaller.setEventHandler(new DefaultValidationEventHandler());
+    }
+
+    /**
+     * Reads the next non-blank line.
+     *
+     * @return The next {@link NdjsonLine}, or {@code null} at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     * @since 2.1.0
+     */
+    public NdjsonLine<T> next() throws IOException {
+        while (!endOfStream) {
+            int index = nextIndex++;
+            boolean tooLong = readLine();
+
+            if (tooLong) {
+                return new NdjsonLine<>(index, null, String.format("Line longer than %s characters", maxLineLength));
+            }
+
+            String line = lineBuilder.toString().trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            try {
+                return new NdjsonLine<>(index, unmarshaller.unmarshal(new StreamSource(new StringReader(line)), type).getValue(), null);
+            } catch (JAXBException | RuntimeException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                return new NdjsonLine<>(index, null, cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads the next line into the line buffer.
+     *
+     * @return {@code true} if the line is longer than the maximum length and has been skipped, {@code false} otherwise.
+     * @throws IOException If the stream cannot be read.
+     */
+    private boolean readLine() throws IOException {
+        lineBuilder.setLength(0);
+
+        boolean tooLong = false;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (tooLong) {
+                continue;
+            }
+
+            if (lineBuilder.length() >= maxLineLength) {
+                tooLong = true;
+                lineBuilder.setLength(0);
+            } else {
+                lineBuilder.append((char) c);
+            }
+        }
+
+        if (c == -1) {
+            endOfStream = true;
+        }
+        return tooLong;
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.core.ndjson;
+
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.MarshallerProperties;
+
+import javax.ws.rs.core.MediaType;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes newline-delimited JSON, one value at a time.
+ * <p>
+ * Each value is marshalled on its own line with the same settings of the JSON response bodies.
+ *
+ * @since 2.1.0
+ */
+public class NdjsonWriter {
+
+    private final Writer writer;
+    private final Marshaller marshaller;
+
+    /**
+     * Constructor.
+     *
+     * @param jaxbContext  The {@link JAXBContext} which knows the written types.
+     * @param outputStream The {@link OutputStream} to write, encoded in UTF-8.
+     * @throws JAXBException If the {@link Marshaller} cannot be created.
+     * @since 2.1.0
+     */
+    public NdjsonWriter(JAXBContext jaxbContext, OutputStream outputStream) throws JAXBException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        marshaller = jaxbContext.createMarshaller();
+        marshaller.setProperty(MarshallerProperties.MEDIA_TYPE, MediaType.APPLICATION_JSON);
+        marshaller.setProperty(MarshallerProperties.JSON_INCLUDE_ROOT, false);
+        marshaller.setProperty(JAXBContextProperties.JSON_WRAPPER_AS_ARRAY_NAME, true);
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+    }
+
+    /**
+     * Writes the given value on its own line.
+     *
+     * @param value The value to write.
+     * @throws JAXBException If the value cannot be marshalled.
+     * @throws IOException   If the stream cannot be written.
+     * @since 2.1.0
+     */
+    public void write(Object value) throws JAXBException, IOException {
+        marshaller.marshal(value, writer);
+        writer.write('\n');
+    }
+
+    /**
+     * Flushes the values written so far to the {@link OutputStream}.
+     *
+     * @throws IOException If the stream cannot be written.
+     * @since 2.1.0
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
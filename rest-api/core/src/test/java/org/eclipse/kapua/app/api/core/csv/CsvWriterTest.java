@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.core.csv;
+
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@Category(JUnitTests.class)
+public class CsvWriterTest {
+
+    @Test
+    public void writeRowsTest() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CsvWriter writer = new CsvWriter(output);
+
+        writer.write(Arrays.asList("timestamp", "clientId", "channel"));
+        writer.write(Arrays.asList("2025-01-01T00:00:00Z", null, "a/b"));
+        writer.flush();
+
+        Assert.assertEquals("timestamp,clientId,channel\r\n2025-01-01T00:00:00Z,,a/b\r\n", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeQuotedValuesTest() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CsvWriter writer = new CsvWriter(output);
+
+        writer.write(Arrays.asList("a,b", "say \"hi\"", "line\nbreak", "\u00e0\u00e8"));
+        writer.flush();
+
+        Assert.assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\",\u00e0\u00e8\r\n", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void nothingWrittenBeforeFlushTest() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CsvWriter writer = new CsvWriter(output);
+
+        writer.write(Arrays.asList("a", "b"));
+        Assert.assertEquals(0, output.size());
+
+        writer.flush();
+        Assert.assertEquals("a,b\r\n", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.core.ndjson;
+
+import org.eclipse.kapua.app.api.core.model.CountResult;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Category(JUnitTests.class)
+public class NdjsonReaderTest {
+
+    private JAXBContext jaxbContext;
+
+    @Before
+    public void initialize() throws JAXBException {
+        jaxbContext = JAXBContextFactory.createContext(new Class[]{CountResult.class}, null);
+    }
+
+    @Test
+    public void readLinesTest() throws JAXBException, IOException {
+        NdjsonReader<CountResult> reader = newReader("{\"count\":1}\n\n{\"count\":2}\r\n{\"count\":3}", 100);
+
+        NdjsonLine<CountResult> line = reader.next();
+        Assert.assertEquals(0, line.getIndex());
+        Assert.assertTrue(line.isValid());
+        Assert.assertEquals(1, line.getValue().getCount());
+
+        line = reader.next();
+        Assert.assertEquals("Blank lines must be counted", 2, line.getIndex());
+        Assert.assertEquals(2, line.getValue().getCount());
+
+        line = reader.next();
+        Assert.assertEquals(3, line.getIndex());
+        Assert.assertEquals(3, line.getValue().getCount());
+
+        Assert.assertNull(reader.next());
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void readInvalidLinesTest() throws JAXBException, IOException {
+        NdjsonReader<CountResult> reader = newReader("{\"count\":\n{\"count\":\"" + new String(new char[200]).replace('\0', '9') + "\"}\n{\"count\":4}\n", 100);
+
+        NdjsonLine<CountResult> line = reader.next();
+        Assert.assertEquals(0, line.getIndex());
+        Assert.assertFalse("Malformed line must be reported", line.isValid());
+        Assert.assertNull(line.getValue());
+        Assert.assertNotNull(line.getError());
+
+        line = reader.next();
+        Assert.assertEquals(1, line.getIndex());
+        Assert.assertFalse("Too long line must be reported", line.isValid());
+
+        line = reader.next();
+        Assert.assertEquals(2, line.getIndex());
+        Assert.assertTrue("Invalid lines must not affect the following ones", line.isValid());
+        Assert.assertEquals(4, line.getValue().getCount());
+
+        Assert.assertNull(reader.next());
+    }
+
+    @Test
+    public void writeAndReadTest() throws JAXBException, IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        NdjsonWriter writer = new NdjsonWriter(jaxbContext, outputStream);
+        for (long i = 0; i < 10; i++) {
+            writer.write(new CountResult(i));
+        }
+        writer.flush();
+
+        String written = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertEquals(10, written.split("\n").length);
+
+        NdjsonReader<CountResult> reader = newReader(written, 100);
+        for (long i = 0; i < 10; i++) {
+            NdjsonLine<CountResult> line = reader.next();
+            Assert.assertTrue(line.isValid());
+            Assert.assertEquals(i, line.getValue().getCount());
+        }
+        Assert.assertNull(reader.next());
+    }
+
+    private NdjsonReader<CountResult> newReader(String ndjson, int maxLineLength) throws JAXBException {
+        return new NdjsonReader<>(jaxbContext, CountResult.class, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), maxLineLength);
+    }
+}
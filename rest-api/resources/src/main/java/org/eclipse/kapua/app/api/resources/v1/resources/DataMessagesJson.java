@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,22 +12,37 @@
  *******************************************************************************/
 package org.eclipse.kapua.app.api.resources.v1.resources;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.Providers;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
 
 import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.KapuaIllegalArgumentException;
+import org.eclipse.kapua.app.api.core.csv.CsvWriter;
 import org.eclipse.kapua.app.api.core.model.DateParam;
 import org.eclipse.kapua.app.api.core.model.MetricType;
 import org.eclipse.kapua.app.api.core.model.ScopeId;
@@ -36,23 +51,35 @@ import org.eclipse.kapua.app.api.core.model.data.JsonDatastoreMessage;
 import org.eclipse.kapua.app.api.core.model.data.JsonKapuaDataMessage;
 import org.eclipse.kapua.app.api.core.model.data.JsonMessageListResult;
 import org.eclipse.kapua.app.api.core.model.data.JsonMessageQuery;
+import org.eclipse.kapua.app.api.core.ndjson.NdjsonLine;
+import org.eclipse.kapua.app.api.core.ndjson.NdjsonReader;
+import org.eclipse.kapua.app.api.core.ndjson.NdjsonWriter;
 import org.eclipse.kapua.app.api.core.resources.AbstractKapuaResource;
 import org.eclipse.kapua.app.api.resources.v1.resources.marker.JsonSerializationFixed;
+import org.eclipse.kapua.commons.rest.model.errors.ExceptionInfo;
+import org.eclipse.kapua.commons.util.ArgumentValidator;
 import org.eclipse.kapua.message.device.data.KapuaDataMessage;
 import org.eclipse.kapua.message.device.data.KapuaDataMessageFactory;
 import org.eclipse.kapua.message.device.data.KapuaDataPayload;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.type.ObjectValueConverter;
 import org.eclipse.kapua.service.KapuaService;
 import org.eclipse.kapua.service.datastore.MessageStoreFactory;
 import org.eclipse.kapua.service.datastore.MessageStoreService;
+import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettings;
+import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettingsKey;
 import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
 import org.eclipse.kapua.service.datastore.model.MessageListResult;
+import org.eclipse.kapua.service.datastore.model.MessageStoreResult;
 import org.eclipse.kapua.service.datastore.model.query.MessageQuery;
 import org.eclipse.kapua.service.datastore.model.query.predicate.DatastorePredicateFactory;
+import org.eclipse.kapua.service.storable.model.StorableCursor;
 import org.eclipse.kapua.service.storable.model.query.SortDirection;
 import org.eclipse.kapua.service.storable.model.query.SortField;
 import org.eclipse.kapua.service.storable.model.query.StorableFetchStyle;
 import org.eclipse.kapua.service.storable.model.query.XmlAdaptedSortField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @see JsonSerializationFixed
@@ -60,6 +87,8 @@ import org.eclipse.kapua.service.storable.model.query.XmlAdaptedSortField;
 @Path("{scopeId}/data/messages")
 public class DataMessagesJson extends AbstractKapuaResource implements JsonSerializationFixed {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DataMessagesJson.class);
+
     @Inject
     public KapuaDataMessageFactory kapuaDataMessageFactory;
     @Inject
@@ -68,6 +97,17 @@ public class DataMessagesJson extends AbstractKapuaResource implements JsonSeria
     public MessageStoreService messageStoreService;
     @Inject
     public DatastorePredicateFactory datastorePredicateFactory;
+    @Inject
+    public DatastoreSettings datastoreSettings;
+    @Context
+    public Providers providers;
+
+    private static final String CONTENT_ENCODING_GZIP = "gzip";
+    private static final String CONTENT_ENCODING_IDENTITY = "identity";
+    private static final int NDJSON_MAX_LINE_LENGTH = 1024 * 1024;
+    private static final String[] CSV_MANDATORY_COLUMNS = { "datastoreId", "timestamp", "clientId", "channel" };
+    private static final String CSV_ERROR_MARKER = "#error";
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
 
     /**
      * Gets the {@link DatastoreMessage} list in the scope.
@@ -142,34 +182,81 @@ public class DataMessagesJson extends AbstractKapuaResource implements JsonSeria
             JsonKapuaDataMessage jsonKapuaDataMessage)
             throws KapuaException {
 
-        KapuaDataMessage kapuaDataMessage = kapuaDataMessageFactory.newKapuaDataMessage();
+        KapuaDataMessage kapuaDataMessage = toKapuaDataMessage(scopeId, jsonKapuaDataMessage);
+        return returnCreated(new StorableEntityId(messageStoreService.store(kapuaDataMessage).toString()));
+    }
 
-        kapuaDataMessage.setId(jsonKapuaDataMessage.getId());
-        kapuaDataMessage.setScopeId(scopeId);
-        kapuaDataMessage.setDeviceId(jsonKapuaDataMessage.getDeviceId());
-        kapuaDataMessage.setClientId(jsonKapuaDataMessage.getClientId());
-        kapuaDataMessage.setReceivedOn(jsonKapuaDataMessage.getReceivedOn());
-        kapuaDataMessage.setSentOn(jsonKapuaDataMessage.getSentOn());
-        kapuaDataMessage.setCapturedOn(jsonKapuaDataMessage.getCapturedOn());
-        kapuaDataMessage.setPosition(jsonKapuaDataMessage.getPosition());
-        kapuaDataMessage.setChannel(jsonKapuaDataMessage.getChannel());
+    /**
+     * Stores many {@link KapuaDataMessage}s sent as newline-delimited JSON, one {@link JsonKapuaDataMessage} per line.
+     * <p>
+     * The request body is read incrementally, optionally gzip-compressed, and messages are stored in batches of the given size.
+     * The response is newline-delimited JSON as well, with a {@link MessageStoreResult} for each non-blank line, written as soon as its batch is stored.
+     * {@link MessageStoreResult#getIndex()} is the position of the line in the request body, starting from {@code 0}: lines which cannot be read are reported
+     * as soon as they are read, so results are not necessarily in the same order of the lines.
+     * If a whole batch fails, its lines are reported as failed and the remaining lines are not processed.
+     *
+     * @param scopeId         The {@link ScopeId} in which to store the messages.
+     * @param contentEncoding The request body {@code Content-Encoding}. Only {@code gzip} is supported.
+     * @param batchSize       The number of messages stored with each bulk request, at most {@link DatastoreSettingsKey#STORE_BULK_MAX_SIZE}.
+     * @param body            The newline-delimited JSON request body.
+     * @return The newline-delimited JSON {@link MessageStoreResult}s.
+     * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
+     * @since 2.1.0
+     */
+    @POST
+    @Path("_bulk")
+    @Consumes({ NdjsonReader.APPLICATION_NDJSON })
+    @Produces({ NdjsonReader.APPLICATION_NDJSON })
+    public StreamingOutput storeMessagesNdjson(@PathParam("scopeId") ScopeId scopeId,
+            @HeaderParam(HttpHeaders.CONTENT_ENCODING) String contentEncoding,
+            @QueryParam("batchSize") @DefaultValue("500") int batchSize,
+            InputStream body)
+            throws KapuaException {
+        // Checked before streaming, since the whole request would otherwise fail on the first batch
+        ArgumentValidator.numRange(batchSize, 1, datastoreSettings.getInt(DatastoreSettingsKey.STORE_BULK_MAX_SIZE, 1000), "batchSize");
+        if (contentEncoding != null && !CONTENT_ENCODING_GZIP.equalsIgnoreCase(contentEncoding) && !CONTENT_ENCODING_IDENTITY.equalsIgnoreCase(contentEncoding)) {
+            throw new KapuaIllegalArgumentException(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
 
-        KapuaDataPayload kapuaDataPayload = kapuaDataMessageFactory.newKapuaDataPayload();
+        JAXBContext jaxbContext = providers.getContextResolver(JAXBContext.class, MediaType.APPLICATION_JSON_TYPE).getContext(JsonKapuaDataMessage.class);
 
-        if (jsonKapuaDataMessage.getPayload() != null) {
-            kapuaDataPayload.setBody(jsonKapuaDataMessage.getPayload().getBody());
+        return output -> {
+            try (InputStream input = CONTENT_ENCODING_GZIP.equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body) : body) {
+                NdjsonReader<JsonKapuaDataMessage> reader = new NdjsonReader<>(jaxbContext, JsonKapuaDataMessage.class, input, NDJSON_MAX_LINE_LENGTH);
+                NdjsonWriter writer = new NdjsonWriter(jaxbContext, output);
 
-            jsonKapuaDataMessage.getPayload().getMetrics().forEach(
-                    jsonMetric -> {
-                        String name = jsonMetric.getName();
-                        Object value = ObjectValueConverter.fromString(jsonMetric.getValue(), jsonMetric.getValueType());
+                List<KapuaDataMessage> batch = new ArrayList<>();
+                List<Integer> batchLineIndexes = new ArrayList<>();
+                boolean batchFailed = false;
+                NdjsonLine<JsonKapuaDataMessage> line;
+                while (!batchFailed && (line = reader.next()) != null) {
+                    KapuaDataMessage kapuaDataMessage;
+                    try {
+                        if (!line.isValid()) {
+                            throw new KapuaIllegalArgumentException("line", line.getError());
+                        }
+                        kapuaDataMessage = toKapuaDataMessage(scopeId, line.getValue());
+                    } catch (KapuaException | RuntimeException e) {
+                        KapuaException lineException = e instanceof KapuaException ? (KapuaException) e : new KapuaIllegalArgumentException("line", e.getMessage());
+                        writer.write(new MessageStoreResult(line.getIndex(), null, lineException));
+                        continue;
+                    }
 
-                        kapuaDataPayload.getMetrics().put(name, value);
-                    });
-        }
-        kapuaDataMessage.setPayload(kapuaDataPayload);
-        kapuaDataMessage.setScopeId(scopeId);
-        return returnCreated(new StorableEntityId(messageStoreService.store(kapuaDataMessage).toString()));
+                    batch.add(kapuaDataMessage);
+                    batchLineIndexes.add(line.getIndex());
+                    if (batch.size() >= batchSize) {
+                        batchFailed = !storeBatch(scopeId, batch, batchLineIndexes, writer);
+                    }
+                }
+
+                if (!batchFailed && !batch.isEmpty()) {
+                    storeBatch(scopeId, batch, batchLineIndexes, writer);
+                }
+                writer.flush();
+            } catch (JAXBException e) {
+                throw new WebApplicationException(e);
+            }
+        };
     }
 
     /**
@@ -205,6 +292,111 @@ public class DataMessagesJson extends AbstractKapuaResource implements JsonSeria
         return jsonResult;
     }
 
+    /**
+     * Exports all the {@link DatastoreMessage}s matching the given {@link MessageQuery} as newline-delimited JSON, one {@link JsonDatastoreMessage} per line.
+     * <p>
+     * {@link MessageQuery#getOffset()} and {@link MessageQuery#getLimit()} are ignored: {@link DatastoreMessage}s are read from the datastore with a cursor,
+     * a page at a time, and each of them is written as soon as it is read, so the export is not bound by the max result window of the datastore.
+     * The next page is read only when the previous one has been written to the client.
+     * <p>
+     * Since the response status has already been sent, an error during the export is reported as a last line with the {@link ExceptionInfo}.
+     *
+     * @param scopeId The {@link ScopeId} in which to search results.
+     * @param query   The {@link MessageQuery} used to filter and sort results.
+     * @return The newline-delimited JSON {@link JsonDatastoreMessage}s.
+     * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
+     * @since 2.1.0
+     */
+    @POST
+    @Path("_export")
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces({ NdjsonReader.APPLICATION_NDJSON })
+    public StreamingOutput exportNdjson(@PathParam("scopeId") ScopeId scopeId,
+            JsonMessageQuery query)
+            throws KapuaException {
+        query.setScopeId(scopeId);
+
+        JAXBContext jaxbContext = providers.getContextResolver(JAXBContext.class, MediaType.APPLICATION_JSON_TYPE).getContext(JsonDatastoreMessage.class);
+        StorableCursor<DatastoreMessage> cursor = messageStoreService.scroll(convertQuery(query));
+
+        return output -> {
+            try (StorableCursor<DatastoreMessage> messages = cursor) {
+                NdjsonWriter writer = new NdjsonWriter(jaxbContext, output);
+
+                try {
+                    long exported = 0;
+                    DatastoreMessage message;
+                    while ((message = messages.next()) != null) {
+                        writer.write(new JsonDatastoreMessage(message));
+                        if (++exported % EXPORT_FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    }
+                } catch (KapuaException | JAXBException | RuntimeException e) {
+                    writer.write(toExportExceptionInfo(e));
+                }
+                writer.flush();
+            } catch (KapuaException | JAXBException e) {
+                throw new WebApplicationException(e);
+            }
+        };
+    }
+
+    /**
+     * Exports all the {@link DatastoreMessage}s matching the given {@link MessageQuery} as CSV.
+     * <p>
+     * Columns are the {@link DatastoreMessage#getDatastoreId()}, {@link DatastoreMessage#getTimestamp()} in ISO-8601 UTC format, {@link DatastoreMessage#getClientId()}
+     * and {@link DatastoreMessage#getChannel()}, followed by a column for each of the requested metrics.
+     * {@link DatastoreMessage}s are read and written like {@link #exportNdjson(ScopeId, JsonMessageQuery)}.
+     * An error during the export is reported as a last row with {@code #error}, the {@link ExceptionInfo#getKapuaErrorCode()} and the {@link ExceptionInfo#getMessage()}.
+     *
+     * @param scopeId     The {@link ScopeId} in which to search results.
+     * @param metricNames The names of the metrics to export, one column each.
+     * @param query       The {@link MessageQuery} used to filter and sort results.
+     * @return The CSV {@link DatastoreMessage}s.
+     * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
+     * @since 2.1.0
+     */
+    @POST
+    @Path("_export")
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @Produces({ CsvWriter.TEXT_CSV })
+    public StreamingOutput exportCsv(@PathParam("scopeId") ScopeId scopeId,
+            @QueryParam("metric") List<String> metricNames,
+            JsonMessageQuery query)
+            throws KapuaException {
+        query.setScopeId(scopeId);
+
+        StorableCursor<DatastoreMessage> cursor = messageStoreService.scroll(convertQuery(query));
+
+        return output -> {
+            try (StorableCursor<DatastoreMessage> messages = cursor) {
+                CsvWriter writer = new CsvWriter(output);
+
+                List<String> columns = new ArrayList<>(Arrays.asList(CSV_MANDATORY_COLUMNS));
+                columns.addAll(metricNames);
+                writer.write(columns);
+
+                try {
+                    long exported = 0;
+                    DatastoreMessage message;
+                    while ((message = messages.next()) != null) {
+                        writer.write(toCsvRow(message, metricNames));
+                        if (++exported % EXPORT_FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    }
+                } catch (KapuaException | RuntimeException e) {
+                    ExceptionInfo exceptionInfo = toExportExceptionInfo(e);
+                    writer.write(Arrays.asList(CSV_ERROR_MARKER, exceptionInfo.getKapuaErrorCode(), exceptionInfo.getMessage()));
+                }
+                writer.flush();
+            } catch (KapuaException e) {
+                throw new WebApplicationException(e);
+            }
+        };
+    }
+
     /**
      * Returns the DatastoreMessage specified by the "datastoreMessageId" path parameter.
      *
@@ -228,6 +420,88 @@ public class DataMessagesJson extends AbstractKapuaResource implements JsonSeria
         return returnNotNullEntity(jsonDatastoreMessage);
     }
 
+    private KapuaDataMessage toKapuaDataMessage(KapuaId scopeId, JsonKapuaDataMessage jsonKapuaDataMessage) {
+        KapuaDataMessage kapuaDataMessage = kapuaDataMessageFactory.newKapuaDataMessage();
+
+        kapuaDataMessage.setId(jsonKapuaDataMessage.getId());
+        kapuaDataMessage.setScopeId(scopeId);
+        kapuaDataMessage.setDeviceId(jsonKapuaDataMessage.getDeviceId());
+        kapuaDataMessage.setClientId(jsonKapuaDataMessage.getClientId());
+        kapuaDataMessage.setReceivedOn(jsonKapuaDataMessage.getReceivedOn());
+        kapuaDataMessage.setSentOn(jsonKapuaDataMessage.getSentOn());
+        kapuaDataMessage.setCapturedOn(jsonKapuaDataMessage.getCapturedOn());
+        kapuaDataMessage.setPosition(jsonKapuaDataMessage.getPosition());
+        kapuaDataMessage.setChannel(jsonKapuaDataMessage.getChannel());
+
+        KapuaDataPayload kapuaDataPayload = kapuaDataMessageFactory.newKapuaDataPayload();
+
+        if (jsonKapuaDataMessage.getPayload() != null) {
+            kapuaDataPayload.setBody(jsonKapuaDataMessage.getPayload().getBody());
+
+            jsonKapuaDataMessage.getPayload().getMetrics().forEach(
+                    jsonMetric -> {
+                        String name = jsonMetric.getName();
+                        Object value = ObjectValueConverter.fromString(jsonMetric.getValue(), jsonMetric.getValueType());
+
+                        kapuaDataPayload.getMetrics().put(name, value);
+                    });
+        }
+        kapuaDataMessage.setPayload(kapuaDataPayload);
+        return kapuaDataMessage;
+    }
+
+    /**
+     * Stores a batch of {@link KapuaDataMessage}s and writes their {@link MessageStoreResult}s, then clears the batch.
+     *
+     * @return {@code true} if the batch has been processed, {@code false} if the whole batch failed.
+     */
+    private boolean storeBatch(KapuaId scopeId, List<KapuaDataMessage> batch, List<Integer> batchLineIndexes, NdjsonWriter writer) throws JAXBException, IOException {
+        boolean processed;
+        try {
+            for (MessageStoreResult result : messageStoreService.storeAll(scopeId, batch)) {
+                result.setIndex(batchLineIndexes.get(result.getIndex()));
+                writer.write(result);
+            }
+            processed = true;
+        } catch (KapuaException e) {
+            for (Integer lineIndex : batchLineIndexes) {
+                writer.write(new MessageStoreResult(lineIndex, null, e));
+            }
+            processed = false;
+        }
+
+        batch.clear();
+        batchLineIndexes.clear();
+        writer.flush();
+        return processed;
+    }
+
+    /**
+     * Converts an error which occurred while exporting into the {@link ExceptionInfo} reported at the end of the export,
+     * since the response status has already been sent.
+     */
+    private ExceptionInfo toExportExceptionInfo(Exception exception) {
+        LOG.error("Error while exporting messages: {}", exception.getMessage(), exception);
+
+        KapuaException kapuaException = exception instanceof KapuaException ? (KapuaException) exception : KapuaException.internalError(exception);
+        return new ExceptionInfo(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), kapuaException, false);
+    }
+
+    private List<String> toCsvRow(DatastoreMessage message, List<String> metricNames) {
+        List<String> row = new ArrayList<>();
+        row.add(message.getDatastoreId() != null ? message.getDatastoreId().toString() : null);
+        row.add(message.getTimestamp() != null ? message.getTimestamp().toInstant().toString() : null);
+        row.add(message.getClientId());
+        row.add(message.getChannel() != null ? message.getChannel().toPathString() : null);
+
+        Map<String, Object> metrics = message.getPayload() != null ? message.getPayload().getMetrics() : null;
+        for (String metricName : metricNames) {
+            Object metricValue = metrics != null ? metrics.get(metricName) : null;
+            row.add(metricValue != null ? metricValue.toString() : null);
+        }
+        return row;
+    }
+
     private MessageQuery convertQuery(JsonMessageQuery query) {
         MessageQuery messageQuery = messageStoreFactory.newQuery(query.getScopeId());
         messageQuery.setAskTotalCount(query.isAskTotalCount());
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.resources.v1.resources;
+
+import com.google.common.base.Strings;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.app.api.core.model.EntityId;
+import org.eclipse.kapua.app.api.core.model.ScopeId;
+import org.eclipse.kapua.app.api.core.ndjson.NdjsonReader;
+import org.eclipse.kapua.app.api.core.ndjson.NdjsonWriter;
+import org.eclipse.kapua.app.api.core.resources.AbstractKapuaResource;
+import org.eclipse.kapua.app.api.resources.v1.resources.model.device.management.command.DeviceCommandBatchResult;
+import org.eclipse.kapua.commons.rest.model.errors.ExceptionInfo;
+import org.eclipse.kapua.model.domain.Actions;
+import org.eclipse.kapua.model.query.predicate.AndPredicate;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchService;
+import org.eclipse.kapua.service.device.management.command.DeviceCommandInput;
+import org.eclipse.kapua.service.device.management.command.DeviceCommandManagementService;
+import org.eclipse.kapua.service.device.management.command.DeviceCommandOutput;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceAttributes;
+import org.eclipse.kapua.service.device.registry.DeviceFactory;
+import org.eclipse.kapua.service.device.registry.DeviceQuery;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.Providers;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.io.IOException;
+
+@Path("{scopeId}/devices/_commands")
+public class DeviceManagementBatchCommands extends AbstractKapuaResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceManagementBatchCommands.class);
+
+    @Inject
+    public DeviceManagementBatchService deviceManagementBatchService;
+    @Inject
+    public DeviceCommandManagementService commandService;
+    @Inject
+    public DeviceFactory deviceFactory;
+
+    @Context
+    public Providers providers;
+
+    /**
+     * Executes a remote command on all the {@link Device}s matching the given filters and returns the command outputs as newline-delimited JSON,
+     * one {@link DeviceCommandBatchResult} per line.
+     * <p>
+     * The command is sent concurrently to the {@link Device}s and each {@link DeviceCommandBatchResult} is written as soon as the {@link Device} replies,
+     * so the lines are not in {@link Device} order.
+     * <p>
+     * Since the response status has already been sent, an error which stops the batch is reported as a last line with the {@link ExceptionInfo}.
+     *
+     * @param scopeId          The {@link ScopeId} of the {@link Device}s.
+     * @param tagId            The id of the {@link org.eclipse.kapua.service.tag.Tag} of the {@link Device}s.
+     * @param clientId         The {@link Device#getClientId()}.
+     * @param connectionStatus The {@link DeviceConnectionStatus} of the {@link Device}s.
+     * @param matchTerm        A term to be matched in at least one of the configured fields of the {@link Device}s.
+     * @param timeout          The timeout of the command execution on each {@link Device}.
+     * @param commandInput     The input command.
+     * @return The newline-delimited JSON {@link DeviceCommandBatchResult}s.
+     * @throws KapuaException Whenever something bad happens. See specific {@link org.eclipse.kapua.service.KapuaService} exceptions.
+     * @since 2.1.0
+     */
+    @POST
+    @Path("_execute")
+    @Consumes({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    @Produces({NdjsonReader.APPLICATION_NDJSON})
+    public StreamingOutput sendCommand(
+            @PathParam("scopeId") ScopeId scopeId,
+            @QueryParam("tagId") EntityId tagId,
+            @QueryParam("clientId") String clientId,
+            @QueryParam("status") DeviceConnectionStatus connectionStatus,
+            @QueryParam("matchTerm") String matchTerm,
+            @QueryParam("timeout") @DefaultValue("30000") Long timeout,
+            DeviceCommandInput commandInput) throws KapuaException {
+        DeviceQuery query = deviceFactory.newQuery(scopeId);
+
+        AndPredicate andPredicate = query.andPredicate();
+        if (tagId != null) {
+            andPredicate.and(query.attributePredicate(DeviceAttributes.TAG_IDS, tagId));
+        }
+        if (!Strings.isNullOrEmpty(clientId)) {
+            andPredicate.and(query.attributePredicate(DeviceAttributes.CLIENT_ID, clientId));
+        }
+        if (connectionStatus != null) {
+            andPredicate.and(query.attributePredicate(DeviceAttributes.CONNECTION_STATUS, connectionStatus));
+        }
+        if (matchTerm != null && !matchTerm.isEmpty()) {
+            andPredicate.and(query.matchPredicate(matchTerm));
+        }
+        query.setPredicate(andPredicate);
+
+        JAXBContext jaxbContext = providers.getContextResolver(JAXBContext.class, MediaType.APPLICATION_JSON_TYPE).getContext(DeviceCommandBatchResult.class);
+
+        return output -> {
+            try {
+                NdjsonWriter writer = new NdjsonWriter(jaxbContext, output);
+
+                try {
+                    deviceManagementBatchService.<DeviceCommandOutput>execute(
+                            query,
+                            Actions.execute,
+                            (deviceScopeId, deviceId) -> commandService.exec(deviceScopeId, deviceId, commandInput, timeout),
+                            result -> write(writer, new DeviceCommandBatchResult(result)));
+                } catch (KapuaException | RuntimeException e) {
+                    writer.write(toBatchExceptionInfo(e));
+                }
+                writer.flush();
+            } catch (JAXBException e) {
+                throw new WebApplicationException(e);
+            }
+        };
+    }
+
+    private void write(NdjsonWriter writer, DeviceCommandBatchResult batchResult) {
+        // The command has already been executed, so the batch goes on even if the client cannot receive its output anymore
+        try {
+            writer.write(batchResult);
+            writer.flush();
+        } catch (JAXBException | IOException e) {
+            LOG.warn("Error while writing the command output of device {}: {}", batchResult.getClientId(), e.getMessage());
+        }
+    }
+
+    private ExceptionInfo toBatchExceptionInfo(Exception exception) {
+        LOG.error("Error while executing batch command: {}", exception.getMessage(), exception);
+
+        KapuaException kapuaException = exception instanceof KapuaException ? (KapuaException) exception : KapuaException.internalError(exception);
+        return new ExceptionInfo(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), kapuaException, false);
+    }
+}
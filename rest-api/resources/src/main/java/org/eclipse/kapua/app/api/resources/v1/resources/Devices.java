@@ -64,10 +64,12 @@ public class Devices extends AbstractKapuaResource {
      * @param matchTerm        A term to be matched in at least one of the configured fields of this entity
      * @param fetchAttributes  Additional attributes to be returned. Allowed values: connection, lastEvent
      * @param askTotalCount    Ask for the total count of the matched entities in the result
+     * @param estimateTotalCount Ask for an estimated total count, computed in bounded time
      * @param sortParam        The name of the parameter that will be used as a sorting key
      * @param sortDir          The sort direction. Can be ASCENDING (default), DESCENDING. Case-insensitive.
      * @param offset           The result set offset.
      * @param limit            The result set limit.
+     * @param afterId          The id of the {@link Device} after which the result set starts.
      * @return The {@link DeviceListResult} of all the devices associated to the current selected scope.
      * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
      * @since 1.0.0
@@ -82,10 +84,12 @@ public class Devices extends AbstractKapuaResource {
             @QueryParam("matchTerm") String matchTerm,
             @QueryParam("fetchAttributes") List<String> fetchAttributes,
             @QueryParam("askTotalCount") boolean askTotalCount,
+            @QueryParam("estimateTotalCount") boolean estimateTotalCount,
             @QueryParam("sortParam") String sortParam,
             @QueryParam("sortDir") @DefaultValue("ASCENDING") SortOrder sortDir,
             @QueryParam("offset") @DefaultValue("0") int offset,
-            @QueryParam("limit") @DefaultValue("50") int limit) throws KapuaException {
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("afterId") EntityId afterId) throws KapuaException {
         DeviceQuery query = deviceFactory.newQuery(scopeId);
 
         AndPredicate andPredicate = query.andPredicate();
@@ -111,6 +115,8 @@ public class Devices extends AbstractKapuaResource {
         query.setOffset(offset);
         query.setLimit(limit);
         query.setAskTotalCount(askTotalCount);
+        query.setEstimateTotalCount(estimateTotalCount);
+        query.setAfterId(afterId);
 
         return query(scopeId, query);
     }
@@ -43,6 +43,11 @@ import org.eclipse.kapua.service.job.execution.JobExecutionListResult;
 import org.eclipse.kapua.service.job.execution.JobExecutionQuery;
 import org.eclipse.kapua.service.job.execution.JobExecutionService;
 import org.eclipse.kapua.service.job.execution.JobExecutionStatus;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentAttributes;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentFactory;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentListResult;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentQuery;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogService;
 import org.eclipse.kapua.service.job.targets.JobTargetFactory;
 import org.eclipse.kapua.service.job.targets.JobTargetListResult;
 import org.eclipse.kapua.service.job.targets.JobTargetQuery;
@@ -59,6 +64,10 @@ public class JobExecutions extends AbstractKapuaResource {
     public JobExecutionFactory jobExecutionFactory;
     @Inject
     public JobTargetFactory jobTargetFactory;
+    @Inject
+    public JobExecutionLogService jobExecutionLogService;
+    @Inject
+    public JobExecutionLogSegmentFactory jobExecutionLogSegmentFactory;
 
     /**
      * Gets the {@link JobExecution} list for a given {@link Job}.
@@ -212,4 +221,39 @@ public class JobExecutions extends AbstractKapuaResource {
         return jobTargetService.query(jobTargetQuery);
     }
 
+    /**
+     * Gets the log of the {@link JobExecution} as a page of {@link org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment}s ordered by their index.
+     *
+     * @param scopeId       The {@link ScopeId} of the requested {@link JobExecution}.
+     * @param jobId         The {@link Job} id of the requested {@link JobExecution}.
+     * @param executionId   The id of the requested {@link JobExecution}.
+     * @param askTotalCount Ask for the total count of the segments of the log.
+     * @param offset        The result set offset.
+     * @param limit         The result set limit.
+     * @return The {@link JobExecutionLogSegmentListResult} of the requested page of the log.
+     * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
+     * @since 2.1.0
+     */
+    @GET
+    @Path("{executionId}/log")
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    public JobExecutionLogSegmentListResult log(
+            @PathParam("scopeId") ScopeId scopeId,
+            @PathParam("jobId") EntityId jobId,
+            @PathParam("executionId") EntityId executionId,
+            @QueryParam("askTotalCount") boolean askTotalCount,
+            @QueryParam("offset") @DefaultValue("0") int offset,
+            @QueryParam("limit") @DefaultValue("50") int limit) throws KapuaException {
+        JobExecutionLogSegmentQuery query = jobExecutionLogSegmentFactory.newQuery(scopeId);
+        query.setPredicate(query.andPredicate(
+                query.attributePredicate(JobExecutionLogSegmentAttributes.JOB_ID, jobId),
+                query.attributePredicate(JobExecutionLogSegmentAttributes.JOB_EXECUTION_ID, executionId)
+        ));
+        query.setAskTotalCount(askTotalCount);
+        query.setOffset(offset);
+        query.setLimit(limit);
+
+        return jobExecutionLogService.query(query);
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,16 @@ import org.eclipse.kapua.app.api.core.model.CountResult;
 import org.eclipse.kapua.app.api.core.model.EntityId;
 import org.eclipse.kapua.app.api.core.model.ScopeId;
 import org.eclipse.kapua.app.api.core.resources.AbstractKapuaResource;
+import org.eclipse.kapua.model.KapuaEntity;
 import org.eclipse.kapua.model.KapuaEntityAttributes;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.query.SortOrder;
 import org.eclipse.kapua.model.query.predicate.AndPredicate;
 import org.eclipse.kapua.service.KapuaService;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceListResult;
+import org.eclipse.kapua.service.device.registry.DeviceQuery;
+import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
 import org.eclipse.kapua.service.job.Job;
 import org.eclipse.kapua.service.job.execution.JobExecutionAttributes;
 import org.eclipse.kapua.service.job.execution.JobExecutionFactory;
@@ -31,6 +36,9 @@ import org.eclipse.kapua.service.job.execution.JobExecutionQuery;
 import org.eclipse.kapua.service.job.execution.JobExecutionService;
 import org.eclipse.kapua.service.job.targets.JobTarget;
 import org.eclipse.kapua.service.job.targets.JobTargetAttributes;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateRequest;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateResult;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateSummary;
 import org.eclipse.kapua.service.job.targets.JobTargetCreator;
 import org.eclipse.kapua.service.job.targets.JobTargetFactory;
 import org.eclipse.kapua.service.job.targets.JobTargetListResult;
@@ -50,13 +58,19 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Path("{scopeId}/jobs/{jobId}/targets")
 public class JobTargets extends AbstractKapuaResource {
 
+    private static final int DEVICE_QUERY_PAGE_SIZE = 500;
+
     @Inject
     public JobTargetService jobTargetService;
     @Inject
+    public DeviceRegistryService deviceRegistryService;
+    @Inject
     public JobExecutionService jobExecutionService;
     @Inject
     public JobTargetFactory jobTargetFactory;
@@ -71,8 +85,10 @@ public class JobTargets extends AbstractKapuaResource {
      * @param sortParam     The name of the parameter that will be used as a sorting key
      * @param sortDir       The sort direction. Can be ASCENDING (default), DESCENDING. Case-insensitive.
      * @param askTotalCount Ask for the total count of the matched entities in the result
+     * @param estimateTotalCount Ask for an estimated total count, computed in bounded time
      * @param offset        The result set offset.
      * @param limit         The result set limit.
+     * @param afterId       The id of the {@link JobTarget} after which the result set starts.
      * @return The {@link JobTargetListResult} of all the jobs targets associated to the current selected job.
      * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
      * @since 1.0.0
@@ -86,8 +102,10 @@ public class JobTargets extends AbstractKapuaResource {
             @QueryParam("sortParam") String sortParam,
             @QueryParam("sortDir") @DefaultValue("ASCENDING") SortOrder sortDir,
             @QueryParam("askTotalCount") boolean askTotalCount,
+            @QueryParam("estimateTotalCount") boolean estimateTotalCount,
             @QueryParam("offset") @DefaultValue("0") int offset,
-            @QueryParam("limit") @DefaultValue("50") int limit) throws KapuaException {
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("afterId") EntityId afterId) throws KapuaException {
         JobTargetQuery query = jobTargetFactory.newQuery(scopeId);
 
         AndPredicate andPredicate = query.andPredicate(query.attributePredicate(JobExecutionAttributes.JOB_ID, jobId));
@@ -103,8 +121,10 @@ public class JobTargets extends AbstractKapuaResource {
         }
 
         query.setAskTotalCount(askTotalCount);
+        query.setEstimateTotalCount(estimateTotalCount);
         query.setOffset(offset);
         query.setLimit(limit);
+        query.setAfterId(afterId);
 
         return jobTargetService.query(query);
     }
@@ -227,6 +247,77 @@ public class JobTargets extends AbstractKapuaResource {
         return returnCreated(jobTargetService.create(jobTargetCreator));
     }
 
+    /**
+     * Creates a {@link JobTarget} for each of the ids provided in the {@link JobTargetBulkCreateRequest} parameter.
+     * <p>
+     * Ids which are already targets of the {@link Job} are skipped and reported in the {@link JobTargetBulkCreateResult}.
+     *
+     * @param scopeId                    The {@link ScopeId} in which to create the {@link JobTarget}s
+     * @param jobId                      The ID of the {@link Job} to attach the {@link JobTarget}s to
+     * @param jobTargetBulkCreateRequest Provides the ids of the {@link JobTarget}s to be created.
+     * @return The {@link JobTargetBulkCreateResult} with the created {@link JobTarget}s and the skipped ids.
+     * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
+     * @since 2.1.0
+     */
+    @POST
+    @Path("_bulk")
+    @Consumes({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    public JobTargetBulkCreateResult createAll(
+            @PathParam("scopeId") ScopeId scopeId,
+            @PathParam("jobId") EntityId jobId,
+            JobTargetBulkCreateRequest jobTargetBulkCreateRequest) throws KapuaException {
+        return jobTargetService.createAll(scopeId, jobId, jobTargetBulkCreateRequest.jobTargetIds);
+    }
+
+    /**
+     * Creates a {@link JobTarget} for each of the {@link Device}s matching the given {@link DeviceQuery} parameter.
+     * <p>
+     * {@link Device}s are read in pages, following their ids, and each page is added to the {@link Job} with a single bulk creation.
+     * {@link Device}s which are already targets of the {@link Job} are skipped.
+     * Only the number of created and skipped {@link JobTarget}s is returned, so that the response does not grow with the number of matching {@link Device}s.
+     *
+     * @param scopeId     The {@link ScopeId} in which to create the {@link JobTarget}s
+     * @param jobId       The ID of the {@link Job} to attach the {@link JobTarget}s to
+     * @param deviceQuery The {@link DeviceQuery} to use to select the {@link Device}s.
+     * @return The {@link JobTargetBulkCreateSummary} with the number of created and skipped {@link JobTarget}s.
+     * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
+     * @since 2.1.0
+     */
+    @POST
+    @Path("_bulkFromDeviceQuery")
+    @Consumes({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    public JobTargetBulkCreateSummary createAllFromDeviceQuery(
+            @PathParam("scopeId") ScopeId scopeId,
+            @PathParam("jobId") EntityId jobId,
+            DeviceQuery deviceQuery) throws KapuaException {
+        deviceQuery.setScopeId(scopeId);
+        deviceQuery.setSortCriteria(deviceQuery.fieldSortCriteria(KapuaEntityAttributes.ENTITY_ID, SortOrder.ASCENDING));
+        deviceQuery.setAskTotalCount(false);
+        deviceQuery.setOffset(0);
+        deviceQuery.setLimit(DEVICE_QUERY_PAGE_SIZE);
+        deviceQuery.setAfterId(null);
+
+        JobTargetBulkCreateSummary jobTargetBulkCreateSummary = new JobTargetBulkCreateSummary();
+
+        DeviceListResult devices;
+        do {
+            devices = deviceRegistryService.query(deviceQuery);
+
+            List<KapuaId> deviceIds = devices.getItems().stream().map(KapuaEntity::getId).collect(Collectors.toList());
+            if (deviceIds.isEmpty()) {
+                break;
+            }
+
+            jobTargetBulkCreateSummary.add(jobTargetService.createAll(scopeId, jobId, deviceIds));
+
+            deviceQuery.setAfterId(deviceIds.get(deviceIds.size() - 1));
+        } while (devices.isLimitExceeded());
+
+        return jobTargetBulkCreateSummary;
+    }
+
     /**
      * Deletes the JobTarget specified by the "targetId" path parameter.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,9 @@ import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.app.api.core.model.ScopeId;
 import org.eclipse.kapua.app.api.core.resources.AbstractKapuaResource;
 import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+import org.eclipse.kapua.service.KapuaService;
+import org.eclipse.kapua.service.stream.StreamPublishBulkRequest;
+import org.eclipse.kapua.service.stream.StreamPublishBulkResult;
 import org.eclipse.kapua.service.stream.StreamService;
 
 import javax.inject.Inject;
@@ -24,6 +27,7 @@ import javax.ws.rs.DefaultValue;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -92,4 +96,27 @@ public class Streams extends AbstractKapuaResource {
         streamService.publish(requestMessage, timeout);
         return returnNoContent();
     }
+
+    /**
+     * Publishes many fire-and-forget messages at once, each one as {@link #publish(ScopeId, Long, KapuaDataMessage)} does.
+     * <p>
+     * A failure on a single message does not stop the others and is reported in its result.
+     *
+     * @param scopeId                  The {@link ScopeId} of the messages.
+     * @param timeout                  The timeout, as in {@link #publish(ScopeId, Long, KapuaDataMessage)}.
+     * @param streamPublishBulkRequest Provides the {@link KapuaDataMessage}s to publish.
+     * @return The {@link StreamPublishBulkResult} with the outcome of each message, in the same order.
+     * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
+     * @since 2.1.0
+     */
+    @POST
+    @Path("messages/_bulk")
+    @Consumes({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_JSON})
+    public StreamPublishBulkResult publishAll(
+            @PathParam("scopeId") ScopeId scopeId,
+            @QueryParam("timeout") @DefaultValue("30000") Long timeout,
+            StreamPublishBulkRequest streamPublishBulkRequest) throws KapuaException {
+        return streamService.publishAll(scopeId, streamPublishBulkRequest.messages, timeout);
+    }
 }
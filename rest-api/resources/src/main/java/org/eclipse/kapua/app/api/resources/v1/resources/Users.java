@@ -60,8 +60,10 @@ public class Users extends AbstractKapuaResource {
      * @param sortDir       The sort direction. Can be ASCENDING (default), DESCENDING. Case-insensitive.
      * @param matchTerm     A term to be matched in at least one of the configured fields of this entity
      * @param askTotalCount Ask for the total count of the matched entities in the result
+     * @param estimateTotalCount Ask for an estimated total count, computed in bounded time
      * @param offset        The result set offset.
      * @param limit         The result set limit.
+     * @param afterId       The id of the {@link User} after which the result set starts.
      * @return The {@link UserListResult} of all the users associated to the current selected scope.
      * @throws KapuaException Whenever something bad happens. See specific {@link KapuaService} exceptions.
      * @since 1.0.0
@@ -75,8 +77,10 @@ public class Users extends AbstractKapuaResource {
             @QueryParam("sortParam") String sortParam,
             @QueryParam("sortDir") @DefaultValue("ASCENDING") SortOrder sortDir,
             @QueryParam("askTotalCount") boolean askTotalCount,
+            @QueryParam("estimateTotalCount") boolean estimateTotalCount,
             @QueryParam("offset") @DefaultValue("0") int offset,
-            @QueryParam("limit") @DefaultValue("50") int limit) throws KapuaException {
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("afterId") EntityId afterId) throws KapuaException {
         UserQuery query = userFactory.newQuery(scopeId);
 
         AndPredicate andPredicate = query.andPredicate();
@@ -93,8 +97,10 @@ public class Users extends AbstractKapuaResource {
         query.setPredicate(andPredicate);
 
         query.setAskTotalCount(askTotalCount);
+        query.setEstimateTotalCount(estimateTotalCount);
         query.setOffset(offset);
         query.setLimit(limit);
+        query.setAfterId(afterId);
 
         return query(scopeId, query);
     }
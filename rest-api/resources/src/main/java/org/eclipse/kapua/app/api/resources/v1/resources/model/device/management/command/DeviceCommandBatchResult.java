@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.resources.v1.resources.model.device.management.command;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.app.api.resources.v1.resources.DeviceManagementBatchCommands;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.id.KapuaIdAdapter;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchResult;
+import org.eclipse.kapua.service.device.management.command.DeviceCommandInput;
+import org.eclipse.kapua.service.device.management.command.DeviceCommandOutput;
+import org.eclipse.kapua.service.device.registry.Device;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+/**
+ * {@link DeviceCommandBatchResult} definition.
+ * <p>
+ * Outcome of the {@link DeviceCommandInput} executed on a single {@link Device} by {@link DeviceManagementBatchCommands}.
+ *
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "deviceCommandBatchResult")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+public class DeviceCommandBatchResult {
+
+    private KapuaId deviceId;
+    private String clientId;
+    private boolean succeeded;
+    private DeviceCommandOutput commandOutput;
+    private String errorCode;
+    private String errorMessage;
+
+    /**
+     * Constructor.
+     * <p>
+     * Needed by JAXB.
+     *
+     * @since 2.1.0
+     */
+    public DeviceCommandBatchResult() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param batchResult The {@link DeviceManagementBatchResult} to represent.
+     * @since 2.1.0
+     */
+    public DeviceCommandBatchResult(DeviceManagementBatchResult<DeviceCommandOutput> batchResult) {
+        this.deviceId = batchResult.getDeviceId();
+        this.clientId = batchResult.getClientId();
+        this.succeeded = batchResult.isSucceeded();
+        this.commandOutput = batchResult.getResult();
+
+        KapuaException exception = batchResult.getException();
+        if (exception != null) {
+            this.errorCode = exception.getCode().name();
+            this.errorMessage = exception.getMessage();
+        }
+    }
+
+    /**
+     * Gets the {@link Device#getId()}.
+     *
+     * @return The {@link Device#getId()}.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "deviceId")
+    @XmlJavaTypeAdapter(KapuaIdAdapter.class)
+    public KapuaId getDeviceId() {
+        return deviceId;
+    }
+
+    /**
+     * Sets the {@link Device#getId()}.
+     *
+     * @param deviceId The {@link Device#getId()}.
+     * @since 2.1.0
+     */
+    public void setDeviceId(KapuaId deviceId) {
+        this.deviceId = deviceId;
+    }
+
+    /**
+     * Gets the {@link Device#getClientId()}.
+     *
+     * @return The {@link Device#getClientId()}.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "clientId")
+    public String getClientId() {
+        return clientId;
+    }
+
+    /**
+     * Sets the {@link Device#getClientId()}.
+     *
+     * @param clientId The {@link Device#getClientId()}.
+     * @since 2.1.0
+     */
+    public void setClientId(String clientId) {
+        this.clientId = clientId;
+    }
+
+    /**
+     * Whether the {@link DeviceCommandInput} has been executed on the {@link Device}.
+     *
+     * @return {@code true} if the {@link DeviceCommandInput} has been executed, {@code false} otherwise.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "succeeded")
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * Sets whether the {@link DeviceCommandInput} has been executed on the {@link Device}.
+     *
+     * @param succeeded Whether the {@link DeviceCommandInput} has been executed.
+     * @since 2.1.0
+     */
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    /**
+     * Gets the {@link DeviceCommandOutput} returned by the {@link Device}.
+     *
+     * @return The {@link DeviceCommandOutput}, or {@code null} if failed.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "commandOutput")
+    public DeviceCommandOutput getCommandOutput() {
+        return commandOutput;
+    }
+
+    /**
+     * Sets the {@link DeviceCommandOutput} returned by the {@link Device}.
+     *
+     * @param commandOutput The {@link DeviceCommandOutput}.
+     * @since 2.1.0
+     */
+    public void setCommandOutput(DeviceCommandOutput commandOutput) {
+        this.commandOutput = commandOutput;
+    }
+
+    /**
+     * Gets the {@link KapuaException#getCode()} that prevented the execution.
+     *
+     * @return The {@link KapuaException#getCode()} name, or {@code null} if succeeded.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "errorCode")
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Sets the {@link KapuaException#getCode()} that prevented the execution.
+     *
+     * @param errorCode The {@link KapuaException#getCode()} name.
+     * @since 2.1.0
+     */
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Gets the {@link KapuaException#getMessage()} that prevented the execution.
+     *
+     * @return The {@link KapuaException#getMessage()}, or {@code null} if succeeded.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "errorMessage")
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Sets the {@link KapuaException#getMessage()} that prevented the execution.
+     *
+     * @param errorMessage The {@link KapuaException#getMessage()}.
+     * @since 2.1.0
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.kapua.app.api.core.model.device.management.JsonGenericRequest
 import org.eclipse.kapua.app.api.core.model.device.management.JsonGenericResponseMessage;
 import org.eclipse.kapua.app.api.core.settings.KapuaApiCoreSetting;
 import org.eclipse.kapua.app.api.core.settings.KapuaApiCoreSettingKeys;
+import org.eclipse.kapua.app.api.resources.v1.resources.model.device.management.command.DeviceCommandBatchResult;
 import org.eclipse.kapua.app.api.resources.v1.resources.model.device.management.keystore.DeviceKeystoreCertificateInfo;
 import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
 import org.eclipse.kapua.commons.configuration.ServiceConfigurationsFacade;
@@ -72,6 +73,7 @@ public class AppModule extends AbstractKapuaModule {
     @ProvidesIntoSet
     JaxbClassProvider restApiCustomClassesForJaxb(LocatorConfig locatorConfig) {
         return new SimpleJaxbClassProvider(
+                DeviceCommandBatchResult.class,
                 DeviceKeystoreCertificateInfo.class,
                 JsonGenericRequestMessage.class,
                 JsonGenericResponseMessage.class,
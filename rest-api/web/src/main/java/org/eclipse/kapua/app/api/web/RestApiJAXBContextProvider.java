@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import org.eclipse.kapua.app.api.core.model.data.JsonMessageQuery;
 import org.eclipse.kapua.app.api.core.model.device.management.JsonGenericRequestMessage;
 import org.eclipse.kapua.app.api.core.model.device.management.JsonGenericResponseMessage;
 import org.eclipse.kapua.app.api.core.model.message.JsonKapuaPayload;
+import org.eclipse.kapua.app.api.resources.v1.resources.model.device.management.command.DeviceCommandBatchResult;
 import org.eclipse.kapua.app.api.resources.v1.resources.model.device.management.keystore.DeviceKeystoreCertificateInfo;
 import org.eclipse.kapua.commons.rest.model.IsJobRunningMultipleResponse;
 import org.eclipse.kapua.commons.rest.model.IsJobRunningResponse;
@@ -154,6 +155,7 @@ import org.eclipse.kapua.service.datastore.model.ClientInfo;
 import org.eclipse.kapua.service.datastore.model.ClientInfoListResult;
 import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
 import org.eclipse.kapua.service.datastore.model.MessageListResult;
+import org.eclipse.kapua.service.datastore.model.MessageStoreResult;
 import org.eclipse.kapua.service.datastore.model.MetricInfo;
 import org.eclipse.kapua.service.datastore.model.MetricInfoListResult;
 import org.eclipse.kapua.service.datastore.model.query.ChannelInfoQuery;
@@ -281,6 +283,10 @@ import org.eclipse.kapua.service.job.execution.JobExecution;
 import org.eclipse.kapua.service.job.execution.JobExecutionListResult;
 import org.eclipse.kapua.service.job.execution.JobExecutionQuery;
 import org.eclipse.kapua.service.job.execution.JobExecutionXmlRegistry;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentListResult;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentQuery;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentXmlRegistry;
 import org.eclipse.kapua.service.job.step.JobStep;
 import org.eclipse.kapua.service.job.step.JobStepCreator;
 import org.eclipse.kapua.service.job.step.JobStepListResult;
@@ -292,6 +298,9 @@ import org.eclipse.kapua.service.job.step.definition.JobStepDefinitionQuery;
 import org.eclipse.kapua.service.job.step.definition.JobStepDefinitionXmlRegistry;
 import org.eclipse.kapua.service.job.step.definition.JobStepProperty;
 import org.eclipse.kapua.service.job.targets.JobTarget;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateRequest;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateResult;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateSummary;
 import org.eclipse.kapua.service.job.targets.JobTargetCreator;
 import org.eclipse.kapua.service.job.targets.JobTargetListResult;
 import org.eclipse.kapua.service.job.targets.JobTargetQuery;
@@ -314,6 +323,9 @@ import org.eclipse.kapua.service.storable.model.query.SortField;
 import org.eclipse.kapua.service.storable.model.query.SortFieldXmlAdapter;
 import org.eclipse.kapua.service.storable.model.query.XmlAdaptedSortField;
 import org.eclipse.kapua.service.storable.model.query.XmlAdaptedSortFields;
+import org.eclipse.kapua.service.stream.StreamPublishBulkRequest;
+import org.eclipse.kapua.service.stream.StreamPublishBulkResult;
+import org.eclipse.kapua.service.stream.StreamPublishResult;
 import org.eclipse.kapua.service.systeminfo.SystemInfo;
 import org.eclipse.kapua.service.systeminfo.SystemInfoXmlRegistry;
 import org.eclipse.kapua.service.tag.Tag;
@@ -436,8 +448,14 @@ public class RestApiJAXBContextProvider implements JAXBContextProvider {
                     KapuaDataChannel.class,
                     KapuaDataPayload.class,
 
+                    // Streams
+                    StreamPublishBulkRequest.class,
+                    StreamPublishBulkResult.class,
+                    StreamPublishResult.class,
+
                     MessageListResult.class,
                     MessageQuery.class,
+                    MessageStoreResult.class,
                     MessageXmlRegistry.class,
 
                     JsonKapuaPayload.class,
@@ -491,6 +509,7 @@ public class RestApiJAXBContextProvider implements JAXBContextProvider {
                     DeviceCommandInput.class,
                     DeviceCommandOutput.class,
                     DeviceCommandXmlRegistry.class,
+                    DeviceCommandBatchResult.class,
 
                     // Device Management Configuration
                     KuraDeviceConfiguration.class,
@@ -740,9 +759,16 @@ public class RestApiJAXBContextProvider implements JAXBContextProvider {
                     JobExecutionListResult.class,
                     JobExecutionQuery.class,
                     JobExecutionXmlRegistry.class,
+                    JobExecutionLogSegment.class,
+                    JobExecutionLogSegmentListResult.class,
+                    JobExecutionLogSegmentQuery.class,
+                    JobExecutionLogSegmentXmlRegistry.class,
 
                     JobTarget.class,
                     JobTargetCreator.class,
+                    JobTargetBulkCreateRequest.class,
+                    JobTargetBulkCreateResult.class,
+                    JobTargetBulkCreateSummary.class,
                     JobTargetListResult.class,
                     JobTargetQuery.class,
                     JobExecutionXmlRegistry.class,
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.web;
+
+import org.eclipse.kapua.app.api.core.ndjson.NdjsonWriter;
+import org.eclipse.kapua.app.api.resources.v1.resources.model.device.management.command.DeviceCommandBatchResult;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchResult;
+import org.eclipse.kapua.service.device.management.command.DeviceCommandOutput;
+import org.eclipse.kapua.service.device.management.command.internal.DeviceCommandOutputImpl;
+import org.eclipse.kapua.service.device.management.exception.DeviceManagementTimeoutException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeoutException;
+
+@Category(JUnitTests.class)
+public class DeviceCommandBatchResultNdjsonTest {
+
+    @Test
+    public void writeBatchResultsTest() throws Exception {
+        DeviceCommandOutput commandOutput = new DeviceCommandOutputImpl();
+        commandOutput.setStdout("pong");
+        commandOutput.setExitCode(0);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        NdjsonWriter writer = new NdjsonWriter(new JaxbContextResolver().getContext(null), output);
+        writer.write(new DeviceCommandBatchResult(new DeviceManagementBatchResult<>(new KapuaEid(BigInteger.ONE), "device-1", commandOutput, null)));
+        writer.write(new DeviceCommandBatchResult(new DeviceManagementBatchResult<>(new KapuaEid(BigInteger.TEN), "device-10", null, new DeviceManagementTimeoutException(new TimeoutException(), 30000L))));
+        writer.flush();
+
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(2, lines.length);
+
+        Assert.assertTrue(lines[0], lines[0].contains("\"clientId\":\"device-1\""));
+        Assert.assertTrue(lines[0], lines[0].contains("\"succeeded\":true"));
+        Assert.assertTrue(lines[0], lines[0].contains("\"stdout\":\"pong\""));
+        Assert.assertFalse(lines[0], lines[0].contains("errorCode"));
+
+        Assert.assertTrue(lines[1], lines[1].contains("\"clientId\":\"device-10\""));
+        Assert.assertTrue(lines[1], lines[1].contains("\"succeeded\":false"));
+        Assert.assertTrue(lines[1], lines[1].contains("\"errorCode\":\"TIMEOUT\""));
+        Assert.assertFalse(lines[1], lines[1].contains("commandOutput"));
+    }
+}
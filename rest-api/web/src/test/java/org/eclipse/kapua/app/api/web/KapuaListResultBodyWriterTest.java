@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.app.api.web;
+
+import org.eclipse.kapua.app.api.core.JaxbMarshallerCache;
+import org.eclipse.kapua.app.api.core.KapuaListResultBodyWriter;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaListResult;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.user.UserListResult;
+import org.eclipse.kapua.service.user.internal.UserImpl;
+import org.eclipse.kapua.service.user.internal.UserListResultImpl;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.ws.rs.core.MediaType;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+@Category(JUnitTests.class)
+public class KapuaListResultBodyWriterTest {
+
+    private JAXBContext jaxbContext;
+
+    @Before
+    public void initialize() {
+        jaxbContext = new JaxbContextResolver().getContext(null);
+    }
+
+    @Test
+    public void writeSameAsMarshalTest() throws Exception {
+        UserListResult userListResult = new UserListResultImpl();
+        for (int i = 0; i < 250; i++) {
+            userListResult.addItem(new UserImpl(KapuaId.ONE, "user-" + i));
+        }
+        userListResult.setLimitExceeded(true);
+        userListResult.setTotalCount(1000L);
+
+        Assert.assertTrue("Expected and actual values should be the same.", sameXml(marshal(userListResult), write(userListResult)));
+    }
+
+    @Test
+    public void writeEmptySameAsMarshalTest() throws Exception {
+        UserListResult userListResult = new UserListResultImpl();
+
+        Assert.assertTrue("Expected and actual values should be the same.", sameXml(marshal(userListResult), write(userListResult)));
+    }
+
+    @Test
+    public void writeReusesMarshallerTest() throws Exception {
+        JaxbMarshallerCache marshallerCache = new JaxbMarshallerCache();
+
+        Assert.assertSame("Expected and actual values should be the same.",
+                marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE),
+                marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE));
+    }
+
+    @Test
+    public void marshallerPerMediaTypeTest() throws Exception {
+        JaxbMarshallerCache marshallerCache = new JaxbMarshallerCache();
+
+        Assert.assertNotSame("Expected and actual values should not be the same.",
+                marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE),
+                marshallerCache.getMarshaller(jaxbContext, MediaType.TEXT_XML_TYPE));
+    }
+
+    @Test
+    public void marshallerReplacedByOtherContextTest() throws Exception {
+        JaxbMarshallerCache marshallerCache = new JaxbMarshallerCache();
+        JAXBContext otherJaxbContext = JAXBContext.newInstance();
+
+        Marshaller marshaller = marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE);
+        Marshaller otherMarshaller = marshallerCache.getMarshaller(otherJaxbContext, MediaType.APPLICATION_XML_TYPE);
+        Assert.assertNotSame("Expected and actual values should not be the same.", marshaller, otherMarshaller);
+
+        // Only the marshallers of the last context are kept
+        Assert.assertNotSame("Expected and actual values should not be the same.", marshaller, marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE));
+    }
+
+    @Test
+    public void marshallerPerThreadTest() throws Exception {
+        JaxbMarshallerCache marshallerCache = new JaxbMarshallerCache();
+        Marshaller marshaller = marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE);
+
+        AtomicReference<Marshaller> otherThreadMarshaller = new AtomicReference<>();
+        Thread otherThread = new Thread(() -> {
+            try {
+                otherThreadMarshaller.set(marshallerCache.getMarshaller(jaxbContext, MediaType.APPLICATION_XML_TYPE));
+            } catch (JAXBException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        otherThread.start();
+        otherThread.join();
+
+        Assert.assertNotNull(otherThreadMarshaller.get());
+        Assert.assertNotSame("Expected and actual values should not be the same.", marshaller, otherThreadMarshaller.get());
+    }
+
+    private byte[] marshal(KapuaListResult<?> listResult) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jaxbContext.createMarshaller().marshal(listResult, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private byte[] write(KapuaListResult<?> listResult) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        KapuaListResultBodyWriter.write(jaxbContext, jaxbContext.createMarshaller(), listResult, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private boolean sameXml(byte[] expected, byte[] actual) throws Exception {
+        DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+        documentBuilderFactory.setNamespaceAware(true);
+
+        Document expectedDocument = documentBuilderFactory.newDocumentBuilder().parse(new ByteArrayInputStream(expected));
+        Document actualDocument = documentBuilderFactory.newDocumentBuilder().parse(new ByteArrayInputStream(actual));
+
+        // Namespace declarations may be placed on different elements
+        removeNamespaceDeclarations(expectedDocument.getDocumentElement());
+        removeNamespaceDeclarations(actualDocument.getDocumentElement());
+        expectedDocument.normalizeDocument();
+        actualDocument.normalizeDocument();
+
+        return expectedDocument.getDocumentElement().isEqualNode(actualDocument.getDocumentElement());
+    }
+
+    private void removeNamespaceDeclarations(Element element) {
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = attributes.getLength() - 1; i >= 0; i--) {
+            Node attribute = attributes.item(i);
+            if ("xmlns".equals(attribute.getPrefix()) || "xmlns".equals(attribute.getNodeName())) {
+                element.removeAttributeNode((Attr) attribute);
+            }
+        }
+
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            if (children.item(i) instanceof Element) {
+                removeNamespaceDeclarations((Element) children.item(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.account.internal;
+
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.account.Account;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the parent links between {@link Account}s.
+ * <p>
+ * The ancestors of each {@link Account} are computed once when the snapshot is built.
+ * Since an {@link Account} never changes parent, they stay valid for as long as the {@link Account} exists.
+ * Descendants are not tracked, since {@link Account}s created by other nodes may be missing from the snapshot.
+ *
+ * @since 2.1.0
+ */
+public class AccountHierarchy {
+
+    private final Map<KapuaId, KapuaId> parentIdsByAccountId;
+    private final Map<KapuaId, List<KapuaId>> ancestorIdsByAccountId;
+
+    /**
+     * Constructor.
+     *
+     * @param accounts All the {@link Account}s.
+     * @since 2.1.0
+     */
+    public AccountHierarchy(Collection<? extends Account> accounts) {
+        Map<KapuaId, KapuaId> parentIds = new HashMap<>();
+        for (Account account : accounts) {
+            parentIds.put(account.getId(), account.getScopeId());
+        }
+
+        Map<KapuaId, List<KapuaId>> ancestorIds = new HashMap<>();
+        for (KapuaId accountId : parentIds.keySet()) {
+            List<KapuaId> accountAncestorIds = new ArrayList<>();
+            // Parent first, then grandparent, etc. Stops on unknown parents and on loops
+            KapuaId parentId = parentIds.get(accountId);
+            while (parentId != null && parentIds.containsKey(parentId) && !accountAncestorIds.contains(parentId) && !parentId.equals(accountId)) {
+                accountAncestorIds.add(parentId);
+                parentId = parentIds.get(parentId);
+            }
+            ancestorIds.put(accountId, Collections.unmodifiableList(accountAncestorIds));
+        }
+
+        this.parentIdsByAccountId = parentIds;
+        this.ancestorIdsByAccountId = ancestorIds;
+    }
+
+    private AccountHierarchy(Map<KapuaId, KapuaId> parentIdsByAccountId, Map<KapuaId, List<KapuaId>> ancestorIdsByAccountId) {
+        this.parentIdsByAccountId = parentIdsByAccountId;
+        this.ancestorIdsByAccountId = ancestorIdsByAccountId;
+    }
+
+    /**
+     * Gets a copy of this snapshot which also contains the given {@link Account}.
+     * <p>
+     * Only the ancestors of the given {@link Account} are computed, the ones of the other {@link Account}s are reused.
+     *
+     * @param account The {@link Account} to add.
+     * @return The new {@link AccountHierarchy}.
+     * @since 2.1.0
+     */
+    public AccountHierarchy withAccount(Account account) {
+        if (contains(account.getId())) {
+            return this;
+        }
+
+        List<KapuaId> accountAncestorIds = new ArrayList<>();
+        KapuaId parentId = account.getScopeId();
+        if (parentId != null && contains(parentId)) {
+            accountAncestorIds.add(parentId);
+            accountAncestorIds.addAll(getAncestorIds(parentId));
+        }
+
+        Map<KapuaId, KapuaId> parentIds = new HashMap<>(parentIdsByAccountId);
+        parentIds.put(account.getId(), parentId);
+        Map<KapuaId, List<KapuaId>> ancestorIds = new HashMap<>(ancestorIdsByAccountId);
+        ancestorIds.put(account.getId(), Collections.unmodifiableList(accountAncestorIds));
+        return new AccountHierarchy(parentIds, ancestorIds);
+    }
+
+    /**
+     * Gets a copy of this snapshot which no longer contains the given {@link Account}.
+     * <p>
+     * {@link Account}s with children cannot be deleted, so the ancestors of the other {@link Account}s are not affected.
+     *
+     * @param accountId The {@link Account#getId()} to remove.
+     * @return The new {@link AccountHierarchy}.
+     * @since 2.1.0
+     */
+    public AccountHierarchy withoutAccount(KapuaId accountId) {
+        if (!contains(accountId)) {
+            return this;
+        }
+
+        Map<KapuaId, KapuaId> parentIds = new HashMap<>(parentIdsByAccountId);
+        parentIds.remove(accountId);
+        Map<KapuaId, List<KapuaId>> ancestorIds = new HashMap<>(ancestorIdsByAccountId);
+        ancestorIds.remove(accountId);
+        return new AccountHierarchy(parentIds, ancestorIds);
+    }
+
+    /**
+     * Checks whether the given {@link Account} is part of this snapshot.
+     *
+     * @param accountId The {@link Account#getId()}.
+     * @return {@code true} if the {@link Account} is known, {@code false} otherwise.
+     * @since 2.1.0
+     */
+    public boolean contains(KapuaId accountId) {
+        return ancestorIdsByAccountId.containsKey(accountId);
+    }
+
+    /**
+     * Gets the parent of the given {@link Account}.
+     *
+     * @param accountId The {@link Account#getId()}.
+     * @return The {@link Account#getScopeId()}, or {@code null} if the {@link Account} is the root one or is not known.
+     * @since 2.1.0
+     */
+    public KapuaId getParentId(KapuaId accountId) {
+        return parentIdsByAccountId.get(accountId);
+    }
+
+    /**
+     * Gets the ancestors of the given {@link Account}.
+     *
+     * @param accountId The {@link Account#getId()}.
+     * @return The ancestor {@link Account#getId()}s, parent first, or an empty {@link List} if the {@link Account} is not known.
+     * @since 2.1.0
+     */
+    public List<KapuaId> getAncestorIds(KapuaId accountId) {
+        return ancestorIdsByAccountId.getOrDefault(accountId, Collections.emptyList());
+    }
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.account.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.event.ServiceEventBusListener;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.account.Account;
+import org.eclipse.kapua.service.account.AccountListResult;
+import org.eclipse.kapua.service.account.AccountRepository;
+import org.eclipse.kapua.storage.TxManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Local cache of the {@link AccountHierarchy} of all {@link Account}s.
+ * <p>
+ * The {@link AccountHierarchy} is loaded with a single query on first use and is reused until:
+ * <ul>
+ *     <li>an {@link Account} {@link ServiceEvent} is received from the other nodes</li>
+ *     <li>it expires, to bound staleness when {@link ServiceEvent}s are not delivered</li>
+ * </ul>
+ * {@link Account}s created or deleted on this node are applied to the current {@link AccountHierarchy} through {@link #onAccountCreated(Account)}
+ * and {@link #onAccountDeleted(KapuaId)}, without reloading it.
+ * <p>
+ * {@link Account}s created on other nodes may be missing until the {@link ServiceEvent} is received or the {@link AccountHierarchy} expires.
+ * Callers must fall back to the database for {@link Account}s not in the {@link AccountHierarchy}, and must not rely on it to find descendants.
+ *
+ * @since 2.1.0
+ */
+public class AccountHierarchyCache implements ServiceEventBusListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccountHierarchyCache.class);
+
+    private final TxManager txManager;
+    private final AccountRepository accountRepository;
+    private final long expireAfterMillis;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructor.
+     *
+     * @param txManager          The {@link TxManager}.
+     * @param accountRepository  The {@link AccountRepository}.
+     * @param expireAfterSeconds The seconds after which the {@link AccountHierarchy} is reloaded.
+     * @since 2.1.0
+     */
+    public AccountHierarchyCache(TxManager txManager, AccountRepository accountRepository, int expireAfterSeconds) {
+        this.txManager = txManager;
+        this.accountRepository = accountRepository;
+        this.expireAfterMillis = TimeUnit.SECONDS.toMillis(expireAfterSeconds);
+    }
+
+    /**
+     * Gets the current {@link AccountHierarchy}, loading it if missing, invalidated or expired.
+     *
+     * @return The current {@link AccountHierarchy}.
+     * @throws KapuaException If the {@link Account}s cannot be read.
+     * @since 2.1.0
+     */
+    public AccountHierarchy get() throws KapuaException {
+        Snapshot current = snapshot;
+        if (isValid(current)) {
+            return current.hierarchy;
+        }
+
+        return load();
+    }
+
+    /**
+     * Invalidates the current {@link AccountHierarchy}, so that it is reloaded on next {@link #get()}.
+     * <p>
+     * Must be invoked after the transaction which changed the {@link Account}s has been committed.
+     *
+     * @since 2.1.0
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Adds the given {@link Account} to the current {@link AccountHierarchy}.
+     * <p>
+     * Must be invoked after the transaction which created the {@link Account} has been committed.
+     * Does nothing if the {@link AccountHierarchy} is not loaded, since next {@link #get()} will load it anyway.
+     *
+     * @param account The created {@link Account}.
+     * @since 2.1.0
+     */
+    public void onAccountCreated(Account account) {
+        update(current -> current.withAccount(account));
+    }
+
+    /**
+     * Removes the given {@link Account} from the current {@link AccountHierarchy}.
+     * <p>
+     * Must be invoked after the transaction which deleted the {@link Account} has been committed.
+     * Does nothing if the {@link AccountHierarchy} is not loaded, since next {@link #get()} will load it anyway.
+     *
+     * @param accountId The deleted {@link Account#getId()}.
+     * @since 2.1.0
+     */
+    public void onAccountDeleted(KapuaId accountId) {
+        update(current -> current.withoutAccount(accountId));
+    }
+
+    @Override
+    public void onKapuaEvent(ServiceEvent kapuaEvent) {
+        if (kapuaEvent == null) {
+            return;
+        }
+
+        LOG.debug("Received account event {} for account: {}. Invalidating account hierarchy", kapuaEvent.getOperation(), kapuaEvent.getEntityId());
+        invalidate();
+    }
+
+    private synchronized AccountHierarchy load() throws KapuaException {
+        // Another thread may have loaded it meanwhile
+        Snapshot current = snapshot;
+        if (isValid(current)) {
+            return current.hierarchy;
+        }
+
+        // Read before querying, so that an invalidation received while loading triggers another load
+        long loadingGeneration = generation.get();
+        AccountListResult accounts = txManager.execute(tx -> accountRepository.query(tx, new AccountQueryImpl(KapuaId.ANY)));
+
+        AccountHierarchy hierarchy = new AccountHierarchy(accounts.getItems());
+        snapshot = new Snapshot(hierarchy, loadingGeneration, System.currentTimeMillis());
+
+        LOG.debug("Loaded account hierarchy of {} accounts", accounts.getSize());
+        return hierarchy;
+    }
+
+    private synchronized void update(UnaryOperator<AccountHierarchy> change) {
+        // Synchronized with load(), so that the change is applied on top of a load in progress
+        Snapshot current = snapshot;
+        if (isValid(current)) {
+            snapshot = new Snapshot(change.apply(current.hierarchy), current.generation, current.loadedOn);
+        }
+    }
+
+    private boolean isValid(Snapshot current) {
+        return current != null &&
+                current.generation == generation.get() &&
+                System.currentTimeMillis() - current.loadedOn < expireAfterMillis;
+    }
+
+    private static class Snapshot {
+
+        private final AccountHierarchy hierarchy;
+        private final long generation;
+        private final long loadedOn;
+
+        private Snapshot(AccountHierarchy hierarchy, long generation, long loadedOn) {
+            this.hierarchy = hierarchy;
+            this.generation = generation;
+            this.loadedOn = loadedOn;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.account.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.event.ServiceEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+/**
+ * {@link ServiceModule} that subscribes the {@link AccountHierarchyCache} to the account {@link org.eclipse.kapua.event.ServiceEvent}s.
+ * <p>
+ * Each instance subscribes with its own name, since every node keeps its own {@link AccountHierarchyCache} and must receive all events.
+ * If the subscription fails, the {@link AccountHierarchyCache} relies only on local invalidations and on its expiration.
+ *
+ * @since 2.1.0
+ */
+public class AccountHierarchyCacheServiceModule implements ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccountHierarchyCacheServiceModule.class);
+
+    private final AccountHierarchyCache accountHierarchyCache;
+    private final ServiceEventBus serviceEventBus;
+    private final String accountEventsAddress;
+
+    private boolean subscribed;
+
+    /**
+     * Constructor.
+     *
+     * @param accountHierarchyCache The {@link AccountHierarchyCache} to keep up to date.
+     * @param serviceEventBus       The {@link ServiceEventBus}.
+     * @param accountEventsAddress  The address of the account events.
+     * @since 2.1.0
+     */
+    public AccountHierarchyCacheServiceModule(AccountHierarchyCache accountHierarchyCache, ServiceEventBus serviceEventBus, String accountEventsAddress) {
+        this.accountHierarchyCache = accountHierarchyCache;
+        this.serviceEventBus = serviceEventBus;
+        this.accountEventsAddress = accountEventsAddress;
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (subscribed) {
+            return;
+        }
+
+        String subscriptionName = String.format("%s-account-hierarchy-%s", accountEventsAddress, UUID.randomUUID());
+        try {
+            serviceEventBus.subscribe(accountEventsAddress, subscriptionName, accountHierarchyCache);
+            subscribed = true;
+        } catch (Exception e) {
+            LOG.warn("Cannot subscribe account hierarchy cache to account events on address {}. Cached hierarchy will only expire", accountEventsAddress, e);
+        }
+    }
+
+    @Override
+    public void stop() throws KapuaException {
+        // Subscriptions are closed along with the ServiceEventBus
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 
 import org.eclipse.kapua.commons.configuration.AccountRelativeFinder;
+import org.eclipse.kapua.commons.configuration.ResourceLimitCounterReconciler;
 import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
 import org.eclipse.kapua.commons.core.ServiceModule;
@@ -26,11 +27,14 @@ import org.eclipse.kapua.commons.jpa.EventStorer;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
 import org.eclipse.kapua.commons.jpa.NamedCacheFactory;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreFactory;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
 import org.eclipse.kapua.commons.service.event.store.internal.EventStoreServiceImpl;
 import org.eclipse.kapua.commons.service.internal.cache.NamedEntityCache;
+import org.eclipse.kapua.commons.setting.system.SystemSetting;
+import org.eclipse.kapua.commons.setting.system.SystemSettingKey;
 import org.eclipse.kapua.event.ServiceEventBus;
 import org.eclipse.kapua.event.ServiceEventBusException;
 import org.eclipse.kapua.model.domain.Actions;
@@ -40,6 +44,7 @@ import org.eclipse.kapua.service.account.AccountFactory;
 import org.eclipse.kapua.service.account.AccountRepository;
 import org.eclipse.kapua.service.account.AccountService;
 import org.eclipse.kapua.service.account.internal.setting.KapuaAccountSetting;
+import org.eclipse.kapua.service.account.internal.setting.KapuaAccountSettingKeys;
 import org.eclipse.kapua.service.authorization.AuthorizationService;
 import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
 
@@ -71,10 +76,35 @@ public class AccountModule extends AbstractKapuaModule implements Module {
     @Singleton
     AccountRelativeFinder accountRelativeFinder(
             AccountFactory accountFactory,
-            AccountService accountService) {
+            AccountService accountService,
+            AccountHierarchyCache accountHierarchyCache) {
         return new AccountRelativeFinderImpl(
                 accountFactory,
-                accountService);
+                accountService,
+                accountHierarchyCache);
+    }
+
+    @Provides
+    @Singleton
+    AccountHierarchyCache accountHierarchyCache(
+            AccountRepository accountRepository,
+            KapuaJpaTxManagerFactory jpaTxManagerFactory,
+            KapuaAccountSetting kapuaAccountSetting) {
+        return new AccountHierarchyCache(
+                jpaTxManagerFactory.create("kapua-account"),
+                accountRepository,
+                kapuaAccountSetting.getInt(KapuaAccountSettingKeys.ACCOUNT_HIERARCHY_CACHE_TTL, 300));
+    }
+
+    @ProvidesIntoSet
+    ServiceModule accountHierarchyCacheServiceModule(
+            AccountHierarchyCache accountHierarchyCache,
+            ServiceEventBus serviceEventBus,
+            KapuaAccountSetting kapuaAccountSetting) {
+        return new AccountHierarchyCacheServiceModule(
+                accountHierarchyCache,
+                serviceEventBus,
+                kapuaAccountSetting.getString(KapuaAccountSettingKeys.ACCOUNT_EVENT_ADDRESS));
     }
 
     @ProvidesIntoSet
@@ -85,6 +115,7 @@ public class AccountModule extends AbstractKapuaModule implements Module {
             EventStoreFactory eventStoreFactory,
             EventStoreRecordRepository eventStoreRecordRepository,
             ServiceEventBus serviceEventBus,
+            CommonsMetric commonsMetric,
             KapuaAccountSetting kapuaAccountSetting,
             @Named("eventsModuleName") String eventModuleName
     ) throws ServiceEventBusException {
@@ -100,12 +131,24 @@ public class AccountModule extends AbstractKapuaModule implements Module {
                                 eventStoreRecordRepository
                         ),
                         txManagerFactory.create("kapua-account"),
-                        serviceEventBus
+                        serviceEventBus,
+                        commonsMetric
                 ),
                 serviceEventBus,
                 eventModuleName);
     }
 
+    @ProvidesIntoSet
+    ServiceModule resourceLimitCounterReconciler(
+            Map<Class<?>, ServiceConfigurationManager> serviceConfigurationManagersByServiceClass,
+            SystemSetting systemSetting) {
+        return new ResourceLimitCounterReconciler(
+                serviceConfigurationManagersByServiceClass.values(),
+                systemSetting.getLong(SystemSettingKey.RESOURCE_LIMIT_COUNTER_RECONCILE_INTERVAL, 3600000L),
+                systemSetting.getLong(SystemSettingKey.RESOURCE_LIMIT_COUNTER_MAX_AGE, 86400000L),
+                systemSetting.getInt(SystemSettingKey.RESOURCE_LIMIT_COUNTER_RECONCILE_BATCH_SIZE, 100));
+    }
+
     @Provides
     @Singleton
     AccountService accountService(AccountRepository accountRepository,
@@ -115,7 +158,8 @@ public class AccountModule extends AbstractKapuaModule implements Module {
             Map<Class<?>, ServiceConfigurationManager> serviceConfigurationManagersByServiceClass,
             EventStorer eventStorer,
             KapuaJpaTxManagerFactory jpaTxManagerFactory,
-            AccountMapper accountMapper) {
+            AccountMapper accountMapper,
+            AccountHierarchyCache accountHierarchyCache) {
         return new AccountServiceImpl(
                 jpaTxManagerFactory.create("kapua-account"),
                 accountRepository,
@@ -123,7 +167,8 @@ public class AccountModule extends AbstractKapuaModule implements Module {
                 authorizationService,
                 serviceConfigurationManagersByServiceClass.get(AccountService.class),
                 eventStorer,
-                accountMapper);
+                accountMapper,
+                accountHierarchyCache);
     }
 
     @Provides
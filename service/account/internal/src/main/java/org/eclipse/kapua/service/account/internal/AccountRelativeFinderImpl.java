@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -39,11 +39,13 @@ public class AccountRelativeFinderImpl implements AccountRelativeFinder, KapuaSe
 
     private final AccountFactory accountFactory;
     private final AccountService accountService;
+    private final AccountHierarchyCache accountHierarchyCache;
 
     @Inject
-    public AccountRelativeFinderImpl(AccountFactory accountFactory, AccountService accountService) {
+    public AccountRelativeFinderImpl(AccountFactory accountFactory, AccountService accountService, AccountHierarchyCache accountHierarchyCache) {
         this.accountFactory = accountFactory;
         this.accountService = accountService;
+        this.accountHierarchyCache = accountHierarchyCache;
     }
 
     @Override
@@ -64,6 +66,12 @@ public class AccountRelativeFinderImpl implements AccountRelativeFinder, KapuaSe
 
     @Override
     public List<KapuaId> findParentIds(KapuaId accountId) throws KapuaException {
+        AccountHierarchy accountHierarchy = accountHierarchyCache.get();
+        if (accountHierarchy.contains(accountId)) {
+            return accountHierarchy.getAncestorIds(accountId);
+        }
+
+        // Not yet in the cached hierarchy, i.e. created on another node after it has been loaded
         Account account = KapuaSecurityUtils.doPrivileged(() -> accountService.find(accountId));
 
         if(account == null || account.getParentAccountPath() == null) {
@@ -89,6 +97,11 @@ public class AccountRelativeFinderImpl implements AccountRelativeFinder, KapuaSe
 
     @Override
     public KapuaId findParentId(KapuaId accountId) throws KapuaException {
+        AccountHierarchy accountHierarchy = accountHierarchyCache.get();
+        if (accountHierarchy.contains(accountId)) {
+            return accountHierarchy.getParentId(accountId);
+        }
+
         Account account = KapuaSecurityUtils.doPrivileged(() -> accountService.find(accountId));
 
         if(account == null){
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,7 @@ public class AccountServiceImpl
     private final AccountRepository accountRepository;
     private final EventStorer eventStorer;
     private final AccountMapper accountMapper;
+    private final AccountHierarchyCache accountHierarchyCache;
 
     /**
      * Injectable constructor
@@ -80,6 +81,8 @@ public class AccountServiceImpl
      * @param serviceConfigurationManager
      *         The {@link ServiceConfigurationManager} instance
      * @param eventStorer
+     * @param accountHierarchyCache
+     *         The {@link AccountHierarchyCache} instance
      * @since 2.0.0
      */
     @Inject
@@ -90,11 +93,13 @@ public class AccountServiceImpl
             AuthorizationService authorizationService,
             ServiceConfigurationManager serviceConfigurationManager,
             EventStorer eventStorer,
-            AccountMapper accountMapper) {
+            AccountMapper accountMapper,
+            AccountHierarchyCache accountHierarchyCache) {
         super(txManager, serviceConfigurationManager, Domains.ACCOUNT, authorizationService, permissionFactory);
         this.accountRepository = accountRepository;
         this.eventStorer = eventStorer;
         this.accountMapper = accountMapper;
+        this.accountHierarchyCache = accountHierarchyCache;
     }
 
     @Override
@@ -111,7 +116,7 @@ public class AccountServiceImpl
         // Check Access
         authorizationService.checkPermission(permissionFactory.newPermission(Domains.ACCOUNT, Actions.write, accountCreator.getScopeId()));
 
-        return txManager.execute(tx -> {
+        final Account newAccount = txManager.execute(tx -> {
             // Check entity limit
             serviceConfigurationManager.checkAllowedEntities(tx, accountCreator.getScopeId(), "Accounts");
             // Check if the parent account exists
@@ -163,6 +168,10 @@ public class AccountServiceImpl
             createdAccount.setParentAccountPath(parentAccountPath);
             return accountRepository.update(tx, createdAccount);
         });
+
+        // The new account is committed
+        accountHierarchyCache.onAccountCreated(newAccount);
+        return newAccount;
     }
 
     @Override
@@ -301,10 +310,15 @@ public class AccountServiceImpl
                         throw new KapuaIllegalAccessException(Actions.delete.name());
                     }
 
-                    return accountRepository.delete(tx, account);
+                    final Account deletedAccount = accountRepository.delete(tx, account);
+                    serviceConfigurationManager.releaseAllowedEntity(tx, deletedAccount.getScopeId());
+                    return deletedAccount;
                 },
                 eventStorer::accept
         );
+
+        // The account deletion is committed
+        accountHierarchyCache.onAccountDeleted(accountId);
     }
 
     @Override
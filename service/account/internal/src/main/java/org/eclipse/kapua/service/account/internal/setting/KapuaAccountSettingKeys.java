@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -25,7 +25,13 @@ public enum KapuaAccountSettingKeys implements SettingKey {
      * The key value in the configuration resources.
      */
     ACCOUNT_KEY("account.key"),
-    ACCOUNT_EVENT_ADDRESS("account.eventAddress");
+    ACCOUNT_EVENT_ADDRESS("account.eventAddress"),
+    /**
+     * The seconds after which the cached account hierarchy is reloaded, even if no account event has been received.
+     *
+     * @since 2.1.0
+     */
+    ACCOUNT_HIERARCHY_CACHE_TTL("account.hierarchy.cache.ttl");
 
     private String key;
 
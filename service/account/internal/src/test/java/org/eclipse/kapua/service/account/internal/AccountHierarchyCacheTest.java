@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.account.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaQuery;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.account.AccountRepository;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+@Category(JUnitTests.class)
+public class AccountHierarchyCacheTest {
+
+    private static final KapuaId ROOT_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId CHILD_ID = new KapuaEid(BigInteger.valueOf(2));
+    private static final KapuaId GRANDCHILD_ID = new KapuaEid(BigInteger.valueOf(3));
+
+    private AccountRepository accountRepository;
+    private TxManager txManager;
+
+    @Before
+    public void setUp() throws KapuaException {
+        accountRepository = Mockito.mock(AccountRepository.class);
+        AccountListResultImpl accounts = new AccountListResultImpl();
+        accounts.addItems(Arrays.asList(
+                AccountHierarchyTest.newAccount(ROOT_ID, null),
+                AccountHierarchyTest.newAccount(CHILD_ID, ROOT_ID)));
+        Mockito.when(accountRepository.query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any())).thenReturn(accounts);
+
+        txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void getLoadsOnce() throws KapuaException {
+        AccountHierarchyCache instance = new AccountHierarchyCache(txManager, accountRepository, 300);
+
+        AccountHierarchy hierarchy = instance.get();
+
+        Assert.assertSame(hierarchy, instance.get());
+        Assert.assertTrue(hierarchy.contains(CHILD_ID));
+        Mockito.verify(accountRepository, Mockito.times(1)).query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any());
+    }
+
+    @Test
+    public void localChangesDoNotReload() throws KapuaException {
+        AccountHierarchyCache instance = new AccountHierarchyCache(txManager, accountRepository, 300);
+        instance.get();
+
+        instance.onAccountCreated(AccountHierarchyTest.newAccount(GRANDCHILD_ID, CHILD_ID));
+        Assert.assertEquals(Arrays.asList(CHILD_ID, ROOT_ID), instance.get().getAncestorIds(GRANDCHILD_ID));
+
+        instance.onAccountDeleted(GRANDCHILD_ID);
+        Assert.assertFalse(instance.get().contains(GRANDCHILD_ID));
+
+        Mockito.verify(accountRepository, Mockito.times(1)).query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any());
+    }
+
+    @Test
+    public void localChangesBeforeLoadAreIgnored() throws KapuaException {
+        AccountHierarchyCache instance = new AccountHierarchyCache(txManager, accountRepository, 300);
+
+        instance.onAccountCreated(AccountHierarchyTest.newAccount(GRANDCHILD_ID, CHILD_ID));
+        Mockito.verifyZeroInteractions(accountRepository);
+
+        // The loaded hierarchy comes from the database only
+        Assert.assertFalse(instance.get().contains(GRANDCHILD_ID));
+    }
+
+    @Test
+    public void eventReloads() throws KapuaException {
+        AccountHierarchyCache instance = new AccountHierarchyCache(txManager, accountRepository, 300);
+        instance.get();
+
+        instance.onKapuaEvent(new ServiceEvent());
+        instance.get();
+
+        Mockito.verify(accountRepository, Mockito.times(2)).query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any());
+    }
+
+    @Test
+    public void expiredReloads() throws KapuaException {
+        AccountHierarchyCache instance = new AccountHierarchyCache(txManager, accountRepository, 0);
+
+        instance.get();
+        instance.get();
+
+        Mockito.verify(accountRepository, Mockito.times(2)).query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any());
+    }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.account.internal;
+
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.account.Account;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+@Category(JUnitTests.class)
+public class AccountHierarchyTest {
+
+    private static final KapuaId ROOT_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId CHILD_ID = new KapuaEid(BigInteger.valueOf(2));
+    private static final KapuaId GRANDCHILD_ID = new KapuaEid(BigInteger.valueOf(3));
+    private static final KapuaId UNKNOWN_ID = new KapuaEid(BigInteger.valueOf(99));
+
+    @Test
+    public void ancestorsParentFirst() {
+        AccountHierarchy instance = new AccountHierarchy(Arrays.asList(
+                newAccount(GRANDCHILD_ID, CHILD_ID),
+                newAccount(ROOT_ID, null),
+                newAccount(CHILD_ID, ROOT_ID)));
+
+        Assert.assertTrue(instance.contains(GRANDCHILD_ID));
+        Assert.assertEquals(Arrays.asList(CHILD_ID, ROOT_ID), instance.getAncestorIds(GRANDCHILD_ID));
+        Assert.assertEquals(Collections.singletonList(ROOT_ID), instance.getAncestorIds(CHILD_ID));
+        Assert.assertTrue(instance.getAncestorIds(ROOT_ID).isEmpty());
+        Assert.assertEquals(CHILD_ID, instance.getParentId(GRANDCHILD_ID));
+        Assert.assertNull(instance.getParentId(ROOT_ID));
+    }
+
+    @Test
+    public void unknownAccount() {
+        AccountHierarchy instance = new AccountHierarchy(Collections.singletonList(newAccount(CHILD_ID, UNKNOWN_ID)));
+
+        Assert.assertFalse(instance.contains(UNKNOWN_ID));
+        Assert.assertTrue(instance.getAncestorIds(UNKNOWN_ID).isEmpty());
+        Assert.assertNull(instance.getParentId(UNKNOWN_ID));
+        // Ancestors stop at the first unknown parent
+        Assert.assertTrue(instance.getAncestorIds(CHILD_ID).isEmpty());
+        Assert.assertEquals(UNKNOWN_ID, instance.getParentId(CHILD_ID));
+    }
+
+    @Test
+    public void parentLoopIsNotFollowed() {
+        AccountHierarchy instance = new AccountHierarchy(Arrays.asList(
+                newAccount(ROOT_ID, CHILD_ID),
+                newAccount(CHILD_ID, ROOT_ID)));
+
+        Assert.assertEquals(Collections.singletonList(ROOT_ID), instance.getAncestorIds(CHILD_ID));
+        Assert.assertEquals(Collections.singletonList(CHILD_ID), instance.getAncestorIds(ROOT_ID));
+    }
+
+    @Test
+    public void withAccount() {
+        AccountHierarchy instance = new AccountHierarchy(Arrays.asList(
+                newAccount(ROOT_ID, null),
+                newAccount(CHILD_ID, ROOT_ID)));
+
+        AccountHierarchy updated = instance.withAccount(newAccount(GRANDCHILD_ID, CHILD_ID));
+
+        Assert.assertEquals(Arrays.asList(CHILD_ID, ROOT_ID), updated.getAncestorIds(GRANDCHILD_ID));
+        Assert.assertEquals(CHILD_ID, updated.getParentId(GRANDCHILD_ID));
+        Assert.assertEquals(Collections.singletonList(ROOT_ID), updated.getAncestorIds(CHILD_ID));
+        // The previous snapshot is left untouched
+        Assert.assertFalse(instance.contains(GRANDCHILD_ID));
+        // Adding a known account again changes nothing
+        Assert.assertSame(updated, updated.withAccount(newAccount(GRANDCHILD_ID, CHILD_ID)));
+    }
+
+    @Test
+    public void withoutAccount() {
+        AccountHierarchy instance = new AccountHierarchy(Arrays.asList(
+                newAccount(ROOT_ID, null),
+                newAccount(CHILD_ID, ROOT_ID)));
+
+        AccountHierarchy updated = instance.withoutAccount(CHILD_ID);
+
+        Assert.assertFalse(updated.contains(CHILD_ID));
+        Assert.assertNull(updated.getParentId(CHILD_ID));
+        Assert.assertTrue(updated.contains(ROOT_ID));
+        // The previous snapshot is left untouched
+        Assert.assertTrue(instance.contains(CHILD_ID));
+        // Removing an unknown account changes nothing
+        Assert.assertSame(updated, updated.withoutAccount(UNKNOWN_ID));
+    }
+
+    static Account newAccount(KapuaId accountId, KapuaId parentId) {
+        Account account = new AccountImpl(parentId, "account-" + accountId);
+        account.setId(accountId);
+        return account;
+    }
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.account.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.jpa.EventStorer;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaQuery;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.account.Account;
+import org.eclipse.kapua.service.account.AccountRepository;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+@Category(JUnitTests.class)
+public class AccountServiceImplTest {
+
+    private static final KapuaId PARENT_ACCOUNT_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId ACCOUNT_ID = new KapuaEid(BigInteger.TEN);
+
+    private ServiceConfigurationManager serviceConfigurationManager;
+    private AccountRepository accountRepository;
+    private AccountHierarchyCache accountHierarchyCache;
+    private AccountServiceImpl instance;
+
+    @Before
+    public void setUp() throws KapuaException {
+        serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        accountRepository = Mockito.mock(AccountRepository.class);
+        accountHierarchyCache = Mockito.mock(AccountHierarchyCache.class);
+
+        final TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        instance = new AccountServiceImpl(
+                txManager,
+                accountRepository,
+                Mockito.mock(PermissionFactory.class),
+                Mockito.mock(AuthorizationService.class),
+                serviceConfigurationManager,
+                Mockito.mock(EventStorer.class),
+                Mockito.mock(AccountMapper.class),
+                accountHierarchyCache
+        );
+    }
+
+    @Test
+    public void deleteReleasesAllowedEntity() throws KapuaException {
+        Account account = new AccountImpl(PARENT_ACCOUNT_ID, "child-account");
+        account.setId(ACCOUNT_ID);
+        Mockito.when(accountRepository.query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any())).thenReturn(new AccountListResultImpl());
+        Mockito.when(accountRepository.find(Mockito.<TxContext>any(), Mockito.eq(PARENT_ACCOUNT_ID), Mockito.eq(ACCOUNT_ID))).thenReturn(Optional.of(account));
+        Mockito.when(accountRepository.delete(Mockito.<TxContext>any(), Mockito.eq(account))).thenReturn(account);
+
+        instance.delete(PARENT_ACCOUNT_ID, ACCOUNT_ID);
+
+        // Child accounts are counted by their parent account
+        Mockito.verify(serviceConfigurationManager).releaseAllowedEntity(Mockito.<TxContext>any(), Mockito.eq(PARENT_ACCOUNT_ID));
+        Mockito.verify(accountHierarchyCache).onAccountDeleted(ACCOUNT_ID);
+    }
+
+    @Test
+    public void deleteWithChildAccountsDoesNotReleaseAllowedEntity() throws KapuaException {
+        AccountListResultImpl childAccounts = new AccountListResultImpl();
+        childAccounts.addItem(new AccountImpl(ACCOUNT_ID, "grandchild-account"));
+        Mockito.when(accountRepository.query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any())).thenReturn(childAccounts);
+
+        try {
+            instance.delete(PARENT_ACCOUNT_ID, ACCOUNT_ID);
+            Assert.fail("Accounts with child accounts cannot be deleted");
+        } catch (KapuaException e) {
+            Mockito.verify(accountRepository, Mockito.never()).delete(Mockito.<TxContext>any(), Mockito.<Account>any());
+            Mockito.verifyZeroInteractions(serviceConfigurationManager);
+        }
+    }
+}
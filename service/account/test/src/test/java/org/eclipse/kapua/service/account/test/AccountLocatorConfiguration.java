@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ import org.eclipse.kapua.service.account.AccountFactory;
 import org.eclipse.kapua.service.account.AccountRepository;
 import org.eclipse.kapua.service.account.AccountService;
 import org.eclipse.kapua.service.account.internal.AccountFactoryImpl;
+import org.eclipse.kapua.service.account.internal.AccountHierarchyCache;
 import org.eclipse.kapua.service.account.internal.AccountImplJpaRepository;
 import org.eclipse.kapua.service.account.internal.AccountMapperImpl;
 import org.eclipse.kapua.service.account.internal.AccountServiceImpl;
@@ -140,7 +141,8 @@ public class AccountLocatorConfiguration {
                                 new ResourceBasedServiceConfigurationMetadataProvider(new XmlUtil(new TestJAXBContextProvider()))
                         ),
                         new EventStorerImpl(new EventStoreRecordImplJpaRepository(jpaRepoConfig)),
-                        accountMapper));
+                        accountMapper,
+                        new AccountHierarchyCache(txManager, accountRepository, 300)));
                 bind(AccountRepository.class).toInstance(new AccountImplJpaRepository(jpaRepoConfig));
             }
         };
@@ -37,7 +37,7 @@ import java.util.function.Predicate;
  */
 @XmlRootElement(name = "result")
 @XmlAccessorType(XmlAccessType.PROPERTY)
-@XmlType(propOrder = {"limitExceeded", "size", "items", "totalCount"})
+@XmlType(propOrder = {"limitExceeded", "size", "items", "totalCount", "totalCountEstimated"})
 public interface KapuaListResult<E extends KapuaEntity> extends KapuaSerializable {
 
     /**
@@ -199,4 +199,21 @@ public interface KapuaListResult<E extends KapuaEntity> extends KapuaSerializabl
      * @since 1.2.0
      */
     void setTotalCount(Long totalCount);
+
+    /**
+     * Gets whether the {@link #getTotalCount()} is a lower bound estimate rather than the exact count.
+     *
+     * @return {@literal true} if {@link #getTotalCount()} is estimated, {@literal null} or {@literal false} otherwise.
+     * @see KapuaQuery#getEstimateTotalCount()
+     * @since 2.1.0
+     */
+    Boolean getTotalCountEstimated();
+
+    /**
+     * Sets whether the {@link #getTotalCount()} is a lower bound estimate rather than the exact count.
+     *
+     * @param totalCountEstimated {@literal true} if {@link #getTotalCount()} is estimated.
+     * @since 2.1.0
+     */
+    void setTotalCountEstimated(Boolean totalCountEstimated);
 }
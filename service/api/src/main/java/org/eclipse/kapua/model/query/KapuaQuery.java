@@ -195,6 +195,48 @@ public interface KapuaQuery {
      * @since 1.2.0
      */
     void setAskTotalCount(Boolean askTotalCount);
+
+    /**
+     * Gets the {@code estimateTotalCount} flag.
+     * <p>
+     * If {@literal true} and {@link #getAskTotalCount()} is {@literal true}, the {@code totalCount} of the returning {@link KapuaListResult} is computed in a bounded time:
+     * when the number of matching entries exceeds a configured threshold, the threshold is returned and {@link KapuaListResult#getTotalCountEstimated()} is set to {@literal true}.
+     *
+     * @return The value of {@code estimateTotalCount}
+     * @since 2.1.0
+     */
+    Boolean getEstimateTotalCount();
+
+    /**
+     * Set the {@code estimateTotalCount} flag.
+     *
+     * @param estimateTotalCount
+     * @see #getEstimateTotalCount()
+     * @since 2.1.0
+     */
+    void setEstimateTotalCount(Boolean estimateTotalCount);
+
+    /**
+     * Gets the {@link KapuaEntity#getId()} after which the result set starts.
+     * <p>
+     * This enables keyset pagination: instead of skipping {@link #getOffset()} entries, the result set starts right after the given {@link KapuaEntity} according to the sort criteria.
+     * The last {@link KapuaEntity#getId()} of a page is the {@code afterId} of the next page.
+     *
+     * @return The {@link KapuaEntity#getId()} after which the result set starts.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "afterId")
+    @XmlJavaTypeAdapter(KapuaIdAdapter.class)
+    KapuaId getAfterId();
+
+    /**
+     * Sets the {@link KapuaEntity#getId()} after which the result set starts.
+     *
+     * @param afterId The {@link KapuaEntity#getId()} after which the result set starts.
+     * @see #getAfterId()
+     * @since 2.1.0
+     */
+    void setAfterId(KapuaId afterId);
     // Predicates factory
 
     /**
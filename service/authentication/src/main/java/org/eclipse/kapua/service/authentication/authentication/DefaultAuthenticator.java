@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -82,7 +82,9 @@ public class DefaultAuthenticator implements Authenticator {
         adminUserName = systemSetting.getString(SystemSettingKey.SYS_ADMIN_USERNAME);
         raiseLifecycleEvents = serviceAuthenticationSetting.getBoolean(ServiceAuthenticationSettingKey.SERVICE_AUTHENTICATION_ENABLE_LIFECYCLE_EVENTS, false);
         if (raiseLifecycleEvents) {
-            lifecycleEventAddress = serviceAuthenticationSetting.getString(ServiceAuthenticationSettingKey.SERVICE_AUTHENTICATION_LIFECYCLE_EVENTS_ADDRESS);
+            lifecycleEventAddress = serviceAuthenticationSetting.getString(
+                    ServiceAuthenticationSettingKey.SERVICE_AUTHENTICATION_LIFECYCLE_EVENTS_ADDRESS,
+                    systemSetting.getString(SystemSettingKey.EVENT_BUS_LIFECYCLE_EVENTS_ADDRESS));
             this.serviceEventBus = serviceEventBus;
         } else {
             logger.info("Skipping AuthenticationService event bus initialization since the raise of connect/disconnect event is disabled!");
@@ -184,6 +186,8 @@ public class DefaultAuthenticator implements Authenticator {
         ServiceEvent serviceEvent = new ServiceEvent();
         serviceEvent.setEntityType(Device.class.getCanonicalName());
         serviceEvent.setInputs(authContext.getClientId());
+        // The broker address allows listeners to route requests to the device without reading its connection
+        serviceEvent.setOutputs(authContext.getBrokerHost());
         serviceEvent.setOperation(deviceConnectionStatus.name());
         serviceEvent.setService(this.getClass().getCanonicalName());
         serviceEvent.setUserId(KapuaEid.parseCompactId(authContext.getUserId()));
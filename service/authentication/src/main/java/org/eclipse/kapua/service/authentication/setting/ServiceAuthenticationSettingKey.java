@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -28,7 +28,8 @@ public enum ServiceAuthenticationSettingKey implements SettingKey {
      */
     SERVICE_AUTHENTICATION_ENABLE_LIFECYCLE_EVENTS("service.authentication.enable_lifecycle_events"),
     /**
-     * Lifecycle events publishing address
+     * Lifecycle events publishing address.
+     * If not set, {@link org.eclipse.kapua.commons.setting.system.SystemSettingKey#EVENT_BUS_LIFECYCLE_EVENTS_ADDRESS} is used.
      */
     SERVICE_AUTHENTICATION_LIFECYCLE_EVENTS_ADDRESS("service.authentication.lifecycle_events_address");
 
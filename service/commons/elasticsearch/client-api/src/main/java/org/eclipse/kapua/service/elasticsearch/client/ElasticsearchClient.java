@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,11 +24,14 @@ import org.eclipse.kapua.service.elasticsearch.client.model.IndexRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.IndexResponse;
 import org.eclipse.kapua.service.elasticsearch.client.model.InsertRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.InsertResponse;
+import org.eclipse.kapua.service.elasticsearch.client.model.ResultCursor;
 import org.eclipse.kapua.service.elasticsearch.client.model.ResultList;
 import org.eclipse.kapua.service.elasticsearch.client.model.UpdateRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.UpdateResponse;
 
 import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Elasticsearch client definition.
@@ -179,6 +182,21 @@ public interface ElasticsearchClient<C extends Closeable> {
      */
     <T> ResultList<T> query(String index, Object query, Class<T> clazz) throws ClientException;
 
+    /**
+     * Finds by query, reading all the matching results with a cursor.
+     * <p>
+     * Offset and limit of the query are ignored: results are read in pages of the given size, so they are not bound by the max result window of the index.
+     *
+     * @param index    The index to look for.
+     * @param query    The query to perform.
+     * @param clazz    The expected {@link Object#getClass()}
+     * @param pageSize The number of results read with each request.
+     * @return The {@link ResultCursor} over the results that match the query.
+     * @throws ClientException if error occurs while querying.
+     * @since 2.1.0
+     */
+    <T> ResultCursor<T> scroll(String index, Object query, Class<T> clazz, int pageSize) throws ClientException;
+
     /**
      * Counts by query.
      *
@@ -190,6 +208,34 @@ public interface ElasticsearchClient<C extends Closeable> {
      */
     long count(String index, Object query) throws ClientException;
 
+    /**
+     * Gets the maximum value of a field among the documents matching each of the given filters, with a single aggregation request.
+     *
+     * @param index   The index to look for.
+     * @param query   The query which restricts the aggregated documents.
+     * @param filters The filters, by their key.
+     * @param field   The field to get the maximum value of.
+     * @return The maximum value of the field by filter key. Filters without matching documents are not included.
+     * @throws ClientException if error occurs while aggregating.
+     * @since 2.1.0
+     */
+    Map<String, Double> maxByFilter(String index, Object query, Map<String, JsonNode> filters, String field) throws ClientException;
+
+    /**
+     * Gets the distinct values of a field among the documents matching the query.
+     * <p>
+     * Values are read with a paginated aggregation, so they are not bound by the max result window of the index.
+     *
+     * @param index    The index to look for.
+     * @param query    The query which restricts the aggregated documents.
+     * @param field    The field to get the distinct values of.
+     * @param pageSize The number of values read with each aggregation request.
+     * @return The distinct values of the field, in ascending order.
+     * @throws ClientException if error occurs while aggregating.
+     * @since 2.1.0
+     */
+    List<String> distinct(String index, Object query, String field, int pageSize) throws ClientException;
+
     /**
      * Deletes by id.
      *
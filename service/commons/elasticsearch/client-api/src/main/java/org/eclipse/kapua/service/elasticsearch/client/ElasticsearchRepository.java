@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.kapua.service.elasticsearch.client.model.BulkUpdateResponse;
 import org.eclipse.kapua.service.elasticsearch.client.model.IndexRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.IndexResponse;
 import org.eclipse.kapua.service.elasticsearch.client.model.Response;
+import org.eclipse.kapua.service.elasticsearch.client.model.ResultCursor;
 import org.eclipse.kapua.service.elasticsearch.client.model.ResultList;
 import org.eclipse.kapua.service.elasticsearch.client.model.UpdateRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.UpdateResponse;
@@ -133,6 +134,22 @@ public abstract class ElasticsearchRepository<
         }
     }
 
+    /**
+     * Opens a {@link ResultCursor} over all the {@link Storable}s matching the query, ignoring its offset and limit.
+     *
+     * @param query    The query to perform.
+     * @param pageSize The number of {@link Storable}s read with each request.
+     * @return The {@link ResultCursor} over the matching {@link Storable}s.
+     * @throws ClientException if error occurs while querying.
+     * @since 2.1.0
+     */
+    public ResultCursor<T> scroll(Q query, int pageSize) throws ClientException {
+        final String indexName = indexResolver(query.getScopeId());
+        synchIndex(indexName);
+
+        return elasticsearchClientProviderInstance.getElasticsearchClient().scroll(indexName, query, clazz, pageSize);
+    }
+
     public static <T extends Storable> void setLimitExceed(StorableQuery query, boolean hitsExceedsTotalCount, StorableListResult<T> list) {
         int offset = query.getOffset() != null ? query.getOffset() : 0;
         if (query.getLimit() != null) {
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.elasticsearch.client.model;
+
+import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
+
+/**
+ * Query result cursor definition.
+ * <p>
+ * Unlike {@link ResultList}, results are read from Elasticsearch one page at a time, when the previous page has been consumed.
+ * It must be closed once done, to release the resources held by Elasticsearch.
+ *
+ * @param <T> {@link ResultCursor} object type.
+ * @since 2.1.0
+ */
+public interface ResultCursor<T> extends AutoCloseable {
+
+    /**
+     * Gets the next result, reading the next page when the current one has been consumed.
+     *
+     * @return The next result, or {@code null} if there are no more results.
+     * @throws ClientException if error occurs while reading the next page.
+     * @since 2.1.0
+     */
+    T next() throws ClientException;
+
+    /**
+     * Releases the resources held by Elasticsearch for this {@link ResultCursor}.
+     *
+     * @throws ClientException if error occurs while releasing.
+     * @since 2.1.0
+     */
+    @Override
+    void close() throws ClientException;
+}
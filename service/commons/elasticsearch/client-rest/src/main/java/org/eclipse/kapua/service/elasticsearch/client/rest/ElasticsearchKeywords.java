@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -39,4 +39,22 @@ public class ElasticsearchKeywords {
     static final String KEY_TOTAL = "total";
     static final String KEY_VALUE = "value";
     static final String KEY_RELATION = "relation";
+
+    static final String KEY_AGGS = "aggs";
+    static final String KEY_AGGREGATIONS = "aggregations";
+    static final String KEY_AFTER = "after";
+    static final String KEY_AFTER_KEY = "after_key";
+    static final String KEY_BUCKETS = "buckets";
+    static final String KEY_COMPOSITE = "composite";
+    static final String KEY_DOC_COUNT = "doc_count";
+    static final String KEY_FIELD = "field";
+    static final String KEY_FILTERS = "filters";
+    static final String KEY_KEY = "key";
+    static final String KEY_MAX = "max";
+    static final String KEY_SOURCES = "sources";
+    static final String KEY_TERMS = "terms";
+
+    static final String KEY_SCROLL = "scroll";
+    static final String KEY_SCROLL_ID = "scroll_id";
+    static final String KEY_DOC_SCROLL_ID = "_scroll_id";
 }
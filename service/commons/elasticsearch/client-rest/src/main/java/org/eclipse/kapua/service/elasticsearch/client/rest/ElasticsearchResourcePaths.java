@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -92,6 +92,13 @@ public class ElasticsearchResourcePaths {
         return String.format("/%s/_search", index);
     }
 
+    /**
+     * @since 2.1.0
+     */
+    public static String searchScroll() {
+        return "/_search/scroll";
+    }
+
     /**
      * @since 1.0.0
      */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.ParseException;
@@ -39,6 +40,7 @@ import org.eclipse.kapua.service.elasticsearch.client.model.IndexRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.IndexResponse;
 import org.eclipse.kapua.service.elasticsearch.client.model.InsertRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.InsertResponse;
+import org.eclipse.kapua.service.elasticsearch.client.model.ResultCursor;
 import org.eclipse.kapua.service.elasticsearch.client.model.ResultList;
 import org.eclipse.kapua.service.elasticsearch.client.model.UpdateRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.UpdateResponse;
@@ -54,7 +56,11 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Inject;
 import javax.validation.constraints.NotNull;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.Callable;
@@ -77,7 +83,11 @@ public class RestElasticsearchClient extends AbstractElasticsearchClient<RestCli
     private final ObjectMapper objectMapper;
     private static final String CLIENT_HITS_MAX_VALUE_EXCEEDED = "Total hits exceeds integer max value";
     private static final String QUERY_CONVERTED_QUERY = "Query - converted query: '{}'";
+    private static final String SCROLL_CONVERTED_QUERY = "Scroll - converted query: '{}'";
     private static final String COUNT_CONVERTED_QUERY = "Count - converted query: '{}'";
+    private static final String AGGREGATION_CONVERTED_QUERY = "Aggregation - converted query: '{}'";
+    private static final String AGGREGATION_NAME = "kapua_aggregation";
+    private static final String SUB_AGGREGATION_NAME = "kapua_sub_aggregation";
     private final MetricsEsClient metricsEsClient;
 
     /**
@@ -271,19 +281,153 @@ public class RestElasticsearchClient extends AbstractElasticsearchClient<RestCli
         Object queryFetchStyle = getModelConverter().getFetchStyle(query);
         if (resultsNode != null && !resultsNode.isEmpty()) {
             for (JsonNode result : resultsNode) {
-                Map<String, Object> object = objectMapper.convertValue(result.get(SchemaKeys.KEY_SOURCE), Map.class);
+                resultList.add(unmarshalHit(result, clazz, queryFetchStyle));
+            }
+        }
+        return resultList;
+    }
 
-                String id = result.get(ElasticsearchKeywords.KEY_DOC_ID).asText();
-                String docIndex = result.get(ElasticsearchKeywords.KEY_DOC_INDEX).asText();
+    @Override
+    public <T> ResultCursor<T> scroll(String index, Object query, Class<T> clazz, int pageSize) throws ClientException {
+        ObjectNode queryJsonNode = (ObjectNode) getModelConverter().convertQuery(query);
+        queryJsonNode.remove(SchemaKeys.KEY_FROM);
+        queryJsonNode.put(SchemaKeys.KEY_SIZE, pageSize);
+        LOG.debug(SCROLL_CONVERTED_QUERY, queryJsonNode);
 
-                object.put(ModelContext.TYPE_DESCRIPTOR_KEY, docIndex);
-                object.put(getModelContext().getIdKeyName(), id);
-                object.put(QueryConverter.QUERY_FETCH_STYLE_KEY, queryFetchStyle);
+        String json = writeRequestFromJsonNode(queryJsonNode);
+        Request request = new Request(ElasticsearchKeywords.ACTION_POST, ElasticsearchResourcePaths.search(index));
+        request.addParameter(ElasticsearchKeywords.KEY_SCROLL, getScrollKeepAlive());
+        request.setJsonEntity(json);
+        Response scrollResponse = restCallTimeoutHandler(() -> getClient().performRequest(request), index, "SCROLL");
 
-                resultList.add(getModelContext().unmarshal(clazz, object));
+        ScrollResultCursor<T> resultCursor = new ScrollResultCursor<>(index, clazz, getModelConverter().getFetchStyle(query));
+        if (isRequestSuccessful(scrollResponse)) {
+            resultCursor.setPage(readResponseAsJsonNode(scrollResponse));
+        } else if (!isRequestBadRequest(scrollResponse) &&
+                !isRequestNotFound(scrollResponse)) {
+            throw buildExceptionFromUnsuccessfulResponse("Scroll", scrollResponse);
+        }
+        return resultCursor;
+    }
+
+    /**
+     * Converts a search hit into the expected {@link Object#getClass()}.
+     *
+     * @param hit             The search hit.
+     * @param clazz           The expected {@link Object#getClass()}.
+     * @param queryFetchStyle The fetch style of the query.
+     * @return The converted search hit.
+     * @throws ClientException if error occurs while converting.
+     * @since 2.1.0
+     */
+    private <T> T unmarshalHit(JsonNode hit, Class<T> clazz, Object queryFetchStyle) throws ClientException {
+        Map<String, Object> object = objectMapper.convertValue(hit.get(SchemaKeys.KEY_SOURCE), Map.class);
+
+        String id = hit.get(ElasticsearchKeywords.KEY_DOC_ID).asText();
+        String docIndex = hit.get(ElasticsearchKeywords.KEY_DOC_INDEX).asText();
+
+        object.put(ModelContext.TYPE_DESCRIPTOR_KEY, docIndex);
+        object.put(getModelContext().getIdKeyName(), id);
+        object.put(QueryConverter.QUERY_FETCH_STYLE_KEY, queryFetchStyle);
+
+        return getModelContext().unmarshal(clazz, object);
+    }
+
+    /**
+     * Gets how long Elasticsearch keeps the search context of a scroll between two page requests.
+     *
+     * @return The keep alive, in the Elasticsearch time units format.
+     * @since 2.1.0
+     */
+    private String getScrollKeepAlive() {
+        return getClientConfiguration().getRequestConfiguration().getScrollTimeout() + "ms";
+    }
+
+    /**
+     * {@link ResultCursor} implementation based on the Elasticsearch scroll API.
+     * <p>
+     * Only the current page of hits is held in memory, and the next one is requested only once it has been consumed.
+     *
+     * @param <T> {@link ResultCursor} object type.
+     * @since 2.1.0
+     */
+    private class ScrollResultCursor<T> implements ResultCursor<T> {
+
+        private final String index;
+        private final Class<T> clazz;
+        private final Object queryFetchStyle;
+
+        private String scrollId;
+        private Iterator<JsonNode> hits = Collections.emptyIterator();
+        private boolean lastPage = true;
+
+        private ScrollResultCursor(String index, Class<T> clazz, Object queryFetchStyle) {
+            this.index = index;
+            this.clazz = clazz;
+            this.queryFetchStyle = queryFetchStyle;
+        }
+
+        private void setPage(JsonNode responseNode) {
+            JsonNode scrollIdNode = responseNode.get(ElasticsearchKeywords.KEY_DOC_SCROLL_ID);
+            if (scrollIdNode != null) {
+                scrollId = scrollIdNode.asText();
+            }
+
+            JsonNode hitsNode = responseNode.path(ElasticsearchKeywords.KEY_HITS).path(ElasticsearchKeywords.KEY_HITS);
+            hits = hitsNode.elements();
+            // An empty page means that all hits have been read
+            lastPage = scrollId == null || hitsNode.size() == 0;
+        }
+
+        @Override
+        public T next() throws ClientException {
+            if (!hits.hasNext() && !lastPage) {
+                nextPage();
+            }
+
+            return hits.hasNext() ? unmarshalHit(hits.next(), clazz, queryFetchStyle) : null;
+        }
+
+        private void nextPage() throws ClientException {
+            ObjectNode scrollNode = objectMapper.createObjectNode();
+            scrollNode.put(ElasticsearchKeywords.KEY_SCROLL, getScrollKeepAlive());
+            scrollNode.put(ElasticsearchKeywords.KEY_SCROLL_ID, scrollId);
+
+            String json = writeRequestFromJsonNode(scrollNode);
+            Request request = new Request(ElasticsearchKeywords.ACTION_POST, ElasticsearchResourcePaths.searchScroll());
+            request.setJsonEntity(json);
+            Response scrollResponse = restCallTimeoutHandler(() -> getClient().performRequest(request), index, "SCROLL");
+
+            if (isRequestSuccessful(scrollResponse)) {
+                setPage(readResponseAsJsonNode(scrollResponse));
+            } else {
+                throw buildExceptionFromUnsuccessfulResponse("Scroll", scrollResponse);
+            }
+        }
+
+        @Override
+        public void close() throws ClientException {
+            if (scrollId == null) {
+                return;
+            }
+
+            ObjectNode clearScrollNode = objectMapper.createObjectNode();
+            clearScrollNode.putArray(ElasticsearchKeywords.KEY_SCROLL_ID).add(scrollId);
+            scrollId = null;
+            hits = Collections.emptyIterator();
+            lastPage = true;
+
+            String json = writeRequestFromJsonNode(clearScrollNode);
+            Request request = new Request(ElasticsearchKeywords.ACTION_DELETE, ElasticsearchResourcePaths.searchScroll());
+            request.setJsonEntity(json);
+            Response clearScrollResponse = restCallTimeoutHandler(() -> getClient().performRequest(request), index, "CLEAR SCROLL");
+
+            // Scroll context may have already expired
+            if (!isRequestSuccessful(clearScrollResponse) &&
+                    !isRequestNotFound(clearScrollResponse)) {
+                throw buildExceptionFromUnsuccessfulResponse("Clear scroll", clearScrollResponse);
             }
         }
-        return resultList;
     }
 
     @Override
@@ -318,6 +462,103 @@ public class RestElasticsearchClient extends AbstractElasticsearchClient<RestCli
         return totalCount;
     }
 
+    @Override
+    public Map<String, Double> maxByFilter(String index, Object query, Map<String, JsonNode> filters, String field) throws ClientException {
+        ObjectNode aggregationQueryNode = convertAggregationQuery(query);
+
+        ObjectNode filtersNode = objectMapper.createObjectNode();
+        filters.forEach(filtersNode::set);
+
+        ObjectNode aggregationNode = objectMapper.createObjectNode();
+        aggregationNode.putObject(ElasticsearchKeywords.KEY_FILTERS).set(ElasticsearchKeywords.KEY_FILTERS, filtersNode);
+        aggregationNode.putObject(ElasticsearchKeywords.KEY_AGGS).putObject(SUB_AGGREGATION_NAME).putObject(ElasticsearchKeywords.KEY_MAX).put(ElasticsearchKeywords.KEY_FIELD, field);
+        aggregationQueryNode.putObject(ElasticsearchKeywords.KEY_AGGS).set(AGGREGATION_NAME, aggregationNode);
+
+        JsonNode bucketsNode = aggregate(index, aggregationQueryNode, "MAX BY FILTER").path(ElasticsearchKeywords.KEY_BUCKETS);
+
+        Map<String, Double> maxByFilter = new HashMap<>();
+        for (String filterKey : filters.keySet()) {
+            JsonNode bucketNode = bucketsNode.path(filterKey);
+            JsonNode maxNode = bucketNode.path(SUB_AGGREGATION_NAME).path(ElasticsearchKeywords.KEY_VALUE);
+            if (bucketNode.path(ElasticsearchKeywords.KEY_DOC_COUNT).asLong() > 0 && maxNode.isNumber()) {
+                maxByFilter.put(filterKey, maxNode.asDouble());
+            }
+        }
+        return maxByFilter;
+    }
+
+    @Override
+    public List<String> distinct(String index, Object query, String field, int pageSize) throws ClientException {
+        ObjectNode aggregationQueryNode = convertAggregationQuery(query);
+
+        ObjectNode compositeNode = aggregationQueryNode.putObject(ElasticsearchKeywords.KEY_AGGS).putObject(AGGREGATION_NAME).putObject(ElasticsearchKeywords.KEY_COMPOSITE);
+        compositeNode.put(SchemaKeys.KEY_SIZE, pageSize);
+        compositeNode.putArray(ElasticsearchKeywords.KEY_SOURCES).addObject().putObject(ElasticsearchKeywords.KEY_KEY).putObject(ElasticsearchKeywords.KEY_TERMS).put(ElasticsearchKeywords.KEY_FIELD, field);
+
+        List<String> distinctValues = new ArrayList<>();
+        JsonNode afterKeyNode;
+        do {
+            JsonNode aggregationNode = aggregate(index, aggregationQueryNode, "DISTINCT");
+            for (JsonNode bucketNode : aggregationNode.path(ElasticsearchKeywords.KEY_BUCKETS)) {
+                distinctValues.add(bucketNode.path(ElasticsearchKeywords.KEY_KEY).path(ElasticsearchKeywords.KEY_KEY).asText());
+            }
+
+            // Next page starts after the last returned key, until a page comes back without it
+            afterKeyNode = aggregationNode.get(ElasticsearchKeywords.KEY_AFTER_KEY);
+            if (afterKeyNode != null) {
+                compositeNode.set(ElasticsearchKeywords.KEY_AFTER, afterKeyNode);
+            }
+        } while (afterKeyNode != null);
+
+        return distinctValues;
+    }
+
+    /**
+     * Converts the given query into a query which returns only aggregations.
+     *
+     * @param query The query to convert.
+     * @return The converted query, without hits, sorting and pagination.
+     * @throws ClientException if error occurs while converting.
+     * @since 2.1.0
+     */
+    private ObjectNode convertAggregationQuery(Object query) throws ClientException {
+        ObjectNode aggregationQueryNode = objectMapper.createObjectNode();
+
+        JsonNode queryJsonNode = getModelConverter().convertQuery(query);
+        if (queryJsonNode.has(SchemaKeys.KEY_QUERY)) {
+            aggregationQueryNode.set(SchemaKeys.KEY_QUERY, queryJsonNode.get(SchemaKeys.KEY_QUERY));
+        }
+        aggregationQueryNode.put(SchemaKeys.KEY_SIZE, 0);
+        return aggregationQueryNode;
+    }
+
+    /**
+     * Performs the given aggregation query.
+     *
+     * @param index                The index to look for.
+     * @param aggregationQueryNode The aggregation query.
+     * @param operationName        The operation name, for logging.
+     * @return The result node of the aggregation, or a missing node if the index is not found.
+     * @throws ClientException if error occurs while aggregating.
+     * @since 2.1.0
+     */
+    private JsonNode aggregate(String index, ObjectNode aggregationQueryNode, String operationName) throws ClientException {
+        LOG.debug(AGGREGATION_CONVERTED_QUERY, aggregationQueryNode);
+
+        String json = writeRequestFromJsonNode(aggregationQueryNode);
+        Request request = new Request(ElasticsearchKeywords.ACTION_GET, ElasticsearchResourcePaths.search(index));
+        request.setJsonEntity(json);
+        Response aggregationResponse = restCallTimeoutHandler(() -> getClient().performRequest(request), index, operationName);
+
+        if (isRequestSuccessful(aggregationResponse)) {
+            return readResponseAsJsonNode(aggregationResponse).path(ElasticsearchKeywords.KEY_AGGREGATIONS).path(AGGREGATION_NAME);
+        } else if (!isRequestBadRequest(aggregationResponse) &&
+                !isRequestNotFound(aggregationResponse)) {
+            throw buildExceptionFromUnsuccessfulResponse("Aggregation", aggregationResponse);
+        }
+        return MissingNode.getInstance();
+    }
+
     @Override
     public void delete(String index, String id) throws ClientException {
         LOG.debug("Delete - id: '{}'", id);
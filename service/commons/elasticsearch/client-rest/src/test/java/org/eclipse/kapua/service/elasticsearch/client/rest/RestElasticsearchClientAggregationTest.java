@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.elasticsearch.client.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.StatusLine;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.elasticsearch.client.QueryConverter;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Tests the aggregation requests of {@link RestElasticsearchClient} against a stub {@link RestClient}.
+ */
+@Category(JUnitTests.class)
+public class RestElasticsearchClientAggregationTest {
+
+    private static final String INDEX = "1-data-message-*";
+    private static final String QUERY = "{\"query\":{\"term\":{\"scope_id\":\"AQ\"}},\"from\":0,\"size\":50,\"sort\":[{\"timestamp\":\"desc\"}]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<JsonNode> requests = new ArrayList<>();
+    private final Queue<String> responses = new LinkedList<>();
+    private int responseStatus = 200;
+
+    private RestElasticsearchClient instance;
+
+    @Before
+    public void setUp() throws Exception {
+        RestClient restClient = Mockito.mock(RestClient.class);
+        Mockito.when(restClient.performRequest(Mockito.any(Request.class))).thenAnswer(invocation -> {
+            Request request = invocation.getArgumentAt(0, Request.class);
+            requests.add(objectMapper.readTree(EntityUtils.toString(request.getEntity())));
+            return newResponse(responseStatus, responses.poll());
+        });
+
+        QueryConverter queryConverter = Mockito.mock(QueryConverter.class);
+        Mockito.when(queryConverter.convertQuery(Mockito.any())).thenReturn(objectMapper.readTree(QUERY));
+
+        instance = new RestElasticsearchClient(Mockito.mock(MetricsEsClient.class));
+        instance.withClient(restClient);
+        instance.withModelConverter(queryConverter);
+    }
+
+    @Test
+    public void distinctReadsAllPages() throws Exception {
+        responses.add("{\"aggregations\":{\"kapua_aggregation\":{\"after_key\":{\"key\":\"b\"},\"buckets\":[{\"key\":{\"key\":\"a\"},\"doc_count\":1},{\"key\":{\"key\":\"b\"},\"doc_count\":3}]}}}");
+        responses.add("{\"aggregations\":{\"kapua_aggregation\":{\"after_key\":{\"key\":\"c\"},\"buckets\":[{\"key\":{\"key\":\"c\"},\"doc_count\":2}]}}}");
+        responses.add("{\"aggregations\":{\"kapua_aggregation\":{\"buckets\":[]}}}");
+
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), instance.distinct(INDEX, new Object(), "channel", 2));
+
+        Assert.assertEquals(3, requests.size());
+        for (JsonNode request : requests) {
+            // Only the aggregation is returned, without hits, sorting and pagination
+            Assert.assertEquals(0, request.path("size").asInt(-1));
+            Assert.assertEquals(objectMapper.readTree(QUERY).get("query"), request.get("query"));
+            Assert.assertFalse(request.has("sort"));
+            Assert.assertFalse(request.has("from"));
+
+            JsonNode compositeNode = request.path("aggs").path("kapua_aggregation").path("composite");
+            Assert.assertEquals(2, compositeNode.path("size").asInt());
+            Assert.assertEquals("channel", compositeNode.path("sources").path(0).path("key").path("terms").path("field").asText());
+        }
+
+        // Each page starts after the last key of the previous one
+        Assert.assertFalse(requests.get(0).path("aggs").path("kapua_aggregation").path("composite").has("after"));
+        Assert.assertEquals("b", requests.get(1).path("aggs").path("kapua_aggregation").path("composite").path("after").path("key").asText());
+        Assert.assertEquals("c", requests.get(2).path("aggs").path("kapua_aggregation").path("composite").path("after").path("key").asText());
+    }
+
+    @Test
+    public void distinctOnMissingIndex() throws Exception {
+        responseStatus = 404;
+        responses.add("{\"error\":{\"type\":\"index_not_found_exception\"},\"status\":404}");
+
+        Assert.assertEquals(Collections.emptyList(), instance.distinct(INDEX, new Object(), "channel", 2));
+        Assert.assertEquals(1, requests.size());
+    }
+
+    @Test
+    public void maxByFilter() throws Exception {
+        responses.add("{\"aggregations\":{\"kapua_aggregation\":{\"buckets\":{" +
+                "\"topic/a\":{\"doc_count\":2,\"kapua_sub_aggregation\":{\"value\":1.6E12}}," +
+                "\"topic/b\":{\"doc_count\":0,\"kapua_sub_aggregation\":{\"value\":null}}}}}}");
+
+        Map<String, JsonNode> filters = new HashMap<>();
+        filters.put("topic/a", objectMapper.readTree("{\"term\":{\"channel\":\"topic/a\"}}"));
+        filters.put("topic/b", objectMapper.readTree("{\"term\":{\"channel\":\"topic/b\"}}"));
+
+        Map<String, Double> maxByFilter = instance.maxByFilter(INDEX, new Object(), filters, "timestamp");
+
+        // Filters without matching documents are left out
+        Assert.assertEquals(Collections.singletonMap("topic/a", 1.6E12), maxByFilter);
+
+        Assert.assertEquals(1, requests.size());
+        JsonNode aggregationNode = requests.get(0).path("aggs").path("kapua_aggregation");
+        Assert.assertEquals(0, requests.get(0).path("size").asInt(-1));
+        Assert.assertEquals(filters.get("topic/a"), aggregationNode.path("filters").path("filters").path("topic/a"));
+        Assert.assertEquals(filters.get("topic/b"), aggregationNode.path("filters").path("filters").path("topic/b"));
+        Assert.assertEquals("timestamp", aggregationNode.path("aggs").path("kapua_sub_aggregation").path("max").path("field").asText());
+    }
+
+    private static Response newResponse(int status, String body) {
+        StatusLine statusLine = Mockito.mock(StatusLine.class);
+        Mockito.when(statusLine.getStatusCode()).thenReturn(status);
+
+        Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatusLine()).thenReturn(statusLine);
+        Mockito.when(response.getEntity()).thenReturn(new StringEntity(body, ContentType.APPLICATION_JSON));
+        return response;
+    }
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.elasticsearch.client.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.StatusLine;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.elasticsearch.client.ModelContext;
+import org.eclipse.kapua.service.elasticsearch.client.QueryConverter;
+import org.eclipse.kapua.service.elasticsearch.client.configuration.ElasticsearchClientConfiguration;
+import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
+import org.eclipse.kapua.service.elasticsearch.client.model.ResultCursor;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Tests the scroll cursor of {@link RestElasticsearchClient} against a stub {@link RestClient}.
+ */
+@Category(JUnitTests.class)
+public class RestElasticsearchClientScrollTest {
+
+    private static final String INDEX = "1-data-message-*";
+    private static final String QUERY = "{\"query\":{\"term\":{\"scope_id\":\"AQ\"}},\"from\":100,\"size\":50,\"sort\":[{\"timestamp\":\"desc\"}]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Request> requests = new ArrayList<>();
+    private final List<JsonNode> requestBodies = new ArrayList<>();
+    private final Queue<Response> responses = new LinkedList<>();
+
+    private RestElasticsearchClient instance;
+
+    @Before
+    public void setUp() throws Exception {
+        RestClient restClient = Mockito.mock(RestClient.class);
+        Mockito.when(restClient.performRequest(Mockito.any(Request.class))).thenAnswer(invocation -> {
+            Request request = invocation.getArgumentAt(0, Request.class);
+            requests.add(request);
+            requestBodies.add(objectMapper.readTree(EntityUtils.toString(request.getEntity())));
+            return responses.poll();
+        });
+
+        QueryConverter queryConverter = Mockito.mock(QueryConverter.class);
+        Mockito.when(queryConverter.convertQuery(Mockito.any())).thenAnswer(invocation -> objectMapper.readTree(QUERY));
+
+        // Hits are unmarshalled as their id
+        ModelContext modelContext = Mockito.mock(ModelContext.class);
+        Mockito.when(modelContext.getIdKeyName()).thenReturn("id");
+        Mockito.when(modelContext.unmarshal(Mockito.eq(String.class), Mockito.<Map<String, Object>>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(1, Map.class).get("id"));
+
+        ElasticsearchClientConfiguration clientConfiguration = new ElasticsearchClientConfiguration();
+        clientConfiguration.getRequestConfiguration().setScrollTimeout(60000);
+
+        instance = new RestElasticsearchClient(Mockito.mock(MetricsEsClient.class));
+        instance.withClient(restClient);
+        instance.withClientConfiguration(clientConfiguration);
+        instance.withModelConverter(queryConverter);
+        instance.withModelContext(modelContext);
+    }
+
+    @Test
+    public void scrollReadsAllPages() throws Exception {
+        responses.add(newResponse(200, "{\"_scroll_id\":\"scroll-1\",\"hits\":{\"hits\":[" + newHit("a") + "," + newHit("b") + "]}}"));
+        responses.add(newResponse(200, "{\"_scroll_id\":\"scroll-2\",\"hits\":{\"hits\":[" + newHit("c") + "]}}"));
+        responses.add(newResponse(200, "{\"_scroll_id\":\"scroll-2\",\"hits\":{\"hits\":[]}}"));
+        responses.add(newResponse(200, "{\"succeeded\":true}"));
+
+        ResultCursor<String> cursor = instance.scroll(INDEX, new Object(), String.class, 2);
+
+        // Only the first page is read when the cursor is opened
+        Assert.assertEquals(1, requests.size());
+        Assert.assertEquals("POST", requests.get(0).getMethod());
+        Assert.assertEquals("/" + INDEX + "/_search", requests.get(0).getEndpoint());
+        Assert.assertEquals("60000ms", requests.get(0).getParameters().get("scroll"));
+        Assert.assertEquals(2, requestBodies.get(0).path("size").asInt());
+        Assert.assertFalse(requestBodies.get(0).has("from"));
+        Assert.assertEquals(objectMapper.readTree(QUERY).get("sort"), requestBodies.get(0).get("sort"));
+
+        Assert.assertEquals("a", cursor.next());
+        Assert.assertEquals("b", cursor.next());
+        Assert.assertEquals(1, requests.size());
+
+        // The next pages are read once the previous one has been consumed, with the last scroll id
+        Assert.assertEquals("c", cursor.next());
+        Assert.assertEquals(2, requests.size());
+        Assert.assertEquals("/_search/scroll", requests.get(1).getEndpoint());
+        Assert.assertEquals("scroll-1", requestBodies.get(1).path("scroll_id").asText());
+        Assert.assertEquals("60000ms", requestBodies.get(1).path("scroll").asText());
+
+        Assert.assertNull(cursor.next());
+        Assert.assertEquals(3, requests.size());
+        Assert.assertEquals("scroll-2", requestBodies.get(2).path("scroll_id").asText());
+
+        // No more pages are read after the empty one
+        Assert.assertNull(cursor.next());
+        Assert.assertEquals(3, requests.size());
+
+        // Closing clears the scroll context, only once
+        cursor.close();
+        cursor.close();
+        Assert.assertEquals(4, requests.size());
+        Assert.assertEquals("DELETE", requests.get(3).getMethod());
+        Assert.assertEquals("/_search/scroll", requests.get(3).getEndpoint());
+        Assert.assertEquals("scroll-2", requestBodies.get(3).path("scroll_id").path(0).asText());
+    }
+
+    @Test
+    public void scrollOnMissingIndex() throws Exception {
+        responses.add(newResponse(404, "{\"error\":{\"type\":\"index_not_found_exception\"},\"status\":404}"));
+
+        ResultCursor<String> cursor = instance.scroll(INDEX, new Object(), String.class, 2);
+
+        Assert.assertNull(cursor.next());
+        // There is no scroll context to clear
+        cursor.close();
+        Assert.assertEquals(1, requests.size());
+    }
+
+    @Test(expected = ClientException.class)
+    public void scrollPageFailure() throws Exception {
+        responses.add(newResponse(200, "{\"_scroll_id\":\"scroll-1\",\"hits\":{\"hits\":[" + newHit("a") + "]}}"));
+        responses.add(newResponse(500, "{\"error\":{\"type\":\"search_phase_execution_exception\"},\"status\":500}"));
+
+        ResultCursor<String> cursor = instance.scroll(INDEX, new Object(), String.class, 1);
+
+        Assert.assertEquals("a", cursor.next());
+        cursor.next();
+    }
+
+    @Test
+    public void closeExpiredScroll() throws Exception {
+        responses.add(newResponse(200, "{\"_scroll_id\":\"scroll-1\",\"hits\":{\"hits\":[" + newHit("a") + "]}}"));
+        responses.add(newResponse(404, "{\"succeeded\":true,\"num_freed\":0}"));
+
+        ResultCursor<String> cursor = instance.scroll(INDEX, new Object(), String.class, 1);
+
+        // The scroll context may have already expired
+        cursor.close();
+        Assert.assertEquals(2, requests.size());
+        Assert.assertNull(cursor.next());
+    }
+
+    private static String newHit(String id) {
+        return "{\"_id\":\"" + id + "\",\"_index\":\"1-data-message-2020-37\",\"_source\":{\"client_id\":\"" + id + "\"}}";
+    }
+
+    private static Response newResponse(int status, String body) {
+        StatusLine statusLine = Mockito.mock(StatusLine.class);
+        Mockito.when(statusLine.getStatusCode()).thenReturn(status);
+
+        Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatusLine()).thenReturn(statusLine);
+        Mockito.when(response.getEntity()).thenReturn(new StringEntity(body, ContentType.APPLICATION_JSON));
+        return response;
+    }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.storable.model;
+
+import org.eclipse.kapua.KapuaException;
+
+/**
+ * {@link StorableCursor} definition.
+ * <p>
+ * It reads all the {@link Storable}s matching a query one at a time, without loading them all in memory like a {@link StorableListResult}.
+ * It must be closed once done, to release the resources held by the storage.
+ *
+ * @param <E> The {@link Storable} for which this is a {@link StorableCursor} for.
+ * @since 2.1.0
+ */
+public interface StorableCursor<E extends Storable> extends AutoCloseable {
+
+    /**
+     * Gets the next {@link Storable}.
+     *
+     * @return The next {@link Storable}, or {@code null} if there are no more {@link Storable}s.
+     * @throws KapuaException if error occurs while reading from the storage.
+     * @since 2.1.0
+     */
+    E next() throws KapuaException;
+
+    /**
+     * Releases the resources held by the storage for this {@link StorableCursor}.
+     *
+     * @throws KapuaException if error occurs while releasing.
+     * @since 2.1.0
+     */
+    @Override
+    void close() throws KapuaException;
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2024, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import org.eclipse.kapua.service.utils.KapuaEntityQueryUtil;
 
 import javax.inject.Inject;
 import javax.validation.constraints.NotNull;
+import java.util.List;
 
 /**
  * Implementation of converter between {@link KapuaForwardableEntityQuery} and {@link KapuaQuery}
@@ -56,18 +57,22 @@ public class KapuaEntityQueryUtilImpl implements KapuaEntityQueryUtil {
 
         // Create predicate to query ancestor accounts for entities that are forwardable
         query.setScopeId(KapuaId.ANY);
-        OrPredicate forwardableAncestorPreds = query.orPredicate();
 
         if (scopeId != null) {
-            for (KapuaId id : accountRelativeFinder.findParentIds(scopeId)) {
-                AndPredicate scopedForwardablePred = query.andPredicate(query.attributePredicate(KapuaEntityAttributes.SCOPE_ID, id));
-                scopedForwardablePred = scopedForwardablePred.and(query.attributePredicate(KapuaForwardableEntityAttributes.FORWARDABLE, true));
-
-                forwardableAncestorPreds = forwardableAncestorPreds.or(scopedForwardablePred);
-            }
+            List<KapuaId> parentIds = accountRelativeFinder.findParentIds(scopeId);
 
             // include the original scope (which doesn't need to be forwardable)
-            forwardableAncestorPreds = forwardableAncestorPreds.or(query.attributePredicate(KapuaEntityAttributes.SCOPE_ID, scopeId));
+            OrPredicate forwardableAncestorPreds = query.orPredicate(query.attributePredicate(KapuaEntityAttributes.SCOPE_ID, scopeId));
+
+            // Forwardable entities of all ancestor accounts, matched with a single IN clause on the scope id
+            if (!parentIds.isEmpty()) {
+                forwardableAncestorPreds = forwardableAncestorPreds.or(
+                        query.andPredicate(
+                                query.attributePredicate(KapuaEntityAttributes.SCOPE_ID, parentIds),
+                                query.attributePredicate(KapuaForwardableEntityAttributes.FORWARDABLE, true)
+                        )
+                );
+            }
 
             // Use the original query predicate AND the forwardable parent scopes
             query.setPredicate(newPred.and(forwardableAncestorPreds));
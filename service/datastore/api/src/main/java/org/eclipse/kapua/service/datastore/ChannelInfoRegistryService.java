@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import org.eclipse.kapua.service.datastore.model.query.ChannelInfoQuery;
 import org.eclipse.kapua.service.storable.StorableService;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
 
+import java.util.List;
+
 /**
  * {@link ChannelInfoRegistryService} definition.
  * <p>
@@ -34,4 +36,18 @@ public interface ChannelInfoRegistryService extends KapuaService, StorableServic
 
     void delete(ChannelInfoQuery query)
             throws KapuaException;
+
+    /**
+     * Finds the distinct {@link ChannelInfo#getName()}s matching the {@link ChannelInfoQuery}.
+     * <p>
+     * Names are read with a paginated aggregation, so they are not bound by the max result window which limits {@link #query(ChannelInfoQuery)}.
+     * {@link ChannelInfoQuery#getOffset()}, {@link ChannelInfoQuery#getLimit()} and {@link ChannelInfoQuery#getSortFields()} are ignored.
+     *
+     * @param query The {@link ChannelInfoQuery} to filter the {@link ChannelInfo}s.
+     * @return The distinct {@link ChannelInfo#getName()}s, in ascending order.
+     * @throws KapuaException If something goes wrong.
+     * @since 2.1.0
+     */
+    List<String> findChannelNames(ChannelInfoQuery query)
+            throws KapuaException;
 }
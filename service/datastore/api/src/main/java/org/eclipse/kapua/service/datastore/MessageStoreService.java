@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,9 +19,16 @@ import org.eclipse.kapua.service.KapuaService;
 import org.eclipse.kapua.service.config.KapuaConfigurableService;
 import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
 import org.eclipse.kapua.service.datastore.model.MessageListResult;
+import org.eclipse.kapua.service.datastore.model.MessageStoreResult;
 import org.eclipse.kapua.service.datastore.model.query.MessageQuery;
 import org.eclipse.kapua.service.storable.StorableService;
+import org.eclipse.kapua.service.storable.model.StorableCursor;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 /**
  * {@link MessageStoreService} definition.
@@ -60,6 +67,34 @@ public interface MessageStoreService extends KapuaService, KapuaConfigurableServ
      */
     StorableId store(KapuaMessage<?, ?> message, String datastoreId) throws KapuaException;
 
+    /**
+     * Stores many {@link KapuaMessage}s of the same scope at once.
+     * <p>
+     * Access is checked once for the whole batch and {@link KapuaMessage}s are sent to the datastore with bulk requests.
+     * A failure on a single {@link KapuaMessage} does not stop the others and is reported in its {@link MessageStoreResult}.
+     *
+     * @param scopeId  The scope {@link KapuaId} of the {@link KapuaMessage}s, which overrides their own {@link KapuaMessage#getScopeId()}.
+     * @param messages The {@link KapuaMessage}s to store.
+     * @return A {@link MessageStoreResult} for each of the given {@link KapuaMessage}s, in the same order.
+     * @throws KapuaException If the whole batch cannot be stored.
+     * @since 2.1.0
+     */
+    List<MessageStoreResult> storeAll(KapuaId scopeId, List<? extends KapuaMessage<?, ?>> messages) throws KapuaException;
+
+    /**
+     * Opens a {@link StorableCursor} over all the {@link DatastoreMessage}s matching the {@link MessageQuery}.
+     * <p>
+     * {@link MessageQuery#getOffset()} and {@link MessageQuery#getLimit()} are ignored: {@link DatastoreMessage}s are read from the datastore a page at a time,
+     * when the previous page has been consumed, so they are not bound by the max result window of the datastore.
+     * The {@link StorableCursor} must be closed once done.
+     *
+     * @param query The {@link MessageQuery} to filter and sort the {@link DatastoreMessage}s.
+     * @return The {@link StorableCursor} over the matching {@link DatastoreMessage}s.
+     * @throws KapuaException If something goes wrong.
+     * @since 2.1.0
+     */
+    StorableCursor<DatastoreMessage> scroll(MessageQuery query) throws KapuaException;
+
     /**
      * Deletes a {@link DatastoreMessage}  by the scope {@link KapuaId} and its {@link StorableId}.
      *
@@ -78,4 +113,17 @@ public interface MessageStoreService extends KapuaService, KapuaConfigurableServ
      * @since 1.0.0
      */
     void delete(MessageQuery query) throws KapuaException;
+
+    /**
+     * Finds the {@link DatastoreMessage#getTimestamp()} of the last {@link DatastoreMessage} matching each of the given {@link StorablePredicate}s.
+     * <p>
+     * All {@link StorablePredicate}s are evaluated with a single aggregation, instead of a {@link MessageQuery} for each of them.
+     *
+     * @param scopeId    The scope {@link KapuaId}.
+     * @param predicates The {@link StorablePredicate}s, by their key.
+     * @return The {@link DatastoreMessage#getTimestamp()} of the last {@link DatastoreMessage} by {@link StorablePredicate} key. Keys without matching {@link DatastoreMessage}s are not included.
+     * @throws KapuaException If something goes wrong.
+     * @since 2.1.0
+     */
+    Map<String, Date> findLastMessageOn(KapuaId scopeId, Map<String, StorablePredicate> predicates) throws KapuaException;
 }
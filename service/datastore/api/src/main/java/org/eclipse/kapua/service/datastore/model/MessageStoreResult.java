@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.datastore.model;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.message.KapuaMessage;
+import org.eclipse.kapua.service.datastore.MessageStoreService;
+import org.eclipse.kapua.service.storable.model.id.StorableId;
+import org.eclipse.kapua.service.storable.model.id.StorableIdXmlAdapter;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+/**
+ * Outcome of the store of a single {@link KapuaMessage} of a bulk store.
+ *
+ * @see MessageStoreService#storeAll(org.eclipse.kapua.model.id.KapuaId, java.util.List)
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "messageStoreResult")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+public class MessageStoreResult {
+
+    private int index;
+    private StorableId datastoreId;
+    private boolean stored;
+    private String errorCode;
+    private String errorMessage;
+    private KapuaException exception;
+
+    /**
+     * Constructor.
+     * <p>
+     * Needed by JAXB.
+     *
+     * @since 2.1.0
+     */
+    public MessageStoreResult() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param index       The position of the {@link KapuaMessage} in the bulk store.
+     * @param datastoreId The {@link DatastoreMessage#getDatastoreId()}, or {@code null} if not stored.
+     * @param exception   The {@link KapuaException} that prevented the store, or {@code null} if stored.
+     * @since 2.1.0
+     */
+    public MessageStoreResult(int index, StorableId datastoreId, KapuaException exception) {
+        this.index = index;
+        this.datastoreId = datastoreId;
+        this.stored = exception == null;
+        this.exception = exception;
+
+        if (exception != null) {
+            this.errorCode = exception.getCode().name();
+            this.errorMessage = exception.getMessage();
+        }
+    }
+
+    /**
+     * Gets the position of the {@link KapuaMessage} in the bulk store.
+     *
+     * @return The position of the {@link KapuaMessage} in the bulk store.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "index")
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the position of the {@link KapuaMessage} in the bulk store.
+     *
+     * @param index The position of the {@link KapuaMessage} in the bulk store.
+     * @since 2.1.0
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets the {@link DatastoreMessage#getDatastoreId()}.
+     *
+     * @return The {@link DatastoreMessage#getDatastoreId()}, or {@code null} if not stored.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "datastoreId")
+    @XmlJavaTypeAdapter(StorableIdXmlAdapter.class)
+    public StorableId getDatastoreId() {
+        return datastoreId;
+    }
+
+    /**
+     * Sets the {@link DatastoreMessage#getDatastoreId()}.
+     *
+     * @param datastoreId The {@link DatastoreMessage#getDatastoreId()}.
+     * @since 2.1.0
+     */
+    public void setDatastoreId(StorableId datastoreId) {
+        this.datastoreId = datastoreId;
+    }
+
+    /**
+     * Whether the {@link KapuaMessage} has been stored.
+     *
+     * @return {@code true} if the {@link KapuaMessage} has been stored, {@code false} otherwise.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "stored")
+    public boolean isStored() {
+        return stored;
+    }
+
+    /**
+     * Sets whether the {@link KapuaMessage} has been stored.
+     *
+     * @param stored Whether the {@link KapuaMessage} has been stored.
+     * @since 2.1.0
+     */
+    public void setStored(boolean stored) {
+        this.stored = stored;
+    }
+
+    /**
+     * Gets the {@link KapuaException#getCode()} that prevented the store.
+     *
+     * @return The {@link KapuaException#getCode()} name, or {@code null} if stored.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "errorCode")
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Sets the {@link KapuaException#getCode()} that prevented the store.
+     *
+     * @param errorCode The {@link KapuaException#getCode()} name.
+     * @since 2.1.0
+     */
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Gets the {@link KapuaException#getMessage()} that prevented the store.
+     *
+     * @return The {@link KapuaException#getMessage()}, or {@code null} if stored.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "errorMessage")
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Sets the {@link KapuaException#getMessage()} that prevented the store.
+     *
+     * @param errorMessage The {@link KapuaException#getMessage()}.
+     * @since 2.1.0
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Gets the {@link KapuaException} that prevented the store.
+     *
+     * @return The {@link KapuaException}, or {@code null} if stored.
+     * @since 2.1.0
+     */
+    @XmlTransient
+    public KapuaException getException() {
+        return exception;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,15 +18,18 @@ import org.eclipse.kapua.service.datastore.ChannelInfoFactory;
 import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreUtils;
 import org.eclipse.kapua.service.datastore.internal.schema.ChannelInfoSchema;
 import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettings;
+import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettingsKey;
 import org.eclipse.kapua.service.datastore.model.ChannelInfo;
 import org.eclipse.kapua.service.datastore.model.ChannelInfoListResult;
 import org.eclipse.kapua.service.datastore.model.query.ChannelInfoQuery;
 import org.eclipse.kapua.service.elasticsearch.client.ElasticsearchClientProvider;
+import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
 import org.eclipse.kapua.service.storable.exception.MappingException;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
 import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicateFactory;
 
 import javax.inject.Inject;
+import java.util.List;
 
 public class ChannelInfoElasticsearchRepository extends DatastoreElasticSearchRepositoryBase<ChannelInfo, ChannelInfoListResult, ChannelInfoQuery> implements ChannelInfoRepository {
 
@@ -64,6 +67,23 @@ public class ChannelInfoElasticsearchRepository extends DatastoreElasticSearchRe
         return ChannelInfoSchema.getChannelTypeSchema();
     }
 
+    /**
+     * Finds the distinct channel names matching the given query, with a paginated aggregation request.
+     *
+     * @param query The query which restricts the channel infos.
+     * @return The distinct channel names, in ascending order.
+     * @since 2.1.0
+     */
+    @Override
+    public List<String> findChannelNames(ChannelInfoQuery query) {
+        try {
+            return elasticsearchClientProviderInstance.getElasticsearchClient()
+                    .distinct(indexResolver(query.getScopeId()), query, ChannelInfoSchema.CHANNEL_NAME, datastoreSettings.getInt(DatastoreSettingsKey.AGGREGATION_PAGE_SIZE, 1000));
+        } catch (ClientException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public void refreshAllIndexes() {
         super.refreshIndex(datastoreUtils.getChannelIndexName(KapuaId.ANY));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
 import org.eclipse.kapua.service.storable.exception.MappingException;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
 
+import java.util.List;
+
 public interface ChannelInfoRegistryFacade {
     StorableId upstore(ChannelInfo channelInfo) throws KapuaIllegalArgumentException, ConfigurationException, ClientException, MappingException;
 
@@ -34,4 +36,6 @@ public interface ChannelInfoRegistryFacade {
     ChannelInfoListResult query(ChannelInfoQuery query) throws KapuaIllegalArgumentException, ConfigurationException, ClientException;
 
     long count(ChannelInfoQuery query) throws KapuaIllegalArgumentException, ConfigurationException, ClientException;
+
+    List<String> findChannelNames(ChannelInfoQuery query) throws KapuaIllegalArgumentException, ConfigurationException, ClientException;
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Channel information registry facade
@@ -210,6 +212,29 @@ public class ChannelInfoRegistryFacadeImpl extends AbstractDatastoreFacade imple
         return repository.count(query);
     }
 
+    /**
+     * Get the distinct channel names matching the given query
+     *
+     * @param query
+     * @return
+     * @throws KapuaIllegalArgumentException
+     * @throws ConfigurationException
+     * @throws ClientException
+     * @since 2.1.0
+     */
+    @Override
+    public List<String> findChannelNames(ChannelInfoQuery query) throws KapuaIllegalArgumentException, ConfigurationException, ClientException {
+        ArgumentValidator.notNull(query, QUERY);
+        ArgumentValidator.notNull(query.getScopeId(), QUERY_SCOPE_ID);
+
+        if (!isDatastoreServiceEnabled(query.getScopeId())) {
+            LOG.debug("Storage not enabled for account {}, returning empty result", query.getScopeId());
+            return Collections.emptyList();
+        }
+
+        return repository.findChannelNames(query);
+    }
+
     /**
      * Delete channels informations count matching the given query.
      *
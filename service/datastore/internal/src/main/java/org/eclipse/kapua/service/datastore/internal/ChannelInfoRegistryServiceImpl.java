@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -209,6 +209,24 @@ public class ChannelInfoRegistryServiceImpl implements ChannelInfoRegistryServic
         }
     }
 
+    @Override
+    public List<String> findChannelNames(ChannelInfoQuery query)
+            throws KapuaException {
+        if (!isServiceEnabled(query.getScopeId())) {
+            throw new KapuaServiceDisabledException(this.getClass().getName());
+        }
+
+        ArgumentValidator.notNull(query, QUERY);
+        ArgumentValidator.notNull(query.getScopeId(), QUERY_SCOPE_ID);
+
+        checkDataAccess(query.getScopeId(), Actions.read);
+        try {
+            return channelInfoRegistryFacade.findChannelNames(query);
+        } catch (Exception e) {
+            throw KapuaException.internalError(e);
+        }
+    }
+
     private void checkDataAccess(KapuaId scopeId, Actions action)
             throws KapuaException {
         Permission permission = permissionFactory.newPermission(Domains.DATASTORE, action, scopeId);
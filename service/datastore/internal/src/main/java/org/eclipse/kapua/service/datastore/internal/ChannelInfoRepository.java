@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,5 +17,9 @@ import org.eclipse.kapua.service.datastore.model.ChannelInfoListResult;
 import org.eclipse.kapua.service.datastore.model.query.ChannelInfoQuery;
 import org.eclipse.kapua.service.storable.repository.StorableRepository;
 
+import java.util.List;
+
 public interface ChannelInfoRepository extends StorableRepository<ChannelInfo, ChannelInfoListResult, ChannelInfoQuery> {
+
+    List<String> findChannelNames(ChannelInfoQuery query);
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.datastore.MessageStoreFactory;
 import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreUtils;
 import org.eclipse.kapua.service.datastore.internal.mediator.Metric;
+import org.eclipse.kapua.service.datastore.internal.model.query.MessageQueryImpl;
 import org.eclipse.kapua.service.datastore.internal.schema.MessageSchema;
 import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettings;
 import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettingsKey;
@@ -30,16 +31,25 @@ import org.eclipse.kapua.service.elasticsearch.client.ElasticsearchClientProvide
 import org.eclipse.kapua.service.elasticsearch.client.SchemaKeys;
 import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
 import org.eclipse.kapua.service.elasticsearch.client.exception.DatamodelMappingException;
+import org.eclipse.kapua.service.elasticsearch.client.model.BulkUpdateRequest;
 import org.eclipse.kapua.service.elasticsearch.client.model.InsertRequest;
+import org.eclipse.kapua.service.elasticsearch.client.model.UpdateRequest;
+import org.eclipse.kapua.service.elasticsearch.client.model.UpdateResponse;
 import org.eclipse.kapua.service.storable.exception.MappingException;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicate;
 import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicateFactory;
 import org.eclipse.kapua.service.storable.model.utils.KeyValueEntry;
 import org.eclipse.kapua.service.storable.model.utils.MappingUtils;
 
 import javax.inject.Inject;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class MessageElasticsearchRepository extends DatastoreElasticSearchRepositoryBase<DatastoreMessage, MessageListResult, MessageQuery> implements MessageRepository {
@@ -92,6 +102,33 @@ public class MessageElasticsearchRepository extends DatastoreElasticSearchReposi
         return this.doFind(scopeId, indexResolver(scopeId, time), storableId);
     }
 
+    /**
+     * Finds the timestamp of the last message matching each of the given predicates, with a single aggregation request.
+     *
+     * @param scopeId    The scope id.
+     * @param predicates The predicates, by their key.
+     * @return The timestamp of the last message by predicate key. Predicates without matching messages are not included.
+     * @since 2.1.0
+     */
+    @Override
+    public Map<String, Date> findLastMessageOn(KapuaId scopeId, Map<String, StorablePredicate> predicates) {
+        try {
+            final Map<String, JsonNode> filters = new HashMap<>();
+            for (Map.Entry<String, StorablePredicate> predicate : predicates.entrySet()) {
+                filters.put(predicate.getKey(), predicate.getValue().toSerializedMap());
+            }
+
+            final Map<String, Double> lastMessageOn = elasticsearchClientProviderInstance.getElasticsearchClient()
+                    .maxByFilter(indexResolver(scopeId), new MessageQueryImpl(scopeId), filters, MessageSchema.MESSAGE_TIMESTAMP);
+
+            return lastMessageOn.entrySet()
+                    .stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, kv -> new Date(kv.getValue().longValue())));
+        } catch (ClientException | MappingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Store a message
      *
@@ -105,6 +142,44 @@ public class MessageElasticsearchRepository extends DatastoreElasticSearchReposi
 
         final String indexName = indexResolver(messageToStore.getScopeId(), messageTime);
 
+        upsertIndexAndMappings(indexName, metrics);
+
+        final InsertRequest insertRequest = new InsertRequest(idExtractor(messageToStore).toString(), indexName, messageToStore);
+        return elasticsearchClientProviderInstance.getElasticsearchClient().insert(insertRequest).getId();
+    }
+
+    /**
+     * Stores many messages with a single bulk request.
+     * <p>
+     * Indexes and metric mappings are upserted once for each of the target indexes, instead of once for each message.
+     *
+     * @param messagesToStore The messages to store.
+     * @param metrics         The metric mappings of all the messages.
+     * @return The outcome of each message, in the same order.
+     * @throws ClientException
+     * @since 2.1.0
+     */
+    @Override
+    public List<UpdateResponse> store(List<DatastoreMessage> messagesToStore, Map<String, Metric> metrics) throws ClientException {
+        final BulkUpdateRequest bulkUpdateRequest = new BulkUpdateRequest();
+        final Set<String> indexNames = new HashSet<>();
+        for (DatastoreMessage messageToStore : messagesToStore) {
+            final Long messageTime = Optional.ofNullable(messageToStore.getTimestamp())
+                    .map(date -> date.getTime())
+                    .orElse(null);
+
+            final String indexName = indexResolver(messageToStore.getScopeId(), messageTime);
+            if (indexNames.add(indexName)) {
+                upsertIndexAndMappings(indexName, metrics);
+            }
+
+            bulkUpdateRequest.add(new UpdateRequest(idExtractor(messageToStore).toString(), indexName, messageToStore));
+        }
+
+        return elasticsearchClientProviderInstance.getElasticsearchClient().upsert(bulkUpdateRequest).getResponse();
+    }
+
+    private void upsertIndexAndMappings(String indexName, Map<String, Metric> metrics) {
         if (!metricsByIndex.containsKey(indexName)) {
             synchronized (DatastoreMessage.class) {
                 doUpsertIndex(indexName);
@@ -118,8 +193,6 @@ public class MessageElasticsearchRepository extends DatastoreElasticSearchReposi
                 metricsByIndex.get(indexName).putAll(newMetrics);
             }
         }
-        final InsertRequest insertRequest = new InsertRequest(idExtractor(messageToStore).toString(), indexName, messageToStore);
-        return elasticsearchClientProviderInstance.getElasticsearchClient().insert(insertRequest).getId();
     }
 
     private Map<String, Metric> getMessageMappingDiffs(Map<String, Metric> currentMetrics, Map<String, Metric> newMetrics) {
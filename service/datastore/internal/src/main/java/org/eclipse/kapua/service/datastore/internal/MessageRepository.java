@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,16 +18,27 @@ import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
 import org.eclipse.kapua.service.datastore.model.MessageListResult;
 import org.eclipse.kapua.service.datastore.model.query.MessageQuery;
 import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
+import org.eclipse.kapua.service.elasticsearch.client.model.ResultCursor;
+import org.eclipse.kapua.service.elasticsearch.client.model.UpdateResponse;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicate;
 import org.eclipse.kapua.service.storable.repository.StorableRepository;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 public interface MessageRepository extends StorableRepository<DatastoreMessage, MessageListResult, MessageQuery> {
 
     String store(DatastoreMessage messageToStore, Map<String, Metric> metrics) throws ClientException;
 
+    List<UpdateResponse> store(List<DatastoreMessage> messagesToStore, Map<String, Metric> metrics) throws ClientException;
+
     void delete(KapuaId scopeId, StorableId id, long time);
 
     DatastoreMessage find(KapuaId scopeId, StorableId storableId, long time);
+
+    Map<String, Date> findLastMessageOn(KapuaId scopeId, Map<String, StorablePredicate> predicates);
+
+    ResultCursor<DatastoreMessage> scroll(MessageQuery query, int pageSize) throws ClientException;
 }
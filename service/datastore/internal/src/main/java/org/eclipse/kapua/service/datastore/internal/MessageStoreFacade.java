@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,10 +20,17 @@ import org.eclipse.kapua.service.datastore.internal.mediator.ConfigurationExcept
 import org.eclipse.kapua.service.datastore.internal.mediator.MessageInfo;
 import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
 import org.eclipse.kapua.service.datastore.model.MessageListResult;
+import org.eclipse.kapua.service.datastore.model.MessageStoreResult;
 import org.eclipse.kapua.service.datastore.model.query.MessageQuery;
 import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
 import org.eclipse.kapua.service.storable.exception.MappingException;
+import org.eclipse.kapua.service.storable.model.StorableCursor;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 public interface MessageStoreFacade {
     StorableId store(KapuaMessage<?, ?> message, String messageId, boolean newInsert)
@@ -32,6 +39,12 @@ public interface MessageStoreFacade {
             ConfigurationException,
             ClientException, MappingException;
 
+    List<MessageStoreResult> storeAll(KapuaId scopeId, List<? extends KapuaMessage<?, ?>> messages)
+            throws KapuaIllegalArgumentException,
+            DatastoreDisabledException,
+            ConfigurationException,
+            ClientException;
+
     void onAfterMessageStore(MessageInfo messageInfo, DatastoreMessage message)
             throws KapuaIllegalArgumentException,
             ConfigurationException,
@@ -53,6 +66,11 @@ public interface MessageStoreFacade {
             ConfigurationException,
             ClientException;
 
+    StorableCursor<DatastoreMessage> scroll(MessageQuery query, int pageSize)
+            throws KapuaIllegalArgumentException,
+            ConfigurationException,
+            ClientException;
+
     long count(MessageQuery query)
             throws KapuaIllegalArgumentException,
             ConfigurationException,
@@ -63,6 +81,11 @@ public interface MessageStoreFacade {
             ConfigurationException,
             ClientException;
 
+    Map<String, Date> findLastMessageOn(KapuaId scopeId, Map<String, StorablePredicate> predicates)
+            throws KapuaIllegalArgumentException,
+            ConfigurationException,
+            ClientException;
+
     void refreshAllIndexes() throws ClientException;
 
     void deleteAllIndexes() throws ClientException;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,8 @@ import org.eclipse.kapua.service.datastore.internal.mediator.ChannelInfoField;
 import org.eclipse.kapua.service.datastore.internal.mediator.ClientInfoField;
 import org.eclipse.kapua.service.datastore.internal.mediator.ConfigurationException;
 import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreChannel;
+import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreErrorCodes;
+import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreException;
 import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreUtils;
 import org.eclipse.kapua.service.datastore.internal.mediator.MessageField;
 import org.eclipse.kapua.service.datastore.internal.mediator.MessageInfo;
@@ -35,6 +37,7 @@ import org.eclipse.kapua.service.datastore.internal.mediator.MetricInfoField;
 import org.eclipse.kapua.service.datastore.internal.model.ChannelInfoImpl;
 import org.eclipse.kapua.service.datastore.internal.model.ClientInfoImpl;
 import org.eclipse.kapua.service.datastore.internal.model.DataIndexBy;
+import org.eclipse.kapua.service.datastore.internal.model.DatastoreMessageCursor;
 import org.eclipse.kapua.service.datastore.internal.model.DatastoreMessageImpl;
 import org.eclipse.kapua.service.datastore.internal.model.MessageListResultImpl;
 import org.eclipse.kapua.service.datastore.internal.model.MessageUniquenessCheck;
@@ -47,21 +50,31 @@ import org.eclipse.kapua.service.datastore.model.ChannelInfoListResult;
 import org.eclipse.kapua.service.datastore.model.ClientInfoListResult;
 import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
 import org.eclipse.kapua.service.datastore.model.MessageListResult;
+import org.eclipse.kapua.service.datastore.model.MessageStoreResult;
 import org.eclipse.kapua.service.datastore.model.MetricInfoListResult;
 import org.eclipse.kapua.service.datastore.model.query.MessageQuery;
 import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
+import org.eclipse.kapua.service.elasticsearch.client.exception.ClientInternalError;
 import org.eclipse.kapua.service.elasticsearch.client.exception.QueryMappingException;
+import org.eclipse.kapua.service.elasticsearch.client.model.UpdateResponse;
 import org.eclipse.kapua.service.storable.exception.MappingException;
+import org.eclipse.kapua.service.storable.model.StorableCursor;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
 import org.eclipse.kapua.service.storable.model.id.StorableIdFactory;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Message store facade
@@ -169,6 +182,107 @@ public final class MessageStoreFacadeImpl extends AbstractDatastoreFacade implem
         messageToStore.setTimestamp(indexedOnDate);
         // Possibly update the schema with new metric mappings
         Map<String, Metric> metrics = new HashMap<>();
+        collectMetricMappings(message, metrics);
+
+        final String storedId = messageRepository.store(messageToStore, metrics);
+        messageToStore.setDatastoreId(storableIdFactory.newStorableId(storedId));
+
+        MessageInfo messageInfo = configProvider.getInfo(message.getScopeId());
+        this.onAfterMessageStore(messageInfo, messageToStore);
+
+        return storableIdFactory.newStorableId(storedId);
+    }
+
+    /**
+     * Stores many messages of the same scope with bulk requests.
+     * <p>
+     * The account configuration is read once for the whole batch. Messages which fail validation or are rejected by the datastore are reported
+     * in their {@link MessageStoreResult} and do not prevent the others from being stored.
+     *
+     * @param scopeId  The scope {@link KapuaId} of the messages.
+     * @param messages The messages to store.
+     * @return A {@link MessageStoreResult} for each of the given messages, in the same order.
+     * @throws KapuaIllegalArgumentException
+     * @throws DatastoreDisabledException
+     * @throws ConfigurationException
+     * @throws ClientException
+     * @since 2.1.0
+     */
+    @Override
+    public List<MessageStoreResult> storeAll(KapuaId scopeId, List<? extends KapuaMessage<?, ?>> messages) throws KapuaIllegalArgumentException, DatastoreDisabledException, ConfigurationException, ClientException {
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(messages, "messages");
+
+        if (!isDatastoreServiceEnabled(scopeId)) {
+            throw new DatastoreDisabledException(scopeId);
+        }
+
+        MessageStoreConfiguration accountServicePlan = configProvider.getConfiguration(scopeId);
+
+        MessageStoreResult[] results = new MessageStoreResult[messages.size()];
+        List<Integer> toStoreIndexes = new ArrayList<>();
+        List<DatastoreMessage> messagesToStore = new ArrayList<>();
+        Map<String, Metric> metrics = new HashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            KapuaMessage<?, ?> message = messages.get(i);
+            try {
+                ArgumentValidator.notNull(message, "messages[]");
+                ArgumentValidator.notNull(message.getReceivedOn(), "receivedOn");
+                ArgumentValidator.notNull(message.getChannel(), "channel");
+            } catch (KapuaIllegalArgumentException e) {
+                results[i] = new MessageStoreResult(i, null, e);
+                continue;
+            }
+
+            long indexedOn = KapuaDateUtils.getKapuaSysDate().toEpochMilli();
+            if (DataIndexBy.DEVICE_TIMESTAMP.equals(accountServicePlan.getDataIndexBy()) && message.getCapturedOn() != null) {
+                indexedOn = message.getCapturedOn().getTime();
+            }
+
+            DatastoreMessage messageToStore = convertTo(message, UUID.randomUUID().toString());
+            messageToStore.setTimestamp(new Date(indexedOn));
+            collectMetricMappings(message, metrics);
+
+            toStoreIndexes.add(i);
+            messagesToStore.add(messageToStore);
+        }
+
+        if (!messagesToStore.isEmpty()) {
+            List<UpdateResponse> storeResponses = messageRepository.store(messagesToStore, metrics);
+            if (storeResponses.size() != messagesToStore.size()) {
+                throw new ClientInternalError(String.format("Bulk store of %s messages returned %s results", messagesToStore.size(), storeResponses.size()));
+            }
+
+            MessageInfo messageInfo = configProvider.getInfo(scopeId);
+            for (int i = 0; i < messagesToStore.size(); i++) {
+                int index = toStoreIndexes.get(i);
+                DatastoreMessage messageToStore = messagesToStore.get(i);
+                UpdateResponse storeResponse = storeResponses.get(i);
+                if (!storeResponse.isResult()) {
+                    results[index] = new MessageStoreResult(index, null, new DatastoreException(DatastoreErrorCodes.INTERNAL_ERROR, storeResponse.getDescription()));
+                    continue;
+                }
+
+                try {
+                    onAfterMessageStore(messageInfo, messageToStore);
+                    results[index] = new MessageStoreResult(index, messageToStore.getDatastoreId(), null);
+                } catch (KapuaIllegalArgumentException | ConfigurationException | MappingException | ClientException e) {
+                    LOG.warn("Error while updating registries of stored message {}: {}", messageToStore.getDatastoreId(), e.getMessage());
+                    results[index] = new MessageStoreResult(index, messageToStore.getDatastoreId(), new DatastoreException(DatastoreErrorCodes.INTERNAL_ERROR, e, e.getMessage()));
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Collects the metric mappings of the given message.
+     *
+     * @param message The message.
+     * @param metrics The metric mappings, by mapped name, to which the ones of the message are added.
+     */
+    private void collectMetricMappings(KapuaMessage<?, ?> message, Map<String, Metric> metrics) {
         if (message.getPayload() != null && message.getPayload().getMetrics() != null && !message.getPayload().getMetrics().isEmpty()) {
             Map<String, Object> messageMetrics = message.getPayload().getMetrics();
             for (Map.Entry<String, Object> messageMetric : messageMetrics.entrySet()) {
@@ -181,14 +295,6 @@ public final class MessageStoreFacadeImpl extends AbstractDatastoreFacade implem
                 metrics.put(mappedName, metric);
             }
         }
-
-        final String storedId = messageRepository.store(messageToStore, metrics);
-        messageToStore.setDatastoreId(storableIdFactory.newStorableId(storedId));
-
-        MessageInfo messageInfo = configProvider.getInfo(message.getScopeId());
-        this.onAfterMessageStore(messageInfo, messageToStore);
-
-        return storableIdFactory.newStorableId(storedId);
     }
 
     /**
@@ -358,6 +464,58 @@ public final class MessageStoreFacadeImpl extends AbstractDatastoreFacade implem
         return messageRepository.query(query);
     }
 
+    /**
+     * Open a cursor over all the messages matching the given query, ignoring its offset and limit
+     *
+     * @param query
+     * @param pageSize
+     * @return
+     * @throws KapuaIllegalArgumentException
+     * @throws ConfigurationException
+     * @throws ClientException
+     * @since 2.1.0
+     */
+    @Override
+    public StorableCursor<DatastoreMessage> scroll(MessageQuery query, int pageSize)
+            throws KapuaIllegalArgumentException,
+            ConfigurationException,
+            ClientException {
+        ArgumentValidator.notNull(query, QUERY);
+        ArgumentValidator.notNull(query.getScopeId(), QUERY_SCOPE_ID);
+        if (!this.isDatastoreServiceEnabled(query.getScopeId())) {
+            LOG.debug("Storage not enabled for account {}, returning empty cursor", query.getScopeId());
+            return new DatastoreMessageCursor();
+        }
+
+        return new DatastoreMessageCursor(messageRepository.scroll(query, pageSize));
+    }
+
+    /**
+     * Find the timestamp of the last message matching each of the given predicates
+     *
+     * @param scopeId
+     * @param predicates
+     * @return
+     * @throws KapuaIllegalArgumentException
+     * @throws ConfigurationException
+     * @throws ClientException
+     * @since 2.1.0
+     */
+    @Override
+    public Map<String, Date> findLastMessageOn(KapuaId scopeId, Map<String, StorablePredicate> predicates)
+            throws KapuaIllegalArgumentException,
+            ConfigurationException,
+            ClientException {
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(predicates, "predicates");
+        if (predicates.isEmpty() || !this.isDatastoreServiceEnabled(scopeId)) {
+            LOG.debug("Storage not enabled for account {} or no predicates given, returning empty result", scopeId);
+            return Collections.emptyMap();
+        }
+
+        return messageRepository.findLastMessageOn(scopeId, predicates);
+    }
+
 
     // TODO cache will not be reset from the client code it should be automatically reset
     // after some time.
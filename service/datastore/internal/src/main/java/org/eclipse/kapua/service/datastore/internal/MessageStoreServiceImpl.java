@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -34,17 +34,23 @@ import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettings;
 import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettingsKey;
 import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
 import org.eclipse.kapua.service.datastore.model.MessageListResult;
+import org.eclipse.kapua.service.datastore.model.MessageStoreResult;
 import org.eclipse.kapua.service.datastore.model.query.MessageQuery;
 import org.eclipse.kapua.service.elasticsearch.client.exception.ClientCommunicationException;
 import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
+import org.eclipse.kapua.service.storable.model.StorableCursor;
 import org.eclipse.kapua.service.storable.model.id.StorableId;
 import org.eclipse.kapua.service.storable.model.query.StorableFetchStyle;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicate;
 import org.eclipse.kapua.storage.TxManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -64,6 +70,8 @@ public class MessageStoreServiceImpl extends KapuaConfigurableServiceBase implem
 
     protected final Integer maxEntriesOnDelete;
     protected final Integer maxResultWindowValue;
+    protected final Integer maxEntriesOnStoreAll;
+    protected final Integer scrollPageSize;
     protected final MessageStoreFacade messageStoreFacade;
 
     @Inject
@@ -83,6 +91,8 @@ public class MessageStoreServiceImpl extends KapuaConfigurableServiceBase implem
         this.messageStoreFacade = messageStoreFacade;
         maxEntriesOnDelete = datastoreSettings.getInt(DatastoreSettingsKey.CONFIG_MAX_ENTRIES_ON_DELETE);
         maxResultWindowValue = datastoreSettings.getInt(DatastoreSettingsKey.MAX_RESULT_WINDOW_VALUE);
+        maxEntriesOnStoreAll = datastoreSettings.getInt(DatastoreSettingsKey.STORE_BULK_MAX_SIZE, 1000);
+        scrollPageSize = datastoreSettings.getInt(DatastoreSettingsKey.SCROLL_PAGE_SIZE, 1000);
     }
 
     @Override
@@ -139,6 +149,52 @@ public class MessageStoreServiceImpl extends KapuaConfigurableServiceBase implem
         }
     }
 
+    @Override
+    public List<MessageStoreResult> storeAll(KapuaId scopeId, List<? extends KapuaMessage<?, ?>> messages)
+            throws KapuaException {
+        ArgumentValidator.notNull(scopeId, "scopeId");
+        ArgumentValidator.notNull(messages, "messages");
+        ArgumentValidator.numLessThenOrEqual(messages.size(), maxEntriesOnStoreAll, "messages.size");
+
+        Context metricDataSaveTimeContext = metrics.getDataSaveTime().time();
+        try {
+            checkDataAccess(scopeId, Actions.write);
+
+            for (KapuaMessage<?, ?> message : messages) {
+                if (message != null) {
+                    message.setScopeId(scopeId);
+                }
+            }
+
+            List<MessageStoreResult> results = messageStoreFacade.storeAll(scopeId, messages);
+            for (MessageStoreResult result : results) {
+                if (result.isStored()) {
+                    metrics.getMessage().inc();
+                } else if (result.getException() instanceof KapuaIllegalArgumentException) {
+                    metrics.getValidationError().inc();
+                } else {
+                    metrics.getGenericError().inc();
+                }
+            }
+            return results;
+        } catch (ConfigurationException e) {
+            metrics.getConfigurationError().inc();
+            throw e;
+        } catch (KapuaIllegalArgumentException e) {
+            metrics.getValidationError().inc();
+            throw e;
+        } catch (ClientCommunicationException e) {
+            metrics.getCommunicationError().inc();
+            throw new DatastoreCommunicationException(null, e);
+        } catch (Exception e) {
+            metrics.getGenericError().inc();
+            logException(e);
+            throw new DatastoreException(KapuaErrorCodes.INTERNAL_ERROR, e, e.getMessage());
+        } finally {
+            metricDataSaveTimeContext.stop();
+        }
+    }
+
     @Override
     public DatastoreMessage find(KapuaId scopeId, StorableId id) throws KapuaException {
         return find(scopeId, id, StorableFetchStyle.SOURCE_FULL);
@@ -176,6 +232,23 @@ public class MessageStoreServiceImpl extends KapuaConfigurableServiceBase implem
         }
     }
 
+    @Override
+    public StorableCursor<DatastoreMessage> scroll(MessageQuery query)
+            throws KapuaException {
+        ArgumentValidator.notNull(query, "query");
+
+        checkDataAccess(query.getScopeId(), Actions.read);
+        try {
+            return messageStoreFacade.scroll(query, scrollPageSize);
+        } catch (ClientCommunicationException e) {
+            logException(e);
+            throw new DatastoreCommunicationException(null, e);
+        } catch (Exception e) {
+            logException(e);
+            throw new DatastoreException(KapuaErrorCodes.INTERNAL_ERROR, e, e.getMessage());
+        }
+    }
+
     @Override
     public long count(MessageQuery query)
             throws KapuaException {
@@ -216,6 +289,22 @@ public class MessageStoreServiceImpl extends KapuaConfigurableServiceBase implem
         }
     }
 
+    @Override
+    public Map<String, Date> findLastMessageOn(KapuaId scopeId, Map<String, StorablePredicate> predicates)
+            throws KapuaException {
+        ArgumentValidator.notNull(scopeId, "scopeId");
+        ArgumentValidator.notNull(predicates, "predicates");
+        ArgumentValidator.numLessThenOrEqual(predicates.size(), maxResultWindowValue, "predicates.size");
+
+        checkDataAccess(scopeId, Actions.read);
+        try {
+            return messageStoreFacade.findLastMessageOn(scopeId, predicates);
+        } catch (Exception e) {
+            logException(e);
+            throw new DatastoreException(KapuaErrorCodes.INTERNAL_ERROR, e, e.getMessage());
+        }
+    }
+
     protected void checkDataAccess(KapuaId scopeId, Actions action)
             throws KapuaException {
         Permission permission = permissionFactory.newPermission(Domains.DATASTORE, action, scopeId);
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.datastore.internal.model;
+
+import org.eclipse.kapua.KapuaErrorCodes;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreCommunicationException;
+import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreException;
+import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
+import org.eclipse.kapua.service.elasticsearch.client.exception.ClientCommunicationException;
+import org.eclipse.kapua.service.elasticsearch.client.exception.ClientException;
+import org.eclipse.kapua.service.elasticsearch.client.model.ResultCursor;
+import org.eclipse.kapua.service.storable.model.StorableCursor;
+
+/**
+ * {@link StorableCursor} of {@link DatastoreMessage}s implementation.
+ * <p>
+ * It reads from a {@link ResultCursor}, translating {@link ClientException}s into {@link DatastoreException}s.
+ *
+ * @since 2.1.0
+ */
+public class DatastoreMessageCursor implements StorableCursor<DatastoreMessage> {
+
+    private final ResultCursor<DatastoreMessage> resultCursor;
+
+    /**
+     * Constructor.
+     * <p>
+     * Creates an empty {@link DatastoreMessageCursor}.
+     *
+     * @since 2.1.0
+     */
+    public DatastoreMessageCursor() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param resultCursor The {@link ResultCursor} to read from.
+     * @since 2.1.0
+     */
+    public DatastoreMessageCursor(ResultCursor<DatastoreMessage> resultCursor) {
+        this.resultCursor = resultCursor;
+    }
+
+    @Override
+    public DatastoreMessage next() throws KapuaException {
+        if (resultCursor == null) {
+            return null;
+        }
+
+        try {
+            return resultCursor.next();
+        } catch (ClientException e) {
+            throw toDatastoreException(e);
+        }
+    }
+
+    @Override
+    public void close() throws KapuaException {
+        if (resultCursor == null) {
+            return;
+        }
+
+        try {
+            resultCursor.close();
+        } catch (ClientException e) {
+            throw toDatastoreException(e);
+        }
+    }
+
+    private DatastoreException toDatastoreException(ClientException e) {
+        if (e instanceof ClientCommunicationException) {
+            return new DatastoreCommunicationException(null, e);
+        }
+
+        return new DatastoreException(KapuaErrorCodes.INTERNAL_ERROR, e, e.getMessage());
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -109,7 +109,19 @@ public enum DatastoreSettingsKey implements SettingKey {
     /**
      * Elasticsearch limit+offset maximum value
      */
-    MAX_RESULT_WINDOW_VALUE("datastore.max_result_window");
+    MAX_RESULT_WINDOW_VALUE("datastore.max_result_window"),
+    /**
+     * Number of buckets read with each Elasticsearch paginated aggregation request
+     */
+    AGGREGATION_PAGE_SIZE("datastore.aggregation.page_size"),
+    /**
+     * Maximum number of messages stored with a single bulk store call
+     */
+    STORE_BULK_MAX_SIZE("datastore.store.bulk.max_size"),
+    /**
+     * Number of messages read with each Elasticsearch scroll request
+     */
+    SCROLL_PAGE_SIZE("datastore.scroll.page_size");
 
     private String key;
 
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.datastore.internal;
+
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.datastore.ChannelInfoFactory;
+import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreUtils;
+import org.eclipse.kapua.service.datastore.internal.model.query.ChannelInfoQueryImpl;
+import org.eclipse.kapua.service.datastore.internal.schema.ChannelInfoSchema;
+import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettings;
+import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettingsKey;
+import org.eclipse.kapua.service.datastore.model.query.ChannelInfoQuery;
+import org.eclipse.kapua.service.elasticsearch.client.ElasticsearchClient;
+import org.eclipse.kapua.service.elasticsearch.client.ElasticsearchClientProvider;
+import org.eclipse.kapua.service.elasticsearch.client.exception.ClientCommunicationException;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicateFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+@Category(JUnitTests.class)
+public class ChannelInfoElasticsearchRepositoryTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final String CHANNEL_INDEX = "1-data-channel";
+    private static final int AGGREGATION_PAGE_SIZE = 7;
+
+    private ElasticsearchClient<?> elasticsearchClient;
+    private ChannelInfoElasticsearchRepository instance;
+
+    @Before
+    public void setUp() throws Exception {
+        elasticsearchClient = Mockito.mock(ElasticsearchClient.class);
+        ElasticsearchClientProvider elasticsearchClientProvider = Mockito.mock(ElasticsearchClientProvider.class);
+        Mockito.when(elasticsearchClientProvider.getElasticsearchClient()).thenReturn(elasticsearchClient);
+
+        DatastoreUtils datastoreUtils = Mockito.mock(DatastoreUtils.class);
+        Mockito.when(datastoreUtils.getChannelIndexName(SCOPE_ID)).thenReturn(CHANNEL_INDEX);
+
+        DatastoreSettings datastoreSettings = Mockito.mock(DatastoreSettings.class);
+        Mockito.when(datastoreSettings.getInt(Mockito.eq(DatastoreSettingsKey.AGGREGATION_PAGE_SIZE), Mockito.anyInt())).thenReturn(AGGREGATION_PAGE_SIZE);
+
+        instance = new ChannelInfoElasticsearchRepository(
+                elasticsearchClientProvider,
+                Mockito.mock(ChannelInfoFactory.class),
+                Mockito.mock(StorablePredicateFactory.class),
+                datastoreSettings,
+                datastoreUtils,
+                Mockito.mock(DatastoreCacheManager.class));
+    }
+
+    @Test
+    public void findChannelNames() throws Exception {
+        ChannelInfoQuery query = new ChannelInfoQueryImpl(SCOPE_ID);
+        List<String> channelNames = Arrays.asList("topic/a", "topic/b", "topic/c");
+        Mockito.when(elasticsearchClient.distinct(CHANNEL_INDEX, query, ChannelInfoSchema.CHANNEL_NAME, AGGREGATION_PAGE_SIZE)).thenReturn(channelNames);
+
+        Assert.assertEquals(channelNames, instance.findChannelNames(query));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void findChannelNamesWithClientError() throws Exception {
+        ChannelInfoQuery query = new ChannelInfoQueryImpl(SCOPE_ID);
+        Mockito.when(elasticsearchClient.distinct(Mockito.anyString(), Mockito.any(), Mockito.anyString(), Mockito.anyInt())).thenThrow(new ClientCommunicationException());
+
+        instance.findChannelNames(query);
+    }
+}
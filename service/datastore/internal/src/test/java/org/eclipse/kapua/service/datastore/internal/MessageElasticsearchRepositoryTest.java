@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.datastore.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.kapua.commons.cache.LocalCache;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.datastore.MessageStoreFactory;
+import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreUtils;
+import org.eclipse.kapua.service.datastore.internal.mediator.Metric;
+import org.eclipse.kapua.service.datastore.internal.model.DatastoreMessageImpl;
+import org.eclipse.kapua.service.datastore.internal.schema.MessageSchema;
+import org.eclipse.kapua.service.datastore.internal.setting.DatastoreSettings;
+import org.eclipse.kapua.service.elasticsearch.client.ElasticsearchClient;
+import org.eclipse.kapua.service.elasticsearch.client.ElasticsearchClientProvider;
+import org.eclipse.kapua.service.elasticsearch.client.model.BulkUpdateRequest;
+import org.eclipse.kapua.service.elasticsearch.client.model.BulkUpdateResponse;
+import org.eclipse.kapua.service.elasticsearch.client.model.IndexRequest;
+import org.eclipse.kapua.service.elasticsearch.client.model.IndexResponse;
+import org.eclipse.kapua.service.elasticsearch.client.model.UpdateRequest;
+import org.eclipse.kapua.service.elasticsearch.client.model.UpdateResponse;
+import org.eclipse.kapua.service.storable.model.id.StorableIdImpl;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicate;
+import org.eclipse.kapua.service.storable.model.query.predicate.StorablePredicateFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Category(JUnitTests.class)
+public class MessageElasticsearchRepositoryTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final String DATA_INDEX = "1-data-message-*";
+    private static final String WEEK_INDEX = "1-data-message-2020-37";
+    private static final String NEXT_WEEK_INDEX = "1-data-message-2020-38";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ElasticsearchClient<?> elasticsearchClient;
+    private DatastoreUtils datastoreUtils;
+    private MessageElasticsearchRepository instance;
+
+    @Before
+    public void setUp() throws Exception {
+        elasticsearchClient = Mockito.mock(ElasticsearchClient.class);
+        ElasticsearchClientProvider elasticsearchClientProvider = Mockito.mock(ElasticsearchClientProvider.class);
+        Mockito.when(elasticsearchClientProvider.getElasticsearchClient()).thenReturn(elasticsearchClient);
+
+        datastoreUtils = Mockito.mock(DatastoreUtils.class);
+        Mockito.when(datastoreUtils.getDataIndexName(SCOPE_ID)).thenReturn(DATA_INDEX);
+
+        DatastoreCacheManager datastoreCacheManager = Mockito.mock(DatastoreCacheManager.class);
+        Mockito.when(datastoreCacheManager.getMetadataCache()).thenReturn(new LocalCache<>(100, null));
+
+        instance = new MessageElasticsearchRepository(
+                elasticsearchClientProvider,
+                Mockito.mock(MessageStoreFactory.class),
+                Mockito.mock(StorablePredicateFactory.class),
+                Mockito.mock(DatastoreSettings.class),
+                datastoreUtils,
+                datastoreCacheManager);
+    }
+
+    @Test
+    public void findLastMessageOn() throws Exception {
+        Map<String, StorablePredicate> predicates = new HashMap<>();
+        predicates.put("topic/a", newPredicate("{\"term\":{\"channel\":\"topic/a\"}}"));
+        predicates.put("topic/b", newPredicate("{\"term\":{\"channel\":\"topic/b\"}}"));
+
+        Map<String, JsonNode> expectedFilters = new HashMap<>();
+        expectedFilters.put("topic/a", objectMapper.readTree("{\"term\":{\"channel\":\"topic/a\"}}"));
+        expectedFilters.put("topic/b", objectMapper.readTree("{\"term\":{\"channel\":\"topic/b\"}}"));
+
+        // Topics without messages are not returned by the aggregation
+        Mockito.when(elasticsearchClient.maxByFilter(Mockito.eq(DATA_INDEX), Mockito.any(), Mockito.eq(expectedFilters), Mockito.eq(MessageSchema.MESSAGE_TIMESTAMP)))
+                .thenReturn(Collections.singletonMap("topic/a", 1_600_000_000_123d));
+
+        Map<String, Date> lastMessageOn = instance.findLastMessageOn(SCOPE_ID, predicates);
+
+        Assert.assertEquals(Collections.singletonMap("topic/a", new Date(1_600_000_000_123L)), lastMessageOn);
+    }
+
+    @Test
+    public void storeAllWithSingleBulkRequest() throws Exception {
+        Mockito.when(datastoreUtils.getDataIndexName(Mockito.eq(SCOPE_ID), Mockito.eq(1_600_000_000_000L), Mockito.<String>any())).thenReturn(WEEK_INDEX);
+        Mockito.when(datastoreUtils.getDataIndexName(Mockito.eq(SCOPE_ID), Mockito.eq(1_600_000_001_000L), Mockito.<String>any())).thenReturn(WEEK_INDEX);
+        Mockito.when(datastoreUtils.getDataIndexName(Mockito.eq(SCOPE_ID), Mockito.eq(1_600_600_000_000L), Mockito.<String>any())).thenReturn(NEXT_WEEK_INDEX);
+        Mockito.when(elasticsearchClient.isIndexExists(Mockito.<IndexRequest>any())).thenReturn(new IndexResponse(true));
+
+        BulkUpdateResponse bulkUpdateResponse = new BulkUpdateResponse();
+        bulkUpdateResponse.add(new UpdateResponse("a", WEEK_INDEX));
+        bulkUpdateResponse.add(new UpdateResponse("b", WEEK_INDEX, "rejected"));
+        bulkUpdateResponse.add(new UpdateResponse("c", NEXT_WEEK_INDEX));
+        Mockito.when(elasticsearchClient.upsert(Mockito.<BulkUpdateRequest>any())).thenReturn(bulkUpdateResponse);
+
+        Map<String, Metric> metrics = new HashMap<>();
+        metrics.put("temperature.dbl", new Metric("temperature", "double"));
+        List<UpdateResponse> storeResponses = instance.store(
+                Arrays.asList(
+                        newMessage("a", 1_600_000_000_000L),
+                        newMessage("b", 1_600_000_001_000L),
+                        newMessage("c", 1_600_600_000_000L)),
+                metrics);
+
+        Assert.assertEquals(bulkUpdateResponse.getResponse(), storeResponses);
+
+        // All the messages are sent with a single bulk request, each one to the index of its timestamp
+        ArgumentCaptor<BulkUpdateRequest> bulkUpdateRequest = ArgumentCaptor.forClass(BulkUpdateRequest.class);
+        Mockito.verify(elasticsearchClient).upsert(bulkUpdateRequest.capture());
+        List<UpdateRequest> updateRequests = bulkUpdateRequest.getValue().getRequest();
+        Assert.assertEquals(3, updateRequests.size());
+        Assert.assertEquals("a", updateRequests.get(0).getId());
+        Assert.assertEquals(WEEK_INDEX, updateRequests.get(0).getIndex());
+        Assert.assertEquals("b", updateRequests.get(1).getId());
+        Assert.assertEquals(WEEK_INDEX, updateRequests.get(1).getIndex());
+        Assert.assertEquals("c", updateRequests.get(2).getId());
+        Assert.assertEquals(NEXT_WEEK_INDEX, updateRequests.get(2).getIndex());
+
+        // Indexes and metric mappings are upserted once for each target index
+        Mockito.verify(elasticsearchClient, Mockito.times(2)).isIndexExists(Mockito.<IndexRequest>any());
+        Mockito.verify(elasticsearchClient).putMapping(Mockito.eq(WEEK_INDEX), Mockito.<JsonNode>any());
+        Mockito.verify(elasticsearchClient).putMapping(Mockito.eq(NEXT_WEEK_INDEX), Mockito.<JsonNode>any());
+    }
+
+    private static DatastoreMessageImpl newMessage(String datastoreId, long timestamp) {
+        DatastoreMessageImpl message = new DatastoreMessageImpl();
+        message.setScopeId(SCOPE_ID);
+        message.setDatastoreId(new StorableIdImpl(datastoreId));
+        message.setTimestamp(new Date(timestamp));
+        return message;
+    }
+
+    private StorablePredicate newPredicate(String serializedPredicate) throws Exception {
+        StorablePredicate predicate = Mockito.mock(StorablePredicate.class);
+        Mockito.when(predicate.toSerializedMap()).thenReturn((ObjectNode) objectMapper.readTree(serializedPredicate));
+        return predicate;
+    }
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.datastore.internal;
+
+import org.eclipse.kapua.KapuaIllegalArgumentException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.locator.KapuaLocator;
+import org.eclipse.kapua.message.internal.device.data.KapuaDataChannelImpl;
+import org.eclipse.kapua.message.internal.device.data.KapuaDataMessageImpl;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.datastore.exception.DatastoreDisabledException;
+import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreException;
+import org.eclipse.kapua.service.datastore.internal.mediator.DatastoreUtils;
+import org.eclipse.kapua.service.datastore.internal.mediator.MessageStoreConfiguration;
+import org.eclipse.kapua.service.datastore.internal.mediator.Metric;
+import org.eclipse.kapua.service.datastore.model.ClientInfo;
+import org.eclipse.kapua.service.datastore.model.DatastoreMessage;
+import org.eclipse.kapua.service.datastore.model.MessageStoreResult;
+import org.eclipse.kapua.service.elasticsearch.client.exception.ClientInternalError;
+import org.eclipse.kapua.service.elasticsearch.client.model.UpdateResponse;
+import org.eclipse.kapua.service.storable.model.id.StorableIdFactory;
+import org.eclipse.kapua.service.storable.model.id.StorableIdImpl;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+@Category(JUnitTests.class)
+public class MessageStoreFacadeImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+
+    private MessageStoreConfiguration messageStoreConfiguration;
+    private MessageRepository messageRepository;
+    private ClientInfoRegistryFacade clientInfoRegistryFacade;
+    private MessageStoreFacadeImpl instance;
+
+    @BeforeClass
+    public static void setUpLocator() {
+        System.setProperty(KapuaLocator.LOCATOR_CLASS_NAME_SYSTEM_PROPERTY, MockitoLocator.class.getName());
+        KapuaLocator.clearInstance();
+    }
+
+    @AfterClass
+    public static void tearDownLocator() {
+        System.clearProperty(KapuaLocator.LOCATOR_CLASS_NAME_SYSTEM_PROPERTY);
+        KapuaLocator.clearInstance();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        messageStoreConfiguration = new MessageStoreConfiguration(null);
+        messageStoreConfiguration.setDataStorageEnabled(true);
+        messageStoreConfiguration.setDataTimeToLive(30);
+
+        ConfigurationProvider configurationProvider = Mockito.mock(ConfigurationProvider.class);
+        Mockito.when(configurationProvider.getConfiguration(SCOPE_ID)).thenReturn(messageStoreConfiguration);
+
+        StorableIdFactory storableIdFactory = Mockito.mock(StorableIdFactory.class);
+        Mockito.when(storableIdFactory.newStorableId(Mockito.<String>any())).thenAnswer(invocation -> new StorableIdImpl(invocation.getArgumentAt(0, String.class)));
+
+        messageRepository = Mockito.mock(MessageRepository.class);
+        clientInfoRegistryFacade = Mockito.mock(ClientInfoRegistryFacade.class);
+
+        instance = new MessageStoreFacadeImpl(
+                configurationProvider,
+                storableIdFactory,
+                clientInfoRegistryFacade,
+                Mockito.mock(ChannelInfoRegistryFacade.class),
+                Mockito.mock(MetricInfoRegistryFacade.class),
+                messageRepository,
+                Mockito.mock(MetricInfoRepository.class),
+                Mockito.mock(ChannelInfoRepository.class),
+                Mockito.mock(ClientInfoRepository.class),
+                Mockito.mock(MetricsDatastore.class),
+                Mockito.mock(DatastoreUtils.class),
+                Mockito.mock(DatastoreCacheManager.class));
+    }
+
+    @Test
+    public void storeAllReportsEachMessage() throws Exception {
+        Mockito.when(messageRepository.store(Mockito.<List<DatastoreMessage>>any(), Mockito.<Map<String, Metric>>any()))
+                .thenReturn(Arrays.asList(new UpdateResponse("a", "index"), new UpdateResponse("c", "index", "rejected")));
+
+        KapuaDataMessageImpl withoutChannel = newMessage("b");
+        withoutChannel.setChannel(null);
+
+        List<MessageStoreResult> results = instance.storeAll(SCOPE_ID, Arrays.asList(newMessage("a"), withoutChannel, newMessage("c")));
+
+        Assert.assertEquals(3, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            Assert.assertEquals(i, results.get(i).getIndex());
+        }
+
+        Assert.assertTrue(results.get(0).isStored());
+        Assert.assertNotNull(results.get(0).getDatastoreId());
+        // Invalid messages are not sent to the datastore
+        Assert.assertFalse(results.get(1).isStored());
+        Assert.assertTrue(results.get(1).getException() instanceof KapuaIllegalArgumentException);
+        // Messages rejected by the datastore
+        Assert.assertFalse(results.get(2).isStored());
+        Assert.assertTrue(results.get(2).getException() instanceof DatastoreException);
+
+        // The valid messages are sent with a single bulk request
+        ArgumentCaptor<List> messagesToStore = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(messageRepository).store(messagesToStore.capture(), Mockito.<Map<String, Metric>>any());
+        Assert.assertEquals(2, messagesToStore.getValue().size());
+        Assert.assertEquals(results.get(0).getDatastoreId(), ((DatastoreMessage) messagesToStore.getValue().get(0)).getDatastoreId());
+
+        // Registries are updated only for the stored messages
+        Mockito.verify(clientInfoRegistryFacade).upstore(Mockito.<ClientInfo>any());
+    }
+
+    @Test
+    public void storeAllWithoutValidMessages() throws Exception {
+        KapuaDataMessageImpl withoutReceivedOn = newMessage("a");
+        withoutReceivedOn.setReceivedOn(null);
+
+        List<MessageStoreResult> results = instance.storeAll(SCOPE_ID, Collections.singletonList(withoutReceivedOn));
+
+        Assert.assertEquals(1, results.size());
+        Assert.assertFalse(results.get(0).isStored());
+        Mockito.verifyZeroInteractions(messageRepository);
+    }
+
+    @Test(expected = DatastoreDisabledException.class)
+    public void storeAllWithDatastoreDisabled() throws Exception {
+        messageStoreConfiguration.setDataStorageEnabled(false);
+
+        instance.storeAll(SCOPE_ID, Collections.singletonList(newMessage("a")));
+    }
+
+    @Test(expected = ClientInternalError.class)
+    public void storeAllWithMissingResponses() throws Exception {
+        Mockito.when(messageRepository.store(Mockito.<List<DatastoreMessage>>any(), Mockito.<Map<String, Metric>>any()))
+                .thenReturn(Collections.singletonList(new UpdateResponse("a", "index")));
+
+        instance.storeAll(SCOPE_ID, Arrays.asList(newMessage("a"), newMessage("b")));
+    }
+
+    private static KapuaDataMessageImpl newMessage(String clientId) {
+        KapuaDataChannelImpl channel = new KapuaDataChannelImpl();
+        channel.setSemanticParts(Arrays.asList("topic", clientId));
+
+        KapuaDataMessageImpl message = new KapuaDataMessageImpl();
+        message.setScopeId(SCOPE_ID);
+        message.setClientId(clientId);
+        message.setChannel(channel);
+        message.setReceivedOn(new Date());
+        return message;
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.datastore.internal;
+
+import org.eclipse.kapua.locator.KapuaLocator;
+import org.eclipse.kapua.model.KapuaObjectFactory;
+import org.eclipse.kapua.service.KapuaService;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link KapuaLocator} which returns the registered instances, or a new {@link Mockito#mock(Class)} for the others.
+ */
+public class MockitoLocator extends KapuaLocator {
+
+    private static final Map<Class<?>, Object> INSTANCES = new ConcurrentHashMap<>();
+
+    public static <T> void register(Class<T> instanceClass, T instance) {
+        INSTANCES.put(instanceClass, instance);
+    }
+
+    public static void clear() {
+        INSTANCES.clear();
+    }
+
+    @Override
+    public <S extends KapuaService> S getService(Class<S> serviceClass) {
+        return getComponent(serviceClass);
+    }
+
+    @Override
+    public <F extends KapuaObjectFactory> F getFactory(Class<F> factoryClass) {
+        return getComponent(factoryClass);
+    }
+
+    @Override
+    public List<KapuaService> getServices() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public <T> T getComponent(Class<T> componentClass) {
+        Object instance = INSTANCES.get(componentClass);
+        return instance != null ? componentClass.cast(instance) : Mockito.mock(componentClass);
+    }
+
+    @Override
+    public <T> T getComponent(Class<T> componentClass, String named) {
+        return getComponent(componentClass);
+    }
+
+    @Override
+    public <T> T getComponent(Type type) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -159,6 +159,21 @@ public interface DeviceCall<RQ extends DeviceRequestMessage<?, ?>, RS extends De
      */
     RS send(@NotNull RQ requestMessage, @Nullable Long timeout) throws DeviceCallTimeoutException, DeviceCallSendException, TransportException;
 
+    /**
+     * Sends the request message through the given broker.
+     * <p>
+     * It allows callers which have already loaded the target device connection to skip resolving it again.
+     *
+     * @param requestMessage The {@link DeviceRequestMessage} to send.
+     * @param timeout        The timeout of the request.
+     * @param serverIp       The address of the broker to which the target device is connected. If {@code null} it will be resolved from the {@link DeviceRequestMessage}.
+     * @throws DeviceCallTimeoutException if waiting of the response goes on timeout.
+     * @throws DeviceCallSendException    if sending the request produces any error.
+     * @throws TransportException
+     * @since 2.1.0
+     */
+    RS send(@NotNull RQ requestMessage, @Nullable Long timeout, @Nullable String serverIp) throws DeviceCallTimeoutException, DeviceCallSendException, TransportException;
+
     /**
      * Get the {@link DeviceMessage} type.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,11 @@ import javax.inject.Singleton;
 
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
 import org.eclipse.kapua.commons.core.JaxbClassProvider;
+import org.eclipse.kapua.commons.core.ServiceModule;
 import org.eclipse.kapua.commons.core.SimpleJaxbClassProvider;
+import org.eclipse.kapua.commons.setting.system.SystemSetting;
+import org.eclipse.kapua.commons.setting.system.SystemSettingKey;
+import org.eclipse.kapua.event.ServiceEventBus;
 import org.eclipse.kapua.service.device.call.DeviceCallFactory;
 import org.eclipse.kapua.service.device.call.DeviceMessageFactory;
 import org.eclipse.kapua.service.device.call.kura.model.inventory.KuraInventoryItem;
@@ -31,6 +35,7 @@ import org.eclipse.kapua.service.device.call.kura.model.inventory.system.KuraInv
 import org.eclipse.kapua.service.device.call.message.kura.setting.DeviceCallSettings;
 
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.ProvidesIntoSet;
 
 public class DeviceCallKuraModule extends AbstractKapuaModule {
 
@@ -39,6 +44,7 @@ public class DeviceCallKuraModule extends AbstractKapuaModule {
         bind(DeviceCallFactory.class).to(KuraDeviceCallFactoryImpl.class).in(Singleton.class);
         bind(DeviceMessageFactory.class).to(KuraMessageFactoryImpl.class).in(Singleton.class);
         bind(DeviceCallSettings.class).in(Singleton.class);
+        bind(DeviceConnectionServerIpCache.class).in(Singleton.class);
         final Multibinder<JaxbClassProvider> jaxbClassProviderMultibinder = Multibinder.newSetBinder(binder(), JaxbClassProvider.class);
         jaxbClassProviderMultibinder.addBinding()
                 .toInstance(new SimpleJaxbClassProvider(
@@ -54,4 +60,14 @@ public class DeviceCallKuraModule extends AbstractKapuaModule {
                         )
                 );
     }
+
+    @ProvidesIntoSet
+    protected ServiceModule deviceConnectionServerIpCacheServiceModule(DeviceConnectionServerIpCache deviceConnectionServerIpCache,
+                                                                       ServiceEventBus serviceEventBus,
+                                                                       SystemSetting systemSetting) {
+        return new DeviceConnectionServerIpCacheServiceModule(
+                deviceConnectionServerIpCache,
+                serviceEventBus,
+                systemSetting.getString(SystemSettingKey.EVENT_BUS_LIFECYCLE_EVENTS_ADDRESS));
+    }
 }
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.call.kura;
+
+import com.google.common.base.Strings;
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.kapua.commons.cache.LocalCache;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.event.ServiceEventBusListener;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.call.message.kura.setting.DeviceCallSettingKeys;
+import org.eclipse.kapua.service.device.call.message.kura.setting.DeviceCallSettings;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnection;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Local cache of the {@link DeviceConnection#getServerIp()} of the connected devices, identified by scope and client id.
+ * <p>
+ * It is kept up to date by the device connect/disconnect lifecycle {@link ServiceEvent}s: a {@link DeviceConnectionStatus#CONNECTED} event carrying the broker address in its
+ * {@link ServiceEvent#getOutputs()} refreshes the entry, any other event evicts it. Entries also expire after {@link DeviceCallSettingKeys#ROUTING_CACHE_TTL}, to bound
+ * staleness when lifecycle events are not delivered.
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class DeviceConnectionServerIpCache implements ServiceEventBusListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceConnectionServerIpCache.class);
+
+    private final LocalCache<Pair<KapuaId, String>, String> serverIpCache;
+
+    @Inject
+    public DeviceConnectionServerIpCache(DeviceCallSettings deviceCallSettings) {
+        this(
+                deviceCallSettings.getInt(DeviceCallSettingKeys.ROUTING_CACHE_SIZE_MAX, 10000),
+                deviceCallSettings.getInt(DeviceCallSettingKeys.ROUTING_CACHE_TTL, 300)
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sizeMax            The maximum number of cached entries.
+     * @param expireAfterSeconds The seconds after which an entry expires since it has been written.
+     * @since 2.1.0
+     */
+    public DeviceConnectionServerIpCache(int sizeMax, int expireAfterSeconds) {
+        this.serverIpCache = new LocalCache<>(sizeMax, expireAfterSeconds, null);
+    }
+
+    /**
+     * Gets the cached {@link DeviceConnection#getServerIp()}.
+     *
+     * @param scopeId  The scope {@link KapuaId} of the device.
+     * @param clientId The client id of the device.
+     * @return The cached {@link DeviceConnection#getServerIp()} or {@code null} if not cached.
+     * @since 2.1.0
+     */
+    public String get(KapuaId scopeId, String clientId) {
+        return serverIpCache.get(key(scopeId, clientId));
+    }
+
+    /**
+     * Caches the {@link DeviceConnection#getServerIp()}.
+     * <p>
+     * An empty {@code serverIp} evicts the entry.
+     *
+     * @param scopeId  The scope {@link KapuaId} of the device.
+     * @param clientId The client id of the device.
+     * @param serverIp The {@link DeviceConnection#getServerIp()}.
+     * @since 2.1.0
+     */
+    public void put(KapuaId scopeId, String clientId, String serverIp) {
+        if (Strings.isNullOrEmpty(serverIp)) {
+            evict(scopeId, clientId);
+        } else {
+            serverIpCache.put(key(scopeId, clientId), serverIp);
+        }
+    }
+
+    /**
+     * Evicts the cached {@link DeviceConnection#getServerIp()}.
+     *
+     * @param scopeId  The scope {@link KapuaId} of the device.
+     * @param clientId The client id of the device.
+     * @since 2.1.0
+     */
+    public void evict(KapuaId scopeId, String clientId) {
+        serverIpCache.remove(key(scopeId, clientId));
+    }
+
+    @Override
+    public void onKapuaEvent(ServiceEvent kapuaEvent) {
+        if (kapuaEvent == null || kapuaEvent.getScopeId() == null || Strings.isNullOrEmpty(kapuaEvent.getInputs())) {
+            return;
+        }
+
+        LOG.debug("Received lifecycle event {} for clientId: {}", kapuaEvent.getOperation(), kapuaEvent.getInputs());
+        if (DeviceConnectionStatus.CONNECTED.name().equals(kapuaEvent.getOperation())) {
+            put(kapuaEvent.getScopeId(), kapuaEvent.getInputs(), kapuaEvent.getOutputs());
+        } else {
+            evict(kapuaEvent.getScopeId(), kapuaEvent.getInputs());
+        }
+    }
+
+    private static Pair<KapuaId, String> key(KapuaId scopeId, String clientId) {
+        return Pair.of(KapuaEid.parseKapuaId(scopeId), clientId);
+    }
+}
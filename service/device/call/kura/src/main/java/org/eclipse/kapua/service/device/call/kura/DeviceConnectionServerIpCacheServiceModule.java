@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.call.kura;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.event.ServiceEventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+/**
+ * {@link ServiceModule} that subscribes the {@link DeviceConnectionServerIpCache} to the device connect/disconnect lifecycle events.
+ * <p>
+ * Each instance subscribes with its own name, since every node keeps its own {@link DeviceConnectionServerIpCache} and must receive all events.
+ * If the subscription fails, the {@link DeviceConnectionServerIpCache} relies only on the expiration of its entries.
+ *
+ * @since 2.1.0
+ */
+public class DeviceConnectionServerIpCacheServiceModule implements ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceConnectionServerIpCacheServiceModule.class);
+
+    private final DeviceConnectionServerIpCache deviceConnectionServerIpCache;
+    private final ServiceEventBus serviceEventBus;
+    private final String lifecycleEventsAddress;
+
+    private boolean subscribed;
+
+    /**
+     * Constructor.
+     *
+     * @param deviceConnectionServerIpCache The {@link DeviceConnectionServerIpCache} to keep up to date.
+     * @param serviceEventBus               The {@link ServiceEventBus}.
+     * @param lifecycleEventsAddress        The address of the device connect/disconnect lifecycle events.
+     * @since 2.1.0
+     */
+    public DeviceConnectionServerIpCacheServiceModule(DeviceConnectionServerIpCache deviceConnectionServerIpCache, ServiceEventBus serviceEventBus, String lifecycleEventsAddress) {
+        this.deviceConnectionServerIpCache = deviceConnectionServerIpCache;
+        this.serviceEventBus = serviceEventBus;
+        this.lifecycleEventsAddress = lifecycleEventsAddress;
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (subscribed) {
+            return;
+        }
+
+        String subscriptionName = String.format("%s-device-call-routing-%s", lifecycleEventsAddress, UUID.randomUUID());
+        try {
+            serviceEventBus.subscribe(lifecycleEventsAddress, subscriptionName, deviceConnectionServerIpCache);
+            subscribed = true;
+        } catch (Exception e) {
+            LOG.warn("Cannot subscribe device routing cache to lifecycle events on address {}. Cached entries will only expire", lifecycleEventsAddress, e);
+        }
+    }
+
+    @Override
+    public void stop() throws KapuaException {
+        // Subscriptions are closed along with the ServiceEventBus
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -32,19 +32,22 @@ public class KuraDeviceCallFactoryImpl implements DeviceCallFactory {
     private final DeviceRegistryService deviceRegistryService;
     private final TransportClientFactory transportClientFactory;
     private final TranslatorHub translatorHub;
+    private final DeviceConnectionServerIpCache deviceConnectionServerIpCache;
 
     @Inject
     public KuraDeviceCallFactoryImpl(AccountService accountService,
                                      DeviceRegistryService deviceRegistryService,
-                                     TransportClientFactory transportClientFactory, TranslatorHub translatorHub) {
+                                     TransportClientFactory transportClientFactory, TranslatorHub translatorHub,
+                                     DeviceConnectionServerIpCache deviceConnectionServerIpCache) {
         this.accountService = accountService;
         this.deviceRegistryService = deviceRegistryService;
         this.transportClientFactory = transportClientFactory;
         this.translatorHub = translatorHub;
+        this.deviceConnectionServerIpCache = deviceConnectionServerIpCache;
     }
 
     @Override
     public KuraDeviceCallImpl newDeviceCall() {
-        return new KuraDeviceCallImpl(accountService, deviceRegistryService, transportClientFactory, translatorHub);
+        return new KuraDeviceCallImpl(accountService, deviceRegistryService, transportClientFactory, translatorHub, deviceConnectionServerIpCache);
     }
 }
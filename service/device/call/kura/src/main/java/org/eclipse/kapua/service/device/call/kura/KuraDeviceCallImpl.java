@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,7 @@ import org.eclipse.kapua.service.device.call.message.kura.app.request.KuraReques
 import org.eclipse.kapua.service.device.call.message.kura.app.response.KuraResponseMessage;
 import org.eclipse.kapua.service.device.registry.Device;
 import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnection;
 import org.eclipse.kapua.translator.Translator;
 import org.eclipse.kapua.translator.TranslatorHub;
 import org.eclipse.kapua.translator.exception.TranslatorNotFoundException;
@@ -63,70 +64,79 @@ public class KuraDeviceCallImpl implements DeviceCall<KuraRequestMessage, KuraRe
     protected final DeviceRegistryService deviceRegistryService;
     protected final TransportClientFactory transportClientFactory;
     protected final TranslatorHub translatorHub;
+    protected final DeviceConnectionServerIpCache deviceConnectionServerIpCache;
 
     @Inject
     public KuraDeviceCallImpl(
             AccountService accountService,
             DeviceRegistryService deviceRegistryService,
-            TransportClientFactory transportClientFactory, TranslatorHub translatorHub) {
+            TransportClientFactory transportClientFactory, TranslatorHub translatorHub,
+            DeviceConnectionServerIpCache deviceConnectionServerIpCache) {
         this.accountService = accountService;
         this.deviceRegistryService = deviceRegistryService;
         this.transportClientFactory = transportClientFactory;
         this.translatorHub = translatorHub;
+        this.deviceConnectionServerIpCache = deviceConnectionServerIpCache;
     }
 
     @Override
     public KuraResponseMessage create(@NotNull KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
     }
 
     @Override
     public KuraResponseMessage read(@NotNull KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
     }
 
     @Override
     public KuraResponseMessage options(@NotNull KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
     }
 
     @Override
     public KuraResponseMessage delete(@NotNull KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
     }
 
     @Override
     public KuraResponseMessage execute(@NotNull KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
     }
 
     @Override
     public KuraResponseMessage write(@NotNull KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
     }
 
     @Override
     public KuraResponseMessage submit(KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
     }
 
     @Override
     public KuraResponseMessage cancel(KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
     }
 
     @Override
     public KuraResponseMessage send(KuraRequestMessage requestMessage, @Nullable Long timeout)
             throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
-        return sendInternal(requestMessage, timeout);
+        return sendInternal(requestMessage, timeout, null);
+    }
+
+    @Override
+    public KuraResponseMessage send(KuraRequestMessage requestMessage, @Nullable Long timeout, @Nullable String serverIp)
+            throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
+        return sendInternal(requestMessage, timeout, serverIp);
     }
 
     @Override
@@ -140,17 +150,18 @@ public class KuraDeviceCallImpl implements DeviceCall<KuraRequestMessage, KuraRe
      *
      * @param requestMessage The {@link KuraRequestMessage} to send.
      * @param timeout        The timeout of waiting the {@link KuraResponseMessage}.
+     * @param serverIp       The address of the broker to which the device is connected, or {@code null} to resolve it.
      * @return The {@link KuraResponseMessage} received.
      * @throws DeviceCallTimeoutException if waiting of the response goes on timeout.
      * @throws DeviceCallSendException    if sending the request produces any error.
      * @since 1.0.0
      */
-    protected KuraResponseMessage sendInternal(@NotNull KuraRequestMessage requestMessage, @Nullable Long timeout) throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
+    protected KuraResponseMessage sendInternal(@NotNull KuraRequestMessage requestMessage, @Nullable Long timeout, @Nullable String serverIp) throws DeviceCallTimeoutException, DeviceCallSendException, TransportException {
 
         KuraResponseMessage response = null;
         try {
             // Borrow a TransportClient
-            try (TransportFacade transportFacade = borrowClient(requestMessage)) {
+            try (TransportFacade transportFacade = borrowClient(requestMessage, serverIp)) {
                 // Get Kura to transport translator for the request and vice versa
                 Translator<KuraRequestMessage, TransportMessage<?, ?>> translatorKuraTransport = getTranslator(requestMessage.getClass(), transportFacade.getMessageClass());
                 Translator<TransportMessage<?, ?>, KuraResponseMessage> translatorTransportKura = getTranslator(transportFacade.getMessageClass(), KuraResponseMessage.class);
@@ -203,22 +214,24 @@ public class KuraDeviceCallImpl implements DeviceCall<KuraRequestMessage, KuraRe
      * @since 1.0.0
      */
     protected TransportFacade<?, ?, ?, ?> borrowClient(KuraRequestMessage kuraRequestMessage) throws TransportException {
-        String serverIp = null;
-        try {
-            serverIp = KapuaSecurityUtils.doPrivileged(() -> {
-                Account account = accountService.findByName(kuraRequestMessage.getChannel().getScope());
-
-                if (account == null) {
-                    throw new KapuaEntityNotFoundException(Account.TYPE, kuraRequestMessage.getChannel().getScope());
-                }
-
-                Device device = deviceRegistryService.findByClientId(account.getId(), kuraRequestMessage.getChannel().getClientId());
-                if (device == null) {
-                    throw new KapuaEntityNotFoundException(Device.TYPE, kuraRequestMessage.getChannel().getClientId());
-                }
+        return borrowClient(kuraRequestMessage, null);
+    }
 
-                return device.getConnection().getServerIp();
-            });
+    /**
+     * Picks a {@link TransportFacade} connected to the given broker to send the {@link KuraResponseMessage}.
+     *
+     * @param kuraRequestMessage The {@link KuraRequestMessage} to send.
+     * @param serverIp           The address of the broker to which the device is connected. If {@code null} it is resolved with {@link #resolveServerIp(KuraRequestMessage)}.
+     * @return The {@link TransportFacade} to use to send the {@link KuraResponseMessage}.
+     * @throws TransportClientGetException If getting the {@link TransportFacade} causes an {@link Exception}.
+     * @throws TransportException          For all other errors
+     * @since 2.1.0
+     */
+    protected TransportFacade<?, ?, ?, ?> borrowClient(KuraRequestMessage kuraRequestMessage, @Nullable String serverIp) throws TransportException {
+        try {
+            if (Strings.isNullOrEmpty(serverIp)) {
+                serverIp = resolveServerIp(kuraRequestMessage);
+            }
 
             if (Strings.isNullOrEmpty(serverIp)) {
                 throw new TransportClientGetException(serverIp);
@@ -234,6 +247,45 @@ public class KuraDeviceCallImpl implements DeviceCall<KuraRequestMessage, KuraRe
         }
     }
 
+    /**
+     * Resolves the address of the broker to which the target {@link Device} of the {@link KuraRequestMessage} is connected.
+     * <p>
+     * The address is looked up in the {@link DeviceConnectionServerIpCache} first, and then read from the {@link Device#getConnection()}.
+     *
+     * @param kuraRequestMessage The {@link KuraRequestMessage} to send.
+     * @return The {@link DeviceConnection#getServerIp()}.
+     * @throws KapuaException If the {@link Account} or the {@link Device} cannot be found.
+     * @since 2.1.0
+     */
+    protected String resolveServerIp(KuraRequestMessage kuraRequestMessage) throws KapuaException {
+        return KapuaSecurityUtils.doPrivileged(() -> {
+            Account account = accountService.findByName(kuraRequestMessage.getChannel().getScope());
+
+            if (account == null) {
+                throw new KapuaEntityNotFoundException(Account.TYPE, kuraRequestMessage.getChannel().getScope());
+            }
+
+            String clientId = kuraRequestMessage.getChannel().getClientId();
+            String serverIp = deviceConnectionServerIpCache.get(account.getId(), clientId);
+            if (serverIp != null) {
+                return serverIp;
+            }
+
+            Device device = deviceRegistryService.findByClientId(account.getId(), clientId);
+            if (device == null) {
+                throw new KapuaEntityNotFoundException(Device.TYPE, clientId);
+            }
+
+            DeviceConnection deviceConnection = device.getConnection();
+            if (deviceConnection == null) {
+                return null;
+            }
+
+            deviceConnectionServerIpCache.put(account.getId(), clientId, deviceConnection.getServerIp());
+            return deviceConnection.getServerIp();
+        });
+    }
+
     /**
      * Gets the translator for the given {@link Message} types.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -26,7 +26,21 @@ public enum DeviceCallSettingKeys implements SettingKey {
      *
      * @since 1.0.0
      */
-    DESTINATION_REPLY_PART("destination.reply.part");
+    DESTINATION_REPLY_PART("destination.reply.part"),
+
+    /**
+     * Maximum number of entries of the device routing cache.
+     *
+     * @since 2.1.0
+     */
+    ROUTING_CACHE_SIZE_MAX("routing.cache.size.max"),
+
+    /**
+     * Seconds after which a device routing cache entry expires.
+     *
+     * @since 2.1.0
+     */
+    ROUTING_CACHE_TTL("routing.cache.ttl");
 
     /**
      * The key value of the {@link SettingKey}.
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.call.kura;
+
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceConnectionServerIpCacheTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.TEN);
+    private static final String CLIENT_ID = "client-1";
+    private static final String SERVER_IP = "broker-1";
+
+    private DeviceConnectionServerIpCache instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new DeviceConnectionServerIpCache(100, 300);
+    }
+
+    @Test
+    public void putAndGet() {
+        instance.put(SCOPE_ID, CLIENT_ID, SERVER_IP);
+
+        Assertions.assertEquals(SERVER_IP, instance.get(SCOPE_ID, CLIENT_ID));
+        // Equal scope ids of other KapuaId implementations hit the same entry
+        Assertions.assertEquals(SERVER_IP, instance.get(() -> BigInteger.TEN, CLIENT_ID));
+        Assertions.assertNull(instance.get(KapuaId.ONE, CLIENT_ID));
+        Assertions.assertNull(instance.get(SCOPE_ID, "client-2"));
+    }
+
+    @Test
+    public void putEmptyServerIpEvicts() {
+        instance.put(SCOPE_ID, CLIENT_ID, SERVER_IP);
+        instance.put(SCOPE_ID, CLIENT_ID, "");
+
+        Assertions.assertNull(instance.get(SCOPE_ID, CLIENT_ID));
+    }
+
+    @Test
+    public void connectedEventRefreshesEntry() {
+        instance.put(SCOPE_ID, CLIENT_ID, SERVER_IP);
+
+        instance.onKapuaEvent(newLifecycleEvent(DeviceConnectionStatus.CONNECTED, "broker-2"));
+
+        Assertions.assertEquals("broker-2", instance.get(SCOPE_ID, CLIENT_ID));
+    }
+
+    @Test
+    public void connectedEventWithoutServerIpEvictsEntry() {
+        instance.put(SCOPE_ID, CLIENT_ID, SERVER_IP);
+
+        instance.onKapuaEvent(newLifecycleEvent(DeviceConnectionStatus.CONNECTED, null));
+
+        Assertions.assertNull(instance.get(SCOPE_ID, CLIENT_ID));
+    }
+
+    @Test
+    public void otherEventsEvictEntry() {
+        for (DeviceConnectionStatus status : new DeviceConnectionStatus[]{DeviceConnectionStatus.DISCONNECTED, DeviceConnectionStatus.MISSING}) {
+            instance.put(SCOPE_ID, CLIENT_ID, SERVER_IP);
+
+            instance.onKapuaEvent(newLifecycleEvent(status, SERVER_IP));
+
+            Assertions.assertNull(instance.get(SCOPE_ID, CLIENT_ID), status.name());
+        }
+    }
+
+    @Test
+    public void incompleteEventsIgnored() {
+        instance.put(SCOPE_ID, CLIENT_ID, SERVER_IP);
+
+        ServiceEvent withoutScope = newLifecycleEvent(DeviceConnectionStatus.DISCONNECTED, null);
+        withoutScope.setScopeId(null);
+        ServiceEvent withoutClientId = newLifecycleEvent(DeviceConnectionStatus.DISCONNECTED, null);
+        withoutClientId.setInputs(null);
+
+        instance.onKapuaEvent(null);
+        instance.onKapuaEvent(withoutScope);
+        instance.onKapuaEvent(withoutClientId);
+
+        Assertions.assertEquals(SERVER_IP, instance.get(SCOPE_ID, CLIENT_ID));
+    }
+
+    @Test
+    public void entriesBounded() {
+        DeviceConnectionServerIpCache boundedCache = new DeviceConnectionServerIpCache(2, 300);
+        for (int i = 0; i < 100; i++) {
+            boundedCache.put(SCOPE_ID, "client-" + i, SERVER_IP);
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 100; i++) {
+            if (boundedCache.get(SCOPE_ID, "client-" + i) != null) {
+                cached++;
+            }
+        }
+        Assertions.assertTrue(cached <= 2, "Cached entries: " + cached);
+    }
+
+    private static ServiceEvent newLifecycleEvent(DeviceConnectionStatus status, String serverIp) {
+        ServiceEvent serviceEvent = new ServiceEvent();
+        serviceEvent.setScopeId(SCOPE_ID);
+        serviceEvent.setInputs(CLIENT_ID);
+        serviceEvent.setOutputs(serverIp);
+        serviceEvent.setOperation(status.name());
+        return serviceEvent;
+    }
+}
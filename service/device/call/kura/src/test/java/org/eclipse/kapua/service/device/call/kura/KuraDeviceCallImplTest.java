@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.call.kura;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.account.Account;
+import org.eclipse.kapua.service.account.AccountService;
+import org.eclipse.kapua.service.device.call.message.kura.app.request.KuraRequestChannel;
+import org.eclipse.kapua.service.device.call.message.kura.app.request.KuraRequestMessage;
+import org.eclipse.kapua.service.device.call.message.kura.app.request.KuraRequestPayload;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnection;
+import org.eclipse.kapua.translator.Translator;
+import org.eclipse.kapua.translator.TranslatorHub;
+import org.eclipse.kapua.transport.TransportClientFactory;
+import org.eclipse.kapua.transport.TransportFacade;
+import org.eclipse.kapua.transport.exception.TransportClientGetException;
+import org.eclipse.kapua.transport.message.TransportMessage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Map;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class KuraDeviceCallImplTest {
+
+    private static final String ACCOUNT_NAME = "account-1";
+    private static final KapuaId ACCOUNT_ID = new KapuaEid(BigInteger.TEN);
+    private static final String CLIENT_ID = "client-1";
+
+    private AccountService accountService;
+    private DeviceRegistryService deviceRegistryService;
+    private TransportClientFactory transportClientFactory;
+    private TransportFacade transportFacade;
+    private DeviceConnectionServerIpCache deviceConnectionServerIpCache;
+    private KuraDeviceCallImpl instance;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Account account = Mockito.mock(Account.class);
+        Mockito.when(account.getId()).thenReturn(ACCOUNT_ID);
+        accountService = Mockito.mock(AccountService.class);
+        Mockito.when(accountService.findByName(ACCOUNT_NAME)).thenReturn(account);
+
+        deviceRegistryService = Mockito.mock(DeviceRegistryService.class);
+
+        transportFacade = Mockito.mock(TransportFacade.class);
+        Mockito.when(transportFacade.getClientId()).thenReturn("requester");
+        Mockito.when(transportFacade.getMessageClass()).thenReturn(TransportMessage.class);
+        transportClientFactory = Mockito.mock(TransportClientFactory.class);
+        Mockito.when(transportClientFactory.getFacade(Mockito.<Map<String, Object>>any())).thenReturn(transportFacade);
+
+        Translator translator = Mockito.mock(Translator.class);
+        Mockito.when(translator.translate(Mockito.any())).thenReturn(Mockito.mock(TransportMessage.class));
+        TranslatorHub translatorHub = Mockito.mock(TranslatorHub.class);
+        Mockito.when(translatorHub.getTranslatorFor(Mockito.<Class>any(), Mockito.<Class>any())).thenReturn(translator);
+
+        deviceConnectionServerIpCache = new DeviceConnectionServerIpCache(100, 300);
+
+        instance = new KuraDeviceCallImpl(accountService, deviceRegistryService, transportClientFactory, translatorHub, deviceConnectionServerIpCache);
+    }
+
+    @Test
+    public void sendToGivenServerIp() throws Exception {
+        instance.send(newRequestMessage(), null, "broker-1");
+
+        Assertions.assertEquals("broker-1", borrowedServerAddress());
+        Mockito.verify(transportFacade).sendSync(Mockito.any(), Mockito.<Long>any());
+        Mockito.verify(transportFacade).close();
+        // The device is not looked up
+        Mockito.verifyZeroInteractions(accountService, deviceRegistryService);
+    }
+
+    @Test
+    public void sendResolvesServerIpFromCache() throws Exception {
+        deviceConnectionServerIpCache.put(ACCOUNT_ID, CLIENT_ID, "broker-2");
+
+        instance.send(newRequestMessage(), null);
+
+        Assertions.assertEquals("broker-2", borrowedServerAddress());
+        Mockito.verifyZeroInteractions(deviceRegistryService);
+    }
+
+    @Test
+    public void sendResolvesServerIpFromDeviceConnection() throws Exception {
+        DeviceConnection deviceConnection = Mockito.mock(DeviceConnection.class);
+        Mockito.when(deviceConnection.getServerIp()).thenReturn("broker-3");
+        Device device = Mockito.mock(Device.class);
+        Mockito.when(device.getConnection()).thenReturn(deviceConnection);
+        Mockito.when(deviceRegistryService.findByClientId(ACCOUNT_ID, CLIENT_ID)).thenReturn(device);
+
+        instance.send(newRequestMessage(), null);
+
+        Assertions.assertEquals("broker-3", borrowedServerAddress());
+        // The resolved address is cached for the next requests
+        Assertions.assertEquals("broker-3", deviceConnectionServerIpCache.get(ACCOUNT_ID, CLIENT_ID));
+
+        instance.send(newRequestMessage(), null);
+        Mockito.verify(deviceRegistryService, Mockito.times(1)).findByClientId(ACCOUNT_ID, CLIENT_ID);
+    }
+
+    @Test
+    public void sendWithEmptyServerIpResolvesIt() throws Exception {
+        deviceConnectionServerIpCache.put(ACCOUNT_ID, CLIENT_ID, "broker-2");
+
+        instance.send(newRequestMessage(), null, "");
+
+        Assertions.assertEquals("broker-2", borrowedServerAddress());
+    }
+
+    @Test
+    public void sendWithoutDeviceConnectionFails() throws KapuaException {
+        Device device = Mockito.mock(Device.class);
+        Mockito.when(deviceRegistryService.findByClientId(ACCOUNT_ID, CLIENT_ID)).thenReturn(device);
+
+        Assertions.assertThrows(TransportClientGetException.class, () -> instance.send(newRequestMessage(), null));
+    }
+
+    private String borrowedServerAddress() throws Exception {
+        ArgumentCaptor<Map> configParameters = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(transportClientFactory, Mockito.atLeastOnce()).getFacade(configParameters.capture());
+        return (String) configParameters.getValue().get("serverAddress");
+    }
+
+    private static KuraRequestMessage newRequestMessage() {
+        KuraRequestChannel requestChannel = new KuraRequestChannel("$EDC", ACCOUNT_NAME, CLIENT_ID);
+        return new KuraRequestMessage(requestChannel, new Date(), new KuraRequestPayload());
+    }
+}
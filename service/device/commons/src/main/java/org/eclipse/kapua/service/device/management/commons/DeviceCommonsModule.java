@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.device.management.commons;
 
+import com.google.inject.multibindings.ProvidesIntoSet;
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchService;
+import org.eclipse.kapua.service.device.management.commons.batch.DeviceManagementBatchServiceImpl;
 import org.eclipse.kapua.service.device.management.commons.message.KapuaRequestMessageFactoryImpl;
 import org.eclipse.kapua.service.device.management.commons.setting.DeviceManagementSetting;
 import org.eclipse.kapua.service.device.management.message.request.KapuaRequestMessageFactory;
@@ -24,5 +28,13 @@ public class DeviceCommonsModule extends AbstractKapuaModule {
     protected void configureModule() {
         bind(KapuaRequestMessageFactory.class).to(KapuaRequestMessageFactoryImpl.class).in(Singleton.class);
         bind(DeviceManagementSetting.class).in(Singleton.class);
+        bind(DeviceManagementBatchServiceImpl.class).in(Singleton.class);
+        bind(DeviceManagementBatchService.class).to(DeviceManagementBatchServiceImpl.class);
+    }
+
+    @ProvidesIntoSet
+    ServiceModule deviceManagementBatchServiceModule(DeviceManagementBatchServiceImpl deviceManagementBatchService) {
+        // Started and stopped with the other ServiceModules, so that the thread pool is shut down
+        return deviceManagementBatchService;
     }
 }
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.commons.batch;
+
+import org.apache.shiro.SecurityUtils;
+import org.apache.shiro.subject.ExecutionException;
+import org.apache.shiro.subject.Subject;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.commons.model.domains.Domains;
+import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
+import org.eclipse.kapua.commons.security.KapuaSession;
+import org.eclipse.kapua.commons.util.ArgumentValidator;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.domain.Actions;
+import org.eclipse.kapua.model.query.SortOrder;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchOperation;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchResult;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchResultListener;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchService;
+import org.eclipse.kapua.service.device.management.commons.setting.DeviceManagementSetting;
+import org.eclipse.kapua.service.device.management.commons.setting.DeviceManagementSettingKey;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceFactory;
+import org.eclipse.kapua.service.device.registry.DeviceListResult;
+import org.eclipse.kapua.service.device.registry.DeviceQuery;
+import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DeviceManagementBatchService} implementation.
+ * <p>
+ * {@link DeviceManagementBatchOperation}s run on a shared pool of {@link DeviceManagementSettingKey#BATCH_THREADS} threads.
+ * Each batch keeps at most {@link DeviceManagementSettingKey#BATCH_MAX_IN_FLIGHT} of them in flight and collects their {@link DeviceManagementBatchResult}s
+ * in its own completion queue, which the invoking thread drains while submitting.
+ * <p>
+ * The thread pool is created when the {@link ServiceModule} is {@link #start()}ed and shut down when it is {@link #stop()}ped.
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class DeviceManagementBatchServiceImpl implements DeviceManagementBatchService, ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceManagementBatchServiceImpl.class);
+
+    private final AuthorizationService authorizationService;
+    private final PermissionFactory permissionFactory;
+    private final DeviceRegistryService deviceRegistryService;
+    private final DeviceFactory deviceFactory;
+    private final int maxInFlight;
+    private final int pageSize;
+    private final int threads;
+
+    private ExecutorService batchExecutor;
+
+    @Inject
+    public DeviceManagementBatchServiceImpl(
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            DeviceRegistryService deviceRegistryService,
+            DeviceFactory deviceFactory,
+            DeviceManagementSetting deviceManagementSetting) {
+        this(authorizationService,
+                permissionFactory,
+                deviceRegistryService,
+                deviceFactory,
+                deviceManagementSetting.getInt(DeviceManagementSettingKey.BATCH_MAX_IN_FLIGHT, 50),
+                deviceManagementSetting.getInt(DeviceManagementSettingKey.BATCH_PAGE_SIZE, 500),
+                deviceManagementSetting.getInt(DeviceManagementSettingKey.BATCH_THREADS, 100));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param authorizationService  The {@link AuthorizationService}.
+     * @param permissionFactory     The {@link PermissionFactory}.
+     * @param deviceRegistryService The {@link DeviceRegistryService} used to read the target {@link Device}s.
+     * @param deviceFactory         The {@link DeviceFactory} used to copy the given {@link DeviceQuery}.
+     * @param maxInFlight           The maximum number of {@link DeviceManagementBatchOperation}s in flight for each batch.
+     * @param pageSize              The number of {@link Device}s read with each query.
+     * @param threads               The number of threads shared by all batches.
+     * @since 2.1.0
+     */
+    public DeviceManagementBatchServiceImpl(
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            DeviceRegistryService deviceRegistryService,
+            DeviceFactory deviceFactory,
+            int maxInFlight,
+            int pageSize,
+            int threads) {
+        this.authorizationService = authorizationService;
+        this.permissionFactory = permissionFactory;
+        this.deviceRegistryService = deviceRegistryService;
+        this.deviceFactory = deviceFactory;
+        this.maxInFlight = maxInFlight;
+        this.pageSize = pageSize;
+        this.threads = threads;
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (batchExecutor != null) {
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        batchExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread batchThread = new Thread(runnable, "device-management-batch-" + threadCount.incrementAndGet());
+            batchThread.setDaemon(true);
+            return batchThread;
+        });
+    }
+
+    @Override
+    public synchronized void stop() throws KapuaException {
+        if (batchExecutor == null) {
+            return;
+        }
+
+        // Operations already submitted are completed, so that each running batch receives all its results
+        batchExecutor.shutdown();
+        try {
+            if (!batchExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOG.warn("Timed out while waiting for device management batch operations to complete");
+                batchExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batchExecutor.shutdownNow();
+        }
+        batchExecutor = null;
+    }
+
+    @Override
+    public <R> long execute(DeviceQuery deviceQuery, Actions action, DeviceManagementBatchOperation<R> operation, DeviceManagementBatchResultListener<R> resultListener) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(deviceQuery, "deviceQuery");
+        ArgumentValidator.notNull(deviceQuery.getScopeId(), "deviceQuery.scopeId");
+        ArgumentValidator.notNull(action, "action");
+        ArgumentValidator.notNull(operation, "operation");
+        ArgumentValidator.notNull(resultListener, "resultListener");
+
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, action, deviceQuery.getScopeId()));
+
+        ExecutorService executor = getBatchExecutor();
+
+        // Operations run on other threads as the caller, so the services they call check the caller permissions
+        KapuaSession callerSession = KapuaSecurityUtils.getSession();
+        Subject callerSubject = SecurityUtils.getSubject();
+        BlockingQueue<DeviceManagementBatchResult<R>> completedResults = new LinkedBlockingQueue<>();
+
+        // Paging works on a copy, leaving the given DeviceQuery untouched.
+        // Devices are paged by id, so that the next page does not need to read the last Device of the previous one, which may have been deleted meanwhile
+        DeviceQuery pageQuery = deviceFactory.newQuery(deviceQuery.getScopeId());
+        pageQuery.setPredicate(deviceQuery.getPredicate());
+        pageQuery.setSortCriteria(pageQuery.fieldSortCriteria(KapuaEntityAttributes.ENTITY_ID, SortOrder.ASCENDING));
+        pageQuery.setFetchAttributes(deviceQuery.getFetchAttributes());
+        pageQuery.setAfterId(deviceQuery.getAfterId());
+        pageQuery.setLimit(pageSize);
+
+        long submitted = 0;
+        int inFlight = 0;
+        try {
+            DeviceListResult devices;
+            do {
+                devices = deviceRegistryService.query(pageQuery);
+
+                for (Device device : devices.getItems()) {
+                    // Wait for a free slot
+                    while (inFlight >= maxInFlight) {
+                        resultListener.onResult(completedResults.take());
+                        inFlight--;
+                    }
+
+                    try {
+                        executor.execute(() -> completedResults.add(executeOn(callerSession, callerSubject, device, operation)));
+                    } catch (RejectedExecutionException e) {
+                        // Stopping
+                        completedResults.add(new DeviceManagementBatchResult<>(device.getId(), device.getClientId(), null, KapuaException.internalError(e, "Device management batch service stopped")));
+                    }
+                    inFlight++;
+                    submitted++;
+
+                    // Stream the results already available
+                    DeviceManagementBatchResult<R> completedResult;
+                    while ((completedResult = completedResults.poll()) != null) {
+                        resultListener.onResult(completedResult);
+                        inFlight--;
+                    }
+                }
+
+                if (!devices.isEmpty()) {
+                    pageQuery.setAfterId(devices.getItem(devices.getSize() - 1).getId());
+                }
+            } while (devices.isLimitExceeded());
+
+            // Wait for the remaining results
+            while (inFlight > 0) {
+                resultListener.onResult(completedResults.take());
+                inFlight--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw KapuaException.internalError(e, "Interrupted while waiting for device management batch results");
+        }
+
+        LOG.debug("Performed device management batch operation on {} devices of scope {}", submitted, deviceQuery.getScopeId());
+        return submitted;
+    }
+
+    private synchronized ExecutorService getBatchExecutor() throws KapuaException {
+        if (batchExecutor == null) {
+            throw KapuaException.internalError("Device management batch service not started");
+        }
+        return batchExecutor;
+    }
+
+    private static <R> DeviceManagementBatchResult<R> executeOn(KapuaSession callerSession, Subject callerSubject, Device device, DeviceManagementBatchOperation<R> operation) {
+        KapuaSecurityUtils.setSession(callerSession);
+        try {
+            R result = callerSubject.execute(() -> operation.execute(device.getScopeId(), device.getId()));
+            return new DeviceManagementBatchResult<>(device.getId(), device.getClientId(), result, null);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            KapuaException kapuaException = cause instanceof KapuaException ? (KapuaException) cause : KapuaException.internalError(cause);
+            return new DeviceManagementBatchResult<>(device.getId(), device.getClientId(), null, kapuaException);
+        } catch (RuntimeException e) {
+            return new DeviceManagementBatchResult<>(device.getId(), device.getClientId(), null, KapuaException.internalError(e));
+        } finally {
+            KapuaSecurityUtils.clearSession();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -138,7 +138,7 @@ public class DeviceCallBuilder<C extends KapuaRequestChannel, P extends KapuaReq
      */
     public RS send() throws KapuaEntityNotFoundException, KapuaIllegalArgumentException, DeviceNotConnectedException, DeviceManagementTimeoutException, DeviceManagementSendException, TransportException {
 
-        deviceCallPreChecks();
+        Device device = deviceCallPreChecks();
         // Translate the request from Kapua to Device
         try {
             requestMessage.setSentOn(new Date());
@@ -148,7 +148,7 @@ public class DeviceCallBuilder<C extends KapuaRequestChannel, P extends KapuaReq
             DeviceRequestMessage<?, ?> deviceRequestMessage = tKapuaToClient.translate(requestMessage);
 
             // Send the request
-            DeviceResponseMessage<?, ?> responseMessage = deviceCall.send(deviceRequestMessage, timeout);
+            DeviceResponseMessage<?, ?> responseMessage = deviceCall.send(deviceRequestMessage, timeout, device.getConnection().getServerIp());
 
             // Translate the response from Device to Kapua
             Translator<DeviceResponseMessage<?, ?>, RS> tClientToKapua = translatorHub.getTranslatorFor(deviceCall.getBaseMessageClass(), requestMessage.getResponseClass());
@@ -173,7 +173,7 @@ public class DeviceCallBuilder<C extends KapuaRequestChannel, P extends KapuaReq
      */
     public void sendAndForget() throws KapuaEntityNotFoundException, KapuaIllegalArgumentException, DeviceNotConnectedException, DeviceManagementSendException, TransportException {
 
-        deviceCallPreChecks();
+        Device device = deviceCallPreChecks();
         // Translate the request from Kapua to Device
         try {
             requestMessage.setSentOn(new Date());
@@ -183,7 +183,7 @@ public class DeviceCallBuilder<C extends KapuaRequestChannel, P extends KapuaReq
             DeviceRequestMessage<?, ?> deviceRequestMessage = tKapuaToClient.translate(requestMessage);
 
             // Send the request
-            deviceCall.send(deviceRequestMessage, null);
+            deviceCall.send(deviceRequestMessage, null, device.getConnection().getServerIp());
 
         } catch (TransportException te) {
             throw te;
@@ -197,7 +197,13 @@ public class DeviceCallBuilder<C extends KapuaRequestChannel, P extends KapuaReq
     // Private methods
     //
 
-    private void deviceCallPreChecks() throws DeviceManagementSendException, KapuaEntityNotFoundException, DeviceNotConnectedException, KapuaIllegalNullArgumentException {
+    /**
+     * Checks that the target {@link Device} of the {@link KapuaRequestMessage} exists and is {@link DeviceConnectionStatus#CONNECTED}.
+     *
+     * @return The target {@link Device}, whose {@link Device#getConnection()} is used to route the {@link KapuaRequestMessage}.
+     * @since 2.1.0
+     */
+    private Device deviceCallPreChecks() throws DeviceManagementSendException, KapuaEntityNotFoundException, DeviceNotConnectedException, KapuaIllegalNullArgumentException {
         // Validate arguments
         ArgumentValidator.notNull(requestMessage, "requestMessage");
         // Check Device existence
@@ -218,5 +224,6 @@ public class DeviceCallBuilder<C extends KapuaRequestChannel, P extends KapuaReq
         if (!DeviceConnectionStatus.CONNECTED.equals(device.getConnection().getStatus())) {
             throw new DeviceNotConnectedException(device.getId(), device.getConnection().getStatus());
         }
+        return device;
     }
 }
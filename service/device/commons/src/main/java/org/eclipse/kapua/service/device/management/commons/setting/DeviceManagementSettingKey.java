@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,12 @@ public enum DeviceManagementSettingKey implements SettingKey {
      * @since 1.0.0
      */
     SHOW_STACKTRACE("device.management.response.stacktrace.show"),
+
+    BATCH_MAX_IN_FLIGHT("device.management.batch.maxInFlight"),
+
+    BATCH_PAGE_SIZE("device.management.batch.pageSize"),
+
+    BATCH_THREADS("device.management.batch.threads"),
     ;
 
     private final String key;
@@ -0,0 +1,432 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.commons.batch;
+
+import org.apache.shiro.SecurityUtils;
+import org.apache.shiro.mgt.DefaultSecurityManager;
+import org.apache.shiro.subject.Subject;
+import org.apache.shiro.util.ThreadContext;
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.commons.model.query.AbstractKapuaQuery;
+import org.eclipse.kapua.commons.model.query.KapuaListResultImpl;
+import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
+import org.eclipse.kapua.commons.security.KapuaSession;
+import org.eclipse.kapua.locator.KapuaLocator;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.domain.Actions;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.FieldSortCriteria;
+import org.eclipse.kapua.model.query.SortOrder;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.call.DeviceCall;
+import org.eclipse.kapua.service.device.call.DeviceCallFactory;
+import org.eclipse.kapua.service.device.call.exception.DeviceCallTimeoutException;
+import org.eclipse.kapua.service.device.call.message.DeviceMessage;
+import org.eclipse.kapua.service.device.call.message.app.request.DeviceRequestMessage;
+import org.eclipse.kapua.service.device.call.message.app.response.DeviceResponseMessage;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchOperation;
+import org.eclipse.kapua.service.device.management.batch.DeviceManagementBatchResult;
+import org.eclipse.kapua.service.device.management.commons.call.DeviceCallBuilder;
+import org.eclipse.kapua.service.device.management.commons.message.request.KapuaRequestChannelImpl;
+import org.eclipse.kapua.service.device.management.commons.message.request.KapuaRequestMessageImpl;
+import org.eclipse.kapua.service.device.management.commons.message.request.KapuaRequestPayloadImpl;
+import org.eclipse.kapua.service.device.management.commons.message.response.KapuaResponseMessageImpl;
+import org.eclipse.kapua.service.device.management.commons.message.response.KapuaResponsePayloadImpl;
+import org.eclipse.kapua.service.device.management.commons.setting.DeviceManagementSetting;
+import org.eclipse.kapua.service.device.management.exception.DeviceManagementTimeoutException;
+import org.eclipse.kapua.service.device.management.message.KapuaMethod;
+import org.eclipse.kapua.service.device.management.message.request.KapuaRequestChannel;
+import org.eclipse.kapua.service.device.management.message.request.KapuaRequestMessage;
+import org.eclipse.kapua.service.device.management.message.request.KapuaRequestPayload;
+import org.eclipse.kapua.service.device.management.message.response.KapuaResponseChannel;
+import org.eclipse.kapua.service.device.management.message.response.KapuaResponseMessage;
+import org.eclipse.kapua.service.device.management.message.response.KapuaResponsePayload;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceAttributes;
+import org.eclipse.kapua.service.device.registry.DeviceFactory;
+import org.eclipse.kapua.service.device.registry.DeviceListResult;
+import org.eclipse.kapua.service.device.registry.DeviceMatchPredicate;
+import org.eclipse.kapua.service.device.registry.DeviceQuery;
+import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnection;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionStatus;
+import org.eclipse.kapua.translator.Translator;
+import org.eclipse.kapua.translator.TranslatorHub;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tests {@link DeviceManagementBatchServiceImpl} with operations sent through {@link DeviceCallBuilder} to an in-process stub {@link DeviceCall}, without any MQTT broker.
+ */
+@Category(JUnitTests.class)
+public class DeviceManagementBatchServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+
+    private static final int DEVICES = 250;
+    private static final int MAX_IN_FLIGHT = 20;
+    private static final int PAGE_SIZE = 40;
+    private static final long REQUEST_TIMEOUT = 200L;
+
+    private List<Device> devices;
+    private Set<KapuaId> deletedDeviceIds;
+    private boolean deletePageLastDevice;
+    private Map<DeviceRequestMessage<?, ?>, String> deviceRequestClientIds;
+    private Map<String, DeviceResponseMessage<?, ?>> deviceResponses;
+    private Map<DeviceResponseMessage<?, ?>, String> deviceResponseBodies;
+    private StubDeviceTransport stubDeviceTransport;
+    private DeviceRegistryService deviceRegistryService;
+    private KapuaSession callerSession;
+    private Subject callerSubject;
+    private DeviceManagementBatchServiceImpl instance;
+
+    @BeforeClass
+    public static void setUpLocator() {
+        System.setProperty(KapuaLocator.LOCATOR_CLASS_NAME_SYSTEM_PROPERTY, MockitoLocator.class.getName());
+        KapuaLocator.clearInstance();
+    }
+
+    @AfterClass
+    public static void tearDownLocator() {
+        KapuaLocator.clearInstance();
+        MockitoLocator.clear();
+        System.clearProperty(KapuaLocator.LOCATOR_CLASS_NAME_SYSTEM_PROPERTY);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        devices = new ArrayList<>();
+        deviceRequestClientIds = new HashMap<>();
+        deviceResponses = new HashMap<>();
+        deviceResponseBodies = new HashMap<>();
+        Map<KapuaId, DeviceRequestMessage<?, ?>> deviceRequests = new HashMap<>();
+        deviceRegistryService = Mockito.mock(DeviceRegistryService.class);
+        for (int i = 1; i <= DEVICES; i++) {
+            KapuaId deviceId = new KapuaEid(BigInteger.valueOf(i));
+            String clientId = "device-" + i;
+
+            DeviceConnection deviceConnection = Mockito.mock(DeviceConnection.class);
+            Mockito.when(deviceConnection.getStatus()).thenReturn(DeviceConnectionStatus.CONNECTED);
+            Mockito.when(deviceConnection.getServerIp()).thenReturn("broker");
+            Device device = Mockito.mock(Device.class);
+            Mockito.when(device.getScopeId()).thenReturn(SCOPE_ID);
+            Mockito.when(device.getId()).thenReturn(deviceId);
+            Mockito.when(device.getClientId()).thenReturn(clientId);
+            Mockito.when(device.getConnection()).thenReturn(deviceConnection);
+            Mockito.when(deviceRegistryService.find(SCOPE_ID, deviceId)).thenReturn(device);
+            devices.add(device);
+
+            DeviceRequestMessage<?, ?> deviceRequest = Mockito.mock(DeviceRequestMessage.class);
+            deviceRequests.put(deviceId, deviceRequest);
+            deviceRequestClientIds.put(deviceRequest, clientId);
+
+            DeviceResponseMessage<?, ?> deviceResponse = Mockito.mock(DeviceResponseMessage.class);
+            deviceResponses.put("pong from " + clientId, deviceResponse);
+            deviceResponseBodies.put(deviceResponse, "pong from " + clientId);
+        }
+
+        // Devices read by id, page by page after the given id
+        deletedDeviceIds = ConcurrentHashMap.newKeySet();
+        deletePageLastDevice = false;
+        Mockito.when(deviceRegistryService.query(Mockito.any(DeviceQuery.class))).thenAnswer(invocation -> {
+            DeviceQuery query = invocation.getArgumentAt(0, DeviceQuery.class);
+            FieldSortCriteria sortCriteria = (FieldSortCriteria) query.getSortCriteria();
+            if (query.getAfterId() != null && deletedDeviceIds.contains(query.getAfterId()) &&
+                    sortCriteria != null && !KapuaEntityAttributes.ENTITY_ID.equals(sortCriteria.getAttributeName())) {
+                // Like the repository, which reads the sort attribute value of the Device to start after
+                throw new KapuaEntityNotFoundException(Device.TYPE, query.getAfterId());
+            }
+
+            // Device ids are their position in the list, starting from 1
+            int from = query.getAfterId() != null ? query.getAfterId().getId().intValue() : 0;
+            List<Device> following = IntStream.range(from, devices.size())
+                    .filter(index -> !deletedDeviceIds.contains(new KapuaEid(BigInteger.valueOf(index + 1))))
+                    .mapToObj(devices::get)
+                    .collect(Collectors.toList());
+            int to = Math.min(query.getLimit(), following.size());
+
+            TestDeviceListResult page = new TestDeviceListResult();
+            page.addItems(following.subList(0, to));
+            page.setLimitExceeded(to < following.size());
+            if (deletePageLastDevice && to > 0) {
+                deletedDeviceIds.add(following.get(to - 1).getId());
+            }
+            return page;
+        });
+        DeviceFactory deviceFactory = Mockito.mock(DeviceFactory.class);
+        Mockito.when(deviceFactory.newQuery(Mockito.any(KapuaId.class))).thenAnswer(invocation -> new TestDeviceQuery(invocation.getArgumentAt(0, KapuaId.class)));
+
+        // Stub transport behind the DeviceCall used by DeviceCallBuilder
+        stubDeviceTransport = new StubDeviceTransport();
+        DeviceCall<DeviceRequestMessage<?, ?>, DeviceResponseMessage<?, ?>> deviceCall = Mockito.mock(DeviceCall.class);
+        Mockito.doReturn(DeviceMessage.class).when(deviceCall).getBaseMessageClass();
+        Mockito.when(deviceCall.send(Mockito.any(), Mockito.anyLong(), Mockito.anyString()))
+                .thenAnswer(invocation -> deviceResponses.get(stubDeviceTransport.request(deviceRequestClientIds.get(invocation.getArgumentAt(0, DeviceRequestMessage.class)), "ping")));
+        DeviceCallFactory deviceCallFactory = Mockito.mock(DeviceCallFactory.class);
+        Mockito.when(deviceCallFactory.newDeviceCall()).thenReturn(deviceCall);
+
+        Translator<KapuaRequestMessage<?, ?>, DeviceRequestMessage<?, ?>> requestTranslator = Mockito.mock(Translator.class);
+        Mockito.when(requestTranslator.translate(Mockito.any()))
+                .thenAnswer(invocation -> deviceRequests.get(invocation.getArgumentAt(0, KapuaRequestMessage.class).getDeviceId()));
+        Translator<DeviceResponseMessage<?, ?>, KapuaResponseMessage<?, ?>> responseTranslator = Mockito.mock(Translator.class);
+        Mockito.when(responseTranslator.translate(Mockito.any())).thenAnswer(invocation -> {
+            KapuaResponsePayload responsePayload = new KapuaResponsePayloadImpl();
+            responsePayload.setBody(deviceResponseBodies.get(invocation.getArgumentAt(0, DeviceResponseMessage.class)).getBytes(StandardCharsets.UTF_8));
+            KapuaResponseMessage<KapuaResponseChannel, KapuaResponsePayload> responseMessage = new KapuaResponseMessageImpl<>();
+            responseMessage.setPayload(responsePayload);
+            return responseMessage;
+        });
+        TranslatorHub translatorHub = Mockito.mock(TranslatorHub.class);
+        Mockito.when(translatorHub.getTranslatorFor(KapuaRequestMessage.class, DeviceMessage.class)).thenReturn(requestTranslator);
+        Mockito.when(translatorHub.getTranslatorFor(DeviceMessage.class, KapuaResponseMessage.class)).thenReturn(responseTranslator);
+
+        MockitoLocator.register(DeviceRegistryService.class, deviceRegistryService);
+        MockitoLocator.register(DeviceCallFactory.class, deviceCallFactory);
+        MockitoLocator.register(TranslatorHub.class, translatorHub);
+        MockitoLocator.register(DeviceManagementSetting.class, Mockito.mock(DeviceManagementSetting.class));
+
+        // Caller identity
+        callerSession = new KapuaSession(null, SCOPE_ID, new KapuaEid(BigInteger.TEN));
+        KapuaSecurityUtils.setSession(callerSession);
+        callerSubject = new Subject.Builder(new DefaultSecurityManager()).buildSubject();
+        ThreadContext.bind(callerSubject);
+
+        instance = new DeviceManagementBatchServiceImpl(
+                Mockito.mock(AuthorizationService.class),
+                Mockito.mock(PermissionFactory.class),
+                deviceRegistryService,
+                deviceFactory,
+                MAX_IN_FLIGHT,
+                PAGE_SIZE,
+                50);
+        instance.start();
+    }
+
+    @After
+    public void tearDown() throws KapuaException {
+        instance.stop();
+        stubDeviceTransport.close();
+        ThreadContext.unbindSubject();
+        KapuaSecurityUtils.clearSession();
+    }
+
+    @Test
+    public void executeOnAllDevices() throws KapuaException {
+        // Every 50th device never replies
+        Set<String> offlineClientIds = new HashSet<>();
+        for (int i = 50; i <= DEVICES; i += 50) {
+            offlineClientIds.add("device-" + i);
+        }
+        stubDeviceTransport.setOfflineClientIds(offlineClientIds);
+
+        Thread callerThread = Thread.currentThread();
+        Map<KapuaId, DeviceManagementBatchResult<String>> results = new ConcurrentHashMap<>();
+        AtomicInteger sentBeforeFirstResult = new AtomicInteger(-1);
+
+        long executed = instance.execute(
+                new TestDeviceQuery(SCOPE_ID),
+                Actions.execute,
+                pingOperation(),
+                result -> {
+                    Assert.assertSame(callerThread, Thread.currentThread());
+                    Assert.assertNull("Duplicated result for device " + result.getClientId(), results.put(result.getDeviceId(), result));
+                    sentBeforeFirstResult.compareAndSet(-1, stubDeviceTransport.getSentCount());
+                });
+
+        Assert.assertEquals(DEVICES, executed);
+        Assert.assertEquals(DEVICES, results.size());
+        Assert.assertEquals(DEVICES, stubDeviceTransport.getSentCount());
+        Assert.assertTrue("Max in flight: " + stubDeviceTransport.getMaxInFlight(), stubDeviceTransport.getMaxInFlight() <= MAX_IN_FLIGHT);
+        Assert.assertTrue("Results not streamed", sentBeforeFirstResult.get() < DEVICES);
+        Mockito.verify(deviceRegistryService, Mockito.times(DEVICES / PAGE_SIZE + 1)).query(Mockito.any(DeviceQuery.class));
+
+        for (DeviceManagementBatchResult<String> result : results.values()) {
+            if (offlineClientIds.contains(result.getClientId())) {
+                Assert.assertFalse(result.isSucceeded());
+                Assert.assertTrue(result.getException() instanceof DeviceManagementTimeoutException);
+            } else {
+                Assert.assertTrue(result.getException() != null ? result.getException().getMessage() : null, result.isSucceeded());
+                Assert.assertEquals("pong from " + result.getClientId(), result.getResult());
+            }
+        }
+    }
+
+    @Test
+    public void executeAsCaller() throws KapuaException {
+        Set<KapuaSession> sessions = ConcurrentHashMap.newKeySet();
+        Set<Subject> subjects = ConcurrentHashMap.newKeySet();
+
+        instance.execute(
+                new TestDeviceQuery(SCOPE_ID),
+                Actions.execute,
+                (scopeId, deviceId) -> {
+                    sessions.add(KapuaSecurityUtils.getSession());
+                    subjects.add(SecurityUtils.getSubject());
+                    return null;
+                },
+                result -> Assert.assertTrue(result.isSucceeded()));
+
+        // Not in trusted mode, so each operation is checked against the caller permissions
+        Assert.assertEquals(1, sessions.size());
+        Assert.assertSame(callerSession, sessions.iterator().next());
+        Assert.assertFalse(callerSession.isTrustedMode());
+        Assert.assertEquals(1, subjects.size());
+        Assert.assertSame(callerSubject, subjects.iterator().next());
+    }
+
+    @Test
+    public void deviceQueryNotModified() throws KapuaException {
+        DeviceQuery deviceQuery = new TestDeviceQuery(SCOPE_ID);
+        deviceQuery.setLimit(3);
+        deviceQuery.setOffset(7);
+
+        instance.execute(deviceQuery, Actions.execute, (scopeId, deviceId) -> null, result -> { });
+
+        Assert.assertEquals(Integer.valueOf(3), deviceQuery.getLimit());
+        Assert.assertEquals(Integer.valueOf(7), deviceQuery.getOffset());
+        Assert.assertNull(deviceQuery.getAfterId());
+    }
+
+    @Test
+    public void executeWhileDevicesAreDeleted() throws KapuaException {
+        // The last Device of each page is deleted right after being read
+        deletePageLastDevice = true;
+        DeviceQuery deviceQuery = new TestDeviceQuery(SCOPE_ID);
+        deviceQuery.setSortCriteria(deviceQuery.fieldSortCriteria(DeviceAttributes.CLIENT_ID, SortOrder.DESCENDING));
+        Set<KapuaId> executedDeviceIds = ConcurrentHashMap.newKeySet();
+
+        long executed = instance.execute(deviceQuery, Actions.execute, (scopeId, deviceId) -> executedDeviceIds.add(deviceId), result -> Assert.assertTrue(result.isSucceeded()));
+
+        Assert.assertEquals(DEVICES, executed);
+        Assert.assertEquals(DEVICES, executedDeviceIds.size());
+        Assert.assertEquals(DEVICES / PAGE_SIZE + 1, deletedDeviceIds.size());
+    }
+
+    @Test(expected = KapuaException.class)
+    public void executeAfterStopFails() throws KapuaException {
+        instance.stop();
+
+        instance.execute(new TestDeviceQuery(SCOPE_ID), Actions.execute, (scopeId, deviceId) -> null, result -> { });
+    }
+
+    private static DeviceManagementBatchOperation<String> pingOperation() {
+        return (scopeId, deviceId) -> {
+            KapuaRequestChannel requestChannel = new KapuaRequestChannelImpl();
+            requestChannel.setMethod(KapuaMethod.EXECUTE);
+            KapuaRequestMessage<KapuaRequestChannel, KapuaRequestPayload> requestMessage = new KapuaRequestMessageImpl<>();
+            requestMessage.setScopeId(scopeId);
+            requestMessage.setDeviceId(deviceId);
+            requestMessage.setChannel(requestChannel);
+            requestMessage.setPayload(new KapuaRequestPayloadImpl());
+
+            KapuaResponseMessage<?, ?> responseMessage = DeviceCallBuilder.newBuilder()
+                    .withRequestMessage(requestMessage)
+                    .withTimeout(REQUEST_TIMEOUT)
+                    .send();
+            return new String(responseMessage.getPayload().getBody(), StandardCharsets.UTF_8);
+        };
+    }
+
+    /**
+     * In-process device transport which replies to each request after a random delay, without any MQTT broker.
+     */
+    private static class StubDeviceTransport {
+
+        private final ScheduledExecutorService deviceExecutor = Executors.newScheduledThreadPool(4);
+        private final AtomicInteger sentCount = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private Set<String> offlineClientIds = new HashSet<>();
+
+        String request(String clientId, String body) throws DeviceCallTimeoutException {
+            sentCount.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                CompletableFuture<String> response = new CompletableFuture<>();
+                if (!offlineClientIds.contains(clientId)) {
+                    deviceExecutor.schedule(() -> response.complete(body.replace("ping", "pong") + " from " + clientId), ThreadLocalRandom.current().nextInt(1, 5), TimeUnit.MILLISECONDS);
+                }
+                return response.get(REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new DeviceCallTimeoutException(e, REQUEST_TIMEOUT);
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        void setOfflineClientIds(Set<String> offlineClientIds) {
+            this.offlineClientIds = offlineClientIds;
+        }
+
+        int getSentCount() {
+            return sentCount.get();
+        }
+
+        int getMaxInFlight() {
+            return maxInFlight.get();
+        }
+
+        void close() {
+            deviceExecutor.shutdownNow();
+        }
+    }
+
+    private static class TestDeviceQuery extends AbstractKapuaQuery implements DeviceQuery {
+
+        TestDeviceQuery(KapuaId scopeId) {
+            super(scopeId);
+        }
+
+        @Override
+        public <T> DeviceMatchPredicate<T> matchPredicate(T matchTerm) {
+            return null;
+        }
+    }
+
+    private static class TestDeviceListResult extends KapuaListResultImpl<Device> implements DeviceListResult {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.batch;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.management.DeviceManagementService;
+import org.eclipse.kapua.service.device.registry.Device;
+
+/**
+ * Operation performed on each {@link Device} of a {@link DeviceManagementBatchService#execute} batch.
+ * <p>
+ * It usually invokes a single-{@link Device} {@link DeviceManagementService} method, like:
+ * <pre>
+ * (scopeId, deviceId) -&gt; deviceCommandManagementService.exec(scopeId, deviceId, commandInput, timeout)
+ * </pre>
+ *
+ * @param <R> The type of the result.
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface DeviceManagementBatchOperation<R> {
+
+    /**
+     * Performs the operation on the given {@link Device}.
+     *
+     * @param scopeId  The {@link Device#getScopeId()}.
+     * @param deviceId The {@link Device#getId()}.
+     * @return The result of the operation.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    R execute(KapuaId scopeId, KapuaId deviceId) throws KapuaException;
+}
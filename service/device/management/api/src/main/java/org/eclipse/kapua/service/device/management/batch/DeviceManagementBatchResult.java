@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.batch;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.Device;
+
+/**
+ * Outcome of a {@link DeviceManagementBatchOperation} on a single {@link Device}.
+ *
+ * @param <R> The type of the {@link DeviceManagementBatchOperation} result.
+ * @since 2.1.0
+ */
+public class DeviceManagementBatchResult<R> {
+
+    private final KapuaId deviceId;
+    private final String clientId;
+    private final R result;
+    private final KapuaException exception;
+
+    /**
+     * Constructor.
+     *
+     * @param deviceId  The {@link Device#getId()}.
+     * @param clientId  The {@link Device#getClientId()}.
+     * @param result    The result of the {@link DeviceManagementBatchOperation}, if succeeded.
+     * @param exception The {@link KapuaException} thrown by the {@link DeviceManagementBatchOperation}, if failed.
+     * @since 2.1.0
+     */
+    public DeviceManagementBatchResult(KapuaId deviceId, String clientId, R result, KapuaException exception) {
+        this.deviceId = deviceId;
+        this.clientId = clientId;
+        this.result = result;
+        this.exception = exception;
+    }
+
+    /**
+     * Gets the {@link Device#getId()}.
+     *
+     * @return The {@link Device#getId()}.
+     * @since 2.1.0
+     */
+    public KapuaId getDeviceId() {
+        return deviceId;
+    }
+
+    /**
+     * Gets the {@link Device#getClientId()}.
+     *
+     * @return The {@link Device#getClientId()}.
+     * @since 2.1.0
+     */
+    public String getClientId() {
+        return clientId;
+    }
+
+    /**
+     * Gets the result of the {@link DeviceManagementBatchOperation}.
+     *
+     * @return The result of the {@link DeviceManagementBatchOperation}, or {@code null} if failed.
+     * @since 2.1.0
+     */
+    public R getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the {@link KapuaException} thrown by the {@link DeviceManagementBatchOperation}.
+     *
+     * @return The {@link KapuaException} thrown by the {@link DeviceManagementBatchOperation}, or {@code null} if succeeded.
+     * @since 2.1.0
+     */
+    public KapuaException getException() {
+        return exception;
+    }
+
+    /**
+     * Whether the {@link DeviceManagementBatchOperation} succeeded.
+     *
+     * @return {@code true} if the {@link DeviceManagementBatchOperation} succeeded, {@code false} otherwise.
+     * @since 2.1.0
+     */
+    public boolean isSucceeded() {
+        return exception == null;
+    }
+}
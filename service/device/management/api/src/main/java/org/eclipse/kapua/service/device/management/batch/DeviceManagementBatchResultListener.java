@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.batch;
+
+/**
+ * Receives the {@link DeviceManagementBatchResult}s of a {@link DeviceManagementBatchService#execute} batch as they become available.
+ *
+ * @param <R> The type of the {@link DeviceManagementBatchOperation} result.
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface DeviceManagementBatchResultListener<R> {
+
+    /**
+     * Invoked once for each target {@link org.eclipse.kapua.service.device.registry.Device}.
+     *
+     * @param result The {@link DeviceManagementBatchResult}.
+     * @since 2.1.0
+     */
+    void onResult(DeviceManagementBatchResult<R> result);
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.batch;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.model.domain.Actions;
+import org.eclipse.kapua.service.KapuaService;
+import org.eclipse.kapua.service.device.management.DeviceManagementService;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceQuery;
+
+/**
+ * {@link KapuaService} to perform the same {@link DeviceManagementService} operation on many {@link Device}s.
+ *
+ * @since 2.1.0
+ */
+public interface DeviceManagementBatchService extends KapuaService {
+
+    /**
+     * Performs the given {@link DeviceManagementBatchOperation} on each {@link Device} matching the given {@link DeviceQuery}.
+     * <p>
+     * {@link Device}s are read page by page and the {@link DeviceManagementBatchOperation}s are performed concurrently, with a bounded number of them in flight at any time.
+     * Each {@link DeviceManagementBatchResult} is given to the {@link DeviceManagementBatchResultListener} as soon as it is available, always from the invoking thread.
+     * <p>
+     * The {@link DeviceQuery#getOffset()} and {@link DeviceQuery#getLimit()} are managed by the batch, which pages on a copy of the given {@link DeviceQuery}.
+     * The {@link DeviceQuery#getSortCriteria()} is ignored: {@link Device}s are read in {@link Device#getId()} order, so that deleting a {@link Device} during the batch does not break the paging.
+     * <p>
+     * The {@link DeviceManagementBatchOperation}s run with the identity of the invoker, so each of them is subject to the access checks of the services it calls.
+     *
+     * @param deviceQuery    The {@link DeviceQuery} selecting the target {@link Device}s.
+     * @param action         The {@link Actions} on the device management domain required to perform the {@link DeviceManagementBatchOperation}.
+     * @param operation      The {@link DeviceManagementBatchOperation} to perform on each {@link Device}.
+     * @param resultListener The {@link DeviceManagementBatchResultListener} which receives the {@link DeviceManagementBatchResult}s.
+     * @param <R>            The type of the {@link DeviceManagementBatchOperation} result.
+     * @return The number of {@link Device}s on which the {@link DeviceManagementBatchOperation} has been performed.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    <R> long execute(DeviceQuery deviceQuery, Actions action, DeviceManagementBatchOperation<R> operation, DeviceManagementBatchResultListener<R> resultListener) throws KapuaException;
+}
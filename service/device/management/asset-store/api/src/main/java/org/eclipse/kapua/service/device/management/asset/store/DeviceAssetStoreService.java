@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,8 @@ import org.eclipse.kapua.service.device.management.asset.DeviceAssets;
 import org.eclipse.kapua.service.device.management.asset.store.settings.DeviceAssetStoreSettings;
 import org.eclipse.kapua.service.device.registry.Device;
 
+import java.util.Optional;
+
 /**
  * {@link DeviceAsset} store {@link KapuaService} definition.
  *
@@ -62,6 +64,22 @@ public interface DeviceAssetStoreService extends KapuaService, KapuaConfigurable
      */
     DeviceAssets getAssetsValues(KapuaId scopeId, KapuaId deviceId, DeviceAssets deviceAssets) throws KapuaException;
 
+    /**
+     * Finds the last {@link DeviceAssets} values stored, if they are recent enough to be returned in place of reading them from the {@link Device}.
+     * <p>
+     * The default implementation never finds them.
+     *
+     * @param scopeId      The {@link Device#getScopeId()}.
+     * @param deviceId     The {@link Device#getId()}
+     * @param deviceAssets The {@link DeviceAssets} to filter results.
+     * @return The last stored {@link DeviceAssets}, if all the requested ones are stored and recent.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    default Optional<DeviceAssets> findRecentAssetsValues(KapuaId scopeId, KapuaId deviceId, DeviceAssets deviceAssets) throws KapuaException {
+        return Optional.empty();
+    }
+
     /**
      * Stores the {@link DeviceAssets} definition.
      *
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.asset.store.internal;
+
+import org.eclipse.kapua.commons.model.AbstractKapuaUpdatableEntity;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.management.asset.DeviceAsset;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssetChannel;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssetChannelMode;
+import org.eclipse.kapua.service.device.registry.Device;
+
+import javax.persistence.AttributeOverride;
+import javax.persistence.AttributeOverrides;
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import java.util.Date;
+
+/**
+ * Last known {@link DeviceAssetChannel} of a {@link DeviceAsset} of a {@link Device}, stored by the {@link DeviceAssetStoreServiceImpl}.
+ * <p>
+ * The {@link DeviceAssetChannel#getType()} and {@link DeviceAssetChannel#getValue()} are kept in their {@link String} representation.
+ * The {@link #getValueStoredOn()} is the last time the value has been received from the {@link Device}, either with a telemetry message or with a read/write request.
+ *
+ * @since 2.1.0
+ */
+@Entity(name = "DeviceAssetChannelRecord")
+@Table(name = "dvcm_device_asset_store")
+public class DeviceAssetChannelRecord extends AbstractKapuaUpdatableEntity {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TYPE = "DeviceAssetChannelRecord";
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "eid", column = @Column(name = "device_id", nullable = false, updatable = false))
+    })
+    private KapuaEid deviceId;
+
+    @Basic
+    @Column(name = "asset_name", nullable = false, updatable = false)
+    private String assetName;
+
+    @Basic
+    @Column(name = "channel_name", nullable = false, updatable = false)
+    private String channelName;
+
+    @Basic
+    @Column(name = "channel_type", nullable = true, updatable = true)
+    private String channelType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel_mode", nullable = true, updatable = true)
+    private DeviceAssetChannelMode channelMode;
+
+    @Basic
+    @Column(name = "channel_value", nullable = true, updatable = true)
+    private String channelValue;
+
+    @Basic
+    @Column(name = "channel_error", nullable = true, updatable = true)
+    private String channelError;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "channel_timestamp", nullable = true, updatable = true)
+    private Date channelTimestamp;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "value_stored_on", nullable = true, updatable = true)
+    private Date valueStoredOn;
+
+    /**
+     * Constructor.
+     * <p>
+     * Required by JPA.
+     *
+     * @since 2.1.0
+     */
+    protected DeviceAssetChannelRecord() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param scopeId The {@link Device#getScopeId()}.
+     * @since 2.1.0
+     */
+    public DeviceAssetChannelRecord(KapuaId scopeId) {
+        super(scopeId);
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    public KapuaId getDeviceId() {
+        return deviceId;
+    }
+
+    public void setDeviceId(KapuaId deviceId) {
+        this.deviceId = KapuaEid.parseKapuaId(deviceId);
+    }
+
+    public String getAssetName() {
+        return assetName;
+    }
+
+    public void setAssetName(String assetName) {
+        this.assetName = assetName;
+    }
+
+    public String getChannelName() {
+        return channelName;
+    }
+
+    public void setChannelName(String channelName) {
+        this.channelName = channelName;
+    }
+
+    public String getChannelType() {
+        return channelType;
+    }
+
+    public void setChannelType(String channelType) {
+        this.channelType = channelType;
+    }
+
+    public DeviceAssetChannelMode getChannelMode() {
+        return channelMode;
+    }
+
+    public void setChannelMode(DeviceAssetChannelMode channelMode) {
+        this.channelMode = channelMode;
+    }
+
+    public String getChannelValue() {
+        return channelValue;
+    }
+
+    public void setChannelValue(String channelValue) {
+        this.channelValue = channelValue;
+    }
+
+    public String getChannelError() {
+        return channelError;
+    }
+
+    public void setChannelError(String channelError) {
+        this.channelError = channelError;
+    }
+
+    public Date getChannelTimestamp() {
+        return channelTimestamp;
+    }
+
+    public void setChannelTimestamp(Date channelTimestamp) {
+        this.channelTimestamp = channelTimestamp;
+    }
+
+    public Date getValueStoredOn() {
+        return valueStoredOn;
+    }
+
+    public void setValueStoredOn(Date valueStoredOn) {
+        this.valueStoredOn = valueStoredOn;
+    }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.asset.store.internal;
+
+import org.eclipse.kapua.service.device.management.asset.store.DeviceAssetStoreFactory;
+import org.eclipse.kapua.service.device.management.asset.store.settings.DeviceAssetStoreSettings;
+
+import javax.inject.Singleton;
+
+/**
+ * {@link DeviceAssetStoreFactory} implementation.
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class DeviceAssetStoreFactoryImpl implements DeviceAssetStoreFactory {
+
+    @Override
+    public DeviceAssetStoreSettings newDeviceAssetStoreSettings() {
+        return new DeviceAssetStoreSettingsImpl();
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.asset.store.internal;
+
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.eclipse.kapua.commons.jpa.KapuaEntityJpaRepository;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.storage.TxContext;
+
+import javax.persistence.EntityExistsException;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link DeviceAssetStoreRepository} JPA implementation.
+ * <p>
+ * All lookups are served by the unique ({@code scope_id}, {@code device_id}[, {@code asset_name}]) indexes.
+ * <p>
+ * New records are flushed right away, so that a channel stored concurrently by another message of the same asset fails with an {@link EntityExistsException}.
+ * The {@link org.eclipse.kapua.storage.TxManager} then runs the whole store again, which finds and updates the stored channel.
+ *
+ * @since 2.1.0
+ */
+public class DeviceAssetStoreImplJpaRepository implements DeviceAssetStoreRepository {
+
+    @Override
+    public List<DeviceAssetChannelRecord> findChannels(TxContext tx, KapuaId scopeId, KapuaId deviceId) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<DeviceAssetChannelRecord> selectQuery = cb.createQuery(DeviceAssetChannelRecord.class);
+        final Root<DeviceAssetChannelRecord> entityRoot = selectQuery.from(DeviceAssetChannelRecord.class);
+
+        selectQuery.select(entityRoot);
+        selectQuery.where(
+                cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID), KapuaEid.parseKapuaId(scopeId)),
+                cb.equal(entityRoot.get(DeviceAssetChannelRecord_.DEVICE_ID), KapuaEid.parseKapuaId(deviceId))
+        );
+        selectQuery.orderBy(
+                cb.asc(entityRoot.get(DeviceAssetChannelRecord_.ASSET_NAME)),
+                cb.asc(entityRoot.get(DeviceAssetChannelRecord_.CHANNEL_NAME))
+        );
+
+        return em.createQuery(selectQuery).getResultList();
+    }
+
+    @Override
+    public List<DeviceAssetChannelRecord> findChannels(TxContext tx, KapuaId scopeId, KapuaId deviceId, String assetName) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<DeviceAssetChannelRecord> selectQuery = cb.createQuery(DeviceAssetChannelRecord.class);
+        final Root<DeviceAssetChannelRecord> entityRoot = selectQuery.from(DeviceAssetChannelRecord.class);
+
+        selectQuery.select(entityRoot);
+        selectQuery.where(
+                cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID), KapuaEid.parseKapuaId(scopeId)),
+                cb.equal(entityRoot.get(DeviceAssetChannelRecord_.DEVICE_ID), KapuaEid.parseKapuaId(deviceId)),
+                cb.equal(entityRoot.get(DeviceAssetChannelRecord_.ASSET_NAME), assetName)
+        );
+        selectQuery.orderBy(cb.asc(entityRoot.get(DeviceAssetChannelRecord_.CHANNEL_NAME)));
+
+        return em.createQuery(selectQuery).getResultList();
+    }
+
+    @Override
+    public Optional<DeviceAssetStoreSettingsRecord> findSettings(TxContext tx, KapuaId scopeId, KapuaId deviceId) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<DeviceAssetStoreSettingsRecord> selectQuery = cb.createQuery(DeviceAssetStoreSettingsRecord.class);
+        final Root<DeviceAssetStoreSettingsRecord> entityRoot = selectQuery.from(DeviceAssetStoreSettingsRecord.class);
+
+        selectQuery.select(entityRoot);
+        selectQuery.where(
+                cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID), KapuaEid.parseKapuaId(scopeId)),
+                cb.equal(entityRoot.get(DeviceAssetStoreSettingsRecord_.DEVICE_ID), KapuaEid.parseKapuaId(deviceId))
+        );
+
+        return em.createQuery(selectQuery)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public DeviceAssetChannelRecord create(TxContext tx, DeviceAssetChannelRecord record) {
+        doCreate(JpaAwareTxContext.extractEntityManager(tx), record);
+        return record;
+    }
+
+    @Override
+    public DeviceAssetStoreSettingsRecord create(TxContext tx, DeviceAssetStoreSettingsRecord record) {
+        doCreate(JpaAwareTxContext.extractEntityManager(tx), record);
+        return record;
+    }
+
+    private void doCreate(EntityManager em, Object record) {
+        try {
+            em.persist(record);
+            em.flush();
+        } catch (PersistenceException e) {
+            if (e instanceof EntityExistsException || KapuaEntityJpaRepository.isInsertConstraintViolation(e)) {
+                throw new EntityExistsException(e);
+            }
+            throw e;
+        }
+    }
+}
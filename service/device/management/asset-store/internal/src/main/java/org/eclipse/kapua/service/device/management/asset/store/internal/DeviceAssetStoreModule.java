@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.asset.store.internal;
+
+import com.google.inject.Provides;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.core.AbstractKapuaModule;
+import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssetFactory;
+import org.eclipse.kapua.service.device.management.asset.store.DeviceAssetStoreFactory;
+import org.eclipse.kapua.service.device.management.asset.store.DeviceAssetStoreService;
+import org.eclipse.kapua.storage.TxManager;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Map;
+
+/**
+ * {@link DeviceAssetStoreService} {@link AbstractKapuaModule}.
+ *
+ * @since 2.1.0
+ */
+public class DeviceAssetStoreModule extends AbstractKapuaModule {
+
+    @Override
+    protected void configureModule() {
+        bind(DeviceAssetStoreFactory.class).to(DeviceAssetStoreFactoryImpl.class);
+    }
+
+    @Provides
+    @Singleton
+    DeviceAssetStoreService deviceAssetStoreService(
+            Map<Class<?>, ServiceConfigurationManager> serviceConfigurationManagersByServiceClass,
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            @Named("DeviceAssetStoreTransactionManager") TxManager txManager,
+            DeviceAssetStoreRepository repository,
+            DeviceAssetFactory deviceAssetFactory,
+            DeviceAssetStoreFactory deviceAssetStoreFactory) {
+        return new DeviceAssetStoreServiceImpl(
+                txManager,
+                serviceConfigurationManagersByServiceClass.get(DeviceAssetStoreService.class),
+                authorizationService,
+                permissionFactory,
+                repository,
+                deviceAssetFactory,
+                deviceAssetStoreFactory);
+    }
+
+    @Provides
+    @Singleton
+    DeviceAssetStoreRepository deviceAssetStoreRepository() {
+        return new DeviceAssetStoreImplJpaRepository();
+    }
+
+    @Provides
+    @Named("DeviceAssetStoreTransactionManager")
+    @Singleton
+    TxManager deviceAssetStoreTxManager(KapuaJpaTxManagerFactory jpaTxManagerFactory) {
+        return jpaTxManagerFactory.create("kapua-device_management_asset_store");
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.asset.store.internal;
+
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.storage.TxContext;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository of the {@link DeviceAssetChannelRecord}s and {@link DeviceAssetStoreSettingsRecord}s.
+ *
+ * @since 2.1.0
+ */
+public interface DeviceAssetStoreRepository {
+
+    /**
+     * Finds all the {@link DeviceAssetChannelRecord}s of the given {@link Device}, ordered by {@link DeviceAssetChannelRecord#getAssetName()} and {@link DeviceAssetChannelRecord#getChannelName()}.
+     *
+     * @param tx       The {@link TxContext}.
+     * @param scopeId  The {@link Device#getScopeId()}.
+     * @param deviceId The {@link Device#getId()}.
+     * @return The {@link DeviceAssetChannelRecord}s of the {@link Device}.
+     * @since 2.1.0
+     */
+    List<DeviceAssetChannelRecord> findChannels(TxContext tx, KapuaId scopeId, KapuaId deviceId);
+
+    /**
+     * Finds all the {@link DeviceAssetChannelRecord}s of the given {@link Device} and asset, ordered by {@link DeviceAssetChannelRecord#getChannelName()}.
+     *
+     * @param tx        The {@link TxContext}.
+     * @param scopeId   The {@link Device#getScopeId()}.
+     * @param deviceId  The {@link Device#getId()}.
+     * @param assetName The {@link DeviceAssetChannelRecord#getAssetName()}.
+     * @return The {@link DeviceAssetChannelRecord}s of the asset.
+     * @since 2.1.0
+     */
+    List<DeviceAssetChannelRecord> findChannels(TxContext tx, KapuaId scopeId, KapuaId deviceId, String assetName);
+
+    /**
+     * Finds the {@link DeviceAssetStoreSettingsRecord} of the given {@link Device}.
+     *
+     * @param tx       The {@link TxContext}.
+     * @param scopeId  The {@link Device#getScopeId()}.
+     * @param deviceId The {@link Device#getId()}.
+     * @return The {@link DeviceAssetStoreSettingsRecord}, if stored.
+     * @since 2.1.0
+     */
+    Optional<DeviceAssetStoreSettingsRecord> findSettings(TxContext tx, KapuaId scopeId, KapuaId deviceId);
+
+    /**
+     * Persists a new {@link DeviceAssetChannelRecord}.
+     * <p>
+     * Changes to the {@link DeviceAssetChannelRecord}s found by this repository are written when the {@link TxContext} commits.
+     *
+     * @param tx     The {@link TxContext}.
+     * @param record The {@link DeviceAssetChannelRecord} to persist.
+     * @return The persisted {@link DeviceAssetChannelRecord}.
+     * @throws javax.persistence.EntityExistsException if the channel of the asset has been stored concurrently. The {@link TxContext} retries it as recoverable.
+     * @since 2.1.0
+     */
+    DeviceAssetChannelRecord create(TxContext tx, DeviceAssetChannelRecord record);
+
+    /**
+     * Persists a new {@link DeviceAssetStoreSettingsRecord}.
+     * <p>
+     * Changes to the {@link DeviceAssetStoreSettingsRecord}s found by this repository are written when the {@link TxContext} commits.
+     *
+     * @param tx     The {@link TxContext}.
+     * @param record The {@link DeviceAssetStoreSettingsRecord} to persist.
+     * @return The persisted {@link DeviceAssetStoreSettingsRecord}.
+     * @throws javax.persistence.EntityExistsException if the settings of the {@link Device} have been stored concurrently. The {@link TxContext} retries it as recoverable.
+     * @since 2.1.0
+     */
+    DeviceAssetStoreSettingsRecord create(TxContext tx, DeviceAssetStoreSettingsRecord record);
+}
@@ -0,0 +1,503 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.asset.store.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.KapuaConfigurableServiceBase;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.domains.Domains;
+import org.eclipse.kapua.commons.util.ArgumentValidator;
+import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+import org.eclipse.kapua.model.domain.Actions;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.type.ObjectTypeConverter;
+import org.eclipse.kapua.model.type.ObjectValueConverter;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.asset.DeviceAsset;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssetChannel;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssetFactory;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssets;
+import org.eclipse.kapua.service.device.management.asset.store.DeviceAssetStoreFactory;
+import org.eclipse.kapua.service.device.management.asset.store.DeviceAssetStoreService;
+import org.eclipse.kapua.service.device.management.asset.store.settings.DeviceAssetStoreEnablementPolicy;
+import org.eclipse.kapua.service.device.management.asset.store.settings.DeviceAssetStoreSettings;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link DeviceAssetStoreService} implementation.
+ * <p>
+ * Each {@link DeviceAssetChannel} is stored in its own {@link DeviceAssetChannelRecord}, so the last known values of a {@link DeviceAsset} are updated in place
+ * and read with a single lookup on the ({@code scope_id}, {@code device_id}, {@code asset_name}) index.
+ * A stored value is only replaced by a value with the same or a later {@link DeviceAssetChannel#getTimestamp()}, and a {@link DeviceAssetChannelRecord} created concurrently
+ * makes the {@link TxManager} retry the store, which then updates it.
+ * <p>
+ * The service configuration of the scope defines whether the store is enabled for the {@link Device}s with the {@link DeviceAssetStoreEnablementPolicy#INHERITED} policy
+ * ({@link #ENABLED_PROPERTY}) and how old the stored values returned by {@link #findRecentAssetsValues(KapuaId, KapuaId, DeviceAssets)} can be
+ * ({@link #RECENT_ASSETS_VALUES_MAX_AGE_PROPERTY}).
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class DeviceAssetStoreServiceImpl extends KapuaConfigurableServiceBase implements DeviceAssetStoreService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceAssetStoreServiceImpl.class);
+
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String RECENT_ASSETS_VALUES_MAX_AGE_PROPERTY = "recentAssetsValuesMaxAge";
+
+    /**
+     * Metrics and semantic topic of the asset telemetry messages published by the Kura Wires assets.
+     */
+    private static final String ASSET_TOPIC_PREFIX = "W1/A1";
+    private static final String ASSET_NAME_METRIC = "assetName";
+    private static final String ASSET_TIMESTAMP_METRIC = "assetTimestamp";
+    private static final String CHANNEL_TIMESTAMP_METRIC_SUFFIX = "_timestamp";
+    private static final String CHANNEL_ERROR_METRIC_SUFFIX = "_error";
+
+    private static final String SCOPE_ID = "scopeId";
+    private static final String DEVICE_ID = "deviceId";
+
+    private final DeviceAssetStoreRepository repository;
+    private final DeviceAssetFactory deviceAssetFactory;
+    private final DeviceAssetStoreFactory deviceAssetStoreFactory;
+
+    public DeviceAssetStoreServiceImpl(
+            TxManager txManager,
+            ServiceConfigurationManager serviceConfigurationManager,
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            DeviceAssetStoreRepository repository,
+            DeviceAssetFactory deviceAssetFactory,
+            DeviceAssetStoreFactory deviceAssetStoreFactory) {
+        super(txManager, serviceConfigurationManager, Domains.DEVICE_MANAGEMENT, authorizationService, permissionFactory);
+        this.repository = repository;
+        this.deviceAssetFactory = deviceAssetFactory;
+        this.deviceAssetStoreFactory = deviceAssetStoreFactory;
+    }
+
+    @Override
+    public void storeAssetValues(KapuaDataMessage message) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(message, "message");
+        ArgumentValidator.notNull(message.getScopeId(), "message.scopeId");
+        // Extract asset
+        if (message.getDeviceId() == null || message.getChannel() == null || message.getPayload() == null) {
+            return;
+        }
+
+        String assetName = extractAssetName(message);
+        if (assetName == null) {
+            LOG.debug("Message on channel {} is not an asset telemetry message. Ignoring it", message.getChannel());
+            return;
+        }
+
+        Map<String, Object> metrics = message.getPayload().getMetrics();
+        Date assetTimestamp = message.getCapturedOn() != null ? message.getCapturedOn() : message.getReceivedOn();
+        Object assetTimestampMetric = metrics.get(ASSET_TIMESTAMP_METRIC);
+        if (assetTimestampMetric instanceof Long) {
+            assetTimestamp = new Date((Long) assetTimestampMetric);
+        }
+
+        List<DeviceAssetChannel> deviceAssetChannels = new ArrayList<>();
+        for (Map.Entry<String, Object> metric : metrics.entrySet()) {
+            String metricName = metric.getKey();
+            if (ASSET_NAME_METRIC.equals(metricName) ||
+                    ASSET_TIMESTAMP_METRIC.equals(metricName) ||
+                    metricName.endsWith(CHANNEL_TIMESTAMP_METRIC_SUFFIX) ||
+                    metricName.endsWith(CHANNEL_ERROR_METRIC_SUFFIX) ||
+                    metric.getValue() == null) {
+                continue;
+            }
+
+            DeviceAssetChannel deviceAssetChannel = deviceAssetFactory.newDeviceAssetChannel();
+            deviceAssetChannel.setName(metricName);
+            deviceAssetChannel.setType(metric.getValue().getClass());
+            deviceAssetChannel.setValue(metric.getValue());
+
+            Object channelTimestamp = metrics.get(metricName + CHANNEL_TIMESTAMP_METRIC_SUFFIX);
+            deviceAssetChannel.setTimestamp(channelTimestamp instanceof Long ? new Date((Long) channelTimestamp) : assetTimestamp);
+
+            Object channelError = metrics.get(metricName + CHANNEL_ERROR_METRIC_SUFFIX);
+            if (channelError != null) {
+                deviceAssetChannel.setError(channelError.toString());
+            }
+
+            deviceAssetChannels.add(deviceAssetChannel);
+        }
+
+        if (deviceAssetChannels.isEmpty()) {
+            return;
+        }
+
+        DeviceAsset deviceAsset = deviceAssetFactory.newDeviceAsset();
+        deviceAsset.setName(assetName);
+        deviceAsset.setChannels(deviceAssetChannels);
+        // Do store
+        txManager.execute(tx -> {
+            doStoreValues(tx, message.getScopeId(), message.getDeviceId(), deviceAsset);
+            return null;
+        });
+    }
+
+    @Override
+    public void storeAssetsValues(KapuaId scopeId, KapuaId deviceId, DeviceAssets deviceAssets) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        ArgumentValidator.notNull(deviceAssets, "deviceAssets");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.write, scopeId));
+        // Do store
+        txManager.execute(tx -> {
+            for (DeviceAsset deviceAsset : deviceAssets.getAssets()) {
+                doStoreValues(tx, scopeId, deviceId, deviceAsset);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public DeviceAssets getAssetsValues(KapuaId scopeId, KapuaId deviceId, DeviceAssets deviceAssets) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.read, scopeId));
+        // Do get
+        return toDeviceAssets(txManager.execute(tx -> findChannels(tx, scopeId, deviceId, deviceAssets)), true);
+    }
+
+    @Override
+    public Optional<DeviceAssets> findRecentAssetsValues(KapuaId scopeId, KapuaId deviceId, DeviceAssets deviceAssets) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.read, scopeId));
+        // Do find
+        Optional<List<DeviceAssetChannelRecord>> recentRecords = txManager.execute(tx -> {
+            Object maxAge = serviceConfigurationManager.getConfigValues(tx, scopeId, false).get(RECENT_ASSETS_VALUES_MAX_AGE_PROPERTY);
+            if (!(maxAge instanceof Integer) || (Integer) maxAge <= 0) {
+                return Optional.<List<DeviceAssetChannelRecord>>empty();
+            }
+
+            List<DeviceAssetChannelRecord> storedRecords = findChannels(tx, scopeId, deviceId, deviceAssets);
+            if (storedRecords.isEmpty() || !containsAllChannels(storedRecords, deviceAssets)) {
+                return Optional.<List<DeviceAssetChannelRecord>>empty();
+            }
+
+            Date storedAfter = new Date(System.currentTimeMillis() - (Integer) maxAge * 1000L);
+            if (storedRecords.stream().anyMatch(storedRecord -> storedRecord.getValueStoredOn() == null || storedRecord.getValueStoredOn().before(storedAfter))) {
+                return Optional.<List<DeviceAssetChannelRecord>>empty();
+            }
+
+            return Optional.of(storedRecords);
+        });
+
+        return recentRecords.isPresent() ? Optional.of(toDeviceAssets(recentRecords.get(), true)) : Optional.empty();
+    }
+
+    @Override
+    public void storeAssets(KapuaId scopeId, KapuaId deviceId, DeviceAssets deviceAssets) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        ArgumentValidator.notNull(deviceAssets, "deviceAssets");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.write, scopeId));
+        // Do store
+        txManager.execute(tx -> {
+            for (DeviceAsset deviceAsset : deviceAssets.getAssets()) {
+                ArgumentValidator.notEmptyOrNull(deviceAsset.getName(), "deviceAssets.assets[].name");
+
+                Map<String, DeviceAssetChannelRecord> storedRecords = findStoredRecordsByChannelName(tx, scopeId, deviceId, deviceAsset.getName());
+                for (DeviceAssetChannel deviceAssetChannel : deviceAsset.getChannels()) {
+                    DeviceAssetChannelRecord storedRecord = getOrCreate(tx, scopeId, deviceId, deviceAsset.getName(), deviceAssetChannel.getName(), storedRecords);
+                    storedRecord.setChannelType(ObjectTypeConverter.toString(deviceAssetChannel.getType()));
+                    storedRecord.setChannelMode(deviceAssetChannel.getMode());
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public DeviceAssets getAssets(KapuaId scopeId, KapuaId deviceId, DeviceAssets deviceAssets) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.read, scopeId));
+        // Do get
+        return toDeviceAssets(txManager.execute(tx -> findChannels(tx, scopeId, deviceId, deviceAssets)), false);
+    }
+
+    @Override
+    public DeviceAssetStoreSettings getApplicationSettings(KapuaId scopeId, KapuaId deviceId) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.read, scopeId));
+        // Do get
+        DeviceAssetStoreEnablementPolicy enablementPolicy = txManager.execute(tx -> getEnablementPolicy(tx, scopeId, deviceId));
+
+        DeviceAssetStoreSettings deviceAssetStoreSettings = deviceAssetStoreFactory.newDeviceAssetStoreSettings();
+        deviceAssetStoreSettings.setScopeId(scopeId);
+        deviceAssetStoreSettings.setDeviceId(deviceId);
+        deviceAssetStoreSettings.setEnablementPolicy(enablementPolicy);
+        return deviceAssetStoreSettings;
+    }
+
+    @Override
+    public void setApplicationSettings(KapuaId scopeId, KapuaId deviceId, DeviceAssetStoreSettings deviceApplicationSettings) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        ArgumentValidator.notNull(deviceApplicationSettings, "deviceApplicationSettings");
+        ArgumentValidator.notNull(deviceApplicationSettings.getEnablementPolicy(), "deviceApplicationSettings.enablementPolicy");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.write, scopeId));
+        // Do set
+        txManager.execute(tx -> {
+            Optional<DeviceAssetStoreSettingsRecord> storedSettings = repository.findSettings(tx, scopeId, deviceId);
+            if (storedSettings.isPresent()) {
+                storedSettings.get().setEnablementPolicy(deviceApplicationSettings.getEnablementPolicy());
+            } else {
+                DeviceAssetStoreSettingsRecord settingsRecord = new DeviceAssetStoreSettingsRecord(scopeId);
+                settingsRecord.setDeviceId(deviceId);
+                settingsRecord.setEnablementPolicy(deviceApplicationSettings.getEnablementPolicy());
+                repository.create(tx, settingsRecord);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean isApplicationEnabled(KapuaId scopeId, KapuaId deviceId) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Do check
+        return txManager.execute(tx -> {
+            switch (getEnablementPolicy(tx, scopeId, deviceId)) {
+                case ENABLED:
+                    return true;
+                case DISABLED:
+                    return false;
+                case INHERITED:
+                default:
+                    return Boolean.TRUE.equals(serviceConfigurationManager.getConfigValues(tx, scopeId, false).get(ENABLED_PROPERTY));
+            }
+        });
+    }
+
+    //
+    // Private methods
+    //
+
+    private DeviceAssetStoreEnablementPolicy getEnablementPolicy(TxContext tx, KapuaId scopeId, KapuaId deviceId) {
+        return repository.findSettings(tx, scopeId, deviceId)
+                .map(DeviceAssetStoreSettingsRecord::getEnablementPolicy)
+                .orElse(DeviceAssetStoreEnablementPolicy.INHERITED);
+    }
+
+    /**
+     * Extracts the asset name from the {@link #ASSET_NAME_METRIC} metric or, if missing, from the {@code W1/A1/<assetName>} semantic topic.
+     *
+     * @param message The {@link KapuaDataMessage}.
+     * @return The asset name, or {@code null} if the {@link KapuaDataMessage} is not an asset telemetry message.
+     */
+    private static String extractAssetName(KapuaDataMessage message) {
+        Object assetNameMetric = message.getPayload().getMetrics().get(ASSET_NAME_METRIC);
+        if (assetNameMetric instanceof String) {
+            return (String) assetNameMetric;
+        }
+
+        List<String> semanticParts = message.getChannel().getSemanticParts();
+        if (semanticParts != null &&
+                semanticParts.size() == 3 &&
+                ASSET_TOPIC_PREFIX.equals(semanticParts.get(0) + "/" + semanticParts.get(1))) {
+            return semanticParts.get(2);
+        }
+
+        return null;
+    }
+
+    private void doStoreValues(TxContext tx, KapuaId scopeId, KapuaId deviceId, DeviceAsset deviceAsset) throws KapuaException {
+        ArgumentValidator.notEmptyOrNull(deviceAsset.getName(), "deviceAssets.assets[].name");
+
+        Date valueStoredOn = new Date();
+        Map<String, DeviceAssetChannelRecord> storedRecords = findStoredRecordsByChannelName(tx, scopeId, deviceId, deviceAsset.getName());
+        for (DeviceAssetChannel deviceAssetChannel : deviceAsset.getChannels()) {
+            DeviceAssetChannelRecord storedRecord = getOrCreate(tx, scopeId, deviceId, deviceAsset.getName(), deviceAssetChannel.getName(), storedRecords);
+            if (deviceAssetChannel.getType() != null) {
+                storedRecord.setChannelType(ObjectTypeConverter.toString(deviceAssetChannel.getType()));
+            }
+            if (deviceAssetChannel.getMode() != null) {
+                storedRecord.setChannelMode(deviceAssetChannel.getMode());
+            }
+            // Messages can be processed out of order, so an older value must not overwrite the stored one
+            if (isOlder(deviceAssetChannel.getTimestamp(), storedRecord.getChannelTimestamp())) {
+                LOG.debug("Ignoring value of asset {} channel {} read on {}. A value read on {} is already stored", deviceAsset.getName(), deviceAssetChannel.getName(), deviceAssetChannel.getTimestamp(), storedRecord.getChannelTimestamp());
+                continue;
+            }
+            storedRecord.setChannelValue(valueToString(deviceAssetChannel.getValue()));
+            storedRecord.setChannelError(deviceAssetChannel.getError());
+            storedRecord.setChannelTimestamp(deviceAssetChannel.getTimestamp());
+            storedRecord.setValueStoredOn(valueStoredOn);
+        }
+    }
+
+    private static boolean isOlder(Date channelTimestamp, Date storedChannelTimestamp) {
+        return channelTimestamp != null && storedChannelTimestamp != null && channelTimestamp.before(storedChannelTimestamp);
+    }
+
+    private Map<String, DeviceAssetChannelRecord> findStoredRecordsByChannelName(TxContext tx, KapuaId scopeId, KapuaId deviceId, String assetName) {
+        Map<String, DeviceAssetChannelRecord> storedRecords = new HashMap<>();
+        for (DeviceAssetChannelRecord storedRecord : repository.findChannels(tx, scopeId, deviceId, assetName)) {
+            storedRecords.put(storedRecord.getChannelName(), storedRecord);
+        }
+        return storedRecords;
+    }
+
+    private DeviceAssetChannelRecord getOrCreate(TxContext tx, KapuaId scopeId, KapuaId deviceId, String assetName, String channelName, Map<String, DeviceAssetChannelRecord> storedRecords) throws KapuaException {
+        ArgumentValidator.notEmptyOrNull(channelName, "deviceAssets.assets[].channels[].name");
+
+        DeviceAssetChannelRecord storedRecord = storedRecords.get(channelName);
+        if (storedRecord == null) {
+            storedRecord = new DeviceAssetChannelRecord(scopeId);
+            storedRecord.setDeviceId(deviceId);
+            storedRecord.setAssetName(assetName);
+            storedRecord.setChannelName(channelName);
+            repository.create(tx, storedRecord);
+
+            storedRecords.put(channelName, storedRecord);
+        }
+        return storedRecord;
+    }
+
+    /**
+     * Finds the {@link DeviceAssetChannelRecord}s matching the given {@link DeviceAssets} filter.
+     * <p>
+     * An empty filter matches all the stored {@link DeviceAsset}s and a {@link DeviceAsset} without {@link DeviceAssetChannel}s matches all its stored {@link DeviceAssetChannel}s.
+     */
+    private List<DeviceAssetChannelRecord> findChannels(TxContext tx, KapuaId scopeId, KapuaId deviceId, DeviceAssets filter) {
+        if (filter == null || filter.getAssets().isEmpty()) {
+            return repository.findChannels(tx, scopeId, deviceId);
+        }
+
+        List<DeviceAssetChannelRecord> storedRecords = new ArrayList<>();
+        for (DeviceAsset filterAsset : filter.getAssets()) {
+            List<DeviceAssetChannelRecord> storedAssetRecords = repository.findChannels(tx, scopeId, deviceId, filterAsset.getName());
+            if (filterAsset.getChannels().isEmpty()) {
+                storedRecords.addAll(storedAssetRecords);
+            } else {
+                for (DeviceAssetChannelRecord storedRecord : storedAssetRecords) {
+                    if (filterAsset.getChannels().stream().anyMatch(filterChannel -> storedRecord.getChannelName().equals(filterChannel.getName()))) {
+                        storedRecords.add(storedRecord);
+                    }
+                }
+            }
+        }
+        return storedRecords;
+    }
+
+    private static boolean containsAllChannels(List<DeviceAssetChannelRecord> storedRecords, DeviceAssets filter) {
+        if (filter == null) {
+            return true;
+        }
+
+        for (DeviceAsset filterAsset : filter.getAssets()) {
+            if (storedRecords.stream().noneMatch(storedRecord -> storedRecord.getAssetName().equals(filterAsset.getName()))) {
+                return false;
+            }
+
+            for (DeviceAssetChannel filterChannel : filterAsset.getChannels()) {
+                if (storedRecords.stream().noneMatch(storedRecord -> storedRecord.getAssetName().equals(filterAsset.getName()) && storedRecord.getChannelName().equals(filterChannel.getName()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private DeviceAssets toDeviceAssets(List<DeviceAssetChannelRecord> storedRecords, boolean withValues) {
+        Map<String, DeviceAsset> deviceAssetsByName = new LinkedHashMap<>();
+        for (DeviceAssetChannelRecord storedRecord : storedRecords) {
+            DeviceAsset deviceAsset = deviceAssetsByName.computeIfAbsent(storedRecord.getAssetName(), assetName -> {
+                DeviceAsset newDeviceAsset = deviceAssetFactory.newDeviceAsset();
+                newDeviceAsset.setName(assetName);
+                return newDeviceAsset;
+            });
+
+            Class<?> channelType = typeFromString(storedRecord.getChannelType());
+
+            DeviceAssetChannel deviceAssetChannel = deviceAssetFactory.newDeviceAssetChannel();
+            deviceAssetChannel.setName(storedRecord.getChannelName());
+            deviceAssetChannel.setType(channelType);
+            deviceAssetChannel.setMode(storedRecord.getChannelMode());
+            if (withValues) {
+                deviceAssetChannel.setValue(valueFromString(storedRecord.getChannelValue(), channelType));
+                deviceAssetChannel.setError(storedRecord.getChannelError());
+                deviceAssetChannel.setTimestamp(storedRecord.getChannelTimestamp());
+            }
+            deviceAsset.getChannels().add(deviceAssetChannel);
+        }
+
+        DeviceAssets deviceAssets = deviceAssetFactory.newAssetListResult();
+        deviceAssets.getAssets().addAll(deviceAssetsByName.values());
+        return deviceAssets;
+    }
+
+    private static String valueToString(Object value) {
+        // Dates are not parsable from their Date.toString() representation
+        return value instanceof Date ? String.valueOf(((Date) value).getTime()) : ObjectValueConverter.toString(value);
+    }
+
+    private static Object valueFromString(String value, Class<?> type) {
+        if (value == null || type == null) {
+            return value;
+        }
+
+        try {
+            return type == Date.class ? new Date(Long.parseLong(value)) : ObjectValueConverter.fromString(value, type);
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Cannot convert stored asset channel value to {}. Returning it as String", type.getName(), e);
+            return value;
+        }
+    }
+
+    private static Class<?> typeFromString(String type) {
+        try {
+            return ObjectTypeConverter.fromString(type);
+        } catch (ClassNotFoundException e) {
+            LOG.warn("Cannot resolve stored asset channel type {}", type, e);
+            return null;
+        }
+    }
+}
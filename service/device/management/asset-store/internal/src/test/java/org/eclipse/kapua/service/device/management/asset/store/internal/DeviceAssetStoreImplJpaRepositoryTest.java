@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.asset.store.internal;
+
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.persistence.EntityExistsException;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.math.BigInteger;
+import java.sql.SQLException;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceAssetStoreImplJpaRepositoryTest {
+
+    private EntityManager entityManager;
+    private JpaAwareTxContext txContext;
+
+    @BeforeEach
+    public void setUp() {
+        entityManager = Mockito.mock(EntityManager.class);
+        txContext = Mockito.mock(JpaAwareTxContext.class);
+        Mockito.when(txContext.getEntityManager()).thenReturn(entityManager);
+    }
+
+    @Test
+    public void createFlushes() {
+        DeviceAssetChannelRecord record = new DeviceAssetChannelRecord(new KapuaEid(BigInteger.ONE));
+
+        Assertions.assertSame(record, new DeviceAssetStoreImplJpaRepository().create(txContext, record));
+
+        Mockito.verify(entityManager).persist(record);
+        Mockito.verify(entityManager).flush();
+    }
+
+    @Test
+    public void createConcurrentlyStored() {
+        // Unique key violation, as reported by the database
+        Mockito.doThrow(new PersistenceException(new SQLException("Duplicate entry", "23505"))).when(entityManager).flush();
+
+        DeviceAssetChannelRecord record = new DeviceAssetChannelRecord(new KapuaEid(BigInteger.ONE));
+        Assertions.assertThrows(EntityExistsException.class, () -> new DeviceAssetStoreImplJpaRepository().create(txContext, record));
+
+        DeviceAssetStoreSettingsRecord settingsRecord = new DeviceAssetStoreSettingsRecord(new KapuaEid(BigInteger.ONE));
+        Assertions.assertThrows(EntityExistsException.class, () -> new DeviceAssetStoreImplJpaRepository().create(txContext, settingsRecord));
+    }
+
+    @Test
+    public void createOtherErrors() {
+        PersistenceException persistenceException = new PersistenceException(new SQLException("Data too long", "22001"));
+        Mockito.doThrow(persistenceException).when(entityManager).flush();
+
+        DeviceAssetChannelRecord record = new DeviceAssetChannelRecord(new KapuaEid(BigInteger.ONE));
+        Assertions.assertSame(persistenceException, Assertions.assertThrows(PersistenceException.class, () -> new DeviceAssetStoreImplJpaRepository().create(txContext, record)));
+    }
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.asset.store.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.message.device.data.KapuaDataChannel;
+import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+import org.eclipse.kapua.message.device.data.KapuaDataPayload;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.asset.DeviceAsset;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssetChannel;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssetFactory;
+import org.eclipse.kapua.service.device.management.asset.DeviceAssets;
+import org.eclipse.kapua.service.device.management.asset.internal.DeviceAssetFactoryImpl;
+import org.eclipse.kapua.service.device.management.asset.store.DeviceAssetStoreFactory;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManagerImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import javax.persistence.EntityExistsException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceAssetStoreServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId DEVICE_ID = new KapuaEid(BigInteger.TEN);
+    private static final String ASSET_NAME = "asset1";
+
+    private final DeviceAssetFactory deviceAssetFactory = new DeviceAssetFactoryImpl();
+    private final Map<String, Object> configValues = new HashMap<>();
+
+    private DeviceAssetStoreRepository repository;
+    private DeviceAssetStoreServiceImpl instance;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        TxContext txContext = Mockito.mock(TxContext.class);
+        Mockito.when(txContext.isRecoverableException(Mockito.isA(EntityExistsException.class))).thenReturn(true);
+        Mockito.when(txContext.convertPersistenceException(Mockito.any(Exception.class))).thenAnswer(invocation -> {
+            Exception exception = invocation.getArgumentAt(0, Exception.class);
+            return exception instanceof KapuaException ? exception : KapuaException.internalError(exception);
+        });
+
+        ServiceConfigurationManager serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        Mockito.when(serviceConfigurationManager.getConfigValues(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(false))).thenReturn(configValues);
+
+        repository = Mockito.mock(DeviceAssetStoreRepository.class);
+        Mockito.when(repository.findChannels(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID), Mockito.eq(ASSET_NAME))).thenReturn(Collections.emptyList());
+
+        instance = new DeviceAssetStoreServiceImpl(
+                new TxManagerImpl(() -> txContext, 3),
+                serviceConfigurationManager,
+                Mockito.mock(AuthorizationService.class),
+                Mockito.mock(PermissionFactory.class),
+                repository,
+                deviceAssetFactory,
+                Mockito.mock(DeviceAssetStoreFactory.class));
+    }
+
+    @Test
+    public void storeAssetValuesFromTelemetry() throws Exception {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("channel1", 42);
+        metrics.put("channel1_timestamp", 1000L);
+        metrics.put("channel2", "value");
+        metrics.put("channel2_error", "read failed");
+        metrics.put("assetTimestamp", 2000L);
+
+        instance.storeAssetValues(newAssetMessage(metrics));
+
+        Map<String, DeviceAssetChannelRecord> createdRecords = capturedCreatedRecords(2);
+        Assertions.assertEquals(ASSET_NAME, createdRecords.get("channel1").getAssetName());
+        Assertions.assertEquals("42", createdRecords.get("channel1").getChannelValue());
+        Assertions.assertEquals(new Date(1000L), createdRecords.get("channel1").getChannelTimestamp());
+        Assertions.assertNull(createdRecords.get("channel1").getChannelError());
+        Assertions.assertEquals("value", createdRecords.get("channel2").getChannelValue());
+        Assertions.assertEquals(new Date(2000L), createdRecords.get("channel2").getChannelTimestamp());
+        Assertions.assertEquals("read failed", createdRecords.get("channel2").getChannelError());
+    }
+
+    @Test
+    public void storeAssetValuesIgnoresNonAssetMessages() throws Exception {
+        KapuaDataMessage message = newAssetMessage(Collections.singletonMap("temperature", 21.5));
+        Mockito.when(message.getChannel().getSemanticParts()).thenReturn(Arrays.asList("heater", "data"));
+
+        instance.storeAssetValues(message);
+
+        Mockito.verifyZeroInteractions(repository);
+    }
+
+    @Test
+    public void storeAssetValuesKeepsNewerValue() throws Exception {
+        DeviceAssetChannelRecord storedRecord = newStoredRecord("channel1", "42", new Date(2000L));
+        Mockito.when(repository.findChannels(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID), Mockito.eq(ASSET_NAME))).thenReturn(Collections.singletonList(storedRecord));
+
+        // A message published before the stored value and processed after it
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("channel1", 41);
+        metrics.put("channel1_timestamp", 1000L);
+        instance.storeAssetValues(newAssetMessage(metrics));
+
+        Assertions.assertEquals("42", storedRecord.getChannelValue());
+        Assertions.assertEquals(new Date(2000L), storedRecord.getChannelTimestamp());
+
+        metrics.put("channel1", 43);
+        metrics.put("channel1_timestamp", 3000L);
+        instance.storeAssetValues(newAssetMessage(metrics));
+
+        Assertions.assertEquals("43", storedRecord.getChannelValue());
+        Assertions.assertEquals(new Date(3000L), storedRecord.getChannelTimestamp());
+        Mockito.verify(repository, Mockito.never()).create(Mockito.<TxContext>any(), Mockito.any(DeviceAssetChannelRecord.class));
+    }
+
+    @Test
+    public void storeAssetsValuesUpdatesConcurrentlyCreated() throws Exception {
+        DeviceAssetChannelRecord concurrentRecord = newStoredRecord("channel1", "41", new Date(1000L));
+
+        // Another message of the same asset creates the channel between the lookup and the insert of this store
+        Mockito.when(repository.findChannels(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID), Mockito.eq(ASSET_NAME)))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(Collections.singletonList(concurrentRecord));
+        Mockito.when(repository.create(Mockito.<TxContext>any(), Mockito.any(DeviceAssetChannelRecord.class))).thenThrow(new EntityExistsException());
+
+        DeviceAssetChannel deviceAssetChannel = deviceAssetFactory.newDeviceAssetChannel();
+        deviceAssetChannel.setName("channel1");
+        deviceAssetChannel.setType(Integer.class);
+        deviceAssetChannel.setValue(42);
+        deviceAssetChannel.setTimestamp(new Date(2000L));
+
+        instance.storeAssetsValues(SCOPE_ID, DEVICE_ID, newDeviceAssets(deviceAssetChannel));
+
+        Assertions.assertEquals("42", concurrentRecord.getChannelValue());
+        Assertions.assertEquals(new Date(2000L), concurrentRecord.getChannelTimestamp());
+        Mockito.verify(repository, Mockito.times(1)).create(Mockito.<TxContext>any(), Mockito.any(DeviceAssetChannelRecord.class));
+    }
+
+    @Test
+    public void findRecentAssetsValues() throws Exception {
+        configValues.put(DeviceAssetStoreServiceImpl.RECENT_ASSETS_VALUES_MAX_AGE_PROPERTY, 60);
+
+        DeviceAssetChannelRecord storedRecord = newStoredRecord("channel1", "42", new Date(1000L));
+        storedRecord.setValueStoredOn(new Date());
+        Mockito.when(repository.findChannels(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID), Mockito.eq(ASSET_NAME))).thenReturn(Collections.singletonList(storedRecord));
+
+        DeviceAssetChannel filterChannel = deviceAssetFactory.newDeviceAssetChannel();
+        filterChannel.setName("channel1");
+        Optional<DeviceAssets> recentAssetsValues = instance.findRecentAssetsValues(SCOPE_ID, DEVICE_ID, newDeviceAssets(filterChannel));
+
+        Assertions.assertTrue(recentAssetsValues.isPresent());
+        DeviceAssetChannel recentChannel = recentAssetsValues.get().getAssets().get(0).getChannels().get(0);
+        Assertions.assertEquals(42, recentChannel.getValue());
+        Assertions.assertEquals(new Date(1000L), recentChannel.getTimestamp());
+
+        // Channels never stored are read from the device
+        DeviceAssetChannel missingChannel = deviceAssetFactory.newDeviceAssetChannel();
+        missingChannel.setName("channel2");
+        Assertions.assertFalse(instance.findRecentAssetsValues(SCOPE_ID, DEVICE_ID, newDeviceAssets(filterChannel, missingChannel)).isPresent());
+
+        // Values stored before the max age are read from the device
+        storedRecord.setValueStoredOn(new Date(System.currentTimeMillis() - 120000L));
+        Assertions.assertFalse(instance.findRecentAssetsValues(SCOPE_ID, DEVICE_ID, newDeviceAssets(filterChannel)).isPresent());
+    }
+
+    private KapuaDataMessage newAssetMessage(Map<String, Object> metrics) {
+        KapuaDataChannel channel = Mockito.mock(KapuaDataChannel.class);
+        Mockito.when(channel.getSemanticParts()).thenReturn(Arrays.asList("W1", "A1", ASSET_NAME));
+
+        KapuaDataPayload payload = Mockito.mock(KapuaDataPayload.class);
+        Mockito.when(payload.getMetrics()).thenReturn(metrics);
+
+        KapuaDataMessage message = Mockito.mock(KapuaDataMessage.class);
+        Mockito.when(message.getScopeId()).thenReturn(SCOPE_ID);
+        Mockito.when(message.getDeviceId()).thenReturn(DEVICE_ID);
+        Mockito.when(message.getChannel()).thenReturn(channel);
+        Mockito.when(message.getPayload()).thenReturn(payload);
+        Mockito.when(message.getReceivedOn()).thenReturn(new Date());
+        return message;
+    }
+
+    private DeviceAssets newDeviceAssets(DeviceAssetChannel... deviceAssetChannels) {
+        DeviceAsset deviceAsset = deviceAssetFactory.newDeviceAsset();
+        deviceAsset.setName(ASSET_NAME);
+        deviceAsset.getChannels().addAll(Arrays.asList(deviceAssetChannels));
+
+        DeviceAssets deviceAssets = deviceAssetFactory.newAssetListResult();
+        deviceAssets.getAssets().add(deviceAsset);
+        return deviceAssets;
+    }
+
+    private static DeviceAssetChannelRecord newStoredRecord(String channelName, String value, Date channelTimestamp) {
+        DeviceAssetChannelRecord storedRecord = new DeviceAssetChannelRecord(SCOPE_ID);
+        storedRecord.setDeviceId(DEVICE_ID);
+        storedRecord.setAssetName(ASSET_NAME);
+        storedRecord.setChannelName(channelName);
+        storedRecord.setChannelType(Integer.class.getName());
+        storedRecord.setChannelValue(value);
+        storedRecord.setChannelTimestamp(channelTimestamp);
+        return storedRecord;
+    }
+
+    private Map<String, DeviceAssetChannelRecord> capturedCreatedRecords(int expectedCount) {
+        ArgumentCaptor<DeviceAssetChannelRecord> createdRecord = ArgumentCaptor.forClass(DeviceAssetChannelRecord.class);
+        Mockito.verify(repository, Mockito.times(expectedCount)).create(Mockito.<TxContext>any(), createdRecord.capture());
+
+        Map<String, DeviceAssetChannelRecord> createdRecords = new HashMap<>();
+        for (DeviceAssetChannelRecord record : createdRecord.getAllValues()) {
+            createdRecords.put(record.getChannelName(), record);
+        }
+        return createdRecords;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Singleton;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * {@link DeviceAssetManagementService} implementation.
@@ -180,7 +181,18 @@ public class DeviceAssetManagementServiceImpl extends AbstractDeviceManagementTr
                         .withTimeoutOrDefault(timeout);
 
         // Do read
+        boolean assetStoreEnabled = deviceAssetStoreService.isServiceEnabled(scopeId) &&
+                deviceAssetStoreService.isApplicationEnabled(scopeId, deviceId);
+
         if (isDeviceConnected(scopeId, deviceId)) {
+            // Recent values stored from telemetry or previous reads avoid the round trip to the Device
+            if (assetStoreEnabled) {
+                Optional<DeviceAssets> recentDeviceAssets = deviceAssetStoreService.findRecentAssetsValues(scopeId, deviceId, deviceAssets);
+                if (recentDeviceAssets.isPresent()) {
+                    return recentDeviceAssets.get();
+                }
+            }
+
             AssetResponseMessage responseMessage;
             try {
                 responseMessage = assetDeviceCallBuilder.send();
@@ -194,15 +206,13 @@ public class DeviceAssetManagementServiceImpl extends AbstractDeviceManagementTr
             // Check response
             DeviceAssets onlineDeviceAssets = checkResponseAcceptedOrThrowError(responseMessage, () -> responseMessage.getPayload().getDeviceAssets().orElse(deviceAssetFactory.newAssetListResult()));
             // Store value and return
-            if (deviceAssetStoreService.isServiceEnabled(scopeId) &&
-                    deviceAssetStoreService.isApplicationEnabled(scopeId, deviceId)) {
+            if (assetStoreEnabled) {
                 deviceAssetStoreService.storeAssetsValues(scopeId, deviceId, onlineDeviceAssets);
             }
 
             return onlineDeviceAssets;
         } else {
-            if (deviceAssetStoreService.isServiceEnabled(scopeId) &&
-                    deviceAssetStoreService.isApplicationEnabled(scopeId, deviceId)) {
+            if (assetStoreEnabled) {
                 return deviceAssetStoreService.getAssetsValues(scopeId, deviceId, deviceAssets);
             } else {
                 throw new DeviceNeverConnectedException(deviceId);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ import org.eclipse.kapua.service.device.management.configuration.DeviceConfigura
 import org.eclipse.kapua.service.device.management.configuration.store.settings.DeviceConfigurationStoreSettings;
 import org.eclipse.kapua.service.device.registry.Device;
 
+import java.util.Optional;
+
 /**
  * {@link DeviceConfiguration} store {@link KapuaService} definition.
  *
@@ -74,4 +76,21 @@ public interface DeviceConfigurationStoreService extends KapuaService, KapuaConf
      */
     DeviceComponentConfiguration getConfigurations(KapuaId scopeId, KapuaId deviceId, String configurationComponentPid) throws KapuaException;
 
+    /**
+     * Gets the last stored {@link DeviceConfiguration} if it has been stored recently enough to be returned in place of reading it from the connected {@link Device}.
+     * <p>
+     * It returns {@link Optional#empty()} also when the store is not enabled for the {@link Device}, so it can be invoked before checking the enablement.
+     * <p>
+     * Default implementation returns always {@link Optional#empty()}.
+     *
+     * @param scopeId                   The {@link Device#getScopeId()}.
+     * @param deviceId                  The {@link Device#getId()}.
+     * @param configurationComponentPid The {@link DeviceComponentConfiguration#getId()} or {@code null} to get all the {@link DeviceComponentConfiguration}s.
+     * @return The last stored {@link DeviceConfiguration}, or {@link Optional#empty()} if it is not stored or too old.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    default Optional<DeviceConfiguration> findRecentConfigurations(KapuaId scopeId, KapuaId deviceId, String configurationComponentPid) throws KapuaException {
+        return Optional.empty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.configuration.store.internal;
+
+import org.eclipse.kapua.commons.model.AbstractKapuaUpdatableEntity;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.management.configuration.DeviceComponentConfiguration;
+import org.eclipse.kapua.service.device.registry.Device;
+
+import javax.persistence.AttributeOverride;
+import javax.persistence.AttributeOverrides;
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+/**
+ * Last known {@link DeviceComponentConfiguration} of a {@link Device}, stored by the {@link DeviceConfigurationStoreServiceImpl}.
+ * <p>
+ * The {@link DeviceComponentConfiguration} is kept in its XML representation.
+ * The {@link #getModifiedOn()} is the last time it has been read from or written to the {@link Device}.
+ *
+ * @since 2.1.0
+ */
+@Entity(name = "DeviceComponentConfigurationRecord")
+@Table(name = "dvcm_device_configuration_store")
+public class DeviceComponentConfigurationRecord extends AbstractKapuaUpdatableEntity {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TYPE = "DeviceComponentConfigurationRecord";
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "eid", column = @Column(name = "device_id", nullable = false, updatable = false))
+    })
+    private KapuaEid deviceId;
+
+    @Basic
+    @Column(name = "component_id", nullable = false, updatable = false)
+    private String componentId;
+
+    @Basic
+    @Column(name = "configuration", nullable = false, updatable = true)
+    private String configuration;
+
+    /**
+     * Constructor.
+     * <p>
+     * Required by JPA.
+     *
+     * @since 2.1.0
+     */
+    protected DeviceComponentConfigurationRecord() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param scopeId The {@link Device#getScopeId()}.
+     * @since 2.1.0
+     */
+    public DeviceComponentConfigurationRecord(KapuaId scopeId) {
+        super(scopeId);
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    public KapuaId getDeviceId() {
+        return deviceId;
+    }
+
+    public void setDeviceId(KapuaId deviceId) {
+        this.deviceId = KapuaEid.parseKapuaId(deviceId);
+    }
+
+    public String getComponentId() {
+        return componentId;
+    }
+
+    public void setComponentId(String componentId) {
+        this.componentId = componentId;
+    }
+
+    public String getConfiguration() {
+        return configuration;
+    }
+
+    public void setConfiguration(String configuration) {
+        this.configuration = configuration;
+    }
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.configuration.store.internal;
+
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.eclipse.kapua.commons.jpa.KapuaEntityJpaRepository;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.storage.TxContext;
+
+import javax.persistence.EntityExistsException;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link DeviceConfigurationStoreRepository} JPA implementation.
+ * <p>
+ * All lookups are served by the unique ({@code scope_id}, {@code device_id}[, {@code component_id}]) indexes.
+ * <p>
+ * New records are flushed right away, so that a record stored concurrently for the same key fails with an {@link EntityExistsException}.
+ * The {@link org.eclipse.kapua.storage.TxManager} then runs the whole operation again, which finds and updates the stored record.
+ *
+ * @since 2.1.0
+ */
+public class DeviceConfigurationStoreImplJpaRepository implements DeviceConfigurationStoreRepository {
+
+    @Override
+    public List<DeviceComponentConfigurationRecord> findComponentConfigurations(TxContext tx, KapuaId scopeId, KapuaId deviceId) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<DeviceComponentConfigurationRecord> selectQuery = cb.createQuery(DeviceComponentConfigurationRecord.class);
+        final Root<DeviceComponentConfigurationRecord> entityRoot = selectQuery.from(DeviceComponentConfigurationRecord.class);
+
+        selectQuery.select(entityRoot);
+        selectQuery.where(
+                cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID), KapuaEid.parseKapuaId(scopeId)),
+                cb.equal(entityRoot.get(DeviceComponentConfigurationRecord_.DEVICE_ID), KapuaEid.parseKapuaId(deviceId))
+        );
+        selectQuery.orderBy(cb.asc(entityRoot.get(DeviceComponentConfigurationRecord_.COMPONENT_ID)));
+
+        return em.createQuery(selectQuery).getResultList();
+    }
+
+    @Override
+    public Optional<DeviceComponentConfigurationRecord> findComponentConfiguration(TxContext tx, KapuaId scopeId, KapuaId deviceId, String componentId) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<DeviceComponentConfigurationRecord> selectQuery = cb.createQuery(DeviceComponentConfigurationRecord.class);
+        final Root<DeviceComponentConfigurationRecord> entityRoot = selectQuery.from(DeviceComponentConfigurationRecord.class);
+
+        selectQuery.select(entityRoot);
+        selectQuery.where(
+                cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID), KapuaEid.parseKapuaId(scopeId)),
+                cb.equal(entityRoot.get(DeviceComponentConfigurationRecord_.DEVICE_ID), KapuaEid.parseKapuaId(deviceId)),
+                cb.equal(entityRoot.get(DeviceComponentConfigurationRecord_.COMPONENT_ID), componentId)
+        );
+
+        return em.createQuery(selectQuery)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<DeviceConfigurationStoreSettingsRecord> findSettings(TxContext tx, KapuaId scopeId, KapuaId deviceId) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<DeviceConfigurationStoreSettingsRecord> selectQuery = cb.createQuery(DeviceConfigurationStoreSettingsRecord.class);
+        final Root<DeviceConfigurationStoreSettingsRecord> entityRoot = selectQuery.from(DeviceConfigurationStoreSettingsRecord.class);
+
+        selectQuery.select(entityRoot);
+        selectQuery.where(
+                cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID), KapuaEid.parseKapuaId(scopeId)),
+                cb.equal(entityRoot.get(DeviceConfigurationStoreSettingsRecord_.DEVICE_ID), KapuaEid.parseKapuaId(deviceId))
+        );
+
+        return em.createQuery(selectQuery)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public DeviceComponentConfigurationRecord create(TxContext tx, DeviceComponentConfigurationRecord record) {
+        doCreate(JpaAwareTxContext.extractEntityManager(tx), record);
+        return record;
+    }
+
+    @Override
+    public DeviceConfigurationStoreSettingsRecord create(TxContext tx, DeviceConfigurationStoreSettingsRecord record) {
+        doCreate(JpaAwareTxContext.extractEntityManager(tx), record);
+        return record;
+    }
+
+    @Override
+    public void delete(TxContext tx, DeviceComponentConfigurationRecord record) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        em.remove(record);
+    }
+
+    private void doCreate(EntityManager em, Object record) {
+        try {
+            em.persist(record);
+            em.flush();
+        } catch (PersistenceException e) {
+            if (e instanceof EntityExistsException || KapuaEntityJpaRepository.isInsertConstraintViolation(e)) {
+                throw new EntityExistsException(e);
+            }
+            throw e;
+        }
+    }
+}
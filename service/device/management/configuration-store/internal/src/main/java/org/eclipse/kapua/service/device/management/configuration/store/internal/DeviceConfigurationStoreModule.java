@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.configuration.store.internal;
+
+import com.google.inject.Provides;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.core.AbstractKapuaModule;
+import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
+import org.eclipse.kapua.commons.util.xml.XmlUtil;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.configuration.DeviceConfigurationFactory;
+import org.eclipse.kapua.service.device.management.configuration.store.DeviceConfigurationStoreFactory;
+import org.eclipse.kapua.service.device.management.configuration.store.DeviceConfigurationStoreService;
+import org.eclipse.kapua.storage.TxManager;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.Map;
+
+/**
+ * {@link DeviceConfigurationStoreService} {@link AbstractKapuaModule}.
+ *
+ * @since 2.1.0
+ */
+public class DeviceConfigurationStoreModule extends AbstractKapuaModule {
+
+    @Override
+    protected void configureModule() {
+        bind(DeviceConfigurationStoreFactory.class).to(DeviceConfigurationStoreFactoryImpl.class);
+    }
+
+    @Provides
+    @Singleton
+    DeviceConfigurationStoreService deviceConfigurationStoreService(
+            Map<Class<?>, ServiceConfigurationManager> serviceConfigurationManagersByServiceClass,
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            @Named("DeviceConfigurationStoreTransactionManager") TxManager txManager,
+            DeviceConfigurationStoreRepository repository,
+            DeviceConfigurationFactory deviceConfigurationFactory,
+            DeviceConfigurationStoreFactory deviceConfigurationStoreFactory,
+            XmlUtil xmlUtil) {
+        return new DeviceConfigurationStoreServiceImpl(
+                txManager,
+                serviceConfigurationManagersByServiceClass.get(DeviceConfigurationStoreService.class),
+                authorizationService,
+                permissionFactory,
+                repository,
+                deviceConfigurationFactory,
+                deviceConfigurationStoreFactory,
+                xmlUtil);
+    }
+
+    @Provides
+    @Singleton
+    DeviceConfigurationStoreRepository deviceConfigurationStoreRepository() {
+        return new DeviceConfigurationStoreImplJpaRepository();
+    }
+
+    @Provides
+    @Named("DeviceConfigurationStoreTransactionManager")
+    @Singleton
+    TxManager deviceConfigurationStoreTxManager(KapuaJpaTxManagerFactory jpaTxManagerFactory) {
+        return jpaTxManagerFactory.create("kapua-device_management_configuration_store");
+    }
+}
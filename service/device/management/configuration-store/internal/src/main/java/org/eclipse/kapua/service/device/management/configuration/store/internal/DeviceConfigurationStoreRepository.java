@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.configuration.store.internal;
+
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.storage.TxContext;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository of the {@link DeviceComponentConfigurationRecord}s and {@link DeviceConfigurationStoreSettingsRecord}s.
+ *
+ * @since 2.1.0
+ */
+public interface DeviceConfigurationStoreRepository {
+
+    /**
+     * Finds all the {@link DeviceComponentConfigurationRecord}s of the given {@link Device}, ordered by {@link DeviceComponentConfigurationRecord#getComponentId()}.
+     *
+     * @param tx       The {@link TxContext}.
+     * @param scopeId  The {@link Device#getScopeId()}.
+     * @param deviceId The {@link Device#getId()}.
+     * @return The {@link DeviceComponentConfigurationRecord}s of the {@link Device}.
+     * @since 2.1.0
+     */
+    List<DeviceComponentConfigurationRecord> findComponentConfigurations(TxContext tx, KapuaId scopeId, KapuaId deviceId);
+
+    /**
+     * Finds the {@link DeviceComponentConfigurationRecord} of the given {@link Device} and component.
+     *
+     * @param tx          The {@link TxContext}.
+     * @param scopeId     The {@link Device#getScopeId()}.
+     * @param deviceId    The {@link Device#getId()}.
+     * @param componentId The {@link DeviceComponentConfigurationRecord#getComponentId()}.
+     * @return The {@link DeviceComponentConfigurationRecord}, if stored.
+     * @since 2.1.0
+     */
+    Optional<DeviceComponentConfigurationRecord> findComponentConfiguration(TxContext tx, KapuaId scopeId, KapuaId deviceId, String componentId);
+
+    /**
+     * Finds the {@link DeviceConfigurationStoreSettingsRecord} of the given {@link Device}.
+     *
+     * @param tx       The {@link TxContext}.
+     * @param scopeId  The {@link Device#getScopeId()}.
+     * @param deviceId The {@link Device#getId()}.
+     * @return The {@link DeviceConfigurationStoreSettingsRecord}, if stored.
+     * @since 2.1.0
+     */
+    Optional<DeviceConfigurationStoreSettingsRecord> findSettings(TxContext tx, KapuaId scopeId, KapuaId deviceId);
+
+    /**
+     * Persists a new {@link DeviceComponentConfigurationRecord}.
+     * <p>
+     * Changes to the {@link DeviceComponentConfigurationRecord}s found by this repository are written when the {@link TxContext} commits.
+     *
+     * @param tx     The {@link TxContext}.
+     * @param record The {@link DeviceComponentConfigurationRecord} to persist.
+     * @return The persisted {@link DeviceComponentConfigurationRecord}.
+     * @throws javax.persistence.EntityExistsException if the component of the {@link Device} has been stored concurrently. The {@link TxContext} retries it as recoverable.
+     * @since 2.1.0
+     */
+    DeviceComponentConfigurationRecord create(TxContext tx, DeviceComponentConfigurationRecord record);
+
+    /**
+     * Persists a new {@link DeviceConfigurationStoreSettingsRecord}.
+     * <p>
+     * Changes to the {@link DeviceConfigurationStoreSettingsRecord}s found by this repository are written when the {@link TxContext} commits.
+     *
+     * @param tx     The {@link TxContext}.
+     * @param record The {@link DeviceConfigurationStoreSettingsRecord} to persist.
+     * @return The persisted {@link DeviceConfigurationStoreSettingsRecord}.
+     * @throws javax.persistence.EntityExistsException if the settings of the {@link Device} have been stored concurrently. The {@link TxContext} retries it as recoverable.
+     * @since 2.1.0
+     */
+    DeviceConfigurationStoreSettingsRecord create(TxContext tx, DeviceConfigurationStoreSettingsRecord record);
+
+    /**
+     * Deletes a {@link DeviceComponentConfigurationRecord}.
+     *
+     * @param tx     The {@link TxContext}.
+     * @param record The {@link DeviceComponentConfigurationRecord} to delete.
+     * @since 2.1.0
+     */
+    void delete(TxContext tx, DeviceComponentConfigurationRecord record);
+}
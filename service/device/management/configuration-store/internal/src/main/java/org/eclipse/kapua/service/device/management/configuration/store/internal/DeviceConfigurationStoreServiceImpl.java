@@ -0,0 +1,325 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.configuration.store.internal;
+
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.KapuaConfigurableServiceBase;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.domains.Domains;
+import org.eclipse.kapua.commons.util.ArgumentValidator;
+import org.eclipse.kapua.commons.util.xml.XmlUtil;
+import org.eclipse.kapua.model.domain.Actions;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.configuration.DeviceComponentConfiguration;
+import org.eclipse.kapua.service.device.management.configuration.DeviceConfiguration;
+import org.eclipse.kapua.service.device.management.configuration.DeviceConfigurationFactory;
+import org.eclipse.kapua.service.device.management.configuration.store.DeviceConfigurationStoreFactory;
+import org.eclipse.kapua.service.device.management.configuration.store.DeviceConfigurationStoreService;
+import org.eclipse.kapua.service.device.management.configuration.store.settings.DeviceConfigurationStoreEnablementPolicy;
+import org.eclipse.kapua.service.device.management.configuration.store.settings.DeviceConfigurationStoreSettings;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.xml.sax.SAXException;
+
+import javax.inject.Singleton;
+import javax.xml.bind.JAXBException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link DeviceConfigurationStoreService} implementation.
+ * <p>
+ * Each {@link DeviceComponentConfiguration} is stored in its own {@link DeviceComponentConfigurationRecord}, so the last known {@link DeviceConfiguration} of a {@link Device}
+ * is read with a single lookup on the ({@code scope_id}, {@code device_id}) index.
+ * <p>
+ * The service configuration of the scope defines whether the store is enabled for the {@link Device}s with the {@link DeviceConfigurationStoreEnablementPolicy#INHERITED} policy
+ * ({@link #ENABLED_PROPERTY}) and how old the stored {@link DeviceConfiguration}s returned by {@link #findRecentConfigurations(KapuaId, KapuaId, String)} can be
+ * ({@link #RECENT_CONFIGURATIONS_MAX_AGE_PROPERTY}).
+ * <p>
+ * Concurrent stores of the same {@link Device} are retried by the {@link TxManager}, see {@link DeviceConfigurationStoreImplJpaRepository}.
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class DeviceConfigurationStoreServiceImpl extends KapuaConfigurableServiceBase implements DeviceConfigurationStoreService {
+
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String RECENT_CONFIGURATIONS_MAX_AGE_PROPERTY = "recentConfigurationsMaxAge";
+
+    private static final String SCOPE_ID = "scopeId";
+    private static final String DEVICE_ID = "deviceId";
+
+    private final DeviceConfigurationStoreRepository repository;
+    private final DeviceConfigurationFactory deviceConfigurationFactory;
+    private final DeviceConfigurationStoreFactory deviceConfigurationStoreFactory;
+    private final XmlUtil xmlUtil;
+
+    public DeviceConfigurationStoreServiceImpl(
+            TxManager txManager,
+            ServiceConfigurationManager serviceConfigurationManager,
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            DeviceConfigurationStoreRepository repository,
+            DeviceConfigurationFactory deviceConfigurationFactory,
+            DeviceConfigurationStoreFactory deviceConfigurationStoreFactory,
+            XmlUtil xmlUtil) {
+        super(txManager, serviceConfigurationManager, Domains.DEVICE_MANAGEMENT, authorizationService, permissionFactory);
+        this.repository = repository;
+        this.deviceConfigurationFactory = deviceConfigurationFactory;
+        this.deviceConfigurationStoreFactory = deviceConfigurationStoreFactory;
+        this.xmlUtil = xmlUtil;
+    }
+
+    @Override
+    public void storeConfigurations(KapuaId scopeId, KapuaId deviceId, DeviceConfiguration deviceConfiguration) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        ArgumentValidator.notNull(deviceConfiguration, "deviceConfiguration");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.write, scopeId));
+        // Marshal outside the transaction
+        Map<String, String> configurationsByComponentId = new LinkedHashMap<>();
+        for (DeviceComponentConfiguration deviceComponentConfiguration : deviceConfiguration.getComponentConfigurations()) {
+            ArgumentValidator.notEmptyOrNull(deviceComponentConfiguration.getId(), "deviceConfiguration.componentConfigurations[].id");
+
+            configurationsByComponentId.put(deviceComponentConfiguration.getId(), marshal(deviceComponentConfiguration));
+        }
+        // Do store
+        txManager.execute(tx -> {
+            Map<String, DeviceComponentConfigurationRecord> storedRecords = new HashMap<>();
+            for (DeviceComponentConfigurationRecord storedRecord : repository.findComponentConfigurations(tx, scopeId, deviceId)) {
+                storedRecords.put(storedRecord.getComponentId(), storedRecord);
+            }
+
+            for (Map.Entry<String, String> configuration : configurationsByComponentId.entrySet()) {
+                doStore(tx, scopeId, deviceId, storedRecords.remove(configuration.getKey()), configuration.getKey(), configuration.getValue());
+            }
+
+            // Components no longer available on the Device
+            for (DeviceComponentConfigurationRecord removedRecord : storedRecords.values()) {
+                repository.delete(tx, removedRecord);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void storeConfigurations(KapuaId scopeId, KapuaId deviceId, DeviceComponentConfiguration deviceComponentConfiguration) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        ArgumentValidator.notNull(deviceComponentConfiguration, "deviceComponentConfiguration");
+        ArgumentValidator.notEmptyOrNull(deviceComponentConfiguration.getId(), "deviceComponentConfiguration.id");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.write, scopeId));
+        // Do store
+        String configuration = marshal(deviceComponentConfiguration);
+
+        txManager.execute(tx -> {
+            DeviceComponentConfigurationRecord storedRecord = repository.findComponentConfiguration(tx, scopeId, deviceId, deviceComponentConfiguration.getId()).orElse(null);
+
+            doStore(tx, scopeId, deviceId, storedRecord, deviceComponentConfiguration.getId(), configuration);
+            return null;
+        });
+    }
+
+    @Override
+    public DeviceConfiguration getConfigurations(KapuaId scopeId, KapuaId deviceId) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.read, scopeId));
+        // Do get
+        return toDeviceConfiguration(txManager.execute(tx -> repository.findComponentConfigurations(tx, scopeId, deviceId)));
+    }
+
+    @Override
+    public DeviceComponentConfiguration getConfigurations(KapuaId scopeId, KapuaId deviceId, String configurationComponentPid) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        ArgumentValidator.notEmptyOrNull(configurationComponentPid, "configurationComponentPid");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.read, scopeId));
+        // Do get
+        DeviceComponentConfigurationRecord storedRecord = txManager.execute(tx -> repository.findComponentConfiguration(tx, scopeId, deviceId, configurationComponentPid))
+                .orElseThrow(() -> new KapuaEntityNotFoundException(DeviceComponentConfiguration.class.getSimpleName(), configurationComponentPid));
+
+        return unmarshal(storedRecord.getConfiguration());
+    }
+
+    @Override
+    public Optional<DeviceConfiguration> findRecentConfigurations(KapuaId scopeId, KapuaId deviceId, String configurationComponentPid) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.read, scopeId));
+        // Do find
+        Optional<List<DeviceComponentConfigurationRecord>> recentRecords = txManager.execute(tx -> {
+            Map<String, Object> configValues = serviceConfigurationManager.getConfigValues(tx, scopeId, false);
+
+            Object maxAge = configValues.get(RECENT_CONFIGURATIONS_MAX_AGE_PROPERTY);
+            if (!(maxAge instanceof Integer) || (Integer) maxAge <= 0) {
+                return Optional.<List<DeviceComponentConfigurationRecord>>empty();
+            }
+            // Checked here, so that callers can look up the recent configurations first
+            if (!serviceConfigurationManager.isServiceEnabled(tx, scopeId) || !isApplicationEnabled(tx, scopeId, deviceId, configValues)) {
+                return Optional.<List<DeviceComponentConfigurationRecord>>empty();
+            }
+
+            List<DeviceComponentConfigurationRecord> storedRecords;
+            if (configurationComponentPid == null) {
+                storedRecords = repository.findComponentConfigurations(tx, scopeId, deviceId);
+            } else {
+                storedRecords = repository.findComponentConfiguration(tx, scopeId, deviceId, configurationComponentPid)
+                        .map(Collections::singletonList)
+                        .orElse(Collections.emptyList());
+            }
+
+            Date storedAfter = new Date(System.currentTimeMillis() - (Integer) maxAge * 1000L);
+            if (storedRecords.isEmpty() || storedRecords.stream().anyMatch(storedRecord -> storedRecord.getModifiedOn().before(storedAfter))) {
+                return Optional.<List<DeviceComponentConfigurationRecord>>empty();
+            }
+
+            return Optional.of(storedRecords);
+        });
+
+        return recentRecords.isPresent() ? Optional.of(toDeviceConfiguration(recentRecords.get())) : Optional.empty();
+    }
+
+    @Override
+    public DeviceConfigurationStoreSettings getApplicationSettings(KapuaId scopeId, KapuaId deviceId) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.read, scopeId));
+        // Do get
+        DeviceConfigurationStoreEnablementPolicy enablementPolicy = txManager.execute(tx -> getEnablementPolicy(tx, scopeId, deviceId));
+
+        DeviceConfigurationStoreSettings deviceConfigurationStoreSettings = deviceConfigurationStoreFactory.newDeviceConfigurationStoreSettings();
+        deviceConfigurationStoreSettings.setScopeId(scopeId);
+        deviceConfigurationStoreSettings.setDeviceId(deviceId);
+        deviceConfigurationStoreSettings.setEnablementPolicy(enablementPolicy);
+        return deviceConfigurationStoreSettings;
+    }
+
+    @Override
+    public void setApplicationSettings(KapuaId scopeId, KapuaId deviceId, DeviceConfigurationStoreSettings deviceApplicationSettings) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        ArgumentValidator.notNull(deviceApplicationSettings, "deviceApplicationSettings");
+        ArgumentValidator.notNull(deviceApplicationSettings.getEnablementPolicy(), "deviceApplicationSettings.enablementPolicy");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_MANAGEMENT, Actions.write, scopeId));
+        // Do set
+        txManager.execute(tx -> {
+            Optional<DeviceConfigurationStoreSettingsRecord> storedSettings = repository.findSettings(tx, scopeId, deviceId);
+            if (storedSettings.isPresent()) {
+                storedSettings.get().setEnablementPolicy(deviceApplicationSettings.getEnablementPolicy());
+            } else {
+                DeviceConfigurationStoreSettingsRecord settingsRecord = new DeviceConfigurationStoreSettingsRecord(scopeId);
+                settingsRecord.setDeviceId(deviceId);
+                settingsRecord.setEnablementPolicy(deviceApplicationSettings.getEnablementPolicy());
+                repository.create(tx, settingsRecord);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean isApplicationEnabled(KapuaId scopeId, KapuaId deviceId) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, SCOPE_ID);
+        ArgumentValidator.notNull(deviceId, DEVICE_ID);
+        // Do check
+        return txManager.execute(tx -> isApplicationEnabled(tx, scopeId, deviceId, null));
+    }
+
+    //
+    // Private methods
+    //
+
+    private boolean isApplicationEnabled(TxContext tx, KapuaId scopeId, KapuaId deviceId, Map<String, Object> configValues) throws KapuaException {
+        switch (getEnablementPolicy(tx, scopeId, deviceId)) {
+            case ENABLED:
+                return true;
+            case DISABLED:
+                return false;
+            case INHERITED:
+            default:
+                Map<String, Object> scopeConfigValues = configValues != null ? configValues : serviceConfigurationManager.getConfigValues(tx, scopeId, false);
+                return Boolean.TRUE.equals(scopeConfigValues.get(ENABLED_PROPERTY));
+        }
+    }
+
+    private DeviceConfigurationStoreEnablementPolicy getEnablementPolicy(TxContext tx, KapuaId scopeId, KapuaId deviceId) {
+        return repository.findSettings(tx, scopeId, deviceId)
+                .map(DeviceConfigurationStoreSettingsRecord::getEnablementPolicy)
+                .orElse(DeviceConfigurationStoreEnablementPolicy.INHERITED);
+    }
+
+    private void doStore(TxContext tx, KapuaId scopeId, KapuaId deviceId, DeviceComponentConfigurationRecord storedRecord, String componentId, String configuration) {
+        if (storedRecord == null) {
+            DeviceComponentConfigurationRecord newRecord = new DeviceComponentConfigurationRecord(scopeId);
+            newRecord.setDeviceId(deviceId);
+            newRecord.setComponentId(componentId);
+            newRecord.setConfiguration(configuration);
+            repository.create(tx, newRecord);
+        } else {
+            storedRecord.setConfiguration(configuration);
+            // Refreshes the stored timestamp also when the configuration has not changed
+            storedRecord.setModifiedOn(new Date());
+        }
+    }
+
+    private DeviceConfiguration toDeviceConfiguration(List<DeviceComponentConfigurationRecord> storedRecords) throws KapuaException {
+        DeviceConfiguration deviceConfiguration = deviceConfigurationFactory.newConfigurationInstance();
+        for (DeviceComponentConfigurationRecord storedRecord : storedRecords) {
+            deviceConfiguration.addComponentConfiguration(unmarshal(storedRecord.getConfiguration()));
+        }
+        return deviceConfiguration;
+    }
+
+    private String marshal(DeviceComponentConfiguration deviceComponentConfiguration) throws KapuaException {
+        // Wrapped into a DeviceConfiguration, which is known by all the JAXBContexts
+        DeviceConfiguration deviceConfiguration = deviceConfigurationFactory.newConfigurationInstance();
+        deviceConfiguration.addComponentConfiguration(deviceComponentConfiguration);
+        try {
+            return xmlUtil.marshal(deviceConfiguration);
+        } catch (JAXBException e) {
+            throw KapuaException.internalError(e, "Error while marshalling DeviceComponentConfiguration " + deviceComponentConfiguration.getId());
+        }
+    }
+
+    private DeviceComponentConfiguration unmarshal(String configuration) throws KapuaException {
+        try {
+            return xmlUtil.unmarshal(configuration, DeviceConfiguration.class).getComponentConfigurations().get(0);
+        } catch (JAXBException | SAXException e) {
+            throw KapuaException.internalError(e, "Error while unmarshalling stored DeviceComponentConfiguration");
+        }
+    }
+}
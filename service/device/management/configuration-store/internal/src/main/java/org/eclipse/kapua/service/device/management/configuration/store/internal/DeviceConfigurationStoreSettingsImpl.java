@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.configuration.store.internal;
+
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.management.configuration.store.settings.DeviceConfigurationStoreEnablementPolicy;
+import org.eclipse.kapua.service.device.management.configuration.store.settings.DeviceConfigurationStoreSettings;
+
+/**
+ * {@link DeviceConfigurationStoreSettings} implementation.
+ *
+ * @since 2.1.0
+ */
+public class DeviceConfigurationStoreSettingsImpl implements DeviceConfigurationStoreSettings {
+
+    private KapuaId scopeId;
+    private KapuaId deviceId;
+    private DeviceConfigurationStoreEnablementPolicy enablementPolicy;
+
+    @Override
+    public KapuaId getScopeId() {
+        return scopeId;
+    }
+
+    @Override
+    public void setScopeId(KapuaId scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    @Override
+    public KapuaId getDeviceId() {
+        return deviceId;
+    }
+
+    @Override
+    public void setDeviceId(KapuaId deviceId) {
+        this.deviceId = deviceId;
+    }
+
+    @Override
+    public DeviceConfigurationStoreEnablementPolicy getEnablementPolicy() {
+        return enablementPolicy;
+    }
+
+    @Override
+    public void setEnablementPolicy(DeviceConfigurationStoreEnablementPolicy enablementPolicy) {
+        this.enablementPolicy = enablementPolicy;
+    }
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.configuration.store.internal;
+
+import org.eclipse.kapua.commons.model.AbstractKapuaUpdatableEntity;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.management.configuration.store.settings.DeviceConfigurationStoreEnablementPolicy;
+import org.eclipse.kapua.service.device.management.configuration.store.settings.DeviceConfigurationStoreSettings;
+import org.eclipse.kapua.service.device.registry.Device;
+
+import javax.persistence.AttributeOverride;
+import javax.persistence.AttributeOverrides;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+
+/**
+ * {@link DeviceConfigurationStoreSettings} of a {@link Device}, stored by the {@link DeviceConfigurationStoreServiceImpl}.
+ * <p>
+ * {@link Device}s without a {@link DeviceConfigurationStoreSettingsRecord} have the {@link DeviceConfigurationStoreEnablementPolicy#INHERITED} policy.
+ *
+ * @since 2.1.0
+ */
+@Entity(name = "DeviceConfigurationStoreSettingsRecord")
+@Table(name = "dvcm_device_configuration_store_settings")
+public class DeviceConfigurationStoreSettingsRecord extends AbstractKapuaUpdatableEntity {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TYPE = "DeviceConfigurationStoreSettingsRecord";
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "eid", column = @Column(name = "device_id", nullable = false, updatable = false))
+    })
+    private KapuaEid deviceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "enablement_policy", nullable = false, updatable = true)
+    private DeviceConfigurationStoreEnablementPolicy enablementPolicy;
+
+    /**
+     * Constructor.
+     * <p>
+     * Required by JPA.
+     *
+     * @since 2.1.0
+     */
+    protected DeviceConfigurationStoreSettingsRecord() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param scopeId The {@link Device#getScopeId()}.
+     * @since 2.1.0
+     */
+    public DeviceConfigurationStoreSettingsRecord(KapuaId scopeId) {
+        super(scopeId);
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    public KapuaId getDeviceId() {
+        return deviceId;
+    }
+
+    public void setDeviceId(KapuaId deviceId) {
+        this.deviceId = KapuaEid.parseKapuaId(deviceId);
+    }
+
+    public DeviceConfigurationStoreEnablementPolicy getEnablementPolicy() {
+        return enablementPolicy;
+    }
+
+    public void setEnablementPolicy(DeviceConfigurationStoreEnablementPolicy enablementPolicy) {
+        this.enablementPolicy = enablementPolicy;
+    }
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.configuration.store.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.commons.util.xml.XmlUtil;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.configuration.DeviceComponentConfiguration;
+import org.eclipse.kapua.service.device.management.configuration.DeviceConfiguration;
+import org.eclipse.kapua.service.device.management.configuration.DeviceConfigurationFactory;
+import org.eclipse.kapua.service.device.management.configuration.store.DeviceConfigurationStoreFactory;
+import org.eclipse.kapua.service.device.management.configuration.store.settings.DeviceConfigurationStoreEnablementPolicy;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManagerImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.persistence.EntityExistsException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceConfigurationStoreServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId DEVICE_ID = new KapuaEid(BigInteger.TEN);
+    private static final String COMPONENT_ID = "org.eclipse.kura.clock.ClockService";
+
+    private final Map<String, Object> configValues = new HashMap<>();
+
+    private ServiceConfigurationManager serviceConfigurationManager;
+    private DeviceConfigurationStoreRepository repository;
+    private XmlUtil xmlUtil;
+    private DeviceConfigurationStoreServiceImpl instance;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        TxContext txContext = Mockito.mock(TxContext.class);
+        Mockito.when(txContext.isRecoverableException(Mockito.isA(EntityExistsException.class))).thenReturn(true);
+        Mockito.when(txContext.convertPersistenceException(Mockito.any(Exception.class))).thenAnswer(invocation -> {
+            Exception exception = invocation.getArgumentAt(0, Exception.class);
+            return exception instanceof KapuaException ? exception : KapuaException.internalError(exception);
+        });
+
+        serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        Mockito.when(serviceConfigurationManager.getConfigValues(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(false))).thenReturn(configValues);
+        Mockito.doReturn(true).when(serviceConfigurationManager).isServiceEnabled(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID));
+
+        repository = Mockito.mock(DeviceConfigurationStoreRepository.class);
+        Mockito.when(repository.findSettings(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID))).thenReturn(Optional.empty());
+
+        DeviceConfigurationFactory deviceConfigurationFactory = Mockito.mock(DeviceConfigurationFactory.class);
+        Mockito.when(deviceConfigurationFactory.newConfigurationInstance()).thenAnswer(invocation -> newDeviceConfiguration());
+
+        xmlUtil = Mockito.mock(XmlUtil.class);
+        Mockito.when(xmlUtil.marshal(Mockito.any())).thenReturn("<configurations/>");
+
+        instance = new DeviceConfigurationStoreServiceImpl(
+                new TxManagerImpl(() -> txContext, 3),
+                serviceConfigurationManager,
+                Mockito.mock(AuthorizationService.class),
+                Mockito.mock(PermissionFactory.class),
+                repository,
+                deviceConfigurationFactory,
+                Mockito.mock(DeviceConfigurationStoreFactory.class),
+                xmlUtil);
+    }
+
+    @Test
+    public void storeConfigurationsUpdatesConcurrentlyCreated() throws Exception {
+        DeviceComponentConfigurationRecord concurrentRecord = new DeviceComponentConfigurationRecord(SCOPE_ID);
+        concurrentRecord.setDeviceId(DEVICE_ID);
+        concurrentRecord.setComponentId(COMPONENT_ID);
+        concurrentRecord.setConfiguration("<concurrent/>");
+
+        // Another store creates the record between the lookup and the insert of this store
+        Mockito.when(repository.findComponentConfiguration(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID), Mockito.eq(COMPONENT_ID)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(concurrentRecord));
+        Mockito.when(repository.create(Mockito.<TxContext>any(), Mockito.any(DeviceComponentConfigurationRecord.class))).thenThrow(new EntityExistsException());
+
+        instance.storeConfigurations(SCOPE_ID, DEVICE_ID, newDeviceComponentConfiguration());
+
+        Assertions.assertEquals("<configurations/>", concurrentRecord.getConfiguration());
+        Mockito.verify(repository, Mockito.times(1)).create(Mockito.<TxContext>any(), Mockito.any(DeviceComponentConfigurationRecord.class));
+        Mockito.verify(repository, Mockito.times(2)).findComponentConfiguration(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID), Mockito.eq(COMPONENT_ID));
+    }
+
+    @Test
+    public void findRecentConfigurations() throws Exception {
+        configValues.put(DeviceConfigurationStoreServiceImpl.ENABLED_PROPERTY, true);
+        configValues.put(DeviceConfigurationStoreServiceImpl.RECENT_CONFIGURATIONS_MAX_AGE_PROPERTY, 60);
+
+        DeviceComponentConfigurationRecord storedRecord = new DeviceComponentConfigurationRecord(SCOPE_ID);
+        storedRecord.setConfiguration("<configurations/>");
+        storedRecord.setModifiedOn(new Date());
+        Mockito.when(repository.findComponentConfigurations(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID))).thenReturn(Collections.singletonList(storedRecord));
+
+        DeviceConfiguration storedDeviceConfiguration = newDeviceConfiguration();
+        storedDeviceConfiguration.getComponentConfigurations().add(newDeviceComponentConfiguration());
+        Mockito.when(xmlUtil.unmarshal("<configurations/>", DeviceConfiguration.class)).thenReturn(storedDeviceConfiguration);
+
+        Optional<DeviceConfiguration> recentConfigurations = instance.findRecentConfigurations(SCOPE_ID, DEVICE_ID, null);
+
+        Assertions.assertTrue(recentConfigurations.isPresent());
+        Assertions.assertEquals(1, recentConfigurations.get().getComponentConfigurations().size());
+    }
+
+    @Test
+    public void findRecentConfigurationsTooOld() throws Exception {
+        configValues.put(DeviceConfigurationStoreServiceImpl.ENABLED_PROPERTY, true);
+        configValues.put(DeviceConfigurationStoreServiceImpl.RECENT_CONFIGURATIONS_MAX_AGE_PROPERTY, 60);
+
+        DeviceComponentConfigurationRecord storedRecord = new DeviceComponentConfigurationRecord(SCOPE_ID);
+        storedRecord.setModifiedOn(new Date(System.currentTimeMillis() - 120000L));
+        Mockito.when(repository.findComponentConfigurations(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID))).thenReturn(Collections.singletonList(storedRecord));
+
+        Assertions.assertFalse(instance.findRecentConfigurations(SCOPE_ID, DEVICE_ID, null).isPresent());
+    }
+
+    @Test
+    public void findRecentConfigurationsWhenDisabled() throws Exception {
+        configValues.put(DeviceConfigurationStoreServiceImpl.ENABLED_PROPERTY, true);
+        configValues.put(DeviceConfigurationStoreServiceImpl.RECENT_CONFIGURATIONS_MAX_AGE_PROPERTY, 60);
+
+        DeviceConfigurationStoreSettingsRecord settingsRecord = new DeviceConfigurationStoreSettingsRecord(SCOPE_ID);
+        settingsRecord.setEnablementPolicy(DeviceConfigurationStoreEnablementPolicy.DISABLED);
+        Mockito.when(repository.findSettings(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID))).thenReturn(Optional.of(settingsRecord));
+
+        Assertions.assertFalse(instance.findRecentConfigurations(SCOPE_ID, DEVICE_ID, null).isPresent());
+        Mockito.verify(repository, Mockito.never()).findComponentConfigurations(Mockito.<TxContext>any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void findRecentConfigurationsWithoutMaxAge() throws Exception {
+        configValues.put(DeviceConfigurationStoreServiceImpl.ENABLED_PROPERTY, true);
+        configValues.put(DeviceConfigurationStoreServiceImpl.RECENT_CONFIGURATIONS_MAX_AGE_PROPERTY, 0);
+
+        Assertions.assertFalse(instance.findRecentConfigurations(SCOPE_ID, DEVICE_ID, null).isPresent());
+        Mockito.verify(repository, Mockito.never()).findSettings(Mockito.<TxContext>any(), Mockito.any(), Mockito.any());
+        Mockito.verify(repository, Mockito.never()).findComponentConfigurations(Mockito.<TxContext>any(), Mockito.any(), Mockito.any());
+    }
+
+    private static DeviceComponentConfiguration newDeviceComponentConfiguration() {
+        DeviceComponentConfiguration deviceComponentConfiguration = Mockito.mock(DeviceComponentConfiguration.class);
+        Mockito.when(deviceComponentConfiguration.getId()).thenReturn(COMPONENT_ID);
+        return deviceComponentConfiguration;
+    }
+
+    private static DeviceConfiguration newDeviceConfiguration() {
+        List<DeviceComponentConfiguration> componentConfigurations = new ArrayList<>();
+
+        DeviceConfiguration deviceConfiguration = Mockito.mock(DeviceConfiguration.class);
+        Mockito.when(deviceConfiguration.getComponentConfigurations()).thenReturn(componentConfigurations);
+        Mockito.doAnswer(invocation -> componentConfigurations.add(invocation.getArgumentAt(0, DeviceComponentConfiguration.class)))
+                .when(deviceConfiguration).addComponentConfiguration(Mockito.any(DeviceComponentConfiguration.class));
+        return deviceConfiguration;
+    }
+}
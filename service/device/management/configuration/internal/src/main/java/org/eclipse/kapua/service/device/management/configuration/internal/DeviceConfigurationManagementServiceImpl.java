@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,20 @@
 package org.eclipse.kapua.service.device.management.configuration.internal;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import javax.inject.Singleton;
 import javax.xml.bind.JAXBException;
 
+import org.eclipse.kapua.KapuaEntityNotFoundException;
 import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.KapuaIllegalArgumentException;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.util.ArgumentValidator;
 import org.eclipse.kapua.commons.util.xml.XmlUtil;
+import org.eclipse.kapua.model.config.metatype.Password;
 import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.authorization.AuthorizationService;
@@ -120,7 +125,15 @@ public class DeviceConfigurationManagementServiceImpl extends AbstractDeviceMana
                         .withRequestMessage(configurationRequestMessage)
                         .withTimeoutOrDefault(timeout);
 
+        // Serve recently stored configurations without checking the device nor calling it, when allowed by the store
+        if (Strings.isNullOrEmpty(configurationId)) {
+            Optional<DeviceConfiguration> recentDeviceConfiguration = deviceConfigurationStoreService.findRecentConfigurations(scopeId, deviceId, configurationComponentPid);
+            if (recentDeviceConfiguration.isPresent()) {
+                return recentDeviceConfiguration.get();
+            }
+        }
         // Do get
+        boolean configurationStoreEnabled = isConfigurationStoreEnabled(scopeId, deviceId);
         if (isDeviceConnected(scopeId, deviceId)) {
             ConfigurationResponseMessage responseMessage;
             try {
@@ -136,22 +149,24 @@ public class DeviceConfigurationManagementServiceImpl extends AbstractDeviceMana
             // Check response
             DeviceConfiguration onlineDeviceConfiguration = checkResponseAcceptedOrThrowError(responseMessage,
                     () -> responseMessage.getPayload().getDeviceConfigurations().orElse(deviceConfigurationFactory.newConfigurationInstance()));
-            // Store config and return
-            if (deviceConfigurationStoreService.isServiceEnabled(scopeId) &&
-                    deviceConfigurationStoreService.isApplicationEnabled(scopeId, deviceId)) {
-                if (Strings.isNullOrEmpty(configurationComponentPid)) {
-                    // If all DeviceConfiguration has been requested, store it overriding any previous value
-                    deviceConfigurationStoreService.storeConfigurations(scopeId, deviceId, onlineDeviceConfiguration);
-                } else {
-                    // If only one DeviceComponentConfiguration has been requested, store it overriding only the selected DeviceComponentConfiguration
-                    deviceConfigurationStoreService.storeConfigurations(scopeId, deviceId, onlineDeviceConfiguration.getComponentConfigurations().get(0));
+            // Store config and return. The configuration has already been read from the device, so errors while storing are only logged
+            if (configurationStoreEnabled) {
+                try {
+                    if (Strings.isNullOrEmpty(configurationComponentPid)) {
+                        // If all DeviceConfiguration has been requested, store it overriding any previous value
+                        deviceConfigurationStoreService.storeConfigurations(scopeId, deviceId, onlineDeviceConfiguration);
+                    } else {
+                        // If only one DeviceComponentConfiguration has been requested, store it overriding only the selected DeviceComponentConfiguration
+                        deviceConfigurationStoreService.storeConfigurations(scopeId, deviceId, onlineDeviceConfiguration.getComponentConfigurations().get(0));
+                    }
+                } catch (KapuaException e) {
+                    LOG.warn("Error while storing DeviceConfiguration with DeviceComponentConfiguration id {} for Device {}. Error: {}", configurationComponentPid, deviceId, e.getMessage(), e);
                 }
             }
 
             return onlineDeviceConfiguration;
         } else {
-            if (deviceConfigurationStoreService.isServiceEnabled(scopeId) &&
-                    deviceConfigurationStoreService.isApplicationEnabled(scopeId, deviceId)) {
+            if (configurationStoreEnabled) {
                 if (configurationComponentPid == null) {
                     return deviceConfigurationStoreService.getConfigurations(scopeId, deviceId);
                 } else {
@@ -221,6 +236,8 @@ public class DeviceConfigurationManagementServiceImpl extends AbstractDeviceMana
         createDeviceEvent(scopeId, deviceId, configurationRequestMessage, responseMessage);
         // Check response
         checkResponseAcceptedOrThrowError(responseMessage);
+        // Refresh stored config
+        refreshStoredConfigurations(scopeId, deviceId, deviceConfiguration);
     }
 
     @Override
@@ -286,5 +303,65 @@ public class DeviceConfigurationManagementServiceImpl extends AbstractDeviceMana
         createDeviceEvent(scopeId, deviceId, configurationRequestMessage, responseMessage);
         // Check response
         checkResponseAcceptedOrThrowError(responseMessage);
+        // Refresh stored config
+        refreshStoredConfigurations(scopeId, deviceId, deviceConfiguration);
+    }
+
+    /**
+     * Checks whether the {@link DeviceConfigurationStoreService} is enabled for the given {@link org.eclipse.kapua.service.device.registry.Device}.
+     *
+     * @param scopeId  The scope {@link KapuaId} of the device.
+     * @param deviceId The {@link KapuaId} of the device.
+     * @return {@code true} if the {@link DeviceConfigurationStoreService} is enabled, {@code false} otherwise.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    private boolean isConfigurationStoreEnabled(KapuaId scopeId, KapuaId deviceId) throws KapuaException {
+        return deviceConfigurationStoreService.isServiceEnabled(scopeId) &&
+                deviceConfigurationStoreService.isApplicationEnabled(scopeId, deviceId);
+    }
+
+    /**
+     * Refreshes the stored {@link DeviceComponentConfiguration}s with the properties successfully written to the device.
+     * <p>
+     * {@link DeviceComponentConfiguration}s not stored yet are left to the next read, since the written ones may not have all the properties nor the definition.
+     * {@link Password} values are not stored, since they are sent to the device as provided by the caller.
+     * The write has already been applied to the device, so errors while storing are only logged.
+     *
+     * @param scopeId                    The scope {@link KapuaId} of the device.
+     * @param deviceId                   The {@link KapuaId} of the device.
+     * @param writtenDeviceConfiguration The {@link DeviceConfiguration} written to the device.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    private void refreshStoredConfigurations(KapuaId scopeId, KapuaId deviceId, DeviceConfiguration writtenDeviceConfiguration) throws KapuaException {
+        if (!isConfigurationStoreEnabled(scopeId, deviceId)) {
+            return;
+        }
+
+        for (DeviceComponentConfiguration writtenComponentConfiguration : writtenDeviceConfiguration.getComponentConfigurations()) {
+            try {
+                DeviceComponentConfiguration storedComponentConfiguration = deviceConfigurationStoreService.getConfigurations(scopeId, deviceId, writtenComponentConfiguration.getId());
+
+                Map<String, Object> refreshedProperties = new HashMap<>();
+                if (storedComponentConfiguration.getProperties() != null) {
+                    refreshedProperties.putAll(storedComponentConfiguration.getProperties());
+                }
+                if (writtenComponentConfiguration.getProperties() != null) {
+                    writtenComponentConfiguration.getProperties().forEach((name, value) -> {
+                        if (!(value instanceof Password || value instanceof Password[])) {
+                            refreshedProperties.put(name, value);
+                        }
+                    });
+                }
+                storedComponentConfiguration.setProperties(refreshedProperties);
+
+                deviceConfigurationStoreService.storeConfigurations(scopeId, deviceId, storedComponentConfiguration);
+            } catch (KapuaEntityNotFoundException e) {
+                LOG.debug("DeviceComponentConfiguration {} of Device {} not stored yet. It will be stored on next read", writtenComponentConfiguration.getId(), deviceId);
+            } catch (KapuaException e) {
+                LOG.warn("Error while refreshing stored DeviceComponentConfiguration {} of Device {}. Error: {}", writtenComponentConfiguration.getId(), deviceId, e.getMessage(), e);
+            }
+        }
     }
 }
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.job.scheduler.internal;
+
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
+import org.eclipse.kapua.event.ListenServiceEvent;
+import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.predicate.AttributePredicate;
+import org.eclipse.kapua.service.KapuaService;
+import org.eclipse.kapua.service.device.management.job.scheduler.internal.setting.DeviceManagementJobSchedulerSettingKeys;
+import org.eclipse.kapua.service.device.management.job.scheduler.internal.setting.DeviceManagementJobSchedulerSettings;
+import org.eclipse.kapua.service.scheduler.trigger.Trigger;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerAttributes;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerFactory;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerListResult;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerQuery;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerService;
+import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinition;
+import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinitionService;
+import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of the {@link Trigger}s of the "Device Connect" {@link TriggerDefinition}, grouped by scope and job.
+ * <p>
+ * It allows {@link JobDeviceManagementTriggerManagerServiceImpl#processOnConnect(KapuaId, KapuaId)} to skip devices in scopes without any "Device Connect" {@link Trigger} without querying the database.
+ * <p>
+ * The index is reloaded when a {@link ServiceEvent} of the {@link TriggerService} is received and at least every
+ * {@link DeviceManagementJobSchedulerSettingKeys#DEVICE_CONNECT_TRIGGER_INDEX_REFRESH_INTERVAL}.
+ * {@link ServiceEvent}s are shared between the instances of the same application, so on the other instances the refresh interval bounds how long a change goes unnoticed.
+ * <p>
+ * A single thread reloads the index at a time. The other threads keep reading the previous one in the meantime, without waiting.
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class DeviceConnectTriggerIndex implements KapuaService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceConnectTriggerIndex.class);
+
+    static final String DEVICE_CONNECT_TRIGGER_DEFINITION_NAME = "Device Connect";
+    static final String JOB_ID_PROPERTY_NAME = "jobId";
+
+    private final TriggerDefinitionService triggerDefinitionService;
+    private final TriggerService triggerService;
+    private final TriggerFactory triggerFactory;
+    private final long refreshInterval;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private volatile KapuaId triggerDefinitionId;
+    private volatile Index index;
+
+    @Inject
+    public DeviceConnectTriggerIndex(
+            TriggerDefinitionService triggerDefinitionService,
+            TriggerService triggerService,
+            TriggerFactory triggerFactory,
+            DeviceManagementJobSchedulerSettings deviceManagementJobSchedulerSettings) {
+        this.triggerDefinitionService = triggerDefinitionService;
+        this.triggerService = triggerService;
+        this.triggerFactory = triggerFactory;
+        this.refreshInterval = deviceManagementJobSchedulerSettings.getLong(DeviceManagementJobSchedulerSettingKeys.DEVICE_CONNECT_TRIGGER_INDEX_REFRESH_INTERVAL);
+    }
+
+    /**
+     * Gets the {@link TriggerDefinition#getId()} of the "Device Connect" {@link TriggerDefinition}.
+     * <p>
+     * It is looked up once and then cached.
+     *
+     * @return The {@link TriggerDefinition#getId()} of the "Device Connect" {@link TriggerDefinition}.
+     * @throws KapuaException If the "Device Connect" {@link TriggerDefinition} cannot be found.
+     * @since 2.1.0
+     */
+    public KapuaId getTriggerDefinitionId() throws KapuaException {
+        if (triggerDefinitionId == null) {
+            TriggerDefinition deviceConnectTrigger = KapuaSecurityUtils.doPrivileged(() -> triggerDefinitionService.findByName(DEVICE_CONNECT_TRIGGER_DEFINITION_NAME));
+            if (deviceConnectTrigger == null) {
+                throw new KapuaEntityNotFoundException(TriggerDefinition.TYPE, DEVICE_CONNECT_TRIGGER_DEFINITION_NAME);
+            }
+            triggerDefinitionId = deviceConnectTrigger.getId();
+        }
+        return triggerDefinitionId;
+    }
+
+    /**
+     * Gets the ids of the jobs of the given scope that have a "Device Connect" {@link Trigger} active at the given time.
+     *
+     * @param scopeId The scope {@link KapuaId}.
+     * @param now     The time at which the {@link Trigger} must be active.
+     * @return The {@link Set} of the job {@link KapuaId}s, empty if none.
+     * @throws KapuaException If the index cannot be loaded for the first time.
+     * @since 2.1.0
+     */
+    public Set<KapuaId> getActiveJobIds(KapuaId scopeId, Date now) throws KapuaException {
+        Map<KapuaId, List<Trigger>> triggersByJobId = getIndex(now).triggersByScopeIdAndJobId.get(KapuaEid.parseKapuaId(scopeId));
+        if (triggersByJobId == null) {
+            return Collections.emptySet();
+        }
+
+        Set<KapuaId> activeJobIds = new HashSet<>();
+        triggersByJobId.forEach((jobId, triggers) -> {
+            for (Trigger trigger : triggers) {
+                if (isActive(trigger, now)) {
+                    activeJobIds.add(jobId);
+                    break;
+                }
+            }
+        });
+        return activeJobIds;
+    }
+
+    /**
+     * Marks the index as outdated, so that it is reloaded on the next read.
+     *
+     * @since 2.1.0
+     */
+    public void invalidate() {
+        invalidations.incrementAndGet();
+    }
+
+    /**
+     * Invalidates the index when a {@link Trigger} is created, updated or deleted.
+     *
+     * @param serviceEvent The received {@link ServiceEvent}.
+     * @since 2.1.0
+     */
+    @ListenServiceEvent(fromAddress = "scheduler")
+    public void onKapuaEvent(ServiceEvent serviceEvent) {
+        if (TriggerService.class.getSimpleName().equals(serviceEvent.getService())) {
+            LOG.debug("Received {} event of trigger {}: invalidating the Device Connect triggers", serviceEvent.getOperation(), serviceEvent.getEntityId());
+            invalidate();
+        }
+    }
+
+    /**
+     * Gets the current {@link Index}, reloading it if outdated.
+     * <p>
+     * Only the first load waits for the {@link TriggerService}: afterwards the thread that reloads the index is the only one to wait
+     * and the others get the previous {@link Index}.
+     *
+     * @param now The current time.
+     * @return The current {@link Index}.
+     * @throws KapuaException If the index cannot be loaded for the first time.
+     * @since 2.1.0
+     */
+    private Index getIndex(Date now) throws KapuaException {
+        Index currentIndex = index;
+        if (currentIndex == null) {
+            return loadFirst(now);
+        }
+
+        if (isOutdated(currentIndex, now) && refreshing.compareAndSet(false, true)) {
+            try {
+                currentIndex = load(now);
+            } catch (KapuaException e) {
+                LOG.warn("Cannot reload the Device Connect triggers. Keeping the previous ones.", e);
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return currentIndex;
+    }
+
+    private synchronized Index loadFirst(Date now) throws KapuaException {
+        if (index != null) {
+            // Already loaded by another thread
+            return index;
+        }
+        return load(now);
+    }
+
+    private boolean isOutdated(Index currentIndex, Date now) {
+        return currentIndex.invalidations != invalidations.get() || now.getTime() - currentIndex.loadedOn > refreshInterval;
+    }
+
+    /**
+     * Loads the index from the {@link TriggerService}.
+     *
+     * @param now The current time, used to exclude the {@link Trigger}s already ended.
+     * @return The loaded {@link Index}.
+     * @throws KapuaException If the {@link Trigger}s cannot be queried.
+     * @since 2.1.0
+     */
+    private Index load(Date now) throws KapuaException {
+        // Read before querying, so that a change notified during the query makes the loaded index outdated
+        long loadInvalidations = invalidations.get();
+
+        TriggerQuery triggerQuery = triggerFactory.newQuery(KapuaId.ANY);
+        triggerQuery.setPredicate(
+                triggerQuery.andPredicate(
+                        triggerQuery.attributePredicate(TriggerAttributes.TRIGGER_DEFINITION_ID, getTriggerDefinitionId()),
+                        triggerQuery.attributePredicate(TriggerAttributes.TRIGGER_PROPERTIES_TYPE, KapuaId.class.getName()),
+                        triggerQuery.orPredicate(
+                                triggerQuery.attributePredicate(TriggerAttributes.ENDS_ON, null),
+                                triggerQuery.attributePredicate(TriggerAttributes.ENDS_ON, now, AttributePredicate.Operator.GREATER_THAN)
+                        )
+                )
+        );
+
+        TriggerListResult triggers = KapuaSecurityUtils.doPrivileged(() -> triggerService.query(triggerQuery));
+
+        Map<KapuaId, Map<KapuaId, List<Trigger>>> triggersByScopeIdAndJobId = new HashMap<>();
+        for (Trigger trigger : triggers.getItems()) {
+            KapuaId jobId = getJobId(trigger);
+            if (jobId == null) {
+                continue;
+            }
+
+            triggersByScopeIdAndJobId
+                    .computeIfAbsent(KapuaEid.parseKapuaId(trigger.getScopeId()), scopeId -> new HashMap<>())
+                    .computeIfAbsent(jobId, j -> new ArrayList<>())
+                    .add(trigger);
+        }
+
+        Index loadedIndex = new Index(triggersByScopeIdAndJobId, now.getTime(), loadInvalidations);
+        index = loadedIndex;
+
+        LOG.debug("Loaded {} Device Connect triggers in {} scopes", triggers.getSize(), triggersByScopeIdAndJobId.size());
+        return loadedIndex;
+    }
+
+    /**
+     * Gets the job {@link KapuaId} referenced by the given {@link Trigger}.
+     *
+     * @param trigger The {@link Trigger}.
+     * @return The job {@link KapuaId} or {@code null} if not defined.
+     * @since 2.1.0
+     */
+    static KapuaId getJobId(Trigger trigger) {
+        TriggerProperty jobIdProperty = trigger.getTriggerProperty(JOB_ID_PROPERTY_NAME);
+        if (jobIdProperty == null || jobIdProperty.getPropertyValue() == null) {
+            return null;
+        }
+        return KapuaEid.parseCompactId(jobIdProperty.getPropertyValue());
+    }
+
+    private static boolean isActive(Trigger trigger, Date now) {
+        return trigger.getStartsOn() != null && trigger.getStartsOn().before(now) &&
+                (trigger.getEndsOn() == null || trigger.getEndsOn().after(now));
+    }
+
+    /**
+     * A loaded version of the index.
+     *
+     * @since 2.1.0
+     */
+    private static class Index {
+
+        private final Map<KapuaId, Map<KapuaId, List<Trigger>>> triggersByScopeIdAndJobId;
+        private final long loadedOn;
+        private final long invalidations;
+
+        private Index(Map<KapuaId, Map<KapuaId, List<Trigger>>> triggersByScopeIdAndJobId, long loadedOn, long invalidations) {
+            this.triggersByScopeIdAndJobId = triggersByScopeIdAndJobId;
+            this.loadedOn = loadedOn;
+            this.invalidations = invalidations;
+        }
+    }
+}
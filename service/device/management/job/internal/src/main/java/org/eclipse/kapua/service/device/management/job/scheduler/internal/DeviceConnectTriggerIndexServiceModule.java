@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.job.scheduler.internal;
+
+import org.eclipse.kapua.commons.event.ServiceEventClientConfiguration;
+import org.eclipse.kapua.commons.event.ServiceEventHouseKeeperFactory;
+import org.eclipse.kapua.commons.event.ServiceEventTransactionalModule;
+import org.eclipse.kapua.commons.event.ServiceInspector;
+import org.eclipse.kapua.event.ServiceEventBus;
+
+/**
+ * {@link ServiceEventTransactionalModule} that subscribes the {@link DeviceConnectTriggerIndex} to the {@link org.eclipse.kapua.event.ServiceEvent}s of the triggers.
+ *
+ * @since 2.1.0
+ */
+public class DeviceConnectTriggerIndexServiceModule extends ServiceEventTransactionalModule {
+
+    public DeviceConnectTriggerIndexServiceModule(DeviceConnectTriggerIndex deviceConnectTriggerIndex,
+            ServiceEventHouseKeeperFactory serviceEventTransactionalHousekeeperFactory,
+            ServiceEventBus serviceEventBus,
+            String eventModuleName) {
+        super(ServiceInspector.getEventBusClients(deviceConnectTriggerIndex, DeviceConnectTriggerIndex.class).toArray(new ServiceEventClientConfiguration[0]),
+                null,
+                eventModuleName,
+                serviceEventTransactionalHousekeeperFactory,
+                serviceEventBus);
+    }
+}
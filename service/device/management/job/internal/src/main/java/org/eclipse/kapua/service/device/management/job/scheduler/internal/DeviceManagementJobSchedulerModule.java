@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,12 +12,56 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.device.management.job.scheduler.internal;
 
+import com.google.inject.multibindings.ProvidesIntoSet;
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.commons.event.ServiceEventHouseKeeperFactoryImpl;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreFactory;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
+import org.eclipse.kapua.commons.service.event.store.internal.EventStoreServiceImpl;
+import org.eclipse.kapua.event.ServiceEventBus;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.job.scheduler.internal.setting.DeviceManagementJobSchedulerSettings;
 import org.eclipse.kapua.service.device.management.job.scheduler.manager.JobDeviceManagementTriggerManagerService;
+import org.eclipse.kapua.storage.TxManager;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
 
 public class DeviceManagementJobSchedulerModule extends AbstractKapuaModule {
     @Override
     protected void configureModule() {
         bind(JobDeviceManagementTriggerManagerService.class).to(JobDeviceManagementTriggerManagerServiceImpl.class);
+        bind(DeviceManagementJobSchedulerSettings.class).in(Singleton.class);
+    }
+
+    @ProvidesIntoSet
+    ServiceModule deviceConnectTriggerIndexServiceModule(DeviceConnectTriggerIndex deviceConnectTriggerIndex,
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            @Named("kapuaEventsTxManager") TxManager txManager,
+            EventStoreFactory eventStoreFactory,
+            EventStoreRecordRepository eventStoreRecordRepository,
+            ServiceEventBus serviceEventBus,
+            CommonsMetric commonsMetric,
+            @Named("eventsModuleName") String eventModuleName) {
+        return new DeviceConnectTriggerIndexServiceModule(
+                deviceConnectTriggerIndex,
+                new ServiceEventHouseKeeperFactoryImpl(
+                        new EventStoreServiceImpl(
+                                authorizationService,
+                                permissionFactory,
+                                txManager,
+                                eventStoreFactory,
+                                eventStoreRecordRepository
+                        ),
+                        txManager,
+                        serviceEventBus,
+                        commonsMetric
+                ),
+                serviceEventBus,
+                eventModuleName);
     }
 }
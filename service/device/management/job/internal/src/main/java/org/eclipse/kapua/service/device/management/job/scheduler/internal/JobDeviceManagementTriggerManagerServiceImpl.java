@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,7 +12,7 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.device.management.job.scheduler.internal;
 
-import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
 import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
 import org.eclipse.kapua.job.engine.JobEngineFactory;
 import org.eclipse.kapua.job.engine.JobEngineService;
@@ -38,14 +38,17 @@ import org.eclipse.kapua.service.scheduler.trigger.TriggerFactory;
 import org.eclipse.kapua.service.scheduler.trigger.TriggerListResult;
 import org.eclipse.kapua.service.scheduler.trigger.TriggerQuery;
 import org.eclipse.kapua.service.scheduler.trigger.TriggerService;
-import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinition;
-import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinitionService;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * {@link JobDeviceManagementTriggerManagerService} implementation.
@@ -55,17 +58,15 @@ import java.util.Date;
 @Singleton
 public class JobDeviceManagementTriggerManagerServiceImpl implements JobDeviceManagementTriggerManagerService {
 
-    private static final Logger LOG = LoggerFactory.getLogger(JobDeviceManagementTriggerManagerServiceImpl.class);
-
     private final JobEngineService jobEngineService;
     private final JobEngineFactory jobEngineFactory;
     private final JobStepService jobStepService;
     private final JobStepFactory jobStepFactory;
     private final JobTargetService jobTargetService;
     private final JobTargetFactory jobTargetFactory;
-    private final TriggerDefinitionService triggerDefinitionService;
     private final TriggerService triggerService;
     private final TriggerFactory triggerFactory;
+    private final DeviceConnectTriggerIndex deviceConnectTriggerIndex;
 
     @Inject
     public JobDeviceManagementTriggerManagerServiceImpl(
@@ -75,18 +76,18 @@ public class JobDeviceManagementTriggerManagerServiceImpl implements JobDeviceMa
             JobStepFactory jobStepFactory,
             JobTargetService jobTargetService,
             JobTargetFactory jobTargetFactory,
-            TriggerDefinitionService triggerDefinitionService,
             TriggerService triggerService,
-            TriggerFactory triggerFactory) {
+            TriggerFactory triggerFactory,
+            DeviceConnectTriggerIndex deviceConnectTriggerIndex) {
         this.jobEngineService = jobEngineService;
         this.jobEngineFactory = jobEngineFactory;
         this.jobStepService = jobStepService;
         this.jobStepFactory = jobStepFactory;
         this.jobTargetService = jobTargetService;
         this.jobTargetFactory = jobTargetFactory;
-        this.triggerDefinitionService = triggerDefinitionService;
         this.triggerService = triggerService;
         this.triggerFactory = triggerFactory;
+        this.deviceConnectTriggerIndex = deviceConnectTriggerIndex;
     }
 
 
@@ -96,54 +97,61 @@ public class JobDeviceManagementTriggerManagerServiceImpl implements JobDeviceMa
         Date now = new Date();
 
         try {
+            // Jobs of the scope with an active "Device Connect" Trigger, resolved from memory
+            Set<KapuaId> triggeredJobIds = deviceConnectTriggerIndex.getActiveJobIds(scopeId, now);
+            if (triggeredJobIds.isEmpty()) {
+                return;
+            }
+
+            // JobTargets of the Device in those Jobs
             JobTargetQuery jobTargetQuery = jobTargetFactory.newQuery(scopeId);
 
             jobTargetQuery.setPredicate(
-                    jobTargetQuery.attributePredicate(JobTargetAttributes.JOB_TARGET_ID, deviceId)
+                    jobTargetQuery.andPredicate(
+                            jobTargetQuery.attributePredicate(JobTargetAttributes.JOB_TARGET_ID, deviceId),
+                            jobTargetQuery.attributePredicate(JobTargetAttributes.JOB_ID, new ArrayList<>(triggeredJobIds))
+                    )
             );
 
             JobTargetListResult jobTargetListResult = KapuaSecurityUtils.doPrivileged(() -> jobTargetService.query(jobTargetQuery));
+            if (jobTargetListResult.isEmpty()) {
+                return;
+            }
 
+            // Skip JobTargets at the end of the job step processing. JobSteps are counted once per Job.
+            Map<KapuaId, Long> jobStepCountByJobId = new HashMap<>();
+            List<JobTarget> pendingJobTargets = new ArrayList<>();
             for (JobTarget jt : jobTargetListResult.getItems()) {
-                JobStepQuery jobStepQuery = jobStepFactory.newQuery(jt.getScopeId());
+                if (JobTargetStatus.PROCESS_OK.equals(jt.getStatus())) {
+                    long jobStepCount = jobStepCountByJobId.computeIfAbsent(KapuaEid.parseKapuaId(jt.getJobId()), jobId -> countJobSteps(jt.getScopeId(), jobId));
 
-                jobStepQuery.setPredicate(
-                        jobStepQuery.attributePredicate(JobStepAttributes.JOB_ID, jt.getJobId())
-                );
+                    if (jobStepCount <= jt.getStepIndex() + 1) {
+                        continue;
+                    }
+                }
 
-                long jobStepCount = jobStepService.count(jobStepQuery);
+                pendingJobTargets.add(jt);
+            }
 
-                if (JobTargetStatus.PROCESS_OK.equals(jt.getStatus()) && jobStepCount <= jt.getStepIndex() + 1) {
-                    // The target is at the end of the job step processing
-                    continue;
-                }
+            if (pendingJobTargets.isEmpty()) {
+                return;
+            }
 
-                TriggerQuery triggerQuery = triggerFactory.newQuery(scopeId);
-
-                triggerQuery.setPredicate(
-                        triggerQuery.andPredicate(
-                                triggerQuery.attributePredicate(TriggerAttributes.TRIGGER_DEFINITION_ID, getTriggerDefinition().getId()),
-                                triggerQuery.attributePredicate(TriggerAttributes.TRIGGER_PROPERTIES_TYPE, KapuaId.class.getName()),
-                                triggerQuery.attributePredicate(TriggerAttributes.TRIGGER_PROPERTIES_VALUE, jt.getJobId().toCompactId()),
-                                triggerQuery.attributePredicate(TriggerAttributes.STARTS_ON, now, AttributePredicate.Operator.LESS_THAN),
-                                triggerQuery.orPredicate(
-                                        triggerQuery.attributePredicate(TriggerAttributes.ENDS_ON, null),
-                                        triggerQuery.attributePredicate(TriggerAttributes.ENDS_ON, now, AttributePredicate.Operator.GREATER_THAN)
-                                )
-                        )
-                );
+            // Confirm the Triggers of the candidate Jobs against the database, since the index may be stale
+            Set<KapuaId> confirmedJobIds = findJobIdsWithActiveTrigger(scopeId, pendingJobTargets, now);
 
-                TriggerListResult jobTriggers = KapuaSecurityUtils.doPrivileged(() -> triggerService.query(triggerQuery));
+            for (JobTarget jt : pendingJobTargets) {
+                if (!confirmedJobIds.contains(KapuaEid.parseKapuaId(jt.getJobId()))) {
+                    continue;
+                }
 
-                for (Trigger t : jobTriggers.getItems()) {
-                    JobStartOptions jobStartOptions = jobEngineFactory.newJobStartOptions();
+                JobStartOptions jobStartOptions = jobEngineFactory.newJobStartOptions();
 
-                    jobStartOptions.addTargetIdToSublist(jt.getId());
-                    jobStartOptions.setFromStepIndex(jt.getStepIndex());
-                    jobStartOptions.setEnqueue(true);
+                jobStartOptions.addTargetIdToSublist(jt.getId());
+                jobStartOptions.setFromStepIndex(jt.getStepIndex());
+                jobStartOptions.setEnqueue(true);
 
-                    KapuaSecurityUtils.doPrivileged(() -> jobEngineService.startJob(jt.getScopeId(), jt.getJobId(), jobStartOptions));
-                }
+                KapuaSecurityUtils.doPrivileged(() -> jobEngineService.startJob(jt.getScopeId(), jt.getJobId(), jobStartOptions));
             }
 
         } catch (Exception e) {
@@ -151,22 +159,70 @@ public class JobDeviceManagementTriggerManagerServiceImpl implements JobDeviceMa
         }
     }
 
-    private TriggerDefinition getTriggerDefinition() {
-        /**
-         * Looks fot the "Device Connect" {@link TriggerDefinition} to have access to its {@link TriggerDefinition#getId()}
-         *
-         * @since 1.1.0
-         */
-        TriggerDefinition deviceConnectTrigger;
+    /**
+     * Counts the {@link org.eclipse.kapua.service.job.step.JobStep}s of the given {@link org.eclipse.kapua.service.job.Job}.
+     *
+     * @param scopeId The scope {@link KapuaId}.
+     * @param jobId   The {@link org.eclipse.kapua.service.job.Job#getId()}.
+     * @return The number of {@link org.eclipse.kapua.service.job.step.JobStep}s.
+     * @since 2.1.0
+     */
+    private long countJobSteps(KapuaId scopeId, KapuaId jobId) {
+        JobStepQuery jobStepQuery = jobStepFactory.newQuery(scopeId);
+
+        jobStepQuery.setPredicate(
+                jobStepQuery.attributePredicate(JobStepAttributes.JOB_ID, jobId)
+        );
+
         try {
-            deviceConnectTrigger = KapuaSecurityUtils.doPrivileged(() -> triggerDefinitionService.findByName("Device Connect"));
-            if (deviceConnectTrigger == null) {
-                throw new KapuaEntityNotFoundException(TriggerDefinition.TYPE, "Device Connect");
-            }
+            return KapuaSecurityUtils.doPrivileged(() -> jobStepService.count(jobStepQuery));
         } catch (Exception e) {
-            LOG.error("Error while searching the Trigger Definition named 'Device Connect'", e);
-            throw new ExceptionInInitializerError(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Finds which of the {@link org.eclipse.kapua.service.job.Job}s of the given {@link JobTarget}s have an active "Device Connect" {@link Trigger}.
+     * <p>
+     * All {@link org.eclipse.kapua.service.job.Job}s are checked with a single {@link TriggerQuery}.
+     *
+     * @param scopeId    The scope {@link KapuaId}.
+     * @param jobTargets The {@link JobTarget}s to check.
+     * @param now        The time at which the {@link Trigger} must be active.
+     * @return The {@link Set} of the {@link org.eclipse.kapua.service.job.Job#getId()}s which have an active {@link Trigger}.
+     * @throws Exception If the {@link Trigger}s cannot be queried.
+     * @since 2.1.0
+     */
+    private Set<KapuaId> findJobIdsWithActiveTrigger(KapuaId scopeId, List<JobTarget> jobTargets, Date now) throws Exception {
+        List<String> jobCompactIds = jobTargets.stream()
+                .map(jt -> jt.getJobId().toCompactId())
+                .distinct()
+                .collect(Collectors.toList());
+
+        TriggerQuery triggerQuery = triggerFactory.newQuery(scopeId);
+
+        triggerQuery.setPredicate(
+                triggerQuery.andPredicate(
+                        triggerQuery.attributePredicate(TriggerAttributes.TRIGGER_DEFINITION_ID, deviceConnectTriggerIndex.getTriggerDefinitionId()),
+                        triggerQuery.attributePredicate(TriggerAttributes.TRIGGER_PROPERTIES_TYPE, KapuaId.class.getName()),
+                        triggerQuery.attributePredicate(TriggerAttributes.TRIGGER_PROPERTIES_VALUE, jobCompactIds),
+                        triggerQuery.attributePredicate(TriggerAttributes.STARTS_ON, now, AttributePredicate.Operator.LESS_THAN),
+                        triggerQuery.orPredicate(
+                                triggerQuery.attributePredicate(TriggerAttributes.ENDS_ON, null),
+                                triggerQuery.attributePredicate(TriggerAttributes.ENDS_ON, now, AttributePredicate.Operator.GREATER_THAN)
+                        )
+                )
+        );
+
+        TriggerListResult jobTriggers = KapuaSecurityUtils.doPrivileged(() -> triggerService.query(triggerQuery));
+
+        Set<KapuaId> jobIds = new HashSet<>();
+        for (Trigger trigger : jobTriggers.getItems()) {
+            KapuaId jobId = DeviceConnectTriggerIndex.getJobId(trigger);
+            if (jobId != null) {
+                jobIds.add(jobId);
+            }
         }
-        return deviceConnectTrigger;
+        return jobIds;
     }
 }
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.job.scheduler.internal.setting;
+
+import org.eclipse.kapua.commons.setting.SettingKey;
+
+/**
+ * {@link SettingKey}s for {@link DeviceManagementJobSchedulerSettings}.
+ *
+ * @since 2.1.0
+ */
+public enum DeviceManagementJobSchedulerSettingKeys implements SettingKey {
+
+    /**
+     * Maximum age in milliseconds of the in-memory index of the "Device Connect" triggers.
+     * <p>
+     * The index is also reloaded when a trigger is created, updated or deleted, so this bounds how long a change can go unnoticed
+     * when its {@link org.eclipse.kapua.event.ServiceEvent} is not received.
+     *
+     * @since 2.1.0
+     */
+    DEVICE_CONNECT_TRIGGER_INDEX_REFRESH_INTERVAL("deviceManagement.job.scheduler.deviceConnectTrigger.index.refreshInterval");
+
+    /**
+     * The key value of the {@link SettingKey}.
+     *
+     * @since 2.1.0
+     */
+    private final String key;
+
+    /**
+     * Constructor.
+     *
+     * @param key The key value of the {@link SettingKey}.
+     * @since 2.1.0
+     */
+    DeviceManagementJobSchedulerSettingKeys(String key) {
+        this.key = key;
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+}
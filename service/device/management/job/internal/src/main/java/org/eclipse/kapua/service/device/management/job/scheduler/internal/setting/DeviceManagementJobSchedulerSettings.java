@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.job.scheduler.internal.setting;
+
+import org.eclipse.kapua.commons.setting.AbstractKapuaSetting;
+
+/**
+ * {@link AbstractKapuaSetting} for the job scheduling of the {@code kapua-device-management-job-internal} module.
+ *
+ * @see AbstractKapuaSetting
+ * @since 2.1.0
+ */
+public class DeviceManagementJobSchedulerSettings extends AbstractKapuaSetting<DeviceManagementJobSchedulerSettingKeys> {
+
+    /**
+     * Setting filename.
+     *
+     * @since 2.1.0
+     */
+    private static final String DEVICE_MANAGEMENT_JOB_SCHEDULER_SETTING_RESOURCE = "device-management-job-scheduler-settings.properties";
+
+    /**
+     * Constructor.
+     *
+     * @since 2.1.0
+     */
+    public DeviceManagementJobSchedulerSettings() {
+        super(DEVICE_MANAGEMENT_JOB_SCHEDULER_SETTING_RESOURCE);
+    }
+
+}
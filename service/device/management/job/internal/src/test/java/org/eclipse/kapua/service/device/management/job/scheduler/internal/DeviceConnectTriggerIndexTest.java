@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.job.scheduler.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaQuery;
+import org.eclipse.kapua.service.device.management.job.scheduler.internal.setting.DeviceManagementJobSchedulerSettingKeys;
+import org.eclipse.kapua.service.device.management.job.scheduler.internal.setting.DeviceManagementJobSchedulerSettings;
+import org.eclipse.kapua.service.scheduler.trigger.Trigger;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerFactory;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerListResult;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerQuery;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerService;
+import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinition;
+import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinitionService;
+import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceConnectTriggerIndexTest {
+
+    private static final long REFRESH_INTERVAL = 30_000L;
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId OTHER_SCOPE_ID = new KapuaEid(BigInteger.valueOf(2));
+    private static final KapuaId JOB_ID = new KapuaEid(BigInteger.TEN);
+    private static final KapuaId OTHER_JOB_ID = new KapuaEid(BigInteger.valueOf(11));
+
+    private final Date now = new Date();
+    private final List<Trigger> storedTriggers = new ArrayList<>();
+
+    private TriggerService triggerService;
+    private DeviceConnectTriggerIndex instance;
+
+    @BeforeEach
+    public void setUp() throws KapuaException {
+        TriggerDefinition triggerDefinition = Mockito.mock(TriggerDefinition.class);
+        Mockito.when(triggerDefinition.getId()).thenReturn(KapuaId.ONE);
+        TriggerDefinitionService triggerDefinitionService = Mockito.mock(TriggerDefinitionService.class);
+        Mockito.when(triggerDefinitionService.findByName(DeviceConnectTriggerIndex.DEVICE_CONNECT_TRIGGER_DEFINITION_NAME)).thenReturn(triggerDefinition);
+
+        TriggerFactory triggerFactory = Mockito.mock(TriggerFactory.class);
+        Mockito.when(triggerFactory.newQuery(KapuaId.ANY)).thenAnswer(invocation -> Mockito.mock(TriggerQuery.class));
+
+        triggerService = Mockito.mock(TriggerService.class);
+        Mockito.when(triggerService.query(Mockito.<KapuaQuery>any())).thenAnswer(invocation -> storedTriggersResult());
+
+        DeviceManagementJobSchedulerSettings settings = Mockito.mock(DeviceManagementJobSchedulerSettings.class);
+        Mockito.when(settings.getLong(DeviceManagementJobSchedulerSettingKeys.DEVICE_CONNECT_TRIGGER_INDEX_REFRESH_INTERVAL)).thenReturn(REFRESH_INTERVAL);
+
+        instance = new DeviceConnectTriggerIndex(triggerDefinitionService, triggerService, triggerFactory, settings);
+    }
+
+    @Test
+    public void activeJobIdsTest() throws KapuaException {
+        storeTrigger(SCOPE_ID, JOB_ID, new Date(now.getTime() - 1000), null);
+        storeTrigger(SCOPE_ID, OTHER_JOB_ID, new Date(now.getTime() + 1000), null);
+        storeTrigger(OTHER_SCOPE_ID, OTHER_JOB_ID, new Date(now.getTime() - 1000), new Date(now.getTime() + 1000));
+
+        Assertions.assertEquals(Collections.singleton(JOB_ID), instance.getActiveJobIds(SCOPE_ID, now));
+        Assertions.assertEquals(Collections.singleton(OTHER_JOB_ID), instance.getActiveJobIds(OTHER_SCOPE_ID, now));
+        Assertions.assertEquals(Collections.emptySet(), instance.getActiveJobIds(new KapuaEid(BigInteger.valueOf(3)), now));
+    }
+
+    @Test
+    public void indexReusedWithinRefreshIntervalTest() throws KapuaException {
+        storeTrigger(SCOPE_ID, JOB_ID, new Date(now.getTime() - 1000), null);
+        instance.getActiveJobIds(SCOPE_ID, now);
+
+        storeTrigger(SCOPE_ID, OTHER_JOB_ID, new Date(now.getTime() - 1000), null);
+
+        Assertions.assertEquals(Collections.singleton(JOB_ID), instance.getActiveJobIds(SCOPE_ID, new Date(now.getTime() + REFRESH_INTERVAL)));
+        Mockito.verify(triggerService, Mockito.times(1)).query(Mockito.<KapuaQuery>any());
+    }
+
+    @Test
+    public void indexReloadedAfterRefreshIntervalTest() throws KapuaException {
+        storeTrigger(SCOPE_ID, JOB_ID, new Date(now.getTime() - 1000), null);
+        instance.getActiveJobIds(SCOPE_ID, now);
+
+        storeTrigger(SCOPE_ID, OTHER_JOB_ID, new Date(now.getTime() - 1000), null);
+
+        Assertions.assertEquals(jobIds(JOB_ID, OTHER_JOB_ID), instance.getActiveJobIds(SCOPE_ID, new Date(now.getTime() + REFRESH_INTERVAL + 1)));
+        Mockito.verify(triggerService, Mockito.times(2)).query(Mockito.<KapuaQuery>any());
+    }
+
+    @Test
+    public void indexReloadedOnTriggerEventTest() throws KapuaException {
+        storeTrigger(SCOPE_ID, JOB_ID, new Date(now.getTime() - 1000), null);
+        instance.getActiveJobIds(SCOPE_ID, now);
+
+        storeTrigger(SCOPE_ID, OTHER_JOB_ID, new Date(now.getTime() - 1000), null);
+        instance.onKapuaEvent(serviceEvent(TriggerService.class.getSimpleName()));
+
+        Assertions.assertEquals(jobIds(JOB_ID, OTHER_JOB_ID), instance.getActiveJobIds(SCOPE_ID, now));
+        Mockito.verify(triggerService, Mockito.times(2)).query(Mockito.<KapuaQuery>any());
+    }
+
+    @Test
+    public void otherServiceEventIgnoredTest() throws KapuaException {
+        storeTrigger(SCOPE_ID, JOB_ID, new Date(now.getTime() - 1000), null);
+        instance.getActiveJobIds(SCOPE_ID, now);
+
+        instance.onKapuaEvent(serviceEvent("TriggerDefinitionService"));
+        instance.getActiveJobIds(SCOPE_ID, now);
+
+        Mockito.verify(triggerService, Mockito.times(1)).query(Mockito.<KapuaQuery>any());
+    }
+
+    @Test
+    public void previousIndexReadDuringReloadTest() throws Exception {
+        storeTrigger(SCOPE_ID, JOB_ID, new Date(now.getTime() - 1000), null);
+        instance.getActiveJobIds(SCOPE_ID, now);
+
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch reloadReleased = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            reloadStarted.countDown();
+            reloadReleased.await(10, TimeUnit.SECONDS);
+            return storedTriggersResult();
+        }).when(triggerService).query(Mockito.<KapuaQuery>any());
+        storeTrigger(SCOPE_ID, OTHER_JOB_ID, new Date(now.getTime() - 1000), null);
+        instance.invalidate();
+
+        AtomicReference<Set<KapuaId>> reloadedJobIds = new AtomicReference<>();
+        Thread reloadingThread = new Thread(() -> {
+            try {
+                reloadedJobIds.set(instance.getActiveJobIds(SCOPE_ID, now));
+            } catch (KapuaException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        reloadingThread.start();
+        Assertions.assertTrue(reloadStarted.await(10, TimeUnit.SECONDS));
+
+        // While the other thread reloads, the previous index is returned without waiting
+        Set<KapuaId> jobIdsDuringReload = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> instance.getActiveJobIds(SCOPE_ID, now));
+        Assertions.assertEquals(Collections.singleton(JOB_ID), jobIdsDuringReload);
+
+        reloadReleased.countDown();
+        reloadingThread.join(10_000);
+
+        Assertions.assertEquals(jobIds(JOB_ID, OTHER_JOB_ID), reloadedJobIds.get());
+        Assertions.assertEquals(jobIds(JOB_ID, OTHER_JOB_ID), instance.getActiveJobIds(SCOPE_ID, now));
+    }
+
+    @Test
+    public void previousIndexKeptOnReloadErrorTest() throws KapuaException {
+        storeTrigger(SCOPE_ID, JOB_ID, new Date(now.getTime() - 1000), null);
+        instance.getActiveJobIds(SCOPE_ID, now);
+
+        Mockito.doThrow(KapuaException.internalError("query failed")).when(triggerService).query(Mockito.<KapuaQuery>any());
+        instance.invalidate();
+
+        Assertions.assertEquals(Collections.singleton(JOB_ID), instance.getActiveJobIds(SCOPE_ID, now));
+    }
+
+    private void storeTrigger(KapuaId scopeId, KapuaId jobId, Date startsOn, Date endsOn) {
+        TriggerProperty jobIdProperty = Mockito.mock(TriggerProperty.class);
+        Mockito.when(jobIdProperty.getPropertyValue()).thenReturn(jobId.toCompactId());
+
+        Trigger trigger = Mockito.mock(Trigger.class);
+        Mockito.when(trigger.getScopeId()).thenReturn(scopeId);
+        Mockito.when(trigger.getStartsOn()).thenReturn(startsOn);
+        Mockito.when(trigger.getEndsOn()).thenReturn(endsOn);
+        Mockito.when(trigger.getTriggerProperty(DeviceConnectTriggerIndex.JOB_ID_PROPERTY_NAME)).thenReturn(jobIdProperty);
+        storedTriggers.add(trigger);
+    }
+
+    private TriggerListResult storedTriggersResult() {
+        List<Trigger> triggers = new ArrayList<>(storedTriggers);
+
+        TriggerListResult triggerListResult = Mockito.mock(TriggerListResult.class);
+        Mockito.when(triggerListResult.getItems()).thenReturn(triggers);
+        Mockito.when(triggerListResult.getSize()).thenReturn(triggers.size());
+        return triggerListResult;
+    }
+
+    private ServiceEvent serviceEvent(String service) {
+        ServiceEvent serviceEvent = new ServiceEvent();
+        serviceEvent.setService(service);
+        serviceEvent.setOperation("create");
+        return serviceEvent;
+    }
+
+    private Set<KapuaId> jobIds(KapuaId... jobIds) {
+        Set<KapuaId> jobIdSet = new HashSet<>();
+        Collections.addAll(jobIdSet, jobIds);
+        return jobIdSet;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.kapua.model.query.SortOrder;
 import org.eclipse.kapua.service.device.management.message.notification.NotifyStatus;
 import org.eclipse.kapua.service.device.management.registry.manager.DeviceManagementRegistryManagerService;
 import org.eclipse.kapua.service.device.management.registry.manager.exception.ManagementOperationNotificationProcessingException;
+import org.eclipse.kapua.service.device.management.registry.manager.internal.ManagementOperationNotificationCoalescer.OperationNotifications;
 import org.eclipse.kapua.service.device.management.registry.operation.DeviceManagementOperation;
 import org.eclipse.kapua.service.device.management.registry.operation.DeviceManagementOperationProperty;
 import org.eclipse.kapua.service.device.management.registry.operation.DeviceManagementOperationRegistryService;
@@ -46,6 +47,7 @@ public class DeviceManagementRegistryManagerServiceImpl implements DeviceManagem
     private final DeviceManagementOperationRegistryService deviceManagementOperationRegistryService;
     private final ManagementOperationNotificationService managementOperationNotificationService;
     private final ManagementOperationNotificationFactory managementOperationNotificationFactory;
+    private final ManagementOperationNotificationCoalescer managementOperationNotificationCoalescer;
 
     private static final String LOG_MESSAGE_GENERATING = "Generating...";
 
@@ -53,10 +55,12 @@ public class DeviceManagementRegistryManagerServiceImpl implements DeviceManagem
     public DeviceManagementRegistryManagerServiceImpl(
             DeviceManagementOperationRegistryService deviceManagementOperationRegistryService,
             ManagementOperationNotificationService managementOperationNotificationService,
-            ManagementOperationNotificationFactory managementOperationNotificationFactory) {
+            ManagementOperationNotificationFactory managementOperationNotificationFactory,
+            ManagementOperationNotificationCoalescer managementOperationNotificationCoalescer) {
         this.deviceManagementOperationRegistryService = deviceManagementOperationRegistryService;
         this.managementOperationNotificationService = managementOperationNotificationService;
         this.managementOperationNotificationFactory = managementOperationNotificationFactory;
+        this.managementOperationNotificationCoalescer = managementOperationNotificationCoalescer;
     }
 
     @Override
@@ -101,17 +105,31 @@ public class DeviceManagementRegistryManagerServiceImpl implements DeviceManagem
     }
 
     public void storeManagementNotification(KapuaId scopeId, KapuaId operationId, Date updateOn, NotifyStatus notifyStatus, String resource, Integer progress, String message) throws KapuaException {
-        DeviceManagementOperation deviceManagementOperation = getDeviceManagementOperation(scopeId, operationId);
+        DeviceManagementOperationStatus status = DeviceManagementOperationStatus.readFrom(notifyStatus);
+
+        OperationNotifications operationNotifications = managementOperationNotificationCoalescer.get(operationId);
+        synchronized (operationNotifications) {
+            // Progress-only notifications are coalesced: only their message is kept, and persisted with the next notification
+            if (!operationNotifications.isToPersist(status, resource, progress)) {
+                LOG.debug("Coalesced notification of DeviceManagementOperation {} with status {} and progress {}", operationId, status, progress);
+                operationNotifications.coalesced(message);
+                return;
+            }
+
+            DeviceManagementOperation deviceManagementOperation = getDeviceManagementOperation(scopeId, operationId);
+
+            ManagementOperationNotificationCreator managementOperationNotificationCreator = managementOperationNotificationFactory.newCreator(scopeId);
+            managementOperationNotificationCreator.setOperationId(deviceManagementOperation.getId());
+            managementOperationNotificationCreator.setSentOn(updateOn);
+            managementOperationNotificationCreator.setStatus(status);
+            managementOperationNotificationCreator.setResource(resource);
+            managementOperationNotificationCreator.setProgress(progress);
+            managementOperationNotificationCreator.setMessage(operationNotifications.getMessageToPersist(message));
 
-        ManagementOperationNotificationCreator managementOperationNotificationCreator = managementOperationNotificationFactory.newCreator(scopeId);
-        managementOperationNotificationCreator.setOperationId(deviceManagementOperation.getId());
-        managementOperationNotificationCreator.setSentOn(updateOn);
-        managementOperationNotificationCreator.setStatus(DeviceManagementOperationStatus.readFrom(notifyStatus));
-        managementOperationNotificationCreator.setResource(resource);
-        managementOperationNotificationCreator.setProgress(progress);
-        managementOperationNotificationCreator.setMessage(message);
+            ManagementOperationNotification managementOperationNotification = managementOperationNotificationService.create(managementOperationNotificationCreator);
 
-        managementOperationNotificationService.create(managementOperationNotificationCreator);
+            operationNotifications.persisted(managementOperationNotification);
+        }
     }
 
     public void closeDeviceManagementOperation(KapuaId scopeId, KapuaId operationId, Date updateOn, NotifyStatus finalStatus, String message) throws KapuaException {
@@ -147,18 +165,28 @@ public class DeviceManagementRegistryManagerServiceImpl implements DeviceManagem
             }
         } while (failed);
 
-        {
-            ManagementOperationNotificationQuery query = managementOperationNotificationFactory.newQuery(scopeId);
-            query.setPredicate(query.attributePredicate(ManagementOperationNotificationAttributes.OPERATION_ID, deviceManagementOperation.getId()));
-            query.setSortCriteria(query.fieldSortCriteria(ManagementOperationNotificationAttributes.SENT_ON, SortOrder.ASCENDING));
+        StringBuilder logSb = new StringBuilder();
 
-            ManagementOperationNotificationListResult notifications = managementOperationNotificationService.query(query);
+        if (!LOG_MESSAGE_GENERATING.equals(deviceManagementOperation.getLog())) {
+            logSb.append(deviceManagementOperation.getLog()).append("\n");
+        }
+
+        ManagementOperationNotificationQuery query = managementOperationNotificationFactory.newQuery(scopeId);
+        query.setPredicate(query.attributePredicate(ManagementOperationNotificationAttributes.OPERATION_ID, deviceManagementOperation.getId()));
 
-            StringBuilder logSb = new StringBuilder();
+        // When all the persisted notifications have been received by this node the log has already been built along with them.
+        // Otherwise, some notifications were received by other nodes or were evicted, and the log is built from the persisted ones.
+        OperationNotifications operationNotifications = managementOperationNotificationCoalescer.remove(operationId);
+        if (operationNotifications != null && operationNotifications.getPersistedNotificationIds().size() == managementOperationNotificationService.count(query)) {
+            logSb.append(operationNotifications.getLog());
 
-            if (!LOG_MESSAGE_GENERATING.equals(deviceManagementOperation.getLog())) {
-                logSb.append(deviceManagementOperation.getLog()).append("\n");
+            for (KapuaId notificationId : operationNotifications.getPersistedNotificationIds()) {
+                managementOperationNotificationService.delete(scopeId, notificationId);
             }
+        } else {
+            query.setSortCriteria(query.fieldSortCriteria(ManagementOperationNotificationAttributes.SENT_ON, SortOrder.ASCENDING));
+
+            ManagementOperationNotificationListResult notifications = managementOperationNotificationService.query(query);
 
             for (ManagementOperationNotification mon : notifications.getItems()) {
                 if (!Strings.isNullOrEmpty(mon.getMessage())) {
@@ -166,10 +194,15 @@ public class DeviceManagementRegistryManagerServiceImpl implements DeviceManagem
                 }
                 managementOperationNotificationService.delete(mon.getScopeId(), mon.getId());
             }
+        }
 
-            deviceManagementOperation.setLog(logSb.toString());
-            deviceManagementOperationRegistryService.update(deviceManagementOperation);
+        // Coalesced after the last persisted notification, when the operation is closed without a final notification
+        if (operationNotifications != null) {
+            operationNotifications.appendCoalescedLog(logSb, updateOn);
         }
+
+        deviceManagementOperation.setLog(logSb.toString());
+        deviceManagementOperationRegistryService.update(deviceManagementOperation);
     }
 
     public DeviceManagementOperation getDeviceManagementOperation(KapuaId scopeId, KapuaId operationId) throws KapuaException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,16 @@ import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.domain.Domain;
 import org.eclipse.kapua.model.domain.DomainEntry;
 import org.eclipse.kapua.service.device.management.registry.manager.DeviceManagementRegistryManagerService;
+import org.eclipse.kapua.service.device.management.registry.manager.internal.setting.DeviceManagementRegistrySetting;
+
+import javax.inject.Singleton;
 
 public class DeviceManagementRegistryModule extends AbstractKapuaModule {
     @Override
     protected void configureModule() {
         bind(DeviceManagementRegistryManagerService.class).to(DeviceManagementRegistryManagerServiceImpl.class);
+        bind(DeviceManagementRegistrySetting.class).in(Singleton.class);
+        bind(ManagementOperationNotificationCoalescer.class).in(Singleton.class);
     }
 
     @ProvidesIntoSet
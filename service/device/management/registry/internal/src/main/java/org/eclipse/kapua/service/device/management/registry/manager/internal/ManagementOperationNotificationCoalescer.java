@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.registry.manager.internal;
+
+import com.google.common.base.Strings;
+import org.eclipse.kapua.commons.cache.ExpiryPolicy;
+import org.eclipse.kapua.commons.cache.LocalCache;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.management.registry.manager.internal.setting.DeviceManagementRegistrySetting;
+import org.eclipse.kapua.service.device.management.registry.manager.internal.setting.DeviceManagementRegistrySettingKeys;
+import org.eclipse.kapua.service.device.management.registry.operation.DeviceManagementOperation;
+import org.eclipse.kapua.service.device.management.registry.operation.DeviceManagementOperationStatus;
+import org.eclipse.kapua.service.device.management.registry.operation.notification.ManagementOperationNotification;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local state of the open {@link DeviceManagementOperation}s, used to coalesce their {@link ManagementOperationNotification}s.
+ * <p>
+ * A {@link ManagementOperationNotification} is persisted only when its status or resource changes, or when its progress has increased by
+ * {@link DeviceManagementRegistrySettingKeys#NOTIFICATION_PROGRESS_STEP} or has not been persisted for {@link DeviceManagementRegistrySettingKeys#NOTIFICATION_PROGRESS_INTERVAL}.
+ * The messages of the coalesced {@link ManagementOperationNotification}s are persisted along with the next persisted one,
+ * so that the {@link DeviceManagementOperation#getLog()} can be rebuilt from the persisted {@link ManagementOperationNotification}s.
+ * <p>
+ * The messages coalesced since the last persisted {@link ManagementOperationNotification} live only on this node.
+ * They are lost if the {@link DeviceManagementOperation} is evicted, or if its later {@link ManagementOperationNotification}s and its closing are handled by other nodes.
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class ManagementOperationNotificationCoalescer {
+
+    private final LocalCache<KapuaId, OperationNotifications> operationNotificationsCache;
+    private final int progressStep;
+    private final long progressIntervalMillis;
+
+    @Inject
+    public ManagementOperationNotificationCoalescer(DeviceManagementRegistrySetting deviceManagementRegistrySetting) {
+        this(
+                deviceManagementRegistrySetting.getInt(DeviceManagementRegistrySettingKeys.NOTIFICATION_PROGRESS_STEP, 10),
+                deviceManagementRegistrySetting.getInt(DeviceManagementRegistrySettingKeys.NOTIFICATION_PROGRESS_INTERVAL, 30),
+                deviceManagementRegistrySetting.getInt(DeviceManagementRegistrySettingKeys.NOTIFICATION_CACHE_SIZE_MAX, 10000),
+                deviceManagementRegistrySetting.getInt(DeviceManagementRegistrySettingKeys.NOTIFICATION_CACHE_TTL, 3600)
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param progressStep           The progress increase, in percent, after which a {@link ManagementOperationNotification} is persisted.
+     * @param progressIntervalSecond The seconds after which a {@link ManagementOperationNotification} is persisted.
+     * @param sizeMax                The maximum number of {@link DeviceManagementOperation}s tracked.
+     * @param expireAfterSeconds     The seconds after which an idle {@link DeviceManagementOperation} is no longer tracked.
+     * @since 2.1.0
+     */
+    public ManagementOperationNotificationCoalescer(int progressStep, int progressIntervalSecond, int sizeMax, int expireAfterSeconds) {
+        this.progressStep = progressStep;
+        this.progressIntervalMillis = TimeUnit.SECONDS.toMillis(progressIntervalSecond);
+        this.operationNotificationsCache = new LocalCache<>(sizeMax, expireAfterSeconds, ExpiryPolicy.TOUCHED, null);
+    }
+
+    /**
+     * Gets the {@link OperationNotifications} of the given {@link DeviceManagementOperation}, starting to track it if needed.
+     *
+     * @param operationId The {@link DeviceManagementOperation#getOperationId()}.
+     * @return The {@link OperationNotifications}.
+     * @since 2.1.0
+     */
+    public synchronized OperationNotifications get(KapuaId operationId) {
+        KapuaId key = KapuaEid.parseKapuaId(operationId);
+
+        OperationNotifications operationNotifications = operationNotificationsCache.get(key);
+        if (operationNotifications == null) {
+            operationNotifications = new OperationNotifications();
+            operationNotificationsCache.put(key, operationNotifications);
+        }
+        return operationNotifications;
+    }
+
+    /**
+     * Stops tracking the given {@link DeviceManagementOperation}.
+     *
+     * @param operationId The {@link DeviceManagementOperation#getOperationId()}.
+     * @return The {@link OperationNotifications}, or {@code null} if the {@link DeviceManagementOperation} was not tracked.
+     * @since 2.1.0
+     */
+    public synchronized OperationNotifications remove(KapuaId operationId) {
+        return operationNotificationsCache.getAndRemove(KapuaEid.parseKapuaId(operationId));
+    }
+
+    /**
+     * The {@link ManagementOperationNotification}s received by this node for a {@link DeviceManagementOperation}.
+     * <p>
+     * Callers must synchronize on it while processing a {@link ManagementOperationNotification}.
+     *
+     * @since 2.1.0
+     */
+    public class OperationNotifications {
+
+        private final List<KapuaId> persistedNotificationIds = new ArrayList<>();
+        private final List<String> coalescedMessages = new ArrayList<>();
+        private final StringBuilder log = new StringBuilder();
+
+        private DeviceManagementOperationStatus lastPersistedStatus;
+        private String lastPersistedResource;
+        private int lastPersistedProgress;
+        private long lastPersistedOn;
+
+        private OperationNotifications() {
+        }
+
+        /**
+         * Checks whether the given {@link ManagementOperationNotification} needs to be persisted.
+         *
+         * @param status   The {@link ManagementOperationNotification#getStatus()}.
+         * @param resource The {@link ManagementOperationNotification#getResource()}.
+         * @param progress The {@link ManagementOperationNotification#getProgress()}.
+         * @return {@code true} if it needs to be persisted, {@code false} if it can be coalesced in the last persisted one.
+         * @since 2.1.0
+         */
+        public boolean isToPersist(DeviceManagementOperationStatus status, String resource, Integer progress) {
+            return persistedNotificationIds.isEmpty() ||
+                    status != lastPersistedStatus ||
+                    !Objects.equals(resource, lastPersistedResource) ||
+                    progress == null ||
+                    progress - lastPersistedProgress >= progressStep ||
+                    System.currentTimeMillis() - lastPersistedOn >= progressIntervalMillis;
+        }
+
+        /**
+         * Records a coalesced {@link ManagementOperationNotification}, whose message is persisted along with the next persisted one.
+         *
+         * @param message The {@link ManagementOperationNotification#getMessage()}.
+         * @since 2.1.0
+         */
+        public void coalesced(String message) {
+            if (!Strings.isNullOrEmpty(message)) {
+                coalescedMessages.add(message);
+            }
+        }
+
+        /**
+         * Gets the {@link ManagementOperationNotification#getMessage()} to persist, made of the coalesced messages followed by the given one.
+         *
+         * @param message The {@link ManagementOperationNotification#getMessage()} of the {@link ManagementOperationNotification} to persist.
+         * @return The {@link ManagementOperationNotification#getMessage()} to persist, or {@code null} if there is none.
+         * @since 2.1.0
+         */
+        public String getMessageToPersist(String message) {
+            List<String> messages = new ArrayList<>(coalescedMessages);
+            if (!Strings.isNullOrEmpty(message)) {
+                messages.add(message);
+            }
+            return messages.isEmpty() ? null : String.join("\n", messages);
+        }
+
+        /**
+         * Records a persisted {@link ManagementOperationNotification} and appends its message to the {@link DeviceManagementOperation#getLog()} lines.
+         *
+         * @param managementOperationNotification The persisted {@link ManagementOperationNotification}.
+         * @since 2.1.0
+         */
+        public void persisted(ManagementOperationNotification managementOperationNotification) {
+            persistedNotificationIds.add(managementOperationNotification.getId());
+            lastPersistedStatus = managementOperationNotification.getStatus();
+            lastPersistedResource = managementOperationNotification.getResource();
+            lastPersistedProgress = managementOperationNotification.getProgress() != null ? managementOperationNotification.getProgress() : 0;
+            lastPersistedOn = System.currentTimeMillis();
+
+            coalescedMessages.clear();
+            appendLog(managementOperationNotification.getSentOn(), managementOperationNotification.getMessage());
+        }
+
+        /**
+         * Appends the messages coalesced since the last persisted {@link ManagementOperationNotification} to the given {@link DeviceManagementOperation#getLog()} lines.
+         *
+         * @param logSb  The {@link DeviceManagementOperation#getLog()} lines.
+         * @param sentOn The date of the line.
+         * @since 2.1.0
+         */
+        public void appendCoalescedLog(StringBuilder logSb, Date sentOn) {
+            if (!coalescedMessages.isEmpty()) {
+                logSb.append(sentOn).append(" - ").append(String.join("\n", coalescedMessages)).append("\n");
+            }
+        }
+
+        private void appendLog(Date sentOn, String message) {
+            if (!Strings.isNullOrEmpty(message)) {
+                log.append(sentOn).append(" - ").append(message).append("\n");
+            }
+        }
+
+        /**
+         * Gets the {@link ManagementOperationNotification#getId()}s persisted by this node.
+         *
+         * @return The persisted {@link ManagementOperationNotification#getId()}s.
+         * @since 2.1.0
+         */
+        public List<KapuaId> getPersistedNotificationIds() {
+            return Collections.unmodifiableList(persistedNotificationIds);
+        }
+
+        /**
+         * Gets the {@link DeviceManagementOperation#getLog()} lines of the {@link ManagementOperationNotification}s persisted by this node.
+         *
+         * @return The {@link DeviceManagementOperation#getLog()} lines.
+         * @since 2.1.0
+         */
+        public String getLog() {
+            return log.toString();
+        }
+    }
+}
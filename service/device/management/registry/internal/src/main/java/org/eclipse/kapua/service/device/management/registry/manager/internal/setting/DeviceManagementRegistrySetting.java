@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.registry.manager.internal.setting;
+
+import org.eclipse.kapua.commons.setting.AbstractKapuaSetting;
+
+/**
+ * {@link org.eclipse.kapua.service.device.management.registry.manager.DeviceManagementRegistryManagerService} {@link AbstractKapuaSetting}s
+ *
+ * @since 2.1.0
+ */
+public class DeviceManagementRegistrySetting extends AbstractKapuaSetting<DeviceManagementRegistrySettingKeys> {
+
+    /**
+     * Resource file from which source properties.
+     */
+    private static final String DEVICE_MANAGEMENT_REGISTRY_SETTING_RESOURCE = "device-management-registry-setting.properties";
+
+    /**
+     * Initialize the {@link AbstractKapuaSetting} with the {@link DeviceManagementRegistrySetting#DEVICE_MANAGEMENT_REGISTRY_SETTING_RESOURCE} value.
+     */
+    public DeviceManagementRegistrySetting() {
+        super(DEVICE_MANAGEMENT_REGISTRY_SETTING_RESOURCE);
+    }
+}
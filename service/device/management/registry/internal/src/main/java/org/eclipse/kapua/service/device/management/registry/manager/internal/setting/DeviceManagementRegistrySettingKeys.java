@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.registry.manager.internal.setting;
+
+import org.eclipse.kapua.commons.setting.SettingKey;
+
+/**
+ * {@link DeviceManagementRegistrySetting} {@link SettingKey}s
+ *
+ * @since 2.1.0
+ */
+public enum DeviceManagementRegistrySettingKeys implements SettingKey {
+
+    /**
+     * The progress increase, in percent, after which a progress notification of the same status and resource is persisted.
+     *
+     * @since 2.1.0
+     */
+    NOTIFICATION_PROGRESS_STEP("device.management.registry.notification.progress.step"),
+
+    /**
+     * The seconds after which a progress notification of the same status and resource is persisted, even if the progress has not increased enough.
+     *
+     * @since 2.1.0
+     */
+    NOTIFICATION_PROGRESS_INTERVAL("device.management.registry.notification.progress.interval"),
+
+    /**
+     * The maximum number of operations whose notifications are coalesced at the same time.
+     *
+     * @since 2.1.0
+     */
+    NOTIFICATION_CACHE_SIZE_MAX("device.management.registry.notification.cache.size.max"),
+
+    /**
+     * The seconds after which the coalescing state of an operation which received no notifications is dropped.
+     *
+     * @since 2.1.0
+     */
+    NOTIFICATION_CACHE_TTL("device.management.registry.notification.cache.ttl");
+
+    private final String key;
+
+    /**
+     * Set up the {@code enum} with the key value provided
+     *
+     * @param key The value mapped by this {@link Enum} value
+     * @since 2.1.0
+     */
+    DeviceManagementRegistrySettingKeys(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the key for this {@link DeviceManagementRegistrySettingKeys}
+     *
+     * @since 2.1.0
+     */
+    @Override
+    public String key() {
+        return key;
+    }
+}
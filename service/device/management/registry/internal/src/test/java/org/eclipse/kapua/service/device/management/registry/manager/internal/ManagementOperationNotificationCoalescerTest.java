@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.management.registry.manager.internal;
+
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.management.registry.manager.internal.ManagementOperationNotificationCoalescer.OperationNotifications;
+import org.eclipse.kapua.service.device.management.registry.operation.DeviceManagementOperationStatus;
+import org.eclipse.kapua.service.device.management.registry.operation.notification.ManagementOperationNotification;
+import org.eclipse.kapua.service.device.management.registry.operation.notification.internal.ManagementOperationNotificationImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Date;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class ManagementOperationNotificationCoalescerTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId OPERATION_ID = new KapuaEid(BigInteger.TEN);
+    private static final Date SENT_ON = new Date(0);
+
+    private ManagementOperationNotificationCoalescer instance;
+
+    @BeforeEach
+    public void setUp() {
+        instance = new ManagementOperationNotificationCoalescer(10, 3600, 100, 3600);
+    }
+
+    @Test
+    public void firstNotificationIsPersisted() {
+        Assertions.assertTrue(instance.get(OPERATION_ID).isToPersist(DeviceManagementOperationStatus.RUNNING, "resource", 0));
+    }
+
+    @Test
+    public void progressIsCoalesced() {
+        OperationNotifications operationNotifications = instance.get(OPERATION_ID);
+        operationNotifications.persisted(newNotification(1, DeviceManagementOperationStatus.RUNNING, "resource", 20, "started"));
+
+        // Progress below the step with the same status and resource
+        Assertions.assertFalse(operationNotifications.isToPersist(DeviceManagementOperationStatus.RUNNING, "resource", 29));
+        // Progress step reached
+        Assertions.assertTrue(operationNotifications.isToPersist(DeviceManagementOperationStatus.RUNNING, "resource", 30));
+        // Status, resource or progress changes
+        Assertions.assertTrue(operationNotifications.isToPersist(DeviceManagementOperationStatus.COMPLETED, "resource", 25));
+        Assertions.assertTrue(operationNotifications.isToPersist(DeviceManagementOperationStatus.RUNNING, "other", 25));
+        Assertions.assertTrue(operationNotifications.isToPersist(DeviceManagementOperationStatus.RUNNING, "resource", null));
+    }
+
+    @Test
+    public void progressIntervalIsPersisted() {
+        ManagementOperationNotificationCoalescer noIntervalInstance = new ManagementOperationNotificationCoalescer(10, 0, 100, 3600);
+
+        OperationNotifications operationNotifications = noIntervalInstance.get(OPERATION_ID);
+        operationNotifications.persisted(newNotification(1, DeviceManagementOperationStatus.RUNNING, "resource", 20, null));
+
+        Assertions.assertTrue(operationNotifications.isToPersist(DeviceManagementOperationStatus.RUNNING, "resource", 21));
+    }
+
+    @Test
+    public void coalescedMessagesArePersistedWithNextNotification() {
+        OperationNotifications operationNotifications = instance.get(OPERATION_ID);
+        operationNotifications.persisted(newNotification(1, DeviceManagementOperationStatus.RUNNING, "resource", 0, "started"));
+
+        operationNotifications.coalesced("downloaded 1");
+        operationNotifications.coalesced(null);
+        operationNotifications.coalesced("downloaded 2");
+
+        String messageToPersist = operationNotifications.getMessageToPersist("downloaded 3");
+        Assertions.assertEquals("downloaded 1\ndownloaded 2\ndownloaded 3", messageToPersist);
+
+        operationNotifications.persisted(newNotification(2, DeviceManagementOperationStatus.RUNNING, "resource", 30, messageToPersist));
+
+        // The coalesced messages are now persisted
+        Assertions.assertNull(operationNotifications.getMessageToPersist(null));
+        Assertions.assertEquals(Arrays.asList(new KapuaEid(BigInteger.ONE), new KapuaEid(BigInteger.valueOf(2))), operationNotifications.getPersistedNotificationIds());
+        // One line for each persisted notification, as rebuilt from the persisted notifications
+        Assertions.assertEquals(
+                SENT_ON + " - started\n" +
+                        SENT_ON + " - downloaded 1\ndownloaded 2\ndownloaded 3\n",
+                operationNotifications.getLog());
+    }
+
+    @Test
+    public void coalescedMessagesAreAppendedOnClose() {
+        OperationNotifications operationNotifications = instance.get(OPERATION_ID);
+        operationNotifications.persisted(newNotification(1, DeviceManagementOperationStatus.RUNNING, "resource", 0, null));
+
+        StringBuilder logSb = new StringBuilder();
+        operationNotifications.appendCoalescedLog(logSb, SENT_ON);
+        Assertions.assertEquals("", logSb.toString());
+
+        operationNotifications.coalesced("downloaded 1");
+        operationNotifications.coalesced("downloaded 2");
+        operationNotifications.appendCoalescedLog(logSb, SENT_ON);
+        Assertions.assertEquals(SENT_ON + " - downloaded 1\ndownloaded 2\n", logSb.toString());
+    }
+
+    @Test
+    public void removeStopsTracking() {
+        OperationNotifications operationNotifications = instance.get(OPERATION_ID);
+        Assertions.assertSame(operationNotifications, instance.get(OPERATION_ID));
+
+        Assertions.assertSame(operationNotifications, instance.remove(OPERATION_ID));
+        Assertions.assertNull(instance.remove(OPERATION_ID));
+        Assertions.assertNotSame(operationNotifications, instance.get(OPERATION_ID));
+    }
+
+    private static ManagementOperationNotification newNotification(long id, DeviceManagementOperationStatus status, String resource, Integer progress, String message) {
+        ManagementOperationNotificationImpl managementOperationNotification = new ManagementOperationNotificationImpl(SCOPE_ID);
+        managementOperationNotification.setId(new KapuaEid(BigInteger.valueOf(id)));
+        managementOperationNotification.setOperationId(OPERATION_ID);
+        managementOperationNotification.setSentOn(SENT_ON);
+        managementOperationNotification.setStatus(status);
+        managementOperationNotification.setResource(resource);
+        managementOperationNotification.setProgress(progress);
+        managementOperationNotification.setMessage(message);
+        return managementOperationNotification;
+    }
+}
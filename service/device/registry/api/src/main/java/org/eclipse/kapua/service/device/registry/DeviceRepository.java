@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,11 @@ package org.eclipse.kapua.service.device.registry;
 
 import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
 import org.eclipse.kapua.storage.KapuaUpdatableEntityRepository;
 import org.eclipse.kapua.storage.TxContext;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface DeviceRepository extends
@@ -24,4 +26,17 @@ public interface DeviceRepository extends
     Optional<Device> findByClientId(TxContext tx, KapuaId scopeId, String clientId) throws KapuaException;
 
     Optional<Device> findForUpdate(TxContext tx, KapuaId scopeId, KapuaId deviceId);
+
+    /**
+     * Sets each of the given {@link DeviceEvent}s as {@link Device#getLastEventId()} of its {@link Device}, without loading the {@link Device}s.
+     * <p>
+     * A {@link Device} is not updated if its current {@link Device#getLastEvent()} has been received after the given {@link DeviceEvent},
+     * or if it has been changed concurrently.
+     *
+     * @param tx         The {@link TxContext}.
+     * @param lastEvents The {@link DeviceEvent}s to set, at most one for each {@link Device}.
+     * @return The number of updated {@link Device}s.
+     * @since 2.1.0
+     */
+    int updateLastEvents(TxContext tx, List<DeviceEvent> lastEvents);
 }
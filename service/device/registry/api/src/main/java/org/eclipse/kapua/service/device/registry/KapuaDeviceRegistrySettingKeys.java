@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,45 @@ public enum KapuaDeviceRegistrySettingKeys implements SettingKey {
      */
     DEVICE_CONNECTION_AUTHENTICATION_TYPE_DEFAULT("device.connection.authentication.type.default"),
 
+    /**
+     * Gets the interval in milliseconds between two writes of the pending {@link Device#getLastEventId()}s.
+     *
+     * @since 2.1.0
+     */
+    DEVICE_EVENT_LAST_EVENT_FLUSH_INTERVAL("device.event.lastEvent.flush.interval"),
+
+    /**
+     * Gets the maximum number of {@link Device#getLastEventId()}s written in a single transaction.
+     *
+     * @since 2.1.0
+     */
+    DEVICE_EVENT_LAST_EVENT_FLUSH_BATCH_SIZE("device.event.lastEvent.flush.batchSize"),
+
+    /**
+     * Gets the interval in milliseconds between two purges of the expired {@link org.eclipse.kapua.service.device.registry.event.DeviceEvent}s.
+     * <p>
+     * If {@code 0} or less the purge is disabled.
+     *
+     * @since 2.1.0
+     */
+    DEVICE_EVENT_PURGE_INTERVAL("device.event.purge.interval"),
+
+    /**
+     * Gets the maximum number of {@link org.eclipse.kapua.service.device.registry.event.DeviceEvent}s deleted in a single transaction.
+     *
+     * @since 2.1.0
+     */
+    DEVICE_EVENT_PURGE_BATCH_SIZE("device.event.purge.batchSize"),
+
+    /**
+     * Gets the margin in milliseconds added to the retention of the {@link org.eclipse.kapua.service.device.registry.event.DeviceEvent}s before purging them.
+     * <p>
+     * It covers the clock differences between instances and the {@link org.eclipse.kapua.service.device.registry.event.DeviceEvent}s still being written as last event of their device.
+     *
+     * @since 2.1.0
+     */
+    DEVICE_EVENT_PURGE_RECEIVED_ON_MARGIN("device.event.purge.receivedOnMargin"),
+
     ;
 
     private final String key;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,17 @@ public interface DeviceConnectionService extends KapuaEntityService<DeviceConnec
      */
     DeviceConnection findByClientId(KapuaId scopeId, String clientId) throws KapuaException;
 
+    /**
+     * Finds the {@link DeviceConnection}s by their {@link DeviceConnection#getId()}s, with a single query.
+     *
+     * @param scopeId             The {@link DeviceConnection#getScopeId()}.
+     * @param deviceConnectionIds The {@link DeviceConnection#getId()}s.
+     * @return The {@link DeviceConnectionListResult} with the {@link DeviceConnection}s found. {@link DeviceConnection#getId()}s not found are ignored.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    DeviceConnectionListResult findByIds(KapuaId scopeId, Set<KapuaId> deviceConnectionIds) throws KapuaException;
+
 
     /**
      * Returns the {@link DeviceConnectionListResult} with elements matching the provided query.
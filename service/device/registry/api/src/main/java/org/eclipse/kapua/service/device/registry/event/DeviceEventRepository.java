@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,8 +12,50 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.device.registry.event;
 
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.Device;
 import org.eclipse.kapua.storage.KapuaEntityRepository;
+import org.eclipse.kapua.storage.TxContext;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
 public interface DeviceEventRepository
         extends KapuaEntityRepository<DeviceEvent, DeviceEventListResult> {
+
+    /**
+     * Finds the distinct {@link DeviceEvent#getScopeId()}s which have at least one {@link DeviceEvent}.
+     *
+     * @param tx The {@link TxContext}.
+     * @return The {@link List} of scope {@link KapuaId}s.
+     * @since 2.1.0
+     */
+    List<KapuaId> findScopeIds(TxContext tx);
+
+    /**
+     * Finds the {@link DeviceEvent#getId()}s of the given scope received before the given date.
+     * <p>
+     * {@link DeviceEvent}s referenced as {@link Device#getLastEventId()}, or listed in the excluded {@link DeviceEvent#getId()}s, are never returned.
+     *
+     * @param tx             The {@link TxContext}.
+     * @param scopeId        The scope {@link KapuaId}.
+     * @param receivedBefore The {@link DeviceEvent#getReceivedOn()} upper bound, exclusive.
+     * @param excludedIds    The {@link DeviceEvent#getId()}s not to return.
+     * @param maxResults     The maximum number of {@link DeviceEvent#getId()}s to return.
+     * @return The {@link List} of expired {@link DeviceEvent#getId()}s, oldest first.
+     * @since 2.1.0
+     */
+    List<KapuaId> findExpiredIds(TxContext tx, KapuaId scopeId, Date receivedBefore, Collection<KapuaId> excludedIds, int maxResults);
+
+    /**
+     * Deletes the {@link DeviceEvent}s with the given {@link DeviceEvent#getId()}s.
+     *
+     * @param tx       The {@link TxContext}.
+     * @param scopeId  The scope {@link KapuaId}.
+     * @param eventIds The {@link DeviceEvent#getId()}s to delete.
+     * @return The number of deleted {@link DeviceEvent}s.
+     * @since 2.1.0
+     */
+    int deleteAll(TxContext tx, KapuaId scopeId, Collection<KapuaId> eventIds);
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,13 +15,15 @@ package org.eclipse.kapua.service.device.registry.event;
 import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.model.query.KapuaQuery;
 import org.eclipse.kapua.service.KapuaEntityService;
+import org.eclipse.kapua.service.config.KapuaConfigurableService;
 
 /**
  * {@link DeviceEventService} definition.
  *
  * @since 1.0.0
  */
-public interface DeviceEventService extends KapuaEntityService<DeviceEvent, DeviceEventCreator> {
+public interface DeviceEventService extends KapuaEntityService<DeviceEvent, DeviceEventCreator>,
+        KapuaConfigurableService {
 
     /**
      * Returns the {@link DeviceEventListResult} with elements matching the provided query.
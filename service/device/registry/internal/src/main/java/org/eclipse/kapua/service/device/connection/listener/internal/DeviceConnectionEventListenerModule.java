@@ -17,6 +17,7 @@ import com.google.inject.multibindings.ProvidesIntoSet;
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
 import org.eclipse.kapua.commons.core.ServiceModule;
 import org.eclipse.kapua.commons.event.ServiceEventHouseKeeperFactoryImpl;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreFactory;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
 import org.eclipse.kapua.commons.service.event.store.internal.EventStoreServiceImpl;
@@ -52,6 +53,7 @@ public class DeviceConnectionEventListenerModule extends AbstractKapuaModule imp
                                                                        EventStoreFactory eventStoreFactory,
                                                                        EventStoreRecordRepository eventStoreRecordRepository,
                                                                        ServiceEventBus serviceEventBus,
+                                                                       CommonsMetric commonsMetric,
                                                                        @Named("eventsModuleName") String eventModuleName
     ) throws ServiceEventBusException {
 
@@ -68,7 +70,8 @@ public class DeviceConnectionEventListenerModule extends AbstractKapuaModule imp
                                 eventStoreRecordRepository
                         ),
                         txManager,
-                        serviceEventBus
+                        serviceEventBus,
+                        commonsMetric
                 ),
                 serviceEventBus,
                 eventModuleName);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.kapua.commons.event.ServiceEventHouseKeeperFactoryImpl;
 import org.eclipse.kapua.commons.jpa.EventStorer;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreFactory;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
@@ -58,7 +59,9 @@ import org.eclipse.kapua.service.device.registry.event.DeviceEventRepository;
 import org.eclipse.kapua.service.device.registry.event.DeviceEventService;
 import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventFactoryImpl;
 import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventImplJpaRepository;
+import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventPurgeServiceModule;
 import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventServiceImpl;
+import org.eclipse.kapua.service.device.registry.event.internal.DeviceLastEventUpdater;
 import org.eclipse.kapua.service.device.registry.internal.CachingDeviceRepository;
 import org.eclipse.kapua.service.device.registry.internal.DeviceFactoryImpl;
 import org.eclipse.kapua.service.device.registry.internal.DeviceImplJpaRepository;
@@ -126,6 +129,7 @@ public class DeviceRegistryModule extends AbstractKapuaModule {
             EventStoreFactory eventStoreFactory,
             EventStoreRecordRepository eventStoreRecordRepository,
             ServiceEventBus serviceEventBus,
+            CommonsMetric commonsMetric,
             KapuaDeviceRegistrySettings kapuaDeviceRegistrySettings,
             KapuaJpaTxManagerFactory jpaTxManagerFactory,
             @Named("eventsModuleName") String eventModuleName
@@ -143,7 +147,8 @@ public class DeviceRegistryModule extends AbstractKapuaModule {
                                 eventStoreRecordRepository
                         ),
                         jpaTxManagerFactory.create("kapua-device"),
-                        serviceEventBus
+                        serviceEventBus,
+                        commonsMetric
                 ),
                 serviceEventBus,
                 eventModuleName);
@@ -258,19 +263,59 @@ public class DeviceRegistryModule extends AbstractKapuaModule {
     @Provides
     @Singleton
     protected DeviceEventService deviceEventService(
+            Map<Class<?>, ServiceConfigurationManager> serviceConfigurationManagersByServiceClass,
             AuthorizationService authorizationService,
             PermissionFactory permissionFactory,
             DeviceRepository deviceRepository,
             DeviceEventFactory entityFactory,
             DeviceEventRepository deviceEventRepository,
+            DeviceLastEventUpdater deviceLastEventUpdater,
             @Named("DeviceRegistryTransactionManager") TxManager txManager) {
         return new DeviceEventServiceImpl(
+                serviceConfigurationManagersByServiceClass.get(DeviceEventService.class),
                 authorizationService,
                 permissionFactory,
                 txManager,
                 deviceRepository,
                 entityFactory,
-                deviceEventRepository);
+                deviceEventRepository,
+                deviceLastEventUpdater);
+    }
+
+    @ProvidesIntoSet
+    ServiceModule deviceEventPurgeServiceModule(
+            Map<Class<?>, ServiceConfigurationManager> serviceConfigurationManagersByServiceClass,
+            KapuaDeviceRegistrySettings kapuaDeviceRegistrySettings,
+            DeviceEventRepository deviceEventRepository,
+            DeviceLastEventUpdater deviceLastEventUpdater,
+            @Named("DeviceRegistryTransactionManager") TxManager txManager) {
+        return new DeviceEventPurgeServiceModule(
+                serviceConfigurationManagersByServiceClass.get(DeviceEventService.class),
+                txManager,
+                deviceEventRepository,
+                deviceLastEventUpdater,
+                kapuaDeviceRegistrySettings.getLong(KapuaDeviceRegistrySettingKeys.DEVICE_EVENT_PURGE_INTERVAL),
+                kapuaDeviceRegistrySettings.getInt(KapuaDeviceRegistrySettingKeys.DEVICE_EVENT_PURGE_BATCH_SIZE),
+                kapuaDeviceRegistrySettings.getLong(KapuaDeviceRegistrySettingKeys.DEVICE_EVENT_PURGE_RECEIVED_ON_MARGIN));
+    }
+
+    @ProvidesIntoSet
+    ServiceModule deviceLastEventUpdaterServiceModule(DeviceLastEventUpdater deviceLastEventUpdater) {
+        // Started and stopped with the other ServiceModules, so that pending last events are written on shutdown
+        return deviceLastEventUpdater;
+    }
+
+    @Provides
+    @Singleton
+    protected DeviceLastEventUpdater deviceLastEventUpdater(
+            KapuaDeviceRegistrySettings kapuaDeviceRegistrySettings,
+            DeviceRepository deviceRepository,
+            @Named("DeviceRegistryTransactionManager") TxManager txManager) {
+        return new DeviceLastEventUpdater(
+                txManager,
+                deviceRepository,
+                kapuaDeviceRegistrySettings.getLong(KapuaDeviceRegistrySettingKeys.DEVICE_EVENT_LAST_EVENT_FLUSH_INTERVAL),
+                kapuaDeviceRegistrySettings.getInt(KapuaDeviceRegistrySettingKeys.DEVICE_EVENT_LAST_EVENT_FLUSH_BATCH_SIZE));
     }
 
     @Provides
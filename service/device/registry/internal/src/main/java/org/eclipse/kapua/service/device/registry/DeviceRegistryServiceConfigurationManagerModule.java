@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import javax.inject.Singleton;
 import org.eclipse.kapua.commons.configuration.AccountRelativeFinder;
 import org.eclipse.kapua.commons.configuration.CachingServiceConfigRepository;
 import org.eclipse.kapua.commons.configuration.ResourceBasedServiceConfigurationMetadataProvider;
+import org.eclipse.kapua.commons.configuration.ResourceLimitCounterJpaRepository;
 import org.eclipse.kapua.commons.configuration.ResourceLimitedServiceConfigurationManagerImpl;
 import org.eclipse.kapua.commons.configuration.RootUserTester;
 import org.eclipse.kapua.commons.configuration.ServiceConfigImplJpaRepository;
@@ -74,6 +75,7 @@ public class DeviceRegistryServiceConfigurationManagerModule extends AbstractKap
                         new UsedEntitiesCounterImpl(
                                 factory,
                                 deviceRepository),
+                        new ResourceLimitCounterJpaRepository(),
                         new ResourceBasedServiceConfigurationMetadataProvider(xmlUtil)
                 ));
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.device.registry.connection.internal;
 
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,6 +32,7 @@ import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.util.ArgumentValidator;
 import org.eclipse.kapua.event.RaiseServiceEvent;
 import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
 import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.query.KapuaQuery;
@@ -179,6 +181,28 @@ public class DeviceConnectionServiceImpl extends KapuaConfigurableServiceBase im
         return txManager.execute(tx -> repository.query(tx, query).getFirstItem());
     }
 
+    @Override
+    public DeviceConnectionListResult findByIds(KapuaId scopeId, Set<KapuaId> deviceConnectionIds)
+            throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, "scopeId");
+        ArgumentValidator.notNull(deviceConnectionIds, "deviceConnectionIds");
+
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_CONNECTION, Actions.read, scopeId));
+
+        if (deviceConnectionIds.isEmpty()) {
+            return entityFactory.newListResult();
+        }
+
+        // Build query
+        DeviceConnectionQueryImpl query = new DeviceConnectionQueryImpl(scopeId);
+        query.setPredicate(query.attributePredicate(KapuaEntityAttributes.ENTITY_ID, new ArrayList<>(deviceConnectionIds)));
+
+        // Do find
+        return txManager.execute(tx -> repository.query(tx, query));
+    }
+
     @Override
     public DeviceConnectionListResult query(KapuaQuery query)
             throws KapuaException {
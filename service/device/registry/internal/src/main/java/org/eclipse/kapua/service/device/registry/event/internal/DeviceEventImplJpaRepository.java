@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,16 +12,119 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.device.registry.event.internal;
 
+import com.google.common.collect.Iterables;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
 import org.eclipse.kapua.commons.jpa.KapuaEntityJpaRepository;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
+import org.eclipse.kapua.service.device.registry.event.DeviceEventAttributes;
 import org.eclipse.kapua.service.device.registry.event.DeviceEventListResult;
 import org.eclipse.kapua.service.device.registry.event.DeviceEventRepository;
+import org.eclipse.kapua.service.device.registry.internal.DeviceImpl;
+import org.eclipse.kapua.storage.TxContext;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class DeviceEventImplJpaRepository
         extends KapuaEntityJpaRepository<DeviceEvent, DeviceEventImpl, DeviceEventListResult>
         implements DeviceEventRepository {
+
+    /**
+     * Maximum number of {@link DeviceEvent#getId()} put into a single {@code IN} clause.
+     *
+     * @since 2.1.0
+     */
+    private static final int IN_CLAUSE_MAX_SIZE = 1000;
+
+    private static final String LAST_EVENT_ID = "lastEventId";
+    private static final String EID = "eid";
+
     public DeviceEventImplJpaRepository(KapuaJpaRepositoryConfiguration configuration) {
         super(DeviceEventImpl.class, DeviceEvent.TYPE, () -> new DeviceEventListResultImpl(), configuration);
     }
+
+    @Override
+    public List<KapuaId> findScopeIds(TxContext tx) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<BigInteger> scopeIdsQuery = cb.createQuery(BigInteger.class);
+        final Root<DeviceEventImpl> entityRoot = scopeIdsQuery.from(DeviceEventImpl.class);
+        scopeIdsQuery.select(entityRoot.get(KapuaEntityAttributes.SCOPE_ID).get(EID)).distinct(true);
+
+        return em.createQuery(scopeIdsQuery)
+                .getResultList()
+                .stream()
+                .map(KapuaEid::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<KapuaId> findExpiredIds(TxContext tx, KapuaId scopeId, Date receivedBefore, Collection<KapuaId> excludedIds, int maxResults) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<BigInteger> expiredIdsQuery = cb.createQuery(BigInteger.class);
+        final Root<DeviceEventImpl> entityRoot = expiredIdsQuery.from(DeviceEventImpl.class);
+
+        // Devices which reference the DeviceEvent as their last one
+        final Subquery<BigInteger> lastEventQuery = expiredIdsQuery.subquery(BigInteger.class);
+        final Root<DeviceImpl> deviceRoot = lastEventQuery.from(DeviceImpl.class);
+        lastEventQuery.select(deviceRoot.get(LAST_EVENT_ID).get(EID));
+        lastEventQuery.where(cb.equal(deviceRoot.get(LAST_EVENT_ID).get(EID), entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID)));
+
+        final List<Predicate> andPredicates = new ArrayList<>();
+        andPredicates.add(cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID).get(EID), scopeId.getId()));
+        andPredicates.add(cb.lessThan(entityRoot.get(DeviceEventAttributes.RECEIVED_ON), receivedBefore));
+        andPredicates.add(cb.not(cb.exists(lastEventQuery)));
+        for (List<KapuaId> excludedIdsChunk : Iterables.partition(excludedIds, IN_CLAUSE_MAX_SIZE)) {
+            andPredicates.add(cb.not(entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID).in(excludedIdsChunk.stream().map(KapuaId::getId).collect(Collectors.toList()))));
+        }
+
+        expiredIdsQuery.select(entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID));
+        expiredIdsQuery.where(andPredicates.toArray(new Predicate[0]));
+        expiredIdsQuery.orderBy(cb.asc(entityRoot.get(DeviceEventAttributes.RECEIVED_ON)));
+
+        return em.createQuery(expiredIdsQuery)
+                .setMaxResults(maxResults)
+                .getResultList()
+                .stream()
+                .map(KapuaEid::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int deleteAll(TxContext tx, KapuaId scopeId, Collection<KapuaId> eventIds) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        int deleted = 0;
+        for (List<KapuaId> eventIdsChunk : Iterables.partition(eventIds, IN_CLAUSE_MAX_SIZE)) {
+            final CriteriaDelete<DeviceEventImpl> deleteQuery = cb.createCriteriaDelete(DeviceEventImpl.class);
+            final Root<DeviceEventImpl> entityRoot = deleteQuery.from(DeviceEventImpl.class);
+            // WHERE
+            deleteQuery.where(
+                    cb.equal(entityRoot.get(KapuaEntityAttributes.SCOPE_ID).get(EID), scopeId.getId()),
+                    entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID).in(eventIdsChunk.stream().map(KapuaId::getId).collect(Collectors.toList()))
+            );
+
+            deleted += em.createQuery(deleteQuery).executeUpdate();
+        }
+        return deleted;
+    }
 }
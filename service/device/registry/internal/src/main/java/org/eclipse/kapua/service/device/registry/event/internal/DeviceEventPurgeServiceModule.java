@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.registry.event.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
+import org.eclipse.kapua.service.device.registry.event.DeviceEventRepository;
+import org.eclipse.kapua.service.device.registry.event.DeviceEventService;
+import org.eclipse.kapua.storage.TxManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ServiceModule} that periodically deletes the {@link DeviceEvent}s older than the retention configured for their scope.
+ * <p>
+ * The retention is read from the {@link DeviceEventService} configuration of each scope ({@link #RETENTION_DAYS_PROPERTY}).
+ * {@link DeviceEvent}s are deleted in batches, each one in its own short transaction.
+ * The {@link DeviceEvent} referenced as {@link Device#getLastEventId()}, or pending to become it, is never deleted.
+ * A margin is added to the retention, so that {@link DeviceEvent}s are not deleted while their {@link Device#getLastEventId()} update may still be in flight
+ * or because of the clock differences between instances.
+ *
+ * @since 2.1.0
+ */
+public class DeviceEventPurgeServiceModule implements ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceEventPurgeServiceModule.class);
+
+    public static final String RETENTION_DAYS_PROPERTY = "deviceEventRetentionDays";
+
+    private final ServiceConfigurationManager serviceConfigurationManager;
+    private final TxManager txManager;
+    private final DeviceEventRepository deviceEventRepository;
+    private final DeviceLastEventUpdater deviceLastEventUpdater;
+    private final long purgeIntervalMillis;
+    private final int purgeBatchSize;
+    private final long receivedOnMarginMillis;
+
+    private ScheduledExecutorService purgeExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param serviceConfigurationManager The {@link DeviceEventService} {@link ServiceConfigurationManager}.
+     * @param txManager                   The {@link TxManager}.
+     * @param deviceEventRepository       The {@link DeviceEventRepository}.
+     * @param deviceLastEventUpdater      The {@link DeviceLastEventUpdater} which holds the {@link DeviceEvent}s not yet written as {@link Device#getLastEventId()}.
+     * @param purgeIntervalMillis         The interval between two purges. If {@code 0} or less the periodic purge is disabled.
+     * @param purgeBatchSize              The maximum number of {@link DeviceEvent}s deleted in a single transaction.
+     * @param receivedOnMarginMillis      The margin added to the retention before deleting a {@link DeviceEvent}. Negative values are considered as {@code 0}.
+     * @since 2.1.0
+     */
+    public DeviceEventPurgeServiceModule(
+            ServiceConfigurationManager serviceConfigurationManager,
+            TxManager txManager,
+            DeviceEventRepository deviceEventRepository,
+            DeviceLastEventUpdater deviceLastEventUpdater,
+            long purgeIntervalMillis,
+            int purgeBatchSize,
+            long receivedOnMarginMillis) {
+        this.serviceConfigurationManager = serviceConfigurationManager;
+        this.txManager = txManager;
+        this.deviceEventRepository = deviceEventRepository;
+        this.deviceLastEventUpdater = deviceLastEventUpdater;
+        this.purgeIntervalMillis = purgeIntervalMillis;
+        this.purgeBatchSize = purgeBatchSize;
+        this.receivedOnMarginMillis = Math.max(receivedOnMarginMillis, 0);
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (purgeIntervalMillis <= 0 || purgeExecutor != null) {
+            return;
+        }
+
+        purgeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread purgeThread = new Thread(runnable, "device-event-purge");
+            purgeThread.setDaemon(true);
+            return purgeThread;
+        });
+        purgeExecutor.scheduleWithFixedDelay(this::purgeSafely, purgeIntervalMillis, purgeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() throws KapuaException {
+        if (purgeExecutor != null) {
+            purgeExecutor.shutdownNow();
+            purgeExecutor = null;
+        }
+    }
+
+    /**
+     * Deletes the expired {@link DeviceEvent}s of all scopes.
+     *
+     * @param now The current time, from which the retention is computed.
+     * @return The number of deleted {@link DeviceEvent}s.
+     * @throws KapuaException If the scopes to purge cannot be read.
+     * @since 2.1.0
+     */
+    public long purge(Date now) throws KapuaException {
+        List<KapuaId> scopeIds = txManager.execute(deviceEventRepository::findScopeIds);
+
+        long deleted = 0;
+        for (KapuaId scopeId : scopeIds) {
+            try {
+                deleted += purge(scopeId, now);
+            } catch (Exception e) {
+                LOG.warn("Error while purging device events of scope {}", scopeId, e);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes the expired {@link DeviceEvent}s of the given scope.
+     *
+     * @param scopeId The scope {@link KapuaId}.
+     * @param now     The current time, from which the retention and the margin are computed.
+     * @return The number of deleted {@link DeviceEvent}s.
+     * @throws KapuaException If the {@link DeviceEvent}s cannot be deleted.
+     * @since 2.1.0
+     */
+    public long purge(KapuaId scopeId, Date now) throws KapuaException {
+        Map<String, Object> configValues = txManager.execute(tx -> serviceConfigurationManager.getConfigValues(tx, scopeId, false));
+
+        Object retentionDays = configValues.get(RETENTION_DAYS_PROPERTY);
+        if (!(retentionDays instanceof Number) || ((Number) retentionDays).intValue() <= 0) {
+            return 0;
+        }
+
+        Date receivedBefore = new Date(now.getTime() - TimeUnit.DAYS.toMillis(((Number) retentionDays).intValue()) - receivedOnMarginMillis);
+
+        long deleted = 0;
+        PurgedBatch purgedBatch;
+        do {
+            purgedBatch = txManager.execute(tx -> {
+                // Retain DeviceEvents about to become the last event of their Device
+                List<KapuaId> expiredIds = deviceEventRepository.findExpiredIds(tx, scopeId, receivedBefore, deviceLastEventUpdater.getPendingEventIds(), purgeBatchSize);
+
+                return new PurgedBatch(expiredIds.size(), expiredIds.isEmpty() ? 0 : deviceEventRepository.deleteAll(tx, scopeId, expiredIds));
+            });
+
+            deleted += purgedBatch.deleted;
+        } while (purgedBatch.expired >= purgeBatchSize); // A partial batch means that no other DeviceEvent is expired
+
+        if (deleted > 0) {
+            LOG.info("Purged {} device events of scope {} received before {}", deleted, scopeId, receivedBefore);
+        }
+        return deleted;
+    }
+
+    private void purgeSafely() {
+        try {
+            purge(new Date());
+        } catch (Exception e) {
+            LOG.error("Error while purging device events", e);
+        }
+    }
+
+    /**
+     * The outcome of a single purge transaction.
+     * <p>
+     * The number of expired {@link DeviceEvent}s drives the next batch, since some of them may have been already deleted concurrently.
+     *
+     * @since 2.1.0
+     */
+    private static class PurgedBatch {
+
+        private final int expired;
+        private final int deleted;
+
+        private PurgedBatch(int expired, int deleted) {
+            this.expired = expired;
+            this.deleted = deleted;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@ package org.eclipse.kapua.service.device.registry.event.internal;
 
 import org.eclipse.kapua.KapuaEntityNotFoundException;
 import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.KapuaConfigurableServiceBase;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.util.ArgumentValidator;
 import org.eclipse.kapua.model.domain.Actions;
@@ -30,8 +32,6 @@ import org.eclipse.kapua.service.device.registry.event.DeviceEventListResult;
 import org.eclipse.kapua.service.device.registry.event.DeviceEventRepository;
 import org.eclipse.kapua.service.device.registry.event.DeviceEventService;
 import org.eclipse.kapua.storage.TxManager;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -43,34 +43,29 @@ import javax.inject.Singleton;
  */
 @Singleton
 public class DeviceEventServiceImpl
+        extends KapuaConfigurableServiceBase
         implements DeviceEventService {
 
-    private static final Logger LOG = LoggerFactory.getLogger(DeviceEventServiceImpl.class);
-
-    private static final int MAX_RETRY = 3;
-    private static final double MAX_WAIT = 200d;
-
-    private final AuthorizationService authorizationService;
-    private final PermissionFactory permissionFactory;
-    private final TxManager txManager;
     private final DeviceRepository deviceRepository;
     private final DeviceEventFactory entityFactory;
     private final DeviceEventRepository repository;
+    private final DeviceLastEventUpdater deviceLastEventUpdater;
 
     @Inject
     public DeviceEventServiceImpl(
+            ServiceConfigurationManager serviceConfigurationManager,
             AuthorizationService authorizationService,
             PermissionFactory permissionFactory,
             TxManager txManager,
             DeviceRepository deviceRepository,
             DeviceEventFactory entityFactory,
-            DeviceEventRepository deviceEventRepository) {
-        this.authorizationService = authorizationService;
-        this.permissionFactory = permissionFactory;
-        this.txManager = txManager;
+            DeviceEventRepository deviceEventRepository,
+            DeviceLastEventUpdater deviceLastEventUpdater) {
+        super(txManager, serviceConfigurationManager, Domains.DEVICE_EVENT, authorizationService, permissionFactory);
         this.deviceRepository = deviceRepository;
         this.entityFactory = entityFactory;
         this.repository = deviceEventRepository;
+        this.deviceLastEventUpdater = deviceLastEventUpdater;
     }
 
     // Operations
@@ -85,9 +80,9 @@ public class DeviceEventServiceImpl
         ArgumentValidator.notEmptyOrNull(deviceEventCreator.getResource(), "deviceEventCreator.eventType");
         // Check Access
         authorizationService.checkPermission(permissionFactory.newPermission(Domains.DEVICE_EVENT, Actions.write, deviceEventCreator.getScopeId()));
-        return txManager.execute(tx -> {
-            // Check that device exists
-            final Device device = deviceRepository.findForUpdate(tx, deviceEventCreator.getScopeId(), deviceEventCreator.getDeviceId())
+        final DeviceEvent created = txManager.execute(tx -> {
+            // Check that device exists. No lock is taken on the device: the event is only appended.
+            final Device device = deviceRepository.find(tx, deviceEventCreator.getScopeId(), deviceEventCreator.getDeviceId())
                     .orElseThrow(() -> new KapuaEntityNotFoundException(Device.TYPE, deviceEventCreator.getDeviceId()));
 
             // Create the event
@@ -101,13 +96,13 @@ public class DeviceEventServiceImpl
             newEvent.setEventMessage(deviceEventCreator.getEventMessage());
             newEvent.setPosition(deviceEventCreator.getPosition());
 
-            final DeviceEvent created = repository.create(tx, newEvent);
-            device.setLastEventId(created.getId());
-            //Do not call update explicitly, the transaction ending will automatically update the entity
-//            deviceRepository.update(tx, device, device);
-            return newEvent;
+            return repository.create(tx, newEvent);
         });
 
+        // Device.lastEventId is updated asynchronously
+        deviceLastEventUpdater.record(created);
+
+        return created;
     }
 
     @Override
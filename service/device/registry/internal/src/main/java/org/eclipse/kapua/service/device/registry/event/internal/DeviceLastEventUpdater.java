@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.registry.event.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceRepository;
+import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
+import org.eclipse.kapua.storage.TxManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ServiceModule} that maintains {@link Device#getLastEventId()} out of the {@link DeviceEvent} creation path.
+ * <p>
+ * {@link DeviceEvent}s are {@link #record(DeviceEvent)}ed in memory, keeping only the latest one for each {@link Device}.
+ * Pending {@link DeviceEvent}s are written periodically with a bulk update for each batch of {@link Device}s, so that creating a {@link DeviceEvent} never locks the {@link Device} row.
+ * A {@link Device} already referencing a {@link DeviceEvent} received after the pending one, i.e. written by another instance, is left unchanged.
+ * <p>
+ * Pending {@link DeviceEvent}s are written when the {@link ServiceModule} is {@link #stop()}ped.
+ * They are lost if the process terminates abruptly, leaving {@link Device#getLastEventId()} behind until the next {@link DeviceEvent} of the {@link Device}.
+ *
+ * @since 2.1.0
+ */
+public class DeviceLastEventUpdater implements ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceLastEventUpdater.class);
+
+    private final TxManager txManager;
+    private final DeviceRepository deviceRepository;
+    private final long flushIntervalMillis;
+    private final int flushBatchSize;
+
+    private final Map<DeviceKey, DeviceEvent> pendingLastEvents = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param txManager            The {@link TxManager} used to write the pending {@link DeviceEvent}s.
+     * @param deviceRepository     The {@link DeviceRepository} used to write the pending {@link DeviceEvent}s.
+     * @param flushIntervalMillis  The interval between two writes of the pending {@link DeviceEvent}s. If {@code 0} or less, each {@link DeviceEvent} is written as soon as it is {@link #record(DeviceEvent)}ed.
+     * @param flushBatchSize       The maximum number of {@link Device}s updated in a single transaction.
+     * @since 2.1.0
+     */
+    public DeviceLastEventUpdater(TxManager txManager, DeviceRepository deviceRepository, long flushIntervalMillis, int flushBatchSize) {
+        this.txManager = txManager;
+        this.deviceRepository = deviceRepository;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (flushIntervalMillis <= 0 || flushExecutor != null) {
+            return;
+        }
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread flushThread = new Thread(runnable, "device-last-event-updater");
+            flushThread.setDaemon(true);
+            return flushThread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() throws KapuaException {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            try {
+                if (!flushExecutor.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS)) {
+                    LOG.warn("Timed out while waiting for the last events of devices to be written");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushExecutor = null;
+        }
+
+        // Write what has been recorded since the last run
+        flushSafely();
+    }
+
+    /**
+     * Records the given {@link DeviceEvent} as candidate {@link Device#getLastEvent()}.
+     * <p>
+     * It replaces any pending {@link DeviceEvent} of the same {@link Device} not received after it.
+     *
+     * @param deviceEvent The newly created {@link DeviceEvent}.
+     * @since 2.1.0
+     */
+    public void record(DeviceEvent deviceEvent) {
+        pendingLastEvents.merge(
+                new DeviceKey(deviceEvent.getScopeId(), deviceEvent.getDeviceId()),
+                deviceEvent,
+                (pending, recorded) -> isAfter(pending, recorded) ? pending : recorded);
+
+        if (flushIntervalMillis <= 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Gets the number of {@link Device}s with a pending {@link DeviceEvent}.
+     *
+     * @return The number of {@link Device}s with a pending {@link DeviceEvent}.
+     * @since 2.1.0
+     */
+    public int getPendingCount() {
+        return pendingLastEvents.size();
+    }
+
+    /**
+     * Gets the {@link DeviceEvent#getId()}s which are pending to be written as {@link Device#getLastEventId()}.
+     *
+     * @return The {@link Set} of pending {@link DeviceEvent#getId()}s.
+     * @since 2.1.0
+     */
+    public Set<KapuaId> getPendingEventIds() {
+        return pendingLastEvents.values()
+                .stream()
+                .map(deviceEvent -> (KapuaId) KapuaEid.parseKapuaId(deviceEvent.getId()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Writes all pending {@link DeviceEvent}s as {@link Device#getLastEventId()}.
+     * <p>
+     * Each batch of {@link Device}s is updated with a single statement.
+     * If a batch fails, its {@link Device}s are updated one by one, skipping those that still fail.
+     *
+     * @return The number of {@link Device}s updated.
+     * @since 2.1.0
+     */
+    public int flush() {
+        List<DeviceEvent> batch = new ArrayList<>(flushBatchSize);
+        int updated = 0;
+        for (Map.Entry<DeviceKey, DeviceEvent> pending : pendingLastEvents.entrySet()) {
+            // Remove only if not replaced in the meantime by a newer DeviceEvent
+            if (pendingLastEvents.remove(pending.getKey(), pending.getValue())) {
+                batch.add(pending.getValue());
+            }
+
+            if (batch.size() >= flushBatchSize) {
+                updated += flushBatch(batch);
+                batch = new ArrayList<>(flushBatchSize);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            updated += flushBatch(batch);
+        }
+        return updated;
+    }
+
+    private int flushBatch(List<DeviceEvent> batch) {
+        try {
+            return txManager.execute(tx -> deviceRepository.updateLastEvents(tx, batch));
+        } catch (Exception e) {
+            LOG.warn("Error while updating last event of {} devices. Retrying them one by one", batch.size(), e);
+
+            int updated = 0;
+            for (DeviceEvent pending : batch) {
+                try {
+                    updated += txManager.execute(tx -> deviceRepository.updateLastEvents(tx, Collections.singletonList(pending)));
+                } catch (Exception ex) {
+                    LOG.warn("Error while updating last event of device {}. Skipping it", pending.getDeviceId(), ex);
+                }
+            }
+            return updated;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            int updated = flush();
+            if (updated > 0) {
+                LOG.debug("Updated last event of {} devices", updated);
+            }
+        } catch (Exception e) {
+            LOG.error("Error while updating last event of devices", e);
+        }
+    }
+
+    private static boolean isAfter(DeviceEvent pending, DeviceEvent recorded) {
+        return pending.getReceivedOn() != null &&
+                recorded.getReceivedOn() != null &&
+                pending.getReceivedOn().after(recorded.getReceivedOn());
+    }
+
+    /**
+     * Identifies a {@link Device} by {@link Device#getScopeId()} and {@link Device#getId()}.
+     *
+     * @since 2.1.0
+     */
+    private static class DeviceKey {
+
+        private final KapuaEid scopeId;
+        private final KapuaEid deviceId;
+
+        private DeviceKey(KapuaId scopeId, KapuaId deviceId) {
+            this.scopeId = KapuaEid.parseKapuaId(scopeId);
+            this.deviceId = KapuaEid.parseKapuaId(deviceId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DeviceKey deviceKey = (DeviceKey) o;
+            return Objects.equals(scopeId, deviceKey.scopeId) && Objects.equals(deviceId, deviceKey.deviceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scopeId, deviceId);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,10 @@ import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.device.registry.Device;
 import org.eclipse.kapua.service.device.registry.DeviceListResult;
 import org.eclipse.kapua.service.device.registry.DeviceRepository;
+import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
 import org.eclipse.kapua.storage.TxContext;
 
+import java.util.List;
 import java.util.Optional;
 
 public class CachingDeviceRepository
@@ -55,4 +57,10 @@ public class CachingDeviceRepository
         final Optional<Device> found = wrapped.findForUpdate(tx, scopeId, deviceId);
         return found;
     }
+
+    @Override
+    public int updateLastEvents(TxContext tx, List<DeviceEvent> lastEvents) {
+        lastEvents.forEach(lastEvent -> entityCache.remove(lastEvent.getScopeId(), lastEvent.getDeviceId()));
+        return wrapped.updateLastEvents(tx, lastEvents);
+    }
 }
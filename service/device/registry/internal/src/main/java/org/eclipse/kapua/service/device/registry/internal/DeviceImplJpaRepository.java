@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,20 +17,46 @@ import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaUpdatableEntityJpaRepository;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.device.registry.Device;
 import org.eclipse.kapua.service.device.registry.DeviceAttributes;
 import org.eclipse.kapua.service.device.registry.DeviceListResult;
 import org.eclipse.kapua.service.device.registry.DeviceRepository;
+import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
+import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventImpl;
 import org.eclipse.kapua.storage.TxContext;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class DeviceImplJpaRepository
         extends KapuaUpdatableEntityJpaRepository<Device, DeviceImpl, DeviceListResult>
         implements DeviceRepository {
+
+    private static final String LAST_EVENT_ID = "lastEventId";
+    private static final String EID = "eid";
+    private static final String OPTLOCK = "optlock";
+    private static final String LAST_EVENT = "lastEvent";
+    private static final String RECEIVED_ON = "receivedOn";
+    private static final BigInteger NO_LAST_EVENT_ID = BigInteger.ZERO;
+
     public DeviceImplJpaRepository(KapuaJpaRepositoryConfiguration jpaRepoConfig) {
         super(DeviceImpl.class, Device.TYPE, () -> new DeviceListResultImpl(), jpaRepoConfig);
     }
@@ -49,4 +75,76 @@ public class DeviceImplJpaRepository
         final Optional<Device> device = doFind(em, scopeId, deviceId, LockModeType.PESSIMISTIC_WRITE);
         return device;
     }
+
+    @Override
+    public int updateLastEvents(TxContext tx, List<DeviceEvent> lastEvents) {
+        if (lastEvents.isEmpty()) {
+            return 0;
+        }
+
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final List<BigInteger> deviceIds = lastEvents.stream()
+                .map(lastEvent -> KapuaEid.parseKapuaId(lastEvent.getDeviceId()).getId())
+                .collect(Collectors.toList());
+
+        // Read the current last event of the devices
+        final CriteriaQuery<Object[]> selectQuery = cb.createQuery(Object[].class);
+        final Root<DeviceImpl> selectRoot = selectQuery.from(DeviceImpl.class);
+        final Join<DeviceImpl, DeviceEventImpl> currentLastEvent = selectRoot.join(LAST_EVENT, JoinType.LEFT);
+        selectQuery.multiselect(
+                selectRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID),
+                selectRoot.get(LAST_EVENT_ID).get(EID),
+                currentLastEvent.get(RECEIVED_ON)
+        );
+        selectQuery.where(selectRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID).in(deviceIds));
+
+        final Map<BigInteger, Object[]> currentLastEventsByDeviceId = new HashMap<>();
+        for (Object[] row : em.createQuery(selectQuery).getResultList()) {
+            currentLastEventsByDeviceId.put((BigInteger) row[0], row);
+        }
+
+        // Keep the new last events which are not received before the current ones
+        final CriteriaUpdate<DeviceImpl> updateQuery = cb.createCriteriaUpdate(DeviceImpl.class);
+        final Root<DeviceImpl> entityRoot = updateQuery.from(DeviceImpl.class);
+        final Path<BigInteger> deviceIdPath = entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID);
+        final Path<BigInteger> lastEventIdPath = entityRoot.get(LAST_EVENT_ID).get(EID);
+
+        final CriteriaBuilder.SimpleCase<BigInteger, BigInteger> newLastEventIdCase = cb.selectCase(deviceIdPath);
+        final CriteriaBuilder.SimpleCase<BigInteger, BigInteger> currentLastEventIdCase = cb.selectCase(deviceIdPath);
+        final List<BigInteger> updatableDeviceIds = new ArrayList<>();
+        for (DeviceEvent lastEvent : lastEvents) {
+            BigInteger deviceId = KapuaEid.parseKapuaId(lastEvent.getDeviceId()).getId();
+            Object[] current = currentLastEventsByDeviceId.get(deviceId);
+            if (current == null) {
+                continue; // Device deleted
+            }
+
+            BigInteger currentLastEventId = (BigInteger) current[1];
+            Date currentReceivedOn = (Date) current[2];
+            if (currentReceivedOn != null && lastEvent.getReceivedOn() != null && currentReceivedOn.after(lastEvent.getReceivedOn())) {
+                continue;
+            }
+
+            updatableDeviceIds.add(deviceId);
+            newLastEventIdCase.when(deviceId, KapuaEid.parseKapuaId(lastEvent.getId()).getId());
+            currentLastEventIdCase.when(deviceId, currentLastEventId != null ? currentLastEventId : NO_LAST_EVENT_ID);
+        }
+
+        if (updatableDeviceIds.isEmpty()) {
+            return 0;
+        }
+
+        // SET
+        updateQuery.set(lastEventIdPath, newLastEventIdCase.otherwise(lastEventIdPath));
+        updateQuery.set(entityRoot.<Integer>get(OPTLOCK), cb.sum(entityRoot.<Integer>get(OPTLOCK), 1));
+        // WHERE the last event has not changed since it has been read
+        updateQuery.where(
+                deviceIdPath.in(updatableDeviceIds),
+                cb.equal(cb.coalesce(lastEventIdPath, NO_LAST_EVENT_ID), currentLastEventIdCase.otherwise(NO_LAST_EVENT_ID))
+        );
+
+        return em.createQuery(updateQuery).executeUpdate();
+    }
 }
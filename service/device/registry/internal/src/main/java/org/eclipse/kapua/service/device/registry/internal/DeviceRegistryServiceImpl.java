@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -183,7 +183,9 @@ public class DeviceRegistryServiceImpl
         txManager.execute(
                 tx -> {
                     deviceValidation.validateDeletePreconditions(tx, scopeId, deviceId);
-                    return deviceRepository.delete(tx, scopeId, deviceId);
+                    final Device deletedDevice = deviceRepository.delete(tx, scopeId, deviceId);
+                    serviceConfigurationManager.releaseAllowedEntity(tx, scopeId);
+                    return deletedDevice;
                 },
                 eventStorer::accept);
     }
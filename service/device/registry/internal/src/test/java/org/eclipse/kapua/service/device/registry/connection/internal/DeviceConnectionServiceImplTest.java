@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.registry.connection.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.jpa.EventStorer;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaQuery;
+import org.eclipse.kapua.model.query.predicate.AttributePredicate;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.Permission;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionListResult;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionRepository;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnectionService;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceConnectionServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+
+    private AuthorizationService authorizationService;
+    private DeviceConnectionRepository deviceConnectionRepository;
+    private DeviceConnectionServiceImpl instance;
+
+    @BeforeEach
+    public void setUp() {
+        authorizationService = Mockito.mock(AuthorizationService.class);
+        deviceConnectionRepository = Mockito.mock(DeviceConnectionRepository.class);
+
+        final TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        Map<Class<?>, ServiceConfigurationManager> serviceConfigurationManagers = new HashMap<>();
+        serviceConfigurationManagers.put(DeviceConnectionService.class, Mockito.mock(ServiceConfigurationManager.class));
+
+        instance = new DeviceConnectionServiceImpl(
+                serviceConfigurationManagers,
+                authorizationService,
+                Mockito.mock(PermissionFactory.class),
+                new DeviceConnectionFactoryImpl(),
+                txManager,
+                deviceConnectionRepository,
+                Collections.emptyMap(),
+                Mockito.mock(EventStorer.class)
+        );
+    }
+
+    @Test
+    public void findByIdsQueriesAllIdsAtOnce() throws KapuaException {
+        DeviceConnectionListResult deviceConnectionListResult = new DeviceConnectionListResultImpl();
+        Mockito.when(deviceConnectionRepository.query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any())).thenReturn(deviceConnectionListResult);
+
+        Set<KapuaId> deviceConnectionIds = new HashSet<>(Arrays.asList(new KapuaEid(BigInteger.TEN), new KapuaEid(BigInteger.valueOf(11))));
+
+        Assertions.assertSame(deviceConnectionListResult, instance.findByIds(SCOPE_ID, deviceConnectionIds));
+
+        ArgumentCaptor<KapuaQuery> query = ArgumentCaptor.forClass(KapuaQuery.class);
+        Mockito.verify(deviceConnectionRepository).query(Mockito.<TxContext>any(), query.capture());
+        Assertions.assertEquals(SCOPE_ID, query.getValue().getScopeId());
+
+        AttributePredicate<?> predicate = (AttributePredicate<?>) query.getValue().getPredicate();
+        Assertions.assertEquals(KapuaEntityAttributes.ENTITY_ID, predicate.getAttributeName());
+        Assertions.assertEquals(deviceConnectionIds, new HashSet<>((Collection<?>) predicate.getAttributeValue()));
+    }
+
+    @Test
+    public void findByIdsWithoutIds() throws KapuaException {
+        Assertions.assertTrue(instance.findByIds(SCOPE_ID, Collections.<KapuaId>emptySet()).isEmpty());
+
+        Mockito.verify(authorizationService).checkPermission(Mockito.<Permission>any());
+        Mockito.verifyZeroInteractions(deviceConnectionRepository);
+    }
+
+    @Test
+    public void findByIdsWithoutPermission() throws KapuaException {
+        Mockito.doThrow(KapuaException.internalError("not permitted")).when(authorizationService).checkPermission(Mockito.<Permission>any());
+
+        Assertions.assertThrows(KapuaException.class, () -> instance.findByIds(SCOPE_ID, Collections.<KapuaId>singleton(new KapuaEid(BigInteger.TEN))));
+        Mockito.verifyZeroInteractions(deviceConnectionRepository);
+    }
+}
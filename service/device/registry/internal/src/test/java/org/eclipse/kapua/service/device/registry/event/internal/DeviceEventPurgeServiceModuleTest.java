@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.registry.event.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.DeviceRepository;
+import org.eclipse.kapua.service.device.registry.event.DeviceEventRepository;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceEventPurgeServiceModuleTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId DEVICE_ID = new KapuaEid(BigInteger.TEN);
+    private static final long RECEIVED_ON_MARGIN = TimeUnit.MINUTES.toMillis(10);
+
+    private ServiceConfigurationManager serviceConfigurationManager;
+    private DeviceEventRepository deviceEventRepository;
+    private DeviceLastEventUpdater deviceLastEventUpdater;
+    private DeviceEventPurgeServiceModule instance;
+
+    @BeforeEach
+    public void setUp() throws KapuaException {
+        serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        deviceEventRepository = Mockito.mock(DeviceEventRepository.class);
+
+        TxContext txContext = Mockito.mock(TxContext.class);
+        TxManager txManager = Mockito.mock(TxManager.class);
+        Mockito.when(txManager.execute(Mockito.<TxManager.TxConsumer<Object>>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(0, TxManager.TxConsumer.class).execute(txContext));
+
+        deviceLastEventUpdater = new DeviceLastEventUpdater(txManager, Mockito.mock(DeviceRepository.class), TimeUnit.MINUTES.toMillis(1), 500);
+
+        instance = new DeviceEventPurgeServiceModule(serviceConfigurationManager, txManager, deviceEventRepository, deviceLastEventUpdater, 0, 2, RECEIVED_ON_MARGIN);
+    }
+
+    @Test
+    public void purgeWithoutRetentionDoesNotDelete() throws KapuaException {
+        Mockito.when(serviceConfigurationManager.getConfigValues(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.anyBoolean()))
+                .thenReturn(Collections.singletonMap(DeviceEventPurgeServiceModule.RETENTION_DAYS_PROPERTY, 0));
+
+        Assertions.assertEquals(0, instance.purge(SCOPE_ID, new Date()));
+        Mockito.verify(deviceEventRepository, Mockito.never()).findExpiredIds(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<Date>any(), Mockito.<Collection<KapuaId>>any(), Mockito.anyInt());
+    }
+
+    @Test
+    public void purgeDeletesExpiredEventsInBatches() throws KapuaException {
+        Mockito.when(serviceConfigurationManager.getConfigValues(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.anyBoolean()))
+                .thenReturn(Collections.singletonMap(DeviceEventPurgeServiceModule.RETENTION_DAYS_PROPERTY, 7));
+        Mockito.when(deviceEventRepository.findExpiredIds(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<Date>any(), Mockito.<Collection<KapuaId>>any(), Mockito.anyInt()))
+                .thenReturn(Arrays.asList(eventId(1), eventId(2)))
+                .thenReturn(Collections.singletonList(eventId(3)));
+        Mockito.when(deviceEventRepository.deleteAll(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<Collection<KapuaId>>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(2, Collection.class).size());
+
+        Date now = new Date();
+        Assertions.assertEquals(3, instance.purge(SCOPE_ID, now));
+
+        ArgumentCaptor<Date> receivedBefore = ArgumentCaptor.forClass(Date.class);
+        Mockito.verify(deviceEventRepository, Mockito.times(2)).findExpiredIds(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), receivedBefore.capture(), Mockito.<Collection<KapuaId>>any(), Mockito.eq(2));
+        Assertions.assertEquals(now.getTime() - TimeUnit.DAYS.toMillis(7) - RECEIVED_ON_MARGIN, receivedBefore.getValue().getTime());
+    }
+
+    @Test
+    public void purgeContinuesAfterConcurrentlyDeletedEvents() throws KapuaException {
+        Mockito.when(serviceConfigurationManager.getConfigValues(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.anyBoolean()))
+                .thenReturn(Collections.singletonMap(DeviceEventPurgeServiceModule.RETENTION_DAYS_PROPERTY, 7));
+        Mockito.when(deviceEventRepository.findExpiredIds(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<Date>any(), Mockito.<Collection<KapuaId>>any(), Mockito.anyInt()))
+                .thenReturn(Arrays.asList(eventId(1), eventId(2)))
+                .thenReturn(Arrays.asList(eventId(3), eventId(4)))
+                .thenReturn(Collections.<KapuaId>emptyList());
+        // Event 2 has been deleted by another instance in the meantime
+        Mockito.when(deviceEventRepository.deleteAll(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<Collection<KapuaId>>any()))
+                .thenReturn(1)
+                .thenReturn(2);
+
+        Assertions.assertEquals(3, instance.purge(SCOPE_ID, new Date()));
+        Mockito.verify(deviceEventRepository, Mockito.times(3)).findExpiredIds(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.<Date>any(), Mockito.<Collection<KapuaId>>any(), Mockito.eq(2));
+    }
+
+    @Test
+    public void purgeRetainsPendingLastEvents() throws KapuaException {
+        Mockito.when(serviceConfigurationManager.getConfigValues(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.anyBoolean()))
+                .thenReturn(Collections.singletonMap(DeviceEventPurgeServiceModule.RETENTION_DAYS_PROPERTY, 7));
+        Mockito.when(deviceEventRepository.findExpiredIds(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<Date>any(), Mockito.<Collection<KapuaId>>any(), Mockito.anyInt()))
+                .thenReturn(Collections.singletonList(eventId(1)));
+        Mockito.when(deviceEventRepository.deleteAll(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<Collection<KapuaId>>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(2, Collection.class).size());
+
+        DeviceEventImpl pendingLastEvent = new DeviceEventImpl(SCOPE_ID);
+        pendingLastEvent.setId(eventId(2));
+        pendingLastEvent.setDeviceId(DEVICE_ID);
+        deviceLastEventUpdater.record(pendingLastEvent);
+
+        Assertions.assertEquals(1, instance.purge(SCOPE_ID, new Date()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<KapuaId>> excludedIds = ArgumentCaptor.forClass((Class) Collection.class);
+        Mockito.verify(deviceEventRepository).findExpiredIds(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.<Date>any(), excludedIds.capture(), Mockito.eq(2));
+        Assertions.assertEquals(Collections.singleton(eventId(2)), excludedIds.getValue());
+    }
+
+    private static KapuaId eventId(long id) {
+        return new KapuaEid(BigInteger.valueOf(id));
+    }
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.registry.event.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.management.message.KapuaMethod;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceRepository;
+import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
+import org.eclipse.kapua.service.device.registry.event.DeviceEventCreator;
+import org.eclipse.kapua.service.device.registry.event.DeviceEventRepository;
+import org.eclipse.kapua.service.device.registry.internal.DeviceImpl;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceEventServiceImplTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceEventServiceImplTest.class);
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId DEVICE_ID = new KapuaEid(BigInteger.TEN);
+
+    private static final int THREADS = 16;
+    private static final int EVENTS_PER_THREAD = 500;
+
+    private DeviceRepository deviceRepository;
+    private DeviceLastEventUpdater deviceLastEventUpdater;
+    private DeviceEventServiceImpl instance;
+
+    @BeforeEach
+    public void setUp() throws KapuaException {
+        PermissionFactory permissionFactory = Mockito.mock(PermissionFactory.class);
+        AuthorizationService authorizationService = Mockito.mock(AuthorizationService.class);
+
+        Device device = new DeviceImpl(SCOPE_ID);
+        device.setId(DEVICE_ID);
+
+        deviceRepository = Mockito.mock(DeviceRepository.class);
+        Mockito.when(deviceRepository.find(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<KapuaId>any()))
+                .thenReturn(Optional.of(device));
+        Mockito.when(deviceRepository.updateLastEvents(Mockito.<TxContext>any(), Mockito.<List<DeviceEvent>>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(1, List.class).size());
+
+        AtomicLong eventIdSequence = new AtomicLong();
+        DeviceEventRepository deviceEventRepository = Mockito.mock(DeviceEventRepository.class);
+        Mockito.when(deviceEventRepository.create(Mockito.<TxContext>any(), Mockito.<DeviceEvent>any()))
+                .thenAnswer(invocation -> {
+                    DeviceEvent deviceEvent = invocation.getArgumentAt(1, DeviceEvent.class);
+                    deviceEvent.setId(new KapuaEid(BigInteger.valueOf(eventIdSequence.incrementAndGet())));
+                    return deviceEvent;
+                });
+
+        final TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        deviceLastEventUpdater = new DeviceLastEventUpdater(txManager, deviceRepository, TimeUnit.MINUTES.toMillis(1), 500);
+
+        instance = new DeviceEventServiceImpl(
+                Mockito.mock(ServiceConfigurationManager.class),
+                authorizationService,
+                permissionFactory,
+                txManager,
+                deviceRepository,
+                new DeviceEventFactoryImpl(),
+                deviceEventRepository,
+                deviceLastEventUpdater
+        );
+    }
+
+    @Test
+    public void createDoesNotLockDevice() throws Exception {
+        DeviceEvent created = instance.create(newDeviceEventCreator(new Date()));
+
+        Assertions.assertNotNull(created.getId());
+        Mockito.verify(deviceRepository, Mockito.never()).findForUpdate(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<KapuaId>any());
+        Mockito.verify(deviceRepository, Mockito.never()).updateLastEvents(Mockito.<TxContext>any(), Mockito.<List<DeviceEvent>>any());
+        Assertions.assertEquals(1, deviceLastEventUpdater.getPendingCount());
+
+        Assertions.assertEquals(1, deviceLastEventUpdater.flush());
+        Mockito.verify(deviceRepository).updateLastEvents(null, Collections.singletonList(created));
+        Assertions.assertEquals(0, deviceLastEventUpdater.getPendingCount());
+    }
+
+    @Test
+    public void createConcurrentlyOnSameDevice() throws Exception {
+        Date lastReceivedOn = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Callable<Integer> creator = () -> {
+                    start.await();
+                    for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+                        instance.create(newDeviceEventCreator(new Date()));
+                    }
+                    return EVENTS_PER_THREAD;
+                };
+                results.add(executorService.submit(creator));
+            }
+
+            long startedOn = System.nanoTime();
+            start.countDown();
+
+            int created = 0;
+            for (Future<Integer> result : results) {
+                created += result.get(1, TimeUnit.MINUTES);
+            }
+            long elapsedNanos = System.nanoTime() - startedOn;
+
+            Assertions.assertEquals(THREADS * EVENTS_PER_THREAD, created);
+            LOG.info("Created {} events on a single device with {} threads in {} ms ({} events/s)",
+                    created,
+                    THREADS,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    created * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // All events coalesce into a single pending update for the device
+        Assertions.assertEquals(1, deviceLastEventUpdater.getPendingCount());
+
+        DeviceEvent lastEvent = instance.create(newDeviceEventCreator(lastReceivedOn));
+        instance.create(newDeviceEventCreator(new Date()));
+
+        Assertions.assertEquals(1, deviceLastEventUpdater.flush());
+        Mockito.verify(deviceRepository, Mockito.never()).findForUpdate(Mockito.<TxContext>any(), Mockito.<KapuaId>any(), Mockito.<KapuaId>any());
+        Mockito.verify(deviceRepository).updateLastEvents(null, Collections.singletonList(lastEvent));
+    }
+
+    private static DeviceEventCreator newDeviceEventCreator(Date receivedOn) {
+        DeviceEventCreator deviceEventCreator = new DeviceEventCreatorImpl(SCOPE_ID);
+        deviceEventCreator.setDeviceId(DEVICE_ID);
+        deviceEventCreator.setReceivedOn(receivedOn);
+        deviceEventCreator.setResource("test");
+        deviceEventCreator.setAction(KapuaMethod.CREATE);
+        return deviceEventCreator;
+    }
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.registry.event.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.registry.DeviceRepository;
+import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceLastEventUpdaterTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+
+    private final List<List<DeviceEvent>> writtenBatches = new ArrayList<>();
+
+    private TxManager txManager;
+    private DeviceRepository deviceRepository;
+
+    @BeforeEach
+    public void setUp() throws KapuaException {
+        TxContext txContext = Mockito.mock(TxContext.class);
+        txManager = Mockito.mock(TxManager.class);
+        Mockito.when(txManager.execute(Mockito.<TxManager.TxConsumer<Object>>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(0, TxManager.TxConsumer.class).execute(txContext));
+
+        deviceRepository = Mockito.mock(DeviceRepository.class);
+        Mockito.when(deviceRepository.updateLastEvents(Mockito.<TxContext>any(), Mockito.<List<DeviceEvent>>any()))
+                .thenAnswer(invocation -> {
+                    List<DeviceEvent> batch = new ArrayList<>(invocation.getArgumentAt(1, List.class));
+                    writtenBatches.add(batch);
+                    return batch.size();
+                });
+    }
+
+    @Test
+    public void flushWritesBatchesInSingleStatements() {
+        DeviceLastEventUpdater instance = new DeviceLastEventUpdater(txManager, deviceRepository, TimeUnit.MINUTES.toMillis(1), 2);
+
+        for (long deviceId = 1; deviceId <= 5; deviceId++) {
+            instance.record(newDeviceEvent(deviceId * 10, deviceId, new Date()));
+        }
+
+        Assertions.assertEquals(5, instance.getPendingCount());
+        Assertions.assertEquals(5, instance.flush());
+
+        Assertions.assertEquals(3, writtenBatches.size());
+        Assertions.assertTrue(writtenBatches.stream().allMatch(batch -> batch.size() <= 2));
+        Assertions.assertEquals(0, instance.getPendingCount());
+    }
+
+    @Test
+    public void recordKeepsLatestReceivedEvent() {
+        DeviceLastEventUpdater instance = new DeviceLastEventUpdater(txManager, deviceRepository, TimeUnit.MINUTES.toMillis(1), 500);
+
+        Date now = new Date();
+        DeviceEvent latest = newDeviceEvent(2, 1, now);
+        instance.record(latest);
+        instance.record(newDeviceEvent(3, 1, new Date(now.getTime() - 1000)));
+
+        Assertions.assertEquals(Collections.singleton(latest.getId()), instance.getPendingEventIds());
+
+        instance.flush();
+        Assertions.assertEquals(Collections.singletonList(Collections.singletonList(latest)), writtenBatches);
+    }
+
+    @Test
+    public void failedBatchRetriedOneByOne() throws KapuaException {
+        DeviceEvent failing = newDeviceEvent(20, 2, new Date());
+        Mockito.doAnswer(invocation -> {
+            List<DeviceEvent> batch = invocation.getArgumentAt(1, List.class);
+            if (batch.contains(failing)) {
+                throw new IllegalStateException("update failed");
+            }
+            writtenBatches.add(new ArrayList<>(batch));
+            return batch.size();
+        }).when(deviceRepository).updateLastEvents(Mockito.<TxContext>any(), Mockito.<List<DeviceEvent>>any());
+
+        DeviceLastEventUpdater instance = new DeviceLastEventUpdater(txManager, deviceRepository, TimeUnit.MINUTES.toMillis(1), 500);
+        instance.record(newDeviceEvent(10, 1, new Date()));
+        instance.record(failing);
+        instance.record(newDeviceEvent(30, 3, new Date()));
+
+        // The batch of three fails, then two of them are written alone
+        Assertions.assertEquals(2, instance.flush());
+        Assertions.assertEquals(2, writtenBatches.size());
+        Assertions.assertTrue(writtenBatches.stream().allMatch(batch -> batch.size() == 1 && !batch.contains(failing)));
+    }
+
+    @Test
+    public void recordWritesImmediatelyWithoutInterval() {
+        DeviceLastEventUpdater instance = new DeviceLastEventUpdater(txManager, deviceRepository, 0, 500);
+
+        DeviceEvent deviceEvent = newDeviceEvent(10, 1, new Date());
+        instance.record(deviceEvent);
+
+        Assertions.assertEquals(Collections.singletonList(Collections.singletonList(deviceEvent)), writtenBatches);
+        Assertions.assertEquals(0, instance.getPendingCount());
+    }
+
+    @Test
+    public void startWritesPeriodically() throws Exception {
+        DeviceLastEventUpdater instance = new DeviceLastEventUpdater(txManager, deviceRepository, 10, 500);
+        instance.start();
+        try {
+            instance.record(newDeviceEvent(10, 1, new Date()));
+
+            long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (instance.getPendingCount() > 0 && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(0, instance.getPendingCount());
+        } finally {
+            instance.stop();
+        }
+    }
+
+    @Test
+    public void stopWritesPendingEvents() throws KapuaException {
+        DeviceLastEventUpdater instance = new DeviceLastEventUpdater(txManager, deviceRepository, TimeUnit.MINUTES.toMillis(1), 500);
+        instance.start();
+
+        instance.record(newDeviceEvent(10, 1, new Date()));
+        instance.record(newDeviceEvent(20, 2, new Date()));
+        Assertions.assertTrue(writtenBatches.isEmpty());
+
+        instance.stop();
+
+        Assertions.assertEquals(1, writtenBatches.size());
+        Assertions.assertEquals(2, new HashSet<>(writtenBatches.get(0)).size());
+        Assertions.assertEquals(0, instance.getPendingCount());
+    }
+
+    private static DeviceEvent newDeviceEvent(long eventId, long deviceId, Date receivedOn) {
+        DeviceEventImpl deviceEvent = new DeviceEventImpl(SCOPE_ID);
+        deviceEvent.setId(new KapuaEid(BigInteger.valueOf(eventId)));
+        deviceEvent.setDeviceId(new KapuaEid(BigInteger.valueOf(deviceId)));
+        deviceEvent.setReceivedOn(receivedOn);
+        return deviceEvent;
+    }
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.registry.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
+import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
+import org.eclipse.kapua.commons.security.KapuaSession;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.device.management.message.KapuaMethod;
+import org.eclipse.kapua.service.device.management.message.response.KapuaResponseCode;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.event.DeviceEvent;
+import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventImpl;
+import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventImplJpaRepository;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+/**
+ * Tests {@link DeviceImplJpaRepository#updateLastEvents(org.eclipse.kapua.storage.TxContext, java.util.List)} against H2.
+ */
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceImplJpaRepositoryTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+
+    private static TxManager txManager;
+    private static DeviceImplJpaRepository deviceRepository;
+    private static DeviceEventImplJpaRepository deviceEventRepository;
+
+    @BeforeAll
+    public static void setUp() {
+        KapuaSession kapuaSession = Mockito.mock(KapuaSession.class);
+        Mockito.when(kapuaSession.getUserId()).thenReturn(KapuaId.ONE);
+        KapuaSecurityUtils.setSession(kapuaSession);
+
+        txManager = new KapuaJpaTxManagerFactory(3).create("kapua-device-registry-unit-test");
+
+        KapuaJpaRepositoryConfiguration jpaRepoConfig = new KapuaJpaRepositoryConfiguration("\\", "%", "_", 1000);
+        deviceRepository = new DeviceImplJpaRepository(jpaRepoConfig);
+        deviceEventRepository = new DeviceEventImplJpaRepository(jpaRepoConfig);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        KapuaSecurityUtils.clearSession();
+    }
+
+    @Test
+    public void updateLastEventsInBulk() throws KapuaException {
+        Device firstDevice = createDevice("first");
+        Device secondDevice = createDevice("second");
+        DeviceEvent firstEvent = createDeviceEvent(firstDevice, 1000);
+        DeviceEvent secondEvent = createDeviceEvent(secondDevice, 1000);
+
+        Assertions.assertEquals(2, (int) txManager.execute(tx -> deviceRepository.updateLastEvents(tx, Arrays.asList(firstEvent, secondEvent))));
+
+        Assertions.assertEquals(firstEvent.getId(), findLastEventId(firstDevice));
+        Assertions.assertEquals(secondEvent.getId(), findLastEventId(secondDevice));
+    }
+
+    @Test
+    public void updateLastEventsSkipsOlderEvents() throws KapuaException {
+        Device olderEventDevice = createDevice("older");
+        Device newerEventDevice = createDevice("newer");
+        DeviceEvent currentOlderEventDeviceEvent = createDeviceEvent(olderEventDevice, 2000);
+        DeviceEvent currentNewerEventDeviceEvent = createDeviceEvent(newerEventDevice, 2000);
+        txManager.execute(tx -> deviceRepository.updateLastEvents(tx, Arrays.asList(currentOlderEventDeviceEvent, currentNewerEventDeviceEvent)));
+
+        // Received before the current last event, e.g. written by another instance
+        DeviceEvent olderEvent = createDeviceEvent(olderEventDevice, 1000);
+        DeviceEvent newerEvent = createDeviceEvent(newerEventDevice, 3000);
+
+        Assertions.assertEquals(1, (int) txManager.execute(tx -> deviceRepository.updateLastEvents(tx, Arrays.asList(olderEvent, newerEvent))));
+
+        Assertions.assertEquals(currentOlderEventDeviceEvent.getId(), findLastEventId(olderEventDevice));
+        Assertions.assertEquals(newerEvent.getId(), findLastEventId(newerEventDevice));
+    }
+
+    @Test
+    public void updateLastEventsSkipsDeletedDevices() throws KapuaException {
+        Device device = createDevice("deleted");
+        DeviceEvent deviceEvent = createDeviceEvent(device, 1000);
+        txManager.execute(tx -> JpaAwareTxContext.extractEntityManager(tx)
+                .createQuery("DELETE FROM Device d WHERE d.id.eid = :deviceId")
+                .setParameter("deviceId", device.getId().getId())
+                .executeUpdate());
+
+        Assertions.assertEquals(0, (int) txManager.execute(tx -> deviceRepository.updateLastEvents(tx, Collections.singletonList(deviceEvent))));
+    }
+
+    private static Device createDevice(String clientId) throws KapuaException {
+        DeviceImpl device = new DeviceImpl(SCOPE_ID);
+        device.setClientId(clientId + "-" + System.nanoTime());
+        return txManager.execute(tx -> deviceRepository.create(tx, device));
+    }
+
+    private static DeviceEvent createDeviceEvent(Device device, long receivedOn) throws KapuaException {
+        DeviceEventImpl deviceEvent = new DeviceEventImpl(SCOPE_ID);
+        deviceEvent.setDeviceId(device.getId());
+        deviceEvent.setReceivedOn(new Date(receivedOn));
+        deviceEvent.setResource("test");
+        deviceEvent.setAction(KapuaMethod.CREATE);
+        deviceEvent.setResponseCode(KapuaResponseCode.ACCEPTED);
+        deviceEvent.setEventMessage("test");
+        return txManager.execute(tx -> deviceEventRepository.create(tx, deviceEvent));
+    }
+
+    private static KapuaId findLastEventId(Device device) throws KapuaException {
+        return txManager.execute(tx -> deviceRepository.find(tx, SCOPE_ID, device.getId()))
+                .map(Device::getLastEventId)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.device.registry.internal;
+
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.jpa.EventStorer;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.access.GroupQueryHelper;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.registry.DeviceFactory;
+import org.eclipse.kapua.service.device.registry.DeviceRepository;
+import org.eclipse.kapua.service.device.registry.common.DeviceValidation;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.function.BiConsumer;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class DeviceRegistryServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId DEVICE_ID = new KapuaEid(BigInteger.TEN);
+
+    private ServiceConfigurationManager serviceConfigurationManager;
+    private DeviceRepository deviceRepository;
+    private DeviceValidation deviceValidation;
+    private DeviceRegistryServiceImpl instance;
+
+    @BeforeEach
+    public void setUp() {
+        serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        deviceRepository = Mockito.mock(DeviceRepository.class);
+        deviceValidation = Mockito.mock(DeviceValidation.class);
+
+        final TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        instance = new DeviceRegistryServiceImpl(
+                serviceConfigurationManager,
+                Mockito.mock(AuthorizationService.class),
+                Mockito.mock(PermissionFactory.class),
+                txManager,
+                deviceRepository,
+                Mockito.mock(DeviceFactory.class),
+                Mockito.mock(GroupQueryHelper.class),
+                Mockito.mock(EventStorer.class),
+                deviceValidation
+        );
+    }
+
+    @Test
+    public void deleteReleasesAllowedEntity() throws KapuaException {
+        instance.delete(SCOPE_ID, DEVICE_ID);
+
+        Mockito.verify(deviceRepository).delete(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID));
+        Mockito.verify(serviceConfigurationManager).releaseAllowedEntity(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID));
+    }
+
+    @Test
+    public void deleteMissingDoesNotReleaseAllowedEntity() throws KapuaException {
+        Mockito.doThrow(new KapuaEntityNotFoundException("Device", DEVICE_ID)).when(deviceValidation).validateDeletePreconditions(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(DEVICE_ID));
+
+        Assertions.assertThrows(KapuaEntityNotFoundException.class, () -> instance.delete(SCOPE_ID, DEVICE_ID));
+
+        Mockito.verifyZeroInteractions(serviceConfigurationManager);
+    }
+}
@@ -97,7 +97,13 @@ public interface JobExecution extends KapuaUpdatableEntity {
     void setTargetIds(Set<KapuaId> tagTargetIds);
 
     /**
-     * @return
+     * Gets the log of the {@link JobExecution}.
+     * <p>
+     * Since 2.1.0 the log is stored while the {@link JobExecution} runs as a sequence of
+     * {@link org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment}s and this only contains the last segment.
+     * The whole log can be paged with the {@link org.eclipse.kapua.service.job.execution.log.JobExecutionLogService}.
+     *
+     * @return The last segment of the log of the {@link JobExecution}.
      * @since 1.1.0
      */
     String getLog();
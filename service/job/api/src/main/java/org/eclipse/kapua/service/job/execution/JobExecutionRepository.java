@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,11 @@ import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.storage.KapuaUpdatableEntityRepository;
 import org.eclipse.kapua.storage.TxContext;
 
+import java.util.Optional;
+
 public interface JobExecutionRepository
         extends KapuaUpdatableEntityRepository<JobExecution, JobExecutionListResult> {
     long countByJobId(TxContext tx, KapuaId scopeId, KapuaId jobId) throws KapuaException;
+
+    Optional<JobExecution> findForUpdate(TxContext tx, KapuaId scopeId, KapuaId jobExecutionId);
 }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log;
+
+import org.eclipse.kapua.model.KapuaEntity;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.id.KapuaIdAdapter;
+import org.eclipse.kapua.service.job.execution.JobExecution;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+/**
+ * {@link JobExecutionLogSegment} definition.
+ * <p>
+ * A bounded chunk of the log of a {@link JobExecution}. Segments are written while the {@link JobExecution} runs
+ * and the full log is the concatenation of the segments ordered by {@link #getSegmentIndex()}.
+ *
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "jobExecutionLogSegment")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+@XmlType(factoryClass = JobExecutionLogSegmentXmlRegistry.class, factoryMethod = "newJobExecutionLogSegment")
+public interface JobExecutionLogSegment extends KapuaEntity {
+
+    String TYPE = "jobExecutionLogSegment";
+
+    @Override
+    default String getType() {
+        return TYPE;
+    }
+
+    /**
+     * Gets the {@link org.eclipse.kapua.service.job.Job#getId()}.
+     *
+     * @return The {@link org.eclipse.kapua.service.job.Job#getId()}.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "jobId")
+    @XmlJavaTypeAdapter(KapuaIdAdapter.class)
+    KapuaId getJobId();
+
+    /**
+     * Sets the {@link org.eclipse.kapua.service.job.Job#getId()}.
+     *
+     * @param jobId The {@link org.eclipse.kapua.service.job.Job#getId()}.
+     * @since 2.1.0
+     */
+    void setJobId(KapuaId jobId);
+
+    /**
+     * Gets the {@link JobExecution#getId()}.
+     *
+     * @return The {@link JobExecution#getId()}.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "jobExecutionId")
+    @XmlJavaTypeAdapter(KapuaIdAdapter.class)
+    KapuaId getJobExecutionId();
+
+    /**
+     * Sets the {@link JobExecution#getId()}.
+     *
+     * @param jobExecutionId The {@link JobExecution#getId()}.
+     * @since 2.1.0
+     */
+    void setJobExecutionId(KapuaId jobExecutionId);
+
+    /**
+     * Gets the position of this {@link JobExecutionLogSegment} in the {@link JobExecution} log.
+     *
+     * @return The position of this {@link JobExecutionLogSegment} in the {@link JobExecution} log.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "segmentIndex")
+    Integer getSegmentIndex();
+
+    /**
+     * Sets the position of this {@link JobExecutionLogSegment} in the {@link JobExecution} log.
+     *
+     * @param segmentIndex The position of this {@link JobExecutionLogSegment} in the {@link JobExecution} log.
+     * @since 2.1.0
+     */
+    void setSegmentIndex(Integer segmentIndex);
+
+    /**
+     * Gets the log lines of this {@link JobExecutionLogSegment}.
+     *
+     * @return The log lines of this {@link JobExecutionLogSegment}.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "content")
+    String getContent();
+
+    /**
+     * Sets the log lines of this {@link JobExecutionLogSegment}.
+     *
+     * @param content The log lines of this {@link JobExecutionLogSegment}.
+     * @since 2.1.0
+     */
+    void setContent(String content);
+}
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log;
+
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+
+/**
+ * {@link JobExecutionLogSegment} {@link KapuaEntityAttributes}.
+ *
+ * @since 2.1.0
+ */
+public class JobExecutionLogSegmentAttributes extends KapuaEntityAttributes {
+
+    public static final String JOB_ID = "jobId";
+    public static final String JOB_EXECUTION_ID = "jobExecutionId";
+    public static final String SEGMENT_INDEX = "segmentIndex";
+}
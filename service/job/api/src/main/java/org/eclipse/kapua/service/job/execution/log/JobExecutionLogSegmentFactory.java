@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log;
+
+import org.eclipse.kapua.model.KapuaObjectFactory;
+import org.eclipse.kapua.model.id.KapuaId;
+
+/**
+ * {@link JobExecutionLogSegment} {@link KapuaObjectFactory} definition.
+ *
+ * @since 2.1.0
+ */
+public interface JobExecutionLogSegmentFactory extends KapuaObjectFactory {
+
+    /**
+     * Instantiates a new {@link JobExecutionLogSegment}.
+     *
+     * @param scopeId The {@link JobExecutionLogSegment#getScopeId()}.
+     * @return The newly instantiated {@link JobExecutionLogSegment}.
+     * @since 2.1.0
+     */
+    JobExecutionLogSegment newEntity(KapuaId scopeId);
+
+    /**
+     * Instantiates a new {@link JobExecutionLogSegmentQuery}.
+     *
+     * @param scopeId The {@link JobExecutionLogSegmentQuery#getScopeId()}.
+     * @return The newly instantiated {@link JobExecutionLogSegmentQuery}.
+     * @since 2.1.0
+     */
+    JobExecutionLogSegmentQuery newQuery(KapuaId scopeId);
+
+    /**
+     * Instantiates a new {@link JobExecutionLogSegmentListResult}.
+     *
+     * @return The newly instantiated {@link JobExecutionLogSegmentListResult}.
+     * @since 2.1.0
+     */
+    JobExecutionLogSegmentListResult newListResult();
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log;
+
+import org.eclipse.kapua.model.query.KapuaQuery;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * {@link JobExecutionLogSegment} {@link KapuaQuery} definition.
+ *
+ * @see KapuaQuery
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "query")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+@XmlType(factoryClass = JobExecutionLogSegmentXmlRegistry.class, factoryMethod = "newQuery")
+public interface JobExecutionLogSegmentQuery extends KapuaQuery {
+}
@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.storage.KapuaEntityRepository;
+import org.eclipse.kapua.storage.TxContext;
+
+import java.util.Optional;
+
+public interface JobExecutionLogSegmentRepository
+        extends KapuaEntityRepository<JobExecutionLogSegment, JobExecutionLogSegmentListResult> {
+
+    Optional<Integer> findMaxSegmentIndex(TxContext tx, KapuaId scopeId, KapuaId jobExecutionId) throws KapuaException;
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log;
+
+import org.eclipse.kapua.locator.KapuaLocator;
+
+import javax.xml.bind.annotation.XmlRegistry;
+
+/**
+ * {@link JobExecutionLogSegment} xml factory class
+ *
+ * @since 2.1.0
+ */
+@XmlRegistry
+public class JobExecutionLogSegmentXmlRegistry {
+
+    private final JobExecutionLogSegmentFactory jobExecutionLogSegmentFactory = KapuaLocator.getInstance().getFactory(JobExecutionLogSegmentFactory.class);
+
+    public JobExecutionLogSegment newJobExecutionLogSegment() {
+        return jobExecutionLogSegmentFactory.newEntity(null);
+    }
+
+    public JobExecutionLogSegmentListResult newJobExecutionLogSegmentListResult() {
+        return jobExecutionLogSegmentFactory.newListResult();
+    }
+
+    public JobExecutionLogSegmentQuery newQuery() {
+        return jobExecutionLogSegmentFactory.newQuery(null);
+    }
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaQuery;
+import org.eclipse.kapua.service.KapuaService;
+import org.eclipse.kapua.service.job.execution.JobExecution;
+
+/**
+ * {@link JobExecutionLogService} exposes APIs to store and read the log of a {@link JobExecution} as a sequence of {@link JobExecutionLogSegment}s.
+ *
+ * @since 2.1.0
+ */
+public interface JobExecutionLogService extends KapuaService {
+
+    /**
+     * Appends a new {@link JobExecutionLogSegment} at the end of the log of the given {@link JobExecution}.
+     * <p>
+     * Appends to the same {@link JobExecution} are serialized: each {@link JobExecutionLogSegment} gets the {@link JobExecutionLogSegment#getSegmentIndex()}
+     * following the highest one already stored.
+     *
+     * @param scopeId        The {@link JobExecution#getScopeId()}.
+     * @param jobId          The {@link JobExecution#getJobId()}.
+     * @param jobExecutionId The {@link JobExecution#getId()}.
+     * @param content        The log lines to append.
+     * @return The created {@link JobExecutionLogSegment}.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    JobExecutionLogSegment append(KapuaId scopeId, KapuaId jobId, KapuaId jobExecutionId, String content) throws KapuaException;
+
+    /**
+     * Returns the {@link JobExecutionLogSegmentListResult} with elements matching the provided query.
+     *
+     * @param query The {@link JobExecutionLogSegmentQuery} used to filter results.
+     * @return The {@link JobExecutionLogSegmentListResult} with elements matching the query parameter.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    JobExecutionLogSegmentListResult query(KapuaQuery query) throws KapuaException;
+
+    /**
+     * Returns the count of {@link JobExecutionLogSegment} matching the provided query.
+     *
+     * @param query The {@link JobExecutionLogSegmentQuery} used to filter results.
+     * @return The count of {@link JobExecutionLogSegment} matching the query parameter.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    long count(KapuaQuery query) throws KapuaException;
+}
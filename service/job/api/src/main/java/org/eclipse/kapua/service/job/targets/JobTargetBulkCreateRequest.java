@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.targets;
+
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.id.KapuaIdAdapter;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request to add many {@link JobTarget}s to a {@link org.eclipse.kapua.service.job.Job} at once.
+ *
+ * @see JobTargetService#createAll(KapuaId, KapuaId, java.util.Collection)
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "jobTargetBulkCreateRequest")
+public class JobTargetBulkCreateRequest {
+
+    /**
+     * The {@link JobTarget#getJobTargetId()}s to add.
+     *
+     * @since 2.1.0
+     */
+    @XmlElement(name = "jobTargetIds")
+    @XmlJavaTypeAdapter(KapuaIdAdapter.class)
+    public List<KapuaId> jobTargetIds = new ArrayList<>();
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.targets;
+
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.id.KapuaIdAdapter;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a bulk {@link JobTarget} creation.
+ * <p>
+ * It contains the {@link JobTarget}s that have been created and the {@link JobTarget#getJobTargetId()}s that have been skipped
+ * because they were already targets of the {@link org.eclipse.kapua.service.job.Job}.
+ *
+ * @see JobTargetService#createAll(KapuaId, KapuaId, java.util.Collection)
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "jobTargetBulkCreateResult")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+public class JobTargetBulkCreateResult {
+
+    private List<JobTarget> createdJobTargets = new ArrayList<>();
+    private List<KapuaId> skippedJobTargetIds = new ArrayList<>();
+
+    /**
+     * Gets the created {@link JobTarget}s.
+     *
+     * @return The created {@link JobTarget}s.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "createdJobTargets")
+    public List<JobTarget> getCreatedJobTargets() {
+        return createdJobTargets;
+    }
+
+    /**
+     * Sets the created {@link JobTarget}s.
+     *
+     * @param createdJobTargets The created {@link JobTarget}s.
+     * @since 2.1.0
+     */
+    public void setCreatedJobTargets(List<JobTarget> createdJobTargets) {
+        this.createdJobTargets = createdJobTargets;
+    }
+
+    /**
+     * Gets the {@link JobTarget#getJobTargetId()}s that were skipped because already targets of the {@link org.eclipse.kapua.service.job.Job}.
+     *
+     * @return The skipped {@link JobTarget#getJobTargetId()}s.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "skippedJobTargetIds")
+    @XmlJavaTypeAdapter(KapuaIdAdapter.class)
+    public List<KapuaId> getSkippedJobTargetIds() {
+        return skippedJobTargetIds;
+    }
+
+    /**
+     * Sets the {@link JobTarget#getJobTargetId()}s that were skipped because already targets of the {@link org.eclipse.kapua.service.job.Job}.
+     *
+     * @param skippedJobTargetIds The skipped {@link JobTarget#getJobTargetId()}s.
+     * @since 2.1.0
+     */
+    public void setSkippedJobTargetIds(List<KapuaId> skippedJobTargetIds) {
+        this.skippedJobTargetIds = skippedJobTargetIds;
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.targets;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Summary of a bulk {@link JobTarget} creation.
+ * <p>
+ * Unlike {@link JobTargetBulkCreateResult} it only reports how many {@link JobTarget}s have been created and skipped,
+ * so its size does not depend on the number of {@link JobTarget}s.
+ *
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "jobTargetBulkCreateSummary")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+public class JobTargetBulkCreateSummary {
+
+    private long createdCount;
+    private long skippedCount;
+
+    /**
+     * Gets the number of created {@link JobTarget}s.
+     *
+     * @return The number of created {@link JobTarget}s.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "createdCount")
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Sets the number of created {@link JobTarget}s.
+     *
+     * @param createdCount The number of created {@link JobTarget}s.
+     * @since 2.1.0
+     */
+    public void setCreatedCount(long createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    /**
+     * Gets the number of {@link JobTarget#getJobTargetId()}s skipped because already targets of the {@link org.eclipse.kapua.service.job.Job}.
+     *
+     * @return The number of skipped {@link JobTarget#getJobTargetId()}s.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "skippedCount")
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Sets the number of {@link JobTarget#getJobTargetId()}s skipped because already targets of the {@link org.eclipse.kapua.service.job.Job}.
+     *
+     * @param skippedCount The number of skipped {@link JobTarget#getJobTargetId()}s.
+     * @since 2.1.0
+     */
+    public void setSkippedCount(long skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    /**
+     * Adds the counts of the given {@link JobTargetBulkCreateResult} to this summary.
+     *
+     * @param bulkCreateResult The {@link JobTargetBulkCreateResult} to add.
+     * @since 2.1.0
+     */
+    public void add(JobTargetBulkCreateResult bulkCreateResult) {
+        createdCount += bulkCreateResult.getCreatedJobTargets().size();
+        skippedCount += bulkCreateResult.getSkippedJobTargetIds().size();
+    }
+}
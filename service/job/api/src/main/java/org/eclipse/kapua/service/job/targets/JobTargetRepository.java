@@ -12,8 +12,39 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.job.targets;
 
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.storage.KapuaUpdatableEntityRepository;
+import org.eclipse.kapua.storage.TxContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface JobTargetRepository
         extends KapuaUpdatableEntityRepository<JobTarget, JobTargetListResult> {
+
+    /**
+     * Returns which of the given {@link JobTarget#getJobTargetId()}s are already targets of the given {@link org.eclipse.kapua.service.job.Job}.
+     *
+     * @param txContext    The {@link TxContext}.
+     * @param scopeId      The scope {@link KapuaId} of the {@link org.eclipse.kapua.service.job.Job}.
+     * @param jobId        The {@link org.eclipse.kapua.service.job.Job#getId()}.
+     * @param jobTargetIds The {@link JobTarget#getJobTargetId()}s to check.
+     * @return The subset of {@code jobTargetIds} which are already targets of the {@link org.eclipse.kapua.service.job.Job}.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    Set<KapuaId> findExistingJobTargetIds(TxContext txContext, KapuaId scopeId, KapuaId jobId, Collection<KapuaId> jobTargetIds) throws KapuaException;
+
+    /**
+     * Creates all the given {@link JobTarget}s, flushing the inserts in batches.
+     *
+     * @param txContext  The {@link TxContext}.
+     * @param jobTargets The {@link JobTarget}s to create.
+     * @return The created {@link JobTarget}s.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    List<JobTarget> createAll(TxContext txContext, List<JobTarget> jobTargets) throws KapuaException;
 }
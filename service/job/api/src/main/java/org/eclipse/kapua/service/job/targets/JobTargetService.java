@@ -13,10 +13,13 @@
 package org.eclipse.kapua.service.job.targets;
 
 import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.query.KapuaQuery;
 import org.eclipse.kapua.service.KapuaEntityService;
 import org.eclipse.kapua.service.KapuaUpdatableEntityService;
 
+import java.util.Collection;
+
 /**
  * {@link JobTargetService} exposes APIs to manage JobTarget objects.<br>
  * It includes APIs to create, update, find, list and delete Jobs.<br>
@@ -37,4 +40,20 @@ public interface JobTargetService extends KapuaEntityService<JobTarget, JobTarge
      */
     @Override
     JobTargetListResult query(KapuaQuery query) throws KapuaException;
+
+    /**
+     * Creates a {@link JobTarget} for each of the given {@link JobTarget#getJobTargetId()}s in a single transaction.
+     * <p>
+     * Uniqueness is checked with a single query for the whole set of {@link JobTarget#getJobTargetId()}s.
+     * {@link JobTarget#getJobTargetId()}s which are already targets of the {@link org.eclipse.kapua.service.job.Job} are not created
+     * and are reported in {@link JobTargetBulkCreateResult#getSkippedJobTargetIds()}.
+     *
+     * @param scopeId      The scope {@link KapuaId} of the {@link org.eclipse.kapua.service.job.Job}.
+     * @param jobId        The {@link org.eclipse.kapua.service.job.Job#getId()} to which add the {@link JobTarget}s.
+     * @param jobTargetIds The {@link JobTarget#getJobTargetId()}s to add.
+     * @return The {@link JobTargetBulkCreateResult} with the created {@link JobTarget}s and the skipped {@link JobTarget#getJobTargetId()}s.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    JobTargetBulkCreateResult createAll(KapuaId scopeId, KapuaId jobId, Collection<KapuaId> jobTargetIds) throws KapuaException;
 }
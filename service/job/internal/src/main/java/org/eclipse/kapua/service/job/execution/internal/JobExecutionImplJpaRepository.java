@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 package org.eclipse.kapua.service.job.execution.internal;
 
 import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaUpdatableEntityJpaRepository;
 import org.eclipse.kapua.model.id.KapuaId;
@@ -22,6 +23,10 @@ import org.eclipse.kapua.service.job.execution.JobExecutionQuery;
 import org.eclipse.kapua.service.job.execution.JobExecutionRepository;
 import org.eclipse.kapua.storage.TxContext;
 
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
 public class JobExecutionImplJpaRepository
         extends KapuaUpdatableEntityJpaRepository<JobExecution, JobExecutionImpl, JobExecutionListResult>
         implements JobExecutionRepository {
@@ -37,4 +42,10 @@ public class JobExecutionImplJpaRepository
         );
         return this.count(tx, jobExecutionQuery);
     }
+
+    @Override
+    public Optional<JobExecution> findForUpdate(TxContext tx, KapuaId scopeId, KapuaId jobExecutionId) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        return doFind(em, scopeId, jobExecutionId, LockModeType.PESSIMISTIC_WRITE);
+    }
 }
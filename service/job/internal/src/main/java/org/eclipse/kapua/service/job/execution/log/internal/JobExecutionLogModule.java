@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log.internal;
+
+import com.google.inject.Provides;
+import org.eclipse.kapua.commons.core.AbstractKapuaModule;
+import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.job.execution.JobExecutionRepository;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentFactory;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentRepository;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogService;
+import org.eclipse.kapua.storage.TxManager;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+public class JobExecutionLogModule extends AbstractKapuaModule {
+    @Override
+    protected void configureModule() {
+        bind(JobExecutionLogSegmentFactory.class).to(JobExecutionLogSegmentFactoryImpl.class);
+    }
+
+    @Provides
+    @Singleton
+    JobExecutionLogService jobExecutionLogService(
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            @Named("jobTxManager") TxManager txManager,
+            JobExecutionLogSegmentRepository jobExecutionLogSegmentRepository,
+            JobExecutionRepository jobExecutionRepository) {
+        return new JobExecutionLogServiceImpl(
+                authorizationService,
+                permissionFactory,
+                txManager,
+                jobExecutionLogSegmentRepository,
+                jobExecutionRepository);
+    }
+
+    @Provides
+    @Singleton
+    JobExecutionLogSegmentRepository jobExecutionLogSegmentRepository(KapuaJpaRepositoryConfiguration jpaRepoConfig) {
+        return new JobExecutionLogSegmentImplJpaRepository(jpaRepoConfig);
+    }
+}
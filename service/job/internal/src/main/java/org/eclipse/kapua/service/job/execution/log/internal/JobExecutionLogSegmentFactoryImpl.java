@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log.internal;
+
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentFactory;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentListResult;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentQuery;
+
+import javax.inject.Singleton;
+
+/**
+ * {@link JobExecutionLogSegmentFactory} implementation.
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class JobExecutionLogSegmentFactoryImpl implements JobExecutionLogSegmentFactory {
+
+    @Override
+    public JobExecutionLogSegment newEntity(KapuaId scopeId) {
+        return new JobExecutionLogSegmentImpl(scopeId);
+    }
+
+    @Override
+    public JobExecutionLogSegmentQuery newQuery(KapuaId scopeId) {
+        return new JobExecutionLogSegmentQueryImpl(scopeId);
+    }
+
+    @Override
+    public JobExecutionLogSegmentListResult newListResult() {
+        return new JobExecutionLogSegmentListResultImpl();
+    }
+}
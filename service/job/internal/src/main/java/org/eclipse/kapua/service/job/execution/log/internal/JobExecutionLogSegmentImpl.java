@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log.internal;
+
+import org.eclipse.kapua.commons.model.AbstractKapuaEntity;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment;
+
+import javax.persistence.AttributeOverride;
+import javax.persistence.AttributeOverrides;
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+/**
+ * {@link JobExecutionLogSegment} implementation
+ *
+ * @since 2.1.0
+ */
+@Entity(name = "JobExecutionLogSegment")
+@Table(name = "job_job_execution_log_segment")
+public class JobExecutionLogSegmentImpl extends AbstractKapuaEntity implements JobExecutionLogSegment {
+
+    private static final long serialVersionUID = 2190542834961713420L;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "eid", column = @Column(name = "job_id", nullable = false, updatable = false))
+    })
+    private KapuaEid jobId;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "eid", column = @Column(name = "job_execution_id", nullable = false, updatable = false))
+    })
+    private KapuaEid jobExecutionId;
+
+    @Basic
+    @Column(name = "segment_index", nullable = false, updatable = false)
+    private Integer segmentIndex;
+
+    @Lob
+    @Column(name = "content", nullable = true, updatable = false)
+    private String content;
+
+    /**
+     * Constructor.
+     *
+     * @since 2.1.0
+     */
+    public JobExecutionLogSegmentImpl() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param scopeId The scope {@link KapuaId} to set into the {@link JobExecutionLogSegment}.
+     * @since 2.1.0
+     */
+    public JobExecutionLogSegmentImpl(KapuaId scopeId) {
+        super(scopeId);
+    }
+
+    @Override
+    public KapuaId getJobId() {
+        return jobId;
+    }
+
+    @Override
+    public void setJobId(KapuaId jobId) {
+        this.jobId = KapuaEid.parseKapuaId(jobId);
+    }
+
+    @Override
+    public KapuaId getJobExecutionId() {
+        return jobExecutionId;
+    }
+
+    @Override
+    public void setJobExecutionId(KapuaId jobExecutionId) {
+        this.jobExecutionId = KapuaEid.parseKapuaId(jobExecutionId);
+    }
+
+    @Override
+    public Integer getSegmentIndex() {
+        return segmentIndex;
+    }
+
+    @Override
+    public void setSegmentIndex(Integer segmentIndex) {
+        this.segmentIndex = segmentIndex;
+    }
+
+    @Override
+    public String getContent() {
+        return content;
+    }
+
+    @Override
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
+import org.eclipse.kapua.commons.jpa.KapuaEntityJpaRepository;
+import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentAttributes;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentListResult;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentRepository;
+import org.eclipse.kapua.storage.TxContext;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.Optional;
+
+public class JobExecutionLogSegmentImplJpaRepository
+        extends KapuaEntityJpaRepository<JobExecutionLogSegment, JobExecutionLogSegmentImpl, JobExecutionLogSegmentListResult>
+        implements JobExecutionLogSegmentRepository {
+
+    private static final String EID = "eid";
+
+    public JobExecutionLogSegmentImplJpaRepository(KapuaJpaRepositoryConfiguration jpaRepoConfig) {
+        super(JobExecutionLogSegmentImpl.class, JobExecutionLogSegment.TYPE, () -> new JobExecutionLogSegmentListResultImpl(), jpaRepoConfig);
+    }
+
+    @Override
+    public Optional<Integer> findMaxSegmentIndex(TxContext tx, KapuaId scopeId, KapuaId jobExecutionId) throws KapuaException {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<Integer> maxQuery = cb.createQuery(Integer.class);
+        final Root<JobExecutionLogSegmentImpl> entityRoot = maxQuery.from(JobExecutionLogSegmentImpl.class);
+        // SELECT
+        maxQuery.select(cb.max(entityRoot.<Integer>get(JobExecutionLogSegmentAttributes.SEGMENT_INDEX)));
+        // WHERE
+        maxQuery.where(
+                cb.equal(entityRoot.get(JobExecutionLogSegmentAttributes.SCOPE_ID).get(EID), scopeId.getId()),
+                cb.equal(entityRoot.get(JobExecutionLogSegmentAttributes.JOB_EXECUTION_ID).get(EID), jobExecutionId.getId())
+        );
+
+        return Optional.ofNullable(em.createQuery(maxQuery).getSingleResult());
+    }
+}
@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log.internal;
+
+import org.eclipse.kapua.commons.model.query.KapuaListResultImpl;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentListResult;
+
+/**
+ * {@link JobExecutionLogSegmentListResult} implementation.
+ *
+ * @since 2.1.0
+ */
+public class JobExecutionLogSegmentListResultImpl extends KapuaListResultImpl<JobExecutionLogSegment> implements JobExecutionLogSegmentListResult {
+
+}
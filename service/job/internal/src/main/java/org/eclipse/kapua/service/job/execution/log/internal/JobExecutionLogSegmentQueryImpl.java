@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log.internal;
+
+import org.eclipse.kapua.commons.model.query.AbstractKapuaQuery;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaSortCriteria;
+import org.eclipse.kapua.model.query.SortOrder;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentAttributes;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentQuery;
+
+/**
+ * {@link JobExecutionLogSegmentQuery} implementation.
+ *
+ * @since 2.1.0
+ */
+public class JobExecutionLogSegmentQueryImpl extends AbstractKapuaQuery implements JobExecutionLogSegmentQuery {
+
+    /**
+     * Constructor.
+     *
+     * @param scopeId The {@link #getScopeId()}.
+     * @since 2.1.0
+     */
+    public JobExecutionLogSegmentQueryImpl(KapuaId scopeId) {
+        super(scopeId);
+    }
+
+    @Override
+    public KapuaSortCriteria getDefaultSortCriteria() {
+        return fieldSortCriteria(JobExecutionLogSegmentAttributes.SEGMENT_INDEX, SortOrder.ASCENDING);
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log.internal;
+
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.domains.Domains;
+import org.eclipse.kapua.commons.util.ArgumentValidator;
+import org.eclipse.kapua.model.domain.Actions;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaQuery;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.job.execution.JobExecution;
+import org.eclipse.kapua.service.job.execution.JobExecutionRepository;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentListResult;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentRepository;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogService;
+import org.eclipse.kapua.storage.TxManager;
+
+import javax.inject.Singleton;
+
+/**
+ * {@link JobExecutionLogService} implementation
+ *
+ * @since 2.1.0
+ */
+@Singleton
+public class JobExecutionLogServiceImpl implements JobExecutionLogService {
+
+    private final AuthorizationService authorizationService;
+    private final PermissionFactory permissionFactory;
+    private final TxManager txManager;
+    private final JobExecutionLogSegmentRepository jobExecutionLogSegmentRepository;
+    private final JobExecutionRepository jobExecutionRepository;
+
+    public JobExecutionLogServiceImpl(
+            AuthorizationService authorizationService,
+            PermissionFactory permissionFactory,
+            TxManager txManager,
+            JobExecutionLogSegmentRepository jobExecutionLogSegmentRepository,
+            JobExecutionRepository jobExecutionRepository) {
+        this.authorizationService = authorizationService;
+        this.permissionFactory = permissionFactory;
+        this.txManager = txManager;
+        this.jobExecutionLogSegmentRepository = jobExecutionLogSegmentRepository;
+        this.jobExecutionRepository = jobExecutionRepository;
+    }
+
+    @Override
+    public JobExecutionLogSegment append(KapuaId scopeId, KapuaId jobId, KapuaId jobExecutionId, String content) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(scopeId, "scopeId");
+        ArgumentValidator.notNull(jobId, "jobId");
+        ArgumentValidator.notNull(jobExecutionId, "jobExecutionId");
+        ArgumentValidator.notEmptyOrNull(content, "content");
+        // Check access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.JOB, Actions.write, scopeId));
+
+        return txManager.execute(tx -> {
+            // Check job execution existence, locking it so that appends to the same job execution are serialized
+            if (!jobExecutionRepository.findForUpdate(tx, scopeId, jobExecutionId).isPresent()) {
+                throw new KapuaEntityNotFoundException(JobExecution.TYPE, jobExecutionId);
+            }
+            // Next index follows the highest stored one, which is unique while the job execution is locked
+            int segmentIndex = jobExecutionLogSegmentRepository.findMaxSegmentIndex(tx, scopeId, jobExecutionId)
+                    .map(maxSegmentIndex -> maxSegmentIndex + 1)
+                    .orElse(0);
+
+            JobExecutionLogSegment jobExecutionLogSegment = new JobExecutionLogSegmentImpl(scopeId);
+            jobExecutionLogSegment.setJobId(jobId);
+            jobExecutionLogSegment.setJobExecutionId(jobExecutionId);
+            jobExecutionLogSegment.setSegmentIndex(segmentIndex);
+            jobExecutionLogSegment.setContent(content);
+            // Do create
+            return jobExecutionLogSegmentRepository.create(tx, jobExecutionLogSegment);
+        });
+    }
+
+    @Override
+    public JobExecutionLogSegmentListResult query(KapuaQuery query) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(query, "query");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.JOB, Actions.read, query.getScopeId()));
+        // Do query
+        return txManager.execute(tx -> jobExecutionLogSegmentRepository.query(tx, query));
+    }
+
+    @Override
+    public long count(KapuaQuery query) throws KapuaException {
+        // Argument Validation
+        ArgumentValidator.notNull(query, "query");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.JOB, Actions.read, query.getScopeId()));
+        // Do count
+        return txManager.execute(tx -> jobExecutionLogSegmentRepository.count(tx, query));
+    }
+}
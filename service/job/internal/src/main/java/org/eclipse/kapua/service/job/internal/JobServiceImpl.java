@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -205,7 +205,9 @@ public class JobServiceImpl extends KapuaConfigurableServiceBase implements JobS
                     throw e;
                 }
             }
-            return jobRepository.delete(tx, scopeId, jobId);
+            final Job deletedJob = jobRepository.delete(tx, scopeId, jobId);
+            serviceConfigurationManager.releaseAllowedEntity(tx, scopeId);
+            return deletedJob;
         });
     }
 }
@@ -12,18 +12,94 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.job.targets.internal;
 
+import com.google.common.collect.Iterables;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaUpdatableEntityJpaRepository;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.job.targets.JobTarget;
+import org.eclipse.kapua.service.job.targets.JobTargetAttributes;
 import org.eclipse.kapua.service.job.targets.JobTargetListResult;
 import org.eclipse.kapua.service.job.targets.JobTargetRepository;
+import org.eclipse.kapua.storage.TxContext;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class JobTargetImplJpaRepository
         extends KapuaUpdatableEntityJpaRepository<JobTarget, JobTargetImpl, JobTargetListResult>
         implements JobTargetRepository {
 
+    /**
+     * Maximum number of values bound in a single {@code IN} clause.
+     */
+    private static final int IN_CLAUSE_MAX_SIZE = 1000;
+
+    /**
+     * Number of inserts after which the {@link EntityManager} is flushed when creating many {@link JobTarget}s.
+     */
+    private static final int CREATE_FLUSH_SIZE = 100;
+
     public JobTargetImplJpaRepository(KapuaJpaRepositoryConfiguration jpaRepoConfig) {
         super(JobTargetImpl.class, JobTarget.TYPE, () -> new JobTargetListResultImpl(), jpaRepoConfig);
     }
 
+    @Override
+    public Set<KapuaId> findExistingJobTargetIds(TxContext txContext, KapuaId scopeId, KapuaId jobId, Collection<KapuaId> jobTargetIds) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(txContext);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final Set<KapuaId> existingJobTargetIds = new HashSet<>();
+        for (List<KapuaId> jobTargetIdsChunk : Iterables.partition(jobTargetIds, IN_CLAUSE_MAX_SIZE)) {
+            final CriteriaQuery<KapuaEid> criteriaSelectQuery = cb.createQuery(KapuaEid.class);
+            // FROM
+            final Root<JobTargetImpl> entityRoot = criteriaSelectQuery.from(JobTargetImpl.class);
+            // SELECT
+            criteriaSelectQuery.select(entityRoot.get(JobTargetAttributes.JOB_TARGET_ID));
+            // WHERE
+            final List<BigInteger> jobTargetEids = jobTargetIdsChunk.stream()
+                    .map(KapuaId::getId)
+                    .collect(Collectors.toList());
+
+            criteriaSelectQuery.where(
+                    cb.and(
+                            mapScopeIdToCriteria(scopeId, cb, entityRoot),
+                            cb.equal(entityRoot.get(JobTargetAttributes.JOB_ID), KapuaEid.parseKapuaId(jobId)),
+                            entityRoot.get(JobTargetAttributes.JOB_TARGET_ID).get("eid").in(jobTargetEids)
+                    )
+            );
+
+            existingJobTargetIds.addAll(em.createQuery(criteriaSelectQuery).getResultList());
+        }
+
+        return existingJobTargetIds;
+    }
+
+    @Override
+    public List<JobTarget> createAll(TxContext txContext, List<JobTarget> jobTargets) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(txContext);
+
+        final List<JobTarget> createdJobTargets = new ArrayList<>(jobTargets.size());
+        for (JobTarget jobTarget : jobTargets) {
+            em.persist(jobTarget);
+            createdJobTargets.add(jobTarget);
+
+            if (createdJobTargets.size() % CREATE_FLUSH_SIZE == 0) {
+                em.flush();
+            }
+        }
+        em.flush();
+
+        return createdJobTargets;
+    }
 }
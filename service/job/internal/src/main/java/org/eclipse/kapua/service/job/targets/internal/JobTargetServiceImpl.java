@@ -26,6 +26,7 @@ import org.eclipse.kapua.service.job.Job;
 import org.eclipse.kapua.service.job.JobRepository;
 import org.eclipse.kapua.service.job.targets.JobTarget;
 import org.eclipse.kapua.service.job.targets.JobTargetAttributes;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateResult;
 import org.eclipse.kapua.service.job.targets.JobTargetCreator;
 import org.eclipse.kapua.service.job.targets.JobTargetFactory;
 import org.eclipse.kapua.service.job.targets.JobTargetListResult;
@@ -38,8 +39,11 @@ import org.eclipse.kapua.storage.TxManager;
 import javax.inject.Singleton;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * {@link JobTargetService} implementation.
@@ -79,6 +83,8 @@ public class JobTargetServiceImpl implements JobTargetService {
         ArgumentValidator.notNull(jobTargetCreator.getJobTargetId(), "jobTargetCreator.jobTargetId");
         // Check access
         authorizationService.checkPermission(permissionFactory.newPermission(Domains.JOB, Actions.write, jobTargetCreator.getScopeId()));
+        // The duplicate check reads the JobTargets of the Job
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.JOB, Actions.read, jobTargetCreator.getScopeId()));
         return txManager.execute(tx -> {
             // Check Job Existing
             final Job job = jobRepository.find(tx, jobTargetCreator.getScopeId(), jobTargetCreator.getJobId())
@@ -92,7 +98,7 @@ public class JobTargetServiceImpl implements JobTargetService {
                     )
             );
 
-            if (count(jobTargetQuery) > 0) {
+            if (jobTargetRepository.count(tx, jobTargetQuery) > 0) {
                 List<Map.Entry<String, Object>> uniquesFieldValues = new ArrayList<>();
                 uniquesFieldValues.add(new AbstractMap.SimpleEntry<>(JobTargetAttributes.SCOPE_ID, jobTargetCreator.getScopeId()));
                 uniquesFieldValues.add(new AbstractMap.SimpleEntry<>(JobTargetAttributes.JOB_ID, jobTargetCreator.getJobId()));
@@ -112,6 +118,48 @@ public class JobTargetServiceImpl implements JobTargetService {
         });
     }
 
+    @Override
+    public JobTargetBulkCreateResult createAll(KapuaId scopeId, KapuaId jobId, Collection<KapuaId> jobTargetIds) throws KapuaException {
+        // Argument validation
+        ArgumentValidator.notNull(scopeId, "scopeId");
+        ArgumentValidator.notNull(jobId, "jobId");
+        ArgumentValidator.notNull(jobTargetIds, "jobTargetIds");
+        for (KapuaId jobTargetId : jobTargetIds) {
+            ArgumentValidator.notNull(jobTargetId, "jobTargetIds[]");
+        }
+        // Check access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.JOB, Actions.write, scopeId));
+        // The duplicate check reads the JobTargets of the Job
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.JOB, Actions.read, scopeId));
+        return txManager.execute(tx -> {
+            // Check Job Existing
+            jobRepository.find(tx, scopeId, jobId)
+                    .orElseThrow(() -> new KapuaEntityNotFoundException(Job.TYPE, jobId));
+            // Check duplicates, both against the Job and within the given ids
+            final Set<KapuaId> distinctJobTargetIds = new LinkedHashSet<>(jobTargetIds);
+            final Set<KapuaId> existingJobTargetIds = jobTargetRepository.findExistingJobTargetIds(tx, scopeId, jobId, distinctJobTargetIds);
+
+            final JobTargetBulkCreateResult bulkCreateResult = new JobTargetBulkCreateResult();
+            final List<JobTarget> jobTargetsToCreate = new ArrayList<>();
+            for (KapuaId jobTargetId : distinctJobTargetIds) {
+                if (existingJobTargetIds.contains(jobTargetId)) {
+                    bulkCreateResult.getSkippedJobTargetIds().add(jobTargetId);
+                    continue;
+                }
+
+                final JobTarget jobTarget = jobTargetFactory.newEntity(scopeId);
+                jobTarget.setJobId(jobId);
+                jobTarget.setJobTargetId(jobTargetId);
+                jobTarget.setStepIndex(0);
+                jobTarget.setStatus(JobTargetStatus.PROCESS_AWAITING);
+                jobTargetsToCreate.add(jobTarget);
+            }
+            // Do create
+            bulkCreateResult.setCreatedJobTargets(jobTargetRepository.createAll(tx, jobTargetsToCreate));
+            return bulkCreateResult;
+        });
+    }
+
     @Override
     public JobTarget find(KapuaId scopeId, KapuaId jobTargetId) throws KapuaException {
         // Argument Validation
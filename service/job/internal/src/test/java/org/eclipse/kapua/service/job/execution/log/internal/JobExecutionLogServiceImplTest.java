@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.execution.log.internal;
+
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.job.execution.JobExecution;
+import org.eclipse.kapua.service.job.execution.JobExecutionRepository;
+import org.eclipse.kapua.service.job.execution.internal.JobExecutionImpl;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegment;
+import org.eclipse.kapua.service.job.execution.log.JobExecutionLogSegmentRepository;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class JobExecutionLogServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId JOB_ID = new KapuaEid(BigInteger.TEN);
+    private static final KapuaId JOB_EXECUTION_ID = new KapuaEid(BigInteger.valueOf(100));
+
+    private TxContext txContext;
+    private JobExecutionRepository jobExecutionRepository;
+    private JobExecutionLogSegmentRepository jobExecutionLogSegmentRepository;
+    private JobExecutionLogServiceImpl instance;
+
+    @BeforeEach
+    public void setUp() throws KapuaException {
+        txContext = Mockito.mock(TxContext.class);
+
+        TxManager txManager = Mockito.mock(TxManager.class);
+        Mockito.when(txManager.execute(Mockito.<TxManager.TxConsumer<Object>>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(0, TxManager.TxConsumer.class).execute(txContext));
+
+        JobExecution jobExecution = new JobExecutionImpl(SCOPE_ID);
+        jobExecution.setId(JOB_EXECUTION_ID);
+
+        jobExecutionRepository = Mockito.mock(JobExecutionRepository.class);
+        Mockito.when(jobExecutionRepository.findForUpdate(txContext, SCOPE_ID, JOB_EXECUTION_ID))
+                .thenReturn(Optional.of(jobExecution));
+
+        jobExecutionLogSegmentRepository = Mockito.mock(JobExecutionLogSegmentRepository.class);
+        Mockito.when(jobExecutionLogSegmentRepository.create(Mockito.<TxContext>any(), Mockito.<JobExecutionLogSegment>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(1, JobExecutionLogSegment.class));
+
+        instance = new JobExecutionLogServiceImpl(
+                Mockito.mock(AuthorizationService.class),
+                Mockito.mock(PermissionFactory.class),
+                txManager,
+                jobExecutionLogSegmentRepository,
+                jobExecutionRepository);
+    }
+
+    @Test
+    public void appendFirstSegmentTest() throws KapuaException {
+        Mockito.when(jobExecutionLogSegmentRepository.findMaxSegmentIndex(txContext, SCOPE_ID, JOB_EXECUTION_ID))
+                .thenReturn(Optional.empty());
+
+        JobExecutionLogSegment jobExecutionLogSegment = instance.append(SCOPE_ID, JOB_ID, JOB_EXECUTION_ID, "first");
+
+        Assertions.assertEquals(0, jobExecutionLogSegment.getSegmentIndex());
+        Assertions.assertEquals(JOB_ID, jobExecutionLogSegment.getJobId());
+        Assertions.assertEquals(JOB_EXECUTION_ID, jobExecutionLogSegment.getJobExecutionId());
+        Assertions.assertEquals("first", jobExecutionLogSegment.getContent());
+    }
+
+    @Test
+    public void appendFollowsHighestSegmentIndexTest() throws KapuaException {
+        // Segment indexes may have gaps, so the next one must follow the highest and not the count
+        Mockito.when(jobExecutionLogSegmentRepository.findMaxSegmentIndex(txContext, SCOPE_ID, JOB_EXECUTION_ID))
+                .thenReturn(Optional.of(4));
+
+        JobExecutionLogSegment jobExecutionLogSegment = instance.append(SCOPE_ID, JOB_ID, JOB_EXECUTION_ID, "next");
+
+        Assertions.assertEquals(5, jobExecutionLogSegment.getSegmentIndex());
+    }
+
+    @Test
+    public void appendLocksJobExecutionBeforeReadingIndexTest() throws KapuaException {
+        Mockito.when(jobExecutionLogSegmentRepository.findMaxSegmentIndex(txContext, SCOPE_ID, JOB_EXECUTION_ID))
+                .thenReturn(Optional.of(0));
+
+        instance.append(SCOPE_ID, JOB_ID, JOB_EXECUTION_ID, "locked");
+
+        InOrder inOrder = Mockito.inOrder(jobExecutionRepository, jobExecutionLogSegmentRepository);
+        inOrder.verify(jobExecutionRepository).findForUpdate(txContext, SCOPE_ID, JOB_EXECUTION_ID);
+        inOrder.verify(jobExecutionLogSegmentRepository).findMaxSegmentIndex(txContext, SCOPE_ID, JOB_EXECUTION_ID);
+        inOrder.verify(jobExecutionLogSegmentRepository).create(Mockito.eq(txContext), Mockito.<JobExecutionLogSegment>any());
+    }
+
+    @Test
+    public void appendJobExecutionNotFoundTest() throws KapuaException {
+        Mockito.when(jobExecutionRepository.findForUpdate(txContext, SCOPE_ID, JOB_EXECUTION_ID))
+                .thenReturn(Optional.empty());
+
+        Assertions.assertThrows(KapuaEntityNotFoundException.class, () -> instance.append(SCOPE_ID, JOB_ID, JOB_EXECUTION_ID, "lost"));
+
+        Mockito.verify(jobExecutionLogSegmentRepository, Mockito.never()).create(Mockito.<TxContext>any(), Mockito.<JobExecutionLogSegment>any());
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.job.internal;
+
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.job.engine.JobEngineService;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.job.JobRepository;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerService;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class JobServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId JOB_ID = new KapuaEid(BigInteger.TEN);
+
+    private ServiceConfigurationManager serviceConfigurationManager;
+    private JobRepository jobRepository;
+    private JobServiceImpl instance;
+
+    @BeforeEach
+    public void setUp() {
+        serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        jobRepository = Mockito.mock(JobRepository.class);
+
+        final TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        instance = new JobServiceImpl(
+                serviceConfigurationManager,
+                Mockito.mock(JobEngineService.class),
+                Mockito.mock(PermissionFactory.class),
+                Mockito.mock(AuthorizationService.class),
+                txManager,
+                jobRepository,
+                Mockito.mock(TriggerService.class)
+        );
+    }
+
+    @Test
+    public void deleteReleasesAllowedEntity() throws KapuaException {
+        Mockito.when(jobRepository.find(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(JOB_ID))).thenReturn(Optional.of(new JobImpl(SCOPE_ID)));
+
+        instance.delete(SCOPE_ID, JOB_ID);
+
+        Mockito.verify(jobRepository).delete(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(JOB_ID));
+        Mockito.verify(serviceConfigurationManager).releaseAllowedEntity(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID));
+    }
+
+    @Test
+    public void deleteMissingDoesNotReleaseAllowedEntity() {
+        Mockito.when(jobRepository.find(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(JOB_ID))).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(KapuaEntityNotFoundException.class, () -> instance.delete(SCOPE_ID, JOB_ID));
+
+        Mockito.verifyZeroInteractions(serviceConfigurationManager);
+    }
+}
@@ -37,6 +37,7 @@ import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
 import org.eclipse.kapua.service.job.Job;
 import org.eclipse.kapua.service.job.targets.JobTarget;
 import org.eclipse.kapua.service.job.targets.JobTargetAttributes;
+import org.eclipse.kapua.service.job.targets.JobTargetBulkCreateResult;
 import org.eclipse.kapua.service.job.targets.JobTargetCreator;
 import org.eclipse.kapua.service.job.targets.JobTargetFactory;
 import org.eclipse.kapua.service.job.targets.JobTargetListResult;
@@ -59,6 +60,8 @@ public class JobTargetServiceSteps extends JobServiceTestBase {
     private final static Logger LOG = LoggerFactory.getLogger(JobTargetServiceSteps.class);
 
     private static final String DEVICE = "Device";
+    private static final String JOB_TARGET_BULK_IDS = "JobTargetBulkIds";
+    private static final String JOB_TARGET_BULK_CREATE_RESULT = "JobTargetBulkCreateResult";
 
     private DeviceFactory deviceFactory;
     private DeviceRegistryService deviceRegistryService;
@@ -130,6 +133,23 @@ public class JobTargetServiceSteps extends JobServiceTestBase {
     }
 
 
+    @Given("I bulk add {int} new job target item(s)")
+    public void bulkAddNewTargets(int newTargets) throws Exception {
+        bulkAddTargets(new ArrayList<>(), newTargets);
+    }
+
+    @Given("I bulk add the same job target items again with {int} new one(s)")
+    public void bulkAddSameTargetsAgain(int newTargets) throws Exception {
+        bulkAddTargets((List<KapuaId>) stepData.get(JOB_TARGET_BULK_IDS), newTargets);
+    }
+
+    @Then("The bulk creation created {int} job target(s) and skipped {int}")
+    public void checkBulkCreateResult(int created, int skipped) {
+        JobTargetBulkCreateResult bulkCreateResult = (JobTargetBulkCreateResult) stepData.get(JOB_TARGET_BULK_CREATE_RESULT);
+        Assert.assertEquals(created, bulkCreateResult.getCreatedJobTargets().size());
+        Assert.assertEquals(skipped, bulkCreateResult.getSkippedJobTargetIds().size());
+    }
+
     @And("I confirm the step index is different than {int} and status is {string}")
     public void iConfirmTheStepIndexIsDifferentThanAndStatusIs(int stepIndex, String status) {
         JobTarget jobTarget = (JobTarget) stepData.get(JOB_TARGET);
@@ -483,6 +503,23 @@ public class JobTargetServiceSteps extends JobServiceTestBase {
     //
     // Private methods
     //
+    private void bulkAddTargets(List<KapuaId> jobTargetIds, int newTargets) throws Exception {
+        KapuaId currentJobId = (KapuaId) stepData.get(CURRENT_JOB_ID);
+        List<KapuaId> bulkJobTargetIds = new ArrayList<>(jobTargetIds);
+        for (int i = 0; i < newTargets; i++) {
+            bulkJobTargetIds.add(getKapuaId());
+        }
+        stepData.put(JOB_TARGET_BULK_IDS, bulkJobTargetIds);
+        primeException();
+        try {
+            stepData.remove(JOB_TARGET_BULK_CREATE_RESULT);
+            JobTargetBulkCreateResult bulkCreateResult = jobTargetService.createAll(getCurrentScopeId(), currentJobId, bulkJobTargetIds);
+            stepData.put(JOB_TARGET_BULK_CREATE_RESULT, bulkCreateResult);
+        } catch (KapuaException ex) {
+            verifyException(ex);
+        }
+    }
+
     private JobTargetCreator prepareJobTargetCreator() {
         KapuaId currentJobId = (KapuaId) stepData.get(CURRENT_JOB_ID);
         Device device = (Device) stepData.get(DEVICE);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,12 +18,14 @@ import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
 import org.eclipse.kapua.commons.crypto.CryptoUtil;
 import org.eclipse.kapua.commons.crypto.CryptoUtilImpl;
 import org.eclipse.kapua.commons.crypto.setting.CryptoSettings;
+import org.eclipse.kapua.commons.jpa.EventStorerImpl;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
 import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.metric.MetricsService;
 import org.eclipse.kapua.commons.metric.MetricsServiceImpl;
 import org.eclipse.kapua.commons.model.query.QueryFactoryImpl;
+import org.eclipse.kapua.commons.service.event.store.internal.EventStoreRecordImplJpaRepository;
 import org.eclipse.kapua.commons.service.internal.cache.CacheManagerProvider;
 import org.eclipse.kapua.commons.setting.system.SystemSetting;
 import org.eclipse.kapua.commons.util.xml.XmlUtil;
@@ -156,7 +158,8 @@ public class JobLocatorConfiguration {
                         new TriggerServiceImpl(mockedAuthorization, mockedPermissionFactory,
                                 txManager, triggerImplJpaRepository, new TriggerFactoryImpl(),
                                 new TriggerDefinitionImplJpaRepository(jpaRepoConfig),
-                                new TriggerDefinitionFactoryImpl()
+                                new TriggerDefinitionFactoryImpl(),
+                                new EventStorerImpl(new EventStoreRecordImplJpaRepository(jpaRepoConfig))
                         )));
                 bind(JobStepDefinitionService.class).toInstance(new JobStepDefinitionServiceImpl(
                         mockedAuthorization,
@@ -207,7 +210,8 @@ public class JobLocatorConfiguration {
                         triggerImplJpaRepository,
                         triggerFactory,
                         triggerDefinitionRepository,
-                        triggerDefinitionFactory
+                        triggerDefinitionFactory,
+                        new EventStorerImpl(new EventStoreRecordImplJpaRepository(jpaRepoConfig))
                 ));
                 bind(TriggerFactory.class).toInstance(triggerFactory);
                 bind(TriggerDefinitionService.class).toInstance(new TriggerDefinitionServiceImpl(
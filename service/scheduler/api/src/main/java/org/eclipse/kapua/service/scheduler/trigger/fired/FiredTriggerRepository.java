@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,8 +12,35 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.scheduler.trigger.fired;
 
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.storage.KapuaEntityRepository;
+import org.eclipse.kapua.storage.TxContext;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
 public interface FiredTriggerRepository
         extends KapuaEntityRepository<FiredTrigger, FiredTriggerListResult> {
+
+    /**
+     * Finds the {@link FiredTrigger#getId()}s of all scopes fired before the given date.
+     *
+     * @param tx          The {@link TxContext}.
+     * @param firedBefore The {@link FiredTrigger#getFiredOn()} upper bound, exclusive.
+     * @param maxResults  The maximum number of {@link FiredTrigger#getId()}s to return.
+     * @return The {@link List} of expired {@link FiredTrigger#getId()}s, oldest first.
+     * @since 2.1.0
+     */
+    List<KapuaId> findExpiredIds(TxContext tx, Date firedBefore, int maxResults);
+
+    /**
+     * Deletes the {@link FiredTrigger}s with the given {@link FiredTrigger#getId()}s.
+     *
+     * @param tx              The {@link TxContext}.
+     * @param firedTriggerIds The {@link FiredTrigger#getId()}s to delete.
+     * @return The number of deleted {@link FiredTrigger}s.
+     * @since 2.1.0
+     */
+    int deleteAll(TxContext tx, Collection<KapuaId> firedTriggerIds);
 }
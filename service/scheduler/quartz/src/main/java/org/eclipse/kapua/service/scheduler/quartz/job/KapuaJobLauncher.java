@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,19 +13,29 @@
 package org.eclipse.kapua.service.scheduler.quartz.job;
 
 import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.commons.security.KapuaSecurityUtils;
 import org.eclipse.kapua.job.engine.JobEngineService;
 import org.eclipse.kapua.job.engine.JobStartOptions;
+import org.eclipse.kapua.job.engine.exception.JobRunningException;
 import org.eclipse.kapua.locator.KapuaLocator;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.id.KapuaIdFactory;
+import org.eclipse.kapua.model.query.predicate.AttributePredicate;
 import org.eclipse.kapua.service.job.JobService;
+import org.eclipse.kapua.service.job.execution.JobExecution;
+import org.eclipse.kapua.service.job.execution.JobExecutionAttributes;
+import org.eclipse.kapua.service.job.execution.JobExecutionFactory;
+import org.eclipse.kapua.service.job.execution.JobExecutionQuery;
+import org.eclipse.kapua.service.job.execution.JobExecutionService;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettingKeys;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettings;
 import org.eclipse.kapua.service.scheduler.trigger.Trigger;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTrigger;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerCreator;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerFactory;
-import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerService;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerStatus;
+import org.eclipse.kapua.service.scheduler.trigger.fired.quartz.FiredTriggerRecorder;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.quartz.Job;
@@ -45,6 +55,12 @@ import java.util.Date;
  * <p>
  * In case of {@link Exception} from {@link JobEngineService#startJob(KapuaId, KapuaId)} it saves the {@link Exception#getMessage()}
  * into the {@link FiredTrigger#getMessage()} to let the user be able to solve the issue.
+ * <p>
+ * When the {@link org.eclipse.kapua.service.job.Job} has a recent {@link JobExecution} still running and the start is not {@link JobStartOptions#getEnqueue()}d,
+ * the {@link JobEngineService} is not invoked at all, since it would reject the start with a {@link JobRunningException}.
+ * {@link JobExecution}s without end date older than {@link SchedulerSettingKeys#JOB_LAUNCHER_RUNNING_EXECUTION_MAX_AGE} are left to the {@link JobEngineService} checks.
+ * <p>
+ * {@link FiredTrigger}s are written in batches by the {@link FiredTriggerRecorder}.
  *
  * @since 1.0.0
  */
@@ -59,7 +75,12 @@ public class KapuaJobLauncher implements Job {
     JobService jobService = locator.getService(JobService.class);
     JobEngineService jobEngineService = locator.getService(JobEngineService.class);
 
-    FiredTriggerService firedTriggerService = locator.getService(FiredTriggerService.class);
+    JobExecutionService jobExecutionService = locator.getService(JobExecutionService.class);
+    JobExecutionFactory jobExecutionFactory = locator.getFactory(JobExecutionFactory.class);
+
+    SchedulerSettings schedulerSettings = locator.getComponent(SchedulerSettings.class);
+
+    FiredTriggerRecorder firedTriggerRecorder = locator.getComponent(FiredTriggerRecorder.class);
     FiredTriggerFactory firedTriggerFactory = locator.getFactory(FiredTriggerFactory.class);
 
     private KapuaId scopeId;
@@ -90,6 +111,11 @@ public class KapuaJobLauncher implements Job {
                         throw new KapuaEntityNotFoundException(org.eclipse.kapua.service.job.Job.class.getName(), jobId);
                     }
 
+                    // Skip the JobEngineService round trip when the start would be rejected anyway
+                    if ((jobStartOptions == null || !jobStartOptions.getEnqueue()) && hasRunningJobExecution(scopeId, jobId)) {
+                        throw new JobRunningException(scopeId, jobId);
+                    }
+
                     if (jobStartOptions == null) {
                         jobEngineService.startJob(scopeId, jobId);
                     } else {
@@ -110,6 +136,36 @@ public class KapuaJobLauncher implements Job {
         }
     }
 
+    /**
+     * Checks whether the {@link org.eclipse.kapua.service.job.Job} has a recent {@link JobExecution} not yet ended.
+     * <p>
+     * Only {@link JobExecution}s started within {@link SchedulerSettingKeys#JOB_LAUNCHER_RUNNING_EXECUTION_MAX_AGE} are considered,
+     * so that a {@link JobExecution} left without end date by a crashed job engine does not block the scheduled starts forever.
+     *
+     * @param scopeId The {@link org.eclipse.kapua.service.job.Job#getScopeId()}.
+     * @param jobId   The {@link org.eclipse.kapua.service.job.Job#getId()}.
+     * @return {@code true} if a recent {@link JobExecution} has no {@link JobExecution#getEndedOn()}, {@code false} otherwise.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    private boolean hasRunningJobExecution(KapuaId scopeId, KapuaId jobId) throws KapuaException {
+        long runningExecutionMaxAge = schedulerSettings.getLong(SchedulerSettingKeys.JOB_LAUNCHER_RUNNING_EXECUTION_MAX_AGE, 3600000L);
+        if (runningExecutionMaxAge <= 0) {
+            return false;
+        }
+
+        JobExecutionQuery jobExecutionQuery = jobExecutionFactory.newQuery(scopeId);
+        jobExecutionQuery.setPredicate(
+                jobExecutionQuery.andPredicate(
+                        jobExecutionQuery.attributePredicate(JobExecutionAttributes.JOB_ID, jobId),
+                        jobExecutionQuery.attributePredicate(JobExecutionAttributes.STARTED_ON, new Date(System.currentTimeMillis() - runningExecutionMaxAge), AttributePredicate.Operator.GREATER_THAN_OR_EQUAL),
+                        jobExecutionQuery.attributePredicate(JobExecutionAttributes.ENDED_ON, null, AttributePredicate.Operator.IS_NULL)
+                )
+        );
+
+        return jobExecutionService.count(jobExecutionQuery) > 0;
+    }
+
     /**
      * Gets the {@link org.eclipse.kapua.service.job.Job#getScopeId()}.
      *
@@ -213,7 +269,7 @@ public class KapuaJobLauncher implements Job {
             firedTriggerCreator.setStatus(status);
             firedTriggerCreator.setMessage(exception != null ? exception.getMessage() : null);
 
-            firedTriggerService.create(firedTriggerCreator);
+            firedTriggerRecorder.record(firedTriggerCreator);
         } catch (Exception e) {
             LOG.error("Failed create {} FiredTrigger for Trigger: {}", status, triggerId, e);
         }
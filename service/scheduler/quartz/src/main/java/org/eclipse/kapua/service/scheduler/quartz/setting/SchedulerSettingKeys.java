@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.scheduler.quartz.setting;
+
+import org.eclipse.kapua.commons.setting.SettingKey;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTrigger;
+
+/**
+ * {@link SettingKey}s for {@link SchedulerSettings}.
+ *
+ * @since 2.1.0
+ */
+public enum SchedulerSettingKeys implements SettingKey {
+
+    /**
+     * Address of the {@link org.eclipse.kapua.event.ServiceEvent}s raised by the {@link org.eclipse.kapua.service.scheduler.trigger.TriggerService}.
+     *
+     * @since 2.1.0
+     */
+    SCHEDULER_EVENT_ADDRESS("scheduler.eventAddress"),
+
+    /**
+     * Interval in milliseconds between two writes of the recorded {@link FiredTrigger}s.
+     * <p>
+     * If {@code 0} or less each {@link FiredTrigger} is written as soon as it is recorded.
+     * Otherwise the {@link FiredTrigger}s recorded since the last write are lost if the process crashes.
+     *
+     * @since 2.1.0
+     */
+    FIRED_TRIGGER_FLUSH_INTERVAL("scheduler.firedTrigger.flush.interval"),
+
+    /**
+     * Maximum number of {@link FiredTrigger}s written in a single transaction.
+     *
+     * @since 2.1.0
+     */
+    FIRED_TRIGGER_FLUSH_BATCH_SIZE("scheduler.firedTrigger.flush.batchSize"),
+
+    /**
+     * Number of days after which a {@link FiredTrigger} is deleted.
+     * <p>
+     * If {@code 0} or less {@link FiredTrigger}s are kept forever, which is the default.
+     *
+     * @since 2.1.0
+     */
+    FIRED_TRIGGER_RETENTION_DAYS("scheduler.firedTrigger.retention.days"),
+
+    /**
+     * Interval in milliseconds between two purges of the expired {@link FiredTrigger}s.
+     * <p>
+     * If {@code 0} or less the purge is disabled.
+     *
+     * @since 2.1.0
+     */
+    FIRED_TRIGGER_PURGE_INTERVAL("scheduler.firedTrigger.purge.interval"),
+
+    /**
+     * Maximum number of {@link FiredTrigger}s deleted in a single transaction.
+     *
+     * @since 2.1.0
+     */
+    FIRED_TRIGGER_PURGE_BATCH_SIZE("scheduler.firedTrigger.purge.batchSize"),
+
+    /**
+     * Maximum age in milliseconds of a {@link org.eclipse.kapua.service.job.execution.JobExecution} without end date which is considered still running.
+     * <p>
+     * A scheduled start of a {@link org.eclipse.kapua.service.job.Job} with such a {@link org.eclipse.kapua.service.job.execution.JobExecution}
+     * is rejected without invoking the {@link org.eclipse.kapua.job.engine.JobEngineService}.
+     * Older {@link org.eclipse.kapua.service.job.execution.JobExecution}s without end date (i.e.: left by a crashed job engine) are checked by the {@link org.eclipse.kapua.job.engine.JobEngineService}.
+     * If {@code 0} or less the {@link org.eclipse.kapua.job.engine.JobEngineService} is always invoked.
+     *
+     * @since 2.1.0
+     */
+    JOB_LAUNCHER_RUNNING_EXECUTION_MAX_AGE("scheduler.jobLauncher.runningExecution.maxAge");
+
+    /**
+     * The key value of the {@link SettingKey}.
+     *
+     * @since 2.1.0
+     */
+    private final String key;
+
+    /**
+     * Constructor.
+     *
+     * @param key The key value of the {@link SettingKey}.
+     * @since 2.1.0
+     */
+    SchedulerSettingKeys(String key) {
+        this.key = key;
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,17 +12,81 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.scheduler.trigger.fired.quartz;
 
+import com.google.common.collect.Iterables;
+import org.eclipse.kapua.commons.jpa.JpaAwareTxContext;
 import org.eclipse.kapua.commons.jpa.KapuaEntityJpaRepository;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTrigger;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerAttributes;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerListResult;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerRepository;
+import org.eclipse.kapua.storage.TxContext;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class FiredTriggerImplJpaRepository
         extends KapuaEntityJpaRepository<FiredTrigger, FiredTriggerImpl, FiredTriggerListResult>
         implements FiredTriggerRepository {
+
+    /**
+     * Maximum number of {@link FiredTrigger#getId()} put into a single {@code IN} clause.
+     *
+     * @since 2.1.0
+     */
+    private static final int IN_CLAUSE_MAX_SIZE = 1000;
+
+    private static final String EID = "eid";
+
     public FiredTriggerImplJpaRepository(KapuaJpaRepositoryConfiguration configuration) {
         super(FiredTriggerImpl.class, FiredTrigger.TYPE, () -> new FiredTriggerListResultImpl(), configuration);
     }
 
+    @Override
+    public List<KapuaId> findExpiredIds(TxContext tx, Date firedBefore, int maxResults) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        final CriteriaQuery<BigInteger> expiredIdsQuery = cb.createQuery(BigInteger.class);
+        final Root<FiredTriggerImpl> entityRoot = expiredIdsQuery.from(FiredTriggerImpl.class);
+
+        expiredIdsQuery.select(entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID));
+        expiredIdsQuery.where(cb.lessThan(entityRoot.get(FiredTriggerAttributes.FIRED_ON), firedBefore));
+        expiredIdsQuery.orderBy(cb.asc(entityRoot.get(FiredTriggerAttributes.FIRED_ON)));
+
+        return em.createQuery(expiredIdsQuery)
+                .setMaxResults(maxResults)
+                .getResultList()
+                .stream()
+                .map(KapuaEid::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int deleteAll(TxContext tx, Collection<KapuaId> firedTriggerIds) {
+        final EntityManager em = JpaAwareTxContext.extractEntityManager(tx);
+        final CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        int deleted = 0;
+        for (List<KapuaId> firedTriggerIdsChunk : Iterables.partition(firedTriggerIds, IN_CLAUSE_MAX_SIZE)) {
+            final CriteriaDelete<FiredTriggerImpl> deleteQuery = cb.createCriteriaDelete(FiredTriggerImpl.class);
+            final Root<FiredTriggerImpl> entityRoot = deleteQuery.from(FiredTriggerImpl.class);
+            // WHERE
+            deleteQuery.where(entityRoot.get(KapuaEntityAttributes.ENTITY_ID).get(EID).in(firedTriggerIdsChunk.stream().map(KapuaId::getId).collect(Collectors.toList())));
+
+            deleted += em.createQuery(deleteQuery).executeUpdate();
+        }
+        return deleted;
+    }
 }
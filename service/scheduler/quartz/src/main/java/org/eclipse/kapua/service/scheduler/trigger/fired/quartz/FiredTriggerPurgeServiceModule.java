@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.scheduler.trigger.fired.quartz;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTrigger;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerRepository;
+import org.eclipse.kapua.storage.TxManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ServiceModule} that periodically deletes the {@link FiredTrigger}s older than the configured retention.
+ * <p>
+ * {@link FiredTrigger}s are deleted in batches, each one in its own short transaction.
+ *
+ * @since 2.1.0
+ */
+public class FiredTriggerPurgeServiceModule implements ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FiredTriggerPurgeServiceModule.class);
+
+    private final TxManager txManager;
+    private final FiredTriggerRepository firedTriggerRepository;
+    private final int retentionDays;
+    private final long purgeIntervalMillis;
+    private final int purgeBatchSize;
+
+    private ScheduledExecutorService purgeExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param txManager              The {@link TxManager}.
+     * @param firedTriggerRepository The {@link FiredTriggerRepository}.
+     * @param retentionDays          The number of days after which a {@link FiredTrigger} is deleted. If {@code 0} or less the purge is disabled.
+     * @param purgeIntervalMillis    The interval between two purges. If {@code 0} or less the periodic purge is disabled.
+     * @param purgeBatchSize         The maximum number of {@link FiredTrigger}s deleted in a single transaction.
+     * @since 2.1.0
+     */
+    public FiredTriggerPurgeServiceModule(
+            TxManager txManager,
+            FiredTriggerRepository firedTriggerRepository,
+            int retentionDays,
+            long purgeIntervalMillis,
+            int purgeBatchSize) {
+        this.txManager = txManager;
+        this.firedTriggerRepository = firedTriggerRepository;
+        this.retentionDays = retentionDays;
+        this.purgeIntervalMillis = purgeIntervalMillis;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (retentionDays <= 0 || purgeIntervalMillis <= 0 || purgeExecutor != null) {
+            return;
+        }
+
+        purgeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread purgeThread = new Thread(runnable, "fired-trigger-purge");
+            purgeThread.setDaemon(true);
+            return purgeThread;
+        });
+        purgeExecutor.scheduleWithFixedDelay(this::purgeSafely, purgeIntervalMillis, purgeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() throws KapuaException {
+        if (purgeExecutor != null) {
+            purgeExecutor.shutdownNow();
+            purgeExecutor = null;
+        }
+    }
+
+    /**
+     * Deletes the expired {@link FiredTrigger}s of all scopes.
+     *
+     * @param now The current time, from which the retention is computed.
+     * @return The number of deleted {@link FiredTrigger}s.
+     * @throws KapuaException If the {@link FiredTrigger}s cannot be deleted.
+     * @since 2.1.0
+     */
+    public long purge(Date now) throws KapuaException {
+        if (retentionDays <= 0) {
+            return 0;
+        }
+
+        Date firedBefore = new Date(now.getTime() - TimeUnit.DAYS.toMillis(retentionDays));
+
+        long deleted = 0;
+        int batchDeleted;
+        do {
+            batchDeleted = txManager.execute(tx -> {
+                List<KapuaId> expiredIds = firedTriggerRepository.findExpiredIds(tx, firedBefore, purgeBatchSize);
+                return expiredIds.isEmpty() ? 0 : firedTriggerRepository.deleteAll(tx, expiredIds);
+            });
+
+            deleted += batchDeleted;
+        } while (batchDeleted >= purgeBatchSize);
+
+        if (deleted > 0) {
+            LOG.info("Purged {} fired triggers fired before {}", deleted, firedBefore);
+        }
+        return deleted;
+    }
+
+    private void purgeSafely() {
+        try {
+            purge(new Date());
+        } catch (Exception e) {
+            LOG.error("Error while purging fired triggers", e);
+        }
+    }
+}
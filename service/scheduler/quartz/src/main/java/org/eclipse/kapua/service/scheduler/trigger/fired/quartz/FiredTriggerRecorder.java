@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.scheduler.trigger.fired.quartz;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTrigger;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerCreator;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerFactory;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerRepository;
+import org.eclipse.kapua.storage.TxManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes {@link FiredTrigger}s out of the {@link org.quartz.Job} execution path.
+ * <p>
+ * {@link FiredTrigger}s are {@link #record(FiredTriggerCreator)}ed in memory and written periodically, many of them in a single transaction.
+ * Pending {@link FiredTrigger}s are written also when this {@link ServiceModule} is stopped, but they are lost if the process crashes.
+ * Without a flush interval each {@link FiredTrigger} is written as soon as it is recorded.
+ *
+ * @since 2.1.0
+ */
+public class FiredTriggerRecorder implements ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FiredTriggerRecorder.class);
+
+    private final TxManager txManager;
+    private final FiredTriggerRepository firedTriggerRepository;
+    private final FiredTriggerFactory firedTriggerFactory;
+    private final long flushIntervalMillis;
+    private final int flushBatchSize;
+
+    private final Queue<FiredTriggerCreator> pendingFiredTriggers = new ConcurrentLinkedQueue<>();
+
+    private volatile ScheduledExecutorService flushExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param txManager              The {@link TxManager} used to write the pending {@link FiredTrigger}s.
+     * @param firedTriggerRepository The {@link FiredTriggerRepository} used to write the pending {@link FiredTrigger}s.
+     * @param firedTriggerFactory    The {@link FiredTriggerFactory}.
+     * @param flushIntervalMillis    The interval between two writes of the pending {@link FiredTrigger}s. If {@code 0} or less, they are written as soon as they are recorded.
+     * @param flushBatchSize         The maximum number of {@link FiredTrigger}s written in a single transaction.
+     * @since 2.1.0
+     */
+    public FiredTriggerRecorder(TxManager txManager, FiredTriggerRepository firedTriggerRepository, FiredTriggerFactory firedTriggerFactory, long flushIntervalMillis, int flushBatchSize) {
+        this.txManager = txManager;
+        this.firedTriggerRepository = firedTriggerRepository;
+        this.firedTriggerFactory = firedTriggerFactory;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (flushIntervalMillis <= 0 || flushExecutor != null) {
+            return;
+        }
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread flushThread = new Thread(runnable, "fired-trigger-recorder");
+            flushThread.setDaemon(true);
+            return flushThread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() throws KapuaException {
+        if (flushExecutor != null) {
+            // Let a running flush complete, instead of interrupting it in the middle of a transaction
+            flushExecutor.shutdown();
+            try {
+                if (!flushExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    flushExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                flushExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            flushExecutor = null;
+        }
+
+        flushSafely();
+    }
+
+    /**
+     * Records the {@link FiredTrigger} to write.
+     * <p>
+     * If this {@link ServiceModule} is not started, or it has no flush interval, the {@link FiredTrigger} is written immediately.
+     *
+     * @param firedTriggerCreator The {@link FiredTriggerCreator} of the {@link FiredTrigger}.
+     * @since 2.1.0
+     */
+    public void record(FiredTriggerCreator firedTriggerCreator) {
+        pendingFiredTriggers.add(firedTriggerCreator);
+
+        if (flushExecutor == null) {
+            flushSafely();
+        }
+    }
+
+    /**
+     * Gets the number of {@link FiredTrigger}s not yet written.
+     *
+     * @return The number of {@link FiredTrigger}s not yet written.
+     * @since 2.1.0
+     */
+    public int getPendingCount() {
+        return pendingFiredTriggers.size();
+    }
+
+    /**
+     * Writes all pending {@link FiredTrigger}s.
+     * <p>
+     * If a batch fails, its {@link FiredTrigger}s are written one by one, skipping those that still fail (i.e.: the {@link org.eclipse.kapua.service.scheduler.trigger.Trigger} has been deleted).
+     *
+     * @return The number of {@link FiredTrigger}s written.
+     * @since 2.1.0
+     */
+    public int flush() {
+        int written = 0;
+        List<FiredTriggerCreator> batch = new ArrayList<>(flushBatchSize);
+        FiredTriggerCreator pending;
+        while ((pending = pendingFiredTriggers.poll()) != null) {
+            batch.add(pending);
+
+            if (batch.size() >= flushBatchSize) {
+                written += flushBatch(batch);
+                batch = new ArrayList<>(flushBatchSize);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            written += flushBatch(batch);
+        }
+        return written;
+    }
+
+    private int flushBatch(List<FiredTriggerCreator> batch) {
+        try {
+            return txManager.execute(tx -> {
+                for (FiredTriggerCreator firedTriggerCreator : batch) {
+                    firedTriggerRepository.create(tx, toFiredTrigger(firedTriggerCreator));
+                }
+                return batch.size();
+            });
+        } catch (Exception e) {
+            LOG.warn("Error while writing {} fired triggers. Retrying them one by one", batch.size(), e);
+
+            int written = 0;
+            for (FiredTriggerCreator firedTriggerCreator : batch) {
+                try {
+                    txManager.execute(tx -> firedTriggerRepository.create(tx, toFiredTrigger(firedTriggerCreator)));
+                    written++;
+                } catch (Exception ex) {
+                    LOG.warn("Error while writing {} fired trigger for Trigger: {}. Skipping it", firedTriggerCreator.getStatus(), firedTriggerCreator.getTriggerId(), ex);
+                }
+            }
+            return written;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            int written = flush();
+            if (written > 0) {
+                LOG.debug("Written {} fired triggers", written);
+            }
+        } catch (Exception e) {
+            LOG.error("Error while writing fired triggers", e);
+        }
+    }
+
+    private FiredTrigger toFiredTrigger(FiredTriggerCreator firedTriggerCreator) {
+        FiredTrigger firedTrigger = firedTriggerFactory.newEntity(firedTriggerCreator.getScopeId());
+        firedTrigger.setTriggerId(firedTriggerCreator.getTriggerId());
+        firedTrigger.setFiredOn(firedTriggerCreator.getFiredOn());
+        firedTrigger.setStatus(firedTriggerCreator.getStatus());
+        firedTrigger.setMessage(firedTriggerCreator.getMessage());
+        return firedTrigger;
+    }
+}
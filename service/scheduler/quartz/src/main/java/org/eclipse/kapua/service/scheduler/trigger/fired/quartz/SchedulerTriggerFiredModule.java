@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,15 @@
 package org.eclipse.kapua.service.scheduler.trigger.fired.quartz;
 
 import com.google.inject.Provides;
+import com.google.inject.multibindings.ProvidesIntoSet;
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
+import org.eclipse.kapua.commons.core.ServiceModule;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
 import org.eclipse.kapua.service.authorization.AuthorizationService;
 import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettingKeys;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettings;
 import org.eclipse.kapua.service.scheduler.trigger.TriggerRepository;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerFactory;
 import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerRepository;
@@ -31,6 +35,7 @@ public class SchedulerTriggerFiredModule extends AbstractKapuaModule {
     @Override
     protected void configureModule() {
         bind(FiredTriggerFactory.class).to(FiredTriggerFactoryImpl.class);
+        bind(SchedulerSettings.class).in(Singleton.class);
     }
 
     @Provides
@@ -52,6 +57,39 @@ public class SchedulerTriggerFiredModule extends AbstractKapuaModule {
                 triggerRepository);
     }
 
+    @Provides
+    @Singleton
+    FiredTriggerRecorder firedTriggerRecorder(
+            @Named("schedulerTxManager") TxManager txManager,
+            FiredTriggerRepository firedTriggerRepository,
+            FiredTriggerFactory firedTriggerFactory,
+            SchedulerSettings schedulerSettings) {
+        return new FiredTriggerRecorder(
+                txManager,
+                firedTriggerRepository,
+                firedTriggerFactory,
+                schedulerSettings.getLong(SchedulerSettingKeys.FIRED_TRIGGER_FLUSH_INTERVAL, 0L),
+                schedulerSettings.getInt(SchedulerSettingKeys.FIRED_TRIGGER_FLUSH_BATCH_SIZE, 500));
+    }
+
+    @ProvidesIntoSet
+    ServiceModule firedTriggerRecorderServiceModule(FiredTriggerRecorder firedTriggerRecorder) {
+        return firedTriggerRecorder;
+    }
+
+    @ProvidesIntoSet
+    ServiceModule firedTriggerPurgeServiceModule(
+            @Named("schedulerTxManager") TxManager txManager,
+            FiredTriggerRepository firedTriggerRepository,
+            SchedulerSettings schedulerSettings) {
+        return new FiredTriggerPurgeServiceModule(
+                txManager,
+                firedTriggerRepository,
+                schedulerSettings.getInt(SchedulerSettingKeys.FIRED_TRIGGER_RETENTION_DAYS, 0),
+                schedulerSettings.getLong(SchedulerSettingKeys.FIRED_TRIGGER_PURGE_INTERVAL, 3600000L),
+                schedulerSettings.getInt(SchedulerSettingKeys.FIRED_TRIGGER_PURGE_BATCH_SIZE, 1000));
+    }
+
     @Provides
     @Singleton
     FiredTriggerRepository firedTriggerRepository(KapuaJpaRepositoryConfiguration jpaRepoConfig) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,19 +15,25 @@ package org.eclipse.kapua.service.scheduler.trigger.quartz;
 import com.google.inject.Provides;
 import com.google.inject.multibindings.ProvidesIntoSet;
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.commons.event.ServiceEventHouseKeeperFactoryImpl;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.model.domains.Domains;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreFactory;
+import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
+import org.eclipse.kapua.commons.service.event.store.internal.EventStoreServiceImpl;
+import org.eclipse.kapua.event.ServiceEventBus;
 import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.domain.Domain;
 import org.eclipse.kapua.model.domain.DomainEntry;
 import org.eclipse.kapua.service.authorization.AuthorizationService;
 import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettings;
 import org.eclipse.kapua.service.scheduler.trigger.TriggerFactory;
 import org.eclipse.kapua.service.scheduler.trigger.TriggerRepository;
 import org.eclipse.kapua.service.scheduler.trigger.TriggerService;
-import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinitionFactory;
-import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinitionRepository;
 import org.eclipse.kapua.storage.TxManager;
 
 import javax.inject.Named;
@@ -37,6 +43,8 @@ public class SchedulerQuartzModule extends AbstractKapuaModule {
     @Override
     protected void configureModule() {
         bind(TriggerFactory.class).to(TriggerFactoryImpl.class);
+        //This needs to be auto-created by guice, otherwise the RaiseServiceEventInterceptor will not work
+        bind(TriggerService.class).to(TriggerServiceImpl.class).in(Singleton.class);
     }
 
     @ProvidesIntoSet
@@ -53,26 +61,34 @@ public class SchedulerQuartzModule extends AbstractKapuaModule {
         return jpaTxManagerFactory.create("kapua-scheduler");
     }
 
-    @Provides
-    @Singleton
-    TriggerService triggerService(
+    @ProvidesIntoSet
+    ServiceModule triggerServiceModule(TriggerService triggerService,
+            SchedulerSettings schedulerSettings,
             AuthorizationService authorizationService,
             PermissionFactory permissionFactory,
             @Named("schedulerTxManager") TxManager txManager,
-            TriggerRepository triggerRepository,
-            TriggerFactory triggerFactory,
-            TriggerDefinitionRepository triggerDefinitionRepository,
-            TriggerDefinitionFactory triggerDefinitionFactory,
-            KapuaJpaTxManagerFactory jpaTxManagerFactory) {
-        return new TriggerServiceImpl(
-                authorizationService,
-                permissionFactory,
-                txManager,
-                triggerRepository,
-                triggerFactory,
-                triggerDefinitionRepository,
-                triggerDefinitionFactory
-        );
+            EventStoreFactory eventStoreFactory,
+            EventStoreRecordRepository eventStoreRecordRepository,
+            ServiceEventBus serviceEventBus,
+            CommonsMetric commonsMetric,
+            @Named("eventsModuleName") String eventModuleName) {
+        return new TriggerServiceModule(
+                triggerService,
+                schedulerSettings,
+                new ServiceEventHouseKeeperFactoryImpl(
+                        new EventStoreServiceImpl(
+                                authorizationService,
+                                permissionFactory,
+                                txManager,
+                                eventStoreFactory,
+                                eventStoreRecordRepository
+                        ),
+                        txManager,
+                        serviceEventBus,
+                        commonsMetric
+                ),
+                serviceEventBus,
+                eventModuleName);
     }
 
     @Provides
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,14 +19,18 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.validation.constraints.NotNull;
 
 import org.eclipse.kapua.KapuaDuplicateNameException;
 import org.eclipse.kapua.KapuaEntityNotFoundException;
 import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.jpa.EventStorer;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.util.ArgumentValidator;
+import org.eclipse.kapua.event.RaiseServiceEvent;
 import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.query.KapuaQuery;
@@ -82,15 +86,18 @@ public class TriggerServiceImpl implements TriggerService {
     private final TriggerFactory triggerFactory;
     private final TriggerDefinitionRepository triggerDefinitionRepository;
     private final TriggerDefinitionFactory triggerDefinitionFactory;
+    private final EventStorer eventStorer;
 
+    @Inject
     public TriggerServiceImpl(
             AuthorizationService authorizationService,
             PermissionFactory permissionFactory,
-            TxManager txManager,
+            @Named("schedulerTxManager") TxManager txManager,
             TriggerRepository triggerRepository,
             TriggerFactory triggerFactory,
             TriggerDefinitionRepository triggerDefinitionRepository,
-            TriggerDefinitionFactory triggerDefinitionFactory) {
+            TriggerDefinitionFactory triggerDefinitionFactory,
+            EventStorer eventStorer) {
         this.authorizationService = authorizationService;
         this.permissionFactory = permissionFactory;
         this.txManager = txManager;
@@ -98,9 +105,11 @@ public class TriggerServiceImpl implements TriggerService {
         this.triggerFactory = triggerFactory;
         this.triggerDefinitionRepository = triggerDefinitionRepository;
         this.triggerDefinitionFactory = triggerDefinitionFactory;
+        this.eventStorer = eventStorer;
     }
 
     @Override
+    @RaiseServiceEvent
     public Trigger create(TriggerCreator triggerCreator) throws KapuaException {
         // Argument validation
         ArgumentValidator.notNull(triggerCreator, "triggerCreator");
@@ -185,10 +194,11 @@ public class TriggerServiceImpl implements TriggerService {
                         triggerCreator.getTriggerDefinitionId(),
                         schedulingTriggerProperty != null ? schedulingTriggerProperty.getPropertyValue() : null);
             }
-        });
+        }, eventStorer::accept);
     }
 
     @Override
+    @RaiseServiceEvent
     public Trigger update(Trigger trigger) throws KapuaException {
         // Argument validation
         ArgumentValidator.notNull(trigger.getScopeId(), "trigger.scopeId");
@@ -267,10 +277,11 @@ public class TriggerServiceImpl implements TriggerService {
                         schedulingTriggerProperty != null ? schedulingTriggerProperty.getPropertyValue() : null
                 );
             }
-        });
+        }, eventStorer::accept);
     }
 
     @Override
+    @RaiseServiceEvent
     public void delete(KapuaId scopeId, KapuaId triggerId) throws KapuaException {
         // Argument validation
         ArgumentValidator.notNull(triggerId, "scopeId");
@@ -281,7 +292,7 @@ public class TriggerServiceImpl implements TriggerService {
         // Do delete
         QuartzTriggerDriver.deleteTrigger(txManager.execute(tx -> {
             return triggerRepository.delete(tx, scopeId, triggerId);
-        }));
+        }, eventStorer::accept));
     }
 
     @Override
@@ -322,16 +333,17 @@ public class TriggerServiceImpl implements TriggerService {
     }
 
     @Override
+    @RaiseServiceEvent
     public void deleteAllByJobId(KapuaId scopeId, KapuaId jobId) throws KapuaException {
         // Argument validation
         ArgumentValidator.notNull(scopeId, "scopeId");
         ArgumentValidator.notNull(jobId, "jobId");
         // Check Access
         authorizationService.checkPermission(permissionFactory.newPermission(Domains.SCHEDULER, Actions.delete, scopeId));
-        txManager.execute(tx -> {
+        txManager.<Trigger>execute(tx -> {
             triggerRepository.deleteAllByJobId(tx, scopeId, jobId);
             return null;
-        });
+        }, eventStorer::accept);
     }
 
     @Override
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.scheduler.trigger.quartz;
+
+import org.eclipse.kapua.commons.event.ServiceEventClientConfiguration;
+import org.eclipse.kapua.commons.event.ServiceEventHouseKeeperFactory;
+import org.eclipse.kapua.commons.event.ServiceEventTransactionalModule;
+import org.eclipse.kapua.commons.event.ServiceInspector;
+import org.eclipse.kapua.event.ServiceEventBus;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettingKeys;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettings;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerService;
+
+/**
+ * {@link ServiceEventTransactionalModule} of the {@link TriggerService}.
+ * <p>
+ * It registers the address of the {@link org.eclipse.kapua.event.ServiceEvent}s raised by the {@link TriggerService} and relays the ones not sent.
+ *
+ * @since 2.1.0
+ */
+public class TriggerServiceModule extends ServiceEventTransactionalModule {
+
+    public TriggerServiceModule(TriggerService triggerService,
+            SchedulerSettings schedulerSettings,
+            ServiceEventHouseKeeperFactory serviceEventTransactionalHousekeeperFactory,
+            ServiceEventBus serviceEventBus,
+            String eventModuleName) {
+        super(ServiceInspector.getEventBusClients(triggerService, TriggerService.class).toArray(new ServiceEventClientConfiguration[0]),
+                schedulerSettings.getString(SchedulerSettingKeys.SCHEDULER_EVENT_ADDRESS),
+                eventModuleName,
+                serviceEventTransactionalHousekeeperFactory,
+                serviceEventBus);
+    }
+}
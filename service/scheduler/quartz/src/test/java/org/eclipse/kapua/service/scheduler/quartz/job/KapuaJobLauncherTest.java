@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.scheduler.quartz.job;
+
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.commons.model.query.AbstractKapuaQuery;
+import org.eclipse.kapua.job.engine.JobEngineService;
+import org.eclipse.kapua.job.engine.JobStartOptions;
+import org.eclipse.kapua.locator.KapuaLocator;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.id.KapuaIdFactory;
+import org.eclipse.kapua.model.query.predicate.AndPredicate;
+import org.eclipse.kapua.model.query.predicate.AttributePredicate;
+import org.eclipse.kapua.model.query.predicate.QueryPredicate;
+import org.eclipse.kapua.service.job.Job;
+import org.eclipse.kapua.service.job.JobService;
+import org.eclipse.kapua.service.job.execution.JobExecutionAttributes;
+import org.eclipse.kapua.service.job.execution.JobExecutionFactory;
+import org.eclipse.kapua.service.job.execution.JobExecutionQuery;
+import org.eclipse.kapua.service.job.execution.JobExecutionService;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettingKeys;
+import org.eclipse.kapua.service.scheduler.quartz.setting.SchedulerSettings;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerCreator;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerStatus;
+import org.eclipse.kapua.service.scheduler.trigger.fired.quartz.FiredTriggerFactoryImpl;
+import org.eclipse.kapua.service.scheduler.trigger.fired.quartz.FiredTriggerRecorder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+
+import java.math.BigInteger;
+import java.util.Date;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class KapuaJobLauncherTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId JOB_ID = new KapuaEid(BigInteger.TEN);
+    private static final KapuaId TRIGGER_ID = new KapuaEid(BigInteger.valueOf(11));
+
+    private JobEngineService jobEngineService;
+    private JobExecutionService jobExecutionService;
+    private SchedulerSettings schedulerSettings;
+    private FiredTriggerRecorder firedTriggerRecorder;
+    private JobExecutionContext jobExecutionContext;
+    private KapuaJobLauncher instance;
+
+    @BeforeAll
+    public static void setUpLocator() {
+        System.setProperty(KapuaLocator.LOCATOR_CLASS_NAME_SYSTEM_PROPERTY, MockitoLocator.class.getName());
+        KapuaLocator.clearInstance();
+    }
+
+    @AfterAll
+    public static void tearDownLocator() {
+        System.clearProperty(KapuaLocator.LOCATOR_CLASS_NAME_SYSTEM_PROPERTY);
+        KapuaLocator.clearInstance();
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        KapuaIdFactory kapuaIdFactory = Mockito.mock(KapuaIdFactory.class);
+        Mockito.when(kapuaIdFactory.newKapuaId(TRIGGER_ID.toCompactId())).thenReturn(TRIGGER_ID);
+
+        JobService jobService = Mockito.mock(JobService.class);
+        Mockito.when(jobService.find(SCOPE_ID, JOB_ID)).thenReturn(Mockito.mock(Job.class));
+
+        JobExecutionFactory jobExecutionFactory = Mockito.mock(JobExecutionFactory.class);
+        Mockito.when(jobExecutionFactory.newQuery(SCOPE_ID)).thenAnswer(invocation -> new TestJobExecutionQuery(SCOPE_ID));
+
+        jobEngineService = Mockito.mock(JobEngineService.class);
+        jobExecutionService = Mockito.mock(JobExecutionService.class);
+        schedulerSettings = Mockito.mock(SchedulerSettings.class);
+        Mockito.when(schedulerSettings.getLong(Mockito.eq(SchedulerSettingKeys.JOB_LAUNCHER_RUNNING_EXECUTION_MAX_AGE), Mockito.anyLong())).thenReturn(3600000L);
+        firedTriggerRecorder = Mockito.mock(FiredTriggerRecorder.class);
+
+        jobExecutionContext = Mockito.mock(JobExecutionContext.class);
+        Trigger trigger = Mockito.mock(Trigger.class);
+        Mockito.when(trigger.getKey()).thenReturn(new TriggerKey(TRIGGER_ID.toCompactId()));
+        Mockito.when(jobExecutionContext.getTrigger()).thenReturn(trigger);
+        Mockito.when(jobExecutionContext.getFireTime()).thenReturn(new Date());
+
+        instance = new KapuaJobLauncher();
+        instance.kapuaIdFactory = kapuaIdFactory;
+        instance.jobService = jobService;
+        instance.jobEngineService = jobEngineService;
+        instance.jobExecutionService = jobExecutionService;
+        instance.jobExecutionFactory = jobExecutionFactory;
+        instance.schedulerSettings = schedulerSettings;
+        instance.firedTriggerRecorder = firedTriggerRecorder;
+        instance.firedTriggerFactory = new FiredTriggerFactoryImpl();
+        instance.setScopeId(SCOPE_ID);
+        instance.setJobId(JOB_ID);
+    }
+
+    @Test
+    public void startJobWithoutRunningExecution() throws Exception {
+        Mockito.when(jobExecutionService.count(Mockito.any())).thenReturn(0L);
+
+        instance.execute(jobExecutionContext);
+
+        Mockito.verify(jobEngineService).startJob(SCOPE_ID, JOB_ID);
+        Assertions.assertEquals(FiredTriggerStatus.FIRED, recordedFiredTrigger().getStatus());
+    }
+
+    @Test
+    public void startJobWithRecentRunningExecution() throws Exception {
+        Mockito.when(jobExecutionService.count(Mockito.any())).thenReturn(1L);
+
+        long before = System.currentTimeMillis();
+        instance.execute(jobExecutionContext);
+
+        Mockito.verifyZeroInteractions(jobEngineService);
+        Assertions.assertEquals(FiredTriggerStatus.FAILED, recordedFiredTrigger().getStatus());
+
+        // Only executions started within the max age are counted
+        ArgumentCaptor<JobExecutionQuery> query = ArgumentCaptor.forClass(JobExecutionQuery.class);
+        Mockito.verify(jobExecutionService).count(query.capture());
+        AttributePredicate<?> startedOnPredicate = null;
+        for (QueryPredicate predicate : ((AndPredicate) query.getValue().getPredicate()).getPredicates()) {
+            AttributePredicate<?> attributePredicate = (AttributePredicate<?>) predicate;
+            if (JobExecutionAttributes.STARTED_ON.equals(attributePredicate.getAttributeName())) {
+                startedOnPredicate = attributePredicate;
+            }
+        }
+        Assertions.assertNotNull(startedOnPredicate);
+        Assertions.assertEquals(AttributePredicate.Operator.GREATER_THAN_OR_EQUAL, startedOnPredicate.getOperator());
+        Assertions.assertTrue(((Date) startedOnPredicate.getAttributeValue()).getTime() >= before - 3600000L);
+    }
+
+    @Test
+    public void startJobEnqueuedDoesNotCheckRunningExecution() throws Exception {
+        JobStartOptions jobStartOptions = Mockito.mock(JobStartOptions.class);
+        Mockito.when(jobStartOptions.getEnqueue()).thenReturn(true);
+        instance.setJobStartOptions(jobStartOptions);
+
+        instance.execute(jobExecutionContext);
+
+        Mockito.verifyZeroInteractions(jobExecutionService);
+        Mockito.verify(jobEngineService).startJob(SCOPE_ID, JOB_ID, jobStartOptions);
+    }
+
+    @Test
+    public void startJobWithoutMaxAgeDoesNotCheckRunningExecution() throws Exception {
+        Mockito.when(schedulerSettings.getLong(Mockito.eq(SchedulerSettingKeys.JOB_LAUNCHER_RUNNING_EXECUTION_MAX_AGE), Mockito.anyLong())).thenReturn(0L);
+
+        instance.execute(jobExecutionContext);
+
+        Mockito.verifyZeroInteractions(jobExecutionService);
+        Mockito.verify(jobEngineService).startJob(SCOPE_ID, JOB_ID);
+    }
+
+    private FiredTriggerCreator recordedFiredTrigger() {
+        ArgumentCaptor<FiredTriggerCreator> firedTriggerCreator = ArgumentCaptor.forClass(FiredTriggerCreator.class);
+        Mockito.verify(firedTriggerRecorder).record(firedTriggerCreator.capture());
+        Assertions.assertEquals(TRIGGER_ID, firedTriggerCreator.getValue().getTriggerId());
+        return firedTriggerCreator.getValue();
+    }
+
+    private static class TestJobExecutionQuery extends AbstractKapuaQuery implements JobExecutionQuery {
+
+        TestJobExecutionQuery(KapuaId scopeId) {
+            super(scopeId);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.scheduler.trigger.fired.quartz;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerRepository;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class FiredTriggerPurgeServiceModuleTest {
+
+    private TxManager txManager;
+    private FiredTriggerRepository firedTriggerRepository;
+
+    @BeforeEach
+    public void setUp() {
+        firedTriggerRepository = Mockito.mock(FiredTriggerRepository.class);
+        Mockito.when(firedTriggerRepository.deleteAll(Mockito.<TxContext>any(), Mockito.<Collection<KapuaId>>any()))
+                .thenAnswer(invocation -> invocation.getArgumentAt(1, Collection.class).size());
+
+        txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void purgeDisabledWithoutRetention() throws KapuaException {
+        FiredTriggerPurgeServiceModule instance = new FiredTriggerPurgeServiceModule(txManager, firedTriggerRepository, 0, TimeUnit.HOURS.toMillis(1), 2);
+        instance.start();
+        try {
+            Assertions.assertEquals(0, instance.purge(new Date()));
+        } finally {
+            instance.stop();
+        }
+
+        Mockito.verifyZeroInteractions(firedTriggerRepository);
+    }
+
+    @Test
+    public void purgeDeletesExpiredInBatches() throws KapuaException {
+        Mockito.when(firedTriggerRepository.findExpiredIds(Mockito.<TxContext>any(), Mockito.<Date>any(), Mockito.eq(2)))
+                .thenReturn(Arrays.<KapuaId>asList(new KapuaEid(BigInteger.valueOf(1)), new KapuaEid(BigInteger.valueOf(2))))
+                .thenReturn(Arrays.<KapuaId>asList(new KapuaEid(BigInteger.valueOf(3)), new KapuaEid(BigInteger.valueOf(4))))
+                .thenReturn(Collections.<KapuaId>singletonList(new KapuaEid(BigInteger.valueOf(5))));
+
+        FiredTriggerPurgeServiceModule instance = new FiredTriggerPurgeServiceModule(txManager, firedTriggerRepository, 30, TimeUnit.HOURS.toMillis(1), 2);
+
+        Date now = new Date();
+        Assertions.assertEquals(5, instance.purge(now));
+
+        ArgumentCaptor<Date> firedBefore = ArgumentCaptor.forClass(Date.class);
+        Mockito.verify(firedTriggerRepository, Mockito.times(3)).findExpiredIds(Mockito.<TxContext>any(), firedBefore.capture(), Mockito.eq(2));
+        Assertions.assertEquals(now.getTime() - TimeUnit.DAYS.toMillis(30), firedBefore.getValue().getTime());
+        Mockito.verify(firedTriggerRepository, Mockito.times(3)).deleteAll(Mockito.<TxContext>any(), Mockito.<Collection<KapuaId>>any());
+    }
+
+    @Test
+    public void purgeWithoutExpired() throws KapuaException {
+        Mockito.when(firedTriggerRepository.findExpiredIds(Mockito.<TxContext>any(), Mockito.<Date>any(), Mockito.anyInt()))
+                .thenReturn(Collections.<KapuaId>emptyList());
+
+        FiredTriggerPurgeServiceModule instance = new FiredTriggerPurgeServiceModule(txManager, firedTriggerRepository, 30, TimeUnit.HOURS.toMillis(1), 2);
+
+        Assertions.assertEquals(0, instance.purge(new Date()));
+        Mockito.verify(firedTriggerRepository, Mockito.never()).deleteAll(Mockito.<TxContext>any(), Mockito.<Collection<KapuaId>>any());
+    }
+}
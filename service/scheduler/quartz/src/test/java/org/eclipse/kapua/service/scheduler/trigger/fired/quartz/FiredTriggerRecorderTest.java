@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.scheduler.trigger.fired.quartz;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTrigger;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerCreator;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerRepository;
+import org.eclipse.kapua.service.scheduler.trigger.fired.FiredTriggerStatus;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class FiredTriggerRecorderTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId DELETED_TRIGGER_ID = new KapuaEid(BigInteger.valueOf(99));
+
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final List<FiredTrigger> written = new ArrayList<>();
+
+    private TxManager txManager;
+    private FiredTriggerRepository firedTriggerRepository;
+
+    @BeforeEach
+    public void setUp() throws KapuaException {
+        firedTriggerRepository = Mockito.mock(FiredTriggerRepository.class);
+        Mockito.when(firedTriggerRepository.create(Mockito.<TxContext>any(), Mockito.<FiredTrigger>any())).thenAnswer(invocation -> {
+            FiredTrigger firedTrigger = invocation.getArgumentAt(1, FiredTrigger.class);
+            if (DELETED_TRIGGER_ID.equals(firedTrigger.getTriggerId())) {
+                throw KapuaException.internalError("trigger deleted");
+            }
+            written.add(firedTrigger);
+            return firedTrigger;
+        });
+
+        txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                transactions.incrementAndGet();
+                // Rows written by a failed transaction are rolled back
+                int writtenBefore = written.size();
+                try {
+                    return transactionConsumer.execute(null);
+                } catch (KapuaException e) {
+                    written.subList(writtenBefore, written.size()).clear();
+                    throw e;
+                }
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void recordWritesImmediatelyWithoutFlushInterval() throws KapuaException {
+        FiredTriggerRecorder instance = new FiredTriggerRecorder(txManager, firedTriggerRepository, new FiredTriggerFactoryImpl(), 0, 500);
+        instance.start();
+
+        instance.record(newFiredTriggerCreator(BigInteger.TEN));
+
+        Assertions.assertEquals(1, written.size());
+        Assertions.assertEquals(0, instance.getPendingCount());
+        Assertions.assertEquals(new KapuaEid(BigInteger.TEN), written.get(0).getTriggerId());
+        Assertions.assertEquals(FiredTriggerStatus.FIRED, written.get(0).getStatus());
+    }
+
+    @Test
+    public void recordBuffersUntilFlush() throws KapuaException {
+        FiredTriggerRecorder instance = new FiredTriggerRecorder(txManager, firedTriggerRepository, new FiredTriggerFactoryImpl(), TimeUnit.HOURS.toMillis(1), 2);
+        instance.start();
+        try {
+            for (int i = 1; i <= 3; i++) {
+                instance.record(newFiredTriggerCreator(BigInteger.valueOf(i)));
+            }
+
+            Assertions.assertTrue(written.isEmpty());
+            Assertions.assertEquals(3, instance.getPendingCount());
+
+            Assertions.assertEquals(3, instance.flush());
+            Assertions.assertEquals(3, written.size());
+            // Two batches of at most 2 fired triggers
+            Assertions.assertEquals(2, transactions.get());
+        } finally {
+            instance.stop();
+        }
+    }
+
+    @Test
+    public void failedBatchIsWrittenOneByOne() throws KapuaException {
+        FiredTriggerRecorder instance = new FiredTriggerRecorder(txManager, firedTriggerRepository, new FiredTriggerFactoryImpl(), TimeUnit.HOURS.toMillis(1), 10);
+        instance.start();
+        try {
+            instance.record(newFiredTriggerCreator(BigInteger.ONE));
+            instance.record(newFiredTriggerCreator(DELETED_TRIGGER_ID));
+            instance.record(newFiredTriggerCreator(BigInteger.TEN));
+
+            Assertions.assertEquals(2, instance.flush());
+        } finally {
+            instance.stop();
+        }
+
+        Assertions.assertEquals(2, written.size());
+        Assertions.assertEquals(new KapuaEid(BigInteger.ONE), written.get(0).getTriggerId());
+        Assertions.assertEquals(new KapuaEid(BigInteger.TEN), written.get(1).getTriggerId());
+        // The failed batch, then one transaction for each of its fired triggers
+        Assertions.assertEquals(4, transactions.get());
+    }
+
+    @Test
+    public void stopWritesPending() throws KapuaException {
+        FiredTriggerRecorder instance = new FiredTriggerRecorder(txManager, firedTriggerRepository, new FiredTriggerFactoryImpl(), TimeUnit.HOURS.toMillis(1), 500);
+        instance.start();
+
+        instance.record(newFiredTriggerCreator(BigInteger.ONE));
+        instance.record(newFiredTriggerCreator(BigInteger.TEN));
+        Assertions.assertTrue(written.isEmpty());
+
+        instance.stop();
+
+        Assertions.assertEquals(2, written.size());
+        Assertions.assertEquals(0, instance.getPendingCount());
+    }
+
+    private static FiredTriggerCreator newFiredTriggerCreator(BigInteger triggerId) {
+        return newFiredTriggerCreator(new KapuaEid(triggerId));
+    }
+
+    private static FiredTriggerCreator newFiredTriggerCreator(KapuaId triggerId) {
+        FiredTriggerCreator firedTriggerCreator = new FiredTriggerFactoryImpl().newCreator(SCOPE_ID);
+        firedTriggerCreator.setTriggerId(triggerId);
+        firedTriggerCreator.setFiredOn(new Date());
+        firedTriggerCreator.setStatus(FiredTriggerStatus.FIRED);
+        return firedTriggerCreator;
+    }
+}
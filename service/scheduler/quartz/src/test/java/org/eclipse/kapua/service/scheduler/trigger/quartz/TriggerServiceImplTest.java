@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.scheduler.trigger.quartz;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.jpa.EventStorer;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntity;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerFactory;
+import org.eclipse.kapua.service.scheduler.trigger.TriggerRepository;
+import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinitionFactory;
+import org.eclipse.kapua.service.scheduler.trigger.definition.TriggerDefinitionRepository;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class TriggerServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final KapuaId JOB_ID = new KapuaEid(BigInteger.TEN);
+
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+    private TriggerRepository triggerRepository;
+    private EventStorer eventStorer;
+    private TriggerServiceImpl triggerService;
+
+    @BeforeEach
+    public void setUp() {
+        triggerRepository = Mockito.mock(TriggerRepository.class);
+        eventStorer = Mockito.mock(EventStorer.class);
+        Mockito.doAnswer(invocation -> {
+            Assertions.assertTrue(inTransaction.get(), "Event must be stored before the transaction commits");
+            return null;
+        }).when(eventStorer).accept(Mockito.any(), Mockito.any());
+
+        TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... justBeforeCommitAdditionalTxConsumers) throws KapuaException {
+                inTransaction.set(true);
+                try {
+                    R result = transactionConsumer.execute(null);
+                    for (BiConsumer<TxContext, R> additionalTxConsumer : justBeforeCommitAdditionalTxConsumers) {
+                        additionalTxConsumer.accept(null, result);
+                    }
+                    return result;
+                } finally {
+                    inTransaction.set(false);
+                }
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        triggerService = new TriggerServiceImpl(
+                Mockito.mock(AuthorizationService.class),
+                Mockito.mock(PermissionFactory.class),
+                txManager,
+                triggerRepository,
+                Mockito.mock(TriggerFactory.class),
+                Mockito.mock(TriggerDefinitionRepository.class),
+                Mockito.mock(TriggerDefinitionFactory.class),
+                eventStorer);
+    }
+
+    @Test
+    public void deleteAllByJobIdStoresEventTest() throws KapuaException {
+        triggerService.deleteAllByJobId(SCOPE_ID, JOB_ID);
+
+        InOrder inOrder = Mockito.inOrder(triggerRepository, eventStorer);
+        inOrder.verify(triggerRepository).deleteAllByJobId(Mockito.any(), Mockito.eq(SCOPE_ID), Mockito.eq(JOB_ID));
+        inOrder.verify(eventStorer).accept(Mockito.any(), (KapuaEntity) Mockito.isNull());
+    }
+}
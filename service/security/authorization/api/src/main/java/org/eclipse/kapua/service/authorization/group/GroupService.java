@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@ import org.eclipse.kapua.service.KapuaEntityService;
 import org.eclipse.kapua.service.KapuaUpdatableEntityService;
 import org.eclipse.kapua.service.config.KapuaConfigurableService;
 
+import java.util.Set;
+
 /**
  * {@link Group} service definition.
  *
@@ -64,6 +66,17 @@ public interface GroupService extends KapuaEntityService<Group, GroupCreator>,
     @Override
     Group find(KapuaId scopeId, KapuaId groupId) throws KapuaException;
 
+    /**
+     * Finds the {@link Group}s by scope identifier and {@link Group} ids, with a single query.
+     *
+     * @param scopeId  The scope id in which to search.
+     * @param groupIds The {@link Group} ids to search.
+     * @return The {@link GroupListResult} with the {@link Group}s found. {@link Group} ids not found are ignored.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    GroupListResult findByIds(KapuaId scopeId, Set<KapuaId> groupIds) throws KapuaException;
+
     /**
      * Returns the {@link GroupListResult} with elements matching the provided query.
      *
@@ -27,6 +27,7 @@ import org.eclipse.kapua.commons.core.ServiceModule;
 import org.eclipse.kapua.commons.event.ServiceEventHouseKeeperFactoryImpl;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreFactory;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
@@ -144,6 +145,7 @@ public class AuthenticationModule extends AbstractKapuaModule {
             EventStoreFactory eventStoreFactory,
             EventStoreRecordRepository eventStoreRecordRepository,
             ServiceEventBus serviceEventBus,
+            CommonsMetric commonsMetric,
             KapuaAuthenticationSetting kapuaAuthenticationSetting,
             @Named("eventsModuleName") String eventModuleName
     ) throws ServiceEventBusException {
@@ -160,7 +162,8 @@ public class AuthenticationModule extends AbstractKapuaModule {
                                 eventStoreRecordRepository
                         ),
                         txManagerFactory.create("kapua-authentication"),
-                        serviceEventBus
+                        serviceEventBus,
+                        commonsMetric
                 ),
                 serviceEventBus,
                 eventModuleName);
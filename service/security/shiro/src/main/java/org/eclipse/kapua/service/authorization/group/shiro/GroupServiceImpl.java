@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.util.ArgumentValidator;
 import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
 import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.query.KapuaQuery;
@@ -37,6 +38,8 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Set;
 
 /**
  * {@link GroupService} implementation.
@@ -128,7 +131,11 @@ public class GroupServiceImpl extends KapuaConfigurableServiceBase implements Gr
         // Check Access
         authorizationService.checkPermission(permissionFactory.newPermission(Domains.GROUP, Actions.delete, scopeId));
 
-        txManager.execute(tx -> groupRepository.delete(tx, scopeId, groupId));
+        txManager.execute(tx -> {
+            final Group deletedGroup = groupRepository.delete(tx, scopeId, groupId);
+            serviceConfigurationManager.releaseAllowedEntity(tx, scopeId);
+            return deletedGroup;
+        });
     }
 
     @Override
@@ -143,6 +150,25 @@ public class GroupServiceImpl extends KapuaConfigurableServiceBase implements Gr
                 .orElse(null);
     }
 
+    @Override
+    public GroupListResult findByIds(KapuaId scopeId, Set<KapuaId> groupIds) throws KapuaException {
+        // Argument validation
+        ArgumentValidator.notNull(scopeId, "scopeId");
+        ArgumentValidator.notNull(groupIds, "groupIds");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.GROUP, Actions.read, scopeId));
+
+        if (groupIds.isEmpty()) {
+            return new GroupListResultImpl();
+        }
+
+        // Do find
+        GroupQuery query = new GroupQueryImpl(scopeId);
+        query.setPredicate(query.attributePredicate(KapuaEntityAttributes.ENTITY_ID, new ArrayList<>(groupIds)));
+
+        return txManager.execute(tx -> groupRepository.query(tx, query));
+    }
+
     @Override
     public GroupListResult query(KapuaQuery query) throws KapuaException {
         // Argument validation
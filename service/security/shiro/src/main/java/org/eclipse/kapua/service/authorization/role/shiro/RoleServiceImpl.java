@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -210,7 +210,11 @@ public class RoleServiceImpl extends KapuaConfigurableServiceBase implements Rol
             throw new KapuaException(KapuaErrorCodes.ADMIN_ROLE_DELETED_ERROR);
         }
 
-        txManager.execute(tx -> roleRepository.delete(tx, scopeId, roleId));
+        txManager.execute(tx -> {
+            final Role deletedRole = roleRepository.delete(tx, scopeId, roleId);
+            serviceConfigurationManager.releaseAllowedEntity(tx, scopeId);
+            return deletedRole;
+        });
     }
 
     @Override
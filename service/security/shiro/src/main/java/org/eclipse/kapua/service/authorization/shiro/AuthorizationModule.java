@@ -152,6 +152,7 @@ public class AuthorizationModule extends AbstractKapuaModule {
             EventStoreFactory eventStoreFactory,
             EventStoreRecordRepository eventStoreRecordRepository,
             ServiceEventBus serviceEventBus,
+            CommonsMetric commonsMetric,
             KapuaAuthorizationSetting kapuaAuthorizationSetting,
             @Named("eventsModuleName") String eventModuleName
     ) throws ServiceEventBusException {
@@ -170,7 +171,8 @@ public class AuthorizationModule extends AbstractKapuaModule {
                                 eventStoreRecordRepository
                         ),
                         txManagerFactory.create("kapua-authorization"),
-                        serviceEventBus
+                        serviceEventBus,
+                        commonsMetric
                 ), serviceEventBus,
                 eventModuleName);
     }
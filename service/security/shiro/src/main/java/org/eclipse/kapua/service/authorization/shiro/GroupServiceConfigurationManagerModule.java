@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import javax.inject.Singleton;
 import org.eclipse.kapua.commons.configuration.AccountRelativeFinder;
 import org.eclipse.kapua.commons.configuration.CachingServiceConfigRepository;
 import org.eclipse.kapua.commons.configuration.ResourceBasedServiceConfigurationMetadataProvider;
+import org.eclipse.kapua.commons.configuration.ResourceLimitCounterJpaRepository;
 import org.eclipse.kapua.commons.configuration.ResourceLimitedServiceConfigurationManagerImpl;
 import org.eclipse.kapua.commons.configuration.RootUserTester;
 import org.eclipse.kapua.commons.configuration.ServiceConfigImplJpaRepository;
@@ -76,6 +77,8 @@ public class GroupServiceConfigurationManagerModule extends AbstractKapuaModule
                         new UsedEntitiesCounterImpl(
                                 factory,
                                 groupRepository
-                        ), new ResourceBasedServiceConfigurationMetadataProvider(xmlUtil)));
+                        ),
+                        new ResourceLimitCounterJpaRepository(),
+                        new ResourceBasedServiceConfigurationMetadataProvider(xmlUtil)));
     }
 }
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.authorization.group.shiro;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.query.KapuaQuery;
+import org.eclipse.kapua.model.query.predicate.AttributePredicate;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.group.GroupListResult;
+import org.eclipse.kapua.service.authorization.group.GroupRepository;
+import org.eclipse.kapua.service.authorization.permission.Permission;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+@Category(JUnitTests.class)
+public class GroupServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+
+    private AuthorizationService authorizationService;
+    private ServiceConfigurationManager serviceConfigurationManager;
+    private GroupRepository groupRepository;
+    private GroupServiceImpl instance;
+
+    @Before
+    public void setUp() {
+        authorizationService = Mockito.mock(AuthorizationService.class);
+        serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        groupRepository = Mockito.mock(GroupRepository.class);
+
+        final TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        instance = new GroupServiceImpl(
+                Mockito.mock(PermissionFactory.class),
+                authorizationService,
+                serviceConfigurationManager,
+                txManager,
+                groupRepository
+        );
+    }
+
+    @Test
+    public void findByIdsQueriesAllIdsAtOnce() throws KapuaException {
+        GroupListResult groupListResult = new GroupListResultImpl();
+        Mockito.when(groupRepository.query(Mockito.<TxContext>any(), Mockito.<KapuaQuery>any())).thenReturn(groupListResult);
+
+        Set<KapuaId> groupIds = new HashSet<>(Arrays.asList(new KapuaEid(BigInteger.TEN), new KapuaEid(BigInteger.valueOf(11))));
+
+        Assert.assertSame(groupListResult, instance.findByIds(SCOPE_ID, groupIds));
+
+        ArgumentCaptor<KapuaQuery> query = ArgumentCaptor.forClass(KapuaQuery.class);
+        Mockito.verify(groupRepository).query(Mockito.<TxContext>any(), query.capture());
+        Assert.assertEquals(SCOPE_ID, query.getValue().getScopeId());
+
+        AttributePredicate<?> predicate = (AttributePredicate<?>) query.getValue().getPredicate();
+        Assert.assertEquals(KapuaEntityAttributes.ENTITY_ID, predicate.getAttributeName());
+        Assert.assertEquals(groupIds, new HashSet<>((Collection<?>) predicate.getAttributeValue()));
+    }
+
+    @Test
+    public void findByIdsWithoutIds() throws KapuaException {
+        Assert.assertTrue(instance.findByIds(SCOPE_ID, Collections.<KapuaId>emptySet()).isEmpty());
+
+        Mockito.verify(authorizationService).checkPermission(Mockito.<Permission>any());
+        Mockito.verifyZeroInteractions(groupRepository);
+    }
+
+    @Test
+    public void findByIdsWithoutPermission() throws KapuaException {
+        Mockito.doThrow(KapuaException.internalError("not permitted")).when(authorizationService).checkPermission(Mockito.<Permission>any());
+
+        try {
+            instance.findByIds(SCOPE_ID, Collections.<KapuaId>singleton(new KapuaEid(BigInteger.TEN)));
+            Assert.fail("KapuaException expected");
+        } catch (KapuaException e) {
+            // Expected
+        }
+        Mockito.verifyZeroInteractions(groupRepository);
+    }
+
+    @Test
+    public void deleteReleasesAllowedEntity() throws KapuaException {
+        KapuaId groupId = new KapuaEid(BigInteger.TEN);
+
+        instance.delete(SCOPE_ID, groupId);
+
+        Mockito.verify(groupRepository).delete(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(groupId));
+        Mockito.verify(serviceConfigurationManager).releaseAllowedEntity(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID));
+    }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.authorization.role.shiro;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.configuration.ServiceConfigurationManager;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.qa.markers.junit.JUnitTests;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.access.AccessInfoFactory;
+import org.eclipse.kapua.service.authorization.access.AccessInfoService;
+import org.eclipse.kapua.service.authorization.access.AccessRoleFactory;
+import org.eclipse.kapua.service.authorization.access.AccessRoleService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.authorization.permission.shiro.PermissionValidator;
+import org.eclipse.kapua.service.authorization.role.RolePermissionFactory;
+import org.eclipse.kapua.service.authorization.role.RolePermissionRepository;
+import org.eclipse.kapua.service.authorization.role.RoleRepository;
+import org.eclipse.kapua.storage.TxContext;
+import org.eclipse.kapua.storage.TxManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.function.BiConsumer;
+
+@Category(JUnitTests.class)
+public class RoleServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+
+    private ServiceConfigurationManager serviceConfigurationManager;
+    private RoleRepository roleRepository;
+    private RoleServiceImpl instance;
+
+    @Before
+    public void setUp() {
+        serviceConfigurationManager = Mockito.mock(ServiceConfigurationManager.class);
+        roleRepository = Mockito.mock(RoleRepository.class);
+
+        final TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+
+        instance = new RoleServiceImpl(
+                Mockito.mock(PermissionFactory.class),
+                Mockito.mock(AuthorizationService.class),
+                Mockito.mock(RolePermissionFactory.class),
+                Mockito.mock(AccessRoleFactory.class),
+                Mockito.mock(AccessInfoFactory.class),
+                Mockito.mock(AccessRoleService.class),
+                Mockito.mock(AccessInfoService.class),
+                serviceConfigurationManager,
+                txManager,
+                roleRepository,
+                Mockito.mock(RolePermissionRepository.class),
+                Mockito.mock(PermissionValidator.class)
+        );
+    }
+
+    @Test
+    public void deleteReleasesAllowedEntity() throws KapuaException {
+        KapuaId roleId = new KapuaEid(BigInteger.TEN);
+
+        instance.delete(SCOPE_ID, roleId);
+
+        Mockito.verify(roleRepository).delete(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID), Mockito.eq(roleId));
+        Mockito.verify(serviceConfigurationManager).releaseAllowedEntity(Mockito.<TxContext>any(), Mockito.eq(SCOPE_ID));
+    }
+
+    @Test
+    public void deleteAdminRoleDoesNotReleaseAllowedEntity() {
+        try {
+            instance.delete(SCOPE_ID, KapuaId.ONE);
+            Assert.fail("The admin role cannot be deleted");
+        } catch (KapuaException e) {
+            Mockito.verifyZeroInteractions(roleRepository, serviceConfigurationManager);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.stream;
+
+import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request to publish many {@link KapuaDataMessage}s at once.
+ *
+ * @see StreamService#publishAll(org.eclipse.kapua.model.id.KapuaId, List, Long)
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "streamPublishBulkRequest")
+public class StreamPublishBulkRequest {
+
+    /**
+     * The {@link KapuaDataMessage}s to publish.
+     *
+     * @since 2.1.0
+     */
+    @XmlElement(name = "messages")
+    public List<KapuaDataMessage> messages = new ArrayList<>();
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.stream;
+
+import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a bulk {@link KapuaDataMessage} publish.
+ * <p>
+ * It contains a {@link StreamPublishResult} for each of the given {@link KapuaDataMessage}s, in the same order.
+ *
+ * @see StreamService#publishAll(org.eclipse.kapua.model.id.KapuaId, List, Long)
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "streamPublishBulkResult")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+public class StreamPublishBulkResult {
+
+    private List<StreamPublishResult> results = new ArrayList<>();
+
+    /**
+     * Gets the {@link StreamPublishResult}s, in the same order of the given {@link KapuaDataMessage}s.
+     *
+     * @return The {@link StreamPublishResult}s.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "results")
+    public List<StreamPublishResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Sets the {@link StreamPublishResult}s, in the same order of the given {@link KapuaDataMessage}s.
+     *
+     * @param results The {@link StreamPublishResult}s.
+     * @since 2.1.0
+     */
+    public void setResults(List<StreamPublishResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.stream;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.model.id.KapuaIdAdapter;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+/**
+ * Outcome of the publish of a single {@link KapuaDataMessage} of a bulk publish.
+ *
+ * @see StreamService#publishAll(KapuaId, java.util.List, Long)
+ * @since 2.1.0
+ */
+@XmlRootElement(name = "streamPublishResult")
+@XmlAccessorType(XmlAccessType.PROPERTY)
+public class StreamPublishResult {
+
+    private int index;
+    private KapuaId deviceId;
+    private String clientId;
+    private boolean published;
+    private String errorCode;
+    private String errorMessage;
+    private KapuaException exception;
+
+    /**
+     * Constructor.
+     * <p>
+     * Needed by JAXB.
+     *
+     * @since 2.1.0
+     */
+    public StreamPublishResult() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param index     The position of the {@link KapuaDataMessage} in the bulk publish.
+     * @param deviceId  The {@link KapuaDataMessage#getDeviceId()}.
+     * @param clientId  The {@link KapuaDataMessage#getClientId()}.
+     * @param exception The {@link KapuaException} that prevented the publish, or {@code null} if published.
+     * @since 2.1.0
+     */
+    public StreamPublishResult(int index, KapuaId deviceId, String clientId, KapuaException exception) {
+        this.index = index;
+        this.deviceId = deviceId;
+        this.clientId = clientId;
+        this.published = exception == null;
+        this.exception = exception;
+
+        if (exception != null) {
+            this.errorCode = exception.getCode().name();
+            this.errorMessage = exception.getMessage();
+        }
+    }
+
+    /**
+     * Gets the position of the {@link KapuaDataMessage} in the bulk publish.
+     *
+     * @return The position of the {@link KapuaDataMessage} in the bulk publish.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "index")
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the position of the {@link KapuaDataMessage} in the bulk publish.
+     *
+     * @param index The position of the {@link KapuaDataMessage} in the bulk publish.
+     * @since 2.1.0
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets the {@link KapuaDataMessage#getDeviceId()}.
+     *
+     * @return The {@link KapuaDataMessage#getDeviceId()}.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "deviceId")
+    @XmlJavaTypeAdapter(KapuaIdAdapter.class)
+    public KapuaId getDeviceId() {
+        return deviceId;
+    }
+
+    /**
+     * Sets the {@link KapuaDataMessage#getDeviceId()}.
+     *
+     * @param deviceId The {@link KapuaDataMessage#getDeviceId()}.
+     * @since 2.1.0
+     */
+    public void setDeviceId(KapuaId deviceId) {
+        this.deviceId = deviceId;
+    }
+
+    /**
+     * Gets the {@link KapuaDataMessage#getClientId()}.
+     *
+     * @return The {@link KapuaDataMessage#getClientId()}.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "clientId")
+    public String getClientId() {
+        return clientId;
+    }
+
+    /**
+     * Sets the {@link KapuaDataMessage#getClientId()}.
+     *
+     * @param clientId The {@link KapuaDataMessage#getClientId()}.
+     * @since 2.1.0
+     */
+    public void setClientId(String clientId) {
+        this.clientId = clientId;
+    }
+
+    /**
+     * Whether the {@link KapuaDataMessage} has been published.
+     *
+     * @return {@code true} if the {@link KapuaDataMessage} has been published, {@code false} otherwise.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "published")
+    public boolean isPublished() {
+        return published;
+    }
+
+    /**
+     * Sets whether the {@link KapuaDataMessage} has been published.
+     *
+     * @param published Whether the {@link KapuaDataMessage} has been published.
+     * @since 2.1.0
+     */
+    public void setPublished(boolean published) {
+        this.published = published;
+    }
+
+    /**
+     * Gets the {@link KapuaException#getCode()} that prevented the publish.
+     *
+     * @return The {@link KapuaException#getCode()} name, or {@code null} if published.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "errorCode")
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Sets the {@link KapuaException#getCode()} that prevented the publish.
+     *
+     * @param errorCode The {@link KapuaException#getCode()} name.
+     * @since 2.1.0
+     */
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Gets the {@link KapuaException#getMessage()} that prevented the publish.
+     *
+     * @return The {@link KapuaException#getMessage()}, or {@code null} if published.
+     * @since 2.1.0
+     */
+    @XmlElement(name = "errorMessage")
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Sets the {@link KapuaException#getMessage()} that prevented the publish.
+     *
+     * @param errorMessage The {@link KapuaException#getMessage()}.
+     * @since 2.1.0
+     */
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Gets the {@link KapuaException} that prevented the publish.
+     * <p>
+     * It is available only to the caller of {@link StreamService#publishAll(KapuaId, java.util.List, Long)}.
+     *
+     * @return The {@link KapuaException} that prevented the publish, or {@code null} if published.
+     * @since 2.1.0
+     */
+    @XmlTransient
+    public KapuaException getException() {
+        return exception;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,12 @@ package org.eclipse.kapua.service.stream;
 
 import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.KapuaService;
 import org.eclipse.kapua.service.device.management.message.response.KapuaResponseMessage;
 
+import java.util.List;
+
 /**
  * @since 1.0.0
  */
@@ -31,4 +34,20 @@ public interface StreamService extends KapuaService {
      * @since 1.0.0
      */
     KapuaResponseMessage<?, ?> publish(KapuaDataMessage message, Long timeout) throws KapuaException;
+
+    /**
+     * Publishes many {@link KapuaDataMessage}s of the same scope at once.
+     * <p>
+     * Devices are resolved with bulk queries, one transport client per broker is used for the whole batch and
+     * messages are published concurrently, with a bounded number of them in flight at any time.
+     * A failure on a single {@link KapuaDataMessage} does not stop the others and is reported in its {@link StreamPublishResult}.
+     *
+     * @param scopeId  The scope {@link KapuaId} of the {@link KapuaDataMessage}s, which overrides their own {@link KapuaDataMessage#getScopeId()}.
+     * @param messages The {@link KapuaDataMessage}s to publish.
+     * @param timeout  The timeout, as in {@link #publish(KapuaDataMessage, Long)}.
+     * @return The {@link StreamPublishBulkResult} with a {@link StreamPublishResult} for each of the given {@link KapuaDataMessage}s.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    StreamPublishBulkResult publishAll(KapuaId scopeId, List<KapuaDataMessage> messages, Long timeout) throws KapuaException;
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,18 +12,36 @@
  *******************************************************************************/
 package org.eclipse.kapua.service.stream.internal;
 
+import com.google.inject.Provides;
 import com.google.inject.multibindings.ProvidesIntoSet;
 import org.eclipse.kapua.commons.core.AbstractKapuaModule;
+import org.eclipse.kapua.commons.core.ServiceModule;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.domain.Domain;
 import org.eclipse.kapua.model.domain.DomainEntry;
 import org.eclipse.kapua.service.stream.StreamService;
+import org.eclipse.kapua.service.stream.internal.setting.StreamSetting;
+import org.eclipse.kapua.service.stream.internal.setting.StreamSettingKeys;
+
+import javax.inject.Singleton;
 
 public class StreamModule extends AbstractKapuaModule {
     @Override
     protected void configureModule() {
         bind(StreamService.class).to(StreamServiceImpl.class);
+        bind(StreamSetting.class).in(Singleton.class);
+    }
+
+    @Provides
+    @Singleton
+    StreamPublishBulkExecutor streamPublishBulkExecutor(StreamSetting streamSetting) {
+        return new StreamPublishBulkExecutor(streamSetting.getInt(StreamSettingKeys.STREAM_PUBLISH_BULK_THREADS, 20));
+    }
+
+    @ProvidesIntoSet
+    ServiceModule streamPublishBulkExecutorServiceModule(StreamPublishBulkExecutor streamPublishBulkExecutor) {
+        return streamPublishBulkExecutor;
     }
 
     @ProvidesIntoSet
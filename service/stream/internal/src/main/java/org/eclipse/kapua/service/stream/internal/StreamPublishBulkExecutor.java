@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.stream.internal;
+
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.core.ServiceModule;
+import org.eclipse.kapua.service.stream.StreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of threads which send the messages of {@link StreamService#publishAll(org.eclipse.kapua.model.id.KapuaId, java.util.List, Long)}, shared by all bulk publishes.
+ * <p>
+ * The pool is created on {@link #start()} and shut down on {@link #stop()}.
+ * While the pool is not running, sends are run on the invoking thread.
+ *
+ * @since 2.1.0
+ */
+public class StreamPublishBulkExecutor implements ServiceModule {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamPublishBulkExecutor.class);
+
+    private static final long STOP_TIMEOUT_SECONDS = 10;
+
+    private final int threads;
+
+    private volatile ExecutorService sendExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param threads The number of threads sending the messages.
+     * @since 2.1.0
+     */
+    public StreamPublishBulkExecutor(int threads) {
+        this.threads = threads;
+    }
+
+    @Override
+    public synchronized void start() throws KapuaException {
+        if (sendExecutor != null) {
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        sendExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread publishThread = new Thread(runnable, "stream-bulk-publish-" + threadCount.incrementAndGet());
+            publishThread.setDaemon(true);
+            return publishThread;
+        });
+    }
+
+    @Override
+    public synchronized void stop() throws KapuaException {
+        if (sendExecutor == null) {
+            return;
+        }
+
+        ExecutorService stoppingExecutor = sendExecutor;
+        sendExecutor = null;
+
+        // Let the accepted sends complete, so that the bulk publishes waiting for them can return their transport clients
+        stoppingExecutor.shutdown();
+        try {
+            if (!stoppingExecutor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Stream bulk publish sends not completed in {} seconds. Interrupting them", STOP_TIMEOUT_SECONDS);
+                stoppingExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            stoppingExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the given send on the pool, or on the invoking thread if the pool is not running.
+     *
+     * @param send The send to run.
+     * @since 2.1.0
+     */
+    public void execute(Runnable send) {
+        ExecutorService currentExecutor = sendExecutor;
+        if (currentExecutor != null) {
+            try {
+                currentExecutor.execute(send);
+                return;
+            } catch (RejectedExecutionException e) {
+                // Stopped meanwhile
+                LOG.debug("Stream bulk publish pool stopped. Sending on the invoking thread");
+            }
+        }
+
+        send.run();
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.kapua.service.stream.internal;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.eclipse.kapua.KapuaEntityNotFoundException;
 import org.eclipse.kapua.KapuaException;
 import org.eclipse.kapua.KapuaIllegalArgumentException;
@@ -21,7 +22,9 @@ import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.util.ArgumentValidator;
 import org.eclipse.kapua.message.Message;
 import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
 import org.eclipse.kapua.model.domain.Actions;
+import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.service.authorization.AuthorizationService;
 import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
 import org.eclipse.kapua.service.device.call.kura.exception.KuraDeviceCallErrorCodes;
@@ -30,13 +33,21 @@ import org.eclipse.kapua.service.device.call.message.kura.app.response.KuraRespo
 import org.eclipse.kapua.service.device.call.message.kura.data.KuraDataMessage;
 import org.eclipse.kapua.service.device.management.message.response.KapuaResponseMessage;
 import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceAttributes;
+import org.eclipse.kapua.service.device.registry.DeviceFactory;
+import org.eclipse.kapua.service.device.registry.DeviceQuery;
 import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnection;
 import org.eclipse.kapua.service.endpoint.EndpointInfo;
 import org.eclipse.kapua.service.endpoint.EndpointInfoAttributes;
 import org.eclipse.kapua.service.endpoint.EndpointInfoFactory;
 import org.eclipse.kapua.service.endpoint.EndpointInfoQuery;
 import org.eclipse.kapua.service.endpoint.EndpointInfoService;
+import org.eclipse.kapua.service.stream.StreamPublishBulkResult;
+import org.eclipse.kapua.service.stream.StreamPublishResult;
 import org.eclipse.kapua.service.stream.StreamService;
+import org.eclipse.kapua.service.stream.internal.setting.StreamSetting;
+import org.eclipse.kapua.service.stream.internal.setting.StreamSettingKeys;
 import org.eclipse.kapua.translator.Translator;
 import org.eclipse.kapua.translator.TranslatorHub;
 import org.eclipse.kapua.translator.exception.TranslatorNotFoundException;
@@ -44,45 +55,76 @@ import org.eclipse.kapua.transport.TransportClientFactory;
 import org.eclipse.kapua.transport.TransportFacade;
 import org.eclipse.kapua.transport.exception.TransportClientGetException;
 import org.eclipse.kapua.transport.message.TransportMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * {@link StreamService} implementation.
+ * <p>
+ * Messages of a bulk publish are sent by the shared {@link StreamPublishBulkExecutor}.
+ * Each bulk publish keeps at most {@link StreamSettingKeys#STREAM_PUBLISH_BULK_MAX_IN_FLIGHT} messages in flight,
+ * and returns its {@link TransportFacade}s only once all of its sends have completed.
  *
  * @since 1.0.0
  */
 @Singleton
 public class StreamServiceImpl implements StreamService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(StreamServiceImpl.class);
+
+    /**
+     * Maximum number of {@link Device} ids for each {@link DeviceQuery} of a bulk publish.
+     */
+    private static final int DEVICE_QUERY_MAX_IDS = 500;
+
     private final AuthorizationService authorizationService;
     private final PermissionFactory permissionFactory;
     private final DeviceRegistryService deviceRegistryService;
+    private final DeviceFactory deviceFactory;
     private final EndpointInfoService endpointInfoService;
     private final EndpointInfoFactory endpointInfoFactory;
     private final TransportClientFactory transportClientFactory;
     private final TranslatorHub translatorHub;
+    private final StreamPublishBulkExecutor bulkPublishExecutor;
+    private final int bulkMaxInFlight;
 
     @Inject
     public StreamServiceImpl(
             AuthorizationService authorizationService,
             PermissionFactory permissionFactory,
             DeviceRegistryService deviceRegistryService,
+            DeviceFactory deviceFactory,
             EndpointInfoService endpointInfoService,
             EndpointInfoFactory endpointInfoFactory,
             TransportClientFactory transportClientFactory,
-            TranslatorHub translatorHub) {
+            TranslatorHub translatorHub,
+            StreamPublishBulkExecutor bulkPublishExecutor,
+            StreamSetting streamSetting) {
         this.authorizationService = authorizationService;
         this.permissionFactory = permissionFactory;
         this.deviceRegistryService = deviceRegistryService;
+        this.deviceFactory = deviceFactory;
         this.endpointInfoService = endpointInfoService;
         this.endpointInfoFactory = endpointInfoFactory;
         this.transportClientFactory = transportClientFactory;
         this.translatorHub = translatorHub;
+        this.bulkPublishExecutor = bulkPublishExecutor;
+        this.bulkMaxInFlight = streamSetting.getInt(StreamSettingKeys.STREAM_PUBLISH_BULK_MAX_IN_FLIGHT, 50);
     }
 
     @Override
@@ -114,8 +156,194 @@ public class StreamServiceImpl implements StreamService {
 
         return null;
     }
+
+    @Override
+    public StreamPublishBulkResult publishAll(KapuaId scopeId, List<KapuaDataMessage> kapuaDataMessages, Long timeout) throws KapuaException {
+        // Argument validation
+        ArgumentValidator.notNull(scopeId, "scopeId");
+        ArgumentValidator.notNull(kapuaDataMessages, "dataMessages");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.STREAM, Actions.write, scopeId));
+
+        StreamPublishResult[] results = new StreamPublishResult[kapuaDataMessages.size()];
+
+        // Resolve the broker of each message, reading the target Devices in bulk
+        Map<KapuaId, Device> devicesById = findDevices(scopeId, kapuaDataMessages);
+        Map<String, List<Integer>> messageIndexesByServerURI = new LinkedHashMap<>();
+        String endpointServerURI = null;
+        KapuaException endpointException = null;
+        for (int i = 0; i < kapuaDataMessages.size(); i++) {
+            KapuaDataMessage kapuaDataMessage = kapuaDataMessages.get(i);
+            try {
+                ArgumentValidator.notNull(kapuaDataMessage, "dataMessage");
+                kapuaDataMessage.setScopeId(scopeId);
+                ArgumentValidator.notNull(kapuaDataMessage.getChannel(), "dataMessage.channel");
+
+                String serverURI;
+                if (kapuaDataMessage.getDeviceId() != null) {
+                    Device device = devicesById.get(kapuaDataMessage.getDeviceId());
+                    checkDeviceInfo(kapuaDataMessage, device);
+
+                    DeviceConnection deviceConnection = device.getConnection();
+                    serverURI = deviceConnection != null ? deviceConnection.getServerIp() : null;
+                } else {
+                    // Resolved once for the whole bulk publish, also when it fails
+                    if (endpointServerURI == null && endpointException == null) {
+                        try {
+                            endpointServerURI = getEndpointInfoDNS(kapuaDataMessage);
+                        } catch (KapuaException ke) {
+                            endpointException = ke;
+                        }
+                    }
+                    if (endpointException != null) {
+                        throw endpointException;
+                    }
+                    serverURI = endpointServerURI;
+                }
+
+                if (Strings.isNullOrEmpty(serverURI)) {
+                    throw new KuraDeviceCallException(KuraDeviceCallErrorCodes.CALL_ERROR, new TransportClientGetException(serverURI), serverURI);
+                }
+
+                messageIndexesByServerURI.computeIfAbsent(serverURI, k -> new ArrayList<>()).add(i);
+            } catch (KapuaException ke) {
+                results[i] = newPublishResult(i, kapuaDataMessage, ke);
+            }
+        }
+
+        // Do publish, with one transport client for each broker
+        Translator<KapuaDataMessage, KuraDataMessage> translatorKapuaKura = getTranslator(KapuaDataMessage.class, KuraDataMessage.class);
+        BlockingQueue<StreamPublishResult> completedResults = new LinkedBlockingQueue<>();
+        List<TransportFacade<?, ?, ?, ?>> transportFacades = new ArrayList<>();
+        AtomicBoolean aborted = new AtomicBoolean();
+        int inFlight = 0;
+        try {
+            for (Map.Entry<String, List<Integer>> serverURIMessageIndexes : messageIndexesByServerURI.entrySet()) {
+                TransportFacade transportFacade;
+                Translator<KuraDataMessage, ?> translatorKuraTransport;
+                try {
+                    transportFacade = borrowClient(serverURIMessageIndexes.getKey());
+                    transportFacades.add(transportFacade);
+                    translatorKuraTransport = getTranslator(KuraDataMessage.class, transportFacade.getMessageClass());
+                } catch (KapuaException ke) {
+                    for (int index : serverURIMessageIndexes.getValue()) {
+                        results[index] = newPublishResult(index, kapuaDataMessages.get(index), ke);
+                    }
+                    continue;
+                }
+
+                for (int index : serverURIMessageIndexes.getValue()) {
+                    KapuaDataMessage kapuaDataMessage = kapuaDataMessages.get(index);
+
+                    // Translate on the invoking thread, which holds the caller session
+                    TransportMessage<?, ?> transportMessage;
+                    try {
+                        KuraDataMessage kuraDataMessage = translatorKapuaKura.translate(kapuaDataMessage);
+                        kuraDataMessage.setTimestamp(new Date());
+                        transportMessage = (TransportMessage<?, ?>) translatorKuraTransport.translate(kuraDataMessage);
+                    } catch (KapuaException ke) {
+                        results[index] = newPublishResult(index, kapuaDataMessage, new KuraDeviceCallException(KuraDeviceCallErrorCodes.CALL_ERROR, ke, (Object[]) null));
+                        continue;
+                    }
+
+                    // Wait for a free slot
+                    while (inFlight >= bulkMaxInFlight) {
+                        StreamPublishResult completedResult = completedResults.take();
+                        results[completedResult.getIndex()] = completedResult;
+                        inFlight--;
+                    }
+
+                    bulkPublishExecutor.execute(() -> completedResults.add(aborted.get() ?
+                            newPublishResult(index, kapuaDataMessage, KapuaException.internalError("Bulk publish aborted")) :
+                            send(transportFacade, index, kapuaDataMessage, transportMessage)));
+                    inFlight++;
+                }
+            }
+
+            // Wait for the remaining results
+            while (inFlight > 0) {
+                StreamPublishResult completedResult = completedResults.take();
+                results[completedResult.getIndex()] = completedResult;
+                inFlight--;
+            }
+        } catch (InterruptedException e) {
+            // Sends not started yet are skipped, while the running ones must complete before their TransportFacade is returned
+            aborted.set(true);
+            for (; inFlight > 0; inFlight--) {
+                Uninterruptibles.takeUninterruptibly(completedResults);
+            }
+
+            Thread.currentThread().interrupt();
+            throw KapuaException.internalError(e, "Interrupted while waiting for bulk publish results");
+        } finally {
+            transportFacades.forEach(TransportFacade::close);
+        }
+
+        LOG.debug("Published {} messages on {} brokers for scope {}", kapuaDataMessages.size(), transportFacades.size(), scopeId);
+
+        StreamPublishBulkResult bulkResult = new StreamPublishBulkResult();
+        bulkResult.setResults(new ArrayList<>(Arrays.asList(results)));
+        return bulkResult;
+    }
     // Private methods
 
+    /**
+     * Sends the given {@link TransportMessage} with the given {@link TransportFacade}.
+     *
+     * @param transportFacade  The {@link TransportFacade} to use.
+     * @param index            The position of the {@link KapuaDataMessage} in the bulk publish.
+     * @param kapuaDataMessage The {@link KapuaDataMessage} being published.
+     * @param transportMessage The translated {@link KapuaDataMessage}.
+     * @return The {@link StreamPublishResult}.
+     * @since 2.1.0
+     */
+    private static StreamPublishResult send(TransportFacade transportFacade, int index, KapuaDataMessage kapuaDataMessage, TransportMessage<?, ?> transportMessage) {
+        try {
+            transportFacade.sendAsync(transportMessage);
+            return newPublishResult(index, kapuaDataMessage, null);
+        } catch (KapuaException ke) {
+            return newPublishResult(index, kapuaDataMessage, new KuraDeviceCallException(KuraDeviceCallErrorCodes.CALL_ERROR, ke, (Object[]) null));
+        } catch (RuntimeException e) {
+            return newPublishResult(index, kapuaDataMessage, KapuaException.internalError(e));
+        }
+    }
+
+    private static StreamPublishResult newPublishResult(int index, KapuaDataMessage kapuaDataMessage, KapuaException exception) {
+        return kapuaDataMessage != null ?
+                new StreamPublishResult(index, kapuaDataMessage.getDeviceId(), kapuaDataMessage.getClientId(), exception) :
+                new StreamPublishResult(index, null, null, exception);
+    }
+
+    /**
+     * Reads the {@link Device}s targeted by the given {@link KapuaDataMessage}s with {@link KapuaDataMessage#getDeviceId()}, along with their {@link DeviceConnection}.
+     *
+     * @param scopeId           The scope {@link KapuaId} of the {@link KapuaDataMessage}s.
+     * @param kapuaDataMessages The {@link KapuaDataMessage}s to publish.
+     * @return The {@link Device}s found, by {@link Device#getId()}.
+     * @throws KapuaException If reading the {@link Device}s fails.
+     * @since 2.1.0
+     */
+    private Map<KapuaId, Device> findDevices(KapuaId scopeId, List<KapuaDataMessage> kapuaDataMessages) throws KapuaException {
+        List<KapuaId> deviceIds = kapuaDataMessages.stream()
+                .filter(Objects::nonNull)
+                .map(KapuaDataMessage::getDeviceId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<KapuaId, Device> devicesById = new HashMap<>();
+        for (int from = 0; from < deviceIds.size(); from += DEVICE_QUERY_MAX_IDS) {
+            DeviceQuery deviceQuery = deviceFactory.newQuery(scopeId);
+            deviceQuery.setPredicate(deviceQuery.attributePredicate(KapuaEntityAttributes.ENTITY_ID, deviceIds.subList(from, Math.min(from + DEVICE_QUERY_MAX_IDS, deviceIds.size()))));
+            deviceQuery.addFetchAttributes(DeviceAttributes.CONNECTION);
+
+            for (Device device : deviceRegistryService.query(deviceQuery).getItems()) {
+                devicesById.put(device.getId(), device);
+            }
+        }
+        return devicesById;
+    }
+
     /**
      * Picks a {@link TransportFacade} to send the {@link KuraResponseMessage}.
      *
@@ -140,7 +368,23 @@ public class StreamServiceImpl implements StreamService {
             if (Strings.isNullOrEmpty(serverURI)) {
                 throw new TransportClientGetException(serverURI);
             }
+        } catch (Exception e) {
+            throw new KuraDeviceCallException(KuraDeviceCallErrorCodes.CALL_ERROR, e, serverURI);
+        }
 
+        return borrowClient(serverURI);
+    }
+
+    /**
+     * Picks a {@link TransportFacade} connected to the given broker.
+     *
+     * @param serverURI The broker {@link java.net.URI}.
+     * @return The {@link TransportFacade} to use to send the {@link KuraDataMessage}s.
+     * @throws KuraDeviceCallException If getting the {@link TransportFacade} causes any {@link Exception}.
+     * @since 2.1.0
+     */
+    protected TransportFacade<?, ?, ?, ?> borrowClient(String serverURI) throws KuraDeviceCallException {
+        try {
             Map<String, Object> configParameters = new HashMap<>(1);
             configParameters.put("serverAddress", serverURI);
             return transportClientFactory.getFacade(configParameters);
@@ -171,19 +415,32 @@ public class StreamServiceImpl implements StreamService {
         if (dataMessage.getDeviceId() != null) {
             device = deviceRegistryService.find(dataMessage.getScopeId(), dataMessage.getDeviceId());
 
-            if (device == null) {
-                throw new KapuaEntityNotFoundException(Device.TYPE, dataMessage.getDeviceId());
-            } else {
-                if (dataMessage.getClientId() == null) {
-                    dataMessage.setClientId(device.getClientId());
-                } else if (!device.getClientId().equals(dataMessage.getClientId())) {
-                    throw new KapuaIllegalArgumentException("dataMessage.clientId", dataMessage.getClientId());
-                }
-            }
+            checkDeviceInfo(dataMessage, device);
         }
         return device;
     }
 
+    /**
+     * Checks the {@link KapuaDataMessage#getClientId()} against the {@link Device} matching the {@link KapuaDataMessage#getDeviceId()}.
+     *
+     * @param dataMessage The {@link KapuaDataMessage} to publish
+     * @param device      The {@link Device} matching the {@link KapuaDataMessage#getDeviceId()}, or {@code null} if not found.
+     * @throws KapuaEntityNotFoundException  if the {@link Device} has not been found
+     * @throws KapuaIllegalArgumentException if {@link KapuaDataMessage#getClientId()} does not match the {@link Device#getClientId()}
+     * @since 2.1.0
+     */
+    private void checkDeviceInfo(KapuaDataMessage dataMessage, Device device) throws KapuaException {
+        if (device == null) {
+            throw new KapuaEntityNotFoundException(Device.TYPE, dataMessage.getDeviceId());
+        } else {
+            if (dataMessage.getClientId() == null) {
+                dataMessage.setClientId(device.getClientId());
+            } else if (!device.getClientId().equals(dataMessage.getClientId())) {
+                throw new KapuaIllegalArgumentException("dataMessage.clientId", dataMessage.getClientId());
+            }
+        }
+    }
+
     /**
      * Looks for the available {@link EndpointInfo} with {@link EndpointInfo#getSchema()} = "mqtt"
      *
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.stream.internal.setting;
+
+import org.eclipse.kapua.commons.setting.AbstractKapuaSetting;
+
+/**
+ * {@link org.eclipse.kapua.service.stream.StreamService} {@link AbstractKapuaSetting}s
+ *
+ * @since 2.1.0
+ */
+public class StreamSetting extends AbstractKapuaSetting<StreamSettingKeys> {
+
+    /**
+     * Resource file from which source properties.
+     */
+    private static final String STREAM_SETTING_RESOURCE = "kapua-stream-setting.properties";
+
+    /**
+     * Initialize the {@link AbstractKapuaSetting} with the {@link StreamSetting#STREAM_SETTING_RESOURCE} value.
+     */
+    public StreamSetting() {
+        super(STREAM_SETTING_RESOURCE);
+    }
+}
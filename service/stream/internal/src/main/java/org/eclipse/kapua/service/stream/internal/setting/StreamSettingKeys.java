@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.stream.internal.setting;
+
+import org.eclipse.kapua.commons.setting.SettingKey;
+
+/**
+ * {@link StreamSetting} {@link SettingKey}s
+ *
+ * @since 2.1.0
+ */
+public enum StreamSettingKeys implements SettingKey {
+
+    /**
+     * The maximum number of messages of a bulk publish being sent at any time.
+     *
+     * @since 2.1.0
+     */
+    STREAM_PUBLISH_BULK_MAX_IN_FLIGHT("stream.publish.bulk.maxInFlight"),
+
+    /**
+     * The number of threads sending the messages, shared by all bulk publishes.
+     *
+     * @since 2.1.0
+     */
+    STREAM_PUBLISH_BULK_THREADS("stream.publish.bulk.threads");
+
+    private final String key;
+
+    /**
+     * Set up the {@code enum} with the key value provided
+     *
+     * @param key The value mapped by this {@link Enum} value
+     * @since 2.1.0
+     */
+    StreamSettingKeys(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the key for this {@link StreamSettingKeys}
+     *
+     * @since 2.1.0
+     */
+    @Override
+    public String key() {
+        return key;
+    }
+}
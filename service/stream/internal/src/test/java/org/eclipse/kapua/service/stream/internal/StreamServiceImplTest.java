@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eurotech - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.kapua.service.stream.internal;
+
+import org.eclipse.kapua.KapuaEntityNotFoundException;
+import org.eclipse.kapua.KapuaException;
+import org.eclipse.kapua.commons.model.id.KapuaEid;
+import org.eclipse.kapua.message.device.data.KapuaDataChannel;
+import org.eclipse.kapua.message.device.data.KapuaDataMessage;
+import org.eclipse.kapua.model.id.KapuaId;
+import org.eclipse.kapua.service.authorization.AuthorizationService;
+import org.eclipse.kapua.service.authorization.permission.PermissionFactory;
+import org.eclipse.kapua.service.device.call.message.kura.data.KuraDataMessage;
+import org.eclipse.kapua.service.device.registry.Device;
+import org.eclipse.kapua.service.device.registry.DeviceFactory;
+import org.eclipse.kapua.service.device.registry.DeviceListResult;
+import org.eclipse.kapua.service.device.registry.DeviceQuery;
+import org.eclipse.kapua.service.device.registry.DeviceRegistryService;
+import org.eclipse.kapua.service.device.registry.connection.DeviceConnection;
+import org.eclipse.kapua.service.endpoint.EndpointInfo;
+import org.eclipse.kapua.service.endpoint.EndpointInfoFactory;
+import org.eclipse.kapua.service.endpoint.EndpointInfoListResult;
+import org.eclipse.kapua.service.endpoint.EndpointInfoQuery;
+import org.eclipse.kapua.service.endpoint.EndpointInfoService;
+import org.eclipse.kapua.service.stream.StreamPublishBulkResult;
+import org.eclipse.kapua.service.stream.StreamPublishResult;
+import org.eclipse.kapua.service.stream.internal.setting.StreamSetting;
+import org.eclipse.kapua.service.stream.internal.setting.StreamSettingKeys;
+import org.eclipse.kapua.translator.Translator;
+import org.eclipse.kapua.translator.TranslatorHub;
+import org.eclipse.kapua.transport.TransportClientFactory;
+import org.eclipse.kapua.transport.TransportFacade;
+import org.eclipse.kapua.transport.message.TransportMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@org.junit.jupiter.api.Tag("org.eclipse.kapua.qa.markers.junit.JUnitTests")
+public class StreamServiceImplTest {
+
+    private static final KapuaId SCOPE_ID = new KapuaEid(BigInteger.ONE);
+    private static final String BROKER_A = "tcp://broker-a:1883";
+    private static final String BROKER_B = "tcp://broker-b:1883";
+    private static final String ENDPOINT_BROKER = "tcp://endpoint:1883";
+
+    private final Map<String, TransportFacade> transportFacades = new HashMap<>();
+    private final List<Device> devices = new ArrayList<>();
+
+    private DeviceRegistryService deviceRegistryService;
+    private DeviceFactory deviceFactory;
+    private EndpointInfoService endpointInfoService;
+    private EndpointInfoFactory endpointInfoFactory;
+    private TransportClientFactory transportClientFactory;
+    private TranslatorHub translatorHub;
+    private StreamPublishBulkExecutor bulkPublishExecutor;
+    private StreamSetting streamSetting;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        deviceRegistryService = Mockito.mock(DeviceRegistryService.class);
+        Mockito.when(deviceRegistryService.query(Mockito.any())).thenAnswer(invocation -> {
+            DeviceListResult deviceListResult = Mockito.mock(DeviceListResult.class);
+            Mockito.when(deviceListResult.getItems()).thenReturn(devices);
+            return deviceListResult;
+        });
+        deviceFactory = Mockito.mock(DeviceFactory.class);
+        Mockito.when(deviceFactory.newQuery(SCOPE_ID)).thenReturn(Mockito.mock(DeviceQuery.class));
+
+        EndpointInfo endpointInfo = Mockito.mock(EndpointInfo.class);
+        Mockito.when(endpointInfo.getDns()).thenReturn(ENDPOINT_BROKER);
+        EndpointInfoListResult endpointInfoListResult = Mockito.mock(EndpointInfoListResult.class);
+        Mockito.when(endpointInfoListResult.getFirstItem()).thenReturn(endpointInfo);
+        endpointInfoService = Mockito.mock(EndpointInfoService.class);
+        Mockito.when(endpointInfoService.query(Mockito.any())).thenReturn(endpointInfoListResult);
+        endpointInfoFactory = Mockito.mock(EndpointInfoFactory.class);
+        Mockito.when(endpointInfoFactory.newQuery(Mockito.any())).thenReturn(Mockito.mock(EndpointInfoQuery.class));
+
+        transportClientFactory = Mockito.mock(TransportClientFactory.class);
+        Mockito.when(transportClientFactory.getFacade(Mockito.any())).thenAnswer(invocation ->
+                transportFacades.computeIfAbsent((String) invocation.getArgumentAt(0, Map.class).get("serverAddress"), serverURI -> Mockito.mock(TransportFacade.class)));
+
+        Translator translatorKapuaKura = Mockito.mock(Translator.class);
+        Mockito.when(translatorKapuaKura.translate(Mockito.any())).thenAnswer(invocation -> Mockito.mock(KuraDataMessage.class));
+        Translator translatorKuraTransport = Mockito.mock(Translator.class);
+        Mockito.when(translatorKuraTransport.translate(Mockito.any())).thenAnswer(invocation -> Mockito.mock(TransportMessage.class));
+        translatorHub = Mockito.mock(TranslatorHub.class);
+        Mockito.when(translatorHub.getTranslatorFor(KapuaDataMessage.class, KuraDataMessage.class)).thenReturn(translatorKapuaKura);
+        Mockito.when(translatorHub.getTranslatorFor(Mockito.eq(KuraDataMessage.class), Mockito.any())).thenReturn(translatorKuraTransport);
+
+        streamSetting = Mockito.mock(StreamSetting.class);
+        Mockito.when(streamSetting.getInt(Mockito.eq(StreamSettingKeys.STREAM_PUBLISH_BULK_MAX_IN_FLIGHT), Mockito.anyInt())).thenReturn(50);
+
+        bulkPublishExecutor = new StreamPublishBulkExecutor(2);
+    }
+
+    @AfterEach
+    public void tearDown() throws KapuaException {
+        bulkPublishExecutor.stop();
+    }
+
+    @Test
+    public void publishAllGroupsByBroker() throws Exception {
+        bulkPublishExecutor.start();
+        KapuaId deviceIdA = newDevice(BigInteger.TEN, "client-a", BROKER_A);
+        KapuaId deviceIdB = newDevice(BigInteger.valueOf(11), "client-b", BROKER_B);
+
+        StreamPublishBulkResult bulkResult = newInstance().publishAll(SCOPE_ID, Arrays.asList(
+                newMessage(deviceIdA, null),
+                newMessage(deviceIdB, null),
+                newMessage(deviceIdA, null),
+                newMessage(null, "client-c")), null);
+
+        List<StreamPublishResult> results = bulkResult.getResults();
+        Assertions.assertEquals(4, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            Assertions.assertEquals(i, results.get(i).getIndex());
+            Assertions.assertNull(results.get(i).getException());
+        }
+
+        // One transport client for each broker, returned at the end
+        Mockito.verify(transportClientFactory, Mockito.times(3)).getFacade(Mockito.any());
+        Mockito.verify(transportFacades.get(BROKER_A), Mockito.times(2)).sendAsync(Mockito.any());
+        Mockito.verify(transportFacades.get(BROKER_B), Mockito.times(1)).sendAsync(Mockito.any());
+        Mockito.verify(transportFacades.get(ENDPOINT_BROKER), Mockito.times(1)).sendAsync(Mockito.any());
+        for (TransportFacade transportFacade : transportFacades.values()) {
+            Mockito.verify(transportFacade).close();
+        }
+        // Devices are read with a single query
+        Mockito.verify(deviceRegistryService, Mockito.times(1)).query(Mockito.any());
+    }
+
+    @Test
+    public void publishAllReportsFailuresByMessage() throws Exception {
+        KapuaId deviceIdA = newDevice(BigInteger.TEN, "client-a", BROKER_A);
+        KapuaId missingDeviceId = new KapuaEid(BigInteger.valueOf(99));
+
+        // Not started, so sent on the invoking thread
+        StreamPublishBulkResult bulkResult = newInstance().publishAll(SCOPE_ID, Arrays.asList(
+                newMessage(missingDeviceId, null),
+                newMessage(deviceIdA, "other-client"),
+                newMessage(deviceIdA, null)), null);
+
+        List<StreamPublishResult> results = bulkResult.getResults();
+        Assertions.assertTrue(results.get(0).getException() instanceof KapuaEntityNotFoundException);
+        Assertions.assertNotNull(results.get(1).getException());
+        Assertions.assertNull(results.get(2).getException());
+        Mockito.verify(transportFacades.get(BROKER_A), Mockito.times(1)).sendAsync(Mockito.any());
+    }
+
+    @Test
+    public void publishAllLooksUpFailingEndpointOnce() throws Exception {
+        Mockito.when(endpointInfoService.query(Mockito.any())).thenThrow(KapuaException.internalError("endpoint lookup failed"));
+
+        StreamPublishBulkResult bulkResult = newInstance().publishAll(SCOPE_ID, Arrays.asList(
+                newMessage(null, "client-a"),
+                newMessage(null, "client-b")), null);
+
+        for (StreamPublishResult result : bulkResult.getResults()) {
+            Assertions.assertNotNull(result.getException());
+        }
+        Mockito.verify(endpointInfoService, Mockito.times(1)).query(Mockito.any());
+        Mockito.verifyZeroInteractions(transportClientFactory);
+    }
+
+    @Test
+    public void publishAllInterruptedWaitsForRunningSends() throws Exception {
+        Mockito.when(streamSetting.getInt(Mockito.eq(StreamSettingKeys.STREAM_PUBLISH_BULK_MAX_IN_FLIGHT), Mockito.anyInt())).thenReturn(1);
+        StreamServiceImpl instance = newInstance();
+        bulkPublishExecutor.start();
+
+        CountDownLatch sendStarted = new CountDownLatch(1);
+        CountDownLatch sendRelease = new CountDownLatch(1);
+        TransportFacade transportFacade = Mockito.mock(TransportFacade.class);
+        Mockito.doAnswer(invocation -> {
+            sendStarted.countDown();
+            sendRelease.await();
+            return null;
+        }).when(transportFacade).sendAsync(Mockito.any());
+        transportFacades.put(ENDPOINT_BROKER, transportFacade);
+
+        AtomicReference<Exception> publishException = new AtomicReference<>();
+        Thread publishThread = new Thread(() -> {
+            try {
+                instance.publishAll(SCOPE_ID, Arrays.asList(newMessage(null, "client-a"), newMessage(null, "client-b")), null);
+            } catch (Exception e) {
+                publishException.set(e);
+            }
+        });
+        publishThread.start();
+
+        Assertions.assertTrue(sendStarted.await(10, TimeUnit.SECONDS));
+        publishThread.interrupt();
+        publishThread.join(200);
+
+        // The transport client is still in use by the running send
+        Assertions.assertTrue(publishThread.isAlive());
+        Mockito.verify(transportFacade, Mockito.never()).close();
+
+        sendRelease.countDown();
+        publishThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        Assertions.assertFalse(publishThread.isAlive());
+        Assertions.assertTrue(publishException.get() instanceof KapuaException);
+        Mockito.verify(transportFacade).close();
+        Mockito.verify(transportFacade, Mockito.times(1)).sendAsync(Mockito.any());
+    }
+
+    private StreamServiceImpl newInstance() {
+        return new StreamServiceImpl(
+                Mockito.mock(AuthorizationService.class),
+                Mockito.mock(PermissionFactory.class),
+                deviceRegistryService,
+                deviceFactory,
+                endpointInfoService,
+                endpointInfoFactory,
+                transportClientFactory,
+                translatorHub,
+                bulkPublishExecutor,
+                streamSetting);
+    }
+
+    private KapuaId newDevice(BigInteger id, String clientId, String serverURI) {
+        DeviceConnection deviceConnection = Mockito.mock(DeviceConnection.class);
+        Mockito.when(deviceConnection.getServerIp()).thenReturn(serverURI);
+
+        Device device = Mockito.mock(Device.class);
+        Mockito.when(device.getId()).thenReturn(new KapuaEid(id));
+        Mockito.when(device.getClientId()).thenReturn(clientId);
+        Mockito.when(device.getConnection()).thenReturn(deviceConnection);
+        devices.add(device);
+        return device.getId();
+    }
+
+    private static KapuaDataMessage newMessage(KapuaId deviceId, String clientId) {
+        KapuaDataMessage kapuaDataMessage = Mockito.mock(KapuaDataMessage.class);
+        Mockito.when(kapuaDataMessage.getDeviceId()).thenReturn(deviceId);
+        Mockito.when(kapuaDataMessage.getClientId()).thenReturn(clientId);
+        Mockito.when(kapuaDataMessage.getChannel()).thenReturn(Mockito.mock(KapuaDataChannel.class));
+        return kapuaDataMessage;
+    }
+}
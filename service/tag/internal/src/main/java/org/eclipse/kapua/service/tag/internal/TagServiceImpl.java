@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -133,7 +133,11 @@ public class TagServiceImpl extends KapuaConfigurableServiceBase implements TagS
         // Check Access
         authorizationService.checkPermission(permissionFactory.newPermission(Domains.TAG, Actions.delete, scopeId));
         // Check existence
-        txManager.execute(tx -> tagRepository.delete(tx, scopeId, tagId));
+        txManager.execute(tx -> {
+            final Tag deletedTag = tagRepository.delete(tx, scopeId, tagId);
+            serviceConfigurationManager.releaseAllowedEntity(tx, scopeId);
+            return deletedTag;
+        });
     }
 
     @Override
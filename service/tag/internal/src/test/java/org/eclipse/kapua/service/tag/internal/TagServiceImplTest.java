@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -99,4 +99,34 @@ public class TagServiceImplTest {
                 () -> instance.create(new TagCreatorImpl(new KapuaIdImpl(BigInteger.ONE), null)),
                 "Does not accept tagCreator with null name");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void deleteReleasesAllowedEntity() throws KapuaException {
+        final TxManager txManager = new TxManager() {
+            @Override
+            public <R> R execute(TxConsumer<R> transactionConsumer, BiConsumer<TxContext, R>... afterCommitConsumers) throws KapuaException {
+                return transactionConsumer.execute(null);
+            }
+
+            @Override
+            public TxContext getTxContext() {
+                return null;
+            }
+        };
+        instance = new TagServiceImpl(
+                permissionFactory,
+                authorizationService,
+                serviceConfigurationManager,
+                txManager,
+                tagRepository,
+                tagFactory
+        );
+        KapuaId scopeId = new KapuaIdImpl(BigInteger.ONE);
+        KapuaId tagId = new KapuaIdImpl(BigInteger.TEN);
+
+        instance.delete(scopeId, tagId);
+
+        Mockito.verify(tagRepository).delete(Mockito.<TxContext>any(), Mockito.eq(scopeId), Mockito.eq(tagId));
+        Mockito.verify(serviceConfigurationManager).releaseAllowedEntity(Mockito.<TxContext>any(), Mockito.eq(scopeId));
+    }
+}
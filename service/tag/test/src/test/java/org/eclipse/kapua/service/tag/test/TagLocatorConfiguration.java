@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,7 @@ import org.eclipse.kapua.service.device.registry.event.DeviceEventService;
 import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventFactoryImpl;
 import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventImplJpaRepository;
 import org.eclipse.kapua.service.device.registry.event.internal.DeviceEventServiceImpl;
+import org.eclipse.kapua.service.device.registry.event.internal.DeviceLastEventUpdater;
 import org.eclipse.kapua.service.device.registry.internal.DeviceFactoryImpl;
 import org.eclipse.kapua.service.device.registry.internal.DeviceImplJpaRepository;
 import org.eclipse.kapua.service.device.registry.internal.DeviceRegistryServiceImpl;
@@ -163,12 +164,18 @@ public class TagLocatorConfiguration {
                         eventStorer);
                 bind(DeviceEventRepository.class).toInstance(new DeviceEventImplJpaRepository(jpaRepoConfig));
                 final DeviceEventServiceImpl deviceEventService = new DeviceEventServiceImpl(
+                        Mockito.mock(ServiceConfigurationManager.class),
                         mockedAuthorization,
                         permissionFactory,
                         new KapuaJpaTxManagerFactory(maxInsertAttempts).create("kapua-device"),
                         new DeviceImplJpaRepository(jpaRepoConfig),
                         new DeviceEventFactoryImpl(),
-                        new DeviceEventImplJpaRepository(jpaRepoConfig)
+                        new DeviceEventImplJpaRepository(jpaRepoConfig),
+                        new DeviceLastEventUpdater(
+                                new KapuaJpaTxManagerFactory(maxInsertAttempts).create("kapua-device"),
+                                new DeviceImplJpaRepository(jpaRepoConfig),
+                                0, // Writes the last event of the device as soon as it is created
+                                500)
                 );
 
                 final DeviceValidation deviceValidation = new DeviceValidationImpl(
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,8 @@ import org.eclipse.kapua.service.KapuaNamedEntityService;
 import org.eclipse.kapua.service.KapuaUpdatableEntityService;
 import org.eclipse.kapua.service.config.KapuaConfigurableService;
 
+import java.util.Set;
+
 /**
  * UserService exposes APIs to manage User object under an Account.
  * <p>
@@ -106,6 +108,19 @@ public interface UserService extends KapuaEntityService<User, UserCreator>,
      */
     User findByExternalUsername(String externalUsername) throws KapuaException;
 
+    /**
+     * Finds the {@link User}s by scope identifier and {@link User} ids, with a single query.
+     * <p>
+     * Meant to resolve the {@link User}s referenced by a page of other entities, instead of invoking {@link #find(KapuaId, KapuaId)} for each of them.
+     *
+     * @param scopeId The scope id in which to search.
+     * @param userIds The {@link User} ids to search.
+     * @return The {@link UserListResult} with the {@link User}s found. {@link User} ids not found are ignored.
+     * @throws KapuaException
+     * @since 2.1.0
+     */
+    UserListResult findByIds(KapuaId scopeId, Set<KapuaId> userIds) throws KapuaException;
+
     /**
      * Queries for all users
      */
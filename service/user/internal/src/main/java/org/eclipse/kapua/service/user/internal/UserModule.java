@@ -27,6 +27,7 @@ import org.eclipse.kapua.commons.jpa.EventStorer;
 import org.eclipse.kapua.commons.jpa.KapuaJpaRepositoryConfiguration;
 import org.eclipse.kapua.commons.jpa.KapuaJpaTxManagerFactory;
 import org.eclipse.kapua.commons.jpa.NamedCacheFactory;
+import org.eclipse.kapua.commons.metric.CommonsMetric;
 import org.eclipse.kapua.commons.model.domains.Domains;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreFactory;
 import org.eclipse.kapua.commons.service.event.store.api.EventStoreRecordRepository;
@@ -95,6 +96,7 @@ public class UserModule extends AbstractKapuaModule {
             EventStoreFactory eventStoreFactory,
             EventStoreRecordRepository eventStoreRecordRepository,
             ServiceEventBus serviceEventBus,
+            CommonsMetric commonsMetric,
             KapuaUserSetting kapuaUserSetting,
             @Named("eventsModuleName") String eventModuleName
     ) throws ServiceEventBusException {
@@ -110,7 +112,8 @@ public class UserModule extends AbstractKapuaModule {
                                 eventStoreRecordRepository
                         ),
                         txManagerFactory.create("kapua-user"),
-                        serviceEventBus
+                        serviceEventBus,
+                        commonsMetric
                 ), serviceEventBus,
                 eventModuleName);
     }
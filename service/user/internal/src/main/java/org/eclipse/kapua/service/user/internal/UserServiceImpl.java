@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2025 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import org.eclipse.kapua.commons.setting.system.SystemSettingKey;
 import org.eclipse.kapua.commons.util.ArgumentValidator;
 import org.eclipse.kapua.commons.util.CommonsValidationRegex;
 import org.eclipse.kapua.event.ServiceEvent;
+import org.eclipse.kapua.model.KapuaEntityAttributes;
 import org.eclipse.kapua.model.domain.Actions;
 import org.eclipse.kapua.model.id.KapuaId;
 import org.eclipse.kapua.model.query.KapuaQuery;
@@ -49,8 +50,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * {@link UserService} implementation.
@@ -235,7 +238,11 @@ public class UserServiceImpl extends KapuaConfigurableServiceBase implements Use
         // Argument Validation
         ArgumentValidator.notNull(user, "user");
         // Do delete
-        txManager.execute(tx -> userRepository.delete(tx, user));
+        txManager.execute(tx -> {
+            final User deletedUser = userRepository.delete(tx, user);
+            serviceConfigurationManager.releaseAllowedEntity(tx, deletedUser.getScopeId());
+            return deletedUser;
+        });
     }
 
     @Override
@@ -261,7 +268,9 @@ public class UserServiceImpl extends KapuaConfigurableServiceBase implements Use
                     validateSelf(user);
 
                     // Do  delete
-                    return userRepository.delete(tx, user);
+                    final User deletedUser = userRepository.delete(tx, user);
+                    serviceConfigurationManager.releaseAllowedEntity(tx, deletedUser.getScopeId());
+                    return deletedUser;
                 },
                 eventStorer::accept);
     }
@@ -307,6 +316,26 @@ public class UserServiceImpl extends KapuaConfigurableServiceBase implements Use
                 .orElse(null);
     }
 
+    @Override
+    public UserListResult findByIds(KapuaId scopeId, Set<KapuaId> userIds)
+            throws KapuaException {
+        // Validation of the fields
+        ArgumentValidator.notNull(scopeId, "scopeId");
+        ArgumentValidator.notNull(userIds, "userIds");
+        // Check Access
+        authorizationService.checkPermission(permissionFactory.newPermission(Domains.USER, Actions.read, scopeId));
+
+        if (userIds.isEmpty()) {
+            return userFactory.newListResult();
+        }
+
+        // Do the find
+        UserQuery query = userFactory.newQuery(scopeId);
+        query.setPredicate(query.attributePredicate(KapuaEntityAttributes.ENTITY_ID, new ArrayList<>(userIds)));
+
+        return txManager.execute(tx -> userRepository.query(tx, query));
+    }
+
     @Override
     public UserListResult query(KapuaQuery query)
             throws KapuaException {